@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.benchmark.binding.runtime;
+
+import com.google.common.base.Stopwatch;
+import java.io.IOException;
+import java.lang.ref.Reference;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import org.opendaylight.yangtools.binding.meta.RootMeta;
+import org.opendaylight.yangtools.binding.meta.YangModuleInfo;
+import org.opendaylight.yangtools.dagger.yang.parser.DaggerDefaultYangParserComponent;
+import org.opendaylight.yangtools.yang.model.api.source.SourceIdentifier;
+import org.opendaylight.yangtools.yang.model.api.source.YangTextSource;
+import org.opendaylight.yangtools.yang.model.spi.source.DelegatedYangTextSource;
+import org.opendaylight.yangtools.yang.parser.api.YangParserConfiguration;
+import org.opendaylight.yangtools.yang.parser.api.YangParserException;
+import org.opendaylight.yangtools.yang.parser.api.YangParserFactory;
+
+/**
+ * Compare wall-clock time of assembling an {@code EffectiveModelContext} with sequential and parallel statement
+ * loading. Arguments are model set names, as understood by {@link Main}, optionally followed by
+ * {@code --parallelism=N} and {@code --iterations=N}.
+ */
+public final class ParserMain {
+    private ParserMain() {
+        // hidden on purpose
+    }
+
+    // console output
+    @SuppressWarnings("checkstyle:regexpSinglelineJava")
+    public static void main(final String[] args) throws IOException, YangParserException {
+        final var classes = new HashSet<RootMeta<?>>();
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        int iterations = 10;
+
+        for (var arg : args) {
+            if (arg.startsWith("--parallelism=")) {
+                parallelism = Integer.parseInt(arg.substring(14));
+                continue;
+            }
+            if (arg.startsWith("--iterations=")) {
+                iterations = Integer.parseInt(arg.substring(13));
+                continue;
+            }
+
+            classes.addAll(switch (arg) {
+                case "openroadm" -> OpenRoadm1311.classes();
+                case "tapi" -> Tapi240.classes();
+                default -> throw new IllegalArgumentException("Unknown model set '" + arg + "'");
+            });
+        }
+
+        final var sources = collectSources(classes);
+        System.out.println("Assembling " + sources.size() + " sources from " + classes.size() + " root models");
+
+        final var parserFactory = DaggerDefaultYangParserComponent.create().parserFactory();
+        final var sequential = YangParserConfiguration.DEFAULT;
+        final var parallel = YangParserConfiguration.builder().parallelism(parallelism).build();
+
+        // Warm up both code paths
+        for (int i = 0; i < iterations; ++i) {
+            buildModel(parserFactory, sequential, sources);
+            buildModel(parserFactory, parallel, sources);
+        }
+
+        System.out.println("Sequential: " + measure(parserFactory, sequential, sources, iterations));
+        System.out.println("Parallel (" + parallelism + "): " + measure(parserFactory, parallel, sources, iterations));
+    }
+
+    private static String measure(final YangParserFactory parserFactory, final YangParserConfiguration config,
+            final List<YangTextSource> sources, final int iterations) throws IOException, YangParserException {
+        final var sw = Stopwatch.createStarted();
+        for (int i = 0; i < iterations; ++i) {
+            Reference.reachabilityFence(buildModel(parserFactory, config, sources));
+        }
+        return sw.stop() + " for " + iterations + " iterations";
+    }
+
+    private static Object buildModel(final YangParserFactory parserFactory, final YangParserConfiguration config,
+            final List<YangTextSource> sources) throws IOException, YangParserException {
+        final var parser = parserFactory.createParser(config);
+        for (var source : sources) {
+            parser.addSource(source);
+        }
+        return parser.buildEffectiveModel();
+    }
+
+    private static List<YangTextSource> collectSources(final HashSet<RootMeta<?>> classes) {
+        final var infos = new LinkedHashMap<SourceIdentifier, YangModuleInfo>();
+        final var queue = new ArrayDeque<YangModuleInfo>();
+        for (var meta : classes) {
+            queue.add(meta.moduleInfo());
+        }
+
+        while (!queue.isEmpty()) {
+            final var info = queue.pop();
+            if (infos.putIfAbsent(SourceIdentifier.ofQName(info.name()), info) == null) {
+                queue.addAll(info.getImportedModules());
+            }
+        }
+
+        final var ret = new ArrayList<YangTextSource>(infos.size());
+        for (var entry : infos.entrySet()) {
+            ret.add(new DelegatedYangTextSource(entry.getKey(), entry.getValue().getYangTextCharSource()));
+        }
+        return ret;
+    }
+}
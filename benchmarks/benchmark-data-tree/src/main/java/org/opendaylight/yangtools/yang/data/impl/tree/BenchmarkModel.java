@@ -14,33 +14,34 @@ import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
 import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
 
 /**
- * Benchmark model constants.
+ * Benchmark model constants. These are shared with other benchmark modules.
  *
  * @author Lukas Sedlak
  */
-final class BenchmarkModel {
+public final class BenchmarkModel {
     private static final QName TEST_QNAME = QName.create(
         "urn:opendaylight:params:xml:ns:yang:controller:md:sal:dom:store:test", "2014-03-13", "test").intern();
-    static final NodeIdentifier TEST = NodeIdentifier.create(TEST_QNAME);
-    static final YangInstanceIdentifier TEST_PATH = YangInstanceIdentifier.of(TEST);
+    public static final NodeIdentifier TEST = NodeIdentifier.create(TEST_QNAME);
+    public static final YangInstanceIdentifier TEST_PATH = YangInstanceIdentifier.of(TEST);
 
-    static final QName OUTER_LIST_QNAME = QName.create(TEST_QNAME, "outer-list").intern();
-    static final NodeIdentifier OUTER_LIST = NodeIdentifier.create(OUTER_LIST_QNAME);
-    static final YangInstanceIdentifier OUTER_LIST_PATH = YangInstanceIdentifier.of(TEST, OUTER_LIST);
+    public static final QName OUTER_LIST_QNAME = QName.create(TEST_QNAME, "outer-list").intern();
+    public static final NodeIdentifier OUTER_LIST = NodeIdentifier.create(OUTER_LIST_QNAME);
+    public static final YangInstanceIdentifier OUTER_LIST_PATH = YangInstanceIdentifier.of(TEST, OUTER_LIST);
 
-    static final QName INNER_LIST_QNAME = QName.create(TEST_QNAME, "inner-list").intern();
-    static final NodeIdentifier INNER_LIST = NodeIdentifier.create(INNER_LIST_QNAME);
+    public static final QName INNER_LIST_QNAME = QName.create(TEST_QNAME, "inner-list").intern();
+    public static final NodeIdentifier INNER_LIST = NodeIdentifier.create(INNER_LIST_QNAME);
 
-    static final QName OUTER_CHOICE_QNAME = QName.create(TEST_QNAME, "outer-choice").intern();
-    static final QName ID_QNAME = QName.create(TEST_QNAME, "id").intern();
-    static final QName NAME_QNAME = QName.create(TEST_QNAME, "name").intern();
-    static final QName VALUE_QNAME = QName.create(TEST_QNAME, "value").intern();
+    public static final QName OUTER_CHOICE_QNAME = QName.create(TEST_QNAME, "outer-choice").intern();
+    public static final QName ONE_QNAME = QName.create(TEST_QNAME, "one").intern();
+    public static final QName ID_QNAME = QName.create(TEST_QNAME, "id").intern();
+    public static final QName NAME_QNAME = QName.create(TEST_QNAME, "name").intern();
+    public static final QName VALUE_QNAME = QName.create(TEST_QNAME, "value").intern();
 
     private BenchmarkModel() {
 
     }
 
-    static EffectiveModelContext createTestContext() {
+    public static EffectiveModelContext createTestContext() {
         return YangParserTestUtils.parseYangResource("/odl-datastore-test.yang");
     }
 }
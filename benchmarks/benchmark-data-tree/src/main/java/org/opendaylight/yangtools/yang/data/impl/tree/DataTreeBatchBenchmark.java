@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.impl.tree;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.spi.node.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTree;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeConfiguration;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeModification;
+import org.opendaylight.yangtools.yang.data.tree.api.DataValidationFailedException;
+import org.opendaylight.yangtools.yang.data.tree.dagger.ReferenceDataTreeFactoryModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark of committing a number of independent modifications, each of which replaces a single outer list entry,
+ * comparing {@link DataTree#prepareBatch(List)} with validating, preparing and committing each modification
+ * separately. Both variants commit the same modifications, all of which are based on the same snapshot.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+public class DataTreeBatchBenchmark {
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+
+    private static final int OUTER_LIST_SIZE = 10_000;
+
+    // Two versions of each entry, so that every modification actually changes data
+    private static final YangInstanceIdentifier[] PATHS = new YangInstanceIdentifier[OUTER_LIST_SIZE];
+    private static final MapEntryNode[][] ENTRIES = new MapEntryNode[2][OUTER_LIST_SIZE];
+
+    static {
+        for (int i = 0; i < OUTER_LIST_SIZE; ++i) {
+            final var id = NodeIdentifierWithPredicates.of(BenchmarkModel.OUTER_LIST_QNAME, BenchmarkModel.ID_QNAME,
+                i);
+            PATHS[i] = BenchmarkModel.OUTER_LIST_PATH.node(id).toOptimized();
+            for (int version = 0; version < 2; ++version) {
+                ENTRIES[version][i] = ImmutableNodes.newMapEntryBuilder()
+                    .withNodeIdentifier(id)
+                    .withChild(ImmutableNodes.newSystemMapBuilder()
+                        .withNodeIdentifier(BenchmarkModel.INNER_LIST)
+                        .withChild(ImmutableNodes.newMapEntryBuilder()
+                            .withNodeIdentifier(NodeIdentifierWithPredicates.of(BenchmarkModel.INNER_LIST_QNAME,
+                                BenchmarkModel.NAME_QNAME, version))
+                            .withChild(ImmutableNodes.leafNode(BenchmarkModel.NAME_QNAME, version))
+                            .build())
+                        .build())
+                    .build();
+            }
+        }
+    }
+
+    @Param({ "10", "100", "1000" })
+    public int batchSize;
+
+    private DataTree datastore;
+    private int version;
+
+    public static void main(final String... args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(".*" + DataTreeBatchBenchmark.class.getSimpleName() + ".*")
+            .forks(1)
+            .build()).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setup() throws DataValidationFailedException {
+        datastore = ReferenceDataTreeFactoryModule.provideDataTreeFactory()
+            .create(DataTreeConfiguration.DEFAULT_CONFIGURATION, BenchmarkModel.createTestContext());
+
+        final var outerList = ImmutableNodes.newSystemMapBuilder().withNodeIdentifier(BenchmarkModel.OUTER_LIST);
+        for (var entry : ENTRIES[0]) {
+            outerList.withChild(entry);
+        }
+        final var modification = datastore.takeSnapshot().newModification();
+        modification.write(BenchmarkModel.TEST_PATH, ImmutableNodes.newContainerBuilder()
+            .withNodeIdentifier(BenchmarkModel.TEST)
+            .withChild(outerList.build())
+            .build());
+        modification.ready();
+        datastore.validate(modification);
+        datastore.commit(datastore.prepare(modification));
+    }
+
+    @TearDown
+    public void tearDown() {
+        datastore = null;
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public void commitEachBenchmark() throws DataValidationFailedException {
+        for (var modification : newModifications()) {
+            datastore.validate(modification);
+            datastore.commit(datastore.prepare(modification));
+        }
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public void commitBatchBenchmark() {
+        final var batch = datastore.prepareBatch(newModifications());
+        if (!batch.isComplete()) {
+            throw new IllegalStateException("Batch failed: " + batch.failures());
+        }
+        datastore.commit(batch.candidate());
+    }
+
+    private List<DataTreeModification> newModifications() {
+        version ^= 1;
+        final var entries = ENTRIES[version];
+        final var snapshot = datastore.takeSnapshot();
+        final var ret = new ArrayList<DataTreeModification>(batchSize);
+        // Spread the modified entries across the list
+        final int stride = OUTER_LIST_SIZE / batchSize;
+        for (int i = 0; i < batchSize; ++i) {
+            final int index = i * stride;
+            final var modification = snapshot.newModification();
+            modification.write(PATHS[index], entries[index]);
+            modification.ready();
+            ret.add(modification);
+        }
+        return ret;
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.impl.tree;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.opendaylight.yangtools.util.MapAdaptor;
+import org.opendaylight.yangtools.util.MapAdaptor.PersistentMapType;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jol.info.GraphLayout;
+
+/**
+ * Benchmarking of {@link MapAdaptor} persistent map types, as used for large children maps. Measures single-entry
+ * copy-on-write updates and lookups. Running {@link #main(String...)} also reports the footprint of each map type, as
+ * measured by JOL, excluding the keys and values themselves.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class MapAdaptorBenchmark {
+    private static final Object VALUE = new Object();
+    private static final Object NEW_VALUE = new Object();
+
+    @Param({ "10000", "100000", "1000000" })
+    public int size;
+
+    @Param({ "TRIEMAP", "CHAMP" })
+    public PersistentMapType type;
+
+    private NodeIdentifierWithPredicates[] keys;
+    private MapAdaptor adaptor;
+    private Map<NodeIdentifierWithPredicates, Object> map;
+    private int next;
+
+    public static void main(final String... args) throws RunnerException {
+        for (var type : PersistentMapType.values()) {
+            for (int size : new int[] { 10_000, 100_000, 1_000_000 }) {
+                final var keys = createKeys(size);
+                final var map = createMap(MapAdaptor.getInstance(true, MapAdaptor.DEFAULT_COPY_MAX_ITEMS,
+                    MapAdaptor.DEFAULT_PERSIST_MIN_ITEMS, type), keys);
+                final long footprint = GraphLayout.parseInstance(map)
+                    .subtract(GraphLayout.parseInstance(keys, VALUE))
+                    .totalSize();
+                System.out.printf("%s with %d entries: %d bytes, %.1f bytes/entry%n", type, size, footprint,
+                    (double) footprint / size);
+            }
+        }
+
+        new Runner(new OptionsBuilder()
+            .include(".*" + MapAdaptorBenchmark.class.getSimpleName() + ".*")
+            .addProfiler("gc")
+            .build()).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        keys = createKeys(size);
+        adaptor = MapAdaptor.getInstance(true, MapAdaptor.DEFAULT_COPY_MAX_ITEMS, MapAdaptor.DEFAULT_PERSIST_MIN_ITEMS,
+            type);
+        map = createMap(adaptor, keys);
+    }
+
+    @Benchmark
+    public Map<NodeIdentifierWithPredicates, Object> putSingleEntry() {
+        final var snapshot = adaptor.takeSnapshot(map);
+        snapshot.put(nextKey(), NEW_VALUE);
+        return adaptor.optimize(snapshot);
+    }
+
+    @Benchmark
+    public Object get() {
+        return map.get(nextKey());
+    }
+
+    private NodeIdentifierWithPredicates nextKey() {
+        final var ret = keys[next];
+        next = (next + 1) % keys.length;
+        return ret;
+    }
+
+    private static NodeIdentifierWithPredicates[] createKeys(final int size) {
+        return IntStream.range(0, size)
+            .mapToObj(i -> NodeIdentifierWithPredicates.of(BenchmarkModel.OUTER_LIST_QNAME, BenchmarkModel.ID_QNAME, i))
+            .toArray(NodeIdentifierWithPredicates[]::new);
+    }
+
+    private static Map<NodeIdentifierWithPredicates, Object> createMap(final MapAdaptor adaptor,
+            final NodeIdentifierWithPredicates[] keys) {
+        final var map = adaptor.<NodeIdentifierWithPredicates, Object>initialSnapshot(keys.length);
+        for (var key : keys) {
+            map.put(key, VALUE);
+        }
+        return adaptor.optimize(map);
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.impl.tree;
+
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
+import org.opendaylight.yangtools.yang.data.spi.node.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTree;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeConfiguration;
+import org.opendaylight.yangtools.yang.data.tree.api.DataValidationFailedException;
+import org.opendaylight.yangtools.yang.data.tree.dagger.ReferenceDataTreeFactoryModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark of replacing a subtree of roughly a million nodes, comparing sequential processing with processing of
+ * children in parallel, as configured through {@link DataTreeConfiguration#getParallelThreshold()}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+public class ParallelValidationBenchmark {
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+
+    // Each outer list entry contributes itself, the inner list and two nodes for each inner list entry, hence
+    // 50K * (2 + 2 * 9) = 1M nodes
+    private static final int OUTER_LIST_SIZE = 50_000;
+    private static final int INNER_LIST_SIZE = 9;
+
+    private static final ContainerNode DATA = createData();
+
+    @Param({ "0", "1000" })
+    public int parallelThreshold;
+
+    private DataTree datastore;
+
+    public static void main(final String... args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(".*" + ParallelValidationBenchmark.class.getSimpleName() + ".*")
+            .forks(1)
+            .build()).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        datastore = ReferenceDataTreeFactoryModule.provideDataTreeFactory()
+            .create(DataTreeConfiguration.DEFAULT_CONFIGURATION.toBuilder()
+                .setRecursiveWriteValidation(true)
+                .setParallelThreshold(parallelThreshold)
+                .build(), BenchmarkModel.createTestContext());
+    }
+
+    @TearDown
+    public void tearDown() {
+        datastore = null;
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public void replace1MNodesBenchmark() throws DataValidationFailedException {
+        final var modification = datastore.takeSnapshot().newModification();
+        modification.write(BenchmarkModel.TEST_PATH, DATA);
+        modification.ready();
+        datastore.validate(modification);
+        datastore.commit(datastore.prepare(modification));
+    }
+
+    private static ContainerNode createData() {
+        final var innerList = ImmutableNodes.newSystemMapBuilder().withNodeIdentifier(BenchmarkModel.INNER_LIST);
+        for (int i = 0; i < INNER_LIST_SIZE; ++i) {
+            innerList.withChild(ImmutableNodes.newMapEntryBuilder()
+                .withNodeIdentifier(
+                    NodeIdentifierWithPredicates.of(BenchmarkModel.INNER_LIST_QNAME, BenchmarkModel.NAME_QNAME, i))
+                .withChild(ImmutableNodes.leafNode(BenchmarkModel.NAME_QNAME, i))
+                .build());
+        }
+        final MapNode inner = innerList.build();
+
+        final var outerList = ImmutableNodes.newSystemMapBuilder().withNodeIdentifier(BenchmarkModel.OUTER_LIST);
+        for (int i = 0; i < OUTER_LIST_SIZE; ++i) {
+            outerList.withChild(ImmutableNodes.newMapEntryBuilder()
+                .withNodeIdentifier(
+                    NodeIdentifierWithPredicates.of(BenchmarkModel.OUTER_LIST_QNAME, BenchmarkModel.ID_QNAME, i))
+                .withChild(inner)
+                .build());
+        }
+
+        return ImmutableNodes.newContainerBuilder()
+            .withNodeIdentifier(BenchmarkModel.TEST)
+            .withChild(outerList.build())
+            .build();
+    }
+}
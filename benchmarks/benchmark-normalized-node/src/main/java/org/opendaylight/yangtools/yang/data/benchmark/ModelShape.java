@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.benchmark;
+
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode.BuilderFactory;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNodeContainer;
+import org.opendaylight.yangtools.yang.data.api.schema.SystemMapNode;
+import org.opendaylight.yangtools.yang.data.impl.tree.BenchmarkModel;
+import org.opendaylight.yangtools.yang.data.spi.node.ImmutableNodes;
+
+/**
+ * Data shapes conforming to {@link BenchmarkModel}, i.e. a {@code test} container with an {@code outer-list}, whose
+ * entries optionally contain an {@code inner-list}.
+ */
+public enum ModelShape {
+    /**
+     * 10000 {@code outer-list} entries, each with a key and a {@code one} leaf.
+     */
+    FLAT_10K(10_000, 0),
+    /**
+     * 10000 {@code outer-list} entries, each with a single {@code inner-list} entry.
+     */
+    INNER_1_10K(10_000, 1),
+    /**
+     * 1000 {@code outer-list} entries, each with ten {@code inner-list} entries.
+     */
+    INNER_10_1K(1_000, 10);
+
+    private static final BuilderFactory BUILDER_FACTORY = ImmutableNodes.builderFactory();
+    private static final NodeIdentifier OUTER_CHOICE = new NodeIdentifier(BenchmarkModel.OUTER_CHOICE_QNAME);
+
+    private final int outerSize;
+    private final int innerSize;
+
+    ModelShape(final int outerSize, final int innerSize) {
+        this.outerSize = outerSize;
+        this.innerSize = innerSize;
+    }
+
+    /**
+     * Build the {@code test} container.
+     *
+     * @return A new container
+     */
+    public ContainerNode build() {
+        return ImmutableNodes.newContainerBuilder()
+            .withNodeIdentifier(BenchmarkModel.TEST)
+            .withChild(buildOuterList())
+            .build();
+    }
+
+    /**
+     * Build the {@code outer-list}.
+     *
+     * @return A new map node
+     */
+    public SystemMapNode buildOuterList() {
+        final var builder = BUILDER_FACTORY.newSystemMapBuilder(outerSize)
+            .withNodeIdentifier(BenchmarkModel.OUTER_LIST);
+        for (int i = 0; i < outerSize; ++i) {
+            builder.withChild(buildOuterEntry(i));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Build a single {@code outer-list} entry.
+     *
+     * @param id entry key
+     * @return A new map entry node
+     */
+    public MapEntryNode buildOuterEntry(final int id) {
+        final var builder = ImmutableNodes.newMapEntryBuilder()
+            .withNodeIdentifier(NodeIdentifierWithPredicates.of(BenchmarkModel.OUTER_LIST_QNAME,
+                BenchmarkModel.ID_QNAME, id))
+            .withChild(ImmutableNodes.leafNode(BenchmarkModel.ID_QNAME, id));
+        if (innerSize == 0) {
+            builder.withChild(ImmutableNodes.newChoiceBuilder()
+                .withNodeIdentifier(OUTER_CHOICE)
+                .withChild(ImmutableNodes.leafNode(BenchmarkModel.ONE_QNAME, "one-" + id))
+                .build());
+        } else {
+            final var inner = BUILDER_FACTORY.newSystemMapBuilder(innerSize)
+                .withNodeIdentifier(BenchmarkModel.INNER_LIST);
+            for (int i = 0; i < innerSize; ++i) {
+                inner.withChild(ImmutableNodes.newMapEntryBuilder()
+                    .withNodeIdentifier(NodeIdentifierWithPredicates.of(BenchmarkModel.INNER_LIST_QNAME,
+                        BenchmarkModel.NAME_QNAME, i))
+                    .withChild(ImmutableNodes.leafNode(BenchmarkModel.NAME_QNAME, i))
+                    .withChild(ImmutableNodes.leafNode(BenchmarkModel.VALUE_QNAME, "value-" + id + "-" + i))
+                    .build());
+            }
+            builder.withChild(inner.build());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Count the number of {@link NormalizedNode}s in a tree, including its root.
+     *
+     * @param node root node
+     * @return number of nodes
+     */
+    static long countNodes(final NormalizedNode node) {
+        long ret = 1;
+        if (node instanceof NormalizedNodeContainer<?> container) {
+            for (var child : container.body()) {
+                ret += countNodes(child);
+            }
+        }
+        return ret;
+    }
+}
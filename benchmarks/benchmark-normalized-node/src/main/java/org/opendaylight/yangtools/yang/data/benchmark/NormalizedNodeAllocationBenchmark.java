@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.impl.tree.BenchmarkModel;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTree;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeConfiguration;
+import org.opendaylight.yangtools.yang.data.tree.api.DataValidationFailedException;
+import org.opendaylight.yangtools.yang.data.tree.dagger.ReferenceDataTreeFactoryModule;
+import org.opendaylight.yangtools.yang.data.tree.impl.node.TreeNode;
+import org.opendaylight.yangtools.yang.data.tree.impl.node.Version;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Allocation benchmarks of building {@link ModelShape}s and storing them in a {@link DataTree}. These are meant to be
+ * run with the GC profiler, where {@code gc.alloc.rate.norm} reports bytes allocated per operation.
+ *
+ * <p>Running {@link #main(String...)} executes all allocation benchmarks in this package with the GC profiler, as well
+ * as {@link NormalizedNodeFootprint}, writing JSON results into a directory.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class NormalizedNodeAllocationBenchmark {
+    @Param
+    public ModelShape shape;
+
+    private ContainerNode data;
+    private DataTree dataTree;
+
+    /**
+     * Run all benchmarks.
+     *
+     * @param args optional path to output directory, defaults to current directory
+     * @throws IOException if results cannot be written
+     * @throws DataValidationFailedException if the data tree rejects a shape
+     * @throws RunnerException if JMH fails
+     */
+    public static void main(final String... args)
+            throws IOException, DataValidationFailedException, RunnerException {
+        final var dir = Path.of(args.length > 0 ? args[0] : ".");
+        Files.createDirectories(dir);
+        NormalizedNodeFootprint.write(dir.resolve("normalized-node-footprint.json"));
+
+        new Runner(new OptionsBuilder()
+            .include(NormalizedNodeAllocationBenchmark.class.getPackageName() + "\\..*AllocationBenchmark.*")
+            .addProfiler("gc")
+            .resultFormat(ResultFormatType.JSON)
+            .result(dir.resolve("normalized-node-allocation.json").toString())
+            .build()).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        data = shape.build();
+        dataTree = ReferenceDataTreeFactoryModule.provideDataTreeFactory()
+            .create(DataTreeConfiguration.DEFAULT_CONFIGURATION, BenchmarkModel.createTestContext());
+    }
+
+    @Benchmark
+    public ContainerNode buildShape() {
+        return shape.build();
+    }
+
+    @Benchmark
+    public TreeNode createTreeNode() {
+        return TreeNode.of(data, Version.initial(false));
+    }
+
+    @Benchmark
+    public DataTree writeShape() throws DataValidationFailedException {
+        final var mod = dataTree.takeSnapshot().newModification();
+        mod.write(BenchmarkModel.TEST_PATH, data);
+        mod.ready();
+        dataTree.validate(mod);
+        dataTree.commit(dataTree.prepare(mod));
+        return dataTree;
+    }
+}
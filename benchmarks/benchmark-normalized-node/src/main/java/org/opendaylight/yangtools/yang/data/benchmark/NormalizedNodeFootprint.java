@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import org.opendaylight.yangtools.util.ImmutableOffsetMap;
+import org.opendaylight.yangtools.util.SharedSingletonMap;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNodeContainer;
+import org.opendaylight.yangtools.yang.data.impl.tree.BenchmarkModel;
+import org.opendaylight.yangtools.yang.data.spi.node.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTree;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeConfiguration;
+import org.opendaylight.yangtools.yang.data.tree.api.DataValidationFailedException;
+import org.opendaylight.yangtools.yang.data.tree.dagger.ReferenceDataTreeFactoryModule;
+import org.opendaylight.yangtools.yang.data.tree.impl.node.TreeNode;
+import org.opendaylight.yangtools.yang.data.tree.impl.node.Version;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.openjdk.jol.info.ClassLayout;
+import org.openjdk.jol.info.GraphLayout;
+
+/**
+ * Retained heap measurements of {@link NormalizedNode}s, their supporting maps, {@link YangInstanceIdentifier}s and
+ * data tree {@link TreeNode}s, performed with JOL. Results are written as a JSON document, suitable for tracking
+ * regressions across builds. Objects shared with the model, such as {@link QName}s, are excluded from measurements.
+ */
+public final class NormalizedNodeFootprint {
+    private static final String TREE_NODE_PACKAGE = "org.opendaylight.yangtools.yang.data.tree.impl.node.";
+    private static final Object[] SHARED = {
+        BenchmarkModel.TEST, BenchmarkModel.OUTER_LIST, BenchmarkModel.INNER_LIST, BenchmarkModel.OUTER_LIST_QNAME,
+        BenchmarkModel.INNER_LIST_QNAME, BenchmarkModel.OUTER_CHOICE_QNAME, BenchmarkModel.ONE_QNAME,
+        BenchmarkModel.ID_QNAME, BenchmarkModel.NAME_QNAME, BenchmarkModel.VALUE_QNAME
+    };
+
+    private final StringBuilder sb = new StringBuilder();
+    private final Set<Class<?>> classes = new LinkedHashSet<>();
+    private final EffectiveModelContext modelContext;
+
+    private NormalizedNodeFootprint(final EffectiveModelContext modelContext) {
+        this.modelContext = modelContext;
+    }
+
+    /**
+     * Perform measurements and write them to a file.
+     *
+     * @param args optional path to the output file, defaults to {@code normalized-node-footprint.json}
+     * @throws IOException if the output file cannot be written
+     * @throws DataValidationFailedException if the data tree rejects a shape
+     */
+    public static void main(final String... args) throws IOException, DataValidationFailedException {
+        write(Path.of(args.length > 0 ? args[0] : "normalized-node-footprint.json"));
+    }
+
+    /**
+     * Perform measurements and write them to a file.
+     *
+     * @param output path to the output file
+     * @throws IOException if the output file cannot be written
+     * @throws DataValidationFailedException if the data tree rejects a shape
+     */
+    public static void write(final Path output) throws IOException, DataValidationFailedException {
+        final var json = new NormalizedNodeFootprint(BenchmarkModel.createTestContext()).measure();
+        Files.writeString(output, json, StandardCharsets.UTF_8);
+        System.out.println(json);
+    }
+
+    private String measure() throws DataValidationFailedException {
+        sb.append("{\n  \"shapes\": [");
+        boolean first = true;
+        for (var shape : ModelShape.values()) {
+            first = separator(first);
+            measureShape(shape);
+        }
+
+        sb.append("\n  ],\n  \"maps\": [");
+        first = true;
+        for (int size : new int[] { 1, 2, 4, 8, 16 }) {
+            first = separator(first);
+            measureMap(size);
+        }
+
+        sb.append("\n  ],\n  \"paths\": [");
+        measurePaths();
+
+        for (var name : new String[] {
+            "SimpleContainerNode", "LazyContainerNode", "MaterializedContainerNode", "ValueNode"
+        }) {
+            try {
+                classes.add(Class.forName(TREE_NODE_PACKAGE + name));
+            } catch (ClassNotFoundException e) {
+                throw new IllegalStateException("Missing TreeNode implementation " + name, e);
+            }
+        }
+
+        sb.append("\n  ],\n  \"classes\": [");
+        first = true;
+        for (var clazz : classes) {
+            first = separator(first);
+            sb.append("\n    { \"class\": \"").append(clazz.getName())
+                .append("\", \"instanceSize\": ").append(ClassLayout.parseClass(clazz).instanceSize()).append(" }");
+        }
+        return sb.append("\n  ]\n}\n").toString();
+    }
+
+    private void measureShape(final ModelShape shape) throws DataValidationFailedException {
+        final var data = shape.build();
+        collectClasses(data);
+        final long nodes = ModelShape.countNodes(data);
+        final long dataBytes = footprint(data);
+        final long treeNodeBytes = footprint(TreeNode.of(data, Version.initial(false)), data);
+
+        // A data tree holding an empty container, so we measure only the shape's contribution
+        final var dataTree = ReferenceDataTreeFactoryModule.provideDataTreeFactory()
+            .create(DataTreeConfiguration.DEFAULT_CONFIGURATION, modelContext);
+        commit(dataTree, BenchmarkModel.TEST_PATH,
+            ImmutableNodes.newContainerBuilder().withNodeIdentifier(BenchmarkModel.TEST).build());
+        final long emptyBytes = footprint(dataTree);
+        commit(dataTree, BenchmarkModel.TEST_PATH, data);
+        final long writtenBytes = footprint(dataTree) - emptyBytes;
+
+        // Replace a single entry, which results in the tree retaining subtree versions
+        commit(dataTree, BenchmarkModel.OUTER_LIST_PATH.node(NodeIdentifierWithPredicates.of(
+            BenchmarkModel.OUTER_LIST_QNAME, BenchmarkModel.ID_QNAME, 0)), shape.buildOuterEntry(0));
+        final long updatedBytes = footprint(dataTree) - emptyBytes;
+
+        sb.append("\n    { \"shape\": \"").append(shape.name())
+            .append("\", \"nodes\": ").append(nodes)
+            .append(", \"normalizedNodeBytes\": ").append(dataBytes)
+            .append(", \"bytesPerNode\": ").append(String.format(Locale.ROOT, "%.2f", (double) dataBytes / nodes))
+            .append(", \"treeNodeBytes\": ").append(treeNodeBytes)
+            .append(", \"dataTreeBytes\": ").append(writtenBytes)
+            .append(", \"dataTreeUpdatedBytes\": ").append(updatedBytes)
+            .append(" }");
+    }
+
+    private void measureMap(final int size) {
+        final var keys = new NodeIdentifier[size];
+        final var values = new Object[size];
+        final var source = new LinkedHashMap<NodeIdentifier, Object>();
+        for (int i = 0; i < size; ++i) {
+            keys[i] = NodeIdentifier.create(QName.create(BenchmarkModel.OUTER_LIST_QNAME, "leaf" + i));
+            values[i] = Integer.valueOf(i);
+            source.put(keys[i], values[i]);
+        }
+
+        final Map<NodeIdentifier, Object> map = size == 1 ? SharedSingletonMap.unorderedOf(keys[0], values[0])
+            : ImmutableOffsetMap.unorderedCopyOf(source);
+        classes.add(map.getClass());
+        sb.append("\n    { \"class\": \"").append(map.getClass().getName())
+            .append("\", \"entries\": ").append(size)
+            .append(", \"bytes\": ").append(footprint(map, keys, values))
+            .append(", \"hashMapBytes\": ").append(footprint(source, keys, values))
+            .append(" }");
+    }
+
+    private void measurePaths() {
+        final var arg = NodeIdentifierWithPredicates.of(BenchmarkModel.OUTER_LIST_QNAME, BenchmarkModel.ID_QNAME, 0);
+        final var parent = BenchmarkModel.OUTER_LIST_PATH;
+        final var stacked = parent.node(arg);
+        final var fixed = YangInstanceIdentifier.of(BenchmarkModel.TEST, BenchmarkModel.OUTER_LIST, arg);
+        final var optimized = stacked.toOptimized();
+        classes.add(stacked.getClass());
+        classes.add(fixed.getClass());
+        classes.add(arg.getClass());
+
+        appendPath("nodeIdentifierWithPredicates", footprint(arg));
+        sb.append(',');
+        appendPath("fixed", footprint(fixed, arg));
+        sb.append(',');
+        appendPath("stacked", footprint(stacked, arg, parent));
+        sb.append(',');
+        appendPath("optimized", footprint(optimized, arg));
+    }
+
+    private void appendPath(final String form, final long bytes) {
+        sb.append("\n    { \"form\": \"").append(form).append("\", \"length\": 3, \"bytes\": ").append(bytes)
+            .append(" }");
+    }
+
+    private void collectClasses(final NormalizedNode node) {
+        classes.add(node.getClass());
+        if (node instanceof NormalizedNodeContainer<?> container) {
+            for (var child : container.body()) {
+                collectClasses(child);
+            }
+        }
+    }
+
+    private boolean separator(final boolean first) {
+        if (!first) {
+            sb.append(',');
+        }
+        return false;
+    }
+
+    private static void commit(final DataTree dataTree, final YangInstanceIdentifier path, final NormalizedNode data)
+            throws DataValidationFailedException {
+        final var mod = dataTree.takeSnapshot().newModification();
+        mod.write(path, data);
+        mod.ready();
+        dataTree.validate(mod);
+        dataTree.commit(dataTree.prepare(mod));
+    }
+
+    /**
+     * Measure retained heap of an object, excluding model constants and specified shared objects.
+     *
+     * @param obj object to measure
+     * @param shared objects to exclude
+     * @return retained heap, in bytes
+     */
+    private static long footprint(final Object obj, final Object... shared) {
+        final var excluded = Arrays.copyOf(SHARED, SHARED.length + shared.length);
+        System.arraycopy(shared, 0, excluded, SHARED.length, shared.length);
+        return GraphLayout.parseInstance(obj).subtract(GraphLayout.parseInstance(excluded)).totalSize();
+    }
+}
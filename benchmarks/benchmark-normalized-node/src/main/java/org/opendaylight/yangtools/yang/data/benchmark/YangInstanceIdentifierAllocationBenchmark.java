@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.impl.tree.BenchmarkModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Allocation benchmarks of the various ways of creating a {@link YangInstanceIdentifier} pointing to an
+ * {@code outer-list} entry. These are meant to be run with the GC profiler, see
+ * {@link NormalizedNodeAllocationBenchmark#main(String...)}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class YangInstanceIdentifierAllocationBenchmark {
+    private int next;
+
+    @Benchmark
+    public NodeIdentifierWithPredicates createKey() {
+        return nextKey();
+    }
+
+    @Benchmark
+    public YangInstanceIdentifier createFixed() {
+        return YangInstanceIdentifier.of(BenchmarkModel.TEST, BenchmarkModel.OUTER_LIST, nextKey());
+    }
+
+    @Benchmark
+    public YangInstanceIdentifier createStacked() {
+        return BenchmarkModel.OUTER_LIST_PATH.node(nextKey());
+    }
+
+    @Benchmark
+    public YangInstanceIdentifier createOptimized() {
+        return BenchmarkModel.OUTER_LIST_PATH.node(nextKey()).toOptimized();
+    }
+
+    private NodeIdentifierWithPredicates nextKey() {
+        // Cycle through a range of keys, so that values are not constant-folded
+        return NodeIdentifierWithPredicates.of(BenchmarkModel.OUTER_LIST_QNAME, BenchmarkModel.ID_QNAME,
+            next++ & 0xFFFFF);
+    }
+}
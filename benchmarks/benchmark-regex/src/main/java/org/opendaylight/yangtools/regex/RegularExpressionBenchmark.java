@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.regex;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmarking of {@link RegularExpressionAutomaton} against {@link Pattern}, compiled from the same XSD regular
+ * expression, on typical YANG pattern constraints.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class RegularExpressionBenchmark {
+    public enum Case {
+        // ietf-inet-types.yang, ipv4-address
+        IPV4_ADDRESS("(([0-9]|[1-9][0-9]|1[0-9][0-9]|2[0-4][0-9]|25[0-5])\\.){3}"
+            + "([0-9]|[1-9][0-9]|1[0-9][0-9]|2[0-4][0-9]|25[0-5])(%[\\p{N}\\p{L}]+)?", "192.168.100.254%eth0"),
+        // ietf-inet-types.yang, domain-name
+        DOMAIN_NAME("((([a-zA-Z0-9_]([a-zA-Z0-9\\-_]){0,61})?[a-zA-Z0-9]\\.)*([a-zA-Z0-9_]([a-zA-Z0-9\\-_]){0,61})?"
+            + "[a-zA-Z0-9]\\.?)|\\.", "controller.node-01.datacenter.example.com"),
+        // ietf-yang-types.yang, mac-address
+        MAC_ADDRESS("[0-9a-fA-F]{2}(:[0-9a-fA-F]{2}){5}", "00:1b:21:3a:4f:7e"),
+        // Backtracking in java.util.regex takes time exponential to input length
+        PATHOLOGICAL("(a|aa)*b", "a".repeat(24));
+
+        final String regex;
+        final String input;
+
+        Case(final String regex, final String input) {
+            this.regex = regex;
+            this.input = input;
+        }
+    }
+
+    @Param
+    public Case testCase;
+
+    private RegularExpressionAutomaton automaton;
+    private Pattern pattern;
+    private String input;
+
+    public static void main(final String... args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(".*" + RegularExpressionBenchmark.class.getSimpleName() + ".*")
+            .addProfiler("gc")
+            .build()).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setup() throws RegularExpressionException {
+        final var regex = RegularExpressionParser.parse(testCase.regex);
+        automaton = RegularExpressionAutomaton.compile(regex);
+        pattern = Pattern.compile(regex.toPatternFragment());
+        input = testCase.input;
+    }
+
+    @Benchmark
+    public boolean automaton() {
+        return automaton.matches(input);
+    }
+
+    @Benchmark
+    public boolean pattern() {
+        return pattern.matcher(input).matches();
+    }
+}
@@ -59,4 +59,8 @@ module org.opendaylight.yangtools.binding.data.codec.dynamic {
     requires static org.kohsuke.metainf_services;
     requires static org.osgi.annotation.bundle;
     requires static org.osgi.service.component.annotations;
+
+    // Only needed by PrebuiltCodecGenerator, which is used on classpath by yang-maven-plugin
+    requires static org.opendaylight.yangtools.binding.runtime.spi;
+    requires static org.opendaylight.yangtools.plugin.generator.api;
 }
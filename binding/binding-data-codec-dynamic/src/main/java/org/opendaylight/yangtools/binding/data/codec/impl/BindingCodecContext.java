@@ -145,6 +145,11 @@ public final class BindingCodecContext extends AbstractBindingNormalizedNodeSeri
         if (dir != null && !dir.isEmpty()) {
             builder.dumpBytecode(Path.of(dir));
         }
+        // Classes pre-built by yang-maven-plugin are used by default, this allows disabling them
+        final var prebuilt = System.getProperty("org.opendaylight.mdsal.binding.dom.codec.loader.prebuiltClasses");
+        if (prebuilt != null && !prebuilt.isEmpty()) {
+            builder.prebuiltClasses(Boolean.parseBoolean(prebuilt));
+        }
         BCL_BUILDER = builder;
     }
 
@@ -324,7 +329,7 @@ public final class BindingCodecContext extends AbstractBindingNormalizedNodeSeri
             }
         });
 
-    private final @NonNull BindingClassLoader loader = BCL_BUILDER.build();
+    private final @NonNull BindingClassLoader loader;
     private final @NonNull InstanceIdentifierCodec instanceIdentifierCodec;
     private final @NonNull IdentityCodec identityCodec;
     private final @NonNull BindingRuntimeContext context;
@@ -335,7 +340,12 @@ public final class BindingCodecContext extends AbstractBindingNormalizedNodeSeri
     }
 
     public BindingCodecContext(final BindingRuntimeContext context) {
+        this(context, BCL_BUILDER.build());
+    }
+
+    BindingCodecContext(final BindingRuntimeContext context, final BindingClassLoader loader) {
         this.context = requireNonNull(context, "Binding Runtime Context is required.");
+        this.loader = requireNonNull(loader);
         identityCodec = new IdentityCodec(context);
         instanceIdentifierCodec = new InstanceIdentifierCodec(this);
     }
@@ -17,6 +17,7 @@ import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.jar.asm.Opcodes;
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.yangtools.binding.loader.BindingClassLoader;
 import org.opendaylight.yangtools.binding.loader.BindingClassLoader.ClassGenerator;
 import org.opendaylight.yangtools.binding.loader.BindingClassLoader.GeneratorResult;
@@ -45,6 +46,16 @@ abstract sealed class CodecClassGenerator<T extends CodecDataObject<?>> implemen
         return ClassGeneratorBridge.loadWithProvider(getterGenerator, loader);
     }
 
+    @Override
+    public final @Nullable String fingerprint(final Class<?> bindingInterface) {
+        // Generated getters are linked to runtime context through ClassGeneratorBridge, hence the only inputs are the
+        // binding interface and the set of properties
+        return getterGenerator instanceof ReusableGetterGenerator reusable
+            ? CodecFingerprint.of(bindingInterface, getClass().getName(), superclassFingerprint(),
+                reusable.propertiesFingerprint())
+            : null;
+    }
+
     @Override
     public final GeneratorResult<T> generateClass(final BindingClassLoader loader, final String fqcn,
             final Class<?> bindingInterface) {
@@ -58,4 +69,12 @@ abstract sealed class CodecClassGenerator<T extends CodecDataObject<?>> implemen
     }
 
     abstract DynamicType.Builder<?> newBuilder(TypeDescription.Generic bindingDef);
+
+    /**
+     * Return a string identifying the superclass of generated classes, including its type arguments other than the
+     * binding interface.
+     *
+     * @return superclass fingerprint
+     */
+    abstract @NonNull String superclassFingerprint();
 }
@@ -140,4 +140,9 @@ final class CodecDataObjectGenerator<T extends CodecDataObject<?>> extends Codec
     DynamicType.Builder<?> newBuilder(final TypeDescription.Generic bindingDef) {
         return BB.subclass(Generic.Builder.parameterizedType(superClass, bindingDef).build());
     }
+
+    @Override
+    String superclassFingerprint() {
+        return superClass.getName();
+    }
 }
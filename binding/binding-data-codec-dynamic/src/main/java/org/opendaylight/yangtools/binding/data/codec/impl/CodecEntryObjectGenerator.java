@@ -53,4 +53,9 @@ final class CodecEntryObjectGenerator<T extends CodecDataObject<?>> extends Code
         return BB.subclass(Generic.Builder.parameterizedType(BB_CEO, ForLoadedType.of(parentClass), bindingDef,
             ForLoadedType.of(keyClass)).build());
     }
+
+    @Override
+    String superclassFingerprint() {
+        return BB_CEO.getName() + '<' + parentClass.getName() + ',' + keyClass.getName() + '>';
+    }
 }
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.binding.data.codec.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.binding.loader.BindingClassLoader;
+import org.opendaylight.yangtools.binding.loader.BindingClassLoader.ClassGenerator;
+
+/**
+ * Support for {@link ClassGenerator#fingerprint(Class)} of classes generated by this package. Each fingerprint covers
+ * the bytecode of the classes which make up the generators, so that classes pre-built by a different implementation are
+ * never used.
+ */
+final class CodecFingerprint {
+    private static final @NonNull String IMPLEMENTATION = implementationFingerprint(
+        // Generators
+        CodecClassGenerator.class, CodecDataObjectGenerator.class, CodecEntryObjectGenerator.class,
+        DataContainerStreamerGenerator.class, ReusableGetterGenerator.class, GetterMethodImplementation.class,
+        MethodImplementation.class, VHFieldInitializer.class, VHFieldInitializer1.class, VHFieldInitializerN.class,
+        ClassGeneratorBridge.class, ByteBuddyUtils.class,
+        // Superclasses of generated classes
+        CodecDataObject.class, AugmentableCodecDataObject.class, CodecEntryObject.class, DataContainerStreamer.class);
+
+    private CodecFingerprint() {
+        // Hidden on purpose
+    }
+
+    /**
+     * Compute the fingerprint of a class generated for a binding interface.
+     *
+     * @param bindingInterface Binding interface
+     * @param discriminators Generator-specific discriminators
+     * @return A fingerprint, or {@code null} if it cannot be computed
+     */
+    static @Nullable String of(final Class<?> bindingInterface, final String... discriminators) {
+        final var args = new String[discriminators.length + 1];
+        args[0] = IMPLEMENTATION;
+        System.arraycopy(discriminators, 0, args, 1, discriminators.length);
+        return BindingClassLoader.fingerprintOf(bindingInterface, args);
+    }
+
+    private static @NonNull String implementationFingerprint(final Class<?>... classes) {
+        final var queue = new ArrayList<>(List.of(classes));
+        final var sb = new StringBuilder();
+        while (!queue.isEmpty()) {
+            final var clazz = queue.removeFirst();
+            // Unreadable bytecode, for example in a custom runtime, results in a per-process fingerprint, effectively
+            // disabling pre-built classes
+            sb.append(Objects.requireNonNullElseGet(BindingClassLoader.fingerprintOf(clazz),
+                () -> Integer.toHexString(System.identityHashCode(clazz)) + '@' + System.nanoTime())).append(';');
+            queue.addAll(List.of(clazz.getDeclaredClasses()));
+        }
+        return sb.toString();
+    }
+}
@@ -57,6 +57,7 @@ import org.opendaylight.yangtools.binding.data.codec.spi.BindingSchemaMapping;
 import org.opendaylight.yangtools.binding.loader.BindingClassLoader;
 import org.opendaylight.yangtools.binding.loader.BindingClassLoader.ClassGenerator;
 import org.opendaylight.yangtools.binding.loader.BindingClassLoader.GeneratorResult;
+import org.opendaylight.yangtools.binding.loader.LoadableClass;
 import org.opendaylight.yangtools.binding.model.AugmentableArchetype;
 import org.opendaylight.yangtools.binding.model.AugmentationArchetype;
 import org.opendaylight.yangtools.binding.model.CaseObjectArchetype;
@@ -221,6 +222,53 @@ final class DataContainerStreamerGenerator<T extends DataContainerStreamer<?>> i
 
         @SuppressWarnings("unchecked")
         final var builder = (Builder<T>) TEMPLATE.name(fqcn);
+        final var childStreams = createChildStreams(loader);
+
+        final var result = GeneratorResult.<T>of(
+            new UnloadedLoadableClass<>(builder
+                .defineMethod("serialize", BB_VOID, Opcodes.ACC_PROTECTED | Opcodes.ACC_FINAL | Opcodes.ACC_SYNTHETIC)
+                .withParameters(BB_DOSR, BB_DATA_CONTAINER, BB_BESV)
+                .throwing(BB_IOX)
+                .intercept(new SerializeImplementation(bindingInterface, startEvent, childStreams))
+                .make()),
+            dependencies(childStreams));
+
+        LOG.trace("Definition of {} done", fqcn);
+        return result;
+    }
+
+    @Override
+    public @Nullable String fingerprint(final Class<?> bindingInterface) {
+        // Aside from the binding interface, the generated code depends on schema children, as they determine the order
+        // and the local names of streamed children
+        final var sb = new StringBuilder();
+        for (var schemaChild : statement.toDataNodeContainer().getChildNodes()) {
+            if (!schemaChild.isAugmenting() && schemaChild instanceof EffectiveStatementEquivalent<?> equiv) {
+                final var stmt = equiv.asEffectiveStatement();
+                sb.append(stmt.statementDefinition().simpleName()).append(':')
+                    .append(schemaChild.getQName().getLocalName());
+                switch (stmt) {
+                    case LeafListEffectiveStatement leafList -> sb.append(':').append(leafList.effectiveOrdering());
+                    case ListEffectiveStatement list -> sb.append(':').append(list.keyStatement() != null);
+                    default -> {
+                        // No further details
+                    }
+                }
+                sb.append(';');
+            }
+        }
+        return CodecFingerprint.of(bindingInterface, getClass().getName(), archetype.getClass().getName(),
+            sb.toString());
+    }
+
+    @Override
+    public GeneratorResult<T> prebuiltResult(final BindingClassLoader loader, final LoadableClass<T> prebuilt,
+            final Class<?> bindingInterface) {
+        // Pre-built code references streamers of children just as generated code does, make sure they are available
+        return GeneratorResult.of(prebuilt, dependencies(createChildStreams(loader)));
+    }
+
+    private @NonNull List<ChildStream> createChildStreams(final BindingClassLoader loader) {
         final var childStreams = new ArrayList<ChildStream>();
 
         // FIXME: we are using DataSchemaNode for three things:
@@ -248,7 +296,10 @@ final class DataContainerStreamerGenerator<T extends DataContainerStreamer<?>> i
                 }
             }
         }
+        return childStreams;
+    }
 
+    private static @NonNull List<Class<?>> dependencies(final List<ChildStream> childStreams) {
         final var dependencies = new ArrayList<Class<?>>();
         for (var childStream : childStreams) {
             final var dependency = childStream.getDependency();
@@ -256,18 +307,7 @@ final class DataContainerStreamerGenerator<T extends DataContainerStreamer<?>> i
                 dependencies.add(dependency);
             }
         }
-
-        final var result = GeneratorResult.<T>of(
-            new UnloadedLoadableClass<>(builder
-                .defineMethod("serialize", BB_VOID, Opcodes.ACC_PROTECTED | Opcodes.ACC_FINAL | Opcodes.ACC_SYNTHETIC)
-                .withParameters(BB_DOSR, BB_DATA_CONTAINER, BB_BESV)
-                .throwing(BB_IOX)
-                .intercept(new SerializeImplementation(bindingInterface, startEvent, childStreams))
-                .make()),
-            dependencies);
-
-        LOG.trace("Definition of {} done", fqcn);
-        return result;
+        return dependencies;
     }
 
     private ChildStream createStream(final BindingClassLoader loader, final Method getter,
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.binding.data.codec.impl;
+
+import com.google.common.base.VerifyException;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.nio.file.Path;
+import org.eclipse.jdt.annotation.Nullable;
+import org.kohsuke.MetaInfServices;
+import org.opendaylight.yangtools.binding.loader.BindingClassLoader;
+import org.opendaylight.yangtools.binding.meta.YangModuleInfo;
+import org.opendaylight.yangtools.binding.runtime.spi.BindingRuntimeHelpers;
+import org.opendaylight.yangtools.plugin.generator.api.ClassFileGenerator;
+import org.opendaylight.yangtools.plugin.generator.api.FileGeneratorException;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.QNameModule;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.model.api.meta.EffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.CaseEffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.ChoiceEffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.ContainerEffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.ListEffectiveStatement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link ClassFileGenerator} emitting {@link CodecDataObject}s and {@link DataContainerStreamer}s for containers and
+ * lists defined by the models compiled into a project. These end up in {@link BindingClassLoader#PREBUILT_DIRECTORY}
+ * and are used by {@link BindingCodecContext} instead of generating them at runtime. Classes for other constructs, such
+ * as cases, augmentations, notifications and RPCs, are still generated at runtime.
+ *
+ * <p>This generator requires a {@link org.opendaylight.yangtools.binding.runtime.api.BindingRuntimeGenerator} and a
+ * {@link org.opendaylight.yangtools.yang.parser.api.YangParserFactory} to be available via
+ * {@link java.util.ServiceLoader}.
+ */
+@MetaInfServices
+public final class PrebuiltCodecGenerator implements ClassFileGenerator {
+    private static final Logger LOG = LoggerFactory.getLogger(PrebuiltCodecGenerator.class);
+
+    @Override
+    public String getIdentifier() {
+        return PrebuiltCodecGenerator.class.getSimpleName();
+    }
+
+    @Override
+    public void generateClassFiles(final ClassLoader projectClassLoader, final Path projectOutputDirectory)
+            throws FileGeneratorException {
+        final var outputPrefix = projectOutputDirectory.toUri().toString();
+        final var moduleInfos = BindingRuntimeHelpers.loadModuleInfos(projectClassLoader);
+        final var projectModules = moduleInfos.stream()
+            .filter(info -> isProjectClass(projectClassLoader, info.getClass(), outputPrefix))
+            .map(YangModuleInfo::module)
+            .toList();
+        if (projectModules.isEmpty()) {
+            LOG.info("No binding modules found in {}", projectOutputDirectory);
+            return;
+        }
+
+        final BindingCodecContext codec;
+        try {
+            codec = new BindingCodecContext(BindingRuntimeHelpers.createRuntimeContext(moduleInfos),
+                BindingClassLoader.builder(BindingCodecContext.class).exportPrebuilt(projectOutputDirectory).build());
+        } catch (IllegalStateException e) {
+            throw new FileGeneratorException("Failed to create binding runtime context", e);
+        }
+
+        final var modelContext = codec.runtimeContext().modelContext();
+        int count = 0;
+        for (var module : projectModules) {
+            final var stmt = modelContext.findModuleStatement(module);
+            if (stmt.isPresent()) {
+                count += generateTopLevel(codec, module, stmt.orElseThrow().effectiveSubstatements());
+            }
+        }
+        LOG.info("Pre-built codec classes for {} data objects in {} modules", count, projectModules.size());
+    }
+
+    private static int generateTopLevel(final BindingCodecContext codec, final QNameModule module,
+            final Iterable<? extends EffectiveStatement<?, ?>> substatements) {
+        int count = 0;
+        for (var stmt : substatements) {
+            final var qname = dataContainerName(stmt, module);
+            if (qname != null) {
+                final CodecContext child;
+                try {
+                    child = codec.lookupCodecContext(YangInstanceIdentifier.of(qname), null);
+                } catch (IllegalArgumentException | IllegalStateException | UncheckedExecutionException
+                        | VerifyException e) {
+                    LOG.warn("Failed to generate classes for {}", qname, e);
+                    continue;
+                }
+                count += generate(codec, module, child, stmt);
+            }
+        }
+        return count;
+    }
+
+    private static int generate(final BindingCodecContext codec, final QNameModule module,
+            final CodecContext context, final EffectiveStatement<?, ?> stmt) {
+        if (!(context instanceof DataContainerCodecContext<?, ?, ?> container)) {
+            return 0;
+        }
+
+        int count = 0;
+        if (container instanceof CommonDataObjectCodecContext<?, ?> dataObject) {
+            // The codec context has generated the CodecDataObject, make sure the streamer is generated, too
+            try {
+                codec.getDataContainerStreamer(dataObject.getBindingClass());
+                count++;
+            } catch (IllegalArgumentException | IllegalStateException | UncheckedExecutionException
+                    | VerifyException e) {
+                LOG.warn("Failed to generate streamer for {}", dataObject.getBindingClass(), e);
+            }
+        }
+
+        final Iterable<? extends EffectiveStatement<?, ?>> children = switch (stmt) {
+            // Children of a choice are accessed through their case
+            case ChoiceEffectiveStatement choice -> choice.effectiveSubstatements().stream()
+                .filter(CaseEffectiveStatement.class::isInstance)
+                .<EffectiveStatement<?, ?>>flatMap(caseStmt -> caseStmt.effectiveSubstatements().stream())
+                .toList();
+            default -> stmt.effectiveSubstatements();
+        };
+        for (var child : children) {
+            final var qname = dataContainerName(child, module);
+            if (qname != null) {
+                final CodecContext childContext;
+                try {
+                    childContext = container.yangPathArgumentChild(new NodeIdentifier(qname));
+                } catch (IllegalArgumentException | IllegalStateException | UncheckedExecutionException
+                        | VerifyException e) {
+                    LOG.warn("Failed to generate classes for {} in {}", qname, container, e);
+                    continue;
+                }
+                count += generate(codec, module, childContext, child);
+            }
+        }
+        return count;
+    }
+
+    // Containers, lists and choices defined by the module, i.e. excluding augmentations from other modules
+    private static @Nullable QName dataContainerName(final EffectiveStatement<?, ?> stmt, final QNameModule module) {
+        return (stmt instanceof ContainerEffectiveStatement || stmt instanceof ListEffectiveStatement
+            || stmt instanceof ChoiceEffectiveStatement)
+            && stmt.argument() instanceof QName qname && module.equals(qname.getModule()) ? qname : null;
+    }
+
+    private static boolean isProjectClass(final ClassLoader classLoader, final Class<?> clazz,
+            final String outputPrefix) {
+        final var resource = classLoader.getResource(clazz.getName().replace('.', '/') + ".class");
+        return resource != null && resource.toString().startsWith(outputPrefix);
+    }
+}
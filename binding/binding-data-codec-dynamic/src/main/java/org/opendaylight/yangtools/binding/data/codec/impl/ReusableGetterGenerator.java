@@ -175,6 +175,29 @@ final class ReusableGetterGenerator extends GetterGenerator implements LocalName
         throw new VerifyException("Failed to find property for " + methodName + " in " + simpleProperties);
     }
 
+    /**
+     * Return a string identifying the getters this generator generates.
+     *
+     * @return properties fingerprint
+     */
+    String propertiesFingerprint() {
+        final var sb = new StringBuilder();
+        for (var method : simpleProperties.keySet()) {
+            sb.append("S:").append(method.getName()).append(':').append(method.getReturnType().getName()).append(';');
+        }
+        for (var entry : daoProperties.entrySet()) {
+            final var info = entry.getValue();
+            final var method = info.getterMethod();
+            sb.append("D:").append(method.getName()).append(':').append(method.getReturnType().getName()).append(':')
+                .append(entry.getKey().getName());
+            if (info instanceof PropertyInfo.GetterAndNonnull orEmpty) {
+                sb.append(':').append(orEmpty.nonnullMethod().getName());
+            }
+            sb.append(';');
+        }
+        return sb.toString();
+    }
+
     @Override
     <T> Builder<T> generateGetters(final Builder<T> builder) {
         final var vhUsers = new ArrayList<VHFieldUser>(simpleProperties.size() + daoProperties.size());
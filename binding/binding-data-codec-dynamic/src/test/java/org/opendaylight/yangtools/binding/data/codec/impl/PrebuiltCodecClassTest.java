@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.binding.data.codec.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.implementation.FixedValue;
+import net.bytebuddy.matcher.ElementMatchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.binding.rev140701.Top;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.mdsal.test.binding.rev140701.two.level.list.TopLevelList;
+import org.opendaylight.yangtools.binding.contract.Naming;
+import org.opendaylight.yangtools.binding.loader.BindingClassLoader;
+import org.opendaylight.yangtools.binding.loader.BindingClassLoader.ClassGenerator;
+import org.opendaylight.yangtools.binding.loader.BindingClassLoader.GeneratorResult;
+
+class PrebuiltCodecClassTest extends AbstractBindingRuntimeTest {
+    /**
+     * A generator of classes whose {@code toString()} returns a fixed value.
+     */
+    private static final class TestGenerator implements ClassGenerator<Object> {
+        private final String value;
+        private final String fingerprint;
+
+        int generated;
+
+        TestGenerator(final String value, final String fingerprint) {
+            this.value = value;
+            this.fingerprint = fingerprint;
+        }
+
+        @Override
+        public GeneratorResult<Object> generateClass(final BindingClassLoader loader, final String fqcn,
+                final Class<?> bindingInterface) {
+            generated++;
+            return GeneratorResult.of(new UnloadedLoadableClass<>(new ByteBuddy()
+                .subclass(Object.class)
+                .name(fqcn)
+                .method(ElementMatchers.isToString())
+                .intercept(FixedValue.value(value))
+                .make()));
+        }
+
+        @Override
+        public String fingerprint(final Class<?> bindingInterface) {
+            return fingerprint;
+        }
+    }
+
+    @TempDir
+    Path first;
+    @TempDir
+    Path second;
+
+    @Test
+    void exportedStreamersHaveStableFingerprints() throws IOException {
+        exportStreamer(first);
+        exportStreamer(second);
+
+        // Top's streamer and the streamer of its child list, which it depends on
+        for (var type : new Class<?>[] { Top.class, TopLevelList.class }) {
+            final var firstFingerprint = assertExported(first, type);
+            assertEquals(firstFingerprint, assertExported(second, type));
+        }
+    }
+
+    @Test
+    void exportedCodecDataObject() throws IOException {
+        final var codec = exportingCodec(first);
+        codec.getStreamChild(Top.class);
+        assertExported(first, "org.opendaylight.yang.rt.v1.obj", Top.class);
+    }
+
+    @Test
+    void prebuiltClassLoaded() throws ReflectiveOperationException {
+        exportToString(first, "fingerprint");
+
+        final var generator = new TestGenerator("generated", "fingerprint");
+        assertEquals("exported", generateToString(BindingClassLoader.builder(PrebuiltCodecClassTest.class)
+            .prebuiltDirectory(first)
+            .build(), generator));
+        assertEquals(0, generator.generated);
+    }
+
+    @Test
+    void fingerprintMismatchGenerates() throws ReflectiveOperationException {
+        exportToString(first, "fingerprint");
+
+        final var generator = new TestGenerator("generated", "other");
+        assertEquals("generated", generateToString(BindingClassLoader.builder(PrebuiltCodecClassTest.class)
+            .prebuiltDirectory(first)
+            .build(), generator));
+        assertEquals(1, generator.generated);
+    }
+
+    @Test
+    void prebuiltClassesDisabled() throws ReflectiveOperationException {
+        exportToString(first, "fingerprint");
+
+        final var generator = new TestGenerator("generated", "fingerprint");
+        assertEquals("generated", generateToString(BindingClassLoader.builder(PrebuiltCodecClassTest.class)
+            .prebuiltDirectory(first)
+            .prebuiltClasses(false)
+            .build(), generator));
+        assertEquals(1, generator.generated);
+    }
+
+    private static void exportToString(final Path directory, final String fingerprint)
+            throws ReflectiveOperationException {
+        assertEquals("exported", generateToString(BindingClassLoader.builder(PrebuiltCodecClassTest.class)
+            .exportPrebuilt(directory)
+            .build(), new TestGenerator("exported", fingerprint)));
+    }
+
+    private static String generateToString(final BindingClassLoader loader, final TestGenerator generator)
+            throws ReflectiveOperationException {
+        return CodecPackage.STREAMER.generateClass(loader, Top.class, generator)
+            .getDeclaredConstructor().newInstance().toString();
+    }
+
+    private static void exportStreamer(final Path directory) {
+        exportingCodec(directory).getDataContainerStreamer(Top.class);
+    }
+
+    private static BindingCodecContext exportingCodec(final Path directory) {
+        return new BindingCodecContext(getRuntimeContext(),
+            BindingClassLoader.builder(BindingCodecContext.class).exportPrebuilt(directory).build());
+    }
+
+    private static String assertExported(final Path directory, final Class<?> type) throws IOException {
+        return assertExported(directory, "org.opendaylight.yang.rt.v1.stream", type);
+    }
+
+    private static String assertExported(final Path directory, final String packagePrefix, final Class<?> type)
+            throws IOException {
+        final var base = directory.resolve(BindingClassLoader.PREBUILT_DIRECTORY).resolve(
+            (packagePrefix + type.getName().substring(Naming.PACKAGE_PREFIX.length())).replace('.', '/'));
+        assertTrue(Files.isRegularFile(base.resolveSibling(base.getFileName() + ".class")));
+
+        final var fingerprint = Files.readString(base.resolveSibling(base.getFileName() + ".fingerprint"));
+        assertTrue(fingerprint.matches("[0-9a-f]{64}"), fingerprint);
+        return fingerprint;
+    }
+}
@@ -13,7 +13,12 @@ import com.google.common.base.MoreObjects;
 import com.google.common.base.MoreObjects.ToStringHelper;
 import com.google.common.base.VerifyException;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.HexFormat;
@@ -41,6 +46,11 @@ import org.slf4j.LoggerFactory;
  *
  * <p>In single-classloader environments, obviously, the root loader can load all binding classes, and hence no leaf
  * loader is created.
+ *
+ * <p>Classes can also be generated ahead of time, for example at build time, and packaged alongside the binding
+ * interface as resources under {@link #PREBUILT_DIRECTORY}, each accompanied by a {@code .fingerprint} resource. Such a
+ * class is used instead of generating it only if its fingerprint matches the one reported by
+ * {@link ClassGenerator#fingerprint(Class)} -- otherwise we fall back to generating the class.
  */
 public abstract sealed class BindingClassLoader extends ClassLoader
         permits LeafBindingClassLoader, RootBindingClassLoader {
@@ -51,6 +61,9 @@ public abstract sealed class BindingClassLoader extends ClassLoader
         private final @NonNull ClassLoader parentLoader;
 
         private @Nullable Path dumpDirectory;
+        private @Nullable Path exportDirectory;
+        private @Nullable Path prebuiltDirectory;
+        private boolean prebuiltClasses = true;
 
         Builder(final ClassLoader parentLoader) {
             this.parentLoader = requireNonNull(parentLoader);
@@ -61,8 +74,54 @@ public abstract sealed class BindingClassLoader extends ClassLoader
             return this;
         }
 
+        /**
+         * Enable or disable use of classes generated ahead of time. This is enabled by default.
+         *
+         * @param enabled {@code true} if pre-built classes should be used
+         * @return this builder
+         */
+        public Builder prebuiltClasses(final boolean enabled) {
+            prebuiltClasses = enabled;
+            return this;
+        }
+
+        /**
+         * Look up pre-built classes in a directory before looking them up in binding interfaces' class loaders. This is
+         * useful when pre-built classes are not packaged alongside binding interfaces.
+         *
+         * @param fromDirectory the root directory, i.e. the directory which contains
+         *                      {@link BindingClassLoader#PREBUILT_DIRECTORY}
+         * @return this builder
+         */
+        public Builder prebuiltDirectory(final Path fromDirectory) {
+            prebuiltDirectory = requireNonNull(fromDirectory);
+            return this;
+        }
+
+        /**
+         * Export all generated classes which have a {@link ClassGenerator#fingerprint(Class)} into a directory, so
+         * that they can be packaged and used as pre-built classes. This implies {@code prebuiltClasses(false)}.
+         *
+         * @param toDirectory the root directory, i.e. the directory which will contain
+         *                    {@link BindingClassLoader#PREBUILT_DIRECTORY}
+         * @return this builder
+         */
+        public Builder exportPrebuilt(final Path toDirectory) {
+            exportDirectory = requireNonNull(toDirectory);
+            return this;
+        }
+
         public @NonNull BindingClassLoader build() {
-            return AccessControllerCompat.get(() -> new RootBindingClassLoader(parentLoader, dumpDirectory));
+            final var exportDir = exportDirectory;
+            final Config config;
+            if (exportDir != null) {
+                config = new Config(dumpDirectory, exportDir.resolve(PREBUILT_DIRECTORY), false, null);
+            } else {
+                final var prebuiltDir = prebuiltDirectory;
+                config = new Config(dumpDirectory, null, prebuiltClasses,
+                    prebuiltDir == null ? null : prebuiltDir.resolve(PREBUILT_DIRECTORY));
+            }
+            return AccessControllerCompat.get(() -> new RootBindingClassLoader(parentLoader, config));
         }
     }
 
@@ -91,6 +150,35 @@ public abstract sealed class BindingClassLoader extends ClassLoader
         default Class<T> customizeLoading(final @NonNull Supplier<Class<T>> loader) {
             return loader.get();
         }
+
+        /**
+         * Return the fingerprint of the class this generator would generate for a binding interface. Two invocations
+         * returning the same fingerprint must result in equivalent classes, so that a class generated ahead of time
+         * can be used instead of generating it. The default implementation returns {@code null}, indicating the class
+         * always needs to be generated.
+         *
+         * @param bindingInterface Binding interface for which the class is being generated
+         * @return A fingerprint, or {@code null}
+         * @see BindingClassLoader#fingerprintOf(Class, String...)
+         */
+        default @Nullable String fingerprint(final @NonNull Class<?> bindingInterface) {
+            return null;
+        }
+
+        /**
+         * Create a result for a class generated ahead of time, whose fingerprint matches {@link #fingerprint(Class)}.
+         * Implementations whose {@link #generateClass(BindingClassLoader, String, Class)} reports dependencies need
+         * to override this method to report them as well. The default implementation reports no dependencies.
+         *
+         * @param loader Loader which will load the class
+         * @param prebuilt Pre-built class
+         * @param bindingInterface Binding interface for which the class is being generated
+         * @return A result.
+         */
+        default GeneratorResult<T> prebuiltResult(final BindingClassLoader loader, final LoadableClass<T> prebuilt,
+                final Class<?> bindingInterface) {
+            return GeneratorResult.of(prebuilt);
+        }
     }
 
     /**
@@ -126,17 +214,44 @@ public abstract sealed class BindingClassLoader extends ClassLoader
         }
     }
 
+    /**
+     * Resource directory holding pre-built classes, relative to the root of the binding interface's class loader.
+     */
+    public static final String PREBUILT_DIRECTORY = "META-INF/yang-rt";
+
+    // Bump this when the way fingerprints are computed changes
+    private static final String FINGERPRINT_VERSION = "1";
+    private static final String FINGERPRINT_SUFFIX = ".fingerprint";
     private static final Logger LOG = LoggerFactory.getLogger(BindingClassLoader.class);
 
-    private final @Nullable Path dumpDir;
+    record Config(@Nullable Path dumpDir, @Nullable Path exportDir, boolean prebuilt, @Nullable Path prebuiltDir) {
+        // Nothing else
+    }
+
+    /**
+     * A location of pre-built classes.
+     */
+    @FunctionalInterface
+    private interface PrebuiltResources {
+        /**
+         * Open a resource.
+         *
+         * @param name resource name, relative to {@link #PREBUILT_DIRECTORY}
+         * @return an {@link InputStream}, or {@code null} if the resource does not exist
+         * @throws IOException if an I/O error occurs
+         */
+        @Nullable InputStream open(@NonNull String name) throws IOException;
+    }
+
+    private final @NonNull Config config;
 
-    BindingClassLoader(final ClassLoader parentLoader, final @Nullable Path dumpDir) {
+    BindingClassLoader(final ClassLoader parentLoader, final Config config) {
         super(parentLoader);
-        this.dumpDir = dumpDir;
+        this.config = requireNonNull(config);
     }
 
     BindingClassLoader(final BindingClassLoader parentLoader) {
-        this(parentLoader, parentLoader.dumpDir);
+        this(parentLoader, parentLoader.config);
     }
 
     public static @NonNull Builder builder(final Class<?> rootClass) {
@@ -154,6 +269,53 @@ public abstract sealed class BindingClassLoader extends ClassLoader
         return builder(rootClass).build();
     }
 
+    /**
+     * Compute a fingerprint of a binding interface, suitable for use with {@link ClassGenerator#fingerprint(Class)}.
+     * The fingerprint covers the bytecode of the interface and the specified discriminators, which should identify the
+     * generator and any other inputs which affect the generated class.
+     *
+     * @param bindingInterface Binding interface
+     * @param discriminators Additional discriminators
+     * @return A hex-encoded SHA-256 fingerprint, or {@code null} if the interface's bytecode is not available
+     * @throws NullPointerException if any argument is null
+     */
+    public static @Nullable String fingerprintOf(final Class<?> bindingInterface, final String... discriminators) {
+        final var classLoader = bindingInterface.getClassLoader();
+        if (classLoader == null) {
+            return null;
+        }
+
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+
+        digest.update(FINGERPRINT_VERSION.getBytes(StandardCharsets.UTF_8));
+        for (var discriminator : discriminators) {
+            // Separate discriminators so that ["ab", "c"] and ["a", "bc"] do not collide
+            digest.update((byte) 0);
+            digest.update(discriminator.getBytes(StandardCharsets.UTF_8));
+        }
+        digest.update((byte) 0);
+
+        try (var is = classLoader.getResourceAsStream(resourceName(bindingInterface.getName(), ".class"))) {
+            if (is == null) {
+                return null;
+            }
+            digest.update(is.readAllBytes());
+        } catch (IOException e) {
+            LOG.debug("Failed to read bytecode of {}", bindingInterface, e);
+            return null;
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    static @NonNull String resourceName(final String fqcn, final String suffix) {
+        return fqcn.replace('.', '/') + suffix;
+    }
+
     /**
      * Generate a class which is related to specified compile-type-generated interface.
      *
@@ -230,13 +392,22 @@ public abstract sealed class BindingClassLoader extends ClassLoader
                 return ret;
             }
 
-            final var result = generator.generateClass(this, fqcn, bindingInterface);
+            // Fingerprints are needed only when looking up or exporting pre-built classes
+            final var fingerprint = config.prebuilt || config.exportDir != null
+                ? generator.fingerprint(bindingInterface) : null;
+            final var prebuilt = config.prebuilt && fingerprint != null
+                ? this.<T>findPrebuilt(bindingInterface, fqcn, fingerprint) : null;
+            final var result = prebuilt != null ? generator.prebuiltResult(this, prebuilt, bindingInterface)
+                : generator.generateClass(this, fqcn, bindingInterface);
             final var source = result.source;
             if (!fqcn.equals(source.name())) {
                 throw new VerifyException("Unexpected class in " + source);
             }
 
             dumpBytecode(source);
+            if (fingerprint != null && prebuilt == null) {
+                exportBytecode(source, fingerprint);
+            }
             processDependencies(result.dependencies);
             return generator.customizeLoading(() -> source.load(this));
         }
@@ -281,8 +452,56 @@ public abstract sealed class BindingClassLoader extends ClassLoader
         }
     }
 
+    private <T> @Nullable LoadableClass<T> findPrebuilt(final Class<?> bindingInterface, final String fqcn,
+            final String fingerprint) {
+        final var dir = config.prebuiltDir;
+        if (dir != null) {
+            final LoadableClass<T> ret = findPrebuilt(name -> {
+                final var file = dir.resolve(name);
+                return Files.isRegularFile(file) ? Files.newInputStream(file) : null;
+            }, fqcn, fingerprint);
+            if (ret != null) {
+                return ret;
+            }
+        }
+
+        final var classLoader = bindingInterface.getClassLoader();
+        return classLoader == null ? null
+            : findPrebuilt(name -> classLoader.getResourceAsStream(PREBUILT_DIRECTORY + '/' + name), fqcn, fingerprint);
+    }
+
+    private static <T> @Nullable LoadableClass<T> findPrebuilt(final PrebuiltResources resources, final String fqcn,
+            final String fingerprint) {
+        final byte[] bytes;
+        try (var fis = resources.open(resourceName(fqcn, FINGERPRINT_SUFFIX))) {
+            if (fis == null) {
+                LOG.trace("No pre-built {} available", fqcn);
+                return null;
+            }
+            final var expected = new String(fis.readAllBytes(), StandardCharsets.UTF_8).strip();
+            if (!fingerprint.equals(expected)) {
+                LOG.debug("Ignoring pre-built {} with fingerprint {}, expected {}", fqcn, expected, fingerprint);
+                return null;
+            }
+
+            try (var cis = resources.open(resourceName(fqcn, ".class"))) {
+                if (cis == null) {
+                    LOG.debug("Ignoring pre-built {} with missing bytecode", fqcn);
+                    return null;
+                }
+                bytes = cis.readAllBytes();
+            }
+        } catch (IOException e) {
+            LOG.debug("Failed to read pre-built {}", fqcn, e);
+            return null;
+        }
+
+        LOG.debug("Using pre-built {}", fqcn);
+        return new PrebuiltLoadableClass<>(fqcn, bytes);
+    }
+
     private void dumpBytecode(final LoadableClass<?> source) {
-        final var dir = dumpDir;
+        final var dir = config.dumpDir;
         if (dir != null) {
             try {
                 source.saveToDir(dir);
@@ -291,4 +510,18 @@ public abstract sealed class BindingClassLoader extends ClassLoader
             }
         }
     }
+
+    private void exportBytecode(final LoadableClass<?> source, final String fingerprint) {
+        final var dir = config.exportDir;
+        if (dir != null) {
+            try {
+                source.saveToDir(dir);
+                final var file = dir.resolve(resourceName(source.name(), FINGERPRINT_SUFFIX));
+                Files.createDirectories(file.getParent());
+                Files.writeString(file, fingerprint);
+            } catch (IOException | IllegalArgumentException e) {
+                LOG.warn("Failed to export {}", source.name(), e);
+            }
+        }
+    }
 }
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.binding.loader;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.base.MoreObjects;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * A {@link LoadableClass} backed by class bytes generated ahead of time and located via
+ * {@link BindingClassLoader#PREBUILT_DIRECTORY}.
+ */
+@NonNullByDefault
+record PrebuiltLoadableClass<T>(String name, byte[] bytes) implements LoadableClass<T> {
+    PrebuiltLoadableClass {
+        requireNonNull(name);
+        requireNonNull(bytes);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Class<T> load(final BindingClassLoader classLoader) {
+        return (Class<T>) classLoader.loadClass(name, bytes);
+    }
+
+    @Override
+    public void saveToDir(final Path directory) throws IOException {
+        final var file = directory.resolve(BindingClassLoader.resourceName(name, ".class"));
+        Files.createDirectories(file.getParent());
+        Files.write(file, bytes);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("name", name).add("length", bytes.length).toString();
+    }
+}
@@ -12,10 +12,8 @@ import static com.google.common.base.Verify.verify;
 import com.google.common.collect.ImmutableMap;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.VarHandle;
-import java.nio.file.Path;
 import java.util.Set;
 import org.eclipse.jdt.annotation.NonNull;
-import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.yangtools.binding.DataContainer;
 import org.opendaylight.yangtools.concepts.AccessControllerCompat;
 import org.slf4j.Logger;
@@ -38,8 +36,8 @@ final class RootBindingClassLoader extends BindingClassLoader {
 
     private volatile ImmutableMap<ClassLoader, BindingClassLoader> loaders = ImmutableMap.of();
 
-    RootBindingClassLoader(final ClassLoader parentLoader, final @Nullable Path dumpDir) {
-        super(parentLoader, dumpDir);
+    RootBindingClassLoader(final ClassLoader parentLoader, final Config config) {
+        super(parentLoader, config);
     }
 
     @Override
@@ -0,0 +1,21 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+/**
+ * Netty {@link io.netty.buffer.ByteBuf} integration for NormalizedNode binary streams.
+ */
+module org.opendaylight.yangtools.yang.data.codec.binfmt.netty {
+    exports org.opendaylight.yangtools.yang.data.codec.binfmt.netty;
+
+    requires transitive io.netty.buffer;
+    requires transitive org.opendaylight.yangtools.yang.data.codec.binfmt;
+    requires io.netty.common;
+
+    // Annotations
+    requires static transitive org.eclipse.jdt.annotation;
+    requires static org.osgi.annotation.bundle;
+}
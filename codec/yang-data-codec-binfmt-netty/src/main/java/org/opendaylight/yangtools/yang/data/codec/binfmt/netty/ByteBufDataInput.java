@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.binfmt.netty;
+
+import static java.util.Objects.requireNonNull;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.util.ByteProcessor;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A {@link DataInput} reading directly from a {@link ByteBuf}, which can be a {@link io.netty.buffer.CompositeByteBuf}.
+ * Strings encoded by {@link #readUTF()} which are pure ASCII are decoded directly from the buffer, without going
+ * through a temporary byte array. Reads past the end of readable bytes result in an {@link EOFException}.
+ */
+final class ByteBufDataInput implements DataInput {
+    private static final ByteProcessor IS_ASCII = value -> value > 0;
+
+    private final ByteBuf buf;
+
+    ByteBufDataInput(final ByteBuf buf) {
+        this.buf = requireNonNull(buf);
+    }
+
+    @Override
+    @SuppressWarnings("checkstyle:parameterName")
+    public void readFully(final byte[] b) throws IOException {
+        readFully(b, 0, b.length);
+    }
+
+    @Override
+    @SuppressWarnings("checkstyle:parameterName")
+    public void readFully(final byte[] b, final int off, final int len) throws IOException {
+        ensureReadable(len);
+        buf.readBytes(b, off, len);
+    }
+
+    @Override
+    @SuppressWarnings("checkstyle:parameterName")
+    public int skipBytes(final int n) {
+        final int skip = Math.max(0, Math.min(n, buf.readableBytes()));
+        buf.skipBytes(skip);
+        return skip;
+    }
+
+    @Override
+    public boolean readBoolean() throws IOException {
+        ensureReadable(Byte.BYTES);
+        return buf.readBoolean();
+    }
+
+    @Override
+    public byte readByte() throws IOException {
+        ensureReadable(Byte.BYTES);
+        return buf.readByte();
+    }
+
+    @Override
+    public int readUnsignedByte() throws IOException {
+        ensureReadable(Byte.BYTES);
+        return buf.readUnsignedByte();
+    }
+
+    @Override
+    public short readShort() throws IOException {
+        ensureReadable(Short.BYTES);
+        return buf.readShort();
+    }
+
+    @Override
+    public int readUnsignedShort() throws IOException {
+        ensureReadable(Short.BYTES);
+        return buf.readUnsignedShort();
+    }
+
+    @Override
+    public char readChar() throws IOException {
+        ensureReadable(Character.BYTES);
+        return buf.readChar();
+    }
+
+    @Override
+    public int readInt() throws IOException {
+        ensureReadable(Integer.BYTES);
+        return buf.readInt();
+    }
+
+    @Override
+    public long readLong() throws IOException {
+        ensureReadable(Long.BYTES);
+        return buf.readLong();
+    }
+
+    @Override
+    public float readFloat() throws IOException {
+        ensureReadable(Float.BYTES);
+        return buf.readFloat();
+    }
+
+    @Override
+    public double readDouble() throws IOException {
+        ensureReadable(Double.BYTES);
+        return buf.readDouble();
+    }
+
+    @Override
+    @Deprecated
+    public String readLine() {
+        if (!buf.isReadable()) {
+            return null;
+        }
+
+        final var sb = new StringBuilder();
+        while (buf.isReadable()) {
+            final int ch = buf.readUnsignedByte();
+            if (ch == '\n') {
+                break;
+            }
+            if (ch == '\r') {
+                if (buf.isReadable() && buf.getByte(buf.readerIndex()) == '\n') {
+                    buf.skipBytes(1);
+                }
+                break;
+            }
+            sb.append((char) ch);
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public String readUTF() throws IOException {
+        ensureReadable(Short.BYTES);
+        final int length = buf.getUnsignedShort(buf.readerIndex());
+        final int start = buf.readerIndex() + Short.BYTES;
+        if (buf.writerIndex() - start >= length && buf.forEachByte(start, length, IS_ASCII) == -1) {
+            // Fast path: modified UTF-8 of pure ASCII is ASCII, decode directly from the buffer
+            buf.skipBytes(Short.BYTES);
+            return buf.readCharSequence(length, StandardCharsets.US_ASCII).toString();
+        }
+        return DataInputStream.readUTF(this);
+    }
+
+    private void ensureReadable(final int bytes) throws EOFException {
+        if (buf.readableBytes() < bytes) {
+            throw new EOFException("Need " + bytes + " bytes, only " + buf.readableBytes() + " available");
+        }
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.binfmt.netty;
+
+import static java.util.Objects.requireNonNull;
+
+import io.netty.buffer.ByteBuf;
+import java.io.DataOutput;
+import java.io.UTFDataFormatException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A {@link DataOutput} writing directly to a {@link ByteBuf}. Unlike {@link io.netty.buffer.ByteBufOutputStream}, this
+ * class encodes {@link #writeUTF(String)} in place, without going through a temporary byte array.
+ */
+final class ByteBufDataOutput implements DataOutput {
+    private final ByteBuf buf;
+
+    ByteBufDataOutput(final ByteBuf buf) {
+        this.buf = requireNonNull(buf);
+    }
+
+    @Override
+    @SuppressWarnings("checkstyle:parameterName")
+    public void write(final int b) {
+        buf.writeByte(b);
+    }
+
+    @Override
+    @SuppressWarnings("checkstyle:parameterName")
+    public void write(final byte[] b) {
+        buf.writeBytes(b);
+    }
+
+    @Override
+    @SuppressWarnings("checkstyle:parameterName")
+    public void write(final byte[] b, final int off, final int len) {
+        buf.writeBytes(b, off, len);
+    }
+
+    @Override
+    @SuppressWarnings("checkstyle:parameterName")
+    public void writeBoolean(final boolean v) {
+        buf.writeBoolean(v);
+    }
+
+    @Override
+    @SuppressWarnings("checkstyle:parameterName")
+    public void writeByte(final int v) {
+        buf.writeByte(v);
+    }
+
+    @Override
+    @SuppressWarnings("checkstyle:parameterName")
+    public void writeShort(final int v) {
+        buf.writeShort(v);
+    }
+
+    @Override
+    @SuppressWarnings("checkstyle:parameterName")
+    public void writeChar(final int v) {
+        buf.writeChar(v);
+    }
+
+    @Override
+    @SuppressWarnings("checkstyle:parameterName")
+    public void writeInt(final int v) {
+        buf.writeInt(v);
+    }
+
+    @Override
+    @SuppressWarnings("checkstyle:parameterName")
+    public void writeLong(final long v) {
+        buf.writeLong(v);
+    }
+
+    @Override
+    @SuppressWarnings("checkstyle:parameterName")
+    public void writeFloat(final float v) {
+        buf.writeFloat(v);
+    }
+
+    @Override
+    @SuppressWarnings("checkstyle:parameterName")
+    public void writeDouble(final double v) {
+        buf.writeDouble(v);
+    }
+
+    @Override
+    @SuppressWarnings("checkstyle:parameterName")
+    public void writeBytes(final String s) {
+        buf.writeCharSequence(s, StandardCharsets.ISO_8859_1);
+    }
+
+    @Override
+    @SuppressWarnings("checkstyle:parameterName")
+    public void writeChars(final String s) {
+        final int len = s.length();
+        buf.ensureWritable(len * 2);
+        for (int i = 0; i < len; ++i) {
+            buf.writeChar(s.charAt(i));
+        }
+    }
+
+    @Override
+    @SuppressWarnings("checkstyle:parameterName")
+    public void writeUTF(final String s) throws UTFDataFormatException {
+        final int len = s.length();
+        final int start = buf.writerIndex();
+        // Worst case is three bytes per char, reserve that up front unless it is clearly excessive
+        buf.ensureWritable(2 + Math.min(len * 3, 65535));
+        buf.writeShort(0);
+
+        for (int i = 0; i < len; ++i) {
+            final char ch = s.charAt(i);
+            if (ch != 0 && ch < 0x80) {
+                buf.writeByte(ch);
+            } else if (ch < 0x800) {
+                buf.writeByte(0xC0 | ch >> 6 & 0x1F);
+                buf.writeByte(0x80 | ch & 0x3F);
+            } else {
+                buf.writeByte(0xE0 | ch >> 12 & 0x0F);
+                buf.writeByte(0x80 | ch >> 6 & 0x3F);
+                buf.writeByte(0x80 | ch & 0x3F);
+            }
+        }
+
+        final int utflen = buf.writerIndex() - start - 2;
+        if (utflen > 65535) {
+            buf.writerIndex(start);
+            throw new UTFDataFormatException("encoded string too long: " + utflen + " bytes");
+        }
+        buf.setShort(start, utflen);
+    }
+}
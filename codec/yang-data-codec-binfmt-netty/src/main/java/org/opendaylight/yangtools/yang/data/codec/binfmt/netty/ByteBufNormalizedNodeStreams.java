@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.binfmt.netty;
+
+import io.netty.buffer.ByteBuf;
+import java.io.IOException;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.yangtools.yang.data.codec.binfmt.NormalizedNodeDataInput;
+import org.opendaylight.yangtools.yang.data.codec.binfmt.NormalizedNodeDataOutput;
+import org.opendaylight.yangtools.yang.data.codec.binfmt.NormalizedNodeStreamVersion;
+import org.opendaylight.yangtools.yang.data.codec.binfmt.SharedInputDictionary;
+import org.opendaylight.yangtools.yang.data.codec.binfmt.SharedOutputDictionary;
+
+/**
+ * Factory methods for {@link NormalizedNodeDataOutput}s and {@link NormalizedNodeDataInput}s backed directly by a
+ * {@link ByteBuf}. Data is written to the buffer's writer index and read from its reader index, without any
+ * intermediate byte arrays, so that callers can use pooled and direct buffers and hand them to the transport as-is.
+ * Reading from a {@link io.netty.buffer.CompositeByteBuf} does not consolidate its components.
+ *
+ * <p>These methods do not affect the buffers' reference counts.
+ */
+public final class ByteBufNormalizedNodeStreams {
+    private ByteBufNormalizedNodeStreams() {
+        // Hidden on purpose
+    }
+
+    /**
+     * Creates a new {@link NormalizedNodeDataOutput} writing {@link NormalizedNodeStreamVersion#current()} stream to
+     * specified buffer.
+     *
+     * @param buf the buffer to write to
+     * @return a new {@link NormalizedNodeDataOutput}
+     * @throws NullPointerException if {@code buf} is null
+     */
+    public static @NonNull NormalizedNodeDataOutput newDataOutput(final ByteBuf buf) {
+        return newDataOutput(NormalizedNodeStreamVersion.current(), buf);
+    }
+
+    /**
+     * Creates a new {@link NormalizedNodeDataOutput} writing specified stream version to specified buffer.
+     *
+     * @param version the stream version
+     * @param buf the buffer to write to
+     * @return a new {@link NormalizedNodeDataOutput}
+     * @throws NullPointerException if any argument is null
+     * @throws UnsupportedOperationException if {@code version} cannot be written
+     */
+    public static @NonNull NormalizedNodeDataOutput newDataOutput(final NormalizedNodeStreamVersion version,
+            final ByteBuf buf) {
+        return version.newDataOutput(new ByteBufDataOutput(buf));
+    }
+
+    /**
+     * Creates a new {@link NormalizedNodeDataOutput} writing a stream using a {@link SharedOutputDictionary} to
+     * specified buffer.
+     *
+     * @param dictionary the dictionary
+     * @param buf the buffer to write to
+     * @return a new {@link NormalizedNodeDataOutput}
+     * @throws NullPointerException if any argument is null
+     */
+    public static @NonNull NormalizedNodeDataOutput newDataOutput(final SharedOutputDictionary dictionary,
+            final ByteBuf buf) {
+        return dictionary.newDataOutput(new ByteBufDataOutput(buf));
+    }
+
+    /**
+     * Creates a new {@link NormalizedNodeDataInput} reading from specified buffer. This method reads and validates
+     * the stream header.
+     *
+     * @param buf the buffer to read from
+     * @return a new {@link NormalizedNodeDataInput}
+     * @throws IOException if the buffer does not contain a supported stream
+     * @throws NullPointerException if {@code buf} is null
+     */
+    public static @NonNull NormalizedNodeDataInput newDataInput(final ByteBuf buf) throws IOException {
+        return NormalizedNodeDataInput.newDataInput(new ByteBufDataInput(buf));
+    }
+
+    /**
+     * Creates a new {@link NormalizedNodeDataInput} reading from specified buffer using a
+     * {@link SharedInputDictionary}. This method reads and validates the stream header.
+     *
+     * @param dictionary the dictionary
+     * @param buf the buffer to read from
+     * @return a new {@link NormalizedNodeDataInput}
+     * @throws IOException if the buffer does not contain a supported stream
+     * @throws NullPointerException if any argument is null
+     */
+    public static @NonNull NormalizedNodeDataInput newDataInput(final SharedInputDictionary dictionary,
+            final ByteBuf buf) throws IOException {
+        return dictionary.newDataInput(new ByteBufDataInput(buf));
+    }
+}
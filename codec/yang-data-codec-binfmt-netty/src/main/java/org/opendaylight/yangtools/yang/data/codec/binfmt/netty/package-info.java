@@ -0,0 +1,13 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+/**
+ * Adapters for reading and writing NormalizedNode binary streams directly from/to Netty
+ * {@link io.netty.buffer.ByteBuf}s. Entry point is {@link ByteBufNormalizedNodeStreams}.
+ */
+@org.osgi.annotation.bundle.Export
+package org.opendaylight.yangtools.yang.data.codec.binfmt.netty;
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.binfmt.netty;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.google.common.io.ByteStreams;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import java.io.EOFException;
+import java.io.IOException;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.codec.binfmt.NormalizedNodeStreamVersion;
+import org.opendaylight.yangtools.yang.data.codec.binfmt.SharedInputDictionary;
+import org.opendaylight.yangtools.yang.data.codec.binfmt.SharedOutputDictionary;
+import org.opendaylight.yangtools.yang.data.spi.node.ImmutableNodes;
+
+class ByteBufNormalizedNodeStreamsTest {
+    private static final QName FOO = QName.create("urn:foo", "foo");
+    private static final QName ASCII = QName.create(FOO, "ascii");
+    private static final QName UNICODE = QName.create(FOO, "unicode");
+    private static final QName NUL = QName.create(FOO, "nul");
+    private static final QName LONG = QName.create(FOO, "long");
+    private static final ContainerNode DATA = ImmutableNodes.newContainerBuilder()
+        .withNodeIdentifier(new NodeIdentifier(FOO))
+        .withChild(ImmutableNodes.leafNode(ASCII, "plain ascii"))
+        .withChild(ImmutableNodes.leafNode(UNICODE, "žluťoučký kůň 🐎"))
+        .withChild(ImmutableNodes.leafNode(NUL, "a\u0000b"))
+        .withChild(ImmutableNodes.leafNode(LONG, "x".repeat(70_000)))
+        .build();
+
+    @Test
+    void testSameBytesAsDataOutput() throws IOException {
+        final var expected = ByteStreams.newDataOutput();
+        try (var out = NormalizedNodeStreamVersion.current().newDataOutput(expected)) {
+            out.writeNormalizedNode(DATA);
+        }
+
+        final var buf = PooledByteBufAllocator.DEFAULT.directBuffer();
+        try {
+            try (var out = ByteBufNormalizedNodeStreams.newDataOutput(buf)) {
+                out.writeNormalizedNode(DATA);
+            }
+            assertArrayEquals(expected.toByteArray(), ByteBufUtil.getBytes(buf));
+            assertEquals(DATA, ByteBufNormalizedNodeStreams.newDataInput(buf).readNormalizedNode());
+            assertFalse(buf.isReadable());
+        } finally {
+            buf.release();
+        }
+    }
+
+    @Test
+    void testReadComposite() throws IOException {
+        final var buf = Unpooled.buffer();
+        try (var out = ByteBufNormalizedNodeStreams.newDataOutput(buf)) {
+            out.writeNormalizedNode(DATA);
+        }
+
+        // Split the stream into three components
+        final int third = buf.readableBytes() / 3;
+        final var composite = Unpooled.compositeBuffer()
+            .addComponent(true, buf.retainedSlice(0, third))
+            .addComponent(true, buf.retainedSlice(third, third))
+            .addComponent(true, buf.retainedSlice(2 * third, buf.readableBytes() - 2 * third));
+        buf.release();
+        try {
+            assertEquals(DATA, ByteBufNormalizedNodeStreams.newDataInput(composite).readNormalizedNode());
+        } finally {
+            composite.release();
+        }
+    }
+
+    @Test
+    void testSharedDictionary() throws IOException {
+        final var outDict = new SharedOutputDictionary();
+        final var inDict = new SharedInputDictionary();
+        final var buf = Unpooled.buffer();
+        for (int i = 0; i < 3; ++i) {
+            try (var out = ByteBufNormalizedNodeStreams.newDataOutput(outDict, buf)) {
+                out.writeNormalizedNode(DATA);
+            }
+            assertEquals(DATA, ByteBufNormalizedNodeStreams.newDataInput(inDict, buf).readNormalizedNode());
+            buf.clear();
+        }
+    }
+
+    @Test
+    void testTruncated() throws IOException {
+        final var buf = Unpooled.buffer();
+        try (var out = ByteBufNormalizedNodeStreams.newDataOutput(buf)) {
+            out.writeNormalizedNode(DATA);
+        }
+        buf.writerIndex(buf.writerIndex() - 10);
+
+        final var in = ByteBufNormalizedNodeStreams.newDataInput(buf);
+        assertThrows(EOFException.class, in::readNormalizedNode);
+    }
+}
@@ -47,6 +47,7 @@ abstract class AbstractNormalizedNodeDataOutput implements NormalizedNodeDataOut
         if (!headerWritten) {
             output.writeByte(TokenTypes.SIGNATURE_MARKER);
             output.writeShort(streamVersion());
+            writeHeaderFields();
             headerWritten = true;
         }
     }
@@ -194,6 +195,15 @@ abstract class AbstractNormalizedNodeDataOutput implements NormalizedNodeDataOut
 
     abstract short streamVersion();
 
+    /**
+     * Write any version-specific fields following the stream version. Default implementation does nothing.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    void writeHeaderFields() throws IOException {
+        // No-op by default
+    }
+
     abstract void writeQNameInternal(@NonNull QName qname) throws IOException;
 
     abstract void writePathArgumentInternal(PathArgument pathArgument) throws IOException;
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.binfmt;
+
+import java.util.List;
+import java.util.TreeSet;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.QNameModule;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.api.stmt.SchemaTreeAwareEffectiveStatement;
+
+/**
+ * Initial contents of shared dictionaries, derived from an {@link EffectiveModelContext}. Both modules and QNames are
+ * sorted, so that two parties with equivalent models arrive at the same dictionary regardless of the order in which
+ * their models were assembled.
+ */
+@NonNullByDefault
+record DictionarySeed(List<QNameModule> modules, List<QName> qnames) {
+    static DictionarySeed of(final EffectiveModelContext modelContext) {
+        final var moduleStatements = modelContext.getModuleStatements();
+        final var qnames = new TreeSet<QName>();
+        for (var module : moduleStatements.values()) {
+            collectQNames(qnames, module);
+        }
+        return new DictionarySeed(List.copyOf(new TreeSet<>(moduleStatements.keySet())), List.copyOf(qnames));
+    }
+
+    private static void collectQNames(final TreeSet<QName> qnames, final SchemaTreeAwareEffectiveStatement<?, ?> stmt) {
+        for (var child : stmt.schemaTreeNodes()) {
+            qnames.add(child.argument());
+            if (child instanceof SchemaTreeAwareEffectiveStatement<?, ?> aware) {
+                collectQNames(qnames, aware);
+            }
+        }
+    }
+}
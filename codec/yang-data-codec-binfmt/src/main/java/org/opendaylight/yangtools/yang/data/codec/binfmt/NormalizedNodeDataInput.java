@@ -126,6 +126,7 @@ public interface NormalizedNodeDataInput extends QNameAwareDataInput {
         final short version = input.readShort();
         return switch (version) {
             case TokenTypes.POTASSIUM_VERSION -> new PotassiumDataInput(input);
+            case TokenTypes.CALCIUM_VERSION -> new SharedInputDictionary().newCalciumInput(input);
             default -> throw new InvalidNormalizedNodeStreamException("Unhandled stream version " + version);
         };
     }
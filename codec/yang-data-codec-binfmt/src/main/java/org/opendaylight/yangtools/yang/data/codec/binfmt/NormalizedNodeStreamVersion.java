@@ -45,6 +45,17 @@ public enum NormalizedNodeStreamVersion {
         public NormalizedNodeDataOutput newDataOutput(final DataOutput output) {
             return new PotassiumDataOutput(output);
         }
+    },
+    /**
+     * First shipping is Calcium. Uses the same encoding as {@link #POTASSIUM}, but allows dictionaries to be shared
+     * across streams through {@link SharedOutputDictionary} and {@link SharedInputDictionary}. Streams created through
+     * {@link #newDataOutput(DataOutput)} use a fresh dictionary and can be read without a shared dictionary.
+     */
+    CALCIUM {
+        @Override
+        public NormalizedNodeDataOutput newDataOutput(final DataOutput output) {
+            return new SharedOutputDictionary().newDataOutput(output);
+        }
     };
 
     /**
@@ -59,17 +59,31 @@ final class PotassiumDataInput extends AbstractNormalizedNodeDataInput {
     private static final @NonNull Long INT64_0 = 0L;
     private static final byte @NonNull[] BINARY_0 = new byte[0];
 
-    private final List<NodeIdentifier> codedNodeIdentifiers = new ArrayList<>();
-    private final List<QNameModule> codedModules = new ArrayList<>();
-    private final List<String> codedStrings = new ArrayList<>();
+    // Coding tables, potentially shared with other streams
+    private final List<NodeIdentifier> codedNodeIdentifiers;
+    private final List<QNameModule> codedModules;
+    private final List<String> codedStrings;
+    private final @NonNull NormalizedNodeStreamVersion version;
 
     PotassiumDataInput(final DataInput input) {
         super(input);
+        codedNodeIdentifiers = new ArrayList<>();
+        codedModules = new ArrayList<>();
+        codedStrings = new ArrayList<>();
+        version = NormalizedNodeStreamVersion.POTASSIUM;
+    }
+
+    PotassiumDataInput(final DataInput input, final SharedInputDictionary dictionary) {
+        super(input);
+        codedNodeIdentifiers = dictionary.codedNodeIdentifiers;
+        codedModules = dictionary.codedModules;
+        codedStrings = dictionary.codedStrings;
+        version = NormalizedNodeStreamVersion.CALCIUM;
     }
 
     @Override
     public NormalizedNodeStreamVersion getVersion() {
-        return NormalizedNodeStreamVersion.POTASSIUM;
+        return version;
     }
 
     @Override
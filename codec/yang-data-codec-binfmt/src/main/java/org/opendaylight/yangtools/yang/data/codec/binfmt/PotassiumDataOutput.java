@@ -64,13 +64,26 @@ final class PotassiumDataOutput extends AbstractNormalizedNodeDataOutput {
      */
     private final Deque<Object> stack = new ArrayDeque<>();
 
-    // Coding maps
-    private final Map<QNameModule, Integer> moduleCodeMap = new HashMap<>();
-    private final Map<String, Integer> stringCodeMap = new HashMap<>();
-    private final Map<QName, Integer> qnameCodeMap = new HashMap<>();
+    // Coding maps, potentially shared with other streams
+    private final Map<QNameModule, Integer> moduleCodeMap;
+    private final Map<String, Integer> stringCodeMap;
+    private final Map<QName, Integer> qnameCodeMap;
+    private final boolean shared;
 
     PotassiumDataOutput(final DataOutput output) {
         super(output);
+        moduleCodeMap = new HashMap<>();
+        stringCodeMap = new HashMap<>();
+        qnameCodeMap = new HashMap<>();
+        shared = false;
+    }
+
+    PotassiumDataOutput(final DataOutput output, final SharedOutputDictionary dictionary) {
+        super(output);
+        moduleCodeMap = dictionary.moduleCodeMap;
+        stringCodeMap = dictionary.stringCodeMap;
+        qnameCodeMap = dictionary.qnameCodeMap;
+        shared = true;
     }
 
     @Override
@@ -195,7 +208,16 @@ final class PotassiumDataOutput extends AbstractNormalizedNodeDataOutput {
 
     @Override
     short streamVersion() {
-        return TokenTypes.POTASSIUM_VERSION;
+        return shared ? TokenTypes.CALCIUM_VERSION : TokenTypes.POTASSIUM_VERSION;
+    }
+
+    @Override
+    void writeHeaderFields() throws IOException {
+        if (shared) {
+            WritableObjects.writeLong(output, qnameCodeMap.size());
+            WritableObjects.writeLong(output, moduleCodeMap.size());
+            WritableObjects.writeLong(output, stringCodeMap.size());
+        }
     }
 
     @Override
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.binfmt;
+
+import com.google.common.annotations.Beta;
+import com.google.common.base.MoreObjects;
+import java.io.DataInput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.yangtools.concepts.WritableObjects;
+import org.opendaylight.yangtools.yang.common.QNameModule;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+
+/**
+ * Reader side of {@link NormalizedNodeStreamVersion#CALCIUM} dictionaries, which persist across streams. See
+ * {@link SharedOutputDictionary} for details.
+ *
+ * <p>This class is not thread-safe and only one stream may be read at any given time.
+ */
+@Beta
+public final class SharedInputDictionary {
+    final List<NodeIdentifier> codedNodeIdentifiers = new ArrayList<>();
+    final List<QNameModule> codedModules = new ArrayList<>();
+    final List<String> codedStrings = new ArrayList<>();
+
+    /**
+     * Create a new empty dictionary.
+     */
+    public SharedInputDictionary() {
+        // Nothing else
+    }
+
+    /**
+     * Create a new dictionary seeded with all modules and schema tree QNames in an {@link EffectiveModelContext}.
+     *
+     * @param modelContext the model context
+     */
+    public SharedInputDictionary(final EffectiveModelContext modelContext) {
+        final var seed = DictionarySeed.of(modelContext);
+        codedModules.addAll(seed.modules());
+        for (var qname : seed.qnames()) {
+            codedNodeIdentifiers.add(NodeIdentifier.create(qname));
+        }
+    }
+
+    /**
+     * Creates a new {@link NormalizedNodeDataInput} instance that reads from the given input using this dictionary.
+     * This method first reads and validates that the input contains a valid NormalizedNode stream. Streams written in
+     * {@link NormalizedNodeStreamVersion#POTASSIUM} are accepted as well, but do not interact with this dictionary.
+     *
+     * @param input the DataInput to read from
+     * @return a new {@link NormalizedNodeDataInput} instance
+     * @throws InvalidNormalizedNodeStreamException if the stream version is not supported or the stream does not
+     *                                              match this dictionary
+     * @throws IOException if an error occurs reading from the input
+     * @throws NullPointerException if {@code input} is {@code null}
+     */
+    public @NonNull NormalizedNodeDataInput newDataInput(final @NonNull DataInput input) throws IOException {
+        final byte marker = input.readByte();
+        if (marker != TokenTypes.SIGNATURE_MARKER) {
+            throw new InvalidNormalizedNodeStreamException("Invalid signature marker: " + marker);
+        }
+
+        final short version = input.readShort();
+        return switch (version) {
+            case TokenTypes.POTASSIUM_VERSION -> new PotassiumDataInput(input);
+            case TokenTypes.CALCIUM_VERSION -> newCalciumInput(input);
+            default -> throw new InvalidNormalizedNodeStreamException("Unhandled stream version " + version);
+        };
+    }
+
+    @NonNull PotassiumDataInput newCalciumInput(final DataInput input) throws IOException {
+        final long qnames = WritableObjects.readLong(input);
+        final long modules = WritableObjects.readLong(input);
+        final long strings = WritableObjects.readLong(input);
+        if (qnames != codedNodeIdentifiers.size() || modules != codedModules.size()
+            || strings != codedStrings.size()) {
+            throw new InvalidNormalizedNodeStreamException("Stream requires dictionary with " + qnames + " QNames, "
+                + modules + " modules and " + strings + " strings, have " + this);
+        }
+        return new PotassiumDataInput(input, this);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+            .add("qnames", codedNodeIdentifiers.size())
+            .add("modules", codedModules.size())
+            .add("strings", codedStrings.size())
+            .toString();
+    }
+}
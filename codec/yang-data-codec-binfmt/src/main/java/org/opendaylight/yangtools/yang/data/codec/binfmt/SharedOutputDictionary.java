@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.binfmt;
+
+import com.google.common.annotations.Beta;
+import com.google.common.base.MoreObjects;
+import java.io.DataOutput;
+import java.util.HashMap;
+import java.util.Map;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.QNameModule;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+
+/**
+ * Writer side of {@link NormalizedNodeStreamVersion#CALCIUM} dictionaries, which persist across streams. All QNames,
+ * QNameModules and Strings defined in a stream created by {@link #newDataOutput(DataOutput)} are available as
+ * back-references in all subsequent streams, so that a long-lived connection transmits each of them only once.
+ *
+ * <p>The reading side needs to use a {@link SharedInputDictionary} in the same initial state, i.e. created from an
+ * equivalent {@link EffectiveModelContext}, and it needs to read all streams written with this dictionary, in order.
+ * Each stream records the dictionary sizes at its start, so that a reader falling out of sync is detected. Once a
+ * stream fails, both dictionaries need to be discarded.
+ *
+ * <p>This class is not thread-safe and only one stream may be written at any given time.
+ */
+@Beta
+public final class SharedOutputDictionary {
+    final Map<QNameModule, Integer> moduleCodeMap = new HashMap<>();
+    final Map<String, Integer> stringCodeMap = new HashMap<>();
+    final Map<QName, Integer> qnameCodeMap = new HashMap<>();
+
+    /**
+     * Create a new empty dictionary.
+     */
+    public SharedOutputDictionary() {
+        // Nothing else
+    }
+
+    /**
+     * Create a new dictionary seeded with all modules and schema tree QNames in an {@link EffectiveModelContext}.
+     *
+     * @param modelContext the model context
+     */
+    public SharedOutputDictionary(final EffectiveModelContext modelContext) {
+        final var seed = DictionarySeed.of(modelContext);
+        for (var module : seed.modules()) {
+            moduleCodeMap.put(module, moduleCodeMap.size());
+        }
+        for (var qname : seed.qnames()) {
+            qnameCodeMap.put(qname, qnameCodeMap.size());
+        }
+    }
+
+    /**
+     * Creates a new {@link NormalizedNodeDataOutput} instance that writes to the given output using this dictionary.
+     *
+     * @param output the DataOutput to write to
+     * @return a new {@link NormalizedNodeDataOutput} instance
+     * @throws NullPointerException if {@code output} is null
+     */
+    public @NonNull NormalizedNodeDataOutput newDataOutput(final @NonNull DataOutput output) {
+        return new PotassiumDataOutput(output, this);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+            .add("qnames", qnameCodeMap.size())
+            .add("modules", moduleCodeMap.size())
+            .add("strings", stringCodeMap.size())
+            .toString();
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.binfmt;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.tree.spi.SubtreeCodec;
+
+/**
+ * A {@link SubtreeCodec} using a particular {@link NormalizedNodeStreamVersion}. Reading supports all versions
+ * recognized by {@link NormalizedNodeDataInput#newDataInput(DataInput)}.
+ */
+@NonNullByDefault
+public final class StreamSubtreeCodec implements SubtreeCodec {
+    private final NormalizedNodeStreamVersion version;
+
+    /**
+     * Default constructor, using {@link NormalizedNodeStreamVersion#current()}.
+     */
+    public StreamSubtreeCodec() {
+        this(NormalizedNodeStreamVersion.current());
+    }
+
+    /**
+     * Construct a codec writing specified version.
+     *
+     * @param version stream version to write
+     */
+    public StreamSubtreeCodec(final NormalizedNodeStreamVersion version) {
+        this.version = requireNonNull(version);
+    }
+
+    @Override
+    public void writeSubtree(final DataOutput output, final NormalizedNode node) throws IOException {
+        try (var out = version.newDataOutput(output)) {
+            out.writeNormalizedNode(node);
+        }
+    }
+
+    @Override
+    public NormalizedNode readSubtree(final DataInput input) throws IOException {
+        return NormalizedNodeDataInput.newDataInput(input).readNormalizedNode();
+    }
+}
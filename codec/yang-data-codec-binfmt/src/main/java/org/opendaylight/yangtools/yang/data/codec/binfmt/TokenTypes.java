@@ -28,6 +28,12 @@ final class TokenTypes {
      * and AugmentationIdentifiers are not preserved.
      */
     static final short POTASSIUM_VERSION = 5;
+    /**
+     * Calcium version. Uses the same encoding as {@link #POTASSIUM_VERSION}, but its dictionaries can outlive a single
+     * stream. The header is followed by the sizes of the QName, QNameModule and String dictionaries at the start of the
+     * stream, so that the reader can verify it is in sync with the writer.
+     */
+    static final short CALCIUM_VERSION = 6;
 
     private TokenTypes() {
         // Utility class
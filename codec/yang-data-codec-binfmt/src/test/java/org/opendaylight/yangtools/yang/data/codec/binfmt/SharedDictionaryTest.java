@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.binfmt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.common.io.ByteStreams;
+import java.io.IOException;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.spi.node.ImmutableNodes;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
+
+class SharedDictionaryTest {
+    private static final QName FOO = QName.create("urn:shared", "foo");
+    private static final QName ENTRY = QName.create(FOO, "entry");
+    private static final QName NAME = QName.create(FOO, "name");
+    private static final QName VALUE = QName.create(FOO, "value");
+
+    private static EffectiveModelContext modelContext;
+
+    @BeforeAll
+    static void beforeAll() {
+        modelContext = YangParserTestUtils.parseYang("""
+            module shared {
+              namespace "urn:shared";
+              prefix s;
+              container foo {
+                list entry {
+                  key name;
+                  leaf name {
+                    type string;
+                  }
+                  leaf value {
+                    type string;
+                  }
+                }
+              }
+            }""");
+    }
+
+    @Test
+    void testSharedAcrossStreams() throws IOException {
+        final var output = new SharedOutputDictionary();
+        final var input = new SharedInputDictionary();
+
+        final var first = write(output, container("one"));
+        final var second = write(output, container("two"));
+        assertTrue(second.length < first.length, "Second stream should be smaller");
+
+        assertEquals(container("one"), read(input, first));
+        assertEquals(container("two"), read(input, second));
+    }
+
+    @Test
+    void testSeeded() throws IOException {
+        final var plain = ByteStreams.newDataOutput();
+        try (var out = NormalizedNodeStreamVersion.POTASSIUM.newDataOutput(plain)) {
+            out.writeNormalizedNode(container("one"));
+        }
+
+        final var seeded = write(new SharedOutputDictionary(modelContext), container("one"));
+        assertTrue(seeded.length < plain.toByteArray().length, "Seeded stream should be smaller");
+        assertEquals(container("one"), read(new SharedInputDictionary(modelContext), seeded));
+    }
+
+    @Test
+    void testOutOfSync() throws IOException {
+        final var output = new SharedOutputDictionary();
+        write(output, container("one"));
+        final var second = write(output, container("two"));
+
+        final var ex = assertThrows(InvalidNormalizedNodeStreamException.class,
+            () -> read(new SharedInputDictionary(), second));
+        assertTrue(ex.getMessage().startsWith("Stream requires dictionary with "));
+    }
+
+    @Test
+    void testCalciumWithoutDictionary() throws IOException {
+        final var bytes = ByteStreams.newDataOutput();
+        try (var out = NormalizedNodeStreamVersion.CALCIUM.newDataOutput(bytes)) {
+            out.writeNormalizedNode(container("one"));
+        }
+
+        final var in = NormalizedNodeDataInput.newDataInput(ByteStreams.newDataInput(bytes.toByteArray()));
+        assertEquals(NormalizedNodeStreamVersion.CALCIUM, in.getVersion());
+        assertEquals(container("one"), in.readNormalizedNode());
+    }
+
+    @Test
+    void testPotassiumWithDictionary() throws IOException {
+        final var bytes = ByteStreams.newDataOutput();
+        try (var out = NormalizedNodeStreamVersion.POTASSIUM.newDataOutput(bytes)) {
+            out.writeNormalizedNode(container("one"));
+        }
+
+        final var input = new SharedInputDictionary();
+        final var in = input.newDataInput(ByteStreams.newDataInput(bytes.toByteArray()));
+        assertEquals(NormalizedNodeStreamVersion.POTASSIUM, in.getVersion());
+        assertEquals(container("one"), in.readNormalizedNode());
+        assertEquals("SharedInputDictionary{qnames=0, modules=0, strings=0}", input.toString());
+    }
+
+    private static byte[] write(final SharedOutputDictionary dictionary, final NormalizedNode node)
+            throws IOException {
+        final var bytes = ByteStreams.newDataOutput();
+        try (var out = dictionary.newDataOutput(bytes)) {
+            out.writeNormalizedNode(node);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static NormalizedNode read(final SharedInputDictionary dictionary, final byte[] bytes)
+            throws IOException {
+        return dictionary.newDataInput(ByteStreams.newDataInput(bytes)).readNormalizedNode();
+    }
+
+    private static ContainerNode container(final String name) {
+        return ImmutableNodes.newContainerBuilder()
+            .withNodeIdentifier(new NodeIdentifier(FOO))
+            .withChild(ImmutableNodes.newSystemMapBuilder()
+                .withNodeIdentifier(new NodeIdentifier(ENTRY))
+                .withChild(ImmutableNodes.newMapEntryBuilder()
+                    .withNodeIdentifier(NodeIdentifierWithPredicates.of(ENTRY, NAME, name))
+                    .withChild(ImmutableNodes.leafNode(NAME, name))
+                    .withChild(ImmutableNodes.leafNode(VALUE, "value"))
+                    .build())
+                .build())
+            .build();
+    }
+}
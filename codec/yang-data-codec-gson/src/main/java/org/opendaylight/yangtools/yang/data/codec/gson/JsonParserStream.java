@@ -13,6 +13,7 @@ import com.google.gson.JsonIOException;
 import com.google.gson.JsonParseException;
 import com.google.gson.JsonSyntaxException;
 import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import com.google.gson.stream.MalformedJsonException;
 import java.io.Closeable;
 import java.io.EOFException;
@@ -20,14 +21,22 @@ import java.io.Flushable;
 import java.io.IOException;
 import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Deque;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map.Entry;
 import java.util.Set;
 import javax.xml.transform.dom.DOMSource;
 import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.util.ImmutableMapTemplate;
 import org.opendaylight.yangtools.util.xml.UntrustedXML;
+import org.opendaylight.yangtools.yang.common.QName;
 import org.opendaylight.yangtools.yang.common.XMLNamespace;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeWithValue;
 import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter;
 import org.opendaylight.yangtools.yang.data.util.AbstractNodeDataWithSchema;
 import org.opendaylight.yangtools.yang.data.util.AnyXmlNodeDataWithSchema;
@@ -40,9 +49,13 @@ import org.opendaylight.yangtools.yang.data.util.MultipleEntryDataWithSchema;
 import org.opendaylight.yangtools.yang.data.util.ParserStreamUtils;
 import org.opendaylight.yangtools.yang.data.util.SimpleNodeDataWithSchema;
 import org.opendaylight.yangtools.yang.model.api.ChoiceSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.ContainerLike;
 import org.opendaylight.yangtools.yang.model.api.DataNodeContainer;
 import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.EffectiveStatementInference;
+import org.opendaylight.yangtools.yang.model.api.LeafListSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.LeafSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.ListSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.TypedDataSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.meta.DataSchemaCompat;
 import org.opendaylight.yangtools.yang.model.util.SchemaInferenceStack;
@@ -162,6 +175,30 @@ public final class JsonParserStream implements Closeable, Flushable {
     }
 
     public JsonParserStream parse(final JsonReader reader) {
+        return parse(reader, false);
+    }
+
+    /**
+     * Parse a JSON document and emit it to the backing {@link NormalizedNodeStreamWriter} as soon as schema ordering
+     * permits. Unlike {@link #parse(JsonReader)}, this method does not build an intermediate representation of the
+     * document, so that its memory footprint is proportional to nesting depth rather than to document size.
+     *
+     * <p>The only data buffered are keyed list entries whose key leaves do not precede all other members. Such an
+     * entry is held in memory until it is complete, as its {@code NodeIdentifierWithPredicates} needs to be known
+     * before any of its children can be emitted.
+     *
+     * <p>Members belonging to a particular {@code choice} are required to be contiguous in their enclosing object,
+     * which is always the case for documents produced by {@link JSONNormalizedNodeStreamWriter}. Documents which
+     * interleave them with other members are rejected and need to be parsed with {@link #parse(JsonReader)}.
+     *
+     * @param reader JsonReader to read from
+     * @return This parser
+     */
+    public JsonParserStream parseStreaming(final JsonReader reader) {
+        return parse(reader, true);
+    }
+
+    private JsonParserStream parse(final JsonReader reader, final boolean streaming) {
         // code copied from gson's JsonParser and Stream classes
 
         final boolean readerLenient = reader.isLenient();
@@ -170,6 +207,13 @@ public final class JsonParserStream implements Closeable, Flushable {
         try {
             reader.peek();
             isEmpty = false;
+            if (streaming && reader.peek() == JsonToken.BEGIN_OBJECT) {
+                reader.beginObject();
+                streamMembers(reader, parentNode, new HashSet<>());
+                reader.endObject();
+                return this;
+            }
+
             // FIXME: this has a special-case bypass for SchemaContext, where we end up emitting just the child while
             //        the usual of() would result in SchemaContext.NAME being the root
             final var compositeNodeDataWithSchema = new CompositeNodeDataWithSchema<>(parentNode);
@@ -283,40 +327,12 @@ public final class JsonParserStream implements Closeable, Flushable {
                 }
                 while (in.hasNext()) {
                     final var jsonElementName = in.nextName();
-                    final var parentSchema = parent.getSchema();
-                    final var namespaceAndName = resolveNamespace(jsonElementName, parentSchema);
-                    final var localName = namespaceAndName.getKey();
-                    final var namespace = namespaceAndName.getValue();
-                    if (lenient && (localName == null || namespace == null)) {
-                        LOG.debug("Schema node with name {} was not found under {}", localName,
-                            parentSchema.getQName());
-                        in.skipValue();
-                        continue;
-                    }
-                    addNamespace(namespace);
-                    if (!namesakes.add(jsonElementName)) {
-                        throw new JsonSyntaxException("Duplicate name " + jsonElementName + " in JSON input.");
+                    final var childDataSchemaNodes = findMemberSchemas(in, jsonElementName, parent.getSchema(),
+                        namesakes);
+                    if (childDataSchemaNodes != null) {
+                        readMember(in, parent, jsonElementName, childDataSchemaNodes);
+                        removeNamespace();
                     }
-
-                    final var childDataSchemaNodes = ParserStreamUtils.findSchemaNodeByNameAndNamespace(parentSchema,
-                        localName, getCurrentNamespace());
-                    if (childDataSchemaNodes.isEmpty()) {
-                        throw new IllegalStateException(
-                            "Schema for node with name %s and namespace %s does not exist at %s".formatted(
-                                localName, getCurrentNamespace(), parentSchema));
-                    }
-
-                    final var qname = childDataSchemaNodes.peekLast().getQName();
-                    final var newChild = ((CompositeNodeDataWithSchema<?>) parent)
-                            .addChild(childDataSchemaNodes, ChildReusePolicy.NOOP);
-                    if (newChild instanceof AnyXmlNodeDataWithSchema anyxml) {
-                        readAnyXmlValue(in, anyxml, jsonElementName);
-                    } else {
-                        stack.enterDataTree(qname);
-                        read(in, newChild);
-                        stack.exit();
-                    }
-                    removeNamespace();
                 }
                 in.endObject();
                 return;
@@ -325,6 +341,329 @@ public final class JsonParserStream implements Closeable, Flushable {
         }
     }
 
+    /**
+     * Resolve the schema of a JSON object member. If the member is resolved, its namespace is pushed and needs to be
+     * popped by the caller once the member's value has been processed.
+     *
+     * @return schema nodes leading to the member, or {@code null} if the member has been skipped
+     */
+    private @Nullable Deque<DataSchemaNode> findMemberSchemas(final JsonReader in, final String jsonElementName,
+            final DataSchemaNode parentSchema, final Set<String> namesakes) throws IOException {
+        final var namespaceAndName = resolveNamespace(jsonElementName, parentSchema);
+        final var localName = namespaceAndName.getKey();
+        final var namespace = namespaceAndName.getValue();
+        if (lenient && (localName == null || namespace == null)) {
+            LOG.debug("Schema node with name {} was not found under {}", localName, parentSchema.getQName());
+            in.skipValue();
+            return null;
+        }
+        addNamespace(namespace);
+        if (!namesakes.add(jsonElementName)) {
+            throw new JsonSyntaxException("Duplicate name " + jsonElementName + " in JSON input.");
+        }
+
+        final var childDataSchemaNodes = ParserStreamUtils.findSchemaNodeByNameAndNamespace(parentSchema, localName,
+            getCurrentNamespace());
+        if (childDataSchemaNodes.isEmpty()) {
+            throw new IllegalStateException("Schema for node with name %s and namespace %s does not exist at %s"
+                .formatted(localName, getCurrentNamespace(), parentSchema));
+        }
+        return childDataSchemaNodes;
+    }
+
+    private void readMember(final JsonReader in, final AbstractNodeDataWithSchema<?> parent,
+            final String jsonElementName, final Deque<DataSchemaNode> childDataSchemaNodes) throws IOException {
+        final var qname = childDataSchemaNodes.peekLast().getQName();
+        final var newChild = ((CompositeNodeDataWithSchema<?>) parent)
+                .addChild(childDataSchemaNodes, ChildReusePolicy.NOOP);
+        if (newChild instanceof AnyXmlNodeDataWithSchema anyxml) {
+            readAnyXmlValue(in, anyxml, jsonElementName);
+        } else {
+            stack.enterDataTree(qname);
+            read(in, newChild);
+            stack.exit();
+        }
+    }
+
+    /**
+     * Stream members of a JSON object, whose opening brace has already been consumed, until its end. Choices are
+     * opened and closed as their members are encountered.
+     */
+    private void streamMembers(final JsonReader in, final DataSchemaNode parentSchema, final Set<String> namesakes)
+            throws IOException {
+        final var openChoices = new ArrayList<DataSchemaNode>();
+        final var closedChoices = new HashSet<DataSchemaNode>();
+        while (in.hasNext()) {
+            final var jsonElementName = in.nextName();
+            final var childDataSchemaNodes = findMemberSchemas(in, jsonElementName, parentSchema, namesakes);
+            if (childDataSchemaNodes != null) {
+                final var schema = childDataSchemaNodes.removeLast();
+                enterChoices(childDataSchemaNodes, openChoices, closedChoices);
+                streamMember(in, jsonElementName, schema);
+                removeNamespace();
+            }
+        }
+        exitChoices(openChoices, closedChoices, 0);
+    }
+
+    private void enterChoices(final Deque<DataSchemaNode> path, final List<DataSchemaNode> openChoices,
+            final Set<DataSchemaNode> closedChoices) throws IOException {
+        // Both path and openChoices are sequences of choice/case pairs: find the common prefix first
+        final var it = path.iterator();
+        int common = 0;
+        while (it.hasNext() && common < openChoices.size()) {
+            final var choice = it.next();
+            final var caze = it.next();
+            if (!choice.equals(openChoices.get(common))) {
+                break;
+            }
+            final var openCase = openChoices.get(common + 1);
+            if (!caze.equals(openCase)) {
+                throw new IllegalArgumentException(("Data from case %s are specified but other data from case %s were"
+                    + " specified earlier. Data aren't from the same case.").formatted(caze.getQName(),
+                        openCase.getQName()));
+            }
+            common += 2;
+        }
+        exitChoices(openChoices, closedChoices, common);
+
+        final var remaining = path.stream().skip(common).iterator();
+        while (remaining.hasNext()) {
+            final var choice = remaining.next();
+            if (closedChoices.contains(choice)) {
+                throw new IllegalArgumentException("Data from choice " + choice.getQName()
+                    + " are not contiguous, which is not supported when streaming");
+            }
+            writer.nextDataSchemaNode(choice);
+            writer.startChoiceNode(NodeIdentifier.create(choice.getQName()), NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+            openChoices.add(choice);
+            openChoices.add(remaining.next());
+        }
+    }
+
+    private void exitChoices(final List<DataSchemaNode> openChoices, final Set<DataSchemaNode> closedChoices,
+            final int depth) throws IOException {
+        while (openChoices.size() > depth) {
+            openChoices.removeLast();
+            closedChoices.add(openChoices.removeLast());
+            writer.endNode();
+        }
+    }
+
+    private void streamMember(final JsonReader in, final String jsonElementName, final DataSchemaNode schema)
+            throws IOException {
+        final var token = in.peek();
+        switch (schema) {
+            case LeafSchemaNode leaf when isScalar(token) -> {
+                final var value = nextValue(in, leaf);
+                writer.nextDataSchemaNode(leaf);
+                writer.startLeafNode(NodeIdentifier.create(leaf.getQName()));
+                writer.scalarValue(value);
+                writer.endNode();
+            }
+            case LeafListSchemaNode leafList when token == JsonToken.BEGIN_ARRAY -> {
+                stack.enterDataTree(leafList.getQName());
+                writer.nextDataSchemaNode(leafList);
+                final var id = NodeIdentifier.create(leafList.getQName());
+                if (leafList.isUserOrdered()) {
+                    writer.startOrderedLeafSet(id, NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+                } else {
+                    writer.startLeafSet(id, NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+                }
+                in.beginArray();
+                while (in.hasNext()) {
+                    streamLeafSetEntry(in, leafList);
+                }
+                in.endArray();
+                writer.endNode();
+                stack.exit();
+            }
+            case ContainerLike container when token == JsonToken.BEGIN_OBJECT -> {
+                stack.enterDataTree(container.getQName());
+                writer.nextDataSchemaNode(container);
+                writer.startContainerNode(NodeIdentifier.create(container.getQName()),
+                    NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+                in.beginObject();
+                streamMembers(in, container, new HashSet<>());
+                in.endObject();
+                writer.endNode();
+                stack.exit();
+            }
+            case ListSchemaNode list when token == JsonToken.BEGIN_ARRAY || token == JsonToken.BEGIN_OBJECT -> {
+                stack.enterDataTree(list.getQName());
+                writer.nextDataSchemaNode(list);
+                final var id = NodeIdentifier.create(list.getQName());
+                final var keyDef = list.getKeyDefinition();
+                if (keyDef.isEmpty()) {
+                    writer.startUnkeyedList(id, NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+                } else if (list.isUserOrdered()) {
+                    writer.startOrderedMapNode(id, NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+                } else {
+                    writer.startMapNode(id, NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+                }
+
+                final var template = keyDef.isEmpty() ? null : ImmutableMapTemplate.ordered(keyDef);
+                if (token == JsonToken.BEGIN_ARRAY) {
+                    in.beginArray();
+                    while (in.hasNext()) {
+                        streamListEntry(in, list, template);
+                    }
+                    in.endArray();
+                } else {
+                    // Single list entry without the wrapping array, as accepted by read()
+                    streamListEntry(in, list, template);
+                }
+                writer.endNode();
+                stack.exit();
+            }
+            default -> {
+                // Anything else is small and/or needs the full semantics of read(): buffer just this member
+                final var buffer = new CompositeNodeDataWithSchema<>(schema);
+                readMember(in, buffer, jsonElementName, new ArrayDeque<>(List.of(schema)));
+                buffer.write(writer);
+            }
+        }
+    }
+
+    private void streamLeafSetEntry(final JsonReader in, final LeafListSchemaNode schema) throws IOException {
+        if (isScalar(in.peek())) {
+            final var value = translateValueByType(nextScalar(in), schema);
+            writer.nextDataSchemaNode(schema);
+            writer.startLeafSetEntryNode(new NodeWithValue<>(schema.getQName(), value));
+            writer.scalarValue(value);
+            writer.endNode();
+        } else {
+            final var entry = ((LeafListNodeDataWithSchema) CompositeNodeDataWithSchema.of(schema)).newChildEntry();
+            read(in, entry);
+            entry.write(writer);
+        }
+    }
+
+    private void streamListEntry(final JsonReader in, final ListSchemaNode schema,
+            final @Nullable ImmutableMapTemplate<QName> template) throws IOException {
+        if (in.peek() != JsonToken.BEGIN_OBJECT) {
+            // Not an object: let read() deal with it
+            final var entry = ((ListNodeDataWithSchema) CompositeNodeDataWithSchema.of(schema)).newChildEntry();
+            read(in, entry);
+            entry.write(writer);
+            return;
+        }
+
+        final var namesakes = new HashSet<String>();
+        in.beginObject();
+        if (template == null) {
+            writer.nextDataSchemaNode(schema);
+            writer.startUnkeyedListItem(NodeIdentifier.create(schema.getQName()),
+                NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+            streamMembers(in, schema, namesakes);
+            in.endObject();
+            writer.endNode();
+            return;
+        }
+
+        // Collect key leaves for as long as they lead the object
+        final var keyDef = schema.getKeyDefinition();
+        final var keyLeaves = new LeafSchemaNode[keyDef.size()];
+        final var keyValues = new Object[keyLeaves.length];
+        int missing = keyLeaves.length;
+        while (missing != 0 && in.hasNext()) {
+            final var jsonElementName = in.nextName();
+            final var childDataSchemaNodes = findMemberSchemas(in, jsonElementName, schema, namesakes);
+            if (childDataSchemaNodes == null) {
+                continue;
+            }
+            if (childDataSchemaNodes.size() == 1 && childDataSchemaNodes.getFirst() instanceof LeafSchemaNode leaf
+                    && isScalar(in.peek())) {
+                final int offset = keyDef.indexOf(leaf.getQName());
+                if (offset != -1 && keyLeaves[offset] == null) {
+                    keyLeaves[offset] = leaf;
+                    keyValues[offset] = nextValue(in, leaf);
+                    missing--;
+                    removeNamespace();
+                    continue;
+                }
+            }
+
+            // A non-key member came first: buffer the rest of the entry
+            bufferListEntry(in, schema, namesakes, keyLeaves, keyValues, jsonElementName, childDataSchemaNodes);
+            return;
+        }
+        if (missing != 0) {
+            // The object has ended without all keys being present, the buffered path reports the error
+            bufferListEntry(in, schema, namesakes, keyLeaves, keyValues, null, null);
+            return;
+        }
+
+        writer.nextDataSchemaNode(schema);
+        writer.startMapEntryNode(NodeIdentifierWithPredicates.of(schema.getQName(),
+            template.instantiateWithValues(keyValues)), NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+        for (int i = 0; i < keyLeaves.length; ++i) {
+            final var leaf = keyLeaves[i];
+            writer.nextDataSchemaNode(leaf);
+            writer.startLeafNode(NodeIdentifier.create(leaf.getQName()));
+            writer.scalarValue(keyValues[i]);
+            writer.endNode();
+        }
+        streamMembers(in, schema, namesakes);
+        in.endObject();
+        writer.endNode();
+    }
+
+    private void bufferListEntry(final JsonReader in, final ListSchemaNode schema, final Set<String> namesakes,
+            final LeafSchemaNode[] keyLeaves, final Object[] keyValues, final @Nullable String pendingName,
+            final @Nullable Deque<DataSchemaNode> pendingSchemas) throws IOException {
+        final var entry = ((ListNodeDataWithSchema) CompositeNodeDataWithSchema.of(schema)).newChildEntry();
+        for (int i = 0; i < keyLeaves.length; ++i) {
+            final var leaf = keyLeaves[i];
+            if (leaf != null) {
+                final var child = (SimpleNodeDataWithSchema<?>) entry.addChild(new ArrayDeque<>(List.of(leaf)),
+                    ChildReusePolicy.NOOP);
+                child.setValue(keyValues[i]);
+            }
+        }
+
+        if (pendingSchemas != null) {
+            readMember(in, entry, pendingName, pendingSchemas);
+            removeNamespace();
+        }
+        while (in.hasNext()) {
+            final var jsonElementName = in.nextName();
+            final var childDataSchemaNodes = findMemberSchemas(in, jsonElementName, schema, namesakes);
+            if (childDataSchemaNodes != null) {
+                readMember(in, entry, jsonElementName, childDataSchemaNodes);
+                removeNamespace();
+            }
+        }
+        in.endObject();
+        entry.write(writer);
+    }
+
+    private Object nextValue(final JsonReader in, final LeafSchemaNode schema) throws IOException {
+        stack.enterDataTree(schema.getQName());
+        final var value = translateValueByType(nextScalar(in), schema);
+        stack.exit();
+        return value;
+    }
+
+    private static boolean isScalar(final JsonToken token) {
+        return switch (token) {
+            case STRING, NUMBER, BOOLEAN, NULL -> true;
+            default -> false;
+        };
+    }
+
+    private static @Nullable String nextScalar(final JsonReader in) throws IOException {
+        return switch (in.peek()) {
+            case STRING, NUMBER -> in.nextString();
+            case BOOLEAN -> Boolean.toString(in.nextBoolean());
+            case NULL -> {
+                in.nextNull();
+                yield null;
+            }
+            default -> throw new IllegalStateException("Unexpected token " + in.peek());
+        };
+    }
+
     private static boolean isArray(final AbstractNodeDataWithSchema<?> parent) {
         return parent instanceof ListNodeDataWithSchema || parent instanceof LeafListNodeDataWithSchema;
     }
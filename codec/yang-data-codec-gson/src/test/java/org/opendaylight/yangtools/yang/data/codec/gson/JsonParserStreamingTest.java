@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.gson;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opendaylight.yangtools.yang.data.codec.gson.TestUtils.loadTextFile;
+
+import com.google.gson.stream.JsonReader;
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.ForwardingNormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.impl.schema.NormalizationResultHolder;
+import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
+
+class JsonParserStreamingTest extends AbstractComplexJsonTest {
+    private static JSONCodecFactory streamCodecFactory;
+
+    @BeforeAll
+    static void beforeAll() {
+        streamCodecFactory = JSONCodecFactorySupplier.RFC7951.getShared(YangParserTestUtils.parseYang("""
+            module stream {
+              namespace stream;
+              prefix s;
+
+              container top {
+                list item {
+                  key id;
+                  leaf id {
+                    type int32;
+                  }
+                  leaf value {
+                    type string;
+                  }
+                  choice ch {
+                    case c {
+                      leaf a {
+                        type string;
+                      }
+                      leaf b {
+                        type string;
+                      }
+                    }
+                  }
+                }
+              }
+            }"""));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "anyxml-node-with-composite-value-in-container.json",
+        "anyxml-node-with-simple-value-in-container.json",
+        "case-node-augmentation-in-choice-in-container.json",
+        "case-node-external-augmentation-in-choice-in-container.json",
+        "choice-node-augmentation-in-container.json",
+        "choice-node-in-container.json",
+        "complex-json.json",
+        "keyed-list-node-in-container.json",
+        "leaf-node-in-container.json",
+        "leaf-node-via-augmentation-in-container.json",
+        "leaflist-node-in-container.json",
+        "missing-module-in-top-level.json",
+        "multiple-choice-augmentation-in-container.json",
+        "type-empty.json",
+        "unkeyed-node-in-container.json"
+    })
+    void testSameAsBuffered(final String resource) throws Exception {
+        final var inputJson = loadTextFile("/complexjson/" + resource);
+        assertEquals(parse(lhotkaCodecFactory, inputJson), parseStreaming(lhotkaCodecFactory, inputJson));
+    }
+
+    @Test
+    void testKeyAfterOtherMembers() {
+        final var inputJson = """
+            {
+              "stream:top": {
+                "item": [
+                  { "id": 1, "value": "one", "a": "x" },
+                  { "value": "two", "id": 2, "b": "y" },
+                  { "a": "z", "b": "w", "id": 3 }
+                ]
+              }
+            }""";
+        assertEquals(parse(streamCodecFactory, inputJson), parseStreaming(streamCodecFactory, inputJson));
+    }
+
+    @Test
+    void testMissingKey() {
+        final var reader = new JsonReader(new StringReader("""
+            { "stream:top": { "item": [ { "value": "one" } ] } }"""));
+        final var parser = JsonParserStream.create(
+            ImmutableNormalizedNodeStreamWriter.from(new NormalizationResultHolder()), streamCodecFactory);
+        assertThrows(RuntimeException.class, () -> parser.parseStreaming(reader));
+    }
+
+    @Test
+    void testNonContiguousChoice() {
+        final var inputJson = """
+            { "stream:top": { "item": [ { "id": 1, "a": "x", "value": "one", "b": "y" } ] } }""";
+        final var parser = JsonParserStream.create(
+            ImmutableNormalizedNodeStreamWriter.from(new NormalizationResultHolder()), streamCodecFactory);
+        final var ex = assertThrows(IllegalArgumentException.class,
+            () -> parser.parseStreaming(new JsonReader(new StringReader(inputJson))));
+        assertTrue(ex.getMessage().endsWith("are not contiguous, which is not supported when streaming"));
+
+        // The buffering parser accepts it just fine
+        parse(streamCodecFactory, inputJson);
+    }
+
+    @Test
+    void testEntriesEmittedIncrementally() throws IOException {
+        final var sb = new StringBuilder("{ \"stream:top\": { \"item\": [");
+        for (int i = 0; i < 10_000; ++i) {
+            if (i != 0) {
+                sb.append(',');
+            }
+            sb.append("{ \"id\": ").append(i).append(", \"value\": \"value ").append(i).append("\" }");
+        }
+        final var inputJson = sb.append("] } }").toString();
+
+        final var input = new CountingReader(new StringReader(inputJson));
+        final var result = new NormalizationResultHolder();
+        final var delegate = ImmutableNormalizedNodeStreamWriter.from(result);
+        final var firstEntryOffset = new long[] { -1 };
+        final var writer = new ForwardingNormalizedNodeStreamWriter() {
+            @Override
+            protected NormalizedNodeStreamWriter delegate() {
+                return delegate;
+            }
+
+            @Override
+            public void startMapEntryNode(final NodeIdentifierWithPredicates identifier, final int childSizeHint)
+                    throws IOException {
+                if (firstEntryOffset[0] == -1) {
+                    firstEntryOffset[0] = input.count;
+                }
+                super.startMapEntryNode(identifier, childSizeHint);
+            }
+        };
+
+        try (var parser = JsonParserStream.create(writer, streamCodecFactory)) {
+            parser.parseStreaming(new JsonReader(input));
+        }
+        assertTrue(firstEntryOffset[0] < inputJson.length() / 10,
+            "First entry emitted after reading " + firstEntryOffset[0] + " characters");
+        assertEquals(parse(streamCodecFactory, inputJson), result.getResult().data());
+    }
+
+    private static NormalizedNode parse(final JSONCodecFactory codecFactory, final String inputJson) {
+        final var result = new NormalizationResultHolder();
+        JsonParserStream.create(ImmutableNormalizedNodeStreamWriter.from(result), codecFactory)
+            .parse(new JsonReader(new StringReader(inputJson)));
+        return result.getResult().data();
+    }
+
+    private static NormalizedNode parseStreaming(final JSONCodecFactory codecFactory, final String inputJson) {
+        final var result = new NormalizationResultHolder();
+        JsonParserStream.create(ImmutableNormalizedNodeStreamWriter.from(result), codecFactory)
+            .parseStreaming(new JsonReader(new StringReader(inputJson)));
+        return result.getResult().data();
+    }
+
+    private static final class CountingReader extends FilterReader {
+        long count;
+
+        CountingReader(final Reader in) {
+            super(in);
+        }
+
+        @Override
+        public int read(final char[] cbuf, final int off, final int len) throws IOException {
+            final int ret = super.read(cbuf, off, len);
+            if (ret > 0) {
+                count += ret;
+            }
+            return ret;
+        }
+    }
+}
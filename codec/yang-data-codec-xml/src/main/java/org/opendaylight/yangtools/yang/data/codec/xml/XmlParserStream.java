@@ -19,13 +19,17 @@ import java.io.Closeable;
 import java.io.Flushable;
 import java.io.IOException;
 import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.Set;
 import javax.xml.XMLConstants;
 import javax.xml.namespace.NamespaceContext;
 import javax.xml.stream.XMLStreamConstants;
@@ -38,18 +42,24 @@ import javax.xml.transform.TransformerFactoryConfigurationError;
 import javax.xml.transform.dom.DOMResult;
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.stax.StAXSource;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.yangtools.rfc7952.model.api.AnnotationEffectiveStatement;
 import org.opendaylight.yangtools.rfc8528.model.api.MountPointEffectiveStatement;
 import org.opendaylight.yangtools.rfc8528.model.api.SchemaMountConstants;
+import org.opendaylight.yangtools.util.ImmutableMapTemplate;
 import org.opendaylight.yangtools.yang.common.AnnotationName;
 import org.opendaylight.yangtools.yang.common.QName;
 import org.opendaylight.yangtools.yang.common.QNameModule;
 import org.opendaylight.yangtools.yang.common.XMLNamespace;
 import org.opendaylight.yangtools.yang.common.YangConstants;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeWithValue;
 import org.opendaylight.yangtools.yang.data.api.schema.MountPointContext;
 import org.opendaylight.yangtools.yang.data.api.schema.MountPointContextFactory.ContainerName;
 import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter.MetadataExtension;
 import org.opendaylight.yangtools.yang.data.util.AbstractMountPointDataWithSchema;
 import org.opendaylight.yangtools.yang.data.util.AbstractNodeDataWithSchema;
 import org.opendaylight.yangtools.yang.data.util.AnyXmlNodeDataWithSchema;
@@ -75,6 +85,7 @@ import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
 import org.opendaylight.yangtools.yang.model.api.EffectiveStatementInference;
 import org.opendaylight.yangtools.yang.model.api.LeafListSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.LeafSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.ListSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.TypedDataSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.meta.DataSchemaCompat;
@@ -134,7 +145,10 @@ public final class XmlParserStream implements Closeable, Flushable {
     private final Map<String, Optional<QNameModule>> resolvedNamespaces = new HashMap<>();
     // Cache of nsUri Strings to QNameModules, as inferred from document
     private final Map<String, QNameModule> rawNamespaces = new HashMap<>();
+    // Cache of list key templates, as used by parseStreaming()
+    private final Map<ListSchemaNode, ImmutableMapTemplate<QName>> keyTemplates = new HashMap<>();
     private final NormalizedNodeStreamWriter writer;
+    private final @Nullable MetadataExtension metaWriter;
     private final SchemaInferenceStack stack;
     private final XmlCodecFactory codecs;
     private final DataSchemaNode parentNode;
@@ -146,9 +160,15 @@ public final class XmlParserStream implements Closeable, Flushable {
         this.codecs = requireNonNull(codecs);
         this.stack = requireNonNull(stack);
         this.strictParsing = strictParsing;
+        metaWriter = writer.extension(MetadataExtension.class);
         parentNode = stack.isEmpty() ? stack.modelContext() : coerceAsParent(stack.currentStatement());
     }
 
+    // A key leaf of a list entry, as collected by parseStreaming()
+    private record KeyLeaf(LeafSchemaNode schema, Object value, ImmutableMap<QName, Object> attributes) {
+        // Nothing else
+    }
+
     private static DataSchemaNode coerceAsParent(final EffectiveStatement<?, ?> stmt) {
         return switch (stmt) {
             case DataSchemaNode data -> data;
@@ -320,6 +340,63 @@ public final class XmlParserStream implements Closeable, Flushable {
         return this;
     }
 
+    /**
+     * This method parses the XML source and emits node events into a NormalizedNodeStreamWriter as soon as schema
+     * ordering permits. Unlike {@link #parse(XMLStreamReader)}, this method does not build an intermediate
+     * representation of the document, so that its memory footprint is proportional to nesting depth rather than to
+     * document size.
+     *
+     * <p>The only data buffered are:
+     * <ul>
+     *   <li>keyed list entries whose key leaves do not precede all other child elements, as the entry's
+     *       {@code NodeIdentifierWithPredicates} needs to be known before any of its children can be emitted</li>
+     *   <li>containers and list entries which can host a mount point</li>
+     *   <li>anyxml and anydata values</li>
+     * </ul>
+     *
+     * <p>Entries of a particular {@code list} or {@code leaf-list}, as well as all elements belonging to a particular
+     * {@code choice}, are required to be contiguous in their parent element. RFC7950 allows list entries to be
+     * interleaved with their siblings, but such documents are rejected by this method and need to be parsed with
+     * {@link #parse(XMLStreamReader)}.
+     *
+     * @param reader
+     *              StAX reader which is to used to walk through the XML source
+     * @return
+     *              instance of XmlParserStream
+     * @throws XMLStreamException
+     *              if a well-formedness error or an unexpected processing condition occurs while parsing the XML
+     * @throws IOException
+     *              if an error occurs while emitting events or while parsing the value of an anyxml node
+     */
+    @Beta
+    public XmlParserStream parseStreaming(final XMLStreamReader reader) throws XMLStreamException, IOException {
+        if (reader.hasNext()) {
+            reader.nextTag();
+            final var rootElement = reader.getLocalName();
+            switch (parentNode) {
+                case ContainerLike container when !hasMountPoint(container) ->
+                    streamContainer(reader, container, rootElement);
+                case ListSchemaNode list -> {
+                    final var localName = reader.getLocalName();
+                    final var namespaceURI = reader.getNamespaceURI();
+                    startList(list);
+                    while (reader.isStartElement() && localName.equals(reader.getLocalName())
+                            && namespaceURI.equals(reader.getNamespaceURI())) {
+                        streamListEntry(reader, list, rootElement);
+                    }
+                    writer.endNode();
+                }
+                default -> {
+                    final var nodeDataWithSchema = AbstractNodeDataWithSchema.of(parentNode);
+                    read(reader, nodeDataWithSchema, rootElement);
+                    nodeDataWithSchema.write(writer);
+                }
+            }
+        }
+
+        return this;
+    }
+
     /**
      * This method traverses a {@link DOMSource} and emits node events into a NormalizedNodeStreamWriter based on the
      * YANG-modeled data contained in the source.
@@ -477,115 +554,418 @@ public final class XmlParserStream implements Closeable, Flushable {
                 // FIXME: 7.0.0: why do we even need this tracker? either document it or remove it.
                 //               it looks like it is a crude duplicate finder, which should really be handled via
                 //               ChildReusePolicy.REJECT
-                final var namesakes = new HashSet<Entry<String, String>>();
-                while (in.hasNext()) {
-                    final String xmlElementName = in.getLocalName();
-                    final DataSchemaNode parentSchema = parent.getSchema();
-
-                    final String parentSchemaName = parentSchema.getQName().getLocalName();
-                    if (parentSchemaName.equals(xmlElementName)
-                            && in.getEventType() == XMLStreamConstants.END_ELEMENT) {
-                        if (isNextEndDocument(in)) {
-                            break;
-                        }
-
-                        if (!isAtElement(in)) {
-                            in.nextTag();
-                        }
-                        break;
-                    }
+                readChildren(in, parent, rootElement, new HashSet<>());
+                break;
+            case XMLStreamConstants.END_ELEMENT:
+                if (isNextEndDocument(in)) {
+                    break;
+                }
 
-                    if (in.isEndElement() && rootElement.equals(xmlElementName)) {
-                        break;
-                    }
+                if (!isAtElement(in)) {
+                    in.nextTag();
+                }
+                break;
+            default:
+                break;
+        }
+    }
 
-                    final String elementNS = in.getNamespaceURI();
-                    final boolean added = namesakes.add(new SimpleImmutableEntry<>(elementNS, xmlElementName));
+    private void readChildren(final XMLStreamReader in, final AbstractNodeDataWithSchema<?> parent,
+            final String rootElement, final Set<Entry<String, String>> namesakes) throws XMLStreamException {
+        while (in.hasNext()) {
+            final String xmlElementName = in.getLocalName();
+            final DataSchemaNode parentSchema = parent.getSchema();
 
-                    final XMLNamespace nsUri;
-                    try {
-                        nsUri = rawXmlNamespace(elementNS).namespace();
-                    } catch (IllegalArgumentException e) {
-                        throw new XMLStreamException("Failed to convert namespace " + xmlElementName, in.getLocation(),
-                            e);
-                    }
+            final String parentSchemaName = parentSchema.getQName().getLocalName();
+            if (parentSchemaName.equals(xmlElementName)
+                    && in.getEventType() == XMLStreamConstants.END_ELEMENT) {
+                if (isNextEndDocument(in)) {
+                    break;
+                }
 
-                    final var childDataSchemaNodes = ParserStreamUtils.findSchemaNodeByNameAndNamespace(parentSchema,
-                        xmlElementName, nsUri);
-                    if (!childDataSchemaNodes.isEmpty()) {
-                        final boolean elementList = isElementList(childDataSchemaNodes);
-                        if (!added && !elementList) {
-                            throw new XMLStreamException(
-                                "Duplicate element \"%s\" in namespace \"%s\" with parent \"%s\" in XML input"
-                                    .formatted(xmlElementName, elementNS, parentSchema), in.getLocation());
-                        }
-
-                        // We have a match, proceed with it
-                        final var qname = childDataSchemaNodes.peekLast().getQName();
-                        final var child = ((CompositeNodeDataWithSchema<?>) parent).addChild(childDataSchemaNodes,
-                            elementList ? ChildReusePolicy.REUSE : ChildReusePolicy.NOOP);
-                        stack.enterDataTree(qname);
-                        read(in, child, rootElement);
-                        stack.exit();
+                if (!isAtElement(in)) {
+                    in.nextTag();
+                }
+                break;
+            }
+
+            if (in.isEndElement() && rootElement.equals(xmlElementName)) {
+                break;
+            }
+
+            final String elementNS = in.getNamespaceURI();
+            final boolean added = namesakes.add(new SimpleImmutableEntry<>(elementNS, xmlElementName));
+
+            final XMLNamespace nsUri;
+            try {
+                nsUri = rawXmlNamespace(elementNS).namespace();
+            } catch (IllegalArgumentException e) {
+                throw new XMLStreamException("Failed to convert namespace " + xmlElementName, in.getLocation(),
+                    e);
+            }
+
+            final var childDataSchemaNodes = ParserStreamUtils.findSchemaNodeByNameAndNamespace(parentSchema,
+                xmlElementName, nsUri);
+            if (!childDataSchemaNodes.isEmpty()) {
+                final boolean elementList = isElementList(childDataSchemaNodes);
+                if (!added && !elementList) {
+                    throw new XMLStreamException(
+                        "Duplicate element \"%s\" in namespace \"%s\" with parent \"%s\" in XML input"
+                            .formatted(xmlElementName, elementNS, parentSchema), in.getLocation());
+                }
+
+                // We have a match, proceed with it
+                final var qname = childDataSchemaNodes.peekLast().getQName();
+                final var child = ((CompositeNodeDataWithSchema<?>) parent).addChild(childDataSchemaNodes,
+                    elementList ? ChildReusePolicy.REUSE : ChildReusePolicy.NOOP);
+                stack.enterDataTree(qname);
+                read(in, child, rootElement);
+                stack.exit();
+                continue;
+            }
+
+            if (parent instanceof AbstractMountPointDataWithSchema<?> mountParent) {
+                // Parent can potentially hold a mount point, let's see if there is a label present. We
+                // explicitly unmask Optional to null so as to not to lead us on to functional programming,
+                // because ...
+                final var label = switch (parentSchema) {
+                    case ContainerSchemaNode container -> container.asEffectiveStatement()
+                        .findFirstEffectiveSubstatementArgument(MountPointEffectiveStatement.class)
+                        .orElse(null);
+                    case ListSchemaNode list -> list.asEffectiveStatement()
+                        .findFirstEffectiveSubstatementArgument(MountPointEffectiveStatement.class)
+                        .orElse(null);
+                    case ContainerLike containerLike -> null;
+                    default -> throw new XMLStreamException("Unhandled mount-aware schema " + parentSchema,
+                        in.getLocation());
+                };
+
+                if (label != null) {
+                    LOG.debug("Assuming node {} and namespace {} belongs to mount point {}", xmlElementName,
+                        nsUri, label);
+
+                    final var optFactory = codecs.mountPointContext().findMountPoint(label);
+                    if (optFactory.isPresent()) {
+                        final var mountData = mountParent.getMountPointData(label, optFactory.orElseThrow());
+                        addMountPointChild(mountData, nsUri, xmlElementName,
+                            new DOMSource(readAnyXmlValue(in).getDocumentElement()));
+                        // ... this call does not work with functional programming
                         continue;
                     }
 
-                    if (parent instanceof AbstractMountPointDataWithSchema<?> mountParent) {
-                        // Parent can potentially hold a mount point, let's see if there is a label present. We
-                        // explicitly unmask Optional to null so as to not to lead us on to functional programming,
-                        // because ...
-                        final var label = switch (parentSchema) {
-                            case ContainerSchemaNode container -> container.asEffectiveStatement()
-                                .findFirstEffectiveSubstatementArgument(MountPointEffectiveStatement.class)
-                                .orElse(null);
-                            case ListSchemaNode list -> list.asEffectiveStatement()
-                                .findFirstEffectiveSubstatementArgument(MountPointEffectiveStatement.class)
-                                .orElse(null);
-                            case ContainerLike containerLike -> null;
-                            default -> throw new XMLStreamException("Unhandled mount-aware schema " + parentSchema,
-                                in.getLocation());
-                        };
-
-                        if (label != null) {
-                            LOG.debug("Assuming node {} and namespace {} belongs to mount point {}", xmlElementName,
-                                nsUri, label);
-
-                            final var optFactory = codecs.mountPointContext().findMountPoint(label);
-                            if (optFactory.isPresent()) {
-                                final var mountData = mountParent.getMountPointData(label, optFactory.orElseThrow());
-                                addMountPointChild(mountData, nsUri, xmlElementName,
-                                    new DOMSource(readAnyXmlValue(in).getDocumentElement()));
-                                // ... this call does not work with functional programming
-                                continue;
-                            }
-
-                            LOG.debug("Mount point {} not attached", label);
-                        }
-                    }
+                    LOG.debug("Mount point {} not attached", label);
+                }
+            }
 
-                    // We have not handled the node -- let's decide what to do about that
-                    if (strictParsing) {
-                        throw new XMLStreamException(
-                            "Schema for node with name %s and namespace %s does not exist in parent %s".formatted(
-                                xmlElementName, elementNS, parentSchema), in.getLocation());
-                    }
+            // We have not handled the node -- let's decide what to do about that
+            if (strictParsing) {
+                throw new XMLStreamException(
+                    "Schema for node with name %s and namespace %s does not exist in parent %s".formatted(
+                        xmlElementName, elementNS, parentSchema), in.getLocation());
+            }
+
+            LOG.debug("Skipping unknown node ns=\"{}\" localName=\"{}\" in parent {}", elementNS,
+                xmlElementName, parentSchema);
+            skipUnknownNode(in);
+        }
+    }
 
-                    LOG.debug("Skipping unknown node ns=\"{}\" localName=\"{}\" in parent {}", elementNS,
-                        xmlElementName, parentSchema);
-                    skipUnknownNode(in);
+    // Stream the content of a container, positioned at its START_ELEMENT
+    private void streamContainer(final XMLStreamReader in, final ContainerLike schema, final String rootElement)
+            throws XMLStreamException, IOException {
+        final var attributes = getElementAttributes(in);
+        writer.nextDataSchemaNode(schema);
+        writer.startContainerNode(NodeIdentifier.create(schema.getQName()), NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+        writeMetadata(attributes);
+        in.nextTag();
+        streamChildren(in, schema, new HashSet<>(), rootElement);
+        writer.endNode();
+    }
+
+    // Stream child elements, starting at the first child's START_ELEMENT or parent's END_ELEMENT and ending after the
+    // parent's END_ELEMENT
+    private void streamChildren(final XMLStreamReader in, final DataSchemaNode parentSchema,
+            final Set<Entry<String, String>> namesakes, final String rootElement)
+            throws XMLStreamException, IOException {
+        final var openChoices = new ArrayList<DataSchemaNode>();
+        final var closedNodes = new HashSet<DataSchemaNode>();
+        DataSchemaNode openList = null;
+
+        while (in.isStartElement()) {
+            final var xmlElementName = in.getLocalName();
+            final var elementNS = in.getNamespaceURI();
+            final var childDataSchemaNodes = ParserStreamUtils.findSchemaNodeByNameAndNamespace(parentSchema,
+                xmlElementName, elementNamespace(in, elementNS));
+            if (childDataSchemaNodes.isEmpty()) {
+                if (strictParsing) {
+                    throw new XMLStreamException(
+                        "Schema for node with name %s and namespace %s does not exist in parent %s".formatted(
+                            xmlElementName, elementNS, parentSchema), in.getLocation());
                 }
-                break;
-            case XMLStreamConstants.END_ELEMENT:
-                if (isNextEndDocument(in)) {
-                    break;
+                LOG.debug("Skipping unknown node ns=\"{}\" localName=\"{}\" in parent {}", elementNS,
+                    xmlElementName, parentSchema);
+                skipUnknownNode(in);
+                continue;
+            }
+
+            final var schema = childDataSchemaNodes.removeLast();
+            if (!schema.equals(openList)) {
+                if (openList != null) {
+                    writer.endNode();
+                    closedNodes.add(openList);
+                    openList = null;
                 }
 
-                if (!isAtElement(in)) {
-                    in.nextTag();
+                final boolean elementList = schema instanceof ListSchemaNode || schema instanceof LeafListSchemaNode;
+                if (!elementList && !namesakes.add(new SimpleImmutableEntry<>(elementNS, xmlElementName))) {
+                    throw new XMLStreamException(
+                        "Duplicate element \"%s\" in namespace \"%s\" with parent \"%s\" in XML input"
+                            .formatted(xmlElementName, elementNS, parentSchema), in.getLocation());
+                }
+
+                enterChoices(in, childDataSchemaNodes, openChoices, closedNodes);
+                if (elementList) {
+                    checkContiguous(in, schema, closedNodes);
+                    startList(schema);
+                    openList = schema;
                 }
+            }
+
+            stack.enterDataTree(schema.getQName());
+            streamChild(in, schema, rootElement);
+            stack.exit();
+        }
+
+        if (openList != null) {
+            writer.endNode();
+        }
+        exitChoices(openChoices, closedNodes, 0);
+        nextElement(in);
+    }
+
+    private void streamChild(final XMLStreamReader in, final DataSchemaNode schema, final String rootElement)
+            throws XMLStreamException, IOException {
+        switch (schema) {
+            case LeafSchemaNode leaf -> {
+                final var attributes = getElementAttributes(in);
+                final var value = translateValueByType(in.getElementText(), leaf, in.getNamespaceContext());
+                writer.nextDataSchemaNode(leaf);
+                writer.startLeafNode(NodeIdentifier.create(leaf.getQName()));
+                writeMetadata(attributes);
+                writer.scalarValue(value);
+                writer.endNode();
+                nextElement(in);
+            }
+            case LeafListSchemaNode leafList -> {
+                final var attributes = getElementAttributes(in);
+                final var value = translateValueByType(in.getElementText(), leafList, in.getNamespaceContext());
+                writer.nextDataSchemaNode(leafList);
+                writer.startLeafSetEntryNode(new NodeWithValue<>(leafList.getQName(), value));
+                writeMetadata(attributes);
+                writer.scalarValue(value);
+                writer.endNode();
+                nextElement(in);
+            }
+            case ContainerLike container when !hasMountPoint(container) ->
+                streamContainer(in, container, rootElement);
+            case ListSchemaNode list -> streamListEntry(in, list, rootElement);
+            default -> {
+                // anyxml, anydata or a mount point: buffer just this element
+                final var buffer = new CompositeNodeDataWithSchema<>(schema);
+                read(in, buffer.addChild(new ArrayDeque<>(List.of(schema)), ChildReusePolicy.NOOP), rootElement);
+                buffer.write(writer);
+            }
+        }
+    }
+
+    // Stream a single list entry, positioned at its START_ELEMENT
+    private void streamListEntry(final XMLStreamReader in, final ListSchemaNode schema, final String rootElement)
+            throws XMLStreamException, IOException {
+        if (hasMountPoint(schema)) {
+            final var entry = newListEntry(schema);
+            read(in, entry, rootElement);
+            entry.write(writer);
+            return;
+        }
+
+        final var attributes = getElementAttributes(in);
+        final var keyDef = schema.getKeyDefinition();
+        if (keyDef.isEmpty()) {
+            writer.nextDataSchemaNode(schema);
+            writer.startUnkeyedListItem(NodeIdentifier.create(schema.getQName()),
+                NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+            writeMetadata(attributes);
+            in.nextTag();
+            streamChildren(in, schema, new HashSet<>(), rootElement);
+            writer.endNode();
+            return;
+        }
+
+        // Collect key leaves for as long as they lead the entry
+        final var namesakes = new HashSet<Entry<String, String>>();
+        final var keys = new KeyLeaf[keyDef.size()];
+        int missing = keys.length;
+        in.nextTag();
+        while (missing != 0 && in.isStartElement()) {
+            final var xmlElementName = in.getLocalName();
+            final var elementNS = in.getNamespaceURI();
+            final var childDataSchemaNodes = ParserStreamUtils.findSchemaNodeByNameAndNamespace(schema,
+                xmlElementName, elementNamespace(in, elementNS));
+            if (childDataSchemaNodes.size() != 1 || !(childDataSchemaNodes.getFirst() instanceof LeafSchemaNode leaf)) {
                 break;
-            default:
+            }
+            final int offset = keyDef.indexOf(leaf.getQName());
+            if (offset == -1 || keys[offset] != null) {
+                break;
+            }
+
+            namesakes.add(new SimpleImmutableEntry<>(elementNS, xmlElementName));
+            stack.enterDataTree(leaf.getQName());
+            final var leafAttributes = getElementAttributes(in);
+            final var value = translateValueByType(in.getElementText(), leaf, in.getNamespaceContext());
+            stack.exit();
+            keys[offset] = new KeyLeaf(leaf, value, leafAttributes);
+            missing--;
+            nextElement(in);
+        }
+
+        if (missing != 0) {
+            // A non-key element came first: buffer the rest of the entry
+            final var entry = newListEntry(schema);
+            entry.setAttributes(attributes);
+            for (var key : keys) {
+                if (key != null) {
+                    final var child = (SimpleNodeDataWithSchema<?>) entry.addChild(
+                        new ArrayDeque<>(List.of(key.schema())), ChildReusePolicy.NOOP);
+                    child.setAttributes(key.attributes());
+                    child.setValue(key.value());
+                }
+            }
+            readChildren(in, entry, rootElement, namesakes);
+            entry.write(writer);
+            return;
+        }
+
+        final var keyValues = new Object[keys.length];
+        for (int i = 0; i < keys.length; ++i) {
+            keyValues[i] = keys[i].value();
+        }
+        writer.nextDataSchemaNode(schema);
+        writer.startMapEntryNode(NodeIdentifierWithPredicates.of(schema.getQName(),
+            keyTemplates.computeIfAbsent(schema, list -> ImmutableMapTemplate.ordered(list.getKeyDefinition()))
+                .instantiateWithValues(keyValues)),
+            NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+        writeMetadata(attributes);
+        for (var key : keys) {
+            writer.nextDataSchemaNode(key.schema());
+            writer.startLeafNode(NodeIdentifier.create(key.schema().getQName()));
+            writeMetadata(key.attributes());
+            writer.scalarValue(key.value());
+            writer.endNode();
+        }
+        streamChildren(in, schema, namesakes, rootElement);
+        writer.endNode();
+    }
+
+    private void startList(final DataSchemaNode schema) throws IOException {
+        writer.nextDataSchemaNode(schema);
+        final var id = NodeIdentifier.create(schema.getQName());
+        switch (schema) {
+            case ListSchemaNode list when list.getKeyDefinition().isEmpty() ->
+                writer.startUnkeyedList(id, NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+            case ListSchemaNode list when list.isUserOrdered() ->
+                writer.startOrderedMapNode(id, NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+            case ListSchemaNode list -> writer.startMapNode(id, NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+            case LeafListSchemaNode leafList when leafList.isUserOrdered() ->
+                writer.startOrderedLeafSet(id, NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+            case LeafListSchemaNode leafList -> writer.startLeafSet(id, NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+            default -> throw new VerifyException("Unexpected schema " + schema);
+        }
+    }
+
+    // Both path and openChoices are sequences of choice/case pairs
+    private void enterChoices(final XMLStreamReader in, final Deque<DataSchemaNode> path,
+            final List<DataSchemaNode> openChoices, final Set<DataSchemaNode> closedNodes)
+            throws XMLStreamException, IOException {
+        final var it = path.iterator();
+        int common = 0;
+        while (it.hasNext() && common < openChoices.size()) {
+            final var choice = it.next();
+            final var caze = it.next();
+            if (!choice.equals(openChoices.get(common))) {
                 break;
+            }
+            final var openCase = openChoices.get(common + 1);
+            if (!caze.equals(openCase)) {
+                throw new XMLStreamException(("Data from case %s are specified but other data from case %s were"
+                    + " specified earlier. Data aren't from the same case.").formatted(caze.getQName(),
+                        openCase.getQName()), in.getLocation());
+            }
+            common += 2;
+        }
+        exitChoices(openChoices, closedNodes, common);
+
+        final var remaining = path.stream().skip(common).iterator();
+        while (remaining.hasNext()) {
+            final var choice = remaining.next();
+            checkContiguous(in, choice, closedNodes);
+            writer.nextDataSchemaNode(choice);
+            writer.startChoiceNode(NodeIdentifier.create(choice.getQName()), NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+            openChoices.add(choice);
+            openChoices.add(remaining.next());
+        }
+    }
+
+    private void exitChoices(final List<DataSchemaNode> openChoices, final Set<DataSchemaNode> closedNodes,
+            final int depth) throws IOException {
+        while (openChoices.size() > depth) {
+            openChoices.removeLast();
+            closedNodes.add(openChoices.removeLast());
+            writer.endNode();
+        }
+    }
+
+    private static void checkContiguous(final XMLStreamReader in, final DataSchemaNode schema,
+            final Set<DataSchemaNode> closedNodes) throws XMLStreamException {
+        if (closedNodes.contains(schema)) {
+            throw new XMLStreamException("Elements of " + schema.getQName()
+                + " are not contiguous, which is not supported when streaming", in.getLocation());
+        }
+    }
+
+    private void writeMetadata(final ImmutableMap<QName, Object> attributes) throws IOException {
+        if (metaWriter != null && !attributes.isEmpty()) {
+            metaWriter.metadata(attributes);
+        }
+    }
+
+    private XMLNamespace elementNamespace(final XMLStreamReader in, final String elementNS)
+            throws XMLStreamException {
+        try {
+            return rawXmlNamespace(elementNS).namespace();
+        } catch (IllegalArgumentException e) {
+            throw new XMLStreamException("Failed to convert namespace " + in.getLocalName(), in.getLocation(), e);
+        }
+    }
+
+    private static boolean hasMountPoint(final DataSchemaNode schema) {
+        return switch (schema) {
+            case ContainerSchemaNode container -> container.asEffectiveStatement()
+                .findFirstEffectiveSubstatement(MountPointEffectiveStatement.class).isPresent();
+            case ListSchemaNode list -> list.asEffectiveStatement()
+                .findFirstEffectiveSubstatement(MountPointEffectiveStatement.class).isPresent();
+            default -> false;
+        };
+    }
+
+    private static ListEntryNodeDataWithSchema newListEntry(final ListSchemaNode schema) {
+        return ((ListNodeDataWithSchema) CompositeNodeDataWithSchema.of(schema)).newChildEntry();
+    }
+
+    // Move past the current END_ELEMENT to the next START_ELEMENT or END_ELEMENT, if there is one
+    private static void nextElement(final XMLStreamReader in) throws XMLStreamException {
+        if (!isNextEndDocument(in) && !isAtElement(in)) {
+            in.nextTag();
         }
     }
 
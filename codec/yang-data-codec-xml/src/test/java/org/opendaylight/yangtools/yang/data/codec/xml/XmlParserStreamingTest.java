@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.codec.xml;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.yangtools.util.xml.UntrustedXML;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.ForwardingNormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.impl.schema.NormalizationResultHolder;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.util.SchemaInferenceStack.Inference;
+import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
+
+class XmlParserStreamingTest {
+    private static final QName TOP = QName.create("stream", "top");
+
+    private static EffectiveModelContext modelContext;
+    private static Inference topSchema;
+
+    @BeforeAll
+    static void beforeAll() {
+        modelContext = YangParserTestUtils.parseYang("""
+            module stream {
+              namespace stream;
+              prefix s;
+
+              container top {
+                list item {
+                  key id;
+                  leaf id {
+                    type int32;
+                  }
+                  leaf value {
+                    type string;
+                  }
+                  choice ch {
+                    case c {
+                      leaf a {
+                        type string;
+                      }
+                      leaf b {
+                        type string;
+                      }
+                    }
+                  }
+                }
+                leaf-list tag {
+                  type string;
+                }
+                leaf other {
+                  type string;
+                }
+              }
+            }""");
+        topSchema = Inference.ofDataTreePath(modelContext, TOP);
+    }
+
+    @Test
+    void testSameAsBuffered() throws Exception {
+        final var context = YangParserTestUtils.parseYangResources(XmlParserStreamingTest.class, "/foo.yang",
+            "/baz.yang");
+        assertSameAsBuffered(Inference.ofDataTreePath(context, QName.create("baz-namespace", "outer-container")),
+            readResource("/baz.xml"));
+        assertSameAsBuffered(Inference.ofDataTreePath(context, QName.create("foo-namespace", "parent-container")),
+            readResource("/foo.xml"));
+    }
+
+    @Test
+    void testKeyAfterOtherChildren() throws Exception {
+        assertSameAsBuffered(topSchema, """
+            <top xmlns="stream">
+              <item><id>1</id><value>one</value><a>x</a></item>
+              <item><value>two</value><id>2</id><b>y</b></item>
+              <item><a>z</a><b>w</b><id>3</id></item>
+              <tag>foo</tag>
+              <tag>bar</tag>
+              <other>other</other>
+            </top>""");
+    }
+
+    @Test
+    void testMissingKey() {
+        final var parser = XmlParserStream.create(
+            ImmutableNormalizedNodeStreamWriter.from(new NormalizationResultHolder()), topSchema);
+        final var ex = assertThrows(IOException.class, () -> parser.parseStreaming(
+            createReader("<top xmlns=\"stream\"><item><value>one</value></item></top>")));
+        assertThat(ex.getMessage()).startsWith("List entry (stream)item is missing leaf values for [id]");
+    }
+
+    @Test
+    void testInterleavedList() throws Exception {
+        final var xml = """
+            <top xmlns="stream">
+              <item><id>1</id></item>
+              <other>other</other>
+              <item><id>2</id></item>
+            </top>""";
+        final var parser = XmlParserStream.create(
+            ImmutableNormalizedNodeStreamWriter.from(new NormalizationResultHolder()), topSchema);
+        final var ex = assertThrows(XMLStreamException.class, () -> parser.parseStreaming(createReader(xml)));
+        assertThat(ex.getMessage()).contains("Elements of (stream)item are not contiguous");
+
+        // The buffering parser accepts it just fine
+        parse(topSchema, xml);
+    }
+
+    @Test
+    void testEntriesEmittedIncrementally() throws Exception {
+        final var sb = new StringBuilder("<top xmlns=\"stream\">");
+        for (int i = 0; i < 10_000; ++i) {
+            sb.append("<item><id>").append(i).append("</id><value>value ").append(i).append("</value></item>");
+        }
+        final var xml = sb.append("</top>").toString();
+        final var bytes = xml.getBytes(StandardCharsets.UTF_8);
+
+        final var input = new CountingInputStream(new ByteArrayInputStream(bytes));
+        final var result = new NormalizationResultHolder();
+        final var delegate = ImmutableNormalizedNodeStreamWriter.from(result);
+        final var firstEntryOffset = new long[] { -1 };
+        final var writer = new ForwardingNormalizedNodeStreamWriter() {
+            @Override
+            protected NormalizedNodeStreamWriter delegate() {
+                return delegate;
+            }
+
+            @Override
+            public void startMapEntryNode(final NodeIdentifierWithPredicates identifier, final int childSizeHint)
+                    throws IOException {
+                if (firstEntryOffset[0] == -1) {
+                    firstEntryOffset[0] = input.count;
+                }
+                super.startMapEntryNode(identifier, childSizeHint);
+            }
+        };
+
+        try (var parser = XmlParserStream.create(writer, topSchema)) {
+            parser.parseStreaming(UntrustedXML.createXMLStreamReader(input));
+        }
+        assertTrue(firstEntryOffset[0] < bytes.length / 10,
+            "First entry emitted after reading " + firstEntryOffset[0] + " bytes");
+        assertEquals(parse(topSchema, xml), result.getResult().data());
+    }
+
+    private static void assertSameAsBuffered(final Inference inference, final String xml) throws Exception {
+        final var result = new NormalizationResultHolder();
+        try (var parser = XmlParserStream.create(ImmutableNormalizedNodeStreamWriter.from(result), inference)) {
+            parser.parseStreaming(createReader(xml));
+        }
+        assertEquals(parse(inference, xml), result.getResult().data());
+    }
+
+    private static NormalizedNode parse(final Inference inference, final String xml) throws Exception {
+        final var result = new NormalizationResultHolder();
+        try (var parser = XmlParserStream.create(ImmutableNormalizedNodeStreamWriter.from(result), inference)) {
+            parser.parse(createReader(xml));
+        }
+        return result.getResult().data();
+    }
+
+    private static String readResource(final String name) throws IOException {
+        try (var stream = XmlParserStreamingTest.class.getResourceAsStream(name)) {
+            return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static XMLStreamReader createReader(final String xml) throws XMLStreamException {
+        return UntrustedXML.createXMLStreamReader(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+        long count;
+
+        CountingInputStream(final InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int ret = super.read();
+            if (ret != -1) {
+                count++;
+            }
+            return ret;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            final int ret = super.read(b, off, len);
+            if (ret > 0) {
+                count += ret;
+            }
+            return ret;
+        }
+    }
+}
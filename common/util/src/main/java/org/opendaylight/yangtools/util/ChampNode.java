@@ -0,0 +1,507 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.NoSuchElementException;
+
+/**
+ * A node of a Compressed Hash-Array Mapped Prefix-tree (CHAMP), as described in
+ * <a href="https://michael.steindorfer.name/publications/oopsla15.pdf">Optimizing Hash-Array Mapped Tries for Fast
+ * and Lean Immutable JVM Collections</a>. Unlike a {@link tech.pantheon.triemap.TrieMap}, this structure has no support
+ * for concurrent modification: it is a plain persistent map, which allows us to store key/value pairs inline in node
+ * arrays, without any per-entry indirection.
+ *
+ * <p>Nodes are immutable once they are published through a {@link ReadOnlyChampMap}. While they are being built by
+ * a {@link ReadWriteChampMap}, nodes carry an owner token: a node owned by the token passed to an update operation is
+ * updated in place, any other node is copied. This allows a modifiable map to amortize path copying across any number
+ * of updates.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+abstract sealed class ChampNode<K, V> {
+    /**
+     * Side channel for reporting the outcome of an update.
+     */
+    static final class Change<V> {
+        V oldValue;
+        boolean modified;
+        boolean sizeChanged;
+    }
+
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+    private static final int HASH_BITS = Integer.SIZE;
+
+    // Owner of this node, null if this node is frozen
+    final Object owner;
+
+    ChampNode(final Object owner) {
+        this.owner = owner;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <K, V> ChampNode<K, V> empty() {
+        return (ChampNode<K, V>) BitmapIndexed.EMPTY;
+    }
+
+    static int hash(final Object key) {
+        final int hash = key.hashCode();
+        return hash ^ hash >>> 16;
+    }
+
+    abstract V get(Object key, int hash, int shift);
+
+    abstract ChampNode<K, V> put(Object editor, K key, V value, int hash, int shift, Change<V> change);
+
+    abstract ChampNode<K, V> remove(Object editor, Object key, int hash, int shift, Change<V> change);
+
+    // Number of entries stored directly in this node
+    abstract int payloadArity();
+
+    // Number of child nodes
+    abstract int nodeArity();
+
+    abstract K keyAt(int index);
+
+    abstract V valueAt(int index);
+
+    abstract ChampNode<K, V> nodeAt(int index);
+
+    final boolean isSingleton() {
+        return payloadArity() == 1 && nodeArity() == 0;
+    }
+
+    private static int mask(final int hash, final int shift) {
+        return hash >>> shift & MASK;
+    }
+
+    private static int bitpos(final int mask) {
+        return 1 << mask;
+    }
+
+    /**
+     * A node indexed by two bitmaps: one for entries stored inline, the other for child nodes. Inline entries are
+     * stored as key/value pairs at the start of the content array, child nodes are stored in reverse order at its end.
+     */
+    static final class BitmapIndexed<K, V> extends ChampNode<K, V> {
+        static final BitmapIndexed<?, ?> EMPTY = new BitmapIndexed<>(null, 0, 0, new Object[0]);
+
+        private int dataMap;
+        private int nodeMap;
+        private Object[] content;
+
+        BitmapIndexed(final Object owner, final int dataMap, final int nodeMap, final Object[] content) {
+            super(owner);
+            this.dataMap = dataMap;
+            this.nodeMap = nodeMap;
+            this.content = content;
+        }
+
+        @Override
+        V get(final Object key, final int hash, final int shift) {
+            final int bit = bitpos(mask(hash, shift));
+            if ((dataMap & bit) != 0) {
+                final int idx = 2 * dataIndex(bit);
+                return key.equals(content[idx]) ? value(idx + 1) : null;
+            }
+            if ((nodeMap & bit) != 0) {
+                return subNode(bit).get(key, hash, shift + BITS);
+            }
+            return null;
+        }
+
+        @Override
+        ChampNode<K, V> put(final Object editor, final K key, final V value, final int hash, final int shift,
+                final Change<V> change) {
+            final int bit = bitpos(mask(hash, shift));
+            if ((dataMap & bit) != 0) {
+                final int idx = 2 * dataIndex(bit);
+                @SuppressWarnings("unchecked")
+                final var currentKey = (K) content[idx];
+                if (key.equals(currentKey)) {
+                    final var currentValue = value(idx + 1);
+                    change.oldValue = currentValue;
+                    if (currentValue == value) {
+                        return this;
+                    }
+                    change.modified = true;
+                    if (isOwnedBy(editor)) {
+                        content[idx + 1] = value;
+                        return this;
+                    }
+                    final var newContent = content.clone();
+                    newContent[idx + 1] = value;
+                    return new BitmapIndexed<>(editor, dataMap, nodeMap, newContent);
+                }
+
+                // Two distinct keys share the prefix so far: push both down to a new child node
+                final var subNode = mergeTwo(editor, currentKey, value(idx + 1), hash(currentKey), key, value, hash,
+                    shift + BITS);
+                change.modified = true;
+                change.sizeChanged = true;
+                return migrateInlineToNode(editor, bit, subNode);
+            }
+
+            if ((nodeMap & bit) != 0) {
+                final var subNode = subNode(bit);
+                final var newSubNode = subNode.put(editor, key, value, hash, shift + BITS, change);
+                return newSubNode == subNode ? this : setNode(editor, bit, newSubNode);
+            }
+
+            change.modified = true;
+            change.sizeChanged = true;
+            return insertValue(editor, bit, key, value);
+        }
+
+        @Override
+        ChampNode<K, V> remove(final Object editor, final Object key, final int hash, final int shift,
+                final Change<V> change) {
+            final int bit = bitpos(mask(hash, shift));
+            if ((dataMap & bit) != 0) {
+                final int idx = 2 * dataIndex(bit);
+                if (!key.equals(content[idx])) {
+                    return this;
+                }
+
+                change.oldValue = value(idx + 1);
+                change.modified = true;
+                change.sizeChanged = true;
+
+                if (shift != 0 && payloadArity() == 2 && nodeArity() == 0) {
+                    // The remaining entry will either be inlined into our parent or become the new root. In the latter
+                    // case it needs to be positioned for the root level, which is what we do here.
+                    final int remaining = 2 - idx;
+                    final var remainingKey = content[remaining];
+                    return new BitmapIndexed<>(editor, bitpos(mask(hash(remainingKey), 0)), 0,
+                        new Object[] { remainingKey, content[remaining + 1] });
+                }
+                return removeValue(editor, bit);
+            }
+
+            if ((nodeMap & bit) != 0) {
+                final var subNode = subNode(bit);
+                final var newSubNode = subNode.remove(editor, key, hash, shift + BITS, change);
+                if (!change.modified) {
+                    return this;
+                }
+                if (newSubNode.isSingleton()) {
+                    // Propagate the singleton up if we have nothing else, otherwise inline it
+                    return payloadArity() == 0 && nodeArity() == 1 ? newSubNode
+                        : migrateNodeToInline(editor, bit, newSubNode);
+                }
+                return newSubNode == subNode ? this : setNode(editor, bit, newSubNode);
+            }
+
+            return this;
+        }
+
+        @Override
+        int payloadArity() {
+            return Integer.bitCount(dataMap);
+        }
+
+        @Override
+        int nodeArity() {
+            return Integer.bitCount(nodeMap);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        K keyAt(final int index) {
+            return (K) content[2 * index];
+        }
+
+        @Override
+        V valueAt(final int index) {
+            return value(2 * index + 1);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        ChampNode<K, V> nodeAt(final int index) {
+            return (ChampNode<K, V>) content[content.length - 1 - index];
+        }
+
+        private boolean isOwnedBy(final Object editor) {
+            return editor != null && owner == editor;
+        }
+
+        @SuppressWarnings("unchecked")
+        private V value(final int idx) {
+            return (V) content[idx];
+        }
+
+        private int dataIndex(final int bit) {
+            return Integer.bitCount(dataMap & bit - 1);
+        }
+
+        private int nodeIndex(final int bit) {
+            return Integer.bitCount(nodeMap & bit - 1);
+        }
+
+        private ChampNode<K, V> subNode(final int bit) {
+            return nodeAt(nodeIndex(bit));
+        }
+
+        private ChampNode<K, V> setNode(final Object editor, final int bit, final ChampNode<K, V> node) {
+            final int idx = content.length - 1 - nodeIndex(bit);
+            if (isOwnedBy(editor)) {
+                content[idx] = node;
+                return this;
+            }
+            final var newContent = content.clone();
+            newContent[idx] = node;
+            return new BitmapIndexed<>(editor, dataMap, nodeMap, newContent);
+        }
+
+        private ChampNode<K, V> insertValue(final Object editor, final int bit, final K key, final V value) {
+            final int idx = 2 * dataIndex(bit);
+            final var newContent = new Object[content.length + 2];
+            System.arraycopy(content, 0, newContent, 0, idx);
+            newContent[idx] = key;
+            newContent[idx + 1] = value;
+            System.arraycopy(content, idx, newContent, idx + 2, content.length - idx);
+            return update(editor, dataMap | bit, nodeMap, newContent);
+        }
+
+        private ChampNode<K, V> removeValue(final Object editor, final int bit) {
+            final int idx = 2 * dataIndex(bit);
+            final var newContent = new Object[content.length - 2];
+            System.arraycopy(content, 0, newContent, 0, idx);
+            System.arraycopy(content, idx + 2, newContent, idx, content.length - idx - 2);
+            return update(editor, dataMap ^ bit, nodeMap, newContent);
+        }
+
+        private ChampNode<K, V> migrateInlineToNode(final Object editor, final int bit, final ChampNode<K, V> node) {
+            final int oldIdx = 2 * dataIndex(bit);
+            final int newIdx = content.length - 2 - nodeIndex(bit);
+            final var newContent = new Object[content.length - 1];
+
+            // copy data before the migrated entry, then data and nodes up to the insertion point, then the new node,
+            // then remaining nodes
+            System.arraycopy(content, 0, newContent, 0, oldIdx);
+            System.arraycopy(content, oldIdx + 2, newContent, oldIdx, newIdx - oldIdx);
+            newContent[newIdx] = node;
+            System.arraycopy(content, newIdx + 2, newContent, newIdx + 1, content.length - newIdx - 2);
+            return update(editor, dataMap ^ bit, nodeMap | bit, newContent);
+        }
+
+        private ChampNode<K, V> migrateNodeToInline(final Object editor, final int bit, final ChampNode<K, V> node) {
+            final int oldIdx = content.length - 1 - nodeIndex(bit);
+            final int newIdx = 2 * dataIndex(bit);
+            final var newContent = new Object[content.length + 1];
+
+            // copy data up to the insertion point, then the inlined entry, then everything up to the removed node,
+            // then remaining nodes
+            System.arraycopy(content, 0, newContent, 0, newIdx);
+            newContent[newIdx] = node.keyAt(0);
+            newContent[newIdx + 1] = node.valueAt(0);
+            System.arraycopy(content, newIdx, newContent, newIdx + 2, oldIdx - newIdx);
+            System.arraycopy(content, oldIdx + 1, newContent, oldIdx + 2, content.length - oldIdx - 1);
+            return update(editor, dataMap | bit, nodeMap ^ bit, newContent);
+        }
+
+        private ChampNode<K, V> update(final Object editor, final int newDataMap, final int newNodeMap,
+                final Object[] newContent) {
+            if (isOwnedBy(editor)) {
+                dataMap = newDataMap;
+                nodeMap = newNodeMap;
+                content = newContent;
+                return this;
+            }
+            return new BitmapIndexed<>(editor, newDataMap, newNodeMap, newContent);
+        }
+
+        private static <K, V> ChampNode<K, V> mergeTwo(final Object editor, final K key0, final V value0,
+                final int hash0, final K key1, final V value1, final int hash1, final int shift) {
+            if (shift >= HASH_BITS) {
+                return new Collision<>(editor, hash0, new Object[] { key0, value0, key1, value1 });
+            }
+
+            final int mask0 = mask(hash0, shift);
+            final int mask1 = mask(hash1, shift);
+            if (mask0 != mask1) {
+                final int dataMap = bitpos(mask0) | bitpos(mask1);
+                return new BitmapIndexed<>(editor, dataMap, 0, mask0 < mask1
+                    ? new Object[] { key0, value0, key1, value1 } : new Object[] { key1, value1, key0, value0 });
+            }
+
+            final var node = mergeTwo(editor, key0, value0, hash0, key1, value1, hash1, shift + BITS);
+            return new BitmapIndexed<>(editor, 0, bitpos(mask0), new Object[] { node });
+        }
+    }
+
+    /**
+     * A node holding entries whose keys have identical hashes.
+     */
+    static final class Collision<K, V> extends ChampNode<K, V> {
+        private final int hash;
+        private final Object[] content;
+
+        Collision(final Object owner, final int hash, final Object[] content) {
+            super(owner);
+            this.hash = hash;
+            this.content = requireNonNull(content);
+        }
+
+        @Override
+        V get(final Object key, final int keyHash, final int shift) {
+            final int idx = indexOf(key);
+            return idx < 0 ? null : valueAt(idx);
+        }
+
+        @Override
+        ChampNode<K, V> put(final Object editor, final K key, final V value, final int keyHash, final int shift,
+                final Change<V> change) {
+            final int idx = indexOf(key);
+            if (idx >= 0) {
+                final var currentValue = valueAt(idx);
+                change.oldValue = currentValue;
+                if (currentValue == value) {
+                    return this;
+                }
+                change.modified = true;
+                final var newContent = content.clone();
+                newContent[2 * idx + 1] = value;
+                return new Collision<>(editor, hash, newContent);
+            }
+
+            change.modified = true;
+            change.sizeChanged = true;
+            final var newContent = Arrays.copyOf(content, content.length + 2);
+            newContent[content.length] = key;
+            newContent[content.length + 1] = value;
+            return new Collision<>(editor, hash, newContent);
+        }
+
+        @Override
+        ChampNode<K, V> remove(final Object editor, final Object key, final int keyHash, final int shift,
+                final Change<V> change) {
+            final int idx = indexOf(key);
+            if (idx < 0) {
+                return this;
+            }
+
+            change.oldValue = valueAt(idx);
+            change.modified = true;
+            change.sizeChanged = true;
+            if (content.length == 4) {
+                // Single entry remains, turn it into a root-positioned singleton, just like BitmapIndexed.remove()
+                final int remaining = 2 - 2 * idx;
+                return new BitmapIndexed<>(editor, bitpos(mask(hash, 0)), 0,
+                    new Object[] { content[remaining], content[remaining + 1] });
+            }
+
+            final var newContent = new Object[content.length - 2];
+            System.arraycopy(content, 0, newContent, 0, 2 * idx);
+            System.arraycopy(content, 2 * idx + 2, newContent, 2 * idx, content.length - 2 * idx - 2);
+            return new Collision<>(editor, hash, newContent);
+        }
+
+        @Override
+        int payloadArity() {
+            return content.length / 2;
+        }
+
+        @Override
+        int nodeArity() {
+            return 0;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        K keyAt(final int index) {
+            return (K) content[2 * index];
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        V valueAt(final int index) {
+            return (V) content[2 * index + 1];
+        }
+
+        @Override
+        ChampNode<K, V> nodeAt(final int index) {
+            throw new IndexOutOfBoundsException(index);
+        }
+
+        private int indexOf(final Object key) {
+            for (int i = 0; i < content.length; i += 2) {
+                if (key.equals(content[i])) {
+                    return i / 2;
+                }
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * Depth-first iterator over entries reachable from a node.
+     */
+    static final class EntryIterator<K, V> implements Iterator<Entry<K, V>> {
+        // Maximum depth: one level per 5 bits of hash plus a collision node
+        private static final int MAX_DEPTH = (HASH_BITS + BITS - 1) / BITS + 1;
+
+        @SuppressWarnings("unchecked")
+        private final ChampNode<K, V>[] nodes = new ChampNode[MAX_DEPTH];
+        private final int[] nodeCursors = new int[MAX_DEPTH];
+        private int depth;
+
+        private ChampNode<K, V> payloadNode;
+        private int payloadCursor;
+
+        EntryIterator(final ChampNode<K, V> root) {
+            nodes[0] = root;
+            payloadNode = root;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (true) {
+                if (payloadNode != null && payloadCursor < payloadNode.payloadArity()) {
+                    return true;
+                }
+                if (depth < 0) {
+                    return false;
+                }
+
+                final var node = nodes[depth];
+                final int cursor = nodeCursors[depth];
+                if (cursor < node.nodeArity()) {
+                    nodeCursors[depth] = cursor + 1;
+                    final var child = node.nodeAt(cursor);
+                    depth++;
+                    nodes[depth] = child;
+                    nodeCursors[depth] = 0;
+                    payloadNode = child;
+                    payloadCursor = 0;
+                } else {
+                    nodes[depth] = null;
+                    depth--;
+                    payloadNode = null;
+                }
+            }
+        }
+
+        @Override
+        public Entry<K, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final int idx = payloadCursor++;
+            return Map.entry(payloadNode.keyAt(idx), payloadNode.valueAt(idx));
+        }
+    }
+}
@@ -8,10 +8,13 @@
 package org.opendaylight.yangtools.util;
 
 import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
 
 import com.google.common.collect.ImmutableMap;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -22,15 +25,35 @@ import tech.pantheon.triemap.TrieMap;
  * what the underlying implementation is.
  */
 public final class MapAdaptor {
+    /**
+     * Type of persistent map used for maps holding at least {@code persistMinItems} entries.
+     */
+    public enum PersistentMapType {
+        /**
+         * A {@link TrieMap}. Snapshots are cheap to take, but each entry carries the overhead of the concurrent trie.
+         */
+        TRIEMAP,
+        /**
+         * A Compressed Hash-Array Mapped Prefix-tree. Entries are stored inline in trie nodes, resulting in a markedly
+         * smaller footprint. Since it does not support concurrent access, modifications made through
+         * {@link MapAdaptor#takeSnapshot(Map)} copy only the nodes on the path to the modified entry.
+         */
+        CHAMP
+    }
+
     public static final int DEFAULT_COPY_MAX_ITEMS = 100;
     public static final String COPY_MAX_ITEMS_MAX_PROP = "org.opendaylight.yangtools.util.mapadaptor.maxcopy";
 
     public static final int DEFAULT_PERSIST_MIN_ITEMS = 50;
     public static final String PERSIST_MIN_ITEMS_PROP = "org.opendaylight.yangtools.util.mapadaptor.minpersist";
 
+    public static final PersistentMapType DEFAULT_PERSISTENT_MAP_TYPE = PersistentMapType.TRIEMAP;
+    public static final String PERSISTENT_MAP_TYPE_PROP = "org.opendaylight.yangtools.util.mapadaptor.persistent";
+
     private static final Logger LOG = LoggerFactory.getLogger(MapAdaptor.class);
     private static final MapAdaptor DEFAULT_INSTANCE;
 
+    private final PersistentMapType persistentType;
     private final boolean useSingleton;
     private final int persistMinItems;
     private final int copyMaxItems;
@@ -38,11 +61,26 @@ public final class MapAdaptor {
     static {
         DEFAULT_INSTANCE = new MapAdaptor(true,
                 getProperty(COPY_MAX_ITEMS_MAX_PROP, DEFAULT_COPY_MAX_ITEMS),
-                getProperty(PERSIST_MIN_ITEMS_PROP, DEFAULT_PERSIST_MIN_ITEMS));
-        LOG.debug("Configured HashMap/TrieMap cutoff at {}/{} entries",
+                getProperty(PERSIST_MIN_ITEMS_PROP, DEFAULT_PERSIST_MIN_ITEMS),
+                getPersistentMapType());
+        LOG.debug("Configured HashMap/{} cutoff at {}/{} entries", DEFAULT_INSTANCE.persistentType,
                 DEFAULT_INSTANCE.persistMinItems, DEFAULT_INSTANCE.copyMaxItems);
     }
 
+    private static PersistentMapType getPersistentMapType() {
+        final var str = System.getProperty(PERSISTENT_MAP_TYPE_PROP);
+        if (str == null) {
+            return DEFAULT_PERSISTENT_MAP_TYPE;
+        }
+        try {
+            return PersistentMapType.valueOf(str.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            LOG.warn("Ignoring illegal value of {}: has to be one of {}", PERSISTENT_MAP_TYPE_PROP,
+                Arrays.toString(PersistentMapType.values()), e);
+            return DEFAULT_PERSISTENT_MAP_TYPE;
+        }
+    }
+
     private static int getProperty(final String name, final int defaultValue) {
         final int val = Integer.getInteger(name, defaultValue);
         if (val > 0) {
@@ -53,7 +91,9 @@ public final class MapAdaptor {
         return defaultValue;
     }
 
-    private MapAdaptor(final boolean useSingleton, final int copyMaxItems, final int persistMinItems) {
+    private MapAdaptor(final boolean useSingleton, final int copyMaxItems, final int persistMinItems,
+            final PersistentMapType persistentType) {
+        this.persistentType = requireNonNull(persistentType);
         this.useSingleton = useSingleton;
         this.copyMaxItems = copyMaxItems;
         this.persistMinItems = persistMinItems;
@@ -70,10 +110,15 @@ public final class MapAdaptor {
 
     public static MapAdaptor getInstance(final boolean useSingleton, final int copyMaxItems,
             final int persistMinItems) {
+        return getInstance(useSingleton, copyMaxItems, persistMinItems, DEFAULT_PERSISTENT_MAP_TYPE);
+    }
+
+    public static MapAdaptor getInstance(final boolean useSingleton, final int copyMaxItems,
+            final int persistMinItems, final PersistentMapType persistentType) {
         checkArgument(copyMaxItems >= 0, "copyMaxItems has to be a non-negative integer");
         checkArgument(persistMinItems >= 0, "persistMinItems has to be a positive integer");
         checkArgument(persistMinItems <= copyMaxItems, "persistMinItems must be less than or equal to copyMaxItems");
-        return new MapAdaptor(useSingleton, copyMaxItems, persistMinItems);
+        return new MapAdaptor(useSingleton, copyMaxItems, persistMinItems, persistentType);
     }
 
     /**
@@ -85,7 +130,10 @@ public final class MapAdaptor {
     public <K, V> Map<K, V> initialSnapshot(final int expectedSize) {
         checkArgument(expectedSize >= 0);
         if (expectedSize > persistMinItems) {
-            return new ReadWriteTrieMap<>();
+            return switch (persistentType) {
+                case TRIEMAP -> new ReadWriteTrieMap<>();
+                case CHAMP -> new ReadWriteChampMap<>();
+            };
         }
 
         if (expectedSize < 2) {
@@ -106,7 +154,11 @@ public final class MapAdaptor {
      */
     @SuppressWarnings("static-method")
     public <K, V> Map<K, V> takeSnapshot(final Map<K, V> input) {
-        return input instanceof ReadOnlyTrieMap<K, V> rotm ? rotm.toReadWrite() : toReadWrite(input);
+        return switch (input) {
+            case ReadOnlyTrieMap<K, V> rotm -> rotm.toReadWrite();
+            case ReadOnlyChampMap<K, V> rocm -> rocm.toReadWrite();
+            default -> toReadWrite(input);
+        };
     }
 
     private static <K, V> Map<K, V> toReadWrite(final Map<K, V> input) {
@@ -154,7 +206,7 @@ public final class MapAdaptor {
      * @throws NullPointerException if input is null
      */
     public <K, V> Map<K, V> optimize(final Map<K, V> input) {
-        if (input instanceof ReadOnlyTrieMap) {
+        if (input instanceof ReadOnlyTrieMap || input instanceof ReadOnlyChampMap) {
             LOG.warn("Optimizing read-only map {}", input);
         }
 
@@ -172,8 +224,13 @@ public final class MapAdaptor {
          * We retain the persistent map as long as it holds at least
          * persistMinItems
          */
-        if (input instanceof ReadWriteTrieMap<K, V> rwtm && size >= persistMinItems) {
-            return rwtm.toReadOnly();
+        if (size >= persistMinItems) {
+            if (input instanceof ReadWriteTrieMap<K, V> rwtm) {
+                return rwtm.toReadOnly();
+            }
+            if (input instanceof ReadWriteChampMap<K, V> rwcm) {
+                return rwcm.toReadOnly();
+            }
         }
 
         /*
@@ -202,6 +259,13 @@ public final class MapAdaptor {
             return ret;
         }
 
+        return switch (persistentType) {
+            case TRIEMAP -> toTrieMap(input, size);
+            case CHAMP -> toChampMap(input, size);
+        };
+    }
+
+    private static <K, V> Map<K, V> toTrieMap(final Map<K, V> input, final int size) {
         /*
          * Favor isolation speed: use a TrieMap and perform snapshots
          *
@@ -217,4 +281,16 @@ public final class MapAdaptor {
         LOG.trace("Read-only TrieMap is {}", ret);
         return ret;
     }
+
+    private static <K, V> Map<K, V> toChampMap(final Map<K, V> input, final int size) {
+        /*
+         * Favor isolation speed and footprint: use a CHAMP, which shares structure with modified copies
+         */
+        LOG.trace("Copying input {} to a CHAMP ({} entries)", input, size);
+        final var map = new ReadWriteChampMap<K, V>();
+        map.putAll(input);
+        final var ret = map.toReadOnly();
+        LOG.trace("Read-only CHAMP is {}", ret);
+        return ret;
+    }
 }
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An immutable map backed by a CHAMP. This is what we give out from MapAdaptor.optimize() when configured with
+ * {@link MapAdaptor.PersistentMapType#CHAMP}. Unlike {@link ReadOnlyTrieMap}, there is no snapshot to be taken:
+ * the nodes are immutable and {@link #toReadWrite()} shares them with the returned map until it modifies them.
+ */
+final class ReadOnlyChampMap<K, V> extends AbstractMap<K, V> {
+    private static final Logger LOG = LoggerFactory.getLogger(ReadOnlyChampMap.class);
+
+    private final ChampNode<K, V> root;
+    private final int size;
+
+    ReadOnlyChampMap(final ChampNode<K, V> root, final int size) {
+        this.root = requireNonNull(root);
+        this.size = size;
+    }
+
+    ReadWriteChampMap<K, V> toReadWrite() {
+        final var ret = new ReadWriteChampMap<>(root, size);
+        LOG.trace("Converted read-only CHAMP {} to read-write {}", this, ret);
+        return ret;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public V get(final Object key) {
+        return root.get(key, ChampNode.hash(key), 0);
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<K, V>> iterator() {
+                return new ChampNode.EntryIterator<>(root);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+}
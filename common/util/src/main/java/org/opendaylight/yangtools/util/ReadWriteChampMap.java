@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A modifiable facade over a CHAMP. Nodes created by this map are updated in place until {@link #toReadOnly()} is
+ * invoked, at which point they become shared with the returned {@link ReadOnlyChampMap} and any subsequent update
+ * copies them. This map is not thread-safe.
+ *
+ * @param <K> Key type
+ * @param <V> Value type
+ */
+// FIXME: this map does not support modification view the keySet()/values()/entrySet() methods
+final class ReadWriteChampMap<K, V> extends AbstractMap<K, V> {
+    private static final Logger LOG = LoggerFactory.getLogger(ReadWriteChampMap.class);
+
+    private ChampNode<K, V> root;
+    private Object owner;
+    private int size;
+
+    ReadWriteChampMap() {
+        this(ChampNode.empty(), 0);
+    }
+
+    ReadWriteChampMap(final ChampNode<K, V> root, final int size) {
+        this.root = requireNonNull(root);
+        this.size = size;
+        owner = new Object();
+    }
+
+    Map<K, V> toReadOnly() {
+        final var ret = new ReadOnlyChampMap<>(root, size);
+        // Relinquish ownership of current nodes: they are now shared
+        owner = new Object();
+        LOG.trace("Converted read-write CHAMP {} to read-only {}", this, ret);
+        return ret;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public V get(final Object key) {
+        return root.get(key, ChampNode.hash(key), 0);
+    }
+
+    @Override
+    public V put(final K key, final V value) {
+        requireNonNull(value);
+        final var change = new ChampNode.Change<V>();
+        root = root.put(owner, key, value, ChampNode.hash(key), 0, change);
+        if (change.sizeChanged) {
+            size++;
+        }
+        return change.oldValue;
+    }
+
+    @Override
+    public V remove(final Object key) {
+        final var change = new ChampNode.Change<V>();
+        root = root.remove(owner, key, ChampNode.hash(key), 0, change);
+        if (change.sizeChanged) {
+            size--;
+        }
+        return change.oldValue;
+    }
+
+    @Override
+    @SuppressWarnings("checkstyle:parameterName")
+    public void putAll(final Map<? extends K, ? extends V> m) {
+        for (var e : m.entrySet()) {
+            put(e.getKey(), e.getValue());
+        }
+    }
+
+    @Override
+    public void clear() {
+        root = ChampNode.empty();
+        size = 0;
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<K, V>> iterator() {
+                return new ChampNode.EntryIterator<>(root);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+}
@@ -10,21 +10,26 @@ package org.opendaylight.yangtools.util.concurrent;
 import static com.google.common.base.Preconditions.checkArgument;
 import static java.util.Objects.requireNonNull;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableList;
 import com.google.errorprone.annotations.concurrent.GuardedBy;
 import java.util.ArrayDeque;
-import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.LockSupport;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Stream;
 import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.yangtools.concepts.AbstractSimpleIdentifiable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -39,6 +44,8 @@ import org.slf4j.LoggerFactory;
  * previous tasks have been dispatched are appended to the existing queue. When all tasks have been dispatched,
  * the queue and dispatcher task are discarded.
  *
+ * <p>The per-worker queue implementation is selected by {@link NotificationQueueMode}.
+ *
  * @param <K> worker key type
  * @param <T> task type
  * @author Thomas Pantelis
@@ -54,14 +61,28 @@ abstract class AbstractBatchingExecutor<K, T> extends AbstractSimpleIdentifiable
     private static final int MAX_NOTIFICATION_OFFER_MINUTES = 10;
     private static final long GIVE_UP_NANOS = TimeUnit.MINUTES.toNanos(MAX_NOTIFICATION_OFFER_MINUTES);
     private static final long TASK_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    /**
+     * Latency statistics of workers which have not been dispatched to in this long are discarded.
+     */
+    private static final long LATENCY_RETENTION_MINUTES = 10;
 
     private final ConcurrentMap<K, DispatcherTask> dispatcherTasks = new ConcurrentHashMap<>();
+    private final Cache<K, LatencyHistogram> latencies = CacheBuilder.newBuilder()
+        .expireAfterAccess(LATENCY_RETENTION_MINUTES, TimeUnit.MINUTES)
+        .build();
     private final @NonNull Executor executor;
+    private final @NonNull NotificationQueueMode queueMode;
     private final int maxQueueCapacity;
 
     AbstractBatchingExecutor(final @NonNull String name, final @NonNull Executor executor, final int maxQueueCapacity) {
+        this(name, executor, maxQueueCapacity, NotificationQueueMode.LOCKING);
+    }
+
+    AbstractBatchingExecutor(final @NonNull String name, final @NonNull Executor executor, final int maxQueueCapacity,
+            final @NonNull NotificationQueueMode queueMode) {
         super(name);
         this.executor = requireNonNull(executor);
+        this.queueMode = requireNonNull(queueMode);
         checkArgument(maxQueueCapacity > 0, "Invalid maxQueueCapacity %s must be > 0", maxQueueCapacity);
         this.maxQueueCapacity = maxQueueCapacity;
     }
@@ -80,97 +101,230 @@ abstract class AbstractBatchingExecutor<K, T> extends AbstractSimpleIdentifiable
         return executor;
     }
 
-    // FIXME: YANGTOOLS-1016: allow explicit blocking control
+    /**
+     * Returns the {@link NotificationQueueMode} of worker queues.
+     */
+    final @NonNull NotificationQueueMode queueMode() {
+        return queueMode;
+    }
+
     final void submitTask(final K key, final T task) {
-        submitTasks(key, Collections.singletonList(requireNonNull(task)));
+        submitTasks(key, List.of(requireNonNull(task)));
     }
 
-    // FIXME: YANGTOOLS-1016: allow explicit blocking control with return of un-enqueued tasks (or removal from input)
     final void submitTasks(final K key, final Iterable<T> tasks) {
         if (tasks == null || key == null) {
             return;
         }
 
-        LOG.trace("{}: submitTasks for worker {}: {}", getIdentifier(), key, tasks);
+        try {
+            final var remaining = enqueueTasks(key, tasks.iterator(), System.nanoTime() + GIVE_UP_NANOS);
+            if (remaining != null) {
+                LOG.warn("""
+                    {}: Failed to offer tasks {} to the queue for worker {}. Exceeded maximum allowable time of {} \
+                    minutes; the worker is likely in an unrecoverable state (deadlock or endless loop).""",
+                    getIdentifier(), ImmutableList.copyOf(remaining), key, MAX_NOTIFICATION_OFFER_MINUTES);
+            }
+        } catch (InterruptedException e) {
+            // We were interrupted trying to offer to the worker's queue. Somebody's probably telling us to quit.
+            LOG.warn("{}: Interrupted trying to add to {} worker's queue", getIdentifier(), key);
+        }
+    }
 
-        // Keep looping until we are either able to add a new DispatcherTask or are able to add our tasks to an existing
-        // DispatcherTask. Eventually one or the other will occur.
+    /**
+     * Submit tasks to a worker, waiting at most specified time for space to become available in the worker's queue.
+     * Unlike {@link #submitTasks(Object, Iterable)}, tasks which could not be enqueued are returned to the caller.
+     *
+     * @param key worker key
+     * @param tasks tasks to submit
+     * @param timeout maximum time to wait, zero or negative values indicate tasks should be enqueued only if there is
+     *                space available immediately
+     * @param unit time unit of {@code timeout}
+     * @return tasks which were not enqueued, in submission order
+     */
+    final @NonNull ImmutableList<T> offerTasks(final @NonNull K key, final @NonNull Iterable<T> tasks,
+            final long timeout, final @NonNull TimeUnit unit) {
+        final var it = tasks.iterator();
+        final Iterator<T> remaining;
         try {
-            Iterator<T> it = tasks.iterator();
+            remaining = enqueueTasks(requireNonNull(key), it, System.nanoTime() + unit.toNanos(timeout));
+        } catch (InterruptedException e) {
+            LOG.debug("{}: Interrupted trying to add to {} worker's queue", getIdentifier(), key, e);
+            Thread.currentThread().interrupt();
+            return ImmutableList.copyOf(it);
+        }
+        return remaining == null ? ImmutableList.of() : ImmutableList.copyOf(remaining);
+    }
 
-            while (true) {
-                DispatcherTask task = dispatcherTasks.get(key);
-                if (task == null) {
-                    // No task found, try to insert a new one
-                    final DispatcherTask newTask = new DispatcherTask(key, it);
-                    task = dispatcherTasks.putIfAbsent(key, newTask);
-                    if (task == null) {
-                        // We were able to put our new task - now submit it to the executor and we're done. If it throws
-                        // a RejectedExecutionException, let that propagate to the caller.
-                        runTask(key, newTask);
-                        break;
-                    }
+    /**
+     * Enqueue tasks, returning tasks which have not been enqueued before specified deadline.
+     *
+     * @return {@code null} if all tasks have been enqueued, or an iterator over the tasks which have not been
+     */
+    private @Nullable Iterator<T> enqueueTasks(final @NonNull K key, final @NonNull Iterator<T> tasks,
+            final long deadline) throws InterruptedException {
+        LOG.trace("{}: submitTasks for worker {}", getIdentifier(), key);
 
-                    // We have a racing task, hence we can continue, but we need to refresh our iterator from the task.
-                    it = newTask.recoverItems();
+        // Keep looping until we are either able to add a new DispatcherTask or are able to add our tasks to an existing
+        // DispatcherTask. Eventually one or the other will occur.
+        Iterator<T> it = tasks;
+        while (true) {
+            DispatcherTask task = dispatcherTasks.get(key);
+            if (task == null) {
+                // No task found, try to insert a new one
+                final DispatcherTask newTask = newDispatcherTask(key, it);
+                task = dispatcherTasks.putIfAbsent(key, newTask);
+                if (task == null) {
+                    // We were able to put our new task - now submit it to the executor and we're done. If it throws
+                    // a RejectedExecutionException, let that propagate to the caller.
+                    runTask(key, newTask);
+                    break;
                 }
 
-                final boolean completed = task.submitTasks(it);
-                if (!completed) {
-                    // Task is indicating it is exiting before it has consumed all the items and is exiting. Rather
-                    // than spinning on removal, we try to replace it.
-                    final DispatcherTask newTask = new DispatcherTask(key, it);
-                    if (dispatcherTasks.replace(key, task, newTask)) {
-                        runTask(key, newTask);
-                        break;
-                    }
+                // We have a racing task, hence we can continue, but we need to refresh our iterator from the task.
+                it = newTask.recoverItems();
+            }
 
-                    // We failed to replace the task, hence we need retry. Note we have to recover the items to be
-                    // published from the new task.
-                    it = newTask.recoverItems();
-                    LOG.debug("{}: retrying task queueing for {}", getIdentifier(), key);
-                    continue;
+            final var result = task.submitTasks(it, deadline);
+            if (result == SubmitResult.EXITING) {
+                // Task is indicating it is exiting before it has consumed all the items and is exiting. Rather
+                // than spinning on removal, we try to replace it.
+                final DispatcherTask newTask = newDispatcherTask(key, it);
+                if (dispatcherTasks.replace(key, task, newTask)) {
+                    runTask(key, newTask);
+                    break;
                 }
 
-                // All tasks have either been delivered or we have timed out and warned about the ones we have failed
-                // to deliver. In any case we are done here.
-                break;
+                // We failed to replace the task, hence we need retry. Note we have to recover the items to be
+                // published from the new task.
+                it = newTask.recoverItems();
+                LOG.debug("{}: retrying task queueing for {}", getIdentifier(), key);
+                continue;
             }
-        } catch (InterruptedException e) {
-            // We were interrupted trying to offer to the worker's queue. Somebody's probably telling us to quit.
-            LOG.warn("{}: Interrupted trying to add to {} worker's queue", getIdentifier(), key);
+            if (result == SubmitResult.TIMED_OUT) {
+                // We have timed out, the caller needs to deal with the remaining tasks
+                LOG.trace("{}: submitTasks timed out for worker {}", getIdentifier(), key);
+                return it;
+            }
+
+            // All tasks have been delivered, we are done here.
+            break;
         }
 
         LOG.trace("{}: submitTasks done for worker {}", getIdentifier(), key);
+        return null;
     }
 
     final Stream<DispatcherTask> streamTasks() {
         return dispatcherTasks.values().stream();
     }
 
+    final Stream<ListenerLatencyStats> streamLatencies() {
+        return latencies.asMap().entrySet().stream()
+            .map(entry -> entry.getValue().toStats(entry.getKey().toString()));
+    }
+
+    final void resetLatencies() {
+        latencies.invalidateAll();
+    }
+
     abstract void executeBatch(K key, @NonNull ImmutableList<T> tasks) throws Exception;
 
+    private @NonNull DispatcherTask newDispatcherTask(final @NonNull K key, final @NonNull Iterator<T> tasks) {
+        return switch (queueMode) {
+            case LOCKING -> new LockingDispatcherTask(key, tasks);
+            case LOCK_FREE -> new LockFreeDispatcherTask(key, tasks);
+        };
+    }
+
     private void runTask(final K key, final DispatcherTask task) {
         LOG.debug("{}: Submitting DispatcherTask for worker {}", getIdentifier(), key);
         executor.execute(task);
     }
 
+    /**
+     * Outcome of {@link DispatcherTask#submitTasks(Iterator, long)}.
+     */
+    private enum SubmitResult {
+        /**
+         * All tasks have been enqueued.
+         */
+        ENQUEUED,
+        /**
+         * The dispatcher task is exiting, the remaining tasks need to be enqueued to a new one.
+         */
+        EXITING,
+        /**
+         * The deadline has passed before the remaining tasks could be enqueued.
+         */
+        TIMED_OUT;
+    }
+
     /**
      * Executor task for a single worker that queues tasks and sends them serially to the worker.
      */
-    final class DispatcherTask implements Runnable {
+    abstract sealed class DispatcherTask implements Runnable {
+        private final @NonNull K key;
+
+        DispatcherTask(final @NonNull K key) {
+            this.key = requireNonNull(key);
+        }
+
+        final @NonNull K key() {
+            return key;
+        }
+
+        /**
+         * Return the items this task was created with. Invoked only when the task is not started and will never get
+         * started.
+         */
+        abstract @NonNull Iterator<T> recoverItems();
+
+        abstract int size();
+
+        abstract @NonNull SubmitResult submitTasks(@NonNull Iterator<T> tasks, long deadline)
+            throws InterruptedException;
+
+        /**
+         * Unregister this task. Must be invoked as the last thing before exiting {@link #run()}.
+         */
+        final void unregister() {
+            dispatcherTasks.remove(key, this);
+        }
+
+        @SuppressWarnings("checkstyle:illegalCatch")
+        final void invokeWorker(final @NonNull ImmutableList<T> tasks, final long oldestNanos) {
+            latencies.asMap().computeIfAbsent(key, k -> new LatencyHistogram()).record(System.nanoTime() - oldestNanos);
+
+            LOG.debug("{}: Invoking worker {} with tasks: {}", getIdentifier(), key, tasks);
+            try {
+                executeBatch(key, tasks);
+            } catch (Exception e) {
+                // We'll let a RuntimeException from the worker slide and keep sending any remaining tasks.
+                LOG.error("{}: Error invoking worker {} with {}", getIdentifier(), key, tasks, e);
+            }
+        }
+    }
+
+    /**
+     * A {@link DispatcherTask} guarding its queue with a lock.
+     */
+    private final class LockingDispatcherTask extends DispatcherTask {
         private final Lock lock = new ReentrantLock();
         private final Condition notEmpty = lock.newCondition();
         private final Condition notFull = lock.newCondition();
-        private final @NonNull K key;
 
         @GuardedBy("lock")
         private final Queue<T> queue = new ArrayDeque<>();
         @GuardedBy("lock")
         private boolean exiting;
+        // Time at which the oldest task in the queue was enqueued
+        @GuardedBy("lock")
+        private long oldestNanos;
 
-        DispatcherTask(final @NonNull K key, final @NonNull Iterator<T> tasks) {
-            this.key = requireNonNull(key);
+        LockingDispatcherTask(final @NonNull K key, final @NonNull Iterator<T> tasks) {
+            super(key);
+            oldestNanos = System.nanoTime();
             while (tasks.hasNext()) {
                 final T task = tasks.next();
                 if (task != null) {
@@ -179,17 +333,15 @@ abstract class AbstractBatchingExecutor<K, T> extends AbstractSimpleIdentifiable
             }
         }
 
+        @Override
         @SuppressWarnings("GuardedBy")
-        @NonNull Iterator<T> recoverItems() {
+        Iterator<T> recoverItems() {
             // This violates @GuardedBy annotation, but is invoked only when the task is not started and will never
             // get started, hence this is safe.
             return queue.iterator();
         }
 
-        @NonNull K key() {
-            return key;
-        }
-
+        @Override
         int size() {
             lock.lock();
             try {
@@ -199,10 +351,8 @@ abstract class AbstractBatchingExecutor<K, T> extends AbstractSimpleIdentifiable
             }
         }
 
-        boolean submitTasks(final @NonNull Iterator<T> tasks) throws InterruptedException {
-            final long start = System.nanoTime();
-            final long deadline = start + GIVE_UP_NANOS;
-
+        @Override
+        SubmitResult submitTasks(final Iterator<T> tasks, final long deadline) throws InterruptedException {
             lock.lock();
             try {
                 // Lock may have blocked for some time, we need to take that into account. We may have exceeded
@@ -214,28 +364,26 @@ abstract class AbstractBatchingExecutor<K, T> extends AbstractSimpleIdentifiable
                     // Check the exiting flag - if true then #run is in the process of exiting so return false
                     // to indicate such. Otherwise, offer the tasks to the queue.
                     if (exiting) {
-                        return false;
+                        return SubmitResult.EXITING;
                     }
 
                     final int avail = maxQueueCapacity - queue.size();
                     if (avail <= 0) {
                         if (canWait <= 0) {
-                            LOG.warn("""
-                                {}: Failed to offer tasks {} to the queue for worker {}. Exceeded maximum allowable \
-                                time of {} minutes; the worker is likely in an unrecoverable state (deadlock or \
-                                endless loop).""", getIdentifier(), ImmutableList.copyOf(tasks), key,
-                                MAX_NOTIFICATION_OFFER_MINUTES);
-                            return true;
+                            return SubmitResult.TIMED_OUT;
                         }
 
                         canWait = notFull.awaitNanos(canWait);
                         continue;
                     }
 
+                    if (queue.isEmpty()) {
+                        oldestNanos = System.nanoTime();
+                    }
                     for (int i = 0; i < avail; ++i) {
                         if (!tasks.hasNext()) {
                             notEmpty.signal();
-                            return true;
+                            return SubmitResult.ENQUEUED;
                         }
 
                         queue.add(tasks.next());
@@ -259,7 +407,7 @@ abstract class AbstractBatchingExecutor<K, T> extends AbstractSimpleIdentifiable
                     timeout = notEmpty.awaitNanos(timeout);
                 } catch (InterruptedException e) {
                     // The executor is probably shutting down so log as debug.
-                    LOG.debug("{}: Interrupted trying to remove from {} worker's queue", getIdentifier(), key);
+                    LOG.debug("{}: Interrupted trying to remove from {} worker's queue", getIdentifier(), key());
                     return false;
                 }
             }
@@ -273,6 +421,7 @@ abstract class AbstractBatchingExecutor<K, T> extends AbstractSimpleIdentifiable
                 // Loop until we've dispatched all the tasks in the queue.
                 while (true) {
                     final @NonNull ImmutableList<T> tasks;
+                    final long oldest;
 
                     lock.lock();
                     try {
@@ -283,6 +432,7 @@ abstract class AbstractBatchingExecutor<K, T> extends AbstractSimpleIdentifiable
 
                         // Splice the entire queue
                         tasks = ImmutableList.copyOf(queue);
+                        oldest = oldestNanos;
                         queue.clear();
 
                         notFull.signalAll();
@@ -290,24 +440,176 @@ abstract class AbstractBatchingExecutor<K, T> extends AbstractSimpleIdentifiable
                         lock.unlock();
                     }
 
-                    invokeWorker(tasks);
+                    invokeWorker(tasks, oldest);
                 }
             } finally {
                 // We're exiting, gracefully or not - either way make sure we always remove
                 // ourselves from the cache.
-                dispatcherTasks.remove(key, this);
+                unregister();
             }
         }
+    }
 
-        @SuppressWarnings("checkstyle:illegalCatch")
-        private void invokeWorker(final @NonNull ImmutableList<T> tasks) {
-            LOG.debug("{}: Invoking worker {} with tasks: {}", getIdentifier(), key, tasks);
+    /**
+     * A {@link DispatcherTask} using a lock-free {@link MpscQueue}. Coordination between producers and the dispatching
+     * thread is done through {@link #pending}, which counts the tasks producers have reserved space for and the
+     * dispatching thread has not drained yet. The dispatching thread exits only if it can atomically swap a zero count
+     * to {@link #EXITING}, which guarantees no producer is in the process of enqueueing a task.
+     */
+    private final class LockFreeDispatcherTask extends DispatcherTask {
+        private static final int EXITING = Integer.MIN_VALUE;
+        private static final int MIN_SPINS = 16;
+        private static final int MAX_SPINS = 1024;
+        private static final long MAX_PRODUCER_BACKOFF_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+        private final MpscQueue<T> queue = new MpscQueue<>();
+        private final AtomicInteger pending = new AtomicInteger();
+        private final long createdNanos = System.nanoTime();
+
+        // Accessed by the dispatching thread only
+        private ImmutableList<T> initial;
+        private int spinLimit = MIN_SPINS;
+
+        // The dispatching thread, while it is parked waiting for tasks
+        private volatile Thread waiter;
+
+        LockFreeDispatcherTask(final @NonNull K key, final @NonNull Iterator<T> tasks) {
+            super(key);
+            final var builder = ImmutableList.<T>builder();
+            while (tasks.hasNext()) {
+                final T task = tasks.next();
+                if (task != null) {
+                    builder.add(task);
+                }
+            }
+            initial = builder.build();
+            pending.set(initial.size());
+        }
+
+        @Override
+        Iterator<T> recoverItems() {
+            return initial.iterator();
+        }
+
+        @Override
+        int size() {
+            return Math.max(pending.get(), 0);
+        }
+
+        @Override
+        SubmitResult submitTasks(final Iterator<T> tasks, final long deadline) throws InterruptedException {
+            long backoff = 0;
+            while (tasks.hasNext()) {
+                final int count = pending.get();
+                if (count == EXITING) {
+                    return SubmitResult.EXITING;
+                }
+                if (count >= maxQueueCapacity) {
+                    // Queue is full: back off exponentially, starting with spinning
+                    final long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        return SubmitResult.TIMED_OUT;
+                    }
+                    if (Thread.interrupted()) {
+                        throw new InterruptedException();
+                    }
+                    if (backoff == 0) {
+                        Thread.onSpinWait();
+                        backoff = 1;
+                    } else {
+                        LockSupport.parkNanos(this, Math.min(backoff, remaining));
+                        backoff = Math.min(backoff * 2, MAX_PRODUCER_BACKOFF_NANOS);
+                    }
+                    continue;
+                }
+
+                if (pending.compareAndSet(count, count + 1)) {
+                    queue.offer(tasks.next());
+                    backoff = 0;
+
+                    final var local = waiter;
+                    if (local != null) {
+                        LockSupport.unpark(local);
+                    }
+                }
+            }
+            return SubmitResult.ENQUEUED;
+        }
+
+        @Override
+        public void run() {
             try {
-                executeBatch(key, tasks);
-            } catch (Exception e) {
-                // We'll let a RuntimeException from the worker slide and keep sending any remaining tasks.
-                LOG.error("{}: Error invoking worker {} with {}", getIdentifier(), key, tasks, e);
+                final var first = initial;
+                initial = null;
+                if (!first.isEmpty()) {
+                    pending.addAndGet(-first.size());
+                    invokeWorker(first, createdNanos);
+                }
+
+                // Loop until we've dispatched all the tasks in the queue.
+                while (awaitTasks()) {
+                    final long oldest = queue.firstEnqueuedNanos(System.nanoTime());
+                    final var builder = ImmutableList.<T>builder();
+                    final int drained = queue.drainTo(builder::add);
+                    pending.addAndGet(-drained);
+                    invokeWorker(builder.build(), oldest);
+                }
+            } finally {
+                // We're exiting, gracefully or not - either way make sure we always remove
+                // ourselves from the cache.
+                unregister();
+            }
+        }
+
+        /**
+         * Wait for tasks to become available, spinning first and then parking.
+         *
+         * @return {@code true} if tasks are available, {@code false} if this task has transitioned to exiting
+         */
+        private boolean awaitTasks() {
+            // Spinning on a virtual thread would occupy its carrier thread, which is shared with other virtual threads
+            if (!Thread.currentThread().isVirtual() && spinForTasks()) {
+                return true;
+            }
+
+            final long deadline = System.nanoTime() + TASK_WAIT_NANOS;
+            while (queue.isEmpty()) {
+                final long remaining = deadline - System.nanoTime();
+                if (remaining <= 0 || Thread.interrupted()) {
+                    if (pending.compareAndSet(0, EXITING)) {
+                        return false;
+                    }
+
+                    // A producer has reserved space, but has not linked its task yet: it will do so shortly
+                    Thread.onSpinWait();
+                    continue;
+                }
+
+                // Producers read waiter after linking their task, hence we need to re-check after publishing it
+                waiter = Thread.currentThread();
+                if (queue.isEmpty()) {
+                    LockSupport.parkNanos(this, remaining);
+                }
+                waiter = null;
+            }
+            return true;
+        }
+
+        /**
+         * Spin for a while waiting for tasks: if this pays off, spin longer next time, otherwise spin less.
+         *
+         * @return {@code true} if tasks are available
+         */
+        private boolean spinForTasks() {
+            for (int i = 0; i < spinLimit; ++i) {
+                if (!queue.isEmpty()) {
+                    spinLimit = Math.min(spinLimit * 2, MAX_SPINS);
+                    return true;
+                }
+                Thread.onSpinWait();
             }
+            spinLimit = Math.max(spinLimit / 2, MIN_SPINS);
+            return false;
         }
     }
 }
@@ -11,6 +11,7 @@ import static java.util.Objects.requireNonNull;
 
 import com.google.common.collect.ImmutableList;
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -42,7 +43,12 @@ abstract class AbstractQueuedNotificationManager<T, L, N> extends AbstractBatchi
 
     AbstractQueuedNotificationManager(final String name, final Executor executor, final int maxQueueCapacity,
             final BatchedInvoker<L, N> listenerInvoker) {
-        super(name, executor, maxQueueCapacity);
+        this(name, executor, maxQueueCapacity, listenerInvoker, NotificationQueueMode.LOCKING);
+    }
+
+    AbstractQueuedNotificationManager(final String name, final Executor executor, final int maxQueueCapacity,
+            final BatchedInvoker<L, N> listenerInvoker, final NotificationQueueMode queueMode) {
+        super(name, executor, maxQueueCapacity, queueMode);
         this.listenerInvoker = requireNonNull(listenerInvoker);
     }
 
@@ -60,6 +66,13 @@ abstract class AbstractQueuedNotificationManager<T, L, N> extends AbstractBatchi
         return maxQueueCapacity();
     }
 
+    /**
+     * Returns the {@link NotificationQueueMode} of listener queues.
+     */
+    public final NotificationQueueMode getQueueMode() {
+        return queueMode();
+    }
+
     /**
      * Return an {@link QueuedNotificationManagerMXBean} tied to this instance.
      *
@@ -83,6 +96,26 @@ abstract class AbstractQueuedNotificationManager<T, L, N> extends AbstractBatchi
         }
     }
 
+    /**
+     * Submits notifications to be queued and dispatched to the given listener, waiting at most specified time for
+     * space to become available in the listener's queue. Unlike {@link #submitNotifications(Object, Iterable)}, this
+     * method gives the caller explicit control over blocking: notifications which could not be queued are returned
+     * to the caller, which can retry them, drop them or apply backpressure to its own producers.
+     *
+     * @param listener the listener to notify
+     * @param notifications the notifications to dispatch
+     * @param timeout maximum time to wait, zero or negative values indicate notifications should be queued only if
+     *                there is space available immediately
+     * @param unit time unit of {@code timeout}
+     * @return notifications which were not queued, in submission order
+     * @throws NullPointerException if any argument is null
+     * @throws java.util.concurrent.RejectedExecutionException if the notifications can't be queued for dispatching
+     */
+    public final ImmutableList<N> offerNotifications(final L listener, final Iterable<N> notifications,
+            final long timeout, final TimeUnit unit) {
+        return offerTasks(wrap(requireNonNull(listener)), notifications, timeout, requireNonNull(unit));
+    }
+
     @Override
     final void executeBatch(final T key, final @NonNull ImmutableList<N> tasks) {
         listenerInvoker.invokeListener(unwrap(key), tasks);
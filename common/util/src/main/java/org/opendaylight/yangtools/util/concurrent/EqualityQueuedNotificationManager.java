@@ -20,6 +20,11 @@ public final class EqualityQueuedNotificationManager<L, N> extends AbstractQueue
         super(name, executor, maxQueueCapacity, listenerInvoker);
     }
 
+    public EqualityQueuedNotificationManager(final String name, final Executor executor, final int maxQueueCapacity,
+            final BatchedInvoker<L, N> listenerInvoker, final NotificationQueueMode queueMode) {
+        super(name, executor, maxQueueCapacity, listenerInvoker, queueMode);
+    }
+
     @Override
     L wrap(final L listener) {
         return listener;
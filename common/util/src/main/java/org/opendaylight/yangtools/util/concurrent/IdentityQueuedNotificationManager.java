@@ -22,6 +22,11 @@ public class IdentityQueuedNotificationManager<L, N>
         super(name, executor, maxQueueCapacity, listenerInvoker);
     }
 
+    public IdentityQueuedNotificationManager(final String name, final Executor executor, final int maxQueueCapacity,
+            final BatchedInvoker<L, N> listenerInvoker, final NotificationQueueMode queueMode) {
+        super(name, executor, maxQueueCapacity, listenerInvoker, queueMode);
+    }
+
     @Override
     final ForwardingIdentityObject<L> wrap(final L listener) {
         return ForwardingIdentityObject.of(listener);
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.util.concurrent;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * A histogram of latencies with logarithmic buckets: bucket {@code i} counts latencies in the range of
+ * [2<sup>i</sup>, 2<sup>i+1</sup>) microseconds, with bucket 0 also counting sub-microsecond latencies. Recording is
+ * thread-safe and does not allocate.
+ */
+@NonNullByDefault
+final class LatencyHistogram {
+    static final int BUCKETS = 32;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    void record(final long nanos) {
+        final long micros = TimeUnit.NANOSECONDS.toMicros(nanos);
+        buckets.incrementAndGet(micros <= 1 ? 0 : Math.min(BUCKETS - 1, 63 - Long.numberOfLeadingZeros(micros)));
+        maxNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    ListenerLatencyStats toStats(final String listenerName) {
+        final var counts = new long[BUCKETS];
+        long count = 0;
+        for (int i = 0; i < BUCKETS; ++i) {
+            counts[i] = buckets.get(i);
+            count += counts[i];
+        }
+
+        final long maxMicros = TimeUnit.NANOSECONDS.toMicros(maxNanos.get());
+        return new ListenerLatencyStats(listenerName, count, percentile(counts, count, 0.5, maxMicros),
+            percentile(counts, count, 0.9, maxMicros), percentile(counts, count, 0.99, maxMicros), maxMicros, counts);
+    }
+
+    // Upper bound of the bucket holding the requested percentile, capped by the observed maximum
+    private static long percentile(final long[] counts, final long count, final double fraction,
+            final long maxMicros) {
+        final long target = (long) Math.ceil(count * fraction);
+        long cumulative = 0;
+        for (int i = 0; i < BUCKETS; ++i) {
+            cumulative += counts[i];
+            if (cumulative >= target && cumulative != 0) {
+                return Math.min(1L << i + 1, maxMicros);
+            }
+        }
+        return maxMicros;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.util.concurrent;
+
+import static java.util.Objects.requireNonNull;
+
+import javax.management.ConstructorParameters;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Notification delivery latency statistics for a single listener. Delivery latency is the time between a notification
+ * being submitted and the listener being invoked with it. Statistics are collected per batch of notifications, using
+ * the latency of the oldest notification in the batch.
+ *
+ * <p>Latencies are tracked in a histogram with logarithmic buckets, hence reported percentiles are upper bounds with
+ * a precision of a factor of two.
+ */
+@NonNullByDefault
+public class ListenerLatencyStats {
+    private final String listenerName;
+    private final long batchCount;
+    private final long p50Micros;
+    private final long p90Micros;
+    private final long p99Micros;
+    private final long maxMicros;
+    private final long[] buckets;
+
+    @ConstructorParameters({
+        "listenerName", "batchCount", "p50Micros", "p90Micros", "p99Micros", "maxMicros", "buckets"
+    })
+    public ListenerLatencyStats(final String listenerName, final long batchCount, final long p50Micros,
+            final long p90Micros, final long p99Micros, final long maxMicros, final long[] buckets) {
+        this.listenerName = requireNonNull(listenerName);
+        this.batchCount = batchCount;
+        this.p50Micros = p50Micros;
+        this.p90Micros = p90Micros;
+        this.p99Micros = p99Micros;
+        this.maxMicros = maxMicros;
+        this.buckets = buckets.clone();
+    }
+
+    /**
+     * Returns the name of the listener.
+     */
+    public String getListenerName() {
+        return listenerName;
+    }
+
+    /**
+     * Returns the number of batches delivered to the listener.
+     */
+    public long getBatchCount() {
+        return batchCount;
+    }
+
+    /**
+     * Returns the median delivery latency, in microseconds.
+     */
+    public long getP50Micros() {
+        return p50Micros;
+    }
+
+    /**
+     * Returns the 90th percentile delivery latency, in microseconds.
+     */
+    public long getP90Micros() {
+        return p90Micros;
+    }
+
+    /**
+     * Returns the 99th percentile delivery latency, in microseconds.
+     */
+    public long getP99Micros() {
+        return p99Micros;
+    }
+
+    /**
+     * Returns the maximum delivery latency, in microseconds.
+     */
+    public long getMaxMicros() {
+        return maxMicros;
+    }
+
+    /**
+     * Returns the histogram buckets. Bucket {@code i} counts batches delivered with latency between 2<sup>i</sup> and
+     * 2<sup>i+1</sup> microseconds.
+     */
+    public long[] getBuckets() {
+        return buckets.clone();
+    }
+}
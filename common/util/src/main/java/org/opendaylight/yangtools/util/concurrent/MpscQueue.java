@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.util.concurrent;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.function.Consumer;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * An unbounded lock-free multi-producer, single-consumer queue, based on Dmitry Vyukov's non-intrusive MPSC node
+ * queue. Producers contend only on a single atomic exchange of the tail pointer, the consumer does not perform any
+ * atomic read-modify-write operations. Each node records the time its item was enqueued.
+ *
+ * <p>A producer links its node to the queue only after it has swapped the tail pointer, hence the consumer may
+ * transiently observe the queue as empty even though an {@link #offer(Object)} has started.
+ *
+ * @param <T> item type
+ */
+final class MpscQueue<T> {
+    private static final class Node<T> {
+        final long enqueuedNanos;
+        @Nullable T item;
+        volatile @Nullable Node<T> next;
+
+        Node(final @Nullable T item, final long enqueuedNanos) {
+            this.item = item;
+            this.enqueuedNanos = enqueuedNanos;
+        }
+    }
+
+    private static final VarHandle TAIL;
+
+    static {
+        try {
+            TAIL = MethodHandles.lookup().findVarHandle(MpscQueue.class, "tail", Node.class);
+        } catch (NoSuchFieldException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    // Accessed by the consumer only, points to the last consumed node
+    private @NonNull Node<T> head;
+    // Accessed by producers only, via TAIL
+    @SuppressWarnings("unused")
+    private volatile @NonNull Node<T> tail;
+
+    MpscQueue() {
+        final var stub = new Node<T>(null, 0);
+        head = stub;
+        tail = stub;
+    }
+
+    /**
+     * Enqueue an item. Safe to call from any thread.
+     *
+     * @param item item to enqueue
+     */
+    @SuppressWarnings("unchecked")
+    void offer(final @NonNull T item) {
+        final var node = new Node<T>(requireNonNull(item), System.nanoTime());
+        ((Node<T>) TAIL.getAndSet(this, node)).next = node;
+    }
+
+    /**
+     * Check whether this queue appears empty. Must be called from the consumer thread.
+     *
+     * @return {@code true} if there is no item ready to be consumed
+     */
+    boolean isEmpty() {
+        return head.next == null;
+    }
+
+    /**
+     * Return the time at which the first item ready to be consumed was enqueued. Must be called from the consumer
+     * thread.
+     *
+     * @return {@link System#nanoTime()} at which the first item was enqueued, or {@code defaultValue} if there is no
+     *         item ready to be consumed
+     */
+    long firstEnqueuedNanos(final long defaultValue) {
+        final var first = head.next;
+        return first != null ? first.enqueuedNanos : defaultValue;
+    }
+
+    /**
+     * Drain all items ready to be consumed into a consumer. Must be called from the consumer thread.
+     *
+     * @param consumer item consumer
+     * @return number of items drained
+     */
+    int drainTo(final Consumer<? super T> consumer) {
+        int count = 0;
+        var current = head;
+        var next = current.next;
+        while (next != null) {
+            final var item = next.item;
+            // Unlink the item, so the node, which becomes the new stub, does not retain it
+            next.item = null;
+            current = next;
+            consumer.accept(item);
+            count++;
+            next = current.next;
+        }
+        head = current;
+        return count;
+    }
+}
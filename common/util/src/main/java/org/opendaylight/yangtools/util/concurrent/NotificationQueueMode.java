@@ -0,0 +1,29 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.util.concurrent;
+
+import com.google.common.annotations.Beta;
+
+/**
+ * The implementation of per-listener queues used by {@link QueuedNotificationManager} and its siblings.
+ */
+@Beta
+public enum NotificationQueueMode {
+    /**
+     * Each listener queue is guarded by a lock. Producers and the dispatching thread coordinate through condition
+     * variables. This is the default mode.
+     */
+    LOCKING,
+    /**
+     * Each listener queue is a lock-free multi-producer, single-consumer queue. Producers do not contend with the
+     * dispatching thread, which drains all available notifications in bulk. The dispatching thread spins for a short
+     * while before parking when its queue is empty, adapting the spin time to how often spinning pays off. Virtual
+     * dispatching threads park without spinning. This mode is suited for bursty workloads with many producers.
+     */
+    LOCK_FREE;
+}
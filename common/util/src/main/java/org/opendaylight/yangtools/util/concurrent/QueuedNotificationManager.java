@@ -33,8 +33,8 @@ public final class QueuedNotificationManager<L, N> extends IdentityQueuedNotific
     }
 
     QueuedNotificationManager(final @NonNull Executor executor, final @NonNull BatchedInvoker<L, N> listenerInvoker,
-            final int maxQueueCapacity, final @NonNull String name) {
-        super(name, executor, maxQueueCapacity, listenerInvoker);
+            final int maxQueueCapacity, final @NonNull String name, final @NonNull NotificationQueueMode queueMode) {
+        super(name, executor, maxQueueCapacity, listenerInvoker, queueMode);
     }
 
     /**
@@ -48,6 +48,39 @@ public final class QueuedNotificationManager<L, N> extends IdentityQueuedNotific
     public static <L, N> QueuedNotificationManager<L, N> create(final @NonNull Executor executor,
             final@NonNull  BatchedInvoker<L, N> listenerInvoker, final int maxQueueCapacity,
             final @NonNull String name) {
-        return new QueuedNotificationManager<>(executor, listenerInvoker, maxQueueCapacity, name);
+        return create(executor, listenerInvoker, maxQueueCapacity, name, NotificationQueueMode.LOCKING);
+    }
+
+    /**
+     * Create a new notification manager with specified {@link NotificationQueueMode}.
+     *
+     * @param executor the {@link Executor} to use for notification tasks
+     * @param listenerInvoker the {@link BatchedInvoker} to use for invoking listeners
+     * @param maxQueueCapacity the capacity of each listener queue
+     * @param name the name of this instance for logging info
+     * @param queueMode the listener queue implementation
+     */
+    public static <L, N> QueuedNotificationManager<L, N> create(final @NonNull Executor executor,
+            final @NonNull BatchedInvoker<L, N> listenerInvoker, final int maxQueueCapacity,
+            final @NonNull String name, final @NonNull NotificationQueueMode queueMode) {
+        return new QueuedNotificationManager<>(executor, listenerInvoker, maxQueueCapacity, name, queueMode);
+    }
+
+    /**
+     * Create a new notification manager, which dispatches notifications to each listener on its own virtual thread.
+     * Listeners performing blocking operations therefore do not hold up other listeners, without the need to size a
+     * thread pool to accommodate them. Notifications are still delivered to each listener in the order they were
+     * submitted and each listener queue is bounded by {@code maxQueueCapacity}.
+     *
+     * @param listenerInvoker the {@link BatchedInvoker} to use for invoking listeners
+     * @param maxQueueCapacity the capacity of each listener queue
+     * @param name the name of this instance for logging info, also used as the prefix of virtual thread names
+     * @param queueMode the listener queue implementation
+     */
+    public static <L, N> QueuedNotificationManager<L, N> createVirtual(
+            final @NonNull BatchedInvoker<L, N> listenerInvoker, final int maxQueueCapacity,
+            final @NonNull String name, final @NonNull NotificationQueueMode queueMode) {
+        return create(SpecialExecutors.newVirtualThreadPerTaskExecutor(name, QueuedNotificationManager.class),
+            listenerInvoker, maxQueueCapacity, name, queueMode);
     }
 }
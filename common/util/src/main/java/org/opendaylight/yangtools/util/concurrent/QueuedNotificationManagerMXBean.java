@@ -26,4 +26,19 @@ public interface QueuedNotificationManagerMXBean {
      * Returns the configured maximum listener queue size.
      */
     int getMaxListenerQueueSize();
+
+    /**
+     * Returns the configured listener queue mode.
+     */
+    String getListenerQueueMode();
+
+    /**
+     * Returns a list of notification delivery latency statistics for each listener which has been recently notified.
+     */
+    List<ListenerLatencyStats> getListenerLatencyStats();
+
+    /**
+     * Resets notification delivery latency statistics.
+     */
+    void resetListenerLatencyStats();
 }
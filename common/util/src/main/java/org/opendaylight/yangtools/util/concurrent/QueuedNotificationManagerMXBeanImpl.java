@@ -35,4 +35,19 @@ final class QueuedNotificationManagerMXBeanImpl implements QueuedNotificationMan
     public int getMaxListenerQueueSize() {
         return manager.getMaxQueueCapacity();
     }
+
+    @Override
+    public String getListenerQueueMode() {
+        return manager.getQueueMode().name();
+    }
+
+    @Override
+    public List<ListenerLatencyStats> getListenerLatencyStats() {
+        return manager.streamLatencies().collect(Collectors.toList());
+    }
+
+    @Override
+    public void resetListenerLatencyStats() {
+        manager.resetLatencies();
+    }
 }
@@ -9,7 +9,9 @@
 package org.opendaylight.yangtools.util.concurrent;
 
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import org.slf4j.LoggerFactory;
 
 /**
  * Factory methods for creating {@link ExecutorService} instances with specific configurations.
@@ -157,4 +159,29 @@ public final class SpecialExecutors {
                 threadPrefix, loggerIdentity);
     }
 
+    /**
+     * Creates an ExecutorService that starts a new virtual thread for each task. There is no thread limit and no
+     * queue: tasks are never rejected until the executor is shut down. Since virtual threads are cheap to create and
+     * block, this executor is suited for tasks which perform blocking I/O, where a bounded pool of platform threads
+     * would have to be sized for the worst case.
+     *
+     * <p>This executor does not provide any ordering guarantees between tasks. Users requiring ordering, for example
+     * {@link QueuedNotificationManager}, need to provide it themselves.
+     *
+     * @param threadPrefix
+     *            the name prefix for threads created by this executor.
+     * @param loggerIdentity
+     *               the class to use as logger name for logging uncaught exceptions from the threads.
+     * @return a new ExecutorService with the specified configuration.
+     */
+    // due to loggerIdentity argument usage
+    @SuppressWarnings("checkstyle:LoggerFactoryClassParameter")
+    public static ExecutorService newVirtualThreadPerTaskExecutor(String threadPrefix, Class<?> loggerIdentity) {
+        final var logger = LoggerFactory.getLogger(loggerIdentity);
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual()
+            .name(threadPrefix + "-", 0)
+            .uncaughtExceptionHandler((thread, exception)
+                -> logger.error("Thread terminated due to uncaught exception: {}", thread.getName(), exception))
+            .factory());
+    }
 }
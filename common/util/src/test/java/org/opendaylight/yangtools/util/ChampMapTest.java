@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.yangtools.util.MapAdaptor.PersistentMapType;
+
+class ChampMapTest {
+    /**
+     * A key with a controllable hash code, so we can exercise collision nodes.
+     */
+    private record Key(int id, int hash) {
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return obj instanceof Key other && id == other.id;
+        }
+    }
+
+    @Test
+    void testRandomOperations() {
+        final var random = new Random(42);
+        final var expected = new HashMap<Integer, Integer>();
+        final var map = new ReadWriteChampMap<Integer, Integer>();
+
+        for (int i = 0; i < 100_000; ++i) {
+            final int key = random.nextInt(10_000);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key), map.remove(key));
+            } else {
+                final int value = random.nextInt();
+                assertEquals(expected.put(key, value), map.put(key, value));
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+        assertEquals(expected, map);
+        assertEquals(map, expected);
+        for (var entry : expected.entrySet()) {
+            assertEquals(entry.getValue(), map.get(entry.getKey()));
+        }
+    }
+
+    @Test
+    void testCollisions() {
+        final var map = new ReadWriteChampMap<Key, String>();
+        for (int i = 0; i < 8; ++i) {
+            assertNull(map.put(new Key(i, i % 2), "v" + i));
+        }
+        assertEquals(8, map.size());
+        for (int i = 0; i < 8; ++i) {
+            assertEquals("v" + i, map.get(new Key(i, i % 2)));
+        }
+        assertEquals("v3", map.put(new Key(3, 1), "w3"));
+        assertEquals("w3", map.get(new Key(3, 1)));
+
+        for (int i = 0; i < 8; ++i) {
+            assertTrue(map.containsKey(new Key(i, i % 2)));
+            map.remove(new Key(i, i % 2));
+            assertFalse(map.containsKey(new Key(i, i % 2)));
+            assertEquals(7 - i, map.size());
+            assertEquals(7 - i, map.entrySet().stream().count());
+        }
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    void testSnapshotIsolation() {
+        final var adaptor = MapAdaptor.getInstance(true, 10, 5, PersistentMapType.CHAMP);
+
+        final var initial = adaptor.<Integer, String>initialSnapshot(100);
+        assertInstanceOf(ReadWriteChampMap.class, initial);
+        for (int i = 0; i < 1000; ++i) {
+            initial.put(i, "a" + i);
+        }
+
+        final var readOnly = adaptor.optimize(initial);
+        assertInstanceOf(ReadOnlyChampMap.class, readOnly);
+
+        // Modifying the original map after optimize() must not affect the read-only map
+        initial.put(0, "x");
+        assertEquals("a0", readOnly.get(0));
+
+        final var snapshot = adaptor.takeSnapshot(readOnly);
+        assertInstanceOf(ReadWriteChampMap.class, snapshot);
+        snapshot.put(1, "b1");
+        snapshot.remove(2);
+        snapshot.put(1000, "a1000");
+        assertEquals(1000, snapshot.size());
+
+        assertEquals(1000, readOnly.size());
+        assertEquals("a1", readOnly.get(1));
+        assertEquals("a2", readOnly.get(2));
+        assertNull(readOnly.get(1000));
+
+        final var second = adaptor.optimize(snapshot);
+        assertEquals("b1", second.get(1));
+        assertNull(second.get(2));
+        assertEquals(Map.copyOf(second), second);
+    }
+
+    @Test
+    void testOptimizeLargeMap() {
+        final var adaptor = MapAdaptor.getInstance(true, 10, 5, PersistentMapType.CHAMP);
+        final var input = new HashMap<Integer, Integer>();
+        for (int i = 0; i < 20; ++i) {
+            input.put(i, i);
+        }
+
+        final var optimized = adaptor.optimize(input);
+        assertInstanceOf(ReadOnlyChampMap.class, optimized);
+        assertEquals(input, optimized);
+
+        // Putting an identical value does not modify the map
+        final var snapshot = adaptor.takeSnapshot(optimized);
+        final var value = optimized.get(7);
+        assertSame(value, snapshot.put(7, value));
+        assertEquals(input, snapshot);
+    }
+}
@@ -8,6 +8,7 @@
 package org.opendaylight.yangtools.util.concurrent;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.Mockito.mock;
@@ -16,6 +17,7 @@ import com.google.common.base.Stopwatch;
 import com.google.common.collect.ImmutableList;
 import com.google.common.util.concurrent.Uninterruptibles;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -25,6 +27,7 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
@@ -299,4 +302,143 @@ class QueuedNotificationManagerTest {
         final var tasks = queueExecutor.shutdownNow();
         assertTrue(tasks.isEmpty());
     }
+
+    @Test
+    @Timeout(10000)
+    void testLockFreeNotificationsWithMultipleProducers() throws InterruptedException {
+        queueExecutor = Executors.newFixedThreadPool(2);
+        final var manager = QueuedNotificationManager.create(queueExecutor, new TestNotifier<Integer>(), 10,
+            "TestMgr", NotificationQueueMode.LOCK_FREE);
+        assertEquals(NotificationQueueMode.LOCK_FREE, manager.getQueueMode());
+        assertEquals("LOCK_FREE", manager.getMXBean().getListenerQueueMode());
+
+        final var producers = 3;
+        final var perProducer = 1000;
+        final var listener = new TestListener<Integer>(producers * perProducer, 1);
+
+        final var threads = new ArrayList<Thread>();
+        for (int i = 0; i < producers; i++) {
+            final var base = i * perProducer;
+            final var t = new Thread(() -> {
+                for (int j = 0; j < perProducer; j++) {
+                    manager.submitNotification(listener, base + j);
+                }
+            });
+            t.start();
+            threads.add(t);
+        }
+        for (var t : threads) {
+            t.join();
+        }
+
+        listener.verifyNotifications();
+
+        // Notifications from each producer must have been delivered in submission order
+        final var last = new int[producers];
+        Arrays.fill(last, -1);
+        for (var n : List.copyOf(listener.actual)) {
+            final var producer = n / perProducer;
+            assertTrue(n > last[producer], "Out-of-order notification " + n);
+            last[producer] = n;
+        }
+    }
+
+    @Test
+    @Timeout(10000)
+    void testOfferNotificationsReturnsRejected() {
+        for (var mode : NotificationQueueMode.values()) {
+            final var executor = Executors.newFixedThreadPool(1);
+            try {
+                final var manager = QueuedNotificationManager.create(executor, new TestNotifier<Integer>(), 2,
+                    "TestMgr", mode);
+                final var blocker = new CountDownLatch(1);
+                final var listener = new TestListener<Integer>(5, 1) {
+                    @Override
+                    void onNotification(final Collection<? extends Integer> data) {
+                        Uninterruptibles.awaitUninterruptibly(blocker);
+                        super.onNotification(data);
+                    }
+                };
+
+                // The dispatcher blocks on its first batch, hence at most two more notifications can be queued
+                manager.submitNotification(listener, 1);
+                final var rejected = manager.offerNotifications(listener, List.of(2, 3, 4, 5), 20,
+                    TimeUnit.MILLISECONDS);
+                assertFalse(rejected.isEmpty(), mode + ": no notification rejected");
+                assertEquals(List.of(2, 3, 4, 5).subList(4 - rejected.size(), 4), rejected, mode + ": rejected");
+
+                blocker.countDown();
+                assertEquals(List.of(), manager.offerNotifications(listener, rejected, 5, TimeUnit.SECONDS));
+                listener.verifyNotifications(List.of(1, 2, 3, 4, 5));
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    @Test
+    @Timeout(10000)
+    void testListenerLatencyStats() {
+        queueExecutor = Executors.newFixedThreadPool(1);
+        final var manager = QueuedNotificationManager.create(queueExecutor, new TestNotifier<Integer>(), 10,
+            "TestMgr");
+        final var mxBean = manager.getMXBean();
+        assertEquals("LOCKING", mxBean.getListenerQueueMode());
+        assertEquals(List.of(), mxBean.getListenerLatencyStats());
+
+        final var listener = new TestListener<Integer>(3, 1);
+        listener.name = "latency";
+        manager.submitNotification(listener, 1);
+        manager.submitNotification(listener, 2);
+        manager.submitNotification(listener, 3);
+        listener.verifyNotifications();
+
+        final var stats = mxBean.getListenerLatencyStats();
+        assertEquals(1, stats.size());
+        final var listenerStats = stats.get(0);
+        assertTrue(listenerStats.getBatchCount() >= 1);
+        assertEquals(listenerStats.getBatchCount(), Arrays.stream(listenerStats.getBuckets()).sum());
+        assertTrue(listenerStats.getP50Micros() <= listenerStats.getP99Micros());
+        assertTrue(listenerStats.getP99Micros() <= listenerStats.getMaxMicros());
+
+        mxBean.resetListenerLatencyStats();
+        assertEquals(List.of(), mxBean.getListenerLatencyStats());
+    }
+
+    @Test
+    @Timeout(10000)
+    void testVirtualThreadDispatchWithBlockingListeners() {
+        for (var mode : NotificationQueueMode.values()) {
+            final var manager = QueuedNotificationManager.createVirtual(new TestNotifier<Integer>(), 10, "TestMgr",
+                mode);
+
+            // Far more blocking listeners than a platform thread pool would reasonably accommodate
+            final var count = 1000;
+            final var virtual = new AtomicBoolean(true);
+            final var listeners = new ArrayList<TestListener<Integer>>(count);
+            for (int i = 1; i <= count; i++) {
+                final var listener = new TestListener<Integer>(3, i) {
+                    @Override
+                    void onNotification(final Collection<? extends Integer> data) {
+                        if (!Thread.currentThread().isVirtual()) {
+                            virtual.set(false);
+                        }
+                        super.onNotification(data);
+                    }
+                };
+                listener.sleepTime = 200;
+                listeners.add(listener);
+            }
+
+            for (var listener : listeners) {
+                manager.submitNotification(listener, 1);
+                manager.submitNotifications(listener, List.of(2, 3));
+            }
+            for (var listener : listeners) {
+                listener.verifyNotifications(List.of(1, 2, 3));
+            }
+            assertTrue(virtual.get(), mode + ": listener invoked on a platform thread");
+            assertEquals(count, manager.getMXBean().getListenerLatencyStats().size());
+        }
+    }
 }
@@ -21,6 +21,7 @@ module org.opendaylight.yangtools.yang.data.impl {
     requires transitive org.opendaylight.yangtools.yang.model.api;
     requires transitive org.opendaylight.yangtools.yang.model.spi;
 
+    requires org.opendaylight.yangtools.regex;
     requires org.opendaylight.yangtools.yang.model.util;
     requires org.slf4j;
 
@@ -10,20 +10,27 @@ package org.opendaylight.yangtools.yang.data.impl.codec;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Optional;
+import java.util.function.Predicate;
 import java.util.regex.Pattern;
+import org.opendaylight.yangtools.regex.RegularExpressionAutomaton;
+import org.opendaylight.yangtools.regex.RegularExpressionException;
 import org.opendaylight.yangtools.yang.common.ErrorType;
 import org.opendaylight.yangtools.yang.data.api.codec.YangInvalidValueException;
 import org.opendaylight.yangtools.yang.model.api.type.ModifierKind;
 import org.opendaylight.yangtools.yang.model.api.type.PatternConstraint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 final class CompiledPatternContext {
+    private static final Logger LOG = LoggerFactory.getLogger(CompiledPatternContext.class);
+
     private final PatternConstraint constraint;
-    private final Pattern pattern;
+    private final Predicate<String> pattern;
     private final boolean invert;
 
     CompiledPatternContext(final PatternConstraint yangConstraint) {
         constraint = requireNonNull(yangConstraint);
-        pattern = Pattern.compile(yangConstraint.getJavaPatternString());
+        pattern = compilePattern(yangConstraint);
 
         final Optional<ModifierKind> optModifier = yangConstraint.getModifier();
         if (optModifier.isPresent()) {
@@ -36,10 +43,24 @@ final class CompiledPatternContext {
     }
 
     void validate(final String str) {
-        if (pattern.matcher(str).matches() == invert) {
+        if (pattern.test(str) == invert) {
             throw new YangInvalidValueException(ErrorType.APPLICATION, constraint,
                 "Value '" + str + "' " + (invert ? "matches" : "does not match") + " regular expression '"
                         + constraint.getRegularExpressionString() + "'");
         }
     }
+
+    /**
+     * Compile a {@link PatternConstraint}'s regular expression. We prefer a {@link RegularExpressionAutomaton}, which
+     * matches in linear time, but fall back to {@link Pattern} if the expression cannot be compiled into one.
+     */
+    private static Predicate<String> compilePattern(final PatternConstraint constraint) {
+        final var regex = constraint.getRegularExpressionString();
+        try {
+            return RegularExpressionAutomaton.compile(regex)::matches;
+        } catch (RegularExpressionException | IllegalArgumentException e) {
+            LOG.debug("Cannot compile '{}' into an automaton, falling back to java.util.regex", regex, e);
+        }
+        return Pattern.compile(constraint.getJavaPatternString()).asMatchPredicate();
+    }
 }
@@ -45,6 +45,8 @@ import org.opendaylight.yangtools.yang.model.api.LeafSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.type.BooleanTypeDefinition;
 import org.opendaylight.yangtools.yang.model.api.type.EnumTypeDefinition;
 import org.opendaylight.yangtools.yang.model.api.type.IdentityrefTypeDefinition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Implementation of {@link NormalizedNodeStreamWriter}, which constructs immutable instances of
@@ -60,7 +62,21 @@ import org.opendaylight.yangtools.yang.model.api.type.IdentityrefTypeDefinition;
  */
 public class ImmutableNormalizedNodeStreamWriter implements NormalizedNodeStreamWriter {
     private static final Interner<LeafSetEntryNode<?>> ENTRY_INTERNER = Interners.newWeakInterner();
+    private static final Logger LOG = LoggerFactory.getLogger(ImmutableNormalizedNodeStreamWriter.class);
     private static final BuilderFactory BUILDER_FACTORY = ImmutableNodes.builderFactory();
+    /**
+     * Minimum number of entries for a keyed list to be stored in columnar form, 0 if disabled.
+     */
+    private static final int COLUMNAR_MAP_THRESHOLD;
+
+    static {
+        COLUMNAR_MAP_THRESHOLD = Math.max(0,
+            Integer.getInteger("org.opendaylight.yangtools.yang.data.impl.schema.columnar-map-threshold", 0));
+        if (COLUMNAR_MAP_THRESHOLD != 0) {
+            LOG.info("Keyed lists with at least {} leaf-only entries are stored in columnar form",
+                COLUMNAR_MAP_THRESHOLD);
+        }
+    }
 
     private final Deque<NormalizedNode.Builder> builders = new ArrayDeque<>();
 
@@ -186,8 +202,12 @@ public class ImmutableNormalizedNodeStreamWriter implements NormalizedNodeStream
     @Override
     public void startMapNode(final NodeIdentifier name, final int childSizeHint) {
         checkDataNodeContainer();
-        enter(name, UNKNOWN_SIZE == childSizeHint ? BUILDER_FACTORY.newSystemMapBuilder()
-            : BUILDER_FACTORY.newSystemMapBuilder(childSizeHint));
+        if (COLUMNAR_MAP_THRESHOLD != 0) {
+            enter(name, ImmutableNodes.newColumnarSystemMapBuilder(COLUMNAR_MAP_THRESHOLD, childSizeHint));
+        } else {
+            enter(name, UNKNOWN_SIZE == childSizeHint ? BUILDER_FACTORY.newSystemMapBuilder()
+                : BUILDER_FACTORY.newSystemMapBuilder(childSizeHint));
+        }
     }
 
     @Override
@@ -29,6 +29,7 @@ import org.opendaylight.yangtools.yang.data.api.schema.UnkeyedListEntryNode;
 import org.opendaylight.yangtools.yang.data.api.schema.UnkeyedListNode;
 import org.opendaylight.yangtools.yang.data.api.schema.UserLeafSetNode;
 import org.opendaylight.yangtools.yang.data.api.schema.UserMapNode;
+import org.opendaylight.yangtools.yang.data.spi.node.impl.ColumnarSystemMapNodeBuilder;
 import org.opendaylight.yangtools.yang.data.spi.node.impl.ImmutableBuilderFactory;
 import org.opendaylight.yangtools.yang.data.spi.node.impl.ImmutableLeafNode;
 import org.opendaylight.yangtools.yang.data.spi.node.impl.ImmutableLeafSetEntryNode;
@@ -120,6 +121,21 @@ public final class ImmutableNodes {
         return BUILDER_FACTORY.newSystemMapBuilder();
     }
 
+    /**
+     * Return a {@link SystemMapNode.Builder} which stores the map in columnar form if it has at least
+     * {@code threshold} entries and all entries consist only of leaves. Such a map stores each leaf in a packed array,
+     * with integer values held in primitive form, and instantiates {@link MapEntryNode}s only when they are accessed.
+     * This trades access speed for a much lower memory footprint of large lists.
+     *
+     * @param threshold minimum number of entries for columnar storage
+     * @param sizeHint expected number of entries, negative if unknown
+     * @return A new builder
+     * @throws IllegalArgumentException if {@code threshold} is not positive
+     */
+    public static SystemMapNode.@NonNull Builder newColumnarSystemMapBuilder(final int threshold, final int sizeHint) {
+        return new ColumnarSystemMapNodeBuilder(threshold, sizeHint);
+    }
+
     public static UserMapNode.@NonNull Builder newUserMapBuilder() {
         return BUILDER_FACTORY.newUserMapBuilder();
     }
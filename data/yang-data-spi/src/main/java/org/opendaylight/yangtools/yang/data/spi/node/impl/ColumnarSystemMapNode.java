@@ -0,0 +1,460 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.spi.node.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.AbstractSystemMapNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.SystemMapNode;
+
+/**
+ * A {@link SystemMapNode} storing entries consisting solely of leaves in columnar form: each leaf is stored in a packed
+ * array indexed by row, with integer leaves stored as primitive {@code long}s. Entries are located via an open
+ * addressing hash index over their key values. {@link MapEntryNode}s are materialized on demand, when they are looked
+ * up or iterated over, and are not retained.
+ *
+ * <p>Instances are created by {@link ColumnarSystemMapNodeBuilder}.
+ * {@link ImmutableSystemMapNodeBuilder#create(SystemMapNode)} initializes a {@link ColumnarSystemMapNodeBuilder} with a
+ * copy of the columns, so that adding or replacing entries, as done by a data tree on each write under the list, does
+ * not materialize any entries. Removing an entry, though, makes the builder revert to an
+ * {@link ImmutableSystemMapNode}, materializing all remaining entries.
+ */
+final class ColumnarSystemMapNode extends AbstractSystemMapNode {
+    /**
+     * A single leaf column. Columns are mutable while they are owned by a {@link ColumnarSystemMapNodeBuilder}, and
+     * immutable once they have been {@link #trimmed(int)} into a {@link ColumnarSystemMapNode}.
+     */
+    abstract static sealed class Column {
+        final @NonNull NodeIdentifier id;
+
+        Column(final NodeIdentifier id) {
+            this.id = requireNonNull(id);
+        }
+
+        static @NonNull Column of(final NodeIdentifier id, final Object value, final int capacity) {
+            final var type = PrimitiveValueType.of(value);
+            return type != null ? new LongColumn(id, type, capacity) : new ObjectColumn(id, capacity);
+        }
+
+        /**
+         * Return the value at specified row.
+         *
+         * @param row row index
+         * @return the value, or {@code null} if the row does not have this leaf
+         */
+        abstract @Nullable Object get(int row);
+
+        /**
+         * Check whether specified row holds specified value.
+         *
+         * @param row row index
+         * @param value value to compare
+         * @return {@code true} if the row holds an equal value
+         */
+        abstract boolean matches(int row, @NonNull Object value);
+
+        /**
+         * Set the value at specified row, growing storage as needed.
+         *
+         * @param row row index
+         * @param value the value, or {@code null} if the row does not have this leaf
+         * @return this column, or a more general replacement if this column cannot hold {@code value}
+         */
+        abstract @NonNull Column set(int row, @Nullable Object value);
+
+        /**
+         * Return an immutable copy of this column holding specified number of rows.
+         *
+         * @param rows number of rows
+         * @return a trimmed copy
+         */
+        abstract @NonNull Column trimmed(int rows);
+
+        /**
+         * Return a mutable copy of this column, suitable for use by a {@link ColumnarSystemMapNodeBuilder}.
+         *
+         * @param capacity initial capacity
+         * @return a mutable copy
+         */
+        abstract @NonNull Column copy(int capacity);
+    }
+
+    private static final class LongColumn extends Column {
+        private final @NonNull PrimitiveValueType type;
+        private final @NonNull BitSet present;
+        private long @NonNull [] values;
+
+        LongColumn(final NodeIdentifier id, final PrimitiveValueType type, final int capacity) {
+            this(id, type, new BitSet(), new long[capacity]);
+        }
+
+        private LongColumn(final NodeIdentifier id, final PrimitiveValueType type, final BitSet present,
+                final long[] values) {
+            super(id);
+            this.type = requireNonNull(type);
+            this.present = requireNonNull(present);
+            this.values = requireNonNull(values);
+        }
+
+        @Override
+        Object get(final int row) {
+            return present.get(row) ? type.box(values[row]) : null;
+        }
+
+        @Override
+        boolean matches(final int row, final Object value) {
+            return present.get(row) && PrimitiveValueType.of(value) == type
+                && values[row] == PrimitiveValueType.bitsOf(value);
+        }
+
+        @Override
+        Column set(final int row, final Object value) {
+            if (value == null) {
+                present.clear(row);
+                return this;
+            }
+            if (PrimitiveValueType.of(value) != type) {
+                final var ret = new ObjectColumn(id, values.length);
+                for (int i = present.nextSetBit(0); i >= 0; i = present.nextSetBit(i + 1)) {
+                    ret.set(i, type.box(values[i]));
+                }
+                return ret.set(row, value);
+            }
+            if (row >= values.length) {
+                values = Arrays.copyOf(values, Math.max(row + 1, values.length * 2));
+            }
+            values[row] = PrimitiveValueType.bitsOf(value);
+            present.set(row);
+            return this;
+        }
+
+        @Override
+        Column trimmed(final int rows) {
+            return new LongColumn(id, type, present.get(0, rows), Arrays.copyOf(values, rows));
+        }
+
+        @Override
+        Column copy(final int capacity) {
+            return new LongColumn(id, type, (BitSet) present.clone(), Arrays.copyOf(values, capacity));
+        }
+    }
+
+    private static final class ObjectColumn extends Column {
+        private @Nullable Object @NonNull [] values;
+
+        ObjectColumn(final NodeIdentifier id, final int capacity) {
+            this(id, new Object[capacity]);
+        }
+
+        private ObjectColumn(final NodeIdentifier id, final @Nullable Object[] values) {
+            super(id);
+            this.values = requireNonNull(values);
+        }
+
+        @Override
+        Object get(final int row) {
+            return row < values.length ? values[row] : null;
+        }
+
+        @Override
+        boolean matches(final int row, final Object value) {
+            final var stored = get(row);
+            // Objects.equals() does not deal with arrays, but is faster
+            return Objects.equals(stored, value) || Objects.deepEquals(stored, value);
+        }
+
+        @Override
+        Column set(final int row, final Object value) {
+            if (row >= values.length) {
+                values = Arrays.copyOf(values, Math.max(row + 1, values.length * 2));
+            }
+            values[row] = value;
+            return this;
+        }
+
+        @Override
+        Column trimmed(final int rows) {
+            return new ObjectColumn(id, Arrays.copyOf(values, rows));
+        }
+
+        @Override
+        Column copy(final int capacity) {
+            return new ObjectColumn(id, Arrays.copyOf(values, capacity));
+        }
+    }
+
+    private final class EntryMap extends AbstractMap<NodeIdentifierWithPredicates, MapEntryNode> {
+        @Override
+        public Set<Entry<NodeIdentifierWithPredicates, MapEntryNode>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<NodeIdentifierWithPredicates, MapEntryNode>> iterator() {
+                    final var it = new EntryIterator();
+                    return new Iterator<>() {
+                        @Override
+                        public boolean hasNext() {
+                            return it.hasNext();
+                        }
+
+                        @Override
+                        public Entry<NodeIdentifierWithPredicates, MapEntryNode> next() {
+                            final var entry = it.next();
+                            return new SimpleImmutableEntry<>(entry.name(), entry);
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return size;
+                }
+            };
+        }
+
+        @Override
+        public MapEntryNode get(final Object key) {
+            return key instanceof NodeIdentifierWithPredicates niwp ? childByArg(niwp) : null;
+        }
+
+        @Override
+        public boolean containsKey(final Object key) {
+            return get(key) != null;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    private final class EntryIterator implements Iterator<MapEntryNode> {
+        private int row;
+
+        @Override
+        public boolean hasNext() {
+            return row < size;
+        }
+
+        @Override
+        public MapEntryNode next() {
+            if (row >= size) {
+                throw new NoSuchElementException();
+            }
+            return entry(row++);
+        }
+    }
+
+    private final @NonNull NodeIdentifier name;
+    private final @NonNull Column @NonNull [] columns;
+    private final int @NonNull [] keyColumns;
+    private final int @NonNull [] index;
+    private final int size;
+
+    ColumnarSystemMapNode(final NodeIdentifier name, final Column[] columns, final int[] keyColumns,
+            final int[] index, final int size) {
+        this.name = requireNonNull(name);
+        this.columns = requireNonNull(columns);
+        this.keyColumns = requireNonNull(keyColumns);
+        this.index = requireNonNull(index);
+        this.size = size;
+    }
+
+    @Override
+    public NodeIdentifier name() {
+        return name;
+    }
+
+    @Override
+    public MapEntryNode childByArg(final NodeIdentifierWithPredicates child) {
+        final int row = findRow(columns, keyColumns, index, name.getNodeType(), child);
+        return row < 0 ? null : entry(row);
+    }
+
+    @Override
+    public Map<NodeIdentifierWithPredicates, MapEntryNode> asMap() {
+        return new EntryMap();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Collection<MapEntryNode> value() {
+        return new AbstractCollection<>() {
+            @Override
+            public Iterator<MapEntryNode> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    @Override
+    public Collection<MapEntryNode> wrappedValue() {
+        return value();
+    }
+
+    @Override
+    protected int valueHashCode() {
+        // Consistent with ImmutableSystemMapNode, which uses Map.hashCode()
+        return asMap().hashCode();
+    }
+
+    @Override
+    protected boolean valueEquals(final SystemMapNode other) {
+        return asMap().equals(ImmutableSystemMapNodeBuilder.accessChildren(other));
+    }
+
+    @Override
+    protected Class<?> toStringClass() {
+        return ImmutableSystemMapNode.class;
+    }
+
+    /**
+     * Return a {@link ColumnarSystemMapNodeBuilder} initialized with the contents of this node.
+     *
+     * @return A new builder
+     */
+    @NonNull ColumnarSystemMapNodeBuilder toBuilder() {
+        return new ColumnarSystemMapNodeBuilder(name, columns, keyColumns, index, size);
+    }
+
+    /**
+     * Materialize a row into a {@link MapEntryNode}.
+     *
+     * @param row row index
+     * @return a new MapEntryNode
+     */
+    @NonNull MapEntryNode entry(final int row) {
+        return entry(name.getNodeType(), columns, keyColumns, row);
+    }
+
+    static @NonNull MapEntryNode entry(final QName nodeType, final Column[] columns, final int[] keyColumns,
+            final int row) {
+        final var children = HashMap.<NodeIdentifier, Object>newHashMap(columns.length);
+        for (var column : columns) {
+            final var value = column.get(row);
+            if (value != null) {
+                children.put(column.id, value);
+            }
+        }
+
+        final NodeIdentifierWithPredicates entryName;
+        if (keyColumns.length == 1) {
+            final var column = columns[keyColumns[0]];
+            entryName = NodeIdentifierWithPredicates.of(nodeType, column.id.getNodeType(),
+                children.get(column.id));
+        } else {
+            final var keyValues = LinkedHashMap.<QName, Object>newLinkedHashMap(keyColumns.length);
+            for (int keyColumn : keyColumns) {
+                final var column = columns[keyColumn];
+                keyValues.put(column.id.getNodeType(), children.get(column.id));
+            }
+            entryName = NodeIdentifierWithPredicates.of(nodeType, keyValues);
+        }
+        return new ImmutableMapEntryNode(entryName, children);
+    }
+
+    /**
+     * Compute the hash of a key value. Arrays are hashed by their content, for consistency with
+     * {@link Objects#deepEquals(Object, Object)}.
+     *
+     * @param value key value
+     * @return hash code
+     */
+    static int keyHash(final Object value) {
+        return value instanceof byte[] bytes ? Arrays.hashCode(bytes) : value.hashCode();
+    }
+
+    static int rowHash(final Column[] columns, final int[] keyColumns, final int row) {
+        int hash = 1;
+        for (int keyColumn : keyColumns) {
+            hash = 31 * hash + keyHash(columns[keyColumn].get(row));
+        }
+        return spread(hash);
+    }
+
+    static int spread(final int hash) {
+        return hash ^ hash >>> 16;
+    }
+
+    /**
+     * Find the row matching an entry identifier.
+     *
+     * @param columns columns
+     * @param keyColumns indices of key columns, in key order
+     * @param index open addressing hash index of rows, each slot holding row index incremented by one
+     * @param nodeType list QName
+     * @param key entry identifier
+     * @return row index, or {@code -1} if there is no such row
+     */
+    static int findRow(final Column[] columns, final int[] keyColumns, final int[] index, final QName nodeType,
+            final NodeIdentifierWithPredicates key) {
+        if (!nodeType.equals(key.getNodeType()) || key.size() != keyColumns.length) {
+            return -1;
+        }
+
+        final var values = new Object[keyColumns.length];
+        int hash = 1;
+        for (int i = 0; i < keyColumns.length; ++i) {
+            final var value = key.getValue(columns[keyColumns[i]].id.getNodeType());
+            if (value == null) {
+                return -1;
+            }
+            values[i] = value;
+            hash = 31 * hash + keyHash(value);
+        }
+
+        final int mask = index.length - 1;
+        for (int slot = spread(hash) & mask; ; slot = slot + 1 & mask) {
+            final int stored = index[slot];
+            if (stored == 0) {
+                return -1;
+            }
+            final int row = stored - 1;
+            if (rowMatches(columns, keyColumns, row, values)) {
+                return row;
+            }
+        }
+    }
+
+    private static boolean rowMatches(final Column[] columns, final int[] keyColumns, final int row,
+            final Object[] values) {
+        for (int i = 0; i < keyColumns.length; ++i) {
+            if (!columns[keyColumns[i]].matches(row, values[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,297 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.spi.node.impl;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.DataContainerChild;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.SystemMapNode;
+import org.opendaylight.yangtools.yang.data.spi.node.impl.ColumnarSystemMapNode.Column;
+
+/**
+ * A {@link SystemMapNode.Builder} which produces a {@link ColumnarSystemMapNode} when the map has at least a threshold
+ * number of entries and all of them consist solely of leaves. Entries are buffered until the threshold is reached,
+ * after which they are decomposed into columns as they are added. If an entry which cannot be stored in columnar form
+ * is encountered, or an entry is removed, this builder reverts to building an {@link ImmutableSystemMapNode}.
+ *
+ * <p>A builder initialized from a {@link ColumnarSystemMapNode} starts with a copy of its columns, hence entries can be
+ * added or replaced without materializing existing entries.
+ */
+public final class ColumnarSystemMapNodeBuilder implements SystemMapNode.Builder {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final int threshold;
+    private final int sizeHint;
+
+    private @Nullable NodeIdentifier nodeIdentifier;
+
+    // Buffering state, before threshold is reached
+    private @Nullable LinkedHashMap<NodeIdentifierWithPredicates, MapEntryNode> pending = new LinkedHashMap<>();
+
+    // Columnar state
+    private QName entryType;
+    private Column[] columns;
+    private int columnCount;
+    private HashMap<NodeIdentifier, Integer> columnIndex;
+    private int[] keyColumns;
+    private int[] index;
+    private int rows;
+
+    // Fallback state
+    private @Nullable ImmutableSystemMapNodeBuilder fallback;
+
+    public ColumnarSystemMapNodeBuilder(final int threshold) {
+        this(threshold, -1);
+    }
+
+    public ColumnarSystemMapNodeBuilder(final int threshold, final int sizeHint) {
+        checkArgument(threshold > 0, "Invalid threshold %s", threshold);
+        this.threshold = threshold;
+        this.sizeHint = sizeHint;
+    }
+
+    ColumnarSystemMapNodeBuilder(final NodeIdentifier nodeIdentifier, final Column[] columns, final int[] keyColumns,
+            final int[] index, final int rows) {
+        threshold = 1;
+        sizeHint = -1;
+        this.nodeIdentifier = nodeIdentifier;
+        pending = null;
+
+        entryType = nodeIdentifier.getNodeType();
+        this.columns = new Column[columns.length + DEFAULT_CAPACITY];
+        columnCount = columns.length;
+        columnIndex = HashMap.newHashMap(columns.length);
+        for (int i = 0; i < columns.length; ++i) {
+            final var column = columns[i];
+            this.columns[i] = column.copy(rows);
+            columnIndex.put(column.id, i);
+        }
+        this.keyColumns = keyColumns;
+        this.index = index.clone();
+        this.rows = rows;
+    }
+
+    @Override
+    public ColumnarSystemMapNodeBuilder withChild(final MapEntryNode child) {
+        final var local = pending;
+        if (local != null) {
+            local.put(child.name(), child);
+            if (local.size() >= threshold) {
+                startColumns(local);
+            }
+        } else if (fallback != null) {
+            fallback.withChild(child);
+        } else if (!appendRow(child)) {
+            startFallback().withChild(child);
+        }
+        return this;
+    }
+
+    @Override
+    public ColumnarSystemMapNodeBuilder withoutChild(final PathArgument key) {
+        final var local = pending;
+        if (local != null) {
+            local.remove(key);
+        } else {
+            // Removing rows would leave holes, just materialize the entries
+            final var builder = fallback;
+            (builder != null ? builder : startFallback()).withoutChild(key);
+        }
+        return this;
+    }
+
+    @Override
+    public ColumnarSystemMapNodeBuilder withValue(final Collection<MapEntryNode> withValue) {
+        for (var mapEntryNode : withValue) {
+            withChild(mapEntryNode);
+        }
+        return this;
+    }
+
+    @Override
+    public ColumnarSystemMapNodeBuilder withNodeIdentifier(final NodeIdentifier withNodeIdentifier) {
+        nodeIdentifier = withNodeIdentifier;
+        return this;
+    }
+
+    @Override
+    public ColumnarSystemMapNodeBuilder addChild(final MapEntryNode child) {
+        return withChild(child);
+    }
+
+    @Override
+    public ColumnarSystemMapNodeBuilder removeChild(final PathArgument key) {
+        return withoutChild(key);
+    }
+
+    @Override
+    public SystemMapNode build() {
+        final var local = pending;
+        if (local != null) {
+            return new ImmutableSystemMapNodeBuilder(local.size())
+                .withNodeIdentifier(nodeIdentifier)
+                .withValue(local.values())
+                .build();
+        }
+        if (fallback != null || nodeIdentifier == null || !entryType.equals(nodeIdentifier.getNodeType())) {
+            return (fallback != null ? fallback : startFallback()).withNodeIdentifier(nodeIdentifier).build();
+        }
+
+        final var trimmed = new Column[columnCount];
+        for (int i = 0; i < columnCount; ++i) {
+            trimmed[i] = columns[i].trimmed(rows);
+        }
+        return new ColumnarSystemMapNode(nodeIdentifier, trimmed, keyColumns.clone(), index.clone(), rows);
+    }
+
+    private void startColumns(final LinkedHashMap<NodeIdentifierWithPredicates, MapEntryNode> entries) {
+        pending = null;
+
+        final var first = entries.values().iterator().next();
+        final var name = first.name();
+        entryType = name.getNodeType();
+        columns = new Column[name.size() + DEFAULT_CAPACITY];
+        columnCount = 0;
+        columnIndex = new HashMap<>();
+        keyColumns = new int[name.size()];
+        int offset = 0;
+        for (var key : name.keySet()) {
+            keyColumns[offset++] = columnFor(NodeIdentifier.create(key), name.getValue(key));
+        }
+        index = new int[Integer.highestOneBit(Math.max(Math.max(sizeHint, entries.size()), DEFAULT_CAPACITY)) * 4];
+        rows = 0;
+
+        final var it = entries.values().iterator();
+        while (it.hasNext()) {
+            final var entry = it.next();
+            if (!appendRow(entry)) {
+                final var builder = startFallback();
+                builder.withChild(entry);
+                it.forEachRemaining(builder::withChild);
+                return;
+            }
+        }
+    }
+
+    private @NonNull ImmutableSystemMapNodeBuilder startFallback() {
+        final var builder = new ImmutableSystemMapNodeBuilder(Math.max(sizeHint, rows));
+        final var array = Arrays.copyOf(columns, columnCount);
+        for (int row = 0; row < rows; ++row) {
+            builder.withChild(ColumnarSystemMapNode.entry(entryType, array, keyColumns, row));
+        }
+
+        columns = null;
+        columnCount = 0;
+        columnIndex = null;
+        keyColumns = null;
+        index = null;
+        rows = 0;
+        fallback = builder;
+        return builder;
+    }
+
+    /**
+     * Attempt to append a row holding specified entry, or replace the row holding an entry with the same key.
+     *
+     * @param child entry to add
+     * @return {@code true} if the entry was stored, {@code false} if it cannot be represented in columnar form
+     */
+    private boolean appendRow(final MapEntryNode child) {
+        if (!(child instanceof ImmutableMapEntryNode entry) || !isCompatible(entry)) {
+            return false;
+        }
+
+        final var name = entry.name();
+        final int found = ColumnarSystemMapNode.findRow(columns, keyColumns, index, entryType, name);
+        final int row;
+        if (found < 0) {
+            row = rows++;
+        } else {
+            // Replacing an existing entry: clear any leaves it had
+            row = found;
+            for (int i = 0; i < columnCount; ++i) {
+                columns[i] = columns[i].set(row, null);
+            }
+        }
+
+        for (var leaf : entry.children.entrySet()) {
+            final var id = leaf.getKey();
+            final var value = leaf.getValue();
+            final var existing = columnIndex.get(id);
+            final int offset = existing != null ? existing : columnFor(id, value);
+            columns[offset] = columns[offset].set(row, value);
+        }
+
+        if (found < 0) {
+            // Key columns are populated now, we can index the row
+            insertIndex(row);
+        }
+        return true;
+    }
+
+    private boolean isCompatible(final ImmutableMapEntryNode entry) {
+        final var name = entry.name();
+        if (!entryType.equals(name.getNodeType()) || name.size() != keyColumns.length) {
+            return false;
+        }
+        for (int keyColumn : keyColumns) {
+            final var id = columns[keyColumn].id;
+            final var keyValue = name.getValue(id.getNodeType());
+            if (keyValue == null || !Objects.deepEquals(keyValue, entry.children.get(id))) {
+                return false;
+            }
+        }
+        for (var value : entry.children.values()) {
+            if (value instanceof DataContainerChild) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int columnFor(final NodeIdentifier id, final Object value) {
+        final int ret = columnCount++;
+        if (ret == columns.length) {
+            columns = Arrays.copyOf(columns, ret * 2);
+        }
+        columns[ret] = Column.of(id, value, Math.max(sizeHint, DEFAULT_CAPACITY));
+        columnIndex.put(id, ret);
+        return ret;
+    }
+
+    private void insertIndex(final int row) {
+        if (rows * 2 > index.length) {
+            index = new int[index.length * 2];
+            for (int i = 0; i < row; ++i) {
+                insertIndex(index, i);
+            }
+        }
+        insertIndex(index, row);
+    }
+
+    private void insertIndex(final int[] table, final int row) {
+        final int mask = table.length - 1;
+        int slot = ColumnarSystemMapNode.rowHash(columns, keyColumns, row) & mask;
+        while (table[slot] != 0) {
+            slot = slot + 1 & mask;
+        }
+        table[slot] = row + 1;
+    }
+}
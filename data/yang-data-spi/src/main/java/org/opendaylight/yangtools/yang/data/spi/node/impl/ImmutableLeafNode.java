@@ -10,62 +10,185 @@ package org.opendaylight.yangtools.yang.data.spi.node.impl;
 import static java.util.Objects.requireNonNull;
 
 import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.yangtools.yang.common.Decimal64;
+import org.opendaylight.yangtools.yang.common.Uint16;
+import org.opendaylight.yangtools.yang.common.Uint32;
+import org.opendaylight.yangtools.yang.common.Uint64;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
 import org.opendaylight.yangtools.yang.data.api.schema.AbstractLeafNode;
 
+/**
+ * Immutable {@link org.opendaylight.yangtools.yang.data.api.schema.LeafNode} implementation. Values of numeric types
+ * which are not cached by their boxed representation are stored in primitive fields and boxed on demand. This applies
+ * to {@code int16}, {@code int32}, {@code int64}, {@code uint16}, {@code uint32}, {@code uint64} and
+ * {@code decimal64} values, but not to their subclasses, which may carry additional state.
+ *
+ * @param <T> Value type
+ */
 public abstract sealed class ImmutableLeafNode<T> extends AbstractLeafNode<T> {
     private static final class Regular<T> extends ImmutableLeafNode<T> {
+        private final @NonNull T value;
+
         Regular(final NodeIdentifier name, final T value) {
-            super(name, value);
+            super(name);
+            this.value = requireNonNull(value);
+        }
+
+        @Override
+        protected T value() {
+            return value;
         }
 
         @Override
         protected T wrappedValue() {
-            return value();
+            return value;
         }
     }
 
     private static final class Binary extends ImmutableLeafNode<byte[]> {
+        private final byte @NonNull [] value;
+
         Binary(final NodeIdentifier name, final byte[] value) {
-            super(name, value);
+            super(name);
+            this.value = requireNonNull(value);
+        }
+
+        @Override
+        protected byte[] value() {
+            return value;
         }
 
         @Override
         protected byte[] wrappedValue() {
-            return value().clone();
+            return value.clone();
+        }
+    }
+
+    private abstract static sealed class Primitive<T> extends ImmutableLeafNode<T> {
+        final long bits;
+
+        Primitive(final NodeIdentifier name, final long bits) {
+            super(name);
+            this.bits = bits;
+        }
+
+        @Override
+        protected final T wrappedValue() {
+            return value();
+        }
+    }
+
+    private static final class Int16 extends Primitive<Short> {
+        Int16(final NodeIdentifier name, final short value) {
+            super(name, value);
+        }
+
+        @Override
+        protected Short value() {
+            return (short) bits;
+        }
+    }
+
+    private static final class Int32 extends Primitive<Integer> {
+        Int32(final NodeIdentifier name, final int value) {
+            super(name, value);
+        }
+
+        @Override
+        protected Integer value() {
+            return (int) bits;
+        }
+    }
+
+    private static final class Int64 extends Primitive<Long> {
+        Int64(final NodeIdentifier name, final long value) {
+            super(name, value);
+        }
+
+        @Override
+        protected Long value() {
+            return bits;
+        }
+    }
+
+    private static final class Unsigned16 extends Primitive<Uint16> {
+        Unsigned16(final NodeIdentifier name, final Uint16 value) {
+            super(name, value.shortValue());
+        }
+
+        @Override
+        protected Uint16 value() {
+            return Uint16.fromShortBits((short) bits);
+        }
+    }
+
+    private static final class Unsigned32 extends Primitive<Uint32> {
+        Unsigned32(final NodeIdentifier name, final Uint32 value) {
+            super(name, value.intValue());
+        }
+
+        @Override
+        protected Uint32 value() {
+            return Uint32.fromIntBits((int) bits);
+        }
+    }
+
+    private static final class Unsigned64 extends Primitive<Uint64> {
+        Unsigned64(final NodeIdentifier name, final Uint64 value) {
+            super(name, value.longValue());
+        }
+
+        @Override
+        protected Uint64 value() {
+            return Uint64.fromLongBits(bits);
+        }
+    }
+
+    private static final class Dec64 extends Primitive<Decimal64> {
+        private final byte scale;
+
+        Dec64(final NodeIdentifier name, final Decimal64 value) {
+            super(name, value.unscaledValue());
+            scale = (byte) value.scale();
+        }
+
+        @Override
+        protected Decimal64 value() {
+            return Decimal64.of(scale, bits);
         }
     }
 
     private final @NonNull NodeIdentifier name;
-    private final @NonNull T value;
 
-    private ImmutableLeafNode(final NodeIdentifier name, final T value) {
+    private ImmutableLeafNode(final NodeIdentifier name) {
         this.name = requireNonNull(name);
-        this.value = requireNonNull(value);
     }
 
     public static <T> @NonNull ImmutableLeafNode<T> of(final NodeIdentifier identifier, final T value) {
         return switch (value) {
-            case byte[] bytes -> {
-                @SuppressWarnings("unchecked")
-                final var ret = (ImmutableLeafNode<T>) new Binary(identifier, bytes);
-                yield ret;
-            }
+            case byte[] bytes -> cast(new Binary(identifier, bytes));
             case YangInstanceIdentifier yiid when yiid.isEmpty() ->
                 throw new IllegalArgumentException("Leaf node value cannot be an empty instance identifier");
+            case Short val -> cast(new Int16(identifier, val));
+            case Integer val -> cast(new Int32(identifier, val));
+            case Long val -> cast(new Int64(identifier, val));
+            case Uint16 val when val.getClass() == Uint16.class -> cast(new Unsigned16(identifier, val));
+            case Uint32 val when val.getClass() == Uint32.class -> cast(new Unsigned32(identifier, val));
+            case Uint64 val when val.getClass() == Uint64.class -> cast(new Unsigned64(identifier, val));
+            case Decimal64 val when val.getClass() == Decimal64.class -> cast(new Dec64(identifier, val));
             default -> new Regular<>(identifier, value);
         };
     }
 
-    @Override
-    public final NodeIdentifier name() {
-        return name;
+    @SuppressWarnings("unchecked")
+    private static <T> @NonNull ImmutableLeafNode<T> cast(final ImmutableLeafNode<?> node) {
+        return (ImmutableLeafNode<T>) node;
     }
 
     @Override
-    protected final T value() {
-        return value;
+    public final NodeIdentifier name() {
+        return name;
     }
 
     @Override
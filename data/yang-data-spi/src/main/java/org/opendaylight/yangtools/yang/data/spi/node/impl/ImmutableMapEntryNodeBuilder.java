@@ -47,7 +47,12 @@ public final class ImmutableMapEntryNodeBuilder
         if (node instanceof ImmutableMapEntryNode immutableNode) {
             return new ImmutableMapEntryNodeBuilder(immutableNode);
         }
-        throw new UnsupportedOperationException("Cannot initialize from class " + node.getClass());
+
+        // Other implementations, for example those backed by external storage, are copied child by child
+        final var builder = new ImmutableMapEntryNodeBuilder(node.size());
+        builder.withNodeIdentifier(node.name());
+        builder.withValue(node.body());
+        return builder;
     }
 
     private static void fillQNames(final Iterable<DataContainerChild> iterable, final Map<QName, NodeIdentifier> out) {
@@ -0,0 +1,307 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.spi.node.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractCollection;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.stream.IntStream;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeWithValue;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.AbstractSystemLeafSetNode;
+import org.opendaylight.yangtools.yang.data.api.schema.LeafSetEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.SystemLeafSetNode;
+
+/**
+ * A {@link SystemLeafSetNode} holding integer values in a primitive array. {@link LeafSetEntryNode}s are instantiated
+ * on demand, when they are looked up or iterated over.
+ *
+ * <p>Values are kept in the order in which they were encountered, so that iteration order is the same as it would be
+ * with {@link ImmutableSystemLeafSetNode}. Lookups are served by a separate index of value positions, sorted by value.
+ *
+ * @param <T> Value type
+ */
+final class ImmutablePrimitiveLeafSetNode<T> extends AbstractSystemLeafSetNode<T> {
+    private final class Entries extends AbstractCollection<LeafSetEntryNode<T>> {
+        @Override
+        public Iterator<LeafSetEntryNode<T>> iterator() {
+            return new Iterator<>() {
+                private int offset;
+
+                @Override
+                public boolean hasNext() {
+                    return offset < values.length;
+                }
+
+                @Override
+                public LeafSetEntryNode<T> next() {
+                    if (offset >= values.length) {
+                        throw new NoSuchElementException();
+                    }
+                    return entry(values[offset++]);
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+    }
+
+    /**
+     * Minimum number of entries for a leaf-set to be stored in primitive form. Smaller leaf-sets do not save enough
+     * memory to offset the cost of instantiating entries on each access.
+     */
+    static final int MIN_SIZE = 32;
+
+    private final @NonNull NodeIdentifier name;
+    private final @NonNull PrimitiveValueType type;
+    // Values in encounter order
+    private final long @NonNull [] values;
+    // Positions in values, in ascending order of the corresponding value
+    private final int @NonNull [] index;
+
+    private ImmutablePrimitiveLeafSetNode(final NodeIdentifier name, final PrimitiveValueType type,
+            final long[] values, final int[] index) {
+        this.name = requireNonNull(name);
+        this.type = requireNonNull(type);
+        this.values = requireNonNull(values);
+        this.index = requireNonNull(index);
+    }
+
+    /**
+     * Attempt to create a leaf-set with specified entries. This succeeds if there are at least {@link #MIN_SIZE}
+     * entries, all of them are of the same supported type, belong to the leaf-set and do not carry anything beyond
+     * their value.
+     *
+     * @param name leaf-set identifier
+     * @param entries leaf-set entries
+     * @return A new leaf-set, or {@code null} if the entries should not be stored in primitive form
+     */
+    static <T> @Nullable ImmutablePrimitiveLeafSetNode<T> tryCreate(final NodeIdentifier name,
+            final Collection<LeafSetEntryNode<T>> entries) {
+        if (name == null || entries.size() < MIN_SIZE) {
+            return null;
+        }
+
+        final var qname = name.getNodeType();
+        final var values = new long[entries.size()];
+        PrimitiveValueType type = null;
+        int offset = 0;
+        for (var entry : entries) {
+            if (!(entry instanceof ImmutableLeafSetEntryNode) || !qname.equals(entry.name().getNodeType())) {
+                return null;
+            }
+            final var value = entry.body();
+            final var valueType = PrimitiveValueType.of(value);
+            if (valueType == null || type != null && type != valueType) {
+                return null;
+            }
+            type = valueType;
+            values[offset++] = PrimitiveValueType.bitsOf(value);
+        }
+
+        // Entries come from a Map keyed by NodeWithValue, hence they are distinct
+        return new ImmutablePrimitiveLeafSetNode<>(name, type, values, sortedIndex(values));
+    }
+
+    /**
+     * Attempt to create a leaf-set with some of the entries of this leaf-set removed and some entries added. Retained
+     * entries keep their order and are followed by added entries. Unlike
+     * {@link #tryCreate(NodeIdentifier, Collection)}, this method does not instantiate retained entries and sorts only
+     * the added entries.
+     *
+     * @param removed positions of removed entries
+     * @param additions added entries, none of which may be present in this leaf-set
+     * @return A new leaf-set, or {@code null} if the resulting entries should not be stored in primitive form
+     */
+    @Nullable ImmutablePrimitiveLeafSetNode<T> tryUpdate(final BitSet removed,
+            final Collection<LeafSetEntryNode<T>> additions) {
+        if (removed.isEmpty() && additions.isEmpty()) {
+            return this;
+        }
+
+        final int retained = values.length - removed.cardinality();
+        final int size = retained + additions.size();
+        if (size < MIN_SIZE) {
+            return null;
+        }
+
+        final var added = new long[additions.size()];
+        int offset = 0;
+        for (var entry : additions) {
+            if (!(entry instanceof ImmutableLeafSetEntryNode) || indexOf(entry.name()) != -1
+                || !name.getNodeType().equals(entry.name().getNodeType())
+                || PrimitiveValueType.of(entry.body()) != type) {
+                return null;
+            }
+            added[offset++] = PrimitiveValueType.bitsOf(entry.body());
+        }
+
+        final var newValues = new long[size];
+        final var newPositions = new int[values.length];
+        int pos = 0;
+        for (int i = 0; i < values.length; ++i) {
+            if (!removed.get(i)) {
+                newPositions[i] = pos;
+                newValues[pos++] = values[i];
+            }
+        }
+        for (long value : added) {
+            newValues[pos++] = value;
+        }
+
+        // Merge our index, skipping removed entries, with the index of added entries
+        final var addedIndex = sortedIndex(added);
+        final var newIndex = new int[size];
+        int existing = 0;
+        int addition = 0;
+        for (int i = 0; i < size; ++i) {
+            while (existing < index.length && removed.get(index[existing])) {
+                existing++;
+            }
+            if (addition == added.length
+                || existing < index.length && values[index[existing]] < added[addedIndex[addition]]) {
+                newIndex[i] = newPositions[index[existing++]];
+            } else {
+                newIndex[i] = retained + addedIndex[addition++];
+            }
+        }
+        return new ImmutablePrimitiveLeafSetNode<>(name, type, newValues, newIndex);
+    }
+
+    /**
+     * Return the position of an entry.
+     *
+     * @param arg entry identifier
+     * @return position of the entry, or {@code -1} if it is not present
+     */
+    int indexOf(final PathArgument arg) {
+        if (arg instanceof NodeWithValue<?> nwv && name.getNodeType().equals(nwv.getNodeType())) {
+            final var value = nwv.getValue();
+            if (PrimitiveValueType.of(value) == type) {
+                return indexOf(PrimitiveValueType.bitsOf(value));
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Return the entry at specified position.
+     *
+     * @param offset entry position
+     * @return A {@link LeafSetEntryNode}
+     */
+    @NonNull LeafSetEntryNode<T> entryAt(final int offset) {
+        return entry(values[offset]);
+    }
+
+    @Override
+    public NodeIdentifier name() {
+        return name;
+    }
+
+    @Override
+    public LeafSetEntryNode<T> childByArg(final NodeWithValue<?> child) {
+        final int offset = indexOf(child);
+        return offset != -1 ? entryAt(offset) : null;
+    }
+
+    @Override
+    public int size() {
+        return values.length;
+    }
+
+    @Override
+    protected int valueHashCode() {
+        // Must be consistent with ImmutableSystemLeafSetNode, which uses Map.hashCode()
+        int hash = 0;
+        for (var entry : value()) {
+            hash += entry.name().hashCode() ^ entry.hashCode();
+        }
+        return hash;
+    }
+
+    @Override
+    protected Collection<LeafSetEntryNode<T>> value() {
+        return new Entries();
+    }
+
+    @Override
+    protected Collection<LeafSetEntryNode<T>> wrappedValue() {
+        return value();
+    }
+
+    @Override
+    protected boolean valueEquals(final SystemLeafSetNode<T> other) {
+        if (size() != other.size()) {
+            return false;
+        }
+        if (other instanceof ImmutablePrimitiveLeafSetNode<?> otherPrimitive) {
+            if (type != otherPrimitive.type) {
+                return false;
+            }
+            // Compare in value order, as encounter order is not significant
+            for (int i = 0; i < index.length; ++i) {
+                if (values[index[i]] != otherPrimitive.values[otherPrimitive.index[i]]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        for (var child : value()) {
+            if (!child.equals(other.childByArg(child.name()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    protected Class<?> toStringClass() {
+        return ImmutableSystemLeafSetNode.class;
+    }
+
+    private int indexOf(final long bits) {
+        int low = 0;
+        int high = index.length - 1;
+        while (low <= high) {
+            final int mid = low + high >>> 1;
+            final long midBits = values[index[mid]];
+            if (midBits < bits) {
+                low = mid + 1;
+            } else if (midBits > bits) {
+                high = mid - 1;
+            } else {
+                return index[mid];
+            }
+        }
+        return -1;
+    }
+
+    @SuppressWarnings("unchecked")
+    private @NonNull LeafSetEntryNode<T> entry(final long bits) {
+        return ImmutableLeafSetEntryNode.of(new NodeWithValue<>(name.getNodeType(), (T) type.box(bits)));
+    }
+
+    private static int[] sortedIndex(final long[] values) {
+        return IntStream.range(0, values.length).boxed()
+            .sorted(Comparator.comparingLong(offset -> values[offset]))
+            .mapToInt(Integer::intValue)
+            .toArray();
+    }
+}
@@ -7,6 +7,7 @@
  */
 package org.opendaylight.yangtools.yang.data.spi.node.impl;
 
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
@@ -24,6 +25,10 @@ public final class ImmutableSystemLeafSetNodeBuilder<T> implements SystemLeafSet
     private final Map<NodeWithValue<?>, LeafSetEntryNode<T>> value;
 
     private NodeIdentifier nodeIdentifier;
+    // When initialized from an ImmutablePrimitiveLeafSetNode, we track changes to it rather than materializing all of
+    // its entries: value holds only the added entries and removed holds the positions of removed entries
+    private ImmutablePrimitiveLeafSetNode<T> base;
+    private BitSet removed;
 
     public ImmutableSystemLeafSetNodeBuilder() {
         value = new HashMap<>(DEFAULT_CAPACITY);
@@ -38,32 +43,73 @@ public final class ImmutableSystemLeafSetNodeBuilder<T> implements SystemLeafSet
         value = MapAdaptor.getDefaultInstance().takeSnapshot(node.children);
     }
 
+    private ImmutableSystemLeafSetNodeBuilder(final ImmutablePrimitiveLeafSetNode<T> node) {
+        this();
+        nodeIdentifier = node.name();
+        base = node;
+        removed = new BitSet();
+    }
+
     public static <T> SystemLeafSetNode.@NonNull Builder<T> create(final SystemLeafSetNode<T> node) {
         if (node instanceof ImmutableSystemLeafSetNode<T> immutable) {
             return new ImmutableSystemLeafSetNodeBuilder<>(immutable);
         }
+        if (node instanceof ImmutablePrimitiveLeafSetNode<T> primitive) {
+            return new ImmutableSystemLeafSetNodeBuilder<>(primitive);
+        }
         throw new UnsupportedOperationException("Cannot initialize from class " + node.getClass());
     }
 
     @Override
     public ImmutableSystemLeafSetNodeBuilder<T> withChild(final LeafSetEntryNode<T> child) {
+        if (base != null) {
+            if (!(child instanceof ImmutableLeafSetEntryNode)) {
+                materialize();
+            } else {
+                final int offset = base.indexOf(child.name());
+                if (offset != -1) {
+                    // Equivalent to the entry already present
+                    removed.clear(offset);
+                    return this;
+                }
+            }
+        }
         value.put(child.name(), child);
         return this;
     }
 
     @Override
     public ImmutableSystemLeafSetNodeBuilder<T> withoutChild(final PathArgument key) {
+        if (base != null) {
+            final int offset = base.indexOf(key);
+            if (offset != -1) {
+                removed.set(offset);
+            }
+        }
         value.remove(key);
         return this;
     }
 
     @Override
     public SystemLeafSetNode<T> build() {
-        return new ImmutableSystemLeafSetNode<>(nodeIdentifier, MapAdaptor.getDefaultInstance().optimize(value));
+        if (base != null) {
+            final var updated = base.tryUpdate(removed, value.values());
+            if (updated != null) {
+                return updated;
+            }
+            materialize();
+        }
+
+        final var primitive = ImmutablePrimitiveLeafSetNode.tryCreate(nodeIdentifier, value.values());
+        return primitive != null ? primitive
+            : new ImmutableSystemLeafSetNode<>(nodeIdentifier, MapAdaptor.getDefaultInstance().optimize(value));
     }
 
     @Override
     public ImmutableSystemLeafSetNodeBuilder<T> withNodeIdentifier(final NodeIdentifier withNodeIdentifier) {
+        if (base != null && !base.name().equals(withNodeIdentifier)) {
+            materialize();
+        }
         nodeIdentifier = withNodeIdentifier;
         return this;
     }
@@ -90,4 +136,16 @@ public final class ImmutableSystemLeafSetNodeBuilder<T> implements SystemLeafSet
     public ImmutableSystemLeafSetNodeBuilder<T> removeChild(final PathArgument key) {
         return withoutChild(key);
     }
+
+    private void materialize() {
+        // Added entries are disjoint from base entries
+        for (int i = 0, size = base.size(); i < size; ++i) {
+            if (!removed.get(i)) {
+                final var entry = base.entryAt(i);
+                value.put(entry.name(), entry);
+            }
+        }
+        base = null;
+        removed = null;
+    }
 }
@@ -40,7 +40,9 @@ public final class ImmutableSystemMapNodeBuilder implements SystemMapNode.Builde
     }
 
     public static SystemMapNode.@NonNull Builder create(final SystemMapNode node) {
-        return new ImmutableSystemMapNodeBuilder(node);
+        // Do not materialize columnar entries
+        return node instanceof ColumnarSystemMapNode columnar ? columnar.toBuilder()
+            : new ImmutableSystemMapNodeBuilder(node);
     }
 
     @Override
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.spi.node.impl;
+
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.yang.common.Uint16;
+import org.opendaylight.yangtools.yang.common.Uint32;
+import org.opendaylight.yangtools.yang.common.Uint64;
+
+/**
+ * Integer value types which can be stored as {@code long} bits and boxed back on demand. Subclasses of yang-common
+ * types are not supported, as they may carry additional state.
+ */
+enum PrimitiveValueType {
+    INT16 {
+        @Override
+        Object box(final long bits) {
+            return (short) bits;
+        }
+    },
+    INT32 {
+        @Override
+        Object box(final long bits) {
+            return (int) bits;
+        }
+    },
+    INT64 {
+        @Override
+        Object box(final long bits) {
+            return bits;
+        }
+    },
+    UINT16 {
+        @Override
+        Object box(final long bits) {
+            return Uint16.fromShortBits((short) bits);
+        }
+    },
+    UINT32 {
+        @Override
+        Object box(final long bits) {
+            return Uint32.fromIntBits((int) bits);
+        }
+    },
+    UINT64 {
+        @Override
+        Object box(final long bits) {
+            return Uint64.fromLongBits(bits);
+        }
+    };
+
+    abstract @NonNull Object box(long bits);
+
+    static @Nullable PrimitiveValueType of(final Object value) {
+        return switch (value) {
+            case Short val -> INT16;
+            case Integer val -> INT32;
+            case Long val -> INT64;
+            case Uint16 val when val.getClass() == Uint16.class -> UINT16;
+            case Uint32 val when val.getClass() == Uint32.class -> UINT32;
+            case Uint64 val when val.getClass() == Uint64.class -> UINT64;
+            default -> null;
+        };
+    }
+
+    // All supported types are Numbers whose longValue() can be reversed by box()
+    static long bitsOf(final Object value) {
+        return ((Number) value).longValue();
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.spi.node.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.Uint32;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.SystemMapNode;
+import org.opendaylight.yangtools.yang.data.spi.node.ImmutableNodes;
+
+class ColumnarSystemMapNodeTest {
+    private static final QName LIST = QName.create("foo", "list");
+    private static final QName ID = QName.create(LIST, "id");
+    private static final QName NAME = QName.create(LIST, "name");
+    private static final QName COUNT = QName.create(LIST, "count");
+    private static final QName NESTED = QName.create(LIST, "nested");
+    private static final NodeIdentifier LIST_ID = new NodeIdentifier(LIST);
+
+    @Test
+    void columnarMatchesRegular() {
+        final var columnar = new ColumnarSystemMapNodeBuilder(4).withNodeIdentifier(LIST_ID);
+        final var regular = new ImmutableSystemMapNodeBuilder().withNodeIdentifier(LIST_ID);
+        for (int i = 0; i < 100; ++i) {
+            final var entry = entry(i);
+            columnar.withChild(entry);
+            regular.withChild(entry);
+        }
+
+        final var expected = regular.build();
+        final var actual = assertInstanceOf(ColumnarSystemMapNode.class, columnar.build());
+        assertEquals(100, actual.size());
+        assertEquals(expected, actual);
+        assertEquals(actual, expected);
+        assertEquals(expected.hashCode(), actual.hashCode());
+        assertEquals(expected.asMap(), actual.asMap());
+
+        final var key = NodeIdentifierWithPredicates.of(LIST, ID, 42);
+        assertEquals(expected.childByArg(key), actual.childByArg(key));
+        assertNull(actual.childByArg(NodeIdentifierWithPredicates.of(LIST, ID, 100)));
+        assertNull(actual.childByArg(NodeIdentifierWithPredicates.of(LIST, ID, 42L)));
+        assertNull(actual.childByArg(NodeIdentifierWithPredicates.of(LIST, NAME, 42)));
+
+        // Snapshot into a regular builder, as done by data tree
+        assertEquals(expected, ImmutableSystemMapNodeBuilder.create(actual).build());
+    }
+
+    @Test
+    void columnarCompositeKey() {
+        final var builder = ImmutableNodes.newColumnarSystemMapBuilder(1, 10).withNodeIdentifier(LIST_ID);
+        for (int i = 0; i < 10; ++i) {
+            builder.withChild(ImmutableNodes.newMapEntryBuilder()
+                .withNodeIdentifier(NodeIdentifierWithPredicates.of(LIST, Map.of(ID, i, NAME, "name" + i)))
+                .withChild(ImmutableNodes.leafNode(ID, i))
+                .withChild(ImmutableNodes.leafNode(NAME, "name" + i))
+                .build());
+        }
+
+        final var map = assertInstanceOf(ColumnarSystemMapNode.class, builder.build());
+        final var entry = map.childByArg(NodeIdentifierWithPredicates.of(LIST, Map.of(ID, 7, NAME, "name7")));
+        assertEquals(ImmutableNodes.leafNode(NAME, "name7"), entry.childByArg(new NodeIdentifier(NAME)));
+        assertNull(map.childByArg(NodeIdentifierWithPredicates.of(LIST, Map.of(ID, 7, NAME, "name6"))));
+    }
+
+    @Test
+    void columnarOptionalAndReplacedLeaves() {
+        final var builder = new ColumnarSystemMapNodeBuilder(1).withNodeIdentifier(LIST_ID);
+        for (int i = 0; i < 10; ++i) {
+            builder.withChild(i % 2 == 0 ? entry(i) : keyOnlyEntry(i));
+        }
+        // Replace an entry, changing the type stored in 'count' column
+        builder.withChild(ImmutableNodes.newMapEntryBuilder()
+            .withNodeIdentifier(NodeIdentifierWithPredicates.of(LIST, ID, 3))
+            .withChild(ImmutableNodes.leafNode(ID, 3))
+            .withChild(ImmutableNodes.leafNode(COUNT, "three"))
+            .build());
+
+        final SystemMapNode map = assertInstanceOf(ColumnarSystemMapNode.class, builder.build());
+        assertEquals(10, map.size());
+        assertEquals(keyOnlyEntry(5), map.childByArg(NodeIdentifierWithPredicates.of(LIST, ID, 5)));
+        assertEquals(entry(4), map.childByArg(NodeIdentifierWithPredicates.of(LIST, ID, 4)));
+        assertEquals(ImmutableNodes.leafNode(COUNT, "three"),
+            map.childByArg(NodeIdentifierWithPredicates.of(LIST, ID, 3)).childByArg(new NodeIdentifier(COUNT)));
+    }
+
+    @Test
+    void belowThresholdIsRegular() {
+        final var builder = new ColumnarSystemMapNodeBuilder(10).withNodeIdentifier(LIST_ID);
+        for (int i = 0; i < 9; ++i) {
+            builder.withChild(entry(i));
+        }
+        assertInstanceOf(ImmutableSystemMapNode.class, builder.build());
+    }
+
+    @Test
+    void nonLeafChildFallsBack() {
+        final var builder = new ColumnarSystemMapNodeBuilder(2).withNodeIdentifier(LIST_ID);
+        final var regular = new ImmutableSystemMapNodeBuilder().withNodeIdentifier(LIST_ID);
+        for (int i = 0; i < 10; ++i) {
+            final MapEntryNode entry = i != 5 ? entry(i) : ImmutableNodes.newMapEntryBuilder()
+                .withNodeIdentifier(NodeIdentifierWithPredicates.of(LIST, ID, i))
+                .withChild(ImmutableNodes.leafNode(ID, i))
+                .withChild(ImmutableNodes.newContainerBuilder().withNodeIdentifier(new NodeIdentifier(NESTED)).build())
+                .build();
+            builder.withChild(entry);
+            regular.withChild(entry);
+        }
+
+        final var map = assertInstanceOf(ImmutableSystemMapNode.class, builder.build());
+        assertEquals(regular.build(), map);
+    }
+
+    @Test
+    void removalFallsBack() {
+        final var builder = new ColumnarSystemMapNodeBuilder(2).withNodeIdentifier(LIST_ID);
+        for (int i = 0; i < 5; ++i) {
+            builder.withChild(entry(i));
+        }
+        builder.withoutChild(NodeIdentifierWithPredicates.of(LIST, ID, 2));
+
+        final var map = assertInstanceOf(ImmutableSystemMapNode.class, builder.build());
+        assertEquals(4, map.size());
+        assertNull(map.childByArg(NodeIdentifierWithPredicates.of(LIST, ID, 2)));
+        assertEquals(entry(3), map.childByArg(NodeIdentifierWithPredicates.of(LIST, ID, 3)));
+    }
+
+    @Test
+    void copyStaysColumnar() {
+        final var builder = new ColumnarSystemMapNodeBuilder(1).withNodeIdentifier(LIST_ID);
+        final var regular = new ImmutableSystemMapNodeBuilder().withNodeIdentifier(LIST_ID);
+        for (int i = 0; i < 10; ++i) {
+            builder.withChild(entry(i));
+            regular.withChild(entry(i));
+        }
+        final var original = assertInstanceOf(ColumnarSystemMapNode.class, builder.build());
+        final var expected = regular.build();
+
+        // Add an entry and replace another one, as done by data tree on a write under the list
+        final var replacement = keyOnlyEntry(3);
+        final var copy = assertInstanceOf(ColumnarSystemMapNode.class, ImmutableSystemMapNodeBuilder.create(original)
+            .withChild(entry(10))
+            .withChild(replacement)
+            .build());
+        assertEquals(11, copy.size());
+        assertEquals(entry(10), copy.childByArg(NodeIdentifierWithPredicates.of(LIST, ID, 10)));
+        assertEquals(replacement, copy.childByArg(NodeIdentifierWithPredicates.of(LIST, ID, 3)));
+        assertEquals(entry(4), copy.childByArg(NodeIdentifierWithPredicates.of(LIST, ID, 4)));
+
+        // The original is not affected
+        assertEquals(expected, original);
+        assertNull(original.childByArg(NodeIdentifierWithPredicates.of(LIST, ID, 10)));
+
+        // Removal materializes entries
+        final var removed = assertInstanceOf(ImmutableSystemMapNode.class,
+            ImmutableSystemMapNodeBuilder.create(original)
+                .withoutChild(NodeIdentifierWithPredicates.of(LIST, ID, 3))
+                .build());
+        assertEquals(9, removed.size());
+        assertEquals(expected, original);
+    }
+
+    private static MapEntryNode entry(final int id) {
+        return ImmutableNodes.newMapEntryBuilder()
+            .withNodeIdentifier(NodeIdentifierWithPredicates.of(LIST, ID, id))
+            .withChild(ImmutableNodes.leafNode(ID, id))
+            .withChild(ImmutableNodes.leafNode(NAME, "name" + id))
+            .withChild(ImmutableNodes.leafNode(COUNT, Uint32.valueOf(id * 1000L)))
+            .build();
+    }
+
+    private static MapEntryNode keyOnlyEntry(final int id) {
+        return ImmutableNodes.newMapEntryBuilder()
+            .withNodeIdentifier(NodeIdentifierWithPredicates.of(LIST, ID, id))
+            .withChild(ImmutableNodes.leafNode(ID, id))
+            .build();
+    }
+}
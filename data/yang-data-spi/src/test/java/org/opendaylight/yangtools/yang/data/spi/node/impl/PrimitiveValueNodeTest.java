@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.spi.node.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.yangtools.yang.common.Decimal64;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.Uint16;
+import org.opendaylight.yangtools.yang.common.Uint32;
+import org.opendaylight.yangtools.yang.common.Uint64;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeWithValue;
+import org.opendaylight.yangtools.yang.data.api.schema.LeafSetEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.SystemLeafSetNode;
+
+class PrimitiveValueNodeTest {
+    private static final QName FOO = QName.create("foo", "foo");
+    private static final NodeIdentifier FOO_ID = new NodeIdentifier(FOO);
+
+    @Test
+    void primitiveLeafRoundTrips() {
+        for (var value : List.of((short) -5, 42_000_000, Long.MIN_VALUE, Uint16.MAX_VALUE,
+                Uint32.valueOf(4_000_000_000L), Uint64.MAX_VALUE, Decimal64.of(3, -12345))) {
+            final var leaf = ImmutableLeafNode.of(FOO_ID, value);
+            assertEquals(value, leaf.body());
+            assertEquals(ImmutableLeafNode.of(FOO_ID, value), leaf);
+            assertEquals(ImmutableLeafNode.of(FOO_ID, value).hashCode(), leaf.hashCode());
+            assertEquals("ImmutableLeafNode{name=(foo)foo, body=" + value + "}", leaf.toString());
+        }
+    }
+
+    @Test
+    void primitiveLeafSetMatchesRegular() {
+        final var builder = new ImmutableSystemLeafSetNodeBuilder<Uint32>().withNodeIdentifier(FOO_ID);
+        final var children = new HashMap<NodeWithValue<?>, LeafSetEntryNode<Uint32>>();
+        for (int i = 0; i < ImmutablePrimitiveLeafSetNode.MIN_SIZE; ++i) {
+            final var value = Uint32.valueOf(4_000_000_000L - i * 100_000_000L);
+            builder.withChildValue(value);
+            final var entry = ImmutableLeafSetEntryNode.of(new NodeWithValue<>(FOO, value));
+            children.put(entry.name(), entry);
+        }
+
+        final var primitive = assertInstanceOf(ImmutablePrimitiveLeafSetNode.class, builder.build());
+        final var regular = new ImmutableSystemLeafSetNode<>(FOO_ID, children);
+        assertEquals(ImmutablePrimitiveLeafSetNode.MIN_SIZE, primitive.size());
+        assertEquals(regular, primitive);
+        assertEquals(primitive, regular);
+        assertEquals(regular.hashCode(), primitive.hashCode());
+
+        for (var key : children.keySet()) {
+            assertEquals(children.get(key), primitive.childByArg(key));
+        }
+        assertNull(primitive.childByArg(new NodeWithValue<>(FOO, Uint32.TWO)));
+        assertNull(primitive.childByArg(new NodeWithValue<>(FOO, 3)));
+        assertNull(primitive.childByArg(new NodeWithValue<>(QName.create(FOO, "bar"), Uint32.ONE)));
+    }
+
+    @Test
+    void smallLeafSetIsNotPrimitive() {
+        final var leafSet = new ImmutableSystemLeafSetNodeBuilder<Long>()
+            .withNodeIdentifier(FOO_ID)
+            .withChildValue(1L)
+            .withChildValue(2L)
+            .build();
+        assertInstanceOf(ImmutableSystemLeafSetNode.class, leafSet);
+    }
+
+    @Test
+    void primitiveLeafSetRebuild() {
+        final var leafSet = longLeafSet(0, ImmutablePrimitiveLeafSetNode.MIN_SIZE + 1);
+        assertInstanceOf(ImmutablePrimitiveLeafSetNode.class, leafSet);
+
+        // Retained entries keep their order, added entries follow
+        final var removedKey = new NodeWithValue<>(FOO, 5L);
+        final var expectedOrder = new ArrayList<>(leafSet.body());
+        expectedOrder.remove(leafSet.childByArg(removedKey));
+        expectedOrder.add(ImmutableLeafSetEntryNode.of(new NodeWithValue<>(FOO, -1L)));
+
+        final var rebuilt = ImmutableSystemLeafSetNodeBuilder.create(leafSet)
+            .withoutChild(removedKey)
+            .withChildValue(-1L)
+            // Re-adding an existing value is a no-op
+            .withChildValue(7L)
+            .build();
+        assertInstanceOf(ImmutablePrimitiveLeafSetNode.class, rebuilt);
+        assertEquals(expectedOrder, List.copyOf(rebuilt.body()));
+        final var expected = longLeafSet(-1, ImmutablePrimitiveLeafSetNode.MIN_SIZE + 2);
+        assertEquals(ImmutableSystemLeafSetNodeBuilder.create(expected).withoutChild(removedKey).build(), rebuilt);
+        assertNull(rebuilt.childByArg(removedKey));
+        assertEquals(-1L, rebuilt.childByArg(new NodeWithValue<>(FOO, -1L)).body());
+
+        // No modifications result in the same node
+        assertSame(leafSet, ImmutableSystemLeafSetNodeBuilder.create(leafSet).build());
+
+        // Dropping below the threshold results in a regular node
+        final var shrunk = ImmutableSystemLeafSetNodeBuilder.create(leafSet)
+            .withoutChild(new NodeWithValue<>(FOO, 0L))
+            .withoutChild(new NodeWithValue<>(FOO, 1L))
+            .build();
+        assertInstanceOf(ImmutableSystemLeafSetNode.class, shrunk);
+        assertEquals(longLeafSet(2, ImmutablePrimitiveLeafSetNode.MIN_SIZE - 1), shrunk);
+    }
+
+    @Test
+    void mixedLeafSetIsNotPrimitive() {
+        final var builder = new ImmutableSystemLeafSetNodeBuilder<Object>().withNodeIdentifier(FOO_ID);
+        for (long i = 0; i < ImmutablePrimitiveLeafSetNode.MIN_SIZE; ++i) {
+            builder.withChildValue(i);
+        }
+        assertInstanceOf(ImmutableSystemLeafSetNode.class, builder.withChildValue("two").build());
+    }
+
+    private static SystemLeafSetNode<Long> longLeafSet(final long first, final int count) {
+        final var builder = new ImmutableSystemLeafSetNodeBuilder<Long>().withNodeIdentifier(FOO_ID);
+        for (long i = first; i < first + count; ++i) {
+            builder.withChildValue(i);
+        }
+        return builder.build();
+    }
+}
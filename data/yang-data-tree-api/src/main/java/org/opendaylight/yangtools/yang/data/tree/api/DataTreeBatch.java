@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.api;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.Beta;
+import com.google.common.collect.ImmutableMap;
+import java.util.Map;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Result of {@link DataTreeTip#prepareBatch(java.util.List)}. It holds a single {@link DataTreeCandidateTip}, which
+ * captures the combined effect of all modifications in the batch which passed validation, and a map of modifications
+ * which have been rejected, along with the reason for their rejection.
+ *
+ * @param candidate combined candidate of all accepted modifications
+ * @param failures rejected modifications, in batch order
+ */
+@Beta
+@NonNullByDefault
+public record DataTreeBatch(
+        DataTreeCandidateTip candidate,
+        Map<DataTreeModification, DataValidationFailedException> failures) {
+    public DataTreeBatch {
+        requireNonNull(candidate);
+        failures = ImmutableMap.copyOf(failures);
+    }
+
+    /**
+     * Check whether all modifications in the batch have been accepted.
+     *
+     * @return {@code true} if no modification has been rejected
+     */
+    public boolean isComplete() {
+        return failures.isEmpty();
+    }
+}
@@ -26,6 +26,9 @@ import org.opendaylight.yangtools.yang.data.api.schema.DataContainerNode;
  * <li>treeType</li>
  * <li>enable/disable unique indexes and unique constraint validation</li>
  * <li>enable/disable mandatory nodes validation</li>
+ * <li>off-heap storage budget, if supported by the implementation</li>
+ * <li>parallel processing of large modifications</li>
+ * <li>enable/disable {@code must} and {@code when} constraint validation</li>
  * </ul>
  *
  * <p>TreeConfig can be easily extended in order to support further data tree configuration options, like following:
@@ -72,16 +75,23 @@ public final class DataTreeConfiguration implements Immutable {
     private final boolean mandatoryNodesValidation;
     private final boolean trackVersionInfo;
     private final boolean recursiveWriteValidation;
+    private final long offHeapBudget;
+    private final int parallelThreshold;
+    private final boolean xpathConstraintValidation;
 
     DataTreeConfiguration(final TreeType treeType, final YangInstanceIdentifier rootPath, final boolean uniqueIndexes,
             final boolean mandatoryNodesValidation, final boolean trackVersionInfo,
-            final boolean recursiveWriteValidation) {
+            final boolean recursiveWriteValidation, final long offHeapBudget, final int parallelThreshold,
+            final boolean xpathConstraintValidation) {
         this.treeType = requireNonNull(treeType);
         this.rootPath = requireNonNull(rootPath);
         this.uniqueIndexes = uniqueIndexes;
         this.mandatoryNodesValidation = mandatoryNodesValidation;
         this.trackVersionInfo = trackVersionInfo;
         this.recursiveWriteValidation = recursiveWriteValidation;
+        this.offHeapBudget = offHeapBudget;
+        this.parallelThreshold = parallelThreshold;
+        this.xpathConstraintValidation = xpathConstraintValidation;
     }
 
     /**
@@ -123,7 +133,10 @@ public final class DataTreeConfiguration implements Immutable {
             .setRecursiveWriteValidation(isRecursiveWriteValidationEnabled())
             .setRootPath(getRootPath())
             .setUniqueIndexes(isUniqueIndexEnabled())
-            .setTrackVersionInfo(isVersionInfoTrackingEnabled());
+            .setTrackVersionInfo(isVersionInfoTrackingEnabled())
+            .setOffHeapBudget(getOffHeapBudget())
+            .setParallelThreshold(getParallelThreshold())
+            .setXPathConstraintValidation(isXPathConstraintValidationEnabled());
     }
 
     /**
@@ -156,8 +169,9 @@ public final class DataTreeConfiguration implements Immutable {
     }
 
     /**
-     * Returns {@code true} if {@code unique} constraints should be enforced. Reference implementation is known to not
-     * scale well with this option enabled.
+     * Returns {@code true} if {@code unique} constraints should be enforced. Reference implementation maintains an
+     * index of each constrained {@code list}, so that the cost of enforcement is proportional to the number of entries
+     * being modified, except when a list is written as a whole.
      *
      * @return {@code true} if {@code unique} constraints should be enforced
      */
@@ -186,10 +200,43 @@ public final class DataTreeConfiguration implements Immutable {
         return recursiveWriteValidation;
     }
 
+    /**
+     * Returns the maximum number of bytes the data tree may keep in off-heap storage. Implementations which support it
+     * may move subtrees which have not been modified recently off the Java heap, up to this limit. {@code 0} indicates
+     * off-heap storage should not be used.
+     *
+     * @return the off-heap storage budget, in bytes
+     */
+    public long getOffHeapBudget() {
+        return offHeapBudget;
+    }
+
+    /**
+     * Returns the minimum number of children a node has to have for them to be validated and applied in parallel,
+     * using the common {@link java.util.concurrent.ForkJoinPool}. {@code 0} indicates all processing should be done
+     * in the calling thread. Validation failures are reported in the same way regardless of this setting.
+     *
+     * @return the number of children, or {@code 0}
+     */
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    /**
+     * Returns {@code true} if {@code must} and {@code when} constraints should be enforced. Reference implementation
+     * compiles the constraints once for each {@link org.opendaylight.yangtools.yang.model.api.EffectiveModelContext}
+     * and re-evaluates only those constraints which refer to data touched by a modification.
+     *
+     * @return {@code true} if {@code must} and {@code when} constraints should be enforced
+     */
+    public boolean isXPathConstraintValidationEnabled() {
+        return xpathConstraintValidation;
+    }
+
     @Override
     public int hashCode() {
         return Objects.hash(treeType, rootPath, uniqueIndexes, mandatoryNodesValidation, trackVersionInfo,
-            recursiveWriteValidation);
+            recursiveWriteValidation, offHeapBudget, parallelThreshold, xpathConstraintValidation);
     }
 
     @Override
@@ -197,7 +244,9 @@ public final class DataTreeConfiguration implements Immutable {
         return this == obj || obj instanceof DataTreeConfiguration other
             && treeType == other.treeType && rootPath.equals(other.rootPath) && uniqueIndexes == other.uniqueIndexes
             && mandatoryNodesValidation == other.mandatoryNodesValidation && trackVersionInfo == other.trackVersionInfo
-            && recursiveWriteValidation == other.recursiveWriteValidation;
+            && recursiveWriteValidation == other.recursiveWriteValidation && offHeapBudget == other.offHeapBudget
+            && parallelThreshold == other.parallelThreshold
+            && xpathConstraintValidation == other.xpathConstraintValidation;
     }
 
 
@@ -210,6 +259,9 @@ public final class DataTreeConfiguration implements Immutable {
             .add("unique", uniqueIndexes)
             .add("info", trackVersionInfo)
             .add("recursive", recursiveWriteValidation)
+            .add("offHeap", offHeapBudget)
+            .add("parallel", parallelThreshold)
+            .add("xpath", xpathConstraintValidation)
             .toString();
     }
 
@@ -221,6 +273,9 @@ public final class DataTreeConfiguration implements Immutable {
         private boolean mandatoryNodesValidation;
         private boolean trackVersionInfo;
         private boolean recursiveWriteValidation;
+        private long offHeapBudget;
+        private int parallelThreshold;
+        private boolean xpathConstraintValidation;
 
         @Deprecated(since = "14.0.14", forRemoval = true)
         public Builder(final TreeType treeType) {
@@ -253,6 +308,48 @@ public final class DataTreeConfiguration implements Immutable {
             return this;
         }
 
+        /**
+         * Set the off-heap storage budget, see {@link DataTreeConfiguration#getOffHeapBudget()}.
+         *
+         * @param offHeapBudget maximum number of bytes, {@code 0} to disable off-heap storage
+         * @return this builder
+         * @throws IllegalArgumentException if {@code offHeapBudget} is negative
+         */
+        public @NonNull Builder setOffHeapBudget(final long offHeapBudget) {
+            if (offHeapBudget < 0) {
+                throw new IllegalArgumentException("Negative off-heap budget " + offHeapBudget);
+            }
+            this.offHeapBudget = offHeapBudget;
+            return this;
+        }
+
+        /**
+         * Set the parallel processing threshold, see {@link DataTreeConfiguration#getParallelThreshold()}.
+         *
+         * @param parallelThreshold minimum number of children, {@code 0} to disable parallel processing
+         * @return this builder
+         * @throws IllegalArgumentException if {@code parallelThreshold} is negative
+         */
+        public @NonNull Builder setParallelThreshold(final int parallelThreshold) {
+            if (parallelThreshold < 0) {
+                throw new IllegalArgumentException("Negative parallel threshold " + parallelThreshold);
+            }
+            this.parallelThreshold = parallelThreshold;
+            return this;
+        }
+
+        /**
+         * Enable or disable enforcement of {@code must} and {@code when} constraints, see
+         * {@link DataTreeConfiguration#isXPathConstraintValidationEnabled()}.
+         *
+         * @param xpathConstraintValidation {@code true} to enforce the constraints
+         * @return this builder
+         */
+        public @NonNull Builder setXPathConstraintValidation(final boolean xpathConstraintValidation) {
+            this.xpathConstraintValidation = xpathConstraintValidation;
+            return this;
+        }
+
         /**
          * Return {@link DataTreeConfiguration} as defined by this builder's current state.
          *
@@ -260,7 +357,8 @@ public final class DataTreeConfiguration implements Immutable {
          */
         public @NonNull DataTreeConfiguration build() {
             return new DataTreeConfiguration(treeType, rootPath, uniqueIndexes, mandatoryNodesValidation,
-                trackVersionInfo, recursiveWriteValidation);
+                trackVersionInfo, recursiveWriteValidation, offHeapBudget, parallelThreshold,
+                xpathConstraintValidation);
         }
     }
 }
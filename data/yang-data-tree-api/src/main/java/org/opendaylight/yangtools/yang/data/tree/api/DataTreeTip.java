@@ -8,6 +8,7 @@
 package org.opendaylight.yangtools.yang.data.tree.api;
 
 import com.google.common.annotations.Beta;
+import java.util.List;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 
@@ -39,6 +40,25 @@ public interface DataTreeTip {
      */
     DataTreeCandidateTip prepare(DataTreeModification modification) throws DataValidationFailedException;
 
+    /**
+     * Validate and prepare a sequence of modifications as a single unit. Each modification is validated against the
+     * result of the modifications accepted before it, as if it was prepared on top of their
+     * {@link DataTreeCandidateTip}. Modifications which fail validation are skipped and reported in
+     * {@link DataTreeBatch#failures()}, without affecting the rest of the batch.
+     *
+     * <p>The returned {@link DataTreeBatch#candidate()} describes the combined effect of all accepted modifications
+     * and can be committed in one step, which is considerably cheaper than committing each modification separately.
+     * Implementations may validate and apply modifications which affect disjoint parts of the tree together, in which
+     * case constraints spanning several modifications, such as {@code max-elements}, are enforced on their combined
+     * result.
+     *
+     * @param modifications Data tree modifications, in the order in which they should be applied
+     * @return A {@link DataTreeBatch}
+     * @throws NullPointerException if modifications is null or contains a null element
+     * @throws IllegalArgumentException if any of the modifications is unrecognized
+     */
+    DataTreeBatch prepareBatch(List<? extends DataTreeModification> modifications);
+
     /**
      * {@inheritDoc}
      *
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.api;
+
+import com.google.common.annotations.Beta;
+import java.util.List;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.yang.common.ErrorSeverity;
+import org.opendaylight.yangtools.yang.common.ErrorTag;
+import org.opendaylight.yangtools.yang.common.ErrorType;
+import org.opendaylight.yangtools.yang.data.api.ImmutableYangNetconfError;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangNetconfError;
+import org.opendaylight.yangtools.yang.data.api.YangNetconfErrorAware;
+
+/**
+ * Exception thrown when a {@code must} or a {@code when} statement is not satisfied by the data. The error reported
+ * follows <a href="https://www.rfc-editor.org/rfc/rfc7950#section-15.4">RFC7950 section 15.4</a>, using the
+ * {@code error-message} and {@code error-app-tag} of the violated {@code must} statement, if available.
+ */
+@Beta
+@NonNullByDefault
+public class XPathConstraintException extends DataValidationFailedException implements YangNetconfErrorAware {
+    private static final long serialVersionUID = 1L;
+
+    private final @Nullable String errorMessage;
+    private final @Nullable String appTag;
+
+    public XPathConstraintException(final YangInstanceIdentifier path, final String message,
+            final @Nullable String errorMessage, final @Nullable String appTag) {
+        super(path, message);
+        this.errorMessage = errorMessage;
+        this.appTag = appTag;
+    }
+
+    @Override
+    public List<YangNetconfError> getNetconfErrors() {
+        return List.of(ImmutableYangNetconfError.builder()
+            .severity(ErrorSeverity.ERROR)
+            .type(ErrorType.APPLICATION)
+            .tag(ErrorTag.OPERATION_FAILED)
+            .appTag(appTag)
+            .message(errorMessage)
+            .path(getPath())
+            .build());
+    }
+}
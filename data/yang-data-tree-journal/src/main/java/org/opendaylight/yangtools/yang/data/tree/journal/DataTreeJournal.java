@@ -0,0 +1,460 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.journal;
+
+import static com.google.common.base.Preconditions.checkState;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.Beta;
+import com.google.common.base.MoreObjects;
+import com.google.common.io.ByteStreams;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32C;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.codec.binfmt.DataTreeCandidateInputOutput;
+import org.opendaylight.yangtools.yang.data.codec.binfmt.NormalizedNodeDataInput;
+import org.opendaylight.yangtools.yang.data.codec.binfmt.NormalizedNodeStreamVersion;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTree;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidate;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeModification;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeSnapshot;
+import org.opendaylight.yangtools.yang.data.tree.api.DataValidationFailedException;
+import org.opendaylight.yangtools.yang.data.tree.spi.DataTreeCandidates;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A journal attached to a {@link DataTree}. Each {@link DataTreeModification} committed through
+ * {@link #commit(DataTreeModification)} is validated and prepared by the tree, the resulting {@link DataTreeCandidate}
+ * is serialized using the current {@link NormalizedNodeStreamVersion} and appended to a memory-mapped journal segment,
+ * and only then committed to the tree. A modification which the tree rejects therefore never makes it to the journal.
+ *
+ * <p>Synchronization of appended entries to storage is batched according to
+ * {@link JournalConfiguration#getSyncBatchSize()}. Every {@link JournalConfiguration#getSnapshotInterval()} entries the
+ * journal takes a {@link DataTreeSnapshot} of the tree. A full snapshot of its state is then written in the background
+ * and all segments and snapshots made obsolete by it are removed.
+ *
+ * <p>{@link #open(JournalConfiguration, DataTree)} restores the tree state from the most recent valid snapshot and
+ * the journal entries following it, stopping at the first incomplete or corrupted entry.
+ *
+ * <p>This class is thread-safe, but users need to ensure that each candidate is committed in the order in which it
+ * has been prepared, just as they would when interacting with the {@link DataTree} directly.
+ */
+@Beta
+public final class DataTreeJournal implements AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(DataTreeJournal.class);
+    private static final Pattern SEGMENT_NAME = Pattern.compile("segment-(\\d{20})\\.log");
+    private static final Pattern SNAPSHOT_NAME = Pattern.compile("snapshot-(\\d{20})\\.bin");
+    private static final int SNAPSHOT_MAGIC = 0x59534E50;
+    private static final byte SNAPSHOT_VERSION = 1;
+    private static final int SNAPSHOT_HEADER_SIZE = Integer.BYTES + Byte.BYTES + Integer.BYTES + Long.BYTES;
+
+    private final @NonNull JournalConfiguration configuration;
+    private final @NonNull DataTree tree;
+    private final @NonNull ListeningExecutorService executor;
+
+    private JournalSegment segment;
+    private long lastSequence;
+    private long unsyncedEntries;
+    private long entriesSinceSnapshot;
+
+    private DataTreeJournal(final JournalConfiguration configuration, final DataTree tree,
+            final JournalSegment segment, final long lastSequence, final long entriesSinceSnapshot) {
+        this.configuration = requireNonNull(configuration);
+        this.tree = requireNonNull(tree);
+        this.segment = requireNonNull(segment);
+        executor = MoreExecutors.listeningDecorator(Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+            .setDaemon(true)
+            .setNameFormat("journal-snapshot-" + configuration.getDirectory().getFileName() + "-%d")
+            .build()));
+        this.lastSequence = lastSequence;
+        this.entriesSinceSnapshot = entriesSinceSnapshot;
+    }
+
+    /**
+     * Open a journal, restoring its contents into specified {@link DataTree}. The tree is expected to be empty.
+     *
+     * @param configuration journal configuration
+     * @param tree the tree to restore and subsequently journal
+     * @return an open journal
+     * @throws IOException if an I/O error occurs or the journal cannot be restored
+     */
+    public static @NonNull DataTreeJournal open(final JournalConfiguration configuration, final DataTree tree)
+            throws IOException {
+        final var dir = configuration.getDirectory();
+        Files.createDirectories(dir);
+
+        // Restore the latest valid snapshot, if any
+        long snapshotSequence = 0;
+        for (var snapshot : listFiles(dir, SNAPSHOT_NAME).reversed()) {
+            final var data = readSnapshot(snapshot);
+            if (data != null) {
+                final var mod = tree.takeSnapshot().newModification();
+                mod.write(YangInstanceIdentifier.of(), data);
+                commitModification(tree, mod);
+                snapshotSequence = sequenceOf(snapshot);
+                LOG.debug("Restored snapshot {}", snapshot);
+                break;
+            }
+            LOG.warn("Ignoring invalid snapshot {}", snapshot);
+        }
+
+        // Replay segments on top of it
+        final var replayer = new Replayer(tree, snapshotSequence);
+        JournalSegment last = null;
+        for (var file : listFiles(dir, SEGMENT_NAME)) {
+            if (last != null) {
+                last.close();
+                if (sequenceOf(file) != last.lastSequence() + 1) {
+                    LOG.warn("Discarding segment {} following incomplete segment {}", file, last);
+                    Files.delete(file);
+                    continue;
+                }
+            }
+            last = JournalSegment.open(file, replayer);
+        }
+
+        final long lastSequence = replayer.lastSequence;
+        if (last != null && last.lastSequence() < snapshotSequence) {
+            // The snapshot has been written, but the segments it covers have not been fully synchronized: they are
+            // obsolete, though
+            LOG.info("Discarding segments up to {} superseded by snapshot {}", last, snapshotSequence);
+            last.close();
+            last = null;
+            for (var file : listFiles(dir, SEGMENT_NAME)) {
+                Files.delete(file);
+            }
+        }
+        if (last == null) {
+            last = JournalSegment.create(segmentPath(dir, lastSequence + 1), lastSequence + 1,
+                configuration.getSegmentSize());
+        }
+
+        LOG.info("Journal in {} restored up to entry {}", dir, lastSequence);
+        return new DataTreeJournal(configuration, tree, last, lastSequence, lastSequence - snapshotSequence);
+    }
+
+    /**
+     * Replays journal entries which are not covered by the restored snapshot.
+     */
+    private static final class Replayer implements JournalSegment.EntryConsumer {
+        private final DataTree tree;
+
+        long lastSequence;
+
+        Replayer(final DataTree tree, final long snapshotSequence) {
+            this.tree = requireNonNull(tree);
+            lastSequence = snapshotSequence;
+        }
+
+        @Override
+        public void accept(final long sequence, final byte[] payload) throws IOException {
+            if (sequence <= lastSequence) {
+                // Already covered by snapshot
+                return;
+            }
+            if (sequence != lastSequence + 1) {
+                throw new IOException("Journal is missing entries " + (lastSequence + 1) + " to " + (sequence - 1));
+            }
+
+            final var candidate = DataTreeCandidateInputOutput.readDataTreeCandidate(
+                NormalizedNodeDataInput.newDataInput(ByteStreams.newDataInput(payload)));
+            final var mod = tree.takeSnapshot().newModification();
+            DataTreeCandidates.applyToModification(mod, candidate);
+            try {
+                commitModification(tree, mod);
+            } catch (IOException e) {
+                throw new IOException("Failed to replay journal entry " + sequence, e);
+            }
+            lastSequence = sequence;
+        }
+    }
+
+    /**
+     * Return the {@link DataTree} attached to this journal.
+     *
+     * @return the {@link DataTree}
+     */
+    public @NonNull DataTree tree() {
+        return tree;
+    }
+
+    /**
+     * Return the sequence number of the last entry appended to this journal.
+     *
+     * @return last sequence number, {@code 0} if no entries have ever been appended
+     */
+    public synchronized long lastSequence() {
+        return lastSequence;
+    }
+
+    /**
+     * Commit a {@link DataTreeModification} to the {@link DataTree}. The modification is validated and prepared by the
+     * tree, the resulting {@link DataTreeCandidate} is appended to the journal and then committed to the tree. If the
+     * validation fails, neither the journal nor the tree is modified.
+     *
+     * <p>If the append fails, the candidate is not committed to the tree. The modification has to be sealed and must
+     * have been created from a snapshot of {@link #tree()}.
+     *
+     * @param modification modification to commit
+     * @return the committed {@link DataTreeCandidate}
+     * @throws DataValidationFailedException if the modification fails validation
+     * @throws IOException if an I/O error occurs
+     */
+    public synchronized @NonNull DataTreeCandidate commit(final DataTreeModification modification)
+            throws DataValidationFailedException, IOException {
+        final var current = ensureOpen();
+        tree.validate(modification);
+        final var candidate = tree.prepare(modification);
+        append(current, serialize(candidate));
+        tree.commit(candidate);
+
+        final var interval = configuration.getSnapshotInterval();
+        if (interval != 0 && ++entriesSinceSnapshot >= interval) {
+            final var future = snapshot();
+            Futures.addCallback(future, new FutureCallback<Path>() {
+                @Override
+                public void onSuccess(final Path result) {
+                    LOG.debug("Journal compacted to snapshot {}", result);
+                }
+
+                @Override
+                public void onFailure(final Throwable cause) {
+                    LOG.warn("Failed to compact journal in {}", configuration.getDirectory(), cause);
+                }
+            }, MoreExecutors.directExecutor());
+        }
+        return candidate;
+    }
+
+    /**
+     * Force all appended entries to storage.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    public synchronized void sync() throws IOException {
+        ensureOpen().force();
+        unsyncedEntries = 0;
+    }
+
+    /**
+     * Take a {@link DataTreeSnapshot} of current {@link DataTree} state and compact the journal. The snapshot is
+     * written in the background, after which all segments and snapshots covered by it are deleted. Entries can be
+     * committed while that happens.
+     *
+     * @return a future completing with the path of the written snapshot
+     * @throws IOException if an I/O error occurs
+     */
+    public synchronized @NonNull ListenableFuture<Path> snapshot() throws IOException {
+        final var current = ensureOpen();
+        final var sequence = lastSequence;
+        final var snapshot = tree.takeSnapshot();
+
+        // Roll over to a fresh segment, so that every existing segment is covered by the snapshot
+        rollOver(current, sequence + 1, configuration.getSegmentSize());
+        entriesSinceSnapshot = 0;
+
+        return executor.submit(() -> compact(configuration.getDirectory(), snapshot, sequence));
+    }
+
+    /**
+     * Close this journal. Waits for any snapshots in progress to complete.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (segment != null) {
+            try {
+                segment.close();
+            } finally {
+                segment = null;
+                executor.close();
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("configuration", configuration).toString();
+    }
+
+    private void append(final JournalSegment current, final byte[] payload) throws IOException {
+        final long sequence = lastSequence + 1;
+
+        if (!current.append(sequence, payload)) {
+            final var next = rollOver(current, sequence,
+                Math.max(configuration.getSegmentSize(), JournalSegment.requiredSize(payload.length)));
+            checkState(next.append(sequence, payload), "Failed to append entry to new segment %s", next);
+        }
+        lastSequence = sequence;
+
+        final var batch = configuration.getSyncBatchSize();
+        if (batch != 0 && ++unsyncedEntries >= batch) {
+            segment.force();
+            unsyncedEntries = 0;
+        }
+    }
+
+    private @NonNull JournalSegment rollOver(final JournalSegment current, final long firstSequence,
+            final int size) throws IOException {
+        // Make sure the current segment is durable before switching to a new one
+        segment = null;
+        current.close();
+        if (current.isEmpty() && current.firstSequence() == firstSequence) {
+            // Not a single entry would be lost, just replace the segment
+            Files.delete(current.path());
+        }
+
+        final var next = JournalSegment.create(segmentPath(configuration.getDirectory(), firstSequence),
+            firstSequence, size);
+        segment = next;
+        unsyncedEntries = 0;
+        return next;
+    }
+
+    private @NonNull JournalSegment ensureOpen() {
+        final var current = segment;
+        checkState(current != null, "Journal %s has been closed", this);
+        return current;
+    }
+
+    private static byte[] serialize(final DataTreeCandidate candidate) throws IOException {
+        final var bytes = ByteStreams.newDataOutput();
+        try (var out = NormalizedNodeStreamVersion.current().newDataOutput(bytes)) {
+            DataTreeCandidateInputOutput.writeDataTreeCandidate(out, candidate);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static @NonNull Path compact(final Path dir, final DataTreeSnapshot snapshot, final long sequence)
+            throws IOException {
+        final var path = snapshotPath(dir, sequence);
+        writeSnapshot(path, snapshot.readNode(YangInstanceIdentifier.of()).orElseThrow());
+
+        for (var file : listFiles(dir, SEGMENT_NAME)) {
+            if (sequenceOf(file) <= sequence) {
+                Files.delete(file);
+            }
+        }
+        for (var file : listFiles(dir, SNAPSHOT_NAME)) {
+            if (sequenceOf(file) < sequence) {
+                Files.delete(file);
+            }
+        }
+        return path;
+    }
+
+    private static void commitModification(final DataTree tree, final DataTreeModification mod)
+            throws IOException {
+        mod.ready();
+        try {
+            tree.validate(mod);
+            tree.commit(tree.prepare(mod));
+        } catch (DataValidationFailedException e) {
+            throw new IOException("Failed to apply modification", e);
+        }
+    }
+
+    private static void writeSnapshot(final Path path, final NormalizedNode data) throws IOException {
+        final var bytes = ByteStreams.newDataOutput();
+        try (var out = NormalizedNodeStreamVersion.current().newDataOutput(bytes)) {
+            out.writeNormalizedNode(data);
+        }
+        final var payload = bytes.toByteArray();
+        final var crc = new CRC32C();
+        crc.update(payload);
+
+        final var buf = ByteBuffer.allocate(SNAPSHOT_HEADER_SIZE + payload.length)
+            .putInt(SNAPSHOT_MAGIC)
+            .put(SNAPSHOT_VERSION)
+            .putInt(payload.length)
+            .putLong(crc.getValue())
+            .put(payload);
+
+        final var tmp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (var channel = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE)) {
+            buf.flip();
+            while (buf.hasRemaining()) {
+                channel.write(buf);
+            }
+            channel.force(true);
+        }
+        Files.move(tmp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static @Nullable NormalizedNode readSnapshot(final Path path) throws IOException {
+        final var buf = ByteBuffer.wrap(Files.readAllBytes(path));
+        if (buf.remaining() < SNAPSHOT_HEADER_SIZE || buf.getInt() != SNAPSHOT_MAGIC
+            || buf.get() != SNAPSHOT_VERSION) {
+            return null;
+        }
+        final int length = buf.getInt();
+        final long checksum = buf.getLong();
+        if (length != buf.remaining()) {
+            return null;
+        }
+
+        final var crc = new CRC32C();
+        crc.update(buf.duplicate());
+        if (crc.getValue() != checksum) {
+            return null;
+        }
+
+        final var payload = new byte[length];
+        buf.get(payload);
+        return NormalizedNodeDataInput.newDataInput(ByteStreams.newDataInput(payload)).readNormalizedNode();
+    }
+
+    private static List<Path> listFiles(final Path dir, final Pattern pattern) throws IOException {
+        final var ret = new ArrayList<Path>();
+        try (var stream = Files.newDirectoryStream(dir)) {
+            for (var file : stream) {
+                if (pattern.matcher(file.getFileName().toString()).matches()) {
+                    ret.add(file);
+                }
+            }
+        }
+        ret.sort(Comparator.comparing(file -> file.getFileName().toString()));
+        return ret;
+    }
+
+    private static long sequenceOf(final Path file) {
+        final var name = file.getFileName().toString();
+        return Long.parseLong(name.substring(name.indexOf('-') + 1, name.indexOf('.')));
+    }
+
+    private static Path segmentPath(final Path dir, final long firstSequence) {
+        return dir.resolve("segment-%020d.log".formatted(firstSequence));
+    }
+
+    private static Path snapshotPath(final Path dir, final long lastSequence) {
+        return dir.resolve("snapshot-%020d.bin".formatted(lastSequence));
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.journal;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.base.MoreObjects;
+import java.nio.file.Path;
+import org.eclipse.jdt.annotation.NonNull;
+
+/**
+ * Configuration of a {@link DataTreeJournal}. Instances are created through a {@link Builder}, obtained via
+ * {@link #builder(Path)}.
+ */
+public final class JournalConfiguration {
+    /**
+     * Default maximum size of a single journal segment, 64MiB.
+     */
+    public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+    /**
+     * Default number of entries appended between two forced synchronizations to storage.
+     */
+    public static final int DEFAULT_SYNC_BATCH_SIZE = 1;
+    /**
+     * Default number of entries appended between two snapshots.
+     */
+    public static final long DEFAULT_SNAPSHOT_INTERVAL = 100_000;
+
+    private final @NonNull Path directory;
+    private final int segmentSize;
+    private final int syncBatchSize;
+    private final long snapshotInterval;
+
+    JournalConfiguration(final Path directory, final int segmentSize, final int syncBatchSize,
+            final long snapshotInterval) {
+        this.directory = requireNonNull(directory);
+        this.segmentSize = segmentSize;
+        this.syncBatchSize = syncBatchSize;
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    /**
+     * Returns a new {@link Builder} storing the journal in specified directory.
+     *
+     * @param directory the directory holding journal segments and snapshots
+     * @return a new {@link Builder}
+     */
+    public static @NonNull Builder builder(final Path directory) {
+        return new Builder(directory);
+    }
+
+    /**
+     * Returns the directory holding journal segments and snapshots.
+     *
+     * @return the directory
+     */
+    public @NonNull Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Returns the maximum size of a single journal segment, in bytes. Entries larger than this size are stored in a
+     * dedicated segment.
+     *
+     * @return maximum segment size
+     */
+    public int getSegmentSize() {
+        return segmentSize;
+    }
+
+    /**
+     * Returns the number of entries appended between two forced synchronizations to storage. A value of {@code 0}
+     * indicates synchronization happens only on explicit {@link DataTreeJournal#sync()}, on segment roll-over and on
+     * {@link DataTreeJournal#close()}.
+     *
+     * @return number of entries in a synchronization batch
+     */
+    public int getSyncBatchSize() {
+        return syncBatchSize;
+    }
+
+    /**
+     * Returns the number of entries appended between two snapshots. A value of {@code 0} indicates snapshots are taken
+     * only on explicit {@link DataTreeJournal#snapshot()}.
+     *
+     * @return number of entries between snapshots
+     */
+    public long getSnapshotInterval() {
+        return snapshotInterval;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+            .add("directory", directory)
+            .add("segmentSize", segmentSize)
+            .add("syncBatchSize", syncBatchSize)
+            .add("snapshotInterval", snapshotInterval)
+            .toString();
+    }
+
+    /**
+     * Builder for {@link JournalConfiguration}.
+     */
+    public static final class Builder {
+        private final @NonNull Path directory;
+
+        private int segmentSize = DEFAULT_SEGMENT_SIZE;
+        private int syncBatchSize = DEFAULT_SYNC_BATCH_SIZE;
+        private long snapshotInterval = DEFAULT_SNAPSHOT_INTERVAL;
+
+        Builder(final Path directory) {
+            this.directory = requireNonNull(directory);
+        }
+
+        public @NonNull Builder setSegmentSize(final int segmentSize) {
+            checkArgument(segmentSize >= 1024, "Segment size %s is too small", segmentSize);
+            this.segmentSize = segmentSize;
+            return this;
+        }
+
+        public @NonNull Builder setSyncBatchSize(final int syncBatchSize) {
+            checkArgument(syncBatchSize >= 0, "Negative sync batch size %s", syncBatchSize);
+            this.syncBatchSize = syncBatchSize;
+            return this;
+        }
+
+        public @NonNull Builder setSnapshotInterval(final long snapshotInterval) {
+            checkArgument(snapshotInterval >= 0, "Negative snapshot interval %s", snapshotInterval);
+            this.snapshotInterval = snapshotInterval;
+            return this;
+        }
+
+        public @NonNull JournalConfiguration build() {
+            return new JournalConfiguration(directory, segmentSize, syncBatchSize, snapshotInterval);
+        }
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.journal;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.base.MoreObjects;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+import org.eclipse.jdt.annotation.NonNull;
+
+/**
+ * A single memory-mapped journal segment. A segment is a preallocated file with the following layout:
+ * <pre>
+ *   int  MAGIC
+ *   byte VERSION
+ *   long first sequence number
+ *   entry*
+ *   int  0
+ * </pre>
+ * Each entry is:
+ * <pre>
+ *   int  payload length (always positive)
+ *   int  CRC32C of sequence number and payload
+ *   long sequence number
+ *   byte[] payload
+ * </pre>
+ * Entries are always followed by a zero length word, so that a torn or incomplete write is detected on scan either
+ * through a zero length or through a CRC mismatch. This class is not thread-safe.
+ */
+final class JournalSegment implements AutoCloseable {
+    @FunctionalInterface
+    interface EntryConsumer {
+        void accept(long sequence, byte[] payload) throws IOException;
+    }
+
+    private static final int MAGIC = 0x594A524E;
+    private static final byte VERSION = 1;
+
+    static final int HEADER_SIZE = Integer.BYTES + Byte.BYTES + Long.BYTES;
+    static final int ENTRY_HEADER_SIZE = Integer.BYTES + Integer.BYTES + Long.BYTES;
+
+    private final @NonNull Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final long firstSequence;
+
+    private long lastSequence;
+
+    private JournalSegment(final Path path, final FileChannel channel, final MappedByteBuffer buffer,
+            final long firstSequence) {
+        this.path = requireNonNull(path);
+        this.channel = requireNonNull(channel);
+        this.buffer = requireNonNull(buffer);
+        this.firstSequence = firstSequence;
+        lastSequence = firstSequence - 1;
+    }
+
+    /**
+     * Create a new segment.
+     *
+     * @param path segment file
+     * @param firstSequence sequence number of the first entry in this segment
+     * @param size size of the segment
+     * @return a new segment, positioned for appending the first entry
+     * @throws IOException if an I/O error occurs
+     */
+    static @NonNull JournalSegment create(final Path path, final long firstSequence, final int size)
+            throws IOException {
+        final var channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+            StandardOpenOption.WRITE);
+        try {
+            final var buffer = channel.map(MapMode.READ_WRITE, 0, size);
+            buffer.putInt(MAGIC).put(VERSION).putLong(firstSequence).putInt(0);
+            buffer.position(HEADER_SIZE);
+            return new JournalSegment(path, channel, buffer, firstSequence);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Open an existing segment, feeding all its valid entries to a consumer. The returned segment is positioned
+     * after the last valid entry.
+     *
+     * @param path segment file
+     * @param consumer entry consumer
+     * @return an opened segment
+     * @throws IOException if an I/O error occurs or the segment header is not valid
+     */
+    static @NonNull JournalSegment open(final Path path, final EntryConsumer consumer) throws IOException {
+        final var channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            final var size = channel.size();
+            if (size < HEADER_SIZE + Integer.BYTES || size > Integer.MAX_VALUE) {
+                throw new IOException("Segment " + path + " has invalid size " + size);
+            }
+
+            final var buffer = channel.map(MapMode.READ_WRITE, 0, size);
+            final int magic = buffer.getInt();
+            if (magic != MAGIC) {
+                throw new IOException("Segment " + path + " has invalid magic " + Integer.toHexString(magic));
+            }
+            final byte version = buffer.get();
+            if (version != VERSION) {
+                throw new IOException("Segment " + path + " has unsupported version " + version);
+            }
+
+            final var ret = new JournalSegment(path, channel, buffer, buffer.getLong());
+            ret.scan(consumer);
+            return ret;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    @NonNull Path path() {
+        return path;
+    }
+
+    long firstSequence() {
+        return firstSequence;
+    }
+
+    long lastSequence() {
+        return lastSequence;
+    }
+
+    boolean isEmpty() {
+        return lastSequence < firstSequence;
+    }
+
+    /**
+     * Return the segment size needed to hold a single entry with specified payload size.
+     *
+     * @param payloadSize payload size
+     * @return minimum segment size
+     */
+    static int requiredSize(final int payloadSize) {
+        return HEADER_SIZE + ENTRY_HEADER_SIZE + payloadSize + Integer.BYTES;
+    }
+
+    /**
+     * Append an entry to this segment, if it fits.
+     *
+     * @param sequence sequence number, must be one higher than {@link #lastSequence()}
+     * @param payload entry payload
+     * @return {@code true} if the entry has been appended, {@code false} if the segment does not have enough space
+     */
+    boolean append(final long sequence, final byte[] payload) {
+        if (buffer.remaining() < ENTRY_HEADER_SIZE + payload.length + Integer.BYTES) {
+            return false;
+        }
+
+        final int start = buffer.position();
+        buffer.position(start + Integer.BYTES);
+        buffer.putInt(checksum(sequence, payload)).putLong(sequence).put(payload);
+        // Terminator first, length last, so a partially-written entry is never considered valid
+        buffer.putInt(buffer.position(), 0);
+        buffer.putInt(start, payload.length);
+        lastSequence = sequence;
+        return true;
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            force();
+        } finally {
+            channel.close();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+            .add("path", path)
+            .add("first", firstSequence)
+            .add("last", lastSequence)
+            .toString();
+    }
+
+    private void scan(final EntryConsumer consumer) throws IOException {
+        while (buffer.remaining() >= ENTRY_HEADER_SIZE + Integer.BYTES) {
+            final int start = buffer.position();
+            final int length = buffer.getInt();
+            if (length <= 0 || length > buffer.remaining() - ENTRY_HEADER_SIZE) {
+                buffer.position(start);
+                return;
+            }
+
+            final int crc = buffer.getInt();
+            final long sequence = buffer.getLong();
+            final var payload = new byte[length];
+            buffer.get(payload);
+            if (sequence != lastSequence + 1 || crc != checksum(sequence, payload)) {
+                buffer.position(start);
+                return;
+            }
+
+            consumer.accept(sequence, payload);
+            lastSequence = sequence;
+        }
+    }
+
+    private static int checksum(final long sequence, final byte[] payload) {
+        final var crc = new CRC32C();
+        for (int i = Long.BYTES - 1; i >= 0; --i) {
+            crc.update((int) (sequence >>> i * Byte.SIZE));
+        }
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,13 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+/**
+ * Write-ahead journal persistence for {@link org.opendaylight.yangtools.yang.data.tree.api.DataTree}. The entry point
+ * is {@link DataTreeJournal}, configured via {@link JournalConfiguration}.
+ */
+@org.osgi.annotation.bundle.Export
+package org.opendaylight.yangtools.yang.data.tree.journal;
@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.journal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.spi.node.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTree;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeConfiguration;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeModification;
+import org.opendaylight.yangtools.yang.data.tree.api.DataValidationFailedException;
+import org.opendaylight.yangtools.yang.data.tree.dagger.ReferenceDataTreeFactoryModule;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
+
+class DataTreeJournalTest {
+    private static final QName TOP = QName.create("journal", "top");
+    private static final QName ITEM = QName.create(TOP, "item");
+    private static final QName ID = QName.create(TOP, "id");
+    private static final QName VALUE = QName.create(TOP, "value");
+    private static final YangInstanceIdentifier TOP_PATH = YangInstanceIdentifier.of(new NodeIdentifier(TOP));
+    private static final YangInstanceIdentifier ITEM_PATH = TOP_PATH.node(new NodeIdentifier(ITEM));
+
+    private static EffectiveModelContext modelContext;
+
+    @TempDir
+    Path dir;
+
+    @BeforeAll
+    static void beforeAll() {
+        modelContext = YangParserTestUtils.parseYang("""
+            module journal {
+              namespace journal;
+              prefix j;
+
+              container top {
+                list item {
+                  key id;
+                  leaf id {
+                    type int32;
+                  }
+                  leaf value {
+                    type string;
+                  }
+                }
+              }
+            }""");
+    }
+
+    @Test
+    void testReplay() throws Exception {
+        final var config = JournalConfiguration.builder(dir).setSyncBatchSize(4).build();
+        final NormalizedNode expected;
+        try (var journal = DataTreeJournal.open(config, newTree())) {
+            for (int i = 0; i < 10; ++i) {
+                putItem(journal, i);
+            }
+            assertEquals(10, journal.lastSequence());
+            expected = readTop(journal.tree());
+        }
+
+        try (var journal = DataTreeJournal.open(config, newTree())) {
+            assertEquals(10, journal.lastSequence());
+            assertEquals(expected, readTop(journal.tree()));
+
+            putItem(journal, 10);
+            assertEquals(11, journal.lastSequence());
+        }
+    }
+
+    @Test
+    void testSegmentRollover() throws Exception {
+        final var config = JournalConfiguration.builder(dir).setSegmentSize(1024).setSyncBatchSize(0).build();
+        final NormalizedNode expected;
+        try (var journal = DataTreeJournal.open(config, newTree())) {
+            for (int i = 0; i < 50; ++i) {
+                putItem(journal, i);
+            }
+            expected = readTop(journal.tree());
+        }
+        assertTrue(listFiles("segment-").size() > 1);
+
+        try (var journal = DataTreeJournal.open(config, newTree())) {
+            assertEquals(50, journal.lastSequence());
+            assertEquals(expected, readTop(journal.tree()));
+        }
+    }
+
+    @Test
+    void testSnapshotCompaction() throws Exception {
+        final var config = JournalConfiguration.builder(dir).setSegmentSize(1024).setSnapshotInterval(5).build();
+        final NormalizedNode expected;
+        try (var journal = DataTreeJournal.open(config, newTree())) {
+            for (int i = 0; i < 12; ++i) {
+                putItem(journal, i);
+            }
+            expected = readTop(journal.tree());
+        }
+
+        assertEquals(List.of("snapshot-00000000000000000010.bin"), listFiles("snapshot-"));
+        assertEquals(List.of("segment-00000000000000000011.log"), listFiles("segment-"));
+
+        try (var journal = DataTreeJournal.open(config, newTree())) {
+            assertEquals(12, journal.lastSequence());
+            assertEquals(expected, readTop(journal.tree()));
+        }
+    }
+
+    @Test
+    void testCorruptedEntry() throws Exception {
+        final var config = JournalConfiguration.builder(dir).build();
+        try (var journal = DataTreeJournal.open(config, newTree())) {
+            for (int i = 0; i < 3; ++i) {
+                putItem(journal, i);
+            }
+        }
+
+        // Flip a byte in the third entry's payload
+        final var segment = dir.resolve(listFiles("segment-").getFirst());
+        final var buf = ByteBuffer.wrap(Files.readAllBytes(segment));
+        int offset = JournalSegment.HEADER_SIZE;
+        offset += JournalSegment.ENTRY_HEADER_SIZE + buf.getInt(offset);
+        offset += JournalSegment.ENTRY_HEADER_SIZE + buf.getInt(offset);
+        final int corrupt = offset + JournalSegment.ENTRY_HEADER_SIZE;
+        buf.put(corrupt, (byte) ~buf.get(corrupt));
+        Files.write(segment, buf.array());
+
+        try (var journal = DataTreeJournal.open(config, newTree())) {
+            assertEquals(2, journal.lastSequence());
+            final var items = assertInstanceOf(MapNode.class,
+                journal.tree().takeSnapshot().readNode(ITEM_PATH).orElseThrow());
+            assertEquals(2, items.size());
+            putItem(journal, 2);
+            assertEquals(3, journal.lastSequence());
+        }
+    }
+
+    @Test
+    void testExplicitSnapshot() throws Exception {
+        final var config = JournalConfiguration.builder(dir).setSnapshotInterval(0).build();
+        final NormalizedNode expected;
+        try (var journal = DataTreeJournal.open(config, newTree())) {
+            for (int i = 0; i < 3; ++i) {
+                putItem(journal, i);
+            }
+            final var future = journal.snapshot();
+            // Entries can be committed while the snapshot is being written
+            for (int i = 3; i < 5; ++i) {
+                putItem(journal, i);
+            }
+            assertEquals(dir.resolve("snapshot-00000000000000000003.bin"), future.get());
+            expected = readTop(journal.tree());
+        }
+
+        assertEquals(List.of("snapshot-00000000000000000003.bin"), listFiles("snapshot-"));
+        assertEquals(List.of("segment-00000000000000000004.log"), listFiles("segment-"));
+
+        try (var journal = DataTreeJournal.open(config, newTree())) {
+            assertEquals(5, journal.lastSequence());
+            assertEquals(expected, readTop(journal.tree()));
+        }
+    }
+
+    @Test
+    void testFailedCommit() throws Exception {
+        final var config = JournalConfiguration.builder(dir).build();
+        try (var journal = DataTreeJournal.open(config, newTree())) {
+            final var tree = journal.tree();
+            final var first = newItem(tree, 0, "first");
+            // Created from the same state as first and writing the same entry, hence it conflicts with first once it is
+            // committed
+            final var second = newItem(tree, 0, "second");
+
+            journal.commit(first);
+            assertThrows(DataValidationFailedException.class, () -> journal.commit(second));
+            assertEquals(1, journal.lastSequence());
+
+            // The journal remains usable
+            putItem(journal, 1);
+            assertEquals(2, journal.lastSequence());
+        }
+
+        try (var journal = DataTreeJournal.open(config, newTree())) {
+            assertEquals(2, journal.lastSequence());
+            final var items = assertInstanceOf(MapNode.class,
+                journal.tree().takeSnapshot().readNode(ITEM_PATH).orElseThrow());
+            assertEquals(2, items.size());
+            assertEquals(ImmutableNodes.leafNode(VALUE, "first"),
+                items.childByArg(NodeIdentifierWithPredicates.of(ITEM, ID, 0)).childByArg(new NodeIdentifier(VALUE)));
+        }
+    }
+
+    @Test
+    void testClosedJournal() throws Exception {
+        final var journal = DataTreeJournal.open(JournalConfiguration.builder(dir).build(), newTree());
+        journal.close();
+        assertThrows(IllegalStateException.class, journal::sync);
+    }
+
+    private static DataTree newTree() {
+        return ReferenceDataTreeFactoryModule.provideDataTreeFactory()
+            .create(DataTreeConfiguration.DEFAULT_OPERATIONAL, modelContext);
+    }
+
+    private static NormalizedNode readTop(final DataTree tree) {
+        return tree.takeSnapshot().readNode(TOP_PATH).orElseThrow();
+    }
+
+    private static void putItem(final DataTreeJournal journal, final int id)
+            throws DataValidationFailedException, IOException {
+        journal.commit(newItem(journal.tree(), id, "value " + id));
+    }
+
+    private static DataTreeModification newItem(final DataTree tree, final int id, final String value) {
+        final var key = NodeIdentifierWithPredicates.of(ITEM, ID, id);
+        final var mod = tree.takeSnapshot().newModification();
+        mod.merge(TOP_PATH, ImmutableNodes.newContainerBuilder()
+            .withNodeIdentifier(new NodeIdentifier(TOP))
+            .withChild(ImmutableNodes.newSystemMapBuilder().withNodeIdentifier(new NodeIdentifier(ITEM)).build())
+            .build());
+        mod.write(ITEM_PATH.node(key), ImmutableNodes.newMapEntryBuilder()
+            .withNodeIdentifier(key)
+            .withChild(ImmutableNodes.leafNode(ID, id))
+            .withChild(ImmutableNodes.leafNode(VALUE, value))
+            .build());
+        mod.ready();
+        return mod;
+    }
+
+    private List<String> listFiles(final String prefix) throws IOException {
+        try (var stream = Files.list(dir)) {
+            return stream.map(file -> file.getFileName().toString())
+                .filter(name -> name.startsWith(prefix))
+                .sorted()
+                .toList();
+        }
+    }
+}
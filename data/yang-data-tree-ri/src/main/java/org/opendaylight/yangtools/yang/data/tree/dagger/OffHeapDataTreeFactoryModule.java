@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.dagger;
+
+import dagger.Module;
+import dagger.Provides;
+import jakarta.inject.Singleton;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeFactory;
+import org.opendaylight.yangtools.yang.data.tree.impl.OffHeapDataTreeFactory;
+import org.opendaylight.yangtools.yang.data.tree.spi.SubtreeCodec;
+
+/**
+ * A Dagger module providing a {@link DataTreeFactory} implementation capable of storing data off-heap, using a
+ * {@link SubtreeCodec} provided by another module.
+ */
+@Module
+@NonNullByDefault
+@SuppressWarnings("exports")
+public interface OffHeapDataTreeFactoryModule {
+    @Provides
+    @Singleton
+    static DataTreeFactory provideDataTreeFactory(final SubtreeCodec codec) {
+        return new OffHeapDataTreeFactory(codec);
+    }
+}
@@ -12,6 +12,7 @@ import static java.util.Objects.requireNonNull;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidateTip;
+import org.opendaylight.yangtools.yang.data.tree.impl.node.TreeNode;
 
 @NonNullByDefault
 abstract class AbstractDataTreeCandidate extends AbstractDataTreeTip implements DataTreeCandidateTip {
@@ -21,6 +22,13 @@ abstract class AbstractDataTreeCandidate extends AbstractDataTreeTip implements
         this.rootPath = requireNonNull(rootPath);
     }
 
+    /**
+     * Return the root node this candidate was prepared against.
+     *
+     * @return Root node this candidate was prepared against
+     */
+    abstract TreeNode getBeforeRoot();
+
     @Override
     public final YangInstanceIdentifier getRootPath() {
         return rootPath;
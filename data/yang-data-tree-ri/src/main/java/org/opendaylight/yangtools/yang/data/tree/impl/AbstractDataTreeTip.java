@@ -7,8 +7,10 @@
  */
 package org.opendaylight.yangtools.yang.data.tree.impl;
 
+import java.util.List;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeBatch;
 import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidateTip;
 import org.opendaylight.yangtools.yang.data.tree.api.DataTreeModification;
 import org.opendaylight.yangtools.yang.data.tree.api.DataTreeTip;
@@ -48,6 +50,17 @@ abstract class AbstractDataTreeTip implements DataTreeTip {
         }
     }
 
+    @Override
+    public final DataTreeBatch prepareBatch(final List<? extends DataTreeModification> modifications) {
+        final var mods = modifications.stream().map(AbstractDataTreeTip::accessMod).toList();
+        try {
+            return new BatchPreparer(getRootPath(), getTipRoot()).prepare(mods);
+        } catch (IllegalStateException e) {
+            // API-compat conversion
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+    }
+
     private static InMemoryDataTreeModification accessMod(final DataTreeModification mod) {
         if (mod instanceof InMemoryDataTreeModification inMemoryMod) {
             return inMemoryMod;
@@ -15,6 +15,7 @@ import com.google.common.base.VerifyException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -91,11 +92,13 @@ abstract sealed class AbstractNodeContainerModificationStrategy<T extends DataSc
 
     private final @NonNull NormalizedNodeContainerSupport<?, ?> support;
     private final boolean verifyChildrenStructure;
+    private final int parallelThreshold;
 
     AbstractNodeContainerModificationStrategy(final NormalizedNodeContainerSupport<?, ?> support,
             final DataTreeConfiguration treeConfig) {
         this.support = requireNonNull(support);
         verifyChildrenStructure = treeConfig.isRecursiveWriteValidationEnabled();
+        parallelThreshold = treeConfig.getParallelThreshold();
     }
 
     @Override
@@ -114,14 +117,16 @@ abstract sealed class AbstractNodeContainerModificationStrategy<T extends DataSc
     final void verifyValueChildren(final NormalizedNode writtenValue) {
         final var container = (DistinctNodeContainer<?, ?>) writtenValue;
         if (verifyChildrenStructure) {
-            for (var child : container.body()) {
-                final var childOp = childByArg(child.name());
-                if (childOp == null) {
-                    throw new SchemaValidationFailedException(
-                        "Node %s is not a valid child of %s according to the schema.".formatted(
-                            child.name(), container.name()));
+            final var body = container.body();
+            if (isParallel(body.size())) {
+                ParallelChildren.apply(List.copyOf(body), child -> {
+                    verifyChildOperation(container, child).fullVerifyStructure(child);
+                    return null;
+                });
+            } else {
+                for (var child : body) {
+                    verifyChildOperation(container, child).fullVerifyStructure(child);
                 }
-                childOp.fullVerifyStructure(child);
             }
 
             optionalVerifyValueChildren(container);
@@ -152,16 +157,38 @@ abstract sealed class AbstractNodeContainerModificationStrategy<T extends DataSc
     @Override
     protected final void recursivelyVerifyStructure(final NormalizedNode value) {
         final var container = (NormalizedNodeContainer<?>) value;
-        for (var child : container.body()) {
-            final var childOp = childByArg(child.name());
-            if (childOp == null) {
-                throw new SchemaValidationFailedException(
-                    "Node %s is not a valid child of %s according to the schema.".formatted(
-                        child.name(), container.name()));
+        final var body = container.body();
+        if (isParallel(body.size())) {
+            ParallelChildren.apply(List.copyOf(body), child -> {
+                verifyChildOperation(container, child).recursivelyVerifyStructure(child);
+                return null;
+            });
+        } else {
+            for (var child : body) {
+                verifyChildOperation(container, child).recursivelyVerifyStructure(child);
             }
+        }
+    }
 
-            childOp.recursivelyVerifyStructure(child);
+    private @NonNull ModificationApplyOperation verifyChildOperation(final NormalizedNodeContainer<?> container,
+            final NormalizedNode child) {
+        final var childOp = childByArg(child.name());
+        if (childOp == null) {
+            throw new SchemaValidationFailedException(
+                "Node %s is not a valid child of %s according to the schema.".formatted(
+                    child.name(), container.name()));
         }
+        return childOp;
+    }
+
+    /**
+     * Check whether children of a node should be processed in parallel.
+     *
+     * @param childCount number of children to process
+     * @return {@code true} if children should be processed in parallel
+     */
+    private boolean isParallel(final int childCount) {
+        return parallelThreshold != 0 && childCount >= parallelThreshold;
     }
 
     @Override
@@ -205,18 +232,23 @@ abstract sealed class AbstractNodeContainerModificationStrategy<T extends DataSc
      * @param modifications modification operations to apply
      * @return Sealed immutable copy of TreeNode structure with all Data Node references set.
      */
-    @SuppressWarnings({ "rawtypes", "unchecked" })
-    private TreeNode mutateChildren(final MutableTreeNode meta, final NormalizedNodeContainerBuilder data,
-            final Version nodeVersion, final Iterable<ModifiedNode> modifications) {
-        for (var mod : modifications) {
-            final var id = mod.getIdentifier();
-            final var result = resolveChildOperation(id).apply(mod, meta.childByArg(id), nodeVersion);
-            if (result != null) {
-                meta.putChild(result);
-                data.addChild(result.data());
-            } else {
-                meta.removeChild(id);
-                data.removeChild(id);
+    private TreeNode mutateChildren(final MutableTreeNode meta, final NormalizedNodeContainerBuilder<?, ?, ?, ?> data,
+            final Version nodeVersion, final Collection<ModifiedNode> modifications) {
+        if (isParallel(modifications.size())) {
+            // Children are independent of each other, hence we can compute their TreeNodes concurrently and then apply
+            // them in the order of modifications
+            final var mods = List.copyOf(modifications);
+            final var results = ParallelChildren.apply(mods, mod -> {
+                final var id = mod.getIdentifier();
+                return resolveChildOperation(id).apply(mod, meta.childByArg(id), nodeVersion);
+            });
+            for (int i = 0, size = mods.size(); i < size; ++i) {
+                mutateChild(meta, data, mods.get(i), results.get(i));
+            }
+        } else {
+            for (var mod : modifications) {
+                final var id = mod.getIdentifier();
+                mutateChild(meta, data, mod, resolveChildOperation(id).apply(mod, meta.childByArg(id), nodeVersion));
             }
         }
 
@@ -224,6 +256,19 @@ abstract sealed class AbstractNodeContainerModificationStrategy<T extends DataSc
         return meta.seal();
     }
 
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private static void mutateChild(final MutableTreeNode meta, final NormalizedNodeContainerBuilder data,
+            final ModifiedNode mod, final @Nullable TreeNode result) {
+        if (result != null) {
+            meta.putChild(result);
+            data.addChild(result.data());
+        } else {
+            final var id = mod.getIdentifier();
+            meta.removeChild(id);
+            data.removeChild(id);
+        }
+    }
+
     @Override
     protected TreeNode applyMerge(final ModifiedNode modification, final TreeNode currentMeta, final Version version) {
         // The node which we are merging exists. We now need to expand any child operations implied by the value. Once
@@ -433,7 +478,23 @@ abstract sealed class AbstractNodeContainerModificationStrategy<T extends DataSc
      */
     private void checkChildPreconditions(final ModificationPath path, final NodeModification modification,
             final @NonNull TreeNode currentMeta, final Version version) throws DataValidationFailedException {
-        for (var childMod : modification.getChildren()) {
+        final var children = modification.getChildren();
+        if (isParallel(children.size())) {
+            // ModificationPath is not thread-safe, each child gets its own
+            final var parentId = path.toInstanceIdentifier();
+            ParallelChildren.<NodeModification, Void, DataValidationFailedException>apply(List.copyOf(children),
+                childMod -> {
+                    final var childId = childMod.getIdentifier();
+                    final var childPath = new ModificationPath(parentId);
+                    childPath.push(childId);
+                    resolveChildOperation(childId).checkApplicable(childPath, childMod,
+                        currentMeta.childByArg(childId), version);
+                    return null;
+                });
+            return;
+        }
+
+        for (var childMod : children) {
             final var childId = childMod.getIdentifier();
             final var childMeta = currentMeta.childByArg(childId);
 
@@ -448,6 +509,7 @@ abstract sealed class AbstractNodeContainerModificationStrategy<T extends DataSc
 
     @Override
     ToStringHelper addToStringAttributes(final ToStringHelper helper) {
-        return helper.add("support", support).add("verifyChildren", verifyChildrenStructure);
+        return helper.add("support", support).add("verifyChildren", verifyChildrenStructure)
+            .add("parallelThreshold", parallelThreshold);
     }
 }
@@ -25,7 +25,7 @@ import org.opendaylight.yangtools.yang.data.tree.impl.node.Version;
  * perform additional validation.
  */
 abstract sealed class AbstractValidation extends ModificationApplyOperation
-        permits MinMaxElementsValidation, UniqueValidation {
+        permits MinMaxElementsValidation, UniqueValidation, XPathConstraintValidation {
     private final @NonNull ModificationApplyOperation delegate;
 
     AbstractValidation(final ModificationApplyOperation delegate) {
@@ -57,6 +57,11 @@ abstract sealed class AbstractValidation extends ModificationApplyOperation
         delegate.recursivelyVerifyStructure(value);
     }
 
+    @Override
+    void nodeReplaced(final TreeNode oldNode, final TreeNode newNode) {
+        delegate.nodeReplaced(oldNode, newNode);
+    }
+
     @Override
     final TreeNode apply(final ModifiedNode modification, final TreeNode currentMeta, final Version version) {
         var validated = modification.validatedNode(this, currentMeta);
@@ -75,7 +80,7 @@ abstract sealed class AbstractValidation extends ModificationApplyOperation
         // Deal with the result moving on us
         final var ret = delegate.apply(modification, currentMeta, version);
         if (ret != null) {
-            enforceOnData(ret.data());
+            enforceOnResult(modification, currentMeta, ret);
         }
         return ret;
     }
@@ -92,14 +97,15 @@ abstract sealed class AbstractValidation extends ModificationApplyOperation
         }
 
         if (delegate instanceof AbstractValidation) {
-            checkApplicable(path, verifyNotNull(modified.validatedNode(delegate, currentMeta)).treeNode());
+            checkApplicable(path, modified, currentMeta,
+                verifyNotNull(modified.validatedNode(delegate, currentMeta)).treeNode());
             return;
         }
 
         // We need to actually perform the operation to deal with merge in a sane manner. We know the modification
         // is immutable, so the result of validation will probably not change. Note we should not be checking number
         final var applied = delegate.apply(modified, currentMeta, version);
-        checkApplicable(path, applied);
+        checkApplicable(path, modified, currentMeta, applied);
 
         // Everything passed. We now have a snapshot of the result node, it would be too bad if we just threw it out.
         // We know what the result of an apply operation is going to be *if* the following are kept unchanged:
@@ -110,11 +116,12 @@ abstract sealed class AbstractValidation extends ModificationApplyOperation
         modified.setValidatedNode(this, currentMeta, applied);
     }
 
-    private void checkApplicable(final ModificationPath path, final @Nullable TreeNode applied)
+    private void checkApplicable(final ModificationPath path, final ModifiedNode modification,
+            final @Nullable TreeNode currentMeta, final @Nullable TreeNode applied)
             throws DataValidationFailedException {
         if (applied != null) {
             // We only enforce min/max on present data and rely on MandatoryLeafEnforcer to take care of the empty case
-            enforceOnData(path, applied.data());
+            enforceOnResult(path, modification, currentMeta, applied);
         }
     }
 
@@ -128,6 +135,35 @@ abstract sealed class AbstractValidation extends ModificationApplyOperation
         return delegate;
     }
 
+    /**
+     * Enforce this validation on the result of applying a modification. The default implementation enforces it on
+     * {@link TreeNode#data()} of the result. Subclasses can override this method to take advantage of knowing which
+     * parts of the data have been modified.
+     *
+     * @param path path to the node
+     * @param modification modification which has been applied
+     * @param currentMeta node the modification has been applied to
+     * @param result node resulting from the modification
+     * @throws DataValidationFailedException if the result does not pass validation
+     */
+    void enforceOnResult(final ModificationPath path, final ModifiedNode modification,
+            final @Nullable TreeNode currentMeta, final @NonNull TreeNode result) throws DataValidationFailedException {
+        enforceOnData(path, result.data());
+    }
+
+    /**
+     * Enforce this validation on the result of applying a modification, outside of a validation context. The default
+     * implementation enforces it on {@link TreeNode#data()} of the result.
+     *
+     * @param modification modification which has been applied
+     * @param currentMeta node the modification has been applied to
+     * @param result node resulting from the modification
+     */
+    void enforceOnResult(final ModifiedNode modification, final @Nullable TreeNode currentMeta,
+            final @NonNull TreeNode result) {
+        enforceOnData(result.data());
+    }
+
     abstract void enforceOnData(ModificationPath path, NormalizedNode value) throws DataValidationFailedException;
 
     abstract void enforceOnData(@NonNull NormalizedNode data);
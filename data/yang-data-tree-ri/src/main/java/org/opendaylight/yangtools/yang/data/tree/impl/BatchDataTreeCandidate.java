@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.impl;
+
+import static com.google.common.base.Verify.verify;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import java.util.List;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidateNode;
+import org.opendaylight.yangtools.yang.data.tree.impl.node.TreeNode;
+import org.opendaylight.yangtools.yang.data.tree.spi.DataTreeCandidates;
+
+/**
+ * A candidate produced by {@link AbstractDataTreeTip#prepareBatch(List)}, spanning a chain of
+ * {@link InMemoryDataTreeCandidate}s, each of which covers one or more of the batch's modifications and was prepared on
+ * top of its predecessor. Committing this candidate only needs to swap the root once. The combined {@link DataTreeCandidateNode} view is only computed when someone asks
+ * for it, typically a change listener.
+ */
+final class BatchDataTreeCandidate extends AbstractDataTreeCandidate {
+    private final @NonNull List<InMemoryDataTreeCandidate> candidates;
+    private final @NonNull Supplier<DataTreeCandidateNode> rootNode;
+    private final @NonNull TreeNode beforeRoot;
+    private final @NonNull TreeNode afterRoot;
+    private final int size;
+
+    BatchDataTreeCandidate(final YangInstanceIdentifier rootPath, final List<InMemoryDataTreeCandidate> candidates) {
+        super(rootPath);
+        verify(candidates.size() > 1, "Unexpected batch of %s", candidates.size());
+        beforeRoot = candidates.getFirst().getBeforeRoot();
+        afterRoot = candidates.getLast().getTipRoot();
+        size = candidates.size();
+
+        this.candidates = List.copyOf(candidates);
+        rootNode = Suppliers.memoize(() -> DataTreeCandidates.aggregate(this.candidates).getRootNode());
+    }
+
+    /**
+     * Return the candidates constituting this batch, in commit order.
+     *
+     * @return constituent candidates
+     */
+    @NonNull List<InMemoryDataTreeCandidate> candidates() {
+        return candidates;
+    }
+
+    @Override
+    TreeNode getBeforeRoot() {
+        return beforeRoot;
+    }
+
+    @Override
+    TreeNode getTipRoot() {
+        return afterRoot;
+    }
+
+    @Override
+    public DataTreeCandidateNode getRootNode() {
+        return rootNode.get();
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("rootPath", getRootPath()).add("size", size).toString();
+    }
+}
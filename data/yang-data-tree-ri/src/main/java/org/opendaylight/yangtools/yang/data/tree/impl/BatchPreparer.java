@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeBatch;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidateTip;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeModification;
+import org.opendaylight.yangtools.yang.data.tree.api.DataValidationFailedException;
+import org.opendaylight.yangtools.yang.data.tree.impl.node.TreeNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Preparation of a batch of modifications on behalf of {@link AbstractDataTreeTip#prepareBatch(List)}. Consecutive
+ * modifications which affect disjoint parts of the tree are grouped together. As they do not see each other's effects,
+ * each of them is validated against the state the group starts from, which detects conflicts with the modifications
+ * they were based on. The group is then replayed into a single modification, which is validated once more, to
+ * enforce constraints spanning its members, and applied in one pass, so that the root and any parents shared by the
+ * group's modifications are copied only once. If that validation fails, the group's modifications are processed one
+ * by one, so that only the offending modifications are rejected.
+ */
+final class BatchPreparer {
+    /**
+     * A trie of the nodes affected by a group of modifications. A node is terminal if a modification writes, merges or
+     * deletes it, as opposed to just touching its children.
+     */
+    private static final class Footprint {
+        private final HashMap<PathArgument, Footprint> children = new HashMap<>();
+        private boolean terminal;
+
+        /**
+         * Check whether a modification of this node leaves everything affected by the group intact.
+         *
+         * @param modification modification of this node
+         * @return {@code true} if the modification does not affect anything affected by the group
+         */
+        boolean isDisjoint(final ModifiedNode modification) {
+            return switch (modification.getOperation()) {
+                case NONE -> true;
+                case TOUCH -> {
+                    if (terminal) {
+                        yield false;
+                    }
+                    for (var child : modification.getChildren()) {
+                        final var existing = children.get(child.getIdentifier());
+                        if (existing != null && !existing.isDisjoint(child)) {
+                            yield false;
+                        }
+                    }
+                    yield true;
+                }
+                // This node or some of its descendants has already been affected
+                default -> false;
+            };
+        }
+
+        void add(final ModifiedNode modification) {
+            switch (modification.getOperation()) {
+                case NONE -> {
+                    // No-op
+                }
+                case TOUCH -> {
+                    for (var child : modification.getChildren()) {
+                        if (child.getOperation() != LogicalOperation.NONE) {
+                            children.computeIfAbsent(child.getIdentifier(), ignored -> new Footprint()).add(child);
+                        }
+                    }
+                }
+                default -> terminal = true;
+            }
+        }
+    }
+
+    private static final Logger LOG = LoggerFactory.getLogger(BatchPreparer.class);
+
+    private final LinkedHashMap<DataTreeModification, DataValidationFailedException> failures = new LinkedHashMap<>();
+    private final ArrayList<InMemoryDataTreeCandidate> candidates = new ArrayList<>();
+    private final ArrayList<InMemoryDataTreeModification> group = new ArrayList<>();
+    private final @NonNull YangInstanceIdentifier rootPath;
+    private final @NonNull TreeNode beforeRoot;
+
+    private @NonNull Footprint footprint = new Footprint();
+    private @NonNull TreeNode current;
+
+    BatchPreparer(final YangInstanceIdentifier rootPath, final TreeNode beforeRoot) {
+        this.rootPath = requireNonNull(rootPath);
+        this.beforeRoot = requireNonNull(beforeRoot);
+        current = beforeRoot;
+    }
+
+    @NonNull DataTreeBatch prepare(final List<InMemoryDataTreeModification> modifications) {
+        for (var mod : modifications) {
+            final var root = mod.sealedRoot();
+            if (root == null) {
+                // Not a sealed modification with any effect: let validate() sort out what it is
+                try {
+                    mod.validate(rootPath, current);
+                } catch (DataValidationFailedException e) {
+                    failures.put(mod, e);
+                }
+                continue;
+            }
+
+            if (!group.isEmpty()
+                    && (group.getFirst().getStrategy() != mod.getStrategy() || !footprint.isDisjoint(root))) {
+                flush();
+            }
+            try {
+                mod.validate(rootPath, current);
+            } catch (DataValidationFailedException e) {
+                failures.put(mod, e);
+                continue;
+            }
+            group.add(mod);
+            footprint.add(root);
+        }
+        flush();
+
+        final DataTreeCandidateTip candidate = switch (candidates.size()) {
+            case 0 -> new NoopDataTreeCandidate(rootPath, beforeRoot);
+            case 1 -> candidates.getFirst();
+            default -> new BatchDataTreeCandidate(rootPath, candidates);
+        };
+        return new DataTreeBatch(candidate, failures);
+    }
+
+    private void flush() {
+        switch (group.size()) {
+            case 0 -> {
+                // Nothing to do
+            }
+            case 1 -> append(group.getFirst().prepare(rootPath, current));
+            default -> prepareCombined();
+        }
+        group.clear();
+        footprint = new Footprint();
+    }
+
+    private void prepareCombined() {
+        final var combined = group.getFirst().newModification(current);
+        try (var cursor = combined.openCursor()) {
+            for (var mod : group) {
+                mod.applyToCursor(cursor);
+            }
+        }
+        combined.ready();
+
+        try {
+            combined.validate(rootPath, current);
+        } catch (DataValidationFailedException e) {
+            LOG.debug("Group of {} modifications failed validation, processing them one by one", group.size(), e);
+            prepareEach();
+            return;
+        }
+        append(combined.prepare(rootPath, current));
+    }
+
+    // Each modification is validated and applied on top of the result of its accepted predecessors, just as if it were
+    // prepared on their DataTreeCandidateTip, but without materializing intermediate tips
+    private void prepareEach() {
+        for (var mod : group) {
+            try {
+                mod.validate(rootPath, current);
+            } catch (DataValidationFailedException e) {
+                failures.put(mod, e);
+                continue;
+            }
+            append(mod.prepare(rootPath, current));
+        }
+    }
+
+    private void append(final DataTreeCandidateTip candidate) {
+        if (candidate instanceof InMemoryDataTreeCandidate inMemory) {
+            candidates.add(inMemory);
+            current = inMemory.getTipRoot();
+        }
+    }
+}
@@ -10,7 +10,11 @@ package org.opendaylight.yangtools.yang.data.tree.impl;
 import static java.util.Objects.requireNonNull;
 
 import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import java.lang.ref.WeakReference;
+import java.util.List;
 import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNodes;
 import org.opendaylight.yangtools.yang.data.tree.impl.node.TreeNode;
 import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
@@ -24,19 +28,34 @@ final class DataTreeState {
     private final LatestOperationHolder holder;
     private final EffectiveModelContext schemaContext;
     private final @NonNull TreeNode root;
+    // Root as last committed, if it has since been replaced by withOffloadedRoot(). It is weakly referenced, as it is
+    // needed only while there are candidates based on it, and those hold it strongly.
+    private final @Nullable WeakReference<TreeNode> committedRoot;
+    // Off-heap generations applied since last commit
+    private final @NonNull ImmutableList<OffHeapStore.Generation> offloaded;
 
     private DataTreeState(final TreeNode root) {
         this.root = requireNonNull(root);
         holder = new LatestOperationHolder();
         schemaContext = null;
+        committedRoot = null;
+        offloaded = ImmutableList.of();
     }
 
     private DataTreeState(final TreeNode root, final LatestOperationHolder holder,
             final EffectiveModelContext schemaContext) {
+        this(root, holder, schemaContext, null, ImmutableList.of());
+    }
+
+    private DataTreeState(final TreeNode root, final LatestOperationHolder holder,
+            final EffectiveModelContext schemaContext, final @Nullable WeakReference<TreeNode> committedRoot,
+            final ImmutableList<OffHeapStore.Generation> offloaded) {
         // It should be impossible to instantiate a new root without a SchemaContext
         this.schemaContext = requireNonNull(schemaContext);
         this.holder = requireNonNull(holder);
         this.root = requireNonNull(root);
+        this.committedRoot = committedRoot;
+        this.offloaded = requireNonNull(offloaded);
     }
 
     static DataTreeState createInitial(final TreeNode root) {
@@ -47,6 +66,34 @@ final class DataTreeState {
         return root;
     }
 
+    @Nullable ModificationApplyOperation getOperation() {
+        return holder.getCurrent();
+    }
+
+    /**
+     * Check whether a candidate based on specified root can be committed on top of this state. This is the case if it
+     * is the current root, or the root it has been offloaded from.
+     *
+     * @param baseRoot candidate's base root
+     * @return {@code true} if the candidate can be committed
+     */
+    boolean isCommitBase(final TreeNode baseRoot) {
+        if (baseRoot == root) {
+            return true;
+        }
+        final var ref = committedRoot;
+        return ref != null && ref.get() == baseRoot;
+    }
+
+    /**
+     * Return the off-heap generations applied to the current root since it has been committed.
+     *
+     * @return off-heap generations
+     */
+    @NonNull ImmutableList<OffHeapStore.Generation> offloaded() {
+        return offloaded;
+    }
+
     @NonNull InMemoryDataTreeSnapshot newSnapshot() {
         return new InMemoryDataTreeSnapshot(schemaContext, root, holder.newSnapshot());
     }
@@ -54,13 +101,26 @@ final class DataTreeState {
     DataTreeState withSchemaContext(final EffectiveModelContext newSchemaContext,
             final ModificationApplyOperation operation) {
         holder.setCurrent(operation);
-        return new DataTreeState(root, holder, newSchemaContext);
+        return new DataTreeState(root, holder, newSchemaContext, committedRoot, offloaded);
     }
 
     DataTreeState withRoot(final TreeNode newRoot) {
         return new DataTreeState(newRoot, holder, schemaContext);
     }
 
+    /**
+     * Return a state with a root holding the same data as current root, with some of it moved off-heap.
+     *
+     * @param newRoot new root
+     * @param generations off-heap generations applied to produce {@code newRoot}
+     * @return A new state
+     */
+    DataTreeState withOffloadedRoot(final TreeNode newRoot, final List<OffHeapStore.Generation> generations) {
+        return new DataTreeState(newRoot, holder, schemaContext,
+            committedRoot != null ? committedRoot : new WeakReference<>(root),
+            ImmutableList.<OffHeapStore.Generation>builder().addAll(offloaded).addAll(generations).build());
+    }
+
     @Override
     public String toString() {
         final TreeNode r = root;
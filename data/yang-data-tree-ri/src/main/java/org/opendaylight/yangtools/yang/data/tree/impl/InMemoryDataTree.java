@@ -13,6 +13,9 @@ import com.google.common.base.MoreObjects;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.List;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
@@ -49,6 +52,7 @@ public final class InMemoryDataTree extends AbstractDataTreeTip implements DataT
 
     private final DataTreeConfiguration treeConfig;
     private final boolean maskMandatory;
+    private final @Nullable OffHeapStore offHeapStore;
 
     /**
      * Current data store state generation. All accesses need to go through {@link #STATE}
@@ -61,6 +65,7 @@ public final class InMemoryDataTree extends AbstractDataTreeTip implements DataT
             final EffectiveModelContext schemaContext) {
         this.treeConfig = requireNonNull(treeConfig, "treeConfig");
         maskMandatory = true;
+        offHeapStore = null;
         state = DataTreeState.createInitial(rootNode);
         if (schemaContext != null) {
             setEffectiveModelContext(schemaContext);
@@ -70,10 +75,26 @@ public final class InMemoryDataTree extends AbstractDataTreeTip implements DataT
     public InMemoryDataTree(final TreeNode rootNode, final DataTreeConfiguration treeConfig,
             final EffectiveModelContext schemaContext, final DataSchemaNode rootSchemaNode,
             final boolean maskMandatory) {
+        this(rootNode, treeConfig, schemaContext, rootSchemaNode, maskMandatory, null);
+    }
+
+    InMemoryDataTree(final TreeNode rootNode, final DataTreeConfiguration treeConfig,
+            final EffectiveModelContext schemaContext, final DataSchemaNode rootSchemaNode,
+            final boolean maskMandatory, final @Nullable OffHeapStore offHeapStore) {
         this.treeConfig = requireNonNull(treeConfig, "treeConfig");
         this.maskMandatory = maskMandatory;
+        this.offHeapStore = offHeapStore;
+
+        state = DataTreeState.createInitial(rootNode).withSchemaContext(schemaContext,
+            getOperation(schemaContext, rootSchemaNode));
+    }
 
-        state = DataTreeState.createInitial(rootNode).withSchemaContext(schemaContext, getOperation(rootSchemaNode));
+    private ModificationApplyOperation getOperation(final EffectiveModelContext modelContext,
+            final DataSchemaNode rootSchemaNode) {
+        final var operation = getOperation(rootSchemaNode);
+        // Constraints may refer to any part of the data tree, hence we can enforce them only on the entire tree
+        return treeConfig.isXPathConstraintValidationEnabled() && treeConfig.getRootPath().isEmpty()
+            ? XPathConstraintValidation.of(operation, modelContext) : operation;
     }
 
     private ModificationApplyOperation getOperation(final DataSchemaNode rootSchemaNode) {
@@ -122,7 +143,7 @@ public final class InMemoryDataTree extends AbstractDataTreeTip implements DataT
             return;
         }
 
-        final var rootNode = getOperation(rootSchemaNode);
+        final var rootNode = getOperation(newSchemaContext, rootSchemaNode);
         DataTreeState currentState;
         DataTreeState newState;
         do {
@@ -142,7 +163,7 @@ public final class InMemoryDataTree extends AbstractDataTreeTip implements DataT
         if (candidate instanceof NoopDataTreeCandidate) {
             return;
         }
-        if (!(candidate instanceof InMemoryDataTreeCandidate c)) {
+        if (!(candidate instanceof AbstractDataTreeCandidate c)) {
             throw new IllegalArgumentException("Invalid candidate class " + candidate.getClass());
         }
 
@@ -159,7 +180,7 @@ public final class InMemoryDataTree extends AbstractDataTreeTip implements DataT
             LOG.debug("Updating datastore from {} to {}", currentRoot, newRoot);
 
             final TreeNode oldRoot = c.getBeforeRoot();
-            if (oldRoot != currentRoot) {
+            if (!currentState.isCommitBase(oldRoot)) {
                 final String oldStr = simpleToString(oldRoot);
                 final String currentStr = simpleToString(currentRoot);
                 throw new IllegalStateException(
@@ -174,6 +195,39 @@ public final class InMemoryDataTree extends AbstractDataTreeTip implements DataT
         // Attach commit info.
         // TODO: this should never fail, but should we check? report?
         newRoot.subtreeVersion().writeInfo(info);
+
+        final var store = offHeapStore;
+        if (store != null) {
+            // A candidate based on the root before offloading has undone its effects, hence we need to offload again
+            final var cold = new ArrayList<OffHeapStore.Generation>(
+                c.getBeforeRoot() != currentState.getRoot() ? currentState.offloaded() : List.of());
+            // Each candidate of a batch has its own version, hence it forms its own generation
+            final List<? extends AbstractDataTreeCandidate> committed =
+                c instanceof BatchDataTreeCandidate batch ? batch.candidates() : List.of(c);
+            for (var candidateToRecord : committed) {
+                final var generation = store.committed(candidateToRecord.getRootNode(),
+                    candidateToRecord.getTipRoot().subtreeVersion());
+                if (generation != null) {
+                    cold.add(generation);
+                }
+            }
+            if (!cold.isEmpty()) {
+                store.schedule(() -> offload(store, cold));
+            }
+        }
+    }
+
+    private void offload(final OffHeapStore store, final List<OffHeapStore.Generation> cold) {
+        DataTreeState currentState;
+        DataTreeState newState;
+        do {
+            currentState = currentState();
+            final var newRoot = store.offload(currentState.getRoot(), currentState.getOperation(), cold);
+            if (newRoot == null) {
+                return;
+            }
+            newState = currentState.withOffloadedRoot(newRoot, cold);
+        } while (!STATE.compareAndSet(this, currentState, newState));
     }
 
     private static String simpleToString(final Object obj) {
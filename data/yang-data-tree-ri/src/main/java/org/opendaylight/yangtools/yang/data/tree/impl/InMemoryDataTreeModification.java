@@ -388,8 +388,14 @@ final class InMemoryDataTreeModification extends AbstractCursorAware implements
         };
     }
 
+    /**
+     * Create a new modification of specified root node, sharing this modification's model context and strategy.
+     *
+     * @param rootNode root node to modify
+     * @return A new modification
+     */
     @NonNullByDefault
-    private InMemoryDataTreeModification newModification(final TreeNode rootNode) {
+    InMemoryDataTreeModification newModification(final TreeNode rootNode) {
         return new InMemoryDataTreeSnapshot(snapshot.modelContext(), rootNode, strategyTree).newModification();
     }
 
@@ -432,6 +438,20 @@ final class InMemoryDataTreeModification extends AbstractCursorAware implements
         return version;
     }
 
+    /**
+     * Return the root of this modification's tree, if it has been sealed and it is not a no-op.
+     *
+     * @return root {@link ModifiedNode}, or {@code null}
+     */
+    @Nullable ModifiedNode sealedRoot() {
+        return switch (acquireState()) {
+            case Ready ready -> ready.root;
+            case AppliedToSnapshot applied -> applied.root;
+            case Prepared prepared -> prepared.root;
+            default -> null;
+        };
+    }
+
     private ModifiedNode checkOpen() {
         final var local = acquireState();
         if (local instanceof Open(var root)) {
@@ -13,7 +13,6 @@ import com.google.common.base.VerifyException;
 import java.util.ArrayList;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.function.Supplier;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.yangtools.concepts.Immutable;
@@ -50,6 +49,23 @@ sealed interface MapUniqueIndex extends Immutable permits MapUniqueIndex1, MapUn
         return new Builder(this);
     }
 
+    /**
+     * A handler of a collision detected while building a {@link MapUniqueIndex}.
+     *
+     * @param <X> exception type
+     */
+    @FunctionalInterface
+    interface CollisionHandler<X extends Exception> {
+        /**
+         * Return the exception to report a collision.
+         *
+         * @param uniqueValues the unique values being added
+         * @param key the key of the entry being added
+         * @return exception to throw
+         */
+        X collision(Object uniqueValues, NodeIdentifierWithPredicates key);
+    }
+
     /**
      * A {@link MapUniqueIndex} undergoing modification. The theory of operation is simple: we have a base index, which
      * may be empty and we perform removals and additions on it in random order. That means that for some period of time
@@ -78,7 +94,7 @@ sealed interface MapUniqueIndex extends Immutable permits MapUniqueIndex1, MapUn
             return this;
         }
 
-        <X extends Exception> MapUniqueIndex build(final Supplier<X> exceptionSupplier) throws X {
+        <X extends Exception> MapUniqueIndex build(final CollisionHandler<X> collisionHandler) throws X {
             if (add.isEmpty() && remove.isEmpty()) {
                 // No change
                 return base;
@@ -100,11 +116,10 @@ sealed interface MapUniqueIndex extends Immutable permits MapUniqueIndex1, MapUn
                 }
             }
             for (var entry : add) {
-                final var prev = map.put(entry.getKey(), entry.getValue());
+                final var prev = map.putIfAbsent(entry.getKey(), entry.getValue());
                 if (prev != null) {
-                    // FIXME: more details
-                    // FIXME: multiple collisions
-                    throw exceptionSupplier.get();
+                    // Report the first collision, as it is the one a sequential scan would hit
+                    throw collisionHandler.collision(BinaryValue.unwrap(entry.getKey()), entry.getValue());
                 }
             }
 
@@ -120,6 +120,19 @@ abstract sealed class ModificationApplyOperation implements StoreTreeNode<Modifi
 
     abstract void recursivelyVerifyStructure(NormalizedNode value);
 
+    /**
+     * Notify this operation that a {@link TreeNode} it has produced has been replaced by a node holding equal data in
+     * a different representation, as done by {@link TreeNode#withData(NormalizedNode, java.util.Map)}. Operations which
+     * keep state associated with {@code oldNode} should associate it with {@code newNode}. Default implementation does
+     * nothing.
+     *
+     * @param oldNode replaced node
+     * @param newNode replacement node
+     */
+    void nodeReplaced(final TreeNode oldNode, final TreeNode newNode) {
+        // No-op by default
+    }
+
     abstract ToStringHelper addToStringAttributes(ToStringHelper helper);
 
     @Override
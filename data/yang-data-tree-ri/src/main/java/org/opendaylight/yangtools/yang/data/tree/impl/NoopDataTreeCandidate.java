@@ -71,6 +71,11 @@ final class NoopDataTreeCandidate extends AbstractDataTreeCandidate {
         return ROOT;
     }
 
+    @Override
+    TreeNode getBeforeRoot() {
+        return afterRoot;
+    }
+
     @Override
     TreeNode getTipRoot() {
         return afterRoot;
@@ -39,7 +39,8 @@ final class NormalizedNodeContainerSupport<K extends PathArgument, T extends Nor
     }
 
     NormalizedNodeContainerBuilder<?, ?, ?, T> createBuilder(final NormalizedNode original) {
-        return copyBuilder.apply(cast(original));
+        // Builders cannot be initialized from off-heap entries, hence we need to inflate them
+        return copyBuilder.apply(cast(original instanceof OffHeapMapEntryNode offHeap ? offHeap.inflate() : original));
     }
 
     NormalizedNode createEmptyValue(final NormalizedNode original) {
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.yang.data.api.schema.DistinctNodeContainer;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeConfiguration;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeFactory;
+import org.opendaylight.yangtools.yang.data.tree.api.DataValidationFailedException;
+import org.opendaylight.yangtools.yang.data.tree.spi.SubtreeCodec;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+
+/**
+ * A factory for creating in-memory data trees, which keep map entries which have not been modified recently outside of
+ * the Java heap, serialized via a {@link SubtreeCodec}. Off-heap storage is used only when
+ * {@link DataTreeConfiguration#getOffHeapBudget()} is non-zero, otherwise the resulting data trees are equivalent to
+ * those created by {@link ReferenceDataTreeFactory}.
+ *
+ * <p>Entries are moved off-heap by background tasks, executed by an {@link Executor}, after the commit which made them
+ * cold has completed.
+ */
+public final class OffHeapDataTreeFactory implements DataTreeFactory {
+    private final @NonNull SubtreeCodec codec;
+    private final @NonNull Executor executor;
+
+    /**
+     * Default constructor. Background tasks are executed in the {@link ForkJoinPool#commonPool()}.
+     *
+     * @param codec {@link SubtreeCodec} to use for serializing subtrees
+     */
+    public OffHeapDataTreeFactory(final SubtreeCodec codec) {
+        this(codec, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor allowing the {@link Executor} for background tasks to be specified.
+     *
+     * @param codec {@link SubtreeCodec} to use for serializing subtrees
+     * @param executor {@link Executor} to use for background tasks
+     */
+    public OffHeapDataTreeFactory(final SubtreeCodec codec, final Executor executor) {
+        this.codec = requireNonNull(codec);
+        this.executor = requireNonNull(executor);
+    }
+
+    @Override
+    @Deprecated
+    public InMemoryDataTree create(final DataTreeConfiguration treeConfig) {
+        return ReferenceDataTreeFactory.createDataTree(treeConfig);
+    }
+
+    @Override
+    public InMemoryDataTree create(final DataTreeConfiguration treeConfig,
+            final EffectiveModelContext initialSchemaContext) {
+        return ReferenceDataTreeFactory.createDataTree(treeConfig, initialSchemaContext, true,
+            createStore(treeConfig));
+    }
+
+    @Override
+    public InMemoryDataTree create(final DataTreeConfiguration treeConfig,
+            final EffectiveModelContext initialSchemaContext, final DistinctNodeContainer<?, ?> initialRoot)
+                throws DataValidationFailedException {
+        return ReferenceDataTreeFactory.populateDataTree(ReferenceDataTreeFactory.createDataTree(treeConfig,
+            initialSchemaContext, false, createStore(treeConfig)), initialRoot);
+    }
+
+    private @Nullable OffHeapStore createStore(final DataTreeConfiguration treeConfig) {
+        final long budget = treeConfig.getOffHeapBudget();
+        return budget > 0 ? new OffHeapStore(codec, executor, budget) : null;
+    }
+}
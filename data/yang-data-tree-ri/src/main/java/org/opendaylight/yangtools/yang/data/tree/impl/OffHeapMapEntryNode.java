@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.base.MoreObjects.ToStringHelper;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.SoftReference;
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.AbstractMapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.DataContainerChild;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.tree.spi.SubtreeCodec;
+
+/**
+ * A {@link MapEntryNode} whose body is held in a direct {@link ByteBuffer}, encoded by a {@link SubtreeCodec}. The body
+ * is inflated on access and cached through a {@link SoftReference}, so it can be reclaimed under memory pressure.
+ */
+final class OffHeapMapEntryNode extends AbstractMapEntryNode {
+    /**
+     * An {@link InputStream} reading from a {@link ByteBuffer}.
+     */
+    private static final class BufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        BufferInputStream(final ByteBuffer buffer) {
+            this.buffer = requireNonNull(buffer);
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(final byte[] bytes, final int off, final int len) {
+            if (len == 0) {
+                return 0;
+            }
+            final int remaining = buffer.remaining();
+            if (remaining == 0) {
+                return -1;
+            }
+            final int count = Math.min(len, remaining);
+            buffer.get(bytes, off, count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+
+    private final @NonNull NodeIdentifierWithPredicates name;
+    private final @NonNull SubtreeCodec codec;
+    private final @NonNull ByteBuffer buffer;
+    private final int valueHashCode;
+
+    private volatile SoftReference<MapEntryNode> inflated;
+
+    OffHeapMapEntryNode(final MapEntryNode entry, final SubtreeCodec codec, final ByteBuffer buffer) {
+        name = entry.name();
+        this.codec = requireNonNull(codec);
+        this.buffer = requireNonNull(buffer);
+        // Retain the hash code of the original entry, as implementations differ in how they compute it
+        valueHashCode = entry.hashCode() - 31 * name.hashCode();
+    }
+
+    @Override
+    public NodeIdentifierWithPredicates name() {
+        return name;
+    }
+
+    @Override
+    public DataContainerChild childByArg(final NodeIdentifier child) {
+        return inflate().childByArg(child);
+    }
+
+    @Override
+    public Collection<DataContainerChild> body() {
+        return inflate().body();
+    }
+
+    @Override
+    public int size() {
+        return inflate().size();
+    }
+
+    @Override
+    protected int valueHashCode() {
+        return valueHashCode;
+    }
+
+    @Override
+    protected boolean valueEquals(final MapEntryNode other) {
+        return inflate().equals(other);
+    }
+
+    @Override
+    protected ToStringHelper addToStringAttributes(final ToStringHelper toStringHelper) {
+        // Do not inflate just for the purposes of toString()
+        return toStringHelper.add("name", name).add("offHeap", buffer.capacity());
+    }
+
+    /**
+     * Return the entry this node holds, reading it from off-heap storage if it is not cached.
+     *
+     * @return inflated entry
+     * @throws IllegalStateException if the entry cannot be read
+     */
+    @NonNull MapEntryNode inflate() {
+        final var ref = inflated;
+        if (ref != null) {
+            final var cached = ref.get();
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        final var input = new DataInputStream(new BufferInputStream(buffer.duplicate()));
+        final MapEntryNode entry;
+        try {
+            if (!(codec.readSubtree(input) instanceof MapEntryNode read) || !name.equals(read.name())) {
+                throw new IllegalStateException("Off-heap storage of " + name + " holds unexpected data");
+            }
+            entry = read;
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read off-heap storage of " + name, e);
+        }
+
+        inflated = new SoftReference<>(entry);
+        return entry;
+    }
+}
@@ -0,0 +1,330 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.ChoiceNode;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.DataContainerChild;
+import org.opendaylight.yangtools.yang.data.api.schema.DataContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode.BuilderFactory;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNodeContainer;
+import org.opendaylight.yangtools.yang.data.api.schema.SystemMapNode;
+import org.opendaylight.yangtools.yang.data.api.schema.UserMapNode;
+import org.opendaylight.yangtools.yang.data.spi.node.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidateNode;
+import org.opendaylight.yangtools.yang.data.tree.impl.node.TreeNode;
+import org.opendaylight.yangtools.yang.data.tree.impl.node.Version;
+import org.opendaylight.yangtools.yang.data.tree.spi.SubtreeCodec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Off-heap storage of cold {@link MapEntryNode}s. Each committed candidate forms a generation, recording the subtrees
+ * it has written along with the {@link Version} it was committed with. Once a generation is older than
+ * {@link #HOT_GENERATIONS}, the map entries in its subtrees which still carry its version, i.e. have not been touched
+ * since, are serialized into direct {@link ByteBuffer}s and replaced by {@link OffHeapMapEntryNode}s in the data tree,
+ * as long as the total size of such buffers fits into the configured budget. The budget is replenished as soon as an
+ * {@link OffHeapMapEntryNode} becomes unreachable.
+ *
+ * <p>Offloading is performed by a background task, outside of the commit path. Replacing entries does not constitute
+ * a modification: the resulting tree holds equal data and retains all {@link TreeNode} versions. Any replaced
+ * {@link TreeNode} is reported to the corresponding {@link ModificationApplyOperation}, so that state associated with
+ * it is retained.
+ */
+final class OffHeapStore {
+    /**
+     * Subtrees written by a committed candidate.
+     *
+     * @param version version the candidate was committed with
+     * @param subtrees paths of written subtrees
+     */
+    record Generation(@NonNull Version version, @NonNull ImmutableList<YangInstanceIdentifier> subtrees) {
+        Generation {
+            requireNonNull(version);
+            requireNonNull(subtrees);
+        }
+    }
+
+    /**
+     * A trie of written subtrees, indexed by {@link PathArgument}s.
+     */
+    private static final class Trie {
+        final Map<PathArgument, Trie> children = new HashMap<>();
+        boolean written;
+    }
+
+    private static final Logger LOG = LoggerFactory.getLogger(OffHeapStore.class);
+    private static final BuilderFactory BUILDERS = ImmutableNodes.builderFactory();
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    /**
+     * Number of subsequent commits a written map entry is considered hot, i.e. likely to be accessed or modified.
+     */
+    static final int HOT_GENERATIONS = 16;
+
+    private final ArrayDeque<Generation> generations = new ArrayDeque<>(HOT_GENERATIONS + 1);
+    private final AtomicLong usedBytes = new AtomicLong();
+    private final @NonNull SubtreeCodec codec;
+    private final @NonNull Executor executor;
+    private final long budget;
+
+    OffHeapStore(final SubtreeCodec codec, final Executor executor, final long budget) {
+        this.codec = requireNonNull(codec);
+        // Offload tasks build on each other's results, hence they need to run one at a time
+        this.executor = MoreExecutors.newSequentialExecutor(executor);
+        if (budget <= 0) {
+            throw new IllegalArgumentException("Invalid budget " + budget);
+        }
+        this.budget = budget;
+    }
+
+    /**
+     * Return the number of bytes currently held in off-heap storage.
+     *
+     * @return number of bytes
+     */
+    long usedBytes() {
+        return usedBytes.get();
+    }
+
+    /**
+     * Record a committed candidate.
+     *
+     * @param candidateRoot root node of the candidate
+     * @param version version the candidate was committed with
+     * @return the generation which has become cold, or {@code null}
+     */
+    synchronized @Nullable Generation committed(final DataTreeCandidateNode candidateRoot, final Version version) {
+        final var written = ImmutableList.<YangInstanceIdentifier>builder();
+        collectWritten(written, YangInstanceIdentifier.of(), candidateRoot);
+        generations.addLast(new Generation(version, written.build()));
+        if (generations.size() <= HOT_GENERATIONS) {
+            return null;
+        }
+
+        final var cold = generations.removeFirst();
+        return cold.subtrees().isEmpty() ? null : cold;
+    }
+
+    /**
+     * Schedule a task offloading some generations.
+     *
+     * @param task task to execute
+     */
+    void schedule(final Runnable task) {
+        executor.execute(task);
+    }
+
+    /**
+     * Offload cold entries of specified generations.
+     *
+     * @param root root {@link TreeNode}
+     * @param operation {@link ModificationApplyOperation} corresponding to {@code root}
+     * @param cold cold generations
+     * @return root {@link TreeNode} to use instead of {@code root}, or {@code null} if there is no change
+     */
+    @Nullable TreeNode offload(final TreeNode root, final @Nullable ModificationApplyOperation operation,
+            final List<Generation> cold) {
+        var current = root;
+        for (var generation : cold) {
+            final var trie = new Trie();
+            for (var path : generation.subtrees()) {
+                var node = trie;
+                for (var arg : path.getPathArguments()) {
+                    node = node.children.computeIfAbsent(arg, ignored -> new Trie());
+                }
+                node.written = true;
+            }
+
+            final var newRoot = offload(current, operation, trie, generation.version());
+            if (newRoot != null) {
+                current = newRoot;
+            }
+        }
+
+        if (current == root) {
+            return null;
+        }
+        LOG.debug("Offloaded entries written {} commits ago, {} bytes in use", HOT_GENERATIONS, usedBytes);
+        return current;
+    }
+
+    private @Nullable TreeNode offload(final TreeNode node, final @Nullable ModificationApplyOperation operation,
+            final Trie trie, final Version version) {
+        if (trie.written) {
+            return offloadSubtree(node, operation, version);
+        }
+
+        final var replacedChildren = new HashMap<PathArgument, TreeNode>();
+        for (var entry : trie.children.entrySet()) {
+            final var arg = entry.getKey();
+            final var child = node.childByArg(arg);
+            if (child != null) {
+                final var newChild = offload(child, childOperation(operation, arg), entry.getValue(), version);
+                if (newChild != null) {
+                    replacedChildren.put(arg, newChild);
+                }
+            }
+        }
+        return replaceChildren(node, operation, replacedChildren);
+    }
+
+    private @Nullable TreeNode offloadSubtree(final TreeNode node, final @Nullable ModificationApplyOperation operation,
+            final Version version) {
+        final var data = node.data();
+        if (data instanceof MapEntryNode entry) {
+            // Entry must have been written by the generation and not modified since
+            return !(entry instanceof OffHeapMapEntryNode) && node.incarnation().equals(version)
+                && node.subtreeVersion().equals(version) ? offloadEntry(node, entry) : null;
+        }
+        if (!(data instanceof DataContainerNode) && !(data instanceof MapNode)) {
+            // Cannot contain map entries
+            return null;
+        }
+
+        final var replacedChildren = new HashMap<PathArgument, TreeNode>();
+        for (var childData : ((NormalizedNodeContainer<?>) data).body()) {
+            final var arg = childData.name();
+            final var child = node.childByArg(arg);
+            if (child != null) {
+                final var newChild = offloadSubtree(child, childOperation(operation, arg), version);
+                if (newChild != null) {
+                    replacedChildren.put(arg, newChild);
+                }
+            }
+        }
+        return replaceChildren(node, operation, replacedChildren);
+    }
+
+    private @Nullable TreeNode offloadEntry(final TreeNode node, final MapEntryNode entry) {
+        final var offHeap = deflate(entry);
+        return offHeap == null ? null : TreeNode.of(offHeap, node.incarnation());
+    }
+
+    private @Nullable OffHeapMapEntryNode deflate(final MapEntryNode entry) {
+        final var bos = new ByteArrayOutputStream();
+        try (var out = new DataOutputStream(bos)) {
+            codec.writeSubtree(out, entry);
+        } catch (IOException e) {
+            LOG.warn("Failed to serialize {}, retaining it on heap", entry.name(), e);
+            return null;
+        }
+
+        final int size = bos.size();
+        long used;
+        do {
+            used = usedBytes.get();
+            if (used + size > budget) {
+                LOG.trace("Budget exhausted, retaining {} on heap", entry.name());
+                return null;
+            }
+        } while (!usedBytes.compareAndSet(used, used + size));
+
+        final var buffer = ByteBuffer.allocateDirect(size).put(bos.toByteArray()).flip();
+        final var ret = new OffHeapMapEntryNode(entry, codec, buffer);
+        CLEANER.register(ret, () -> usedBytes.addAndGet(-size));
+        return ret;
+    }
+
+    private static @Nullable ModificationApplyOperation childOperation(
+            final @Nullable ModificationApplyOperation operation, final PathArgument arg) {
+        return operation == null ? null : operation.childByArg(arg);
+    }
+
+    private static @Nullable TreeNode replaceChildren(final TreeNode node,
+            final @Nullable ModificationApplyOperation operation, final Map<PathArgument, TreeNode> replacedChildren) {
+        if (replacedChildren.isEmpty()) {
+            return null;
+        }
+        final var newData = replaceChildren(node.data(), replacedChildren.values());
+        if (newData == null) {
+            return null;
+        }
+
+        final var ret = node.withData(newData, replacedChildren);
+        if (operation != null) {
+            operation.nodeReplaced(node, ret);
+        }
+        return ret;
+    }
+
+    private static @Nullable NormalizedNode replaceChildren(final NormalizedNode data,
+            final Iterable<TreeNode> children) {
+        return switch (data) {
+            case ContainerNode container -> {
+                final var builder = BUILDERS.newContainerBuilder(container);
+                children.forEach(child -> builder.withChild((DataContainerChild) child.data()));
+                yield builder.build();
+            }
+            case MapEntryNode entry -> {
+                final var builder = BUILDERS.newMapEntryBuilder(entry);
+                children.forEach(child -> builder.withChild((DataContainerChild) child.data()));
+                yield builder.build();
+            }
+            case ChoiceNode choice -> {
+                final var builder = BUILDERS.newChoiceBuilder(choice);
+                children.forEach(child -> builder.withChild((DataContainerChild) child.data()));
+                yield builder.build();
+            }
+            case SystemMapNode map -> {
+                final var builder = BUILDERS.newSystemMapBuilder(map);
+                children.forEach(child -> builder.withChild((MapEntryNode) child.data()));
+                yield builder.build();
+            }
+            case UserMapNode map -> {
+                final var builder = BUILDERS.newUserMapBuilder(map);
+                children.forEach(child -> builder.withChild((MapEntryNode) child.data()));
+                yield builder.build();
+            }
+            default -> null;
+        };
+    }
+
+    private static void collectWritten(final ImmutableList.Builder<YangInstanceIdentifier> written,
+            final YangInstanceIdentifier path, final DataTreeCandidateNode node) {
+        switch (node.modificationType()) {
+            case WRITE, APPEARED -> written.add(path);
+            case SUBTREE_MODIFIED -> {
+                for (var child : node.childNodes()) {
+                    collectWritten(written, path.node(child.name()), child);
+                }
+            }
+            default -> {
+                // No data written
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("budget", budget).add("used", usedBytes).toString();
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Support for processing independent children of a node in parallel. Children are split into ranges, which are
+ * processed by {@link RecursiveAction}s in the common {@link ForkJoinPool}.
+ *
+ * <p>Results are reported in the order of children. If processing of multiple children fails, the failure of the first
+ * failing child is reported, so that error reporting does not depend on scheduling and is the same as if children were
+ * processed sequentially.
+ */
+@NonNullByDefault
+final class ParallelChildren {
+    /**
+     * A function processing a single child.
+     *
+     * @param <T> child type
+     * @param <R> result type
+     * @param <X> checked exception type
+     */
+    @FunctionalInterface
+    interface ChildFunction<T, R, X extends Exception> {
+
+        @Nullable R apply(T child) throws X;
+    }
+
+    @SuppressWarnings("serial")
+    private static final class RangeAction<T, R, X extends Exception> extends RecursiveAction {
+        private final ChildFunction<T, R, X> function;
+        private final AtomicInteger firstFailure;
+        private final @Nullable Object[] results;
+        private final Exception[] failures;
+        private final List<T> children;
+        private final int leafSize;
+        private final int from;
+        private final int to;
+
+        RangeAction(final List<T> children, final ChildFunction<T, R, X> function, final @Nullable Object[] results,
+                final Exception[] failures, final AtomicInteger firstFailure, final int leafSize, final int from,
+                final int to) {
+            this.children = children;
+            this.function = function;
+            this.results = results;
+            this.failures = failures;
+            this.firstFailure = firstFailure;
+            this.leafSize = leafSize;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > leafSize) {
+                final int mid = from + to >>> 1;
+                invokeAll(
+                    new RangeAction<>(children, function, results, failures, firstFailure, leafSize, from, mid),
+                    new RangeAction<>(children, function, results, failures, firstFailure, leafSize, mid, to));
+                return;
+            }
+
+            // Children past a known failure are not processed, as their failures would not be reported anyway
+            for (int i = from; i < to && i < firstFailure.get(); ++i) {
+                try {
+                    results[i] = function.apply(children.get(i));
+                } catch (Exception e) {
+                    failures[i] = e;
+                    firstFailure.accumulateAndGet(i, Math::min);
+                    return;
+                }
+            }
+        }
+    }
+
+    private ParallelChildren() {
+        // Hidden on purpose
+    }
+
+    /**
+     * Apply a function to all children, potentially in parallel.
+     *
+     * @param <T> child type
+     * @param <R> result type
+     * @param <X> checked exception type
+     * @param children children to process
+     * @param function function to apply
+     * @return results of the function, in the order of {@code children}
+     * @throws X if the function fails for any child, reporting the failure of first such child
+     */
+    @SuppressWarnings("unchecked")
+    static <T, R, X extends Exception> List<@Nullable R> apply(final List<T> children,
+            final ChildFunction<T, R, X> function) throws X {
+        final int size = children.size();
+        final var results = new @Nullable Object[size];
+        final var failures = new Exception[size];
+        final var firstFailure = new AtomicInteger(Integer.MAX_VALUE);
+        // Aim for a few ranges per worker, so that the load evens out
+        final int leafSize = Math.max(1, size / (4 * ForkJoinPool.getCommonPoolParallelism()));
+
+        new RangeAction<>(children, requireNonNull(function), results, failures, firstFailure, leafSize, 0, size)
+            .invoke();
+
+        final int failed = firstFailure.get();
+        if (failed != Integer.MAX_VALUE) {
+            final var failure = failures[failed];
+            if (failure instanceof RuntimeException rte) {
+                throw rte;
+            }
+            throw (X) failure;
+        }
+        return (List<@Nullable R>) Arrays.asList(results);
+    }
+}
@@ -8,6 +8,7 @@
 package org.opendaylight.yangtools.yang.data.tree.impl;
 
 import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
 import org.kohsuke.MetaInfServices;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
@@ -58,40 +59,48 @@ public final class ReferenceDataTreeFactory implements DataTreeFactory {
     @Override
     @Deprecated
     public InMemoryDataTree create(final DataTreeConfiguration treeConfig) {
-        return new InMemoryDataTree(TreeNode.of(createRoot(treeConfig.getRootPath()),
-            Version.initial(treeConfig.isVersionInfoTrackingEnabled())), treeConfig, null);
+        return createDataTree(treeConfig);
     }
 
     @Override
     public InMemoryDataTree create(final DataTreeConfiguration treeConfig,
             final EffectiveModelContext initialSchemaContext) {
-        return createDataTree(treeConfig, initialSchemaContext, true);
+        return createDataTree(treeConfig, initialSchemaContext, true, null);
     }
 
     @Override
     public InMemoryDataTree create(final DataTreeConfiguration treeConfig,
             final EffectiveModelContext initialSchemaContext, final DistinctNodeContainer<?, ?> initialRoot)
                 throws DataValidationFailedException {
-        final var ret = createDataTree(treeConfig, initialSchemaContext, false);
-
-        final var mod = ret.takeSnapshot().newModification();
-        mod.write(YangInstanceIdentifier.of(), initialRoot);
-        mod.ready();
+        return populateDataTree(createDataTree(treeConfig, initialSchemaContext, false, null), initialRoot);
+    }
 
-        ret.validate(mod);
-        final var candidate = ret.prepare(mod);
-        ret.commit(candidate);
-        return ret;
+    static @NonNull InMemoryDataTree createDataTree(final DataTreeConfiguration treeConfig) {
+        return new InMemoryDataTree(TreeNode.of(createRoot(treeConfig.getRootPath()),
+            Version.initial(treeConfig.isVersionInfoTrackingEnabled())), treeConfig, null);
     }
 
-    private static @NonNull InMemoryDataTree createDataTree(final DataTreeConfiguration treeConfig,
-            final EffectiveModelContext initialSchemaContext, final boolean maskMandatory) {
+    static @NonNull InMemoryDataTree createDataTree(final DataTreeConfiguration treeConfig,
+            final EffectiveModelContext initialSchemaContext, final boolean maskMandatory,
+            final @Nullable OffHeapStore offHeapStore) {
         final var rootPath = treeConfig.getRootPath();
         final var rootSchemaNode = getRootSchemaNode(initialSchemaContext, rootPath);
         final var rootDataNode = createRoot((DataNodeContainer) rootSchemaNode, rootPath);
         return new InMemoryDataTree(
             TreeNode.of(rootDataNode, Version.initial(treeConfig.isVersionInfoTrackingEnabled())), treeConfig,
-            initialSchemaContext, rootSchemaNode, maskMandatory);
+            initialSchemaContext, rootSchemaNode, maskMandatory, offHeapStore);
+    }
+
+    static @NonNull InMemoryDataTree populateDataTree(final InMemoryDataTree dataTree,
+            final DistinctNodeContainer<?, ?> initialRoot) throws DataValidationFailedException {
+        final var mod = dataTree.takeSnapshot().newModification();
+        mod.write(YangInstanceIdentifier.of(), initialRoot);
+        mod.ready();
+
+        dataTree.validate(mod);
+        final var candidate = dataTree.prepare(mod);
+        dataTree.commit(candidate);
+        return dataTree;
     }
 
     private static @NonNull NormalizedNode createRoot(final DataNodeContainer schemaNode,
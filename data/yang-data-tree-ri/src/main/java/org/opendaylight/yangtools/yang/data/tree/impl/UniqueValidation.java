@@ -15,18 +15,27 @@ import com.google.common.base.Stopwatch;
 import com.google.common.base.VerifyException;
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.MapMaker;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentMap;
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
 import org.opendaylight.yangtools.yang.data.api.schema.DataContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNodeContainer;
 import org.opendaylight.yangtools.yang.data.tree.api.DataTreeConfiguration;
 import org.opendaylight.yangtools.yang.data.tree.api.UniqueConstraintException;
+import org.opendaylight.yangtools.yang.data.tree.impl.node.TreeNode;
 import org.opendaylight.yangtools.yang.model.api.DataNodeContainer;
 import org.opendaylight.yangtools.yang.model.api.ListSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.TypedDataSchemaNode;
@@ -37,11 +46,20 @@ import org.slf4j.LoggerFactory;
 /**
  * A {@link AbstractValidation} which ensures a particular {@code list} node complies with its {@code unique}
  * constraints.
+ *
+ * <p>For keyed lists, each validated {@link TreeNode} is associated with a {@link MapUniqueIndex} for each of the
+ * constraints. When a modification is applied to such a node, the indices are updated with the entries the modification
+ * has touched, hence the cost of enforcement is proportional to the size of the modification rather than the size of
+ * the list. Entries which do not have all the leaves referenced by a constraint are not subject to it, as per
+ * <a href="https://www.rfc-editor.org/rfc/rfc7950#section-7.8.3">RFC7950 section 7.8.3</a>.
  */
 final class UniqueValidation extends AbstractValidation {
     private static final Logger LOG = LoggerFactory.getLogger(UniqueValidation.class);
 
     private final @NonNull ImmutableList<UniqueValidator<?>> validators;
+    // Indices of TreeNodes we have validated, in the order of validators. Weak keys mean that identity is used and
+    // indices do not outlive the TreeNodes they belong to.
+    private final ConcurrentMap<TreeNode, ImmutableList<MapUniqueIndex>> indices = new MapMaker().weakKeys().makeMap();
 
     private UniqueValidation(final ModificationApplyOperation delegate,
             final ImmutableList<UniqueValidator<?>> validators) {
@@ -100,12 +118,9 @@ final class UniqueValidation extends AbstractValidation {
 
             final var valueCache = new HashMap<List<NodeIdentifier>, Object>();
             for (var validator : validators) {
-                final Object values = validator.extractValues(valueCache, cont);
-                final Object masked = BinaryValue.wrap(values);
-                if (!collected.put(validator, masked)) {
-                    final var index = validator.indexValues(values);
-                    throw exceptionSupplier.get(cont.name()
-                        + " violates unique constraint on " + masked + " of " + index.keySet(), index);
+                final var values = extractValues(validator, valueCache, cont);
+                if (values != null && !collected.put(validator, BinaryValue.wrap(values))) {
+                    throw violation(exceptionSupplier, validator, values, cont.name());
                 }
             }
         }
@@ -113,6 +128,178 @@ final class UniqueValidation extends AbstractValidation {
         LOG.trace("Enforced {} validators in {}", validators.size(), sw);
     }
 
+    @Override
+    void enforceOnResult(final ModificationPath path, final ModifiedNode modification,
+            final @Nullable TreeNode currentMeta, final TreeNode result) throws UniqueConstraintException {
+        enforceOnResult(modification, currentMeta, result,
+            (message, values) -> new UniqueConstraintException(path.toInstanceIdentifier(), values, message));
+    }
+
+    @Override
+    void enforceOnResult(final ModifiedNode modification, final @Nullable TreeNode currentMeta,
+            final TreeNode result) {
+        enforceOnResult(modification, currentMeta, result,
+            (message, values) -> new UniqueValidationFailedException(message));
+    }
+
+    @Override
+    void nodeReplaced(final TreeNode oldNode, final TreeNode newNode) {
+        // The data is equal, hence so are the indices
+        final var index = indices.get(oldNode);
+        if (index != null) {
+            indices.putIfAbsent(newNode, index);
+        }
+        super.nodeReplaced(oldNode, newNode);
+    }
+
+    private <T extends @NonNull Exception> void enforceOnResult(final ModifiedNode modification,
+            final @Nullable TreeNode currentMeta, final TreeNode result, final ExceptionSupplier<T> exceptionSupplier)
+                throws T {
+        if (!(result.data() instanceof MapNode map)) {
+            // Not a keyed list, we cannot index it
+            enforceOnData(result.data(), exceptionSupplier);
+            return;
+        }
+        if (indices.containsKey(result)) {
+            // Already validated, for example by checkApplicable() before apply(), or an unmodified node
+            return;
+        }
+
+        final var sw = Stopwatch.createStarted();
+        final var base = currentMeta == null ? null : indices.get(currentMeta);
+        final ImmutableList<MapUniqueIndex> updated;
+        if (base != null && isIncremental(modification)) {
+            final var children = modification.modifiedChildren();
+            updated = updateIndices(base, children, currentMeta, result, exceptionSupplier);
+            LOG.trace("Updated {} indices with {} entries in {}", validators.size(), children.size(), sw);
+        } else {
+            updated = buildIndices(map, exceptionSupplier);
+            LOG.trace("Built {} indices of {} entries in {}", validators.size(), map.size(), sw);
+        }
+        indices.put(result, updated);
+    }
+
+    /**
+     * Check whether the effects of a modification are limited to its child modifications. This is true for
+     * {@link LogicalOperation#TOUCH} and {@link LogicalOperation#MERGE}, as merged entries are tracked as child
+     * modifications when the merge is applied. Any other operation may have replaced the entire list.
+     *
+     * @param modification modification to examine
+     * @return {@code true} if only entries recorded as child modifications may have changed
+     */
+    private static boolean isIncremental(final ModifiedNode modification) {
+        return switch (modification.getOperation()) {
+            case TOUCH, MERGE -> true;
+            default -> false;
+        };
+    }
+
+    private <T extends @NonNull Exception> ImmutableList<MapUniqueIndex> buildIndices(final MapNode map,
+            final ExceptionSupplier<T> exceptionSupplier) throws T {
+        final var builders = new ArrayList<MapUniqueIndex.Builder>(validators.size());
+        for (int i = 0; i < validators.size(); ++i) {
+            builders.add(MapUniqueIndex.builder());
+        }
+
+        for (var entry : map.body()) {
+            final var valueCache = new HashMap<List<NodeIdentifier>, Object>();
+            for (int i = 0; i < validators.size(); ++i) {
+                final var values = extractValues(validators.get(i), valueCache, entry);
+                if (values != null) {
+                    builders.get(i).addUniqueValues(values, entry.name());
+                }
+            }
+        }
+        return buildIndices(builders, exceptionSupplier);
+    }
+
+    private <T extends @NonNull Exception> ImmutableList<MapUniqueIndex> updateIndices(
+            final ImmutableList<MapUniqueIndex> base, final Collection<ModifiedNode> children,
+            final TreeNode currentMeta, final TreeNode result, final ExceptionSupplier<T> exceptionSupplier)
+                throws T {
+        final var builders = new ArrayList<MapUniqueIndex.Builder>(validators.size());
+        for (var index : base) {
+            builders.add(index.toBuilder());
+        }
+
+        for (var child : children) {
+            final var key = (NodeIdentifierWithPredicates) child.getIdentifier();
+            final var before = entryOf(currentMeta.childByArg(key));
+            final var after = entryOf(result.childByArg(key));
+            if (before == after) {
+                // Not modified
+                continue;
+            }
+
+            final var beforeCache = new HashMap<List<NodeIdentifier>, Object>();
+            final var afterCache = new HashMap<List<NodeIdentifier>, Object>();
+            for (int i = 0; i < validators.size(); ++i) {
+                final var validator = validators.get(i);
+                final var beforeValues = before == null ? null : extractValues(validator, beforeCache, before);
+                final var afterValues = after == null ? null : extractValues(validator, afterCache, after);
+                if (!Objects.equals(BinaryValue.wrap(beforeValues), BinaryValue.wrap(afterValues))) {
+                    final var builder = builders.get(i);
+                    if (beforeValues != null) {
+                        builder.removeUniqueValues(beforeValues, key);
+                    }
+                    if (afterValues != null) {
+                        builder.addUniqueValues(afterValues, key);
+                    }
+                }
+            }
+        }
+        return buildIndices(builders, exceptionSupplier);
+    }
+
+    private <T extends @NonNull Exception> ImmutableList<MapUniqueIndex> buildIndices(
+            final List<MapUniqueIndex.Builder> builders, final ExceptionSupplier<T> exceptionSupplier) throws T {
+        final var ret = ImmutableList.<MapUniqueIndex>builderWithExpectedSize(validators.size());
+        for (int i = 0; i < validators.size(); ++i) {
+            final var validator = validators.get(i);
+            ret.add(builders.get(i).build((values, key) -> violation(exceptionSupplier, validator, values, key)));
+        }
+        return ret.build();
+    }
+
+    private static @Nullable MapEntryNode entryOf(final @Nullable TreeNode node) {
+        if (node == null) {
+            return null;
+        }
+        if (node.data() instanceof MapEntryNode entry) {
+            return entry;
+        }
+        throw new VerifyException("Unexpected child " + node.data());
+    }
+
+    /**
+     * Extract the values a {@link UniqueValidator} applies to. If any of the values is not present, the entry is not
+     * subject to the constraint and this method returns {@code null}.
+     *
+     * @param validator the validator
+     * @param valueCache Cache of descendants already looked up
+     * @param entry the list entry
+     * @return Value vector, or {@code null} if the entry is not subject to the constraint
+     */
+    private static @Nullable Object extractValues(final UniqueValidator<?> validator,
+            final Map<List<NodeIdentifier>, Object> valueCache, final DataContainerNode entry) {
+        final var values = validator.extractValues(valueCache, entry);
+        if (values instanceof UniqueValues multiple) {
+            for (var value : multiple) {
+                if (value == null) {
+                    return null;
+                }
+            }
+        }
+        return values;
+    }
+
+    private static <T extends @NonNull Exception> T violation(final ExceptionSupplier<T> exceptionSupplier,
+            final UniqueValidator<?> validator, final Object values, final Object entryName) {
+        final var index = validator.indexValues(values);
+        return exceptionSupplier.get(entryName + " violates unique constraint on " + BinaryValue.wrap(values) + " of "
+            + index.keySet(), index);
+    }
+
     @Override
     ToStringHelper addToStringAttributes(final ToStringHelper helper) {
         return super.addToStringAttributes(helper.add("validators", validators));
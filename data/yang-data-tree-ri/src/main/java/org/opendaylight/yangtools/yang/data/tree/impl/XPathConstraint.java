@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.xpath.XPathExpressionException;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.yang.common.QNameModule;
+import org.opendaylight.yangtools.yang.data.tree.api.XPathConstraintException;
+import org.opendaylight.yangtools.yang.data.tree.impl.XPathSchemaTree.Node;
+import org.opendaylight.yangtools.yang.model.api.MustDefinition;
+import org.opendaylight.yangtools.yang.xpath.api.YangXPathExpression.QualifiedBound;
+
+/**
+ * A compiled {@code must} or {@code when} statement, attached to its context {@link Node}.
+ */
+final class XPathConstraint {
+    // RFC7950 section 15.4
+    private static final String MUST_VIOLATION = "must-violation";
+
+    final @NonNull Node context;
+    // Nodes which need to be present for a 'when' to apply, empty if the constraint always applies
+    final @NonNull ImmutableList<Node> guard;
+    // Highest ancestor-or-self of context, whose subtree contains all data this constraint can access
+    final @NonNull Node anchor;
+    // Nodes whose modification can change the outcome of this constraint
+    final @NonNull ImmutableSet<Node> dependencies;
+
+    private final @NonNull XPathExpr expr;
+    private final @NonNull String source;
+    private final @Nullable String errorMessage;
+    private final @Nullable String appTag;
+    private final boolean must;
+
+    private XPathConstraint(final Node context, final ImmutableList<Node> guard, final QualifiedBound xpath,
+            final QNameModule namespace, final boolean must, final @Nullable String errorMessage,
+            final @Nullable String appTag) throws XPathExpressionException {
+        this.context = requireNonNull(context);
+        this.guard = requireNonNull(guard);
+        this.must = must;
+        this.errorMessage = errorMessage;
+        this.appTag = appTag;
+        source = xpath.toString();
+
+        final var compiler = new XPathExprCompiler(xpath, namespace, context);
+        expr = compiler.compile();
+        anchor = compiler.anchor();
+        dependencies = ImmutableSet.<Node>builder()
+            .add(context)
+            .addAll(guard)
+            .addAll(compiler.dependencies())
+            .build();
+    }
+
+    static @NonNull XPathConstraint ofMust(final Node context, final MustDefinition must)
+            throws XPathExpressionException {
+        return new XPathConstraint(context, ImmutableList.of(), must.getXpath(), namespaceOf(context), true,
+            must.getErrorMessage().orElse(null), must.getErrorAppTag().orElse(MUST_VIOLATION));
+    }
+
+    static @NonNull XPathConstraint ofWhen(final Node context, final QualifiedBound when)
+            throws XPathExpressionException {
+        // RFC7950 section 7.21.5 evaluates the condition on a dummy node, we use the node itself. This makes no
+        // difference unless the condition refers to the node's own value or children.
+        return new XPathConstraint(context, ImmutableList.of(), when, namespaceOf(context), false, null, null);
+    }
+
+    static @NonNull XPathConstraint ofWhen(final XPathSchemaTree.GuardedWhen when) throws XPathExpressionException {
+        return new XPathConstraint(when.context(), when.guard(), when.condition(), when.namespace(), false, null,
+            null);
+    }
+
+    /**
+     * Check this constraint against an instance of {@link #context}.
+     *
+     * @param instance context instance
+     * @throws XPathConstraintException if the constraint is violated
+     */
+    void check(final XPathNode instance) throws XPathConstraintException {
+        if (!guard.isEmpty() && guard.stream().noneMatch(instance::hasChild)) {
+            return;
+        }
+
+        final boolean result;
+        try {
+            result = expr.evaluateBoolean(instance, instance, 1, 1);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            throw new XPathConstraintException(instance.toInstanceIdentifier(),
+                "Failed to evaluate " + kind() + " condition '" + source + "': " + e.getMessage(), errorMessage,
+                appTag);
+        }
+        if (!result) {
+            throw new XPathConstraintException(instance.toInstanceIdentifier(),
+                kind() + " condition '" + source + "' is not satisfied", errorMessage, appTag);
+        }
+    }
+
+    /**
+     * Enumerate all instances of {@link #context} within an instance of one of its ancestors-or-self.
+     *
+     * @param scope scope instance
+     * @return context instances
+     */
+    @NonNull List<XPathNode> contextInstances(final XPathNode scope) {
+        var instances = List.of(scope);
+        for (var node : pathFrom(scope.schema())) {
+            final var next = new ArrayList<XPathNode>();
+            for (var instance : instances) {
+                instance.addChildren(node, next);
+            }
+            if (next.isEmpty()) {
+                return List.of();
+            }
+            instances = next;
+        }
+        return instances;
+    }
+
+    private List<Node> pathFrom(final Node ancestor) {
+        final var ret = new ArrayList<Node>(context.depth - ancestor.depth);
+        for (var node = context; node != ancestor; node = node.parent) {
+            ret.add(node);
+        }
+        return ret.reversed();
+    }
+
+    private String kind() {
+        return must ? "Must" : "When";
+    }
+
+    private static QNameModule namespaceOf(final Node node) {
+        return requireNonNull(node.qname()).getModule();
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("context", context).add(must ? "must" : "when", source)
+            .toString();
+    }
+}
@@ -0,0 +1,277 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.base.MoreObjects.ToStringHelper;
+import com.google.common.collect.ImmutableList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import javax.xml.xpath.XPathExpressionException;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.tree.api.XPathConstraintException;
+import org.opendaylight.yangtools.yang.data.tree.impl.XPathSchemaTree.Choice;
+import org.opendaylight.yangtools.yang.data.tree.impl.XPathSchemaTree.Level;
+import org.opendaylight.yangtools.yang.data.tree.impl.XPathSchemaTree.Node;
+import org.opendaylight.yangtools.yang.data.tree.impl.node.TreeNode;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.api.MustConstraintAware;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link AbstractValidation} which enforces {@code must} and {@code when} statements of an
+ * {@link EffectiveModelContext} on the entire data tree.
+ *
+ * <p>All statements are compiled into {@link XPathConstraint}s when this validation is instantiated, which is once for
+ * each {@link EffectiveModelContext}. Compilation also determines which schema nodes each constraint depends on, so
+ * that a modification triggers re-evaluation only of constraints depending on the schema nodes it has touched. The
+ * re-evaluation is further restricted to the instance of the constraint's {@link XPathConstraint#anchor} which contains
+ * the touched data.
+ *
+ * <p>Statements using XPath constructs not supported by {@link XPathExprCompiler} are not enforced, which is reported
+ * when this validation is instantiated.
+ */
+final class XPathConstraintValidation extends AbstractValidation {
+    private static final Logger LOG = LoggerFactory.getLogger(XPathConstraintValidation.class);
+
+    private final @NonNull XPathSchemaTree tree;
+    private final @NonNull ImmutableList<XPathConstraint> constraints;
+
+    private XPathConstraintValidation(final ModificationApplyOperation delegate, final XPathSchemaTree tree,
+            final ImmutableList<XPathConstraint> constraints) {
+        super(delegate);
+        this.tree = requireNonNull(tree);
+        this.constraints = requireNonNull(constraints);
+    }
+
+    static @NonNull ModificationApplyOperation of(final ModificationApplyOperation delegate,
+            final EffectiveModelContext modelContext) {
+        final var tree = new XPathSchemaTree(modelContext);
+        final var constraints = new ArrayList<XPathConstraint>();
+        for (var node : tree.nodes()) {
+            final var schema = node.schema;
+            if (schema == null) {
+                continue;
+            }
+            if (schema instanceof MustConstraintAware mustAware) {
+                for (var must : mustAware.getMustConstraints()) {
+                    try {
+                        constraints.add(XPathConstraint.ofMust(node, must));
+                    } catch (XPathExpressionException e) {
+                        LOG.warn("Not enforcing must '{}' on {}", must.getXpath(), schema.getQName(), e);
+                    }
+                }
+            }
+            final var when = schema.getWhenCondition();
+            if (when.isPresent()) {
+                try {
+                    constraints.add(XPathConstraint.ofWhen(node, when.orElseThrow()));
+                } catch (XPathExpressionException e) {
+                    LOG.warn("Not enforcing when '{}' on {}", when.orElseThrow(), schema.getQName(), e);
+                }
+            }
+        }
+        for (var when : tree.guardedWhens()) {
+            try {
+                constraints.add(XPathConstraint.ofWhen(when));
+            } catch (XPathExpressionException e) {
+                LOG.warn("Not enforcing when '{}' in {}", when.condition(), when.context(), e);
+            }
+        }
+
+        if (constraints.isEmpty()) {
+            return delegate;
+        }
+
+        for (var constraint : constraints) {
+            constraint.context.constraints.add(constraint);
+            for (var dependency : constraint.dependencies) {
+                dependency.dependents.add(constraint);
+                for (var node = dependency; node != null; node = node.parent) {
+                    node.subtreeDependents.add(constraint);
+                }
+            }
+        }
+        LOG.debug("Enforcing {} must/when constraints", constraints.size());
+        return new XPathConstraintValidation(delegate, tree, ImmutableList.copyOf(constraints));
+    }
+
+    @Override
+    void enforceOnResult(final ModificationPath path, final ModifiedNode modification,
+            final @Nullable TreeNode currentMeta, final TreeNode result) throws XPathConstraintException {
+        final var root = XPathNode.root(tree.root(), result.data());
+        final var scopes = new LinkedHashMap<XPathConstraint, Set<XPathNode>>();
+        switch (modification.getOperation()) {
+            case NONE -> {
+                return;
+            }
+            case TOUCH -> collectScopes(root, tree.root().levels, modification.getChildren(), scopes);
+            default -> touched(tree.root(), root, root, scopes);
+        }
+
+        for (var entry : scopes.entrySet()) {
+            final var constraint = entry.getKey();
+            for (var scope : entry.getValue()) {
+                for (var instance : constraint.contextInstances(scope)) {
+                    constraint.check(instance);
+                }
+            }
+        }
+    }
+
+    @Override
+    void enforceOnData(final ModificationPath path, final NormalizedNode value) throws XPathConstraintException {
+        final var root = XPathNode.root(tree.root(), value);
+        for (var constraint : constraints) {
+            for (var instance : constraint.contextInstances(root)) {
+                constraint.check(instance);
+            }
+        }
+    }
+
+    @Override
+    void enforceOnResult(final ModifiedNode modification, final @Nullable TreeNode currentMeta,
+            final TreeNode result) {
+        // No-op: constraints may refer to any part of the data tree, hence they are enforced only as part of validation
+    }
+
+    @Override
+    void enforceOnData(final NormalizedNode data) {
+        // No-op: constraints may refer to any part of the data tree, hence they are enforced only as part of validation
+    }
+
+    /**
+     * Walk the children of a modified node, collecting scopes of constraints affected by the modification.
+     *
+     * @param instance the instance of the node being walked, as present in the resulting data
+     * @param levels the levels corresponding to {@code children}
+     * @param children child modifications
+     * @param scopes collected scopes
+     */
+    private static void collectScopes(final XPathNode instance, final Map<NodeIdentifier, Level> levels,
+            final Collection<ModifiedNode> children, final Map<XPathConstraint, Set<XPathNode>> scopes) {
+        for (var child : children) {
+            final var operation = child.getOperation();
+            if (operation == LogicalOperation.NONE || !(child.getIdentifier() instanceof NodeIdentifier id)) {
+                continue;
+            }
+            final var level = levels.get(id);
+            if (level == null) {
+                continue;
+            }
+
+            switch (level) {
+                case Choice choice -> {
+                    if (operation == LogicalOperation.TOUCH) {
+                        collectScopes(instance, choice.levels, child.getChildren(), scopes);
+                    } else {
+                        for (var target : choice.nodes) {
+                            touched(target, instance, null, scopes);
+                        }
+                    }
+                }
+                case Node target -> {
+                    final var data = Node.childData(instance.data(), target);
+                    if (data == null) {
+                        touched(target, instance, null, scopes);
+                    } else if (!target.isMultiInstance()) {
+                        final var childInstance = new XPathNode(instance, target, data);
+                        if (operation == LogicalOperation.TOUCH) {
+                            collectScopes(childInstance, target.levels, child.getChildren(), scopes);
+                        } else {
+                            touched(target, instance, childInstance, scopes);
+                        }
+                    } else if (operation == LogicalOperation.TOUCH && data instanceof MapNode entries) {
+                        collectEntryScopes(target, instance, entries, child.getChildren(), scopes);
+                    } else {
+                        touched(target, instance, null, scopes);
+                    }
+                }
+            }
+        }
+    }
+
+    private static void collectEntryScopes(final Node list, final XPathNode parent,
+            final MapNode entries, final Collection<ModifiedNode> children,
+            final Map<XPathConstraint, Set<XPathNode>> scopes) {
+        for (var child : children) {
+            final var operation = child.getOperation();
+            if (operation == LogicalOperation.NONE) {
+                continue;
+            }
+
+            final var entry = child.getIdentifier() instanceof NodeIdentifierWithPredicates id
+                ? entries.childByArg(id) : null;
+            if (entry == null) {
+                touched(list, parent, null, scopes);
+                continue;
+            }
+
+            final var entryInstance = new XPathNode(parent, list, entry);
+            if (operation == LogicalOperation.TOUCH) {
+                collectScopes(entryInstance, list.levels, child.getChildren(), scopes);
+            } else {
+                touched(list, parent, entryInstance, scopes);
+            }
+        }
+    }
+
+    /**
+     * Record a modification of a {@link Node}, recording the scopes of all constraints it affects.
+     *
+     * @param node modified node
+     * @param parent the instance of {@code node}'s parent
+     * @param instance the instance of {@code node}, {@code null} if it is not present or if all instances of
+     *                 {@code node} should be considered modified
+     * @param scopes collected scopes
+     */
+    private static void touched(final Node node, final XPathNode parent, final @Nullable XPathNode instance,
+            final Map<XPathConstraint, Set<XPathNode>> scopes) {
+        // The node and any of its descendants
+        for (var constraint : node.subtreeDependents) {
+            final XPathNode scope;
+            if (constraint.anchor.depth >= node.depth) {
+                // Constraint is wholly contained in the modified subtree
+                scope = instance != null ? instance : parent;
+            } else {
+                scope = parent.ancestorOrSelf(constraint.anchor);
+            }
+            addScope(constraint, scope, scopes);
+        }
+
+        // Ancestors, as their string value has changed
+        for (var ancestor = node.parent; ancestor != null; ancestor = ancestor.parent) {
+            for (var constraint : ancestor.dependents) {
+                addScope(constraint, parent.ancestorOrSelf(constraint.anchor), scopes);
+            }
+        }
+    }
+
+    private static void addScope(final XPathConstraint constraint, final @Nullable XPathNode scope,
+            final Map<XPathConstraint, Set<XPathNode>> scopes) {
+        if (scope != null) {
+            scopes.computeIfAbsent(constraint, unused -> new LinkedHashSet<>()).add(scope);
+        }
+    }
+
+    @Override
+    ToStringHelper addToStringAttributes(final ToStringHelper helper) {
+        return super.addToStringAttributes(helper.add("constraints", constraints.size()));
+    }
+}
@@ -0,0 +1,764 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.tree.impl.XPathSchemaTree.Node;
+import org.opendaylight.yangtools.yang.model.api.TypedDataSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.type.EnumTypeDefinition;
+import org.opendaylight.yangtools.yang.xpath.api.YangBinaryOperator;
+import org.opendaylight.yangtools.yang.xpath.api.YangFunction;
+import org.opendaylight.yangtools.yang.xpath.api.YangXPathAxis;
+
+/**
+ * An XPath expression compiled by {@link XPathExprCompiler} for evaluation on top of {@link XPathNode}s. Evaluation
+ * results follow XPath 1.0 data model: they are either a {@link Boolean}, a {@link Double}, a {@link String} or a
+ * {@link NodeSet}.
+ */
+abstract sealed class XPathExpr {
+    /**
+     * An XPath node-set. Nodes are held in document order.
+     *
+     * @param nodes nodes in this set
+     */
+    record NodeSet(@NonNull List<XPathNode> nodes) {
+        static final @NonNull NodeSet EMPTY = new NodeSet(List.of());
+
+        NodeSet {
+            requireNonNull(nodes);
+        }
+    }
+
+    /**
+     * Evaluate this expression.
+     *
+     * @param current the node returned by {@code current()}
+     * @param node the context node
+     * @param position the context position
+     * @param size the context size
+     * @return evaluation result
+     */
+    abstract @NonNull Object evaluate(XPathNode current, XPathNode node, int position, int size);
+
+    final boolean evaluateBoolean(final XPathNode current, final XPathNode node, final int position,
+            final int size) {
+        return toBoolean(evaluate(current, node, position, size));
+    }
+
+    final @NonNull List<XPathNode> evaluateNodes(final XPathNode current, final XPathNode node, final int position,
+            final int size) {
+        return ((NodeSet) evaluate(current, node, position, size)).nodes;
+    }
+
+    static final class Constant extends XPathExpr {
+        private final @NonNull Object value;
+
+        Constant(final Object value) {
+            this.value = requireNonNull(value);
+        }
+
+        @Override
+        Object evaluate(final XPathNode current, final XPathNode node, final int position, final int size) {
+            return value;
+        }
+    }
+
+    static final class Current extends XPathExpr {
+        static final @NonNull Current INSTANCE = new Current();
+
+        private Current() {
+            // Hidden on purpose
+        }
+
+        @Override
+        Object evaluate(final XPathNode current, final XPathNode node, final int position, final int size) {
+            return new NodeSet(List.of(current));
+        }
+    }
+
+    /**
+     * A location path, optionally starting with a filter expression.
+     */
+    static final class LocationPath extends XPathExpr {
+        private final @Nullable XPathExpr head;
+        private final @NonNull ImmutableList<Step> steps;
+        private final boolean absolute;
+
+        LocationPath(final @Nullable XPathExpr head, final boolean absolute, final ImmutableList<Step> steps) {
+            this.head = head;
+            this.absolute = absolute;
+            this.steps = requireNonNull(steps);
+        }
+
+        @Override
+        Object evaluate(final XPathNode current, final XPathNode node, final int position, final int size) {
+            final var local = head;
+            List<XPathNode> nodes;
+            if (local != null) {
+                nodes = local.evaluateNodes(current, node, position, size);
+            } else if (absolute) {
+                var root = node;
+                for (var parent = root.parent(); parent != null; parent = parent.parent()) {
+                    root = parent;
+                }
+                nodes = List.of(root);
+            } else {
+                nodes = List.of(node);
+            }
+
+            for (var step : steps) {
+                if (nodes.isEmpty()) {
+                    break;
+                }
+                nodes = step.apply(current, nodes);
+            }
+            return nodes.isEmpty() ? NodeSet.EMPTY : new NodeSet(nodes);
+        }
+    }
+
+    /**
+     * A location step. The node test has been resolved to the set of {@link Node}s it can match.
+     */
+    static final class Step {
+        private final @NonNull YangXPathAxis axis;
+        // For child axis: children matching the node test, indexed by parent
+        private final @NonNull ImmutableMap<Node, ImmutableList<Node>> childTargets;
+        // For other axes: nodes matching the node test
+        private final @NonNull ImmutableSet<Node> matching;
+        private final @NonNull ImmutableList<XPathExpr> predicates;
+
+        Step(final YangXPathAxis axis, final ImmutableMap<Node, ImmutableList<Node>> childTargets,
+                final ImmutableSet<Node> matching, final ImmutableList<XPathExpr> predicates) {
+            this.axis = requireNonNull(axis);
+            this.childTargets = requireNonNull(childTargets);
+            this.matching = requireNonNull(matching);
+            this.predicates = requireNonNull(predicates);
+        }
+
+        @NonNull List<XPathNode> apply(final XPathNode current, final List<XPathNode> input) {
+            final var output = new ArrayList<XPathNode>();
+            for (var node : input) {
+                var candidates = candidates(node);
+                for (var predicate : predicates) {
+                    candidates = filter(current, candidates, predicate);
+                }
+                if (isReverse()) {
+                    candidates = candidates.reversed();
+                }
+                output.addAll(candidates);
+            }
+
+            // Distinct input nodes have distinct children, other axes may result in duplicates
+            return input.size() > 1 && axis != YangXPathAxis.CHILD ? List.copyOf(new LinkedHashSet<>(output))
+                : output;
+        }
+
+        private boolean isReverse() {
+            return switch (axis) {
+                case ANCESTOR, ANCESTOR_OR_SELF, PRECEDING_SIBLING -> true;
+                default -> false;
+            };
+        }
+
+        // Candidates in the order of the axis, i.e. in reverse document order for reverse axes
+        private List<XPathNode> candidates(final XPathNode node) {
+            final var ret = new ArrayList<XPathNode>();
+            switch (axis) {
+                case CHILD -> {
+                    final var targets = childTargets.get(node.schema());
+                    if (targets != null) {
+                        for (var target : targets) {
+                            node.addChildren(target, ret);
+                        }
+                    }
+                }
+                case DESCENDANT -> addDescendants(node, ret);
+                case DESCENDANT_OR_SELF -> {
+                    addIfMatching(node, ret);
+                    addDescendants(node, ret);
+                }
+                case PARENT -> {
+                    final var parent = node.parent();
+                    if (parent != null) {
+                        addIfMatching(parent, ret);
+                    }
+                }
+                case SELF -> addIfMatching(node, ret);
+                case ANCESTOR -> {
+                    for (var parent = node.parent(); parent != null; parent = parent.parent()) {
+                        addIfMatching(parent, ret);
+                    }
+                }
+                case ANCESTOR_OR_SELF -> {
+                    for (var parent = node; parent != null; parent = parent.parent()) {
+                        addIfMatching(parent, ret);
+                    }
+                }
+                case FOLLOWING_SIBLING, PRECEDING_SIBLING -> {
+                    final var parent = node.parent();
+                    if (parent != null) {
+                        final var siblings = new ArrayList<XPathNode>();
+                        parent.addChildren(siblings);
+                        final int index = siblings.indexOf(node);
+                        final var selected = axis == YangXPathAxis.FOLLOWING_SIBLING
+                            ? siblings.subList(index + 1, siblings.size()) : siblings.subList(0, index).reversed();
+                        for (var sibling : selected) {
+                            addIfMatching(sibling, ret);
+                        }
+                    }
+                }
+                default -> {
+                    // No attributes nor namespaces, other axes are rejected by compiler
+                }
+            }
+            return ret;
+        }
+
+        private void addDescendants(final XPathNode node, final List<XPathNode> output) {
+            final var children = new ArrayList<XPathNode>();
+            node.addChildren(children);
+            for (var child : children) {
+                addIfMatching(child, output);
+                addDescendants(child, output);
+            }
+        }
+
+        private void addIfMatching(final XPathNode node, final List<XPathNode> output) {
+            if (matching.contains(node.schema())) {
+                output.add(node);
+            }
+        }
+    }
+
+    /**
+     * A filter expression, i.e. a primary expression with predicates.
+     */
+    static final class Filter extends XPathExpr {
+        private final @NonNull XPathExpr expr;
+        private final @NonNull ImmutableList<XPathExpr> predicates;
+
+        Filter(final XPathExpr expr, final ImmutableList<XPathExpr> predicates) {
+            this.expr = requireNonNull(expr);
+            this.predicates = requireNonNull(predicates);
+        }
+
+        @Override
+        Object evaluate(final XPathNode current, final XPathNode node, final int position, final int size) {
+            var nodes = expr.evaluateNodes(current, node, position, size);
+            for (var predicate : predicates) {
+                nodes = filter(current, nodes, predicate);
+            }
+            return new NodeSet(nodes);
+        }
+    }
+
+    static final class Union extends XPathExpr {
+        private final @NonNull ImmutableList<XPathExpr> exprs;
+
+        Union(final ImmutableList<XPathExpr> exprs) {
+            this.exprs = requireNonNull(exprs);
+        }
+
+        @Override
+        Object evaluate(final XPathNode current, final XPathNode node, final int position, final int size) {
+            final var nodes = new LinkedHashSet<XPathNode>();
+            for (var expr : exprs) {
+                nodes.addAll(expr.evaluateNodes(current, node, position, size));
+            }
+            return new NodeSet(List.copyOf(nodes));
+        }
+    }
+
+    static final class And extends XPathExpr {
+        private final @NonNull ImmutableList<XPathExpr> exprs;
+
+        And(final ImmutableList<XPathExpr> exprs) {
+            this.exprs = requireNonNull(exprs);
+        }
+
+        @Override
+        Object evaluate(final XPathNode current, final XPathNode node, final int position, final int size) {
+            for (var expr : exprs) {
+                if (!expr.evaluateBoolean(current, node, position, size)) {
+                    return Boolean.FALSE;
+                }
+            }
+            return Boolean.TRUE;
+        }
+    }
+
+    static final class Or extends XPathExpr {
+        private final @NonNull ImmutableList<XPathExpr> exprs;
+
+        Or(final ImmutableList<XPathExpr> exprs) {
+            this.exprs = requireNonNull(exprs);
+        }
+
+        @Override
+        Object evaluate(final XPathNode current, final XPathNode node, final int position, final int size) {
+            for (var expr : exprs) {
+                if (expr.evaluateBoolean(current, node, position, size)) {
+                    return Boolean.TRUE;
+                }
+            }
+            return Boolean.FALSE;
+        }
+    }
+
+    static final class Negate extends XPathExpr {
+        private final @NonNull XPathExpr expr;
+
+        Negate(final XPathExpr expr) {
+            this.expr = requireNonNull(expr);
+        }
+
+        @Override
+        Object evaluate(final XPathNode current, final XPathNode node, final int position, final int size) {
+            return -toNumber(expr.evaluate(current, node, position, size));
+        }
+    }
+
+    static final class Binary extends XPathExpr {
+        private final @NonNull YangBinaryOperator operator;
+        private final @NonNull XPathExpr left;
+        private final @NonNull XPathExpr right;
+
+        Binary(final YangBinaryOperator operator, final XPathExpr left, final XPathExpr right) {
+            this.operator = requireNonNull(operator);
+            this.left = requireNonNull(left);
+            this.right = requireNonNull(right);
+        }
+
+        @Override
+        Object evaluate(final XPathNode current, final XPathNode node, final int position, final int size) {
+            final var lhs = left.evaluate(current, node, position, size);
+            final var rhs = right.evaluate(current, node, position, size);
+            return switch (operator) {
+                case EQUALS, NOT_EQUALS, GT, GTE, LT, LTE -> compare(operator, lhs, rhs);
+                case PLUS -> toNumber(lhs) + toNumber(rhs);
+                case MINUS -> toNumber(lhs) - toNumber(rhs);
+                case MUL -> toNumber(lhs) * toNumber(rhs);
+                case DIV -> toNumber(lhs) / toNumber(rhs);
+                case MOD -> toNumber(lhs) % toNumber(rhs);
+            };
+        }
+    }
+
+    /**
+     * A call to one of the functions defined by XPath 1.0 and RFC7950.
+     */
+    static final class Function extends XPathExpr {
+        private final @NonNull YangFunction function;
+        private final @NonNull ImmutableList<XPathExpr> args;
+
+        Function(final YangFunction function, final ImmutableList<XPathExpr> args) {
+            this.function = requireNonNull(function);
+            this.args = requireNonNull(args);
+        }
+
+        @Override
+        Object evaluate(final XPathNode current, final XPathNode node, final int position, final int size) {
+            return switch (function) {
+                case BIT_IS_SET -> {
+                    final var nodes = arg(0, current, node, position, size, NodeSet.class).nodes;
+                    final var bit = string(1, current, node, position, size);
+                    yield !nodes.isEmpty() && switch (nodes.getFirst().value()) {
+                        case Set<?> bits -> bits.contains(bit);
+                        case String str -> List.of(str.split(" ")).contains(bit);
+                        case null, default -> false;
+                    };
+                }
+                case BOOLEAN -> evaluateBoolean(0, current, node, position, size);
+                case CEILING -> Math.ceil(number(0, current, node, position, size));
+                case CONCAT -> {
+                    final var sb = new StringBuilder();
+                    for (int i = 0; i < args.size(); ++i) {
+                        sb.append(string(i, current, node, position, size));
+                    }
+                    yield sb.toString();
+                }
+                case CONTAINS -> string(0, current, node, position, size)
+                    .contains(string(1, current, node, position, size));
+                case COUNT -> (double) arg(0, current, node, position, size, NodeSet.class).nodes.size();
+                case CURRENT -> new NodeSet(List.of(current));
+                case ENUM_VALUE -> {
+                    final var nodes = arg(0, current, node, position, size, NodeSet.class).nodes;
+                    yield nodes.isEmpty() ? Double.NaN : enumValue(nodes.getFirst());
+                }
+                case FALSE -> Boolean.FALSE;
+                case FLOOR -> Math.floor(number(0, current, node, position, size));
+                case LAST -> (double) size;
+                case LOCAL_NAME -> {
+                    final var target = optionalNode(current, node, position, size);
+                    final var qname = target == null ? null : target.schema().qname();
+                    yield qname == null ? "" : qname.getLocalName();
+                }
+                case NAME -> {
+                    final var target = optionalNode(current, node, position, size);
+                    yield target == null ? "" : target.name();
+                }
+                case NAMESPACE_URI -> {
+                    final var target = optionalNode(current, node, position, size);
+                    final var qname = target == null ? null : target.schema().qname();
+                    yield qname == null ? "" : qname.getNamespace().toString();
+                }
+                case NORMALIZE_SPACE -> normalizeSpace(args.isEmpty() ? node.stringValue()
+                    : string(0, current, node, position, size));
+                case NOT -> !evaluateBoolean(0, current, node, position, size);
+                case NUMBER -> args.isEmpty() ? node.numberValue() : number(0, current, node, position, size);
+                case POSITION -> (double) position;
+                case ROUND -> round(number(0, current, node, position, size));
+                case STARTS_WITH -> string(0, current, node, position, size)
+                    .startsWith(string(1, current, node, position, size));
+                case STRING -> args.isEmpty() ? node.stringValue() : string(0, current, node, position, size);
+                case STRING_LENGTH -> {
+                    final var str = args.isEmpty() ? node.stringValue() : string(0, current, node, position, size);
+                    yield (double) str.codePointCount(0, str.length());
+                }
+                case SUBSTRING -> substring(string(0, current, node, position, size),
+                    number(1, current, node, position, size),
+                    args.size() > 2 ? number(2, current, node, position, size) : Double.POSITIVE_INFINITY);
+                case SUBSTRING_AFTER -> {
+                    final var str = string(0, current, node, position, size);
+                    final var sep = string(1, current, node, position, size);
+                    final int index = str.indexOf(sep);
+                    yield index == -1 ? "" : str.substring(index + sep.length());
+                }
+                case SUBSTRING_BEFORE -> {
+                    final var str = string(0, current, node, position, size);
+                    final int index = str.indexOf(string(1, current, node, position, size));
+                    yield index == -1 ? "" : str.substring(0, index);
+                }
+                case SUM -> {
+                    double sum = 0;
+                    for (var item : arg(0, current, node, position, size, NodeSet.class).nodes) {
+                        sum += item.numberValue();
+                    }
+                    yield sum;
+                }
+                case TRANSLATE -> translate(string(0, current, node, position, size),
+                    string(1, current, node, position, size), string(2, current, node, position, size));
+                case TRUE -> Boolean.TRUE;
+                case RE_MATCH -> {
+                    final Pattern pattern;
+                    try {
+                        pattern = Pattern.compile(string(1, current, node, position, size));
+                    } catch (PatternSyntaxException e) {
+                        yield Boolean.FALSE;
+                    }
+                    yield pattern.matcher(string(0, current, node, position, size)).matches();
+                }
+                // Rejected by compiler
+                case DEREF, DERIVED_FROM, DERIVED_FROM_OR_SELF, ID, LANG ->
+                    throw new IllegalStateException("Unhandled function " + function);
+            };
+        }
+
+        private @Nullable XPathNode optionalNode(final XPathNode current, final XPathNode node, final int position,
+                final int size) {
+            if (args.isEmpty()) {
+                return node;
+            }
+            final var nodes = arg(0, current, node, position, size, NodeSet.class).nodes;
+            return nodes.isEmpty() ? null : nodes.getFirst();
+        }
+
+        private <T> T arg(final int index, final XPathNode current, final XPathNode node, final int position,
+                final int size, final Class<T> type) {
+            return type.cast(args.get(index).evaluate(current, node, position, size));
+        }
+
+        private boolean evaluateBoolean(final int index, final XPathNode current, final XPathNode node,
+                final int position, final int size) {
+            return args.get(index).evaluateBoolean(current, node, position, size);
+        }
+
+        private double number(final int index, final XPathNode current, final XPathNode node, final int position,
+                final int size) {
+            return toNumber(args.get(index).evaluate(current, node, position, size));
+        }
+
+        private String string(final int index, final XPathNode current, final XPathNode node, final int position,
+                final int size) {
+            return XPathExpr.toString(args.get(index).evaluate(current, node, position, size));
+        }
+
+        private static double enumValue(final XPathNode node) {
+            if (node.schema().schema instanceof TypedDataSchemaNode typed
+                    && typed.typeDefinition() instanceof EnumTypeDefinition enumType
+                    && node.value() instanceof String name) {
+                for (var pair : enumType.getValues()) {
+                    if (name.equals(pair.getName())) {
+                        return pair.getValue();
+                    }
+                }
+            }
+            return Double.NaN;
+        }
+    }
+
+    /**
+     * A call to {@code re-match()} with a constant pattern, which is compiled once.
+     */
+    static final class ReMatch extends XPathExpr {
+        private final @NonNull XPathExpr arg;
+        private final @NonNull Pattern pattern;
+
+        ReMatch(final XPathExpr arg, final Pattern pattern) {
+            this.arg = requireNonNull(arg);
+            this.pattern = requireNonNull(pattern);
+        }
+
+        @Override
+        Object evaluate(final XPathNode current, final XPathNode node, final int position, final int size) {
+            return pattern.matcher(XPathExpr.toString(arg.evaluate(current, node, position, size))).matches();
+        }
+    }
+
+    /**
+     * A call to {@code derived-from()} or {@code derived-from-or-self()}. The identity argument has been resolved
+     * to the set of matching identities.
+     */
+    static final class DerivedFrom extends XPathExpr {
+        private final @NonNull XPathExpr arg;
+        private final @NonNull ImmutableSet<QName> identities;
+
+        DerivedFrom(final XPathExpr arg, final ImmutableSet<QName> identities) {
+            this.arg = requireNonNull(arg);
+            this.identities = requireNonNull(identities);
+        }
+
+        @Override
+        Object evaluate(final XPathNode current, final XPathNode node, final int position, final int size) {
+            for (var item : arg.evaluateNodes(current, node, position, size)) {
+                if (item.value() instanceof QName qname && identities.contains(qname)) {
+                    return Boolean.TRUE;
+                }
+            }
+            return Boolean.FALSE;
+        }
+    }
+
+    static boolean toBoolean(final Object value) {
+        return switch (value) {
+            case Boolean bool -> bool;
+            case Double dbl -> dbl != 0 && !dbl.isNaN();
+            case String str -> !str.isEmpty();
+            case NodeSet nodeSet -> !nodeSet.nodes.isEmpty();
+            default -> throw new IllegalArgumentException("Unexpected value " + value);
+        };
+    }
+
+    static double toNumber(final Object value) {
+        return switch (value) {
+            case Boolean bool -> bool ? 1 : 0;
+            case Double dbl -> dbl;
+            case String str -> toNumber(str);
+            case NodeSet nodeSet -> nodeSet.nodes.isEmpty() ? Double.NaN : nodeSet.nodes.getFirst().numberValue();
+            default -> throw new IllegalArgumentException("Unexpected value " + value);
+        };
+    }
+
+    static double toNumber(final String str) {
+        // XPath 1.0 Number: optional whitespace, optional minus, digits with an optional decimal point
+        final var trimmed = str.strip();
+        int offset = trimmed.startsWith("-") ? 1 : 0;
+        boolean digits = false;
+        boolean dot = false;
+        for (; offset < trimmed.length(); ++offset) {
+            final char ch = trimmed.charAt(offset);
+            if (ch >= '0' && ch <= '9') {
+                digits = true;
+            } else if (ch == '.' && !dot) {
+                dot = true;
+            } else {
+                return Double.NaN;
+            }
+        }
+        return digits ? Double.parseDouble(trimmed) : Double.NaN;
+    }
+
+    static @NonNull String toString(final Object value) {
+        return switch (value) {
+            case Boolean bool -> bool.toString();
+            case Double dbl -> toString(dbl.doubleValue());
+            case String str -> str;
+            case NodeSet nodeSet -> nodeSet.nodes.isEmpty() ? "" : nodeSet.nodes.getFirst().stringValue();
+            default -> throw new IllegalArgumentException("Unexpected value " + value);
+        };
+    }
+
+    private static @NonNull String toString(final double value) {
+        if (Double.isNaN(value)) {
+            return "NaN";
+        }
+        if (Double.isInfinite(value)) {
+            return value > 0 ? "Infinity" : "-Infinity";
+        }
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            return Long.toString((long) value);
+        }
+        return BigDecimal.valueOf(value).stripTrailingZeros().toPlainString();
+    }
+
+    static @NonNull List<XPathNode> filter(final XPathNode current, final List<XPathNode> nodes,
+            final XPathExpr predicate) {
+        final int size = nodes.size();
+        final var ret = new ArrayList<XPathNode>(size);
+        for (int i = 0; i < size; ++i) {
+            final var node = nodes.get(i);
+            final var result = predicate.evaluate(current, node, i + 1, size);
+            if (result instanceof Double number ? number == i + 1 : toBoolean(result)) {
+                ret.add(node);
+            }
+        }
+        return ret;
+    }
+
+    // XPath 1.0 section 3.4
+    private static boolean compare(final YangBinaryOperator operator, final Object lhs, final Object rhs) {
+        if (lhs instanceof NodeSet left) {
+            return switch (rhs) {
+                case NodeSet right -> {
+                    for (var leftNode : left.nodes) {
+                        final var leftValue = leftNode.stringValue();
+                        for (var rightNode : right.nodes) {
+                            if (compareAtoms(operator, leftValue, rightNode.stringValue())) {
+                                yield true;
+                            }
+                        }
+                    }
+                    yield false;
+                }
+                case Boolean bool -> compareAtoms(operator, !left.nodes.isEmpty(), bool);
+                default -> {
+                    for (var leftNode : left.nodes) {
+                        if (compareAtoms(operator, atomOf(leftNode, rhs), rhs)) {
+                            yield true;
+                        }
+                    }
+                    yield false;
+                }
+            };
+        }
+        if (rhs instanceof NodeSet right) {
+            if (lhs instanceof Boolean bool) {
+                return compareAtoms(operator, bool, !right.nodes.isEmpty());
+            }
+            for (var rightNode : right.nodes) {
+                if (compareAtoms(operator, lhs, atomOf(rightNode, lhs))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return compareAtoms(operator, lhs, rhs);
+    }
+
+    // Convert a node to an atom for comparison with an other atom
+    private static Object atomOf(final XPathNode node, final Object other) {
+        return other instanceof Double ? node.numberValue() : node.stringValue();
+    }
+
+    private static boolean compareAtoms(final YangBinaryOperator operator, final Object lhs, final Object rhs) {
+        return switch (operator) {
+            case EQUALS -> atomsEqual(lhs, rhs);
+            case NOT_EQUALS -> !atomsEqual(lhs, rhs);
+            case GT -> toNumber(lhs) > toNumber(rhs);
+            case GTE -> toNumber(lhs) >= toNumber(rhs);
+            case LT -> toNumber(lhs) < toNumber(rhs);
+            case LTE -> toNumber(lhs) <= toNumber(rhs);
+            default -> throw new IllegalArgumentException("Unhandled operator " + operator);
+        };
+    }
+
+    private static boolean atomsEqual(final Object lhs, final Object rhs) {
+        if (lhs instanceof Boolean || rhs instanceof Boolean) {
+            return toBoolean(lhs) == toBoolean(rhs);
+        }
+        if (lhs instanceof Double || rhs instanceof Double) {
+            return toNumber(lhs) == toNumber(rhs);
+        }
+        return toString(lhs).equals(toString(rhs));
+    }
+
+    private static double round(final double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            return value;
+        }
+        if (value >= -0.5 && value < 0) {
+            return -0.0;
+        }
+        return Math.floor(value + 0.5);
+    }
+
+    private static String normalizeSpace(final String str) {
+        final var sb = new StringBuilder(str.length());
+        boolean space = false;
+        for (int i = 0; i < str.length(); ++i) {
+            final char ch = str.charAt(i);
+            if (ch == ' ' || ch == '\t' || ch == '\r' || ch == '\n') {
+                space = !sb.isEmpty();
+            } else {
+                if (space) {
+                    sb.append(' ');
+                    space = false;
+                }
+                sb.append(ch);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static String substring(final String str, final double start, final double length) {
+        // XPath 1.0 section 4.2: characters at positions p such that round(start) <= p < round(start) + round(length)
+        final double first = round(start);
+        final double last = first + round(length);
+        final var codePoints = str.codePoints().toArray();
+        final var sb = new StringBuilder();
+        for (int i = 0; i < codePoints.length; ++i) {
+            final int pos = i + 1;
+            if (pos >= first && pos < last) {
+                sb.appendCodePoint(codePoints[i]);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static String translate(final String str, final String from, final String to) {
+        final var fromPoints = from.codePoints().toArray();
+        final var toPoints = to.codePoints().toArray();
+        final var sb = new StringBuilder(str.length());
+        str.codePoints().forEach(codePoint -> {
+            for (int i = 0; i < fromPoints.length; ++i) {
+                if (fromPoints[i] == codePoint) {
+                    if (i < toPoints.length) {
+                        sb.appendCodePoint(toPoints[i]);
+                    }
+                    return;
+                }
+            }
+            sb.appendCodePoint(codePoint);
+        });
+        return sb.toString();
+    }
+}
@@ -0,0 +1,426 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import javax.xml.xpath.XPathExpressionException;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.QNameModule;
+import org.opendaylight.yangtools.yang.common.UnresolvedQName.Qualified;
+import org.opendaylight.yangtools.yang.common.UnresolvedQName.Unqualified;
+import org.opendaylight.yangtools.yang.data.tree.impl.XPathSchemaTree.Node;
+import org.opendaylight.yangtools.yang.model.api.IdentitySchemaNode;
+import org.opendaylight.yangtools.yang.xpath.api.YangBinaryExpr;
+import org.opendaylight.yangtools.yang.xpath.api.YangBooleanConstantExpr;
+import org.opendaylight.yangtools.yang.xpath.api.YangExpr;
+import org.opendaylight.yangtools.yang.xpath.api.YangFilterExpr;
+import org.opendaylight.yangtools.yang.xpath.api.YangFunction;
+import org.opendaylight.yangtools.yang.xpath.api.YangFunctionCallExpr;
+import org.opendaylight.yangtools.yang.xpath.api.YangLiteralExpr;
+import org.opendaylight.yangtools.yang.xpath.api.YangLocationPath;
+import org.opendaylight.yangtools.yang.xpath.api.YangLocationPath.AxisStep;
+import org.opendaylight.yangtools.yang.xpath.api.YangLocationPath.NamespaceStep;
+import org.opendaylight.yangtools.yang.xpath.api.YangLocationPath.NodeTypeStep;
+import org.opendaylight.yangtools.yang.xpath.api.YangLocationPath.QNameStep;
+import org.opendaylight.yangtools.yang.xpath.api.YangLocationPath.Step;
+import org.opendaylight.yangtools.yang.xpath.api.YangNaryExpr;
+import org.opendaylight.yangtools.yang.xpath.api.YangNegateExpr;
+import org.opendaylight.yangtools.yang.xpath.api.YangNumberExpr;
+import org.opendaylight.yangtools.yang.xpath.api.YangPathExpr;
+import org.opendaylight.yangtools.yang.xpath.api.YangQNameExpr;
+import org.opendaylight.yangtools.yang.xpath.api.YangXPathExpression.QualifiedBound;
+import org.opendaylight.yangtools.yang.xpath.api.YangXPathNodeType;
+
+/**
+ * Compiler of a single {@link QualifiedBound} expression into an {@link XPathExpr}. Besides producing the executable
+ * form, it statically resolves each location path against {@link XPathSchemaTree}, which yields the set of nodes the
+ * expression depends on and the highest ancestor of the context node it can reach.
+ */
+final class XPathExprCompiler {
+    private static final ImmutableMap<QName, YangFunction> FUNCTIONS = Arrays.stream(YangFunction.values())
+        .collect(ImmutableMap.toImmutableMap(YangFunction::getIdentifier, Function.identity()));
+
+    // A compiled expression along with the nodes it can evaluate to, if it evaluates to a node-set
+    private record Compiled(@NonNull XPathExpr expr, @Nullable ImmutableSet<Node> nodes) {
+        Compiled {
+            requireNonNull(expr);
+        }
+
+        Compiled(final XPathExpr expr) {
+            this(expr, null);
+        }
+    }
+
+    private final @NonNull XPathSchemaTree tree;
+    private final @NonNull QualifiedBound xpath;
+    private final @NonNull QNameModule namespace;
+    private final @NonNull Node current;
+    private final @NonNull Set<Node> dependencies = new LinkedHashSet<>();
+    private int minDepth;
+
+    XPathExprCompiler(final QualifiedBound xpath, final QNameModule namespace, final Node current) {
+        this.xpath = requireNonNull(xpath);
+        this.namespace = requireNonNull(namespace);
+        this.current = requireNonNull(current);
+        tree = current.tree;
+        minDepth = current.depth;
+    }
+
+    /**
+     * Compile the expression.
+     *
+     * @return compiled expression
+     * @throws XPathExpressionException if the expression uses unsupported constructs
+     */
+    @NonNull XPathExpr compile() throws XPathExpressionException {
+        return compile(xpath.getRootExpr(), ImmutableSet.of(current)).expr;
+    }
+
+    /**
+     * Return the nodes referenced by the expression. Valid only after {@link #compile()} has completed.
+     *
+     * @return referenced nodes
+     */
+    @NonNull Set<Node> dependencies() {
+        return dependencies;
+    }
+
+    /**
+     * Return the ancestor-or-self of the context node, whose subtree contains all the data the expression can access.
+     * Valid only after {@link #compile()} has completed.
+     *
+     * @return the anchor node
+     */
+    @NonNull Node anchor() {
+        var ret = current;
+        while (ret.depth > minDepth) {
+            ret = ret.parent;
+        }
+        return ret;
+    }
+
+    private Compiled compile(final YangExpr expr, final ImmutableSet<Node> context)
+            throws XPathExpressionException {
+        return switch (expr) {
+            case YangBooleanConstantExpr constant -> new Compiled(new XPathExpr.Constant(constant.getValue()));
+            case YangLiteralExpr literal -> new Compiled(new XPathExpr.Constant(literal.getLiteral()));
+            case YangNumberExpr number -> new Compiled(new XPathExpr.Constant(number.getNumber().doubleValue()));
+            case YangLocationPath path -> compilePath(null, path.isAbsolute() ? ImmutableSet.of(reachRoot()) : context,
+                path.isAbsolute(), path.getSteps());
+            case YangFilterExpr filter -> {
+                final var head = compileNodes(filter.getExpr(), context);
+                final var predicates = compilePredicates(filter.getPredicates(), head.nodes);
+                yield predicates.isEmpty() ? head
+                    : new Compiled(new XPathExpr.Filter(head.expr, predicates), head.nodes);
+            }
+            case YangPathExpr path -> {
+                final var head = compileNodes(path.getFilterExpr(), context);
+                final var location = path.getLocationPath();
+                yield location.isEmpty() ? head
+                    : compilePath(head.expr, head.nodes, false, location.orElseThrow().getSteps());
+            }
+            case YangNaryExpr nary -> {
+                final var args = ImmutableList.<XPathExpr>builder();
+                yield switch (nary.getOperator()) {
+                    case AND -> {
+                        for (var arg : nary.getExpressions()) {
+                            args.add(compile(arg, context).expr);
+                        }
+                        yield new Compiled(new XPathExpr.And(args.build()));
+                    }
+                    case OR -> {
+                        for (var arg : nary.getExpressions()) {
+                            args.add(compile(arg, context).expr);
+                        }
+                        yield new Compiled(new XPathExpr.Or(args.build()));
+                    }
+                    case UNION -> {
+                        final var nodes = ImmutableSet.<Node>builder();
+                        for (var arg : nary.getExpressions()) {
+                            final var compiled = compileNodes(arg, context);
+                            args.add(compiled.expr);
+                            nodes.addAll(compiled.nodes);
+                        }
+                        yield new Compiled(new XPathExpr.Union(args.build()), nodes.build());
+                    }
+                };
+            }
+            case YangBinaryExpr binary -> new Compiled(new XPathExpr.Binary(binary.getOperator(),
+                compile(binary.getLeftExpr(), context).expr, compile(binary.getRightExpr(), context).expr));
+            case YangNegateExpr negate ->
+                new Compiled(new XPathExpr.Negate(compile(negate.getSubExpr(), context).expr));
+            case YangFunctionCallExpr call -> compileFunction(call, context);
+            default -> throw new XPathExpressionException("Unsupported expression " + expr);
+        };
+    }
+
+    private Compiled compileNodes(final YangExpr expr, final ImmutableSet<Node> context)
+            throws XPathExpressionException {
+        final var ret = compile(expr, context);
+        if (ret.nodes == null) {
+            throw new XPathExpressionException("Expression " + expr + " does not evaluate to a node-set");
+        }
+        return ret;
+    }
+
+    private ImmutableList<XPathExpr> compilePredicates(final Set<YangExpr> predicates,
+            final ImmutableSet<Node> context) throws XPathExpressionException {
+        final var ret = ImmutableList.<XPathExpr>builderWithExpectedSize(predicates.size());
+        for (var predicate : predicates) {
+            ret.add(compile(predicate, context).expr);
+        }
+        return ret.build();
+    }
+
+    private Compiled compilePath(final @Nullable XPathExpr head, final ImmutableSet<Node> start,
+            final boolean absolute, final List<Step> steps) throws XPathExpressionException {
+        var nodes = start;
+        final var compiled = ImmutableList.<XPathExpr.Step>builderWithExpectedSize(steps.size());
+        for (var step : steps) {
+            final var test = nodeTest(step);
+            final var childTargets = ImmutableMap.<Node, ImmutableList<Node>>builder();
+            final var matching = ImmutableSet.<Node>builder();
+            for (var node : nodes) {
+                switch (step.getAxis()) {
+                    case CHILD -> {
+                        final var children = childrenOf(node, step, test);
+                        if (!children.isEmpty()) {
+                            childTargets.put(node, children);
+                            matching.addAll(children);
+                        }
+                    }
+                    case DESCENDANT -> addDescendants(node, test, matching);
+                    case DESCENDANT_OR_SELF -> {
+                        addIfMatching(node, test, matching);
+                        addDescendants(node, test, matching);
+                    }
+                    case PARENT -> {
+                        if (node.parent != null) {
+                            addIfMatching(node.parent, test, matching);
+                        }
+                    }
+                    case SELF -> addIfMatching(node, test, matching);
+                    case ANCESTOR -> {
+                        for (var parent = node.parent; parent != null; parent = parent.parent) {
+                            addIfMatching(parent, test, matching);
+                        }
+                    }
+                    case ANCESTOR_OR_SELF -> {
+                        for (var parent = node; parent != null; parent = parent.parent) {
+                            addIfMatching(parent, test, matching);
+                        }
+                    }
+                    case FOLLOWING_SIBLING, PRECEDING_SIBLING -> {
+                        final var parent = node.parent;
+                        if (parent != null) {
+                            // We are looking at the parent's children
+                            minDepth = Math.min(minDepth, parent.depth);
+                            for (var sibling : parent.children) {
+                                addIfMatching(sibling, test, matching);
+                            }
+                        }
+                    }
+                    case ATTRIBUTE, NAMESPACE -> {
+                        // Data trees have neither attributes nor namespace nodes
+                    }
+                    default -> throw new XPathExpressionException("Unsupported axis " + step.getAxis());
+                }
+            }
+
+            nodes = matching.build();
+            for (var node : nodes) {
+                minDepth = Math.min(minDepth, node.depth);
+            }
+            compiled.add(new XPathExpr.Step(step.getAxis(), childTargets.buildOrThrow(), nodes,
+                compilePredicates(step.getPredicates(), nodes)));
+        }
+
+        dependencies.addAll(nodes);
+        return new Compiled(new XPathExpr.LocationPath(head, absolute, compiled.build()), nodes);
+    }
+
+    private Node reachRoot() {
+        minDepth = 0;
+        return tree.root();
+    }
+
+    private ImmutableList<Node> childrenOf(final Node node, final Step step, final Predicate<Node> test) {
+        if (step instanceof QNameStep qnameStep) {
+            final var child = switch (qnameStep.getQName()) {
+                case QName qname -> node.childByName(qname, true);
+                case Unqualified unqualified -> node.childByName(unqualified.bindTo(namespace), false);
+                default -> null;
+            };
+            return child == null ? ImmutableList.of() : ImmutableList.of(child);
+        }
+        return node.children.stream().filter(test).collect(ImmutableList.toImmutableList());
+    }
+
+    private Predicate<Node> nodeTest(final Step step) throws XPathExpressionException {
+        return switch (step) {
+            case QNameStep qnameStep -> switch (qnameStep.getQName()) {
+                case QName qname -> node -> qname.equals(node.qname());
+                case Unqualified unqualified -> {
+                    final var bound = unqualified.bindTo(namespace);
+                    yield node -> {
+                        final var qname = node.qname();
+                        return qname != null && (bound.equals(qname)
+                            || bound.getLocalName().equals(qname.getLocalName()));
+                    };
+                }
+                case Qualified qualified -> throw new XPathExpressionException("Unresolved name " + qualified);
+                default -> throw new XPathExpressionException("Unsupported step " + step);
+            };
+            case NamespaceStep namespaceStep -> node -> {
+                final var qname = node.qname();
+                return qname != null && namespaceStep.getNamespace().equals(qname.getModule());
+            };
+            case NodeTypeStep nodeTypeStep -> {
+                if (nodeTypeStep.getNodeType() != YangXPathNodeType.NODE) {
+                    throw new XPathExpressionException("Unsupported node type test in " + step);
+                }
+                yield node -> true;
+            }
+            // '*' matches all element nodes
+            case AxisStep axisStep -> node -> node.qname() != null;
+            default -> throw new XPathExpressionException("Unsupported step " + step);
+        };
+    }
+
+    private static void addIfMatching(final Node node, final Predicate<Node> test,
+            final ImmutableSet.Builder<Node> output) {
+        if (test.test(node)) {
+            output.add(node);
+        }
+    }
+
+    private static void addDescendants(final Node node, final Predicate<Node> test,
+            final ImmutableSet.Builder<Node> output) {
+        for (var child : node.children) {
+            addIfMatching(child, test, output);
+            addDescendants(child, test, output);
+        }
+    }
+
+    private Compiled compileFunction(final YangFunctionCallExpr call, final ImmutableSet<Node> context)
+            throws XPathExpressionException {
+        final var function = FUNCTIONS.get(call.getName());
+        if (function == null) {
+            throw new XPathExpressionException("Unsupported function " + call.getName());
+        }
+
+        final var args = call.getArguments();
+        return switch (function) {
+            case CURRENT -> {
+                dependencies.add(current);
+                yield new Compiled(XPathExpr.Current.INSTANCE, ImmutableSet.of(current));
+            }
+            case DERIVED_FROM, DERIVED_FROM_OR_SELF -> {
+                final var nodes = compileNodes(args.get(0), context);
+                if (!(args.get(1) instanceof YangLiteralExpr literal)) {
+                    throw new XPathExpressionException("Unsupported non-literal identity in " + call);
+                }
+                yield new Compiled(new XPathExpr.DerivedFrom(nodes.expr,
+                    identities(resolveIdentity(literal), function == YangFunction.DERIVED_FROM_OR_SELF)));
+            }
+            case RE_MATCH -> {
+                final var arg = compile(args.get(0), context).expr;
+                if (args.get(1) instanceof YangLiteralExpr literal) {
+                    try {
+                        yield new Compiled(new XPathExpr.ReMatch(arg, Pattern.compile(literal.getLiteral())));
+                    } catch (PatternSyntaxException e) {
+                        final var ex = new XPathExpressionException("Unsupported pattern in " + call);
+                        ex.initCause(e);
+                        throw ex;
+                    }
+                }
+                yield new Compiled(new XPathExpr.Function(function, ImmutableList.of(arg,
+                    compile(args.get(1), context).expr)));
+            }
+            case BIT_IS_SET, COUNT, ENUM_VALUE, SUM -> {
+                final var compiled = ImmutableList.<XPathExpr>builderWithExpectedSize(args.size());
+                compiled.add(compileNodes(args.get(0), context).expr);
+                for (var arg : args.subList(1, args.size())) {
+                    compiled.add(compile(arg, context).expr);
+                }
+                yield new Compiled(new XPathExpr.Function(function, compiled.build()));
+            }
+            case LOCAL_NAME, NAME, NAMESPACE_URI -> {
+                if (args.isEmpty()) {
+                    dependencies.addAll(context);
+                    yield new Compiled(new XPathExpr.Function(function, ImmutableList.of()));
+                }
+                yield new Compiled(new XPathExpr.Function(function,
+                    ImmutableList.of(compileNodes(args.get(0), context).expr)));
+            }
+            case DEREF, ID, LANG -> throw new XPathExpressionException("Unsupported function " + call.getName());
+            default -> {
+                if (args.isEmpty()) {
+                    switch (function) {
+                        case NORMALIZE_SPACE, NUMBER, STRING, STRING_LENGTH -> dependencies.addAll(context);
+                        default -> {
+                            // No implicit context access
+                        }
+                    }
+                }
+                final var compiled = ImmutableList.<XPathExpr>builderWithExpectedSize(args.size());
+                for (var arg : args) {
+                    compiled.add(compile(arg, context).expr);
+                }
+                yield new Compiled(new XPathExpr.Function(function, compiled.build()));
+            }
+        };
+    }
+
+    private QName resolveIdentity(final YangLiteralExpr literal) throws XPathExpressionException {
+        return switch (xpath.interpretAsQName(literal)) {
+            case YangQNameExpr.Resolved resolved -> resolved.getQName();
+            case YangQNameExpr.Unresolved unresolved -> switch (unresolved.getQName()) {
+                case Unqualified unqualified -> unqualified.bindTo(namespace);
+                case Qualified qualified -> throw new XPathExpressionException("Unresolved identity " + qualified);
+            };
+        };
+    }
+
+    private ImmutableSet<QName> identities(final QName base, final boolean orSelf) throws XPathExpressionException {
+        final var modelContext = tree.modelContext();
+        final var module = modelContext.findModule(base.getModule())
+            .orElseThrow(() -> new XPathExpressionException("Unknown module of identity " + base));
+        final var identity = module.getIdentities().stream()
+            .filter(candidate -> base.equals(candidate.getQName()))
+            .findFirst()
+            .orElseThrow(() -> new XPathExpressionException("Unknown identity " + base));
+
+        final var ret = ImmutableSet.<QName>builder();
+        if (orSelf) {
+            ret.add(base);
+        }
+        final var queue = new ArrayDeque<IdentitySchemaNode>(modelContext.getDerivedIdentities(identity));
+        while (!queue.isEmpty()) {
+            final var derived = queue.remove();
+            ret.add(derived.getQName());
+            queue.addAll(modelContext.getDerivedIdentities(derived));
+        }
+        return ret.build();
+    }
+}
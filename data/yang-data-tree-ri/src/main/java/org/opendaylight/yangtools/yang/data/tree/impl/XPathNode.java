@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.base.MoreObjects;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.yang.common.CanonicalValue;
+import org.opendaylight.yangtools.yang.common.Empty;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNodeContainer;
+import org.opendaylight.yangtools.yang.data.api.schema.ValueNode;
+import org.opendaylight.yangtools.yang.data.tree.impl.XPathSchemaTree.Node;
+
+/**
+ * An instance of a {@link Node}, i.e. a node of the XPath data model backed by a {@link NormalizedNode}. Since
+ * {@link NormalizedNode}s do not know their parents, instances are created on demand during navigation and keep track
+ * of their parent.
+ */
+final class XPathNode {
+    private final @Nullable XPathNode parent;
+    private final @NonNull Node schema;
+    private final @NonNull NormalizedNode data;
+
+    XPathNode(final @Nullable XPathNode parent, final Node schema, final NormalizedNode data) {
+        this.parent = parent;
+        this.schema = requireNonNull(schema);
+        this.data = requireNonNull(data);
+    }
+
+    static @NonNull XPathNode root(final Node schema, final NormalizedNode data) {
+        return new XPathNode(null, schema, data);
+    }
+
+    @Nullable XPathNode parent() {
+        return parent;
+    }
+
+    @NonNull Node schema() {
+        return schema;
+    }
+
+    @NonNull NormalizedNode data() {
+        return data;
+    }
+
+    /**
+     * Return the ancestor-or-self of this node, which is an instance of specified {@link Node}.
+     *
+     * @param ancestor ancestor schema
+     * @return ancestor instance, or {@code null} if {@code ancestor} is not an ancestor-or-self of this node's schema
+     */
+    @Nullable XPathNode ancestorOrSelf(final Node ancestor) {
+        var current = this;
+        while (current != null && current.schema.depth > ancestor.depth) {
+            current = current.parent;
+        }
+        return current != null && current.schema == ancestor ? current : null;
+    }
+
+    /**
+     * Add instances of a child {@link Node} to specified list.
+     *
+     * @param child child schema
+     * @param output output list
+     */
+    void addChildren(final Node child, final List<XPathNode> output) {
+        final var childData = Node.childData(data, child);
+        if (childData == null) {
+            return;
+        }
+        if (child.isMultiInstance()) {
+            if (childData instanceof NormalizedNodeContainer<?> container) {
+                for (var entry : container.body()) {
+                    output.add(new XPathNode(this, child, entry));
+                }
+            }
+        } else {
+            output.add(new XPathNode(this, child, childData));
+        }
+    }
+
+    /**
+     * Add all children of this node to specified list, in document order.
+     *
+     * @param output output list
+     */
+    void addChildren(final List<XPathNode> output) {
+        for (var child : schema.children) {
+            addChildren(child, output);
+        }
+    }
+
+    /**
+     * Check whether any instance of a child {@link Node} exists.
+     *
+     * @param child child schema
+     * @return {@code true} if an instance exists
+     */
+    boolean hasChild(final Node child) {
+        final var childData = Node.childData(data, child);
+        return childData != null && (!(childData instanceof NormalizedNodeContainer<?> container)
+            || !child.isMultiInstance() || !container.isEmpty());
+    }
+
+    /**
+     * Return the XPath string-value of this node.
+     *
+     * @return string-value
+     */
+    @NonNull String stringValue() {
+        if (data instanceof ValueNode<?> value) {
+            return valueString(value.body());
+        }
+        if (schema.kind == Node.Kind.ANY) {
+            return "";
+        }
+
+        // Concatenation of all descendant text nodes in document order
+        final var sb = new StringBuilder();
+        final var children = new ArrayList<XPathNode>();
+        addChildren(children);
+        for (var child : children) {
+            sb.append(child.stringValue());
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Return the numeric value of this node, as per XPath {@code number()} function.
+     *
+     * @return numeric value
+     */
+    double numberValue() {
+        if (data instanceof ValueNode<?> value && value.body() instanceof Number number) {
+            return number.doubleValue();
+        }
+        return XPathExpr.toNumber(stringValue());
+    }
+
+    @Nullable Object value() {
+        return data instanceof ValueNode<?> value ? value.body() : null;
+    }
+
+    @NonNull String name() {
+        final var qname = schema.qname();
+        if (qname == null) {
+            return "";
+        }
+        final var prefix = schema.tree.prefixOf(qname.getModule());
+        return prefix == null ? qname.getLocalName() : prefix + ':' + qname.getLocalName();
+    }
+
+    @NonNull YangInstanceIdentifier toInstanceIdentifier() {
+        final var nodes = new ArrayDeque<XPathNode>();
+        for (var current = this; current.parent != null; current = current.parent) {
+            nodes.push(current);
+        }
+
+        final var args = new ArrayList<PathArgument>();
+        for (var node : nodes) {
+            args.addAll(node.schema.steps);
+            if (node.schema.isMultiInstance()) {
+                args.add(node.data.name());
+            }
+        }
+        return YangInstanceIdentifier.of(args);
+    }
+
+    private @NonNull String valueString(final Object value) {
+        return switch (value) {
+            case String str -> str;
+            case QName qname -> {
+                final var prefix = schema.tree.prefixOf(qname.getModule());
+                yield prefix == null ? qname.getLocalName() : prefix + ':' + qname.getLocalName();
+            }
+            case Empty empty -> "";
+            case byte[] bytes -> Base64.getEncoder().encodeToString(bytes);
+            case Set<?> bits -> String.join(" ", bits.stream().map(Object::toString).toList());
+            case CanonicalValue<?> canonical -> canonical.toCanonicalString();
+            default -> value.toString();
+        };
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(parent, System.identityHashCode(schema), System.identityHashCode(data));
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return this == obj || obj instanceof XPathNode other && schema == other.schema && data == other.data
+            && Objects.equals(parent, other.parent);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("schema", schema).add("data", data.name()).toString();
+    }
+}
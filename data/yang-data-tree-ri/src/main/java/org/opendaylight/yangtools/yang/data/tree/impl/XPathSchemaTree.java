@@ -0,0 +1,326 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.QNameModule;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.DataContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.model.api.AnydataSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.AnyxmlSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.AugmentationTarget;
+import org.opendaylight.yangtools.yang.model.api.ChoiceSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.ContainerLike;
+import org.opendaylight.yangtools.yang.model.api.DataNodeContainer;
+import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.api.LeafListSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.LeafSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.ListSchemaNode;
+import org.opendaylight.yangtools.yang.xpath.api.YangXPathExpression.QualifiedBound;
+
+/**
+ * The data tree of an {@link EffectiveModelContext} as seen by XPath. Unlike {@link NormalizedNode}s, {@code choice}
+ * and {@code case} nodes are transparent and each entry of a {@code list} or a {@code leaf-list} is a separate node.
+ * Each {@link Node} records how its data is reached from the data of its parent {@link Node}, so that XPath
+ * expressions can be evaluated directly on top of {@link NormalizedNode}s.
+ */
+final class XPathSchemaTree {
+    /**
+     * A level of {@link NormalizedNode} hierarchy, as seen by {@link ModifiedNode}s.
+     */
+    sealed interface Level permits Choice, Node {
+        /**
+         * Return the {@link Node}s this level contributes to its parent {@link Node}.
+         *
+         * @return contributed {@link Node}s
+         */
+        @NonNull List<Node> xpathNodes();
+    }
+
+    /**
+     * A {@code choice} node, which is not visible to XPath.
+     */
+    static final class Choice implements Level {
+        final Map<NodeIdentifier, Level> levels = new HashMap<>();
+        final List<Node> nodes = new ArrayList<>();
+
+        @Override
+        public List<Node> xpathNodes() {
+            return nodes;
+        }
+    }
+
+    /**
+     * A node visible to XPath.
+     */
+    static final class Node implements Level {
+        enum Kind {
+            ROOT,
+            CONTAINER,
+            LIST,
+            LEAF,
+            LEAF_LIST,
+            ANY
+        }
+
+        final @NonNull XPathSchemaTree tree;
+        final @Nullable Node parent;
+        final @Nullable DataSchemaNode schema;
+        final @NonNull Kind kind;
+        final int depth;
+        // NodeIdentifiers leading from the data of parent to the data of this node, i.e. including any choices
+        final @NonNull ImmutableList<NodeIdentifier> steps;
+        // Children in schema order
+        final List<Node> children = new ArrayList<>();
+        // Immediate children as seen by NormalizedNode hierarchy
+        final Map<NodeIdentifier, Level> levels = new HashMap<>();
+        // Constraints which use this node as their context
+        final List<XPathConstraint> constraints = new ArrayList<>();
+        // Constraints which depend on this node
+        final List<XPathConstraint> dependents = new ArrayList<>();
+        // Constraints which depend on this node or any of its descendants
+        final Set<XPathConstraint> subtreeDependents = new LinkedHashSet<>();
+
+        Node(final XPathSchemaTree tree, final @Nullable Node parent, final @Nullable DataSchemaNode schema,
+                final Kind kind, final ImmutableList<NodeIdentifier> steps) {
+            this.tree = requireNonNull(tree);
+            this.parent = parent;
+            this.schema = schema;
+            this.kind = requireNonNull(kind);
+            this.steps = requireNonNull(steps);
+            depth = parent == null ? 0 : parent.depth + 1;
+        }
+
+        @Override
+        public List<Node> xpathNodes() {
+            return List.of(this);
+        }
+
+        @Nullable QName qname() {
+            final var local = schema;
+            return local == null ? null : local.getQName();
+        }
+
+        boolean isMultiInstance() {
+            return kind == Kind.LIST || kind == Kind.LEAF_LIST;
+        }
+
+        boolean isAncestorOrSelfOf(final Node other) {
+            var current = other;
+            while (current.depth > depth) {
+                current = current.parent;
+            }
+            return current == this;
+        }
+
+        /**
+         * Find a child {@link Node} by its name. If there is no exact match and the name was not qualified by a
+         * prefix, a unique child with the same local name is returned.
+         *
+         * @param name child name
+         * @param qualified {@code true} if the name was qualified by a prefix
+         * @return child {@link Node}, or {@code null}
+         */
+        @Nullable Node childByName(final QName name, final boolean qualified) {
+            Node byLocalName = null;
+            boolean ambiguous = false;
+            for (var child : children) {
+                final var childName = child.qname();
+                if (name.equals(childName)) {
+                    return child;
+                }
+                if (!qualified && childName != null && name.getLocalName().equals(childName.getLocalName())) {
+                    ambiguous |= byLocalName != null;
+                    byLocalName = child;
+                }
+            }
+            return ambiguous ? null : byLocalName;
+        }
+
+        /**
+         * Return the data of this node's child, as reachable from this node's data.
+         *
+         * @param data this node's data
+         * @param child child node
+         * @return child data, or {@code null} if not present
+         */
+        static @Nullable NormalizedNode childData(final NormalizedNode data, final Node child) {
+            var current = data;
+            for (var step : child.steps) {
+                if (!(current instanceof DataContainerNode container)) {
+                    return null;
+                }
+                current = container.childByArg(step);
+                if (current == null) {
+                    return null;
+                }
+            }
+            return current;
+        }
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(this).add("qname", qname()).add("kind", kind).toString();
+        }
+    }
+
+    /**
+     * A {@code when} statement which is not attached to a data node, i.e. it is attached to a {@code choice}, a
+     * {@code case} or an {@code augment}. Its context node is the nearest XPath-visible ancestor and it applies only
+     * when any of the guarded nodes is present.
+     */
+    record GuardedWhen(@NonNull Node context, @NonNull ImmutableList<Node> guard, @NonNull QualifiedBound condition,
+            @NonNull QNameModule namespace) {
+        GuardedWhen {
+            requireNonNull(context);
+            requireNonNull(guard);
+            requireNonNull(condition);
+            requireNonNull(namespace);
+        }
+    }
+
+    private final @NonNull EffectiveModelContext modelContext;
+    private final @NonNull Map<QNameModule, String> prefixes = new HashMap<>();
+    private final @NonNull List<GuardedWhen> guardedWhens = new ArrayList<>();
+    private final @NonNull List<Node> nodes = new ArrayList<>();
+    private final @NonNull Node root;
+
+    XPathSchemaTree(final EffectiveModelContext modelContext) {
+        this.modelContext = requireNonNull(modelContext);
+        for (var module : modelContext.getModules()) {
+            prefixes.put(module.getQNameModule(), module.getPrefix());
+        }
+        root = new Node(this, null, null, Node.Kind.ROOT, ImmutableList.of());
+        nodes.add(root);
+        addChildren(root, root.levels, modelContext.getChildNodes(), ImmutableList.of());
+    }
+
+    @NonNull EffectiveModelContext modelContext() {
+        return modelContext;
+    }
+
+    @NonNull Node root() {
+        return root;
+    }
+
+    /**
+     * Return all {@link Node}s in this tree, in pre-order.
+     *
+     * @return all {@link Node}s
+     */
+    @NonNull List<Node> nodes() {
+        return nodes;
+    }
+
+    @NonNull List<GuardedWhen> guardedWhens() {
+        return guardedWhens;
+    }
+
+    /**
+     * Return the prefix of a module, as used for string values of {@code identityref}s and the {@code name()}
+     * function.
+     *
+     * @param module module namespace
+     * @return module prefix, or {@code null} if the module is not known
+     */
+    @Nullable String prefixOf(final QNameModule module) {
+        return prefixes.get(module);
+    }
+
+    private void addChildren(final Node parent, final Map<NodeIdentifier, Level> levels,
+            final Collection<? extends DataSchemaNode> children, final ImmutableList<NodeIdentifier> prefix) {
+        for (var child : children) {
+            final var id = NodeIdentifier.create(child.getQName());
+            final var steps = ImmutableList.<NodeIdentifier>builderWithExpectedSize(prefix.size() + 1)
+                .addAll(prefix).add(id).build();
+
+            final Level level;
+            switch (child) {
+                case ChoiceSchemaNode choice -> {
+                    final var created = new Choice();
+                    for (var caseNode : choice.getCases()) {
+                        final int before = parent.children.size();
+                        addChildren(parent, created.levels, caseNode.getChildNodes(), steps);
+                        final var caseNodes = ImmutableList.copyOf(
+                            parent.children.subList(before, parent.children.size()));
+                        created.nodes.addAll(caseNodes);
+                        caseNode.getWhenCondition().ifPresent(when -> guardedWhens.add(
+                            new GuardedWhen(parent, caseNodes, when, caseNode.getQName().getModule())));
+                        addAugmentations(parent, created.levels, caseNode);
+                    }
+                    choice.getWhenCondition().ifPresent(when -> guardedWhens.add(new GuardedWhen(parent,
+                        ImmutableList.copyOf(created.nodes), when, choice.getQName().getModule())));
+                    level = created;
+                }
+                case ContainerLike container -> level = addNode(parent, child, Node.Kind.CONTAINER, steps, container);
+                case ListSchemaNode list -> level = addNode(parent, child, Node.Kind.LIST, steps, list);
+                case LeafSchemaNode leaf -> level = addNode(parent, child, Node.Kind.LEAF, steps, null);
+                case LeafListSchemaNode leafList -> level = addNode(parent, child, Node.Kind.LEAF_LIST, steps, null);
+                case AnydataSchemaNode anydata -> level = addNode(parent, child, Node.Kind.ANY, steps, null);
+                case AnyxmlSchemaNode anyxml -> level = addNode(parent, child, Node.Kind.ANY, steps, null);
+                default -> {
+                    continue;
+                }
+            }
+            levels.put(id, level);
+        }
+    }
+
+    private Node addNode(final Node parent, final DataSchemaNode schema, final Node.Kind kind,
+            final ImmutableList<NodeIdentifier> steps, final @Nullable DataNodeContainer container) {
+        final var node = new Node(this, parent, schema, kind, steps);
+        parent.children.add(node);
+        nodes.add(node);
+        if (container != null) {
+            addChildren(node, node.levels, container.getChildNodes(), ImmutableList.of());
+            if (container instanceof AugmentationTarget target) {
+                addAugmentations(node, node.levels, target);
+            }
+        }
+        return node;
+    }
+
+    private void addAugmentations(final Node context, final Map<NodeIdentifier, Level> levels,
+            final AugmentationTarget target) {
+        for (var augment : target.getAvailableAugmentations()) {
+            final var when = augment.getWhenCondition();
+            if (when.isEmpty()) {
+                continue;
+            }
+
+            final var guard = ImmutableList.<Node>builder();
+            QNameModule namespace = null;
+            for (var child : augment.getChildNodes()) {
+                final var qname = child.getQName();
+                namespace = qname.getModule();
+                final var level = levels.get(NodeIdentifier.create(qname));
+                if (level != null) {
+                    guard.addAll(level.xpathNodes());
+                }
+            }
+            if (namespace != null) {
+                guardedWhens.add(new GuardedWhen(context, guard.build(), when.orElseThrow(), namespace));
+            }
+        }
+    }
+}
@@ -37,6 +37,14 @@ abstract class AbstractModifiedContainerNode extends AbstractContainerNode {
         return MapAdaptor.getDefaultInstance().takeSnapshot(children);
     }
 
+    final Map<PathArgument, TreeNode> replaceChildren(final Map<PathArgument, TreeNode> replacedChildren) {
+        final var ret = snapshotChildren();
+        for (var entry : replacedChildren.entrySet()) {
+            ret.replace(entry.getKey(), entry.getValue());
+        }
+        return MapAdaptor.getDefaultInstance().optimize(ret);
+    }
+
     @Override
     public final Version subtreeVersion() {
         return subtreeVersion;
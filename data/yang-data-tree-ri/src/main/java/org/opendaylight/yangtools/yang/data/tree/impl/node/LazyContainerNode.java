@@ -36,6 +36,11 @@ final class LazyContainerNode extends AbstractModifiedContainerNode {
             : new LazyMutableContainerNode(this, nextSubtreeVersion, snapshot);
     }
 
+    @Override
+    public TreeNode withData(final NormalizedNode newData, final Map<PathArgument, TreeNode> replacedChildren) {
+        return new LazyContainerNode(newData, incarnation(), replaceChildren(replacedChildren), subtreeVersion());
+    }
+
     @Override
     public TreeNode childByArg(final PathArgument arg) {
         final TreeNode modified;
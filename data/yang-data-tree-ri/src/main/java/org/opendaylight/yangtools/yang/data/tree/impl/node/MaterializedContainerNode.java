@@ -25,6 +25,12 @@ final class MaterializedContainerNode extends AbstractModifiedContainerNode {
         return getModifiedChild(arg);
     }
 
+    @Override
+    public TreeNode withData(final NormalizedNode newData, final Map<PathArgument, TreeNode> replacedChildren) {
+        return new MaterializedContainerNode(newData, incarnation(), replaceChildren(replacedChildren),
+            subtreeVersion());
+    }
+
     @Override
     MutableTreeNode toMutable(final Version nextSubtreeVersion) {
         return new MaterializedMutableContainerNode(this, nextSubtreeVersion, snapshotChildren());
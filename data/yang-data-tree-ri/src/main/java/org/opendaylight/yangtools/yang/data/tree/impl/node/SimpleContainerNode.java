@@ -8,6 +8,7 @@
 package org.opendaylight.yangtools.yang.data.tree.impl.node;
 
 import com.google.common.base.MoreObjects.ToStringHelper;
+import java.util.Map;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
@@ -32,6 +33,12 @@ final class SimpleContainerNode extends AbstractContainerNode {
         return childFromData(arg);
     }
 
+    @Override
+    public TreeNode withData(final NormalizedNode newData, final Map<PathArgument, TreeNode> replacedChildren) {
+        // All children are instantiated from data
+        return new SimpleContainerNode(newData, incarnation());
+    }
+
     @Override
     MutableTreeNode toMutable(final Version nextSubtreeVersion) {
         return new LazyMutableContainerNode(this, nextSubtreeVersion);
@@ -11,7 +11,9 @@ import static java.util.Objects.requireNonNull;
 
 import com.google.common.base.MoreObjects;
 import com.google.common.base.MoreObjects.ToStringHelper;
+import java.util.Map;
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
 import org.opendaylight.yangtools.yang.data.api.schema.DistinctNodeContainer;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 import org.opendaylight.yangtools.yang.data.api.schema.OrderedNodeContainer;
@@ -91,6 +93,18 @@ public abstract class TreeNode implements StoreTreeNode<TreeNode> {
      */
     public abstract Version subtreeVersion();
 
+    /**
+     * Return a node with the same {@link #incarnation()} and {@link #subtreeVersion()}, but holding different data.
+     * This is meant to be used when the data is being replaced with an equivalent representation, which does not
+     * constitute a modification. Any children tracked by this node are retained, except those present in
+     * {@code replacedChildren}, which are replaced with the specified nodes. Nodes which are not tracked are not added.
+     *
+     * @param newData replacement data, expected to be equal to {@link #data()}
+     * @param replacedChildren replacement child nodes
+     * @return A new TreeNode
+     */
+    public abstract TreeNode withData(NormalizedNode newData, Map<PathArgument, TreeNode> replacedChildren);
+
     /**
      * Get a mutable, isolated copy of this node.
      *
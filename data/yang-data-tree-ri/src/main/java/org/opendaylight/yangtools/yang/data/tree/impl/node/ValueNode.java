@@ -8,6 +8,7 @@
 package org.opendaylight.yangtools.yang.data.tree.impl.node;
 
 import com.google.common.base.MoreObjects.ToStringHelper;
+import java.util.Map;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
@@ -38,6 +39,11 @@ final class ValueNode extends TreeNode {
         return incarnation();
     }
 
+    @Override
+    public TreeNode withData(final NormalizedNode newData, final Map<PathArgument, TreeNode> replacedChildren) {
+        return new ValueNode(newData, incarnation());
+    }
+
     @Override
     MutableTreeNode toMutable(final Version nextSubtreeVersion) {
         /**
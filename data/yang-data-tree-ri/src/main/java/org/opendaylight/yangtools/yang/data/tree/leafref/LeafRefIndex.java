@@ -0,0 +1,347 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.leafref;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.Beta;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.HashMultiset;
+import com.google.common.collect.ImmutableList;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.schema.ChoiceNode;
+import org.opendaylight.yangtools.yang.data.api.schema.LeafNode;
+import org.opendaylight.yangtools.yang.data.api.schema.LeafSetEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.UnkeyedListEntryNode;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidate;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidateNode;
+import org.opendaylight.yangtools.yang.data.tree.api.ModificationType;
+import org.opendaylight.yangtools.yang.data.tree.spi.DataTreeCandidateNodes;
+
+/**
+ * An index of the values stored in leafref leaves and in the leaves they target. For each such path the index keeps
+ * a reference-counted multiset of values present in the datastore. The index is maintained incrementally from
+ * {@link DataTreeCandidate}s and is consulted by {@link LeafRefValidation#validate(DataTreeCandidate, LeafRefContext,
+ * LeafRefIndex)}, so that validation cost is proportional to the size of the change rather than the size of the
+ * datastore.
+ *
+ * <p>Only leafrefs whose absolute target path does not contain predicates are indexed, as the set of values valid
+ * for other leafrefs depends on the location of the leafref itself. Those are validated by scanning the datastore, just
+ * as {@link LeafRefValidation#validate(DataTreeCandidate, LeafRefContext)} does.
+ *
+ * <p>This class is not thread-safe. Users are expected to invoke {@link #apply(DataTreeCandidate)} with each
+ * candidate committed to the data tree, in commit order.
+ */
+@Beta
+public final class LeafRefIndex {
+    /**
+     * A node in the trie of indexed paths. Choices, cases and list entries do not have a corresponding node, which
+     * mirrors the way {@link LeafRefPath}s address data.
+     */
+    private static final class PathNode {
+        final Map<QName, PathNode> children = new HashMap<>();
+        // Non-null for leaf and leaf-list nodes
+        HashMultiset<Object> values;
+
+        PathNode child(final QName qname) {
+            return children.computeIfAbsent(qname, k -> new PathNode());
+        }
+    }
+
+    /**
+     * A view of the index with the effects of a {@link DataTreeCandidate} applied on top of it.
+     */
+    final class Prepared {
+        private final Map<HashMultiset<Object>, Map<Object, Integer>> deltas = new IdentityHashMap<>();
+
+        Prepared(final Collection<DataTreeCandidateNode> children) {
+            collect(this, root, children);
+        }
+
+        /**
+         * Return the set of values the index would hold at specified path after the candidate is applied. The returned
+         * set is a view, which answers {@link Set#contains(Object)} without iterating over all values.
+         *
+         * @param values the values at the path
+         * @return the values after the candidate is applied
+         */
+        Set<Object> values(final HashMultiset<Object> values) {
+            final var delta = deltas.get(values);
+            if (delta == null) {
+                return Collections.unmodifiableSet(values.elementSet());
+            }
+
+            // Membership checks are cheap, everything else needs to materialize the set
+            return new AbstractSet<>() {
+                @Override
+                public boolean contains(final Object obj) {
+                    return count(values, delta, obj) > 0;
+                }
+
+                @Override
+                public Iterator<Object> iterator() {
+                    return materialize().iterator();
+                }
+
+                @Override
+                public int size() {
+                    return materialize().size();
+                }
+
+                private Set<Object> materialize() {
+                    final var ret = new HashSet<>();
+                    for (var value : values.elementSet()) {
+                        if (contains(value)) {
+                            ret.add(value);
+                        }
+                    }
+                    for (var value : delta.keySet()) {
+                        if (contains(value)) {
+                            ret.add(value);
+                        }
+                    }
+                    return Collections.unmodifiableSet(ret);
+                }
+            };
+        }
+
+        /**
+         * Return the values which are present at specified path before the candidate is applied, but not after it.
+         *
+         * @param values the values at the path
+         * @return the removed values
+         */
+        List<Object> removed(final HashMultiset<Object> values) {
+            final var delta = deltas.get(values);
+            if (delta == null) {
+                return List.of();
+            }
+            final var ret = new ArrayList<>();
+            for (var entry : delta.entrySet()) {
+                final var value = entry.getKey();
+                if (entry.getValue() < 0 && values.contains(value) && count(values, delta, value) == 0) {
+                    ret.add(value);
+                }
+            }
+            return ret;
+        }
+
+        void add(final HashMultiset<Object> values, final Object value, final int count) {
+            deltas.computeIfAbsent(values, k -> new HashMap<>()).merge(value, count, Integer::sum);
+        }
+
+        void commit() {
+            for (var entry : deltas.entrySet()) {
+                final var values = entry.getKey();
+                for (var delta : entry.getValue().entrySet()) {
+                    final int count = delta.getValue();
+                    if (count > 0) {
+                        values.add(delta.getKey(), count);
+                    } else if (count < 0) {
+                        values.remove(delta.getKey(), -count);
+                    }
+                }
+            }
+        }
+
+        private static int count(final HashMultiset<Object> values, final Map<Object, Integer> delta,
+                final Object value) {
+            return values.count(value) + delta.getOrDefault(value, 0);
+        }
+    }
+
+    private final @NonNull LeafRefContext context;
+    private final PathNode root = new PathNode();
+    // Indexed leafrefs to the values they reference and to the values they hold
+    private final Map<LeafRefContext, HashMultiset<Object>> targetValues = new IdentityHashMap<>();
+    private final Map<LeafRefContext, HashMultiset<Object>> leafRefValues = new IdentityHashMap<>();
+
+    private LeafRefIndex(final LeafRefContext context) {
+        this.context = requireNonNull(context);
+        addLeafRefs(context);
+    }
+
+    /**
+     * Create an empty index for specified root {@link LeafRefContext}.
+     *
+     * @param context root leafref context
+     * @return a new index
+     * @throws NullPointerException if {@code context} is null
+     */
+    public static @NonNull LeafRefIndex create(final LeafRefContext context) {
+        return new LeafRefIndex(context);
+    }
+
+    /**
+     * Create an index for specified root {@link LeafRefContext}, populated with the contents of a data tree.
+     *
+     * @param context root leafref context
+     * @param data data tree root node
+     * @return a new index
+     * @throws NullPointerException if any argument is null
+     */
+    public static @NonNull LeafRefIndex create(final LeafRefContext context, final NormalizedNode data) {
+        final var ret = new LeafRefIndex(context);
+        ret.new Prepared(DataTreeCandidateNodes.written(data).childNodes()).commit();
+        return ret;
+    }
+
+    /**
+     * Return the root {@link LeafRefContext} this index is maintained for.
+     *
+     * @return the root leafref context
+     */
+    public @NonNull LeafRefContext context() {
+        return context;
+    }
+
+    /**
+     * Update this index with the effects of a {@link DataTreeCandidate}.
+     *
+     * @param candidate the candidate, which has been committed to the data tree
+     * @throws IllegalArgumentException if the candidate is not rooted at data tree root
+     * @throws NullPointerException if {@code candidate} is null
+     */
+    public void apply(final DataTreeCandidate candidate) {
+        prepare(candidate).commit();
+    }
+
+    @NonNull Prepared prepare(final DataTreeCandidate candidate) {
+        checkArgument(candidate.getRootPath().isEmpty(), "Candidate %s is not rooted at data tree root", candidate);
+        return new Prepared(candidate.getRootNode().childNodes());
+    }
+
+    /**
+     * Return the values referenced by an indexed leafref.
+     *
+     * @param leafRef the leafref
+     * @return the referenced values, or {@code null} if the leafref is not indexed
+     */
+    @Nullable HashMultiset<Object> targetValues(final LeafRefContext leafRef) {
+        return targetValues.get(leafRef);
+    }
+
+    /**
+     * Return the values held by an indexed leafref.
+     *
+     * @param leafRef the leafref
+     * @return the leafref values, or {@code null} if the leafref is not indexed
+     */
+    @Nullable HashMultiset<Object> leafRefValues(final LeafRefContext leafRef) {
+        return leafRefValues.get(leafRef);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("leafRefs", leafRefValues.size()).toString();
+    }
+
+    private void addLeafRefs(final LeafRefContext ctx) {
+        if (ctx.isReferencing()) {
+            final var targetPath = indexPath(ctx.getAbsoluteLeafRefTargetPath());
+            if (targetPath != null) {
+                targetValues.put(ctx, valuesAt(targetPath));
+                leafRefValues.put(ctx, valuesAt(verifyIndexable(ctx.getLeafRefNodePath())));
+            }
+        }
+        for (var child : ctx.getReferencingChilds().values()) {
+            addLeafRefs(child);
+        }
+    }
+
+    private HashMultiset<Object> valuesAt(final List<QName> path) {
+        var node = root;
+        for (var qname : path) {
+            node = node.child(qname);
+        }
+        var ret = node.values;
+        if (ret == null) {
+            node.values = ret = HashMultiset.create();
+        }
+        return ret;
+    }
+
+    private static @Nullable ImmutableList<QName> indexPath(final LeafRefPath path) {
+        final var builder = ImmutableList.<QName>builder();
+        for (var element : path.getPathFromRoot()) {
+            if (!element.getQNamePredicates().isEmpty()) {
+                return null;
+            }
+            builder.add(element.getQName());
+        }
+        return builder.build();
+    }
+
+    private static ImmutableList<QName> verifyIndexable(final LeafRefPath path) {
+        final var ret = indexPath(path);
+        checkArgument(ret != null, "Unexpected predicates in %s", path);
+        return ret;
+    }
+
+    private static void collect(final Prepared prepared, final PathNode parent,
+            final Collection<DataTreeCandidateNode> children) {
+        for (var child : children) {
+            if (child.modificationType() == ModificationType.UNMODIFIED) {
+                continue;
+            }
+
+            final var after = child.dataAfter();
+            switch (after != null ? after : child.dataBefore()) {
+                case LeafSetEntryNode<?> entry -> {
+                    if (parent.values != null) {
+                        collectValue(prepared, parent.values, child);
+                    }
+                }
+                // Not addressed by LeafRefPath, look through
+                case ChoiceNode choice -> collect(prepared, parent, child.childNodes());
+                case MapEntryNode entry -> collect(prepared, parent, child.childNodes());
+                case UnkeyedListEntryNode entry -> collect(prepared, parent, child.childNodes());
+                case LeafNode<?> leaf -> {
+                    final var node = parent.children.get(child.name().getNodeType());
+                    if (node != null && node.values != null) {
+                        collectValue(prepared, node.values, child);
+                    }
+                }
+                case null, default -> {
+                    final var node = parent.children.get(child.name().getNodeType());
+                    if (node != null) {
+                        collect(prepared, node, child.childNodes());
+                    }
+                }
+            }
+        }
+    }
+
+    private static void collectValue(final Prepared prepared, final HashMultiset<Object> values,
+            final DataTreeCandidateNode node) {
+        final var before = node.dataBefore();
+        if (before != null) {
+            prepared.add(values, before.body(), -1);
+        }
+        final var after = node.dataAfter();
+        if (after != null) {
+            prepared.add(values, after.body(), 1);
+        }
+    }
+}
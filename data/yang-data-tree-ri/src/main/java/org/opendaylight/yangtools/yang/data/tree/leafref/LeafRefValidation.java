@@ -7,8 +7,10 @@
  */
 package org.opendaylight.yangtools.yang.data.tree.leafref;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Verify.verifyNotNull;
 
+import com.google.common.annotations.Beta;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import java.util.ArrayDeque;
@@ -50,16 +52,45 @@ public final class LeafRefValidation {
     private final Set<LeafRefContext> validatedLeafRefCtx = new HashSet<>();
     private final List<String> errorsMessages = new ArrayList<>();
     private final NormalizedNode root;
+    private final LeafRefIndex index;
+    private final LeafRefIndex.Prepared prepared;
 
-    private LeafRefValidation(final NormalizedNode root) {
+    private LeafRefValidation(final NormalizedNode root, final LeafRefIndex index,
+            final LeafRefIndex.Prepared prepared) {
         this.root = root;
+        this.index = index;
+        this.prepared = prepared;
     }
 
     public static void validate(final DataTreeCandidate tree, final LeafRefContext rootLeafRefCtx)
             throws LeafRefDataValidationFailedException {
         final var root = tree.getRootNode().dataAfter();
         if (root != null) {
-            new LeafRefValidation(root).validateChildren(rootLeafRefCtx, tree.getRootNode().childNodes());
+            new LeafRefValidation(root, null, null).validateChildren(rootLeafRefCtx, tree.getRootNode().childNodes());
+        }
+    }
+
+    /**
+     * Validate a {@link DataTreeCandidate} using a {@link LeafRefIndex}. Values of leafrefs, as well as values of their
+     * targets, are looked up in the index, with the effects of the candidate applied on top of it, instead of being
+     * collected from the entire datastore. The index itself is not updated: users are expected to invoke
+     * {@link LeafRefIndex#apply(DataTreeCandidate)} once the candidate is committed.
+     *
+     * @param tree candidate to validate
+     * @param rootLeafRefCtx root leafref context
+     * @param index index reflecting the state of the data tree the candidate was prepared against
+     * @throws LeafRefDataValidationFailedException if the candidate fails validation
+     * @throws IllegalArgumentException if {@code index} was not created for {@code rootLeafRefCtx}
+     */
+    @Beta
+    public static void validate(final DataTreeCandidate tree, final LeafRefContext rootLeafRefCtx,
+            final LeafRefIndex index) throws LeafRefDataValidationFailedException {
+        checkArgument(index.context() == rootLeafRefCtx, "Index %s does not match context %s", index,
+            rootLeafRefCtx);
+        final var root = tree.getRootNode().dataAfter();
+        if (root != null) {
+            new LeafRefValidation(root, index, index.prepare(tree))
+                .validateChildren(rootLeafRefCtx, tree.getRootNode().childNodes());
         }
     }
 
@@ -128,8 +159,7 @@ public final class LeafRefValidation {
         final QName childQName = childNode.name().getNodeType();
         LeafRefContext childReferencingCtx = referencingCtx.getReferencingChildByName(childQName);
         if (childReferencingCtx == null) {
-            final NormalizedNode data = verifyNotNull(childNode.dataAfter());
-            if (data instanceof MapEntryNode || data instanceof UnkeyedListEntryNode) {
+            if (isListEntry(childNode)) {
                 childReferencingCtx = referencingCtx;
             }
         }
@@ -146,8 +176,7 @@ public final class LeafRefValidation {
         final QName childQName = childNode.name().getNodeType();
         LeafRefContext childReferencedByCtx = referencedByCtx.getReferencedChildByName(childQName);
         if (childReferencedByCtx == null) {
-            final NormalizedNode data = verifyNotNull(childNode.dataAfter());
-            if (data instanceof MapEntryNode || data instanceof UnkeyedListEntryNode) {
+            if (isListEntry(childNode)) {
                 childReferencedByCtx = referencedByCtx;
             }
         }
@@ -155,6 +184,13 @@ public final class LeafRefValidation {
         return childReferencedByCtx;
     }
 
+    // Deleted entries have no data after the modification, but they are still entries
+    private static boolean isListEntry(final DataTreeCandidateNode node) {
+        final var after = node.dataAfter();
+        final var data = after != null ? after : node.getDataBefore();
+        return data instanceof MapEntryNode || data instanceof UnkeyedListEntryNode;
+    }
+
     private void validateNodeData(final NormalizedNode node, final LeafRefContext referencedByCtx,
             final LeafRefContext referencingCtx, final ModificationType modificationType,
             final YangInstanceIdentifier current) {
@@ -289,24 +325,43 @@ public final class LeafRefValidation {
             return;
         }
 
-        final var leafRefTargetNodeValues = extractRootValues(referencedByCtx);
-        leafRefs.forEach(leafRefContext -> {
-            extractRootValues(leafRefContext).forEach(leafRefsValue -> {
+        Set<Object> leafRefTargetNodeValues = null;
+        for (var leafRefContext : leafRefs) {
+            final var targets = index == null ? null : index.targetValues(leafRefContext);
+            if (targets != null) {
+                // Indexed: only values which are going away may invalidate existing leafrefs
+                final var leafRefValues = prepared.values(verifyNotNull(index.leafRefValues(leafRefContext)));
+                for (var removed : prepared.removed(targets)) {
+                    if (leafRefValues.contains(removed)) {
+                        reportInvalidTarget(removed, prepared.values(targets), leaf, leafRefContext);
+                    }
+                }
+                continue;
+            }
+
+            if (leafRefTargetNodeValues == null) {
+                leafRefTargetNodeValues = extractRootValues(referencedByCtx);
+            }
+            for (var leafRefsValue : extractRootValues(leafRefContext)) {
                 if (leafRefTargetNodeValues.contains(leafRefsValue)) {
                     LOG.trace("Valid leafref value [{}] {}", leafRefsValue, SUCCESS);
-                    return;
+                } else {
+                    reportInvalidTarget(leafRefsValue, leafRefTargetNodeValues, leaf, leafRefContext);
                 }
+            }
+        }
+    }
 
-                LOG.debug("Invalid leafref value [{}] allowed values {} by validation of leafref TARGET node: {} path "
-                        + "of invalid LEAFREF node: {} leafRef target path: {} {}", leafRefsValue,
-                        leafRefTargetNodeValues, leaf.name(), leafRefContext.getCurrentNodePath(),
-                        leafRefContext.getAbsoluteLeafRefTargetPath(), FAILED);
-                errorsMessages.add("Invalid leafref value [%s] allowed values %s by validation of leafref TARGET node: "
-                    + "%s path of invalid LEAFREF node: %s leafRef target path: %s %s".formatted(leafRefsValue,
-                        leafRefTargetNodeValues, leaf.name(), leafRefContext.getCurrentNodePath(),
-                        leafRefContext.getAbsoluteLeafRefTargetPath(), FAILED));
-            });
-        });
+    private void reportInvalidTarget(final Object leafRefsValue, final Set<Object> leafRefTargetNodeValues,
+            final NormalizedNode leaf, final LeafRefContext leafRefContext) {
+        LOG.debug("Invalid leafref value [{}] allowed values {} by validation of leafref TARGET node: {} path "
+                + "of invalid LEAFREF node: {} leafRef target path: {} {}", leafRefsValue,
+                leafRefTargetNodeValues, leaf.name(), leafRefContext.getCurrentNodePath(),
+                leafRefContext.getAbsoluteLeafRefTargetPath(), FAILED);
+        errorsMessages.add("Invalid leafref value [%s] allowed values %s by validation of leafref TARGET node: "
+            + "%s path of invalid LEAFREF node: %s leafRef target path: %s %s".formatted(leafRefsValue,
+                leafRefTargetNodeValues, leaf.name(), leafRefContext.getCurrentNodePath(),
+                leafRefContext.getAbsoluteLeafRefTargetPath(), FAILED));
     }
 
     private Set<Object> extractRootValues(final LeafRefContext context) {
@@ -315,7 +370,9 @@ public final class LeafRefValidation {
 
     private void validateLeafRefNodeData(final NormalizedNode leaf, final LeafRefContext referencingCtx,
             final ModificationType modificationType, final YangInstanceIdentifier current) {
-        final var values = computeValues(root, createPath(referencingCtx.getAbsoluteLeafRefTargetPath()), current);
+        final var targets = index == null ? null : index.targetValues(referencingCtx);
+        final var values = targets != null ? prepared.values(targets)
+            : computeValues(root, createPath(referencingCtx.getAbsoluteLeafRefTargetPath()), current);
         if (values.contains(leaf.body())) {
             LOG.debug("Operation [{}] validate data of LEAFREF node: name[{}] = value[{}] {}", modificationType,
                 referencingCtx.getNodeName(), leaf.body(), SUCCESS);
@@ -0,0 +1,259 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.spi.node.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTree;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeConfiguration;
+import org.opendaylight.yangtools.yang.data.tree.api.DataValidationFailedException;
+import org.opendaylight.yangtools.yang.data.tree.api.TreeType;
+import org.opendaylight.yangtools.yang.data.tree.spi.SubtreeCodec;
+
+class OffHeapDataTreeTest extends AbstractTestModelTest {
+    /**
+     * A codec which retains the nodes it writes, encoding only their index.
+     */
+    private static final class TestCodec implements SubtreeCodec {
+        private final List<NormalizedNode> nodes = new ArrayList<>();
+
+        @Override
+        public void writeSubtree(final DataOutput output, final NormalizedNode node) throws IOException {
+            output.writeInt(nodes.size());
+            nodes.add(node);
+        }
+
+        @Override
+        public NormalizedNode readSubtree(final DataInput input) throws IOException {
+            return nodes.get(input.readInt());
+        }
+    }
+
+    private static final int ENTRY_COUNT = 10;
+
+    private final TestCodec codec = new TestCodec();
+
+    @Test
+    void testColdEntriesOffloaded() throws DataValidationFailedException {
+        final var dataTree = createDataTree(1024);
+        final var initial = writeInitial(dataTree);
+        ageEntries(dataTree);
+
+        assertEquals(ENTRY_COUNT, codec.nodes.size());
+        final var snapshot = dataTree.takeSnapshot();
+        for (int i = 0; i < ENTRY_COUNT; ++i) {
+            final var expected = outerListEntry(i);
+            final var actual = assertInstanceOf(OffHeapMapEntryNode.class,
+                snapshot.readNode(entryPath(i)).orElseThrow());
+            assertEquals(expected, actual);
+            assertEquals(actual, expected);
+            assertEquals(expected.hashCode(), actual.hashCode());
+            // Copy builders accept off-heap entries
+            assertEquals(expected, ImmutableNodes.builderFactory().newMapEntryBuilder(actual).build());
+        }
+
+        // Hot entries remain on heap
+        assertFalse(snapshot.readNode(entryPath(ENTRY_COUNT)).orElseThrow() instanceof OffHeapMapEntryNode);
+
+        final var test = assertInstanceOf(ContainerNode.class, snapshot.readNode(TestModel.TEST_PATH).orElseThrow());
+        final var outerList = assertInstanceOf(MapNode.class,
+            test.getChildByArg(new NodeIdentifier(TestModel.OUTER_LIST_QNAME)));
+        for (var entry : initial) {
+            assertEquals(entry, outerList.childByArg(entry.name()));
+        }
+    }
+
+    @Test
+    void testModifyOffloadedEntry() throws DataValidationFailedException {
+        final var dataTree = createDataTree(1024);
+        writeInitial(dataTree);
+        ageEntries(dataTree);
+
+        final var entry = ImmutableNodes.newMapEntryBuilder()
+            .withNodeIdentifier(entryName(0))
+            .withChild(ImmutableNodes.newChoiceBuilder()
+                .withNodeIdentifier(new NodeIdentifier(TestModel.OUTER_CHOICE_QNAME))
+                .withChild(ImmutableNodes.leafNode(TestModel.TWO_QNAME, "two"))
+                .build())
+            .build();
+        final var mod = dataTree.takeSnapshot().newModification();
+        mod.merge(entryPath(0), entry);
+        mod.ready();
+        dataTree.validate(mod);
+        dataTree.commit(dataTree.prepare(mod));
+
+        final var read = dataTree.takeSnapshot().readNode(entryPath(0)).orElseThrow();
+        assertFalse(read instanceof OffHeapMapEntryNode);
+        assertEquals(ImmutableNodes.newMapEntryBuilder()
+            .withNodeIdentifier(entryName(0))
+            .withChild(ImmutableNodes.leafNode(TestModel.ID_QNAME, (short) 0))
+            .withChild(entry.getChildByArg(new NodeIdentifier(TestModel.OUTER_CHOICE_QNAME)))
+            .build(), read);
+    }
+
+    @Test
+    void testBudgetRespected() throws DataValidationFailedException {
+        // Each entry takes a single int
+        final var dataTree = createDataTree(4 * Integer.BYTES);
+        writeInitial(dataTree);
+        ageEntries(dataTree);
+
+        final var snapshot = dataTree.takeSnapshot();
+        int offHeap = 0;
+        for (int i = 0; i < ENTRY_COUNT; ++i) {
+            final var entry = snapshot.readNode(entryPath(i)).orElseThrow();
+            if (entry instanceof OffHeapMapEntryNode) {
+                offHeap++;
+            }
+            assertEquals(outerListEntry(i), entry);
+        }
+        assertEquals(4, offHeap);
+    }
+
+    @Test
+    void testUncommittedCandidatesIgnored() throws DataValidationFailedException {
+        final var dataTree = createDataTree(1024);
+        writeInitial(dataTree);
+
+        // Candidates which are not committed do not age entries
+        for (int i = 0; i < 2 * OffHeapStore.HOT_GENERATIONS; ++i) {
+            final var mod = dataTree.takeSnapshot().newModification();
+            mod.write(entryPath(ENTRY_COUNT + i), outerListEntry(ENTRY_COUNT + i));
+            mod.ready();
+            dataTree.validate(mod);
+            dataTree.prepare(mod);
+        }
+        assertEquals(List.of(), codec.nodes);
+
+        ageEntries(dataTree);
+        assertEquals(ENTRY_COUNT, codec.nodes.size());
+    }
+
+    @Test
+    void testOffloadInBackground() throws DataValidationFailedException {
+        final var tasks = new ArrayDeque<Runnable>();
+        final var dataTree = createDataTree(1024, tasks::add);
+        writeInitial(dataTree);
+        ageEntries(dataTree);
+
+        // Nothing is offloaded until the background task runs
+        assertEquals(List.of(), codec.nodes);
+        final var mod = dataTree.takeSnapshot().newModification();
+        mod.write(entryPath(ENTRY_COUNT + OffHeapStore.HOT_GENERATIONS),
+            outerListEntry(ENTRY_COUNT + OffHeapStore.HOT_GENERATIONS));
+        mod.ready();
+        dataTree.validate(mod);
+        final var candidate = dataTree.prepare(mod);
+
+        runTasks(tasks);
+        assertEquals(ENTRY_COUNT, codec.nodes.size());
+        assertInstanceOf(OffHeapMapEntryNode.class, dataTree.takeSnapshot().readNode(entryPath(0)).orElseThrow());
+
+        // A candidate prepared before offloading can still be committed, but it brings entries back on heap ...
+        dataTree.commit(candidate);
+        final var read = dataTree.takeSnapshot().readNode(entryPath(0)).orElseThrow();
+        assertFalse(read instanceof OffHeapMapEntryNode);
+        assertEquals(outerListEntry(0), read);
+
+        // ... until they are offloaded again, along with the entry written by the first commit in ageEntries()
+        runTasks(tasks);
+        assertEquals(2 * ENTRY_COUNT + 1, codec.nodes.size());
+        assertInstanceOf(OffHeapMapEntryNode.class, dataTree.takeSnapshot().readNode(entryPath(0)).orElseThrow());
+    }
+
+    @Test
+    void testNoBudget() throws DataValidationFailedException {
+        final var dataTree = createDataTree(0);
+        writeInitial(dataTree);
+        ageEntries(dataTree);
+
+        assertEquals(List.of(), codec.nodes);
+    }
+
+    private DataTree createDataTree(final long budget) {
+        return createDataTree(budget, Runnable::run);
+    }
+
+    private DataTree createDataTree(final long budget, final Executor executor) {
+        return new OffHeapDataTreeFactory(codec, executor).create(DataTreeConfiguration.builder(TreeType.OPERATIONAL)
+            .setOffHeapBudget(budget)
+            .build(), MODEL_CONTEXT);
+    }
+
+    private static List<MapEntryNode> writeInitial(final DataTree dataTree) throws DataValidationFailedException {
+        final var entries = new ArrayList<MapEntryNode>(ENTRY_COUNT);
+        final var outerList = ImmutableNodes.newSystemMapBuilder()
+            .withNodeIdentifier(new NodeIdentifier(TestModel.OUTER_LIST_QNAME));
+        for (int i = 0; i < ENTRY_COUNT; ++i) {
+            final var entry = outerListEntry(i);
+            entries.add(entry);
+            outerList.withChild(entry);
+        }
+
+        commit(dataTree, TestModel.TEST_PATH, ImmutableNodes.newContainerBuilder()
+            .withNodeIdentifier(new NodeIdentifier(TestModel.TEST_QNAME))
+            .withChild(outerList.build())
+            .build());
+        return entries;
+    }
+
+    private static void ageEntries(final DataTree dataTree) throws DataValidationFailedException {
+        // Each commit writes a single new entry, these are kept on heap
+        for (int i = 0; i < OffHeapStore.HOT_GENERATIONS; ++i) {
+            commit(dataTree, entryPath(ENTRY_COUNT + i), outerListEntry(ENTRY_COUNT + i));
+        }
+    }
+
+    private static void runTasks(final ArrayDeque<Runnable> tasks) {
+        for (var task = tasks.poll(); task != null; task = tasks.poll()) {
+            task.run();
+        }
+    }
+
+    private static void commit(final DataTree dataTree, final YangInstanceIdentifier path, final NormalizedNode data)
+            throws DataValidationFailedException {
+        final var mod = dataTree.takeSnapshot().newModification();
+        mod.write(path, data);
+        mod.ready();
+        dataTree.validate(mod);
+        dataTree.commit(dataTree.prepare(mod));
+    }
+
+    private static NodeIdentifierWithPredicates entryName(final int id) {
+        return NodeIdentifierWithPredicates.of(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, (short) id);
+    }
+
+    private static YangInstanceIdentifier entryPath(final int id) {
+        return TestModel.OUTER_LIST_PATH.node(entryName(id));
+    }
+
+    private static MapEntryNode outerListEntry(final int id) {
+        return ImmutableNodes.newMapEntryBuilder()
+            .withNodeIdentifier(entryName(id))
+            .withChild(ImmutableNodes.leafNode(TestModel.ID_QNAME, (short) id))
+            .build();
+    }
+}
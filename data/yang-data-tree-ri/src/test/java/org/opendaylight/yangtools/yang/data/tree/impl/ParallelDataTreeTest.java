@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.Uint16;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.spi.node.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.tree.api.ConflictingModificationAppliedException;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTree;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeConfiguration;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeModification;
+import org.opendaylight.yangtools.yang.data.tree.api.DataValidationFailedException;
+import org.opendaylight.yangtools.yang.data.tree.api.SchemaValidationFailedException;
+
+class ParallelDataTreeTest extends AbstractTestModelTest {
+    private static final int ENTRY_COUNT = 100;
+    private static final QName UNKNOWN_QNAME = QName.create(TestModel.TEST_QNAME, "unknown");
+
+    @Test
+    void testParallelWrite() throws DataValidationFailedException {
+        final var sequential = createDataTree(0);
+        final var parallel = createDataTree(1);
+
+        final var data = testContainer(false);
+        commitWrite(sequential, data);
+        commitWrite(parallel, data);
+        assertEquals(data, parallel.takeSnapshot().readNode(TestModel.TEST_PATH).orElseThrow());
+
+        // Merge a choice into every other entry, exercising application on top of existing nodes
+        final var sequentialMod = sequential.takeSnapshot().newModification();
+        final var parallelMod = parallel.takeSnapshot().newModification();
+        for (int i = 0; i < ENTRY_COUNT; i += 2) {
+            final var path = TestModel.OUTER_LIST_PATH.node(entryName(i));
+            final var entry = ImmutableNodes.newMapEntryBuilder()
+                .withNodeIdentifier(entryName(i))
+                .withChild(ImmutableNodes.newChoiceBuilder()
+                    .withNodeIdentifier(new NodeIdentifier(TestModel.OUTER_CHOICE_QNAME))
+                    .withChild(ImmutableNodes.leafNode(TestModel.TWO_QNAME, "two" + i))
+                    .build())
+                .build();
+            sequentialMod.merge(path, entry);
+            parallelMod.merge(path, entry);
+        }
+        commit(sequential, sequentialMod);
+        commit(parallel, parallelMod);
+
+        assertEquals(sequential.takeSnapshot().readNode(TestModel.TEST_PATH),
+            parallel.takeSnapshot().readNode(TestModel.TEST_PATH));
+    }
+
+    @Test
+    void testParallelStructureFailure() {
+        final var data = testContainer(true);
+        final var expected = assertThrows(SchemaValidationFailedException.class, () -> writeAndReady(0, data));
+        final var actual = assertThrows(SchemaValidationFailedException.class, () -> writeAndReady(1, data));
+        assertEquals(expected.getMessage(), actual.getMessage());
+    }
+
+    // Recursive structure verification of written data happens when the modification is sealed
+    private static void writeAndReady(final int parallelThreshold, final ContainerNode data) {
+        final var mod = createDataTree(parallelThreshold).takeSnapshot().newModification();
+        mod.write(TestModel.TEST_PATH, data);
+        mod.ready();
+    }
+
+    @Test
+    void testParallelPreconditionFailure() throws DataValidationFailedException {
+        assertEquals(preconditionFailure(0).getPath(), preconditionFailure(1).getPath());
+    }
+
+    private static ConflictingModificationAppliedException preconditionFailure(final int parallelThreshold)
+            throws DataValidationFailedException {
+        final var dataTree = createDataTree(parallelThreshold);
+        commitWrite(dataTree, ImmutableNodes.newContainerBuilder()
+            .withNodeIdentifier(new NodeIdentifier(TestModel.TEST_QNAME))
+            .withChild(ImmutableNodes.newSystemMapBuilder()
+                .withNodeIdentifier(new NodeIdentifier(TestModel.OUTER_LIST_QNAME))
+                .build())
+            .build());
+
+        // Two concurrent modifications creating the same entries
+        final var first = dataTree.takeSnapshot().newModification();
+        final var second = dataTree.takeSnapshot().newModification();
+        for (int i = 0; i < ENTRY_COUNT; ++i) {
+            final var path = TestModel.OUTER_LIST_PATH.node(entryName(i));
+            first.write(path, outerListEntry(i, false));
+            second.write(path, outerListEntry(i, false));
+        }
+        commit(dataTree, first);
+
+        second.ready();
+        return assertThrows(ConflictingModificationAppliedException.class, () -> dataTree.validate(second));
+    }
+
+    private static DataTree createDataTree(final int parallelThreshold) {
+        return new ReferenceDataTreeFactory().create(DataTreeConfiguration.DEFAULT_CONFIGURATION.toBuilder()
+            .setRecursiveWriteValidation(true)
+            .setParallelThreshold(parallelThreshold)
+            .build(), MODEL_CONTEXT);
+    }
+
+    private static void commitWrite(final DataTree dataTree, final ContainerNode data)
+            throws DataValidationFailedException {
+        final var mod = dataTree.takeSnapshot().newModification();
+        mod.write(TestModel.TEST_PATH, data);
+        commit(dataTree, mod);
+    }
+
+    private static void commit(final DataTree dataTree, final DataTreeModification mod)
+            throws DataValidationFailedException {
+        mod.ready();
+        dataTree.validate(mod);
+        dataTree.commit(dataTree.prepare(mod));
+    }
+
+    private static ContainerNode testContainer(final boolean invalid) {
+        final var outerList = ImmutableNodes.newSystemMapBuilder()
+            .withNodeIdentifier(new NodeIdentifier(TestModel.OUTER_LIST_QNAME));
+        for (int i = 0; i < ENTRY_COUNT; ++i) {
+            // Multiple invalid entries, only the first one should be reported
+            outerList.withChild(outerListEntry(i, invalid && i % 10 == 5));
+        }
+        return ImmutableNodes.newContainerBuilder()
+            .withNodeIdentifier(new NodeIdentifier(TestModel.TEST_QNAME))
+            .withChild(outerList.build())
+            .build();
+    }
+
+    private static NodeIdentifierWithPredicates entryName(final int id) {
+        return NodeIdentifierWithPredicates.of(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, Uint16.valueOf(id));
+    }
+
+    private static MapEntryNode outerListEntry(final int id, final boolean invalid) {
+        final var builder = ImmutableNodes.newMapEntryBuilder()
+            .withNodeIdentifier(entryName(id))
+            .withChild(ImmutableNodes.leafNode(TestModel.ID_QNAME, Uint16.valueOf(id)));
+        if (invalid) {
+            builder.withChild(ImmutableNodes.leafNode(UNKNOWN_QNAME, "unknown"));
+        }
+        return builder.build();
+    }
+}
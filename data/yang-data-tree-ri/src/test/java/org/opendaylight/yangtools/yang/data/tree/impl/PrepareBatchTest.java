@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.spi.node.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.tree.api.ConflictingModificationAppliedException;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTree;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeConfiguration;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeModification;
+import org.opendaylight.yangtools.yang.data.tree.api.DataValidationFailedException;
+import org.opendaylight.yangtools.yang.data.tree.api.ModificationType;
+
+class PrepareBatchTest extends AbstractTestModelTest {
+    private static final MapEntryNode FOO_NODE = outerListEntry((short) 1);
+    private static final MapEntryNode BAR_NODE = outerListEntry((short) 2);
+
+    private DataTree dataTree;
+
+    @BeforeEach
+    void beforeEach() throws DataValidationFailedException {
+        dataTree = new ReferenceDataTreeFactory().create(DataTreeConfiguration.DEFAULT_OPERATIONAL, MODEL_CONTEXT);
+
+        final var mod = dataTree.takeSnapshot().newModification();
+        mod.write(TestModel.TEST_PATH, ImmutableNodes.newContainerBuilder()
+            .withNodeIdentifier(new NodeIdentifier(TestModel.TEST_QNAME))
+            .withChild(ImmutableNodes.newSystemMapBuilder()
+                .withNodeIdentifier(new NodeIdentifier(TestModel.OUTER_LIST_QNAME))
+                .build())
+            .build());
+        mod.ready();
+        dataTree.validate(mod);
+        dataTree.commit(dataTree.prepare(mod));
+    }
+
+    @Test
+    void testEmptyBatch() {
+        final var batch = dataTree.prepareBatch(List.of());
+        assertTrue(batch.isComplete());
+        assertInstanceOf(NoopDataTreeCandidate.class, batch.candidate());
+    }
+
+    @Test
+    void testSingletonBatch() {
+        final var batch = dataTree.prepareBatch(List.of(writeEntry(dataTree.takeSnapshot().newModification(),
+            FOO_NODE)));
+        assertTrue(batch.isComplete());
+        assertInstanceOf(InMemoryDataTreeCandidate.class, batch.candidate());
+    }
+
+    @Test
+    void testBatchWithFailure() {
+        final var snapshot = dataTree.takeSnapshot();
+        final var foo = writeEntry(snapshot.newModification(), FOO_NODE);
+        final var bar = writeEntry(snapshot.newModification(), BAR_NODE);
+        // Conflicts with 'foo', as it attempts to create the same entry based on the same snapshot
+        final var conflict = writeEntry(snapshot.newModification(), FOO_NODE);
+
+        final var batch = dataTree.prepareBatch(List.of(foo, conflict, bar));
+        assertFalse(batch.isComplete());
+        assertEquals(1, batch.failures().size());
+        assertInstanceOf(ConflictingModificationAppliedException.class, batch.failures().get(conflict));
+
+        final var candidate = assertInstanceOf(BatchDataTreeCandidate.class, batch.candidate());
+        final var rootNode = candidate.getRootNode();
+        assertEquals(ModificationType.SUBTREE_MODIFIED, rootNode.modificationType());
+
+        dataTree.commit(candidate);
+        final var after = dataTree.takeSnapshot();
+        assertEquals(FOO_NODE, after.readNode(entryPath(FOO_NODE)).orElseThrow());
+        assertEquals(BAR_NODE, after.readNode(entryPath(BAR_NODE)).orElseThrow());
+    }
+
+    @Test
+    void testDisjointModificationsAreCombined() {
+        final var snapshot = dataTree.takeSnapshot();
+        final var batch = dataTree.prepareBatch(List.of(
+            writeEntry(snapshot.newModification(), FOO_NODE),
+            writeEntry(snapshot.newModification(), BAR_NODE)));
+        assertTrue(batch.isComplete());
+
+        // Both entries are applied in one pass
+        final var candidate = assertInstanceOf(InMemoryDataTreeCandidate.class, batch.candidate());
+        dataTree.commit(candidate);
+        final var after = dataTree.takeSnapshot();
+        assertEquals(FOO_NODE, after.readNode(entryPath(FOO_NODE)).orElseThrow());
+        assertEquals(BAR_NODE, after.readNode(entryPath(BAR_NODE)).orElseThrow());
+    }
+
+    @Test
+    void testOverlappingModificationsAreChained() {
+        final var snapshot = dataTree.takeSnapshot();
+        final var first = snapshot.newModification();
+        first.merge(entryPath(FOO_NODE), FOO_NODE);
+        first.ready();
+        final var second = snapshot.newModification();
+        second.merge(entryPath(FOO_NODE), FOO_NODE);
+        second.ready();
+
+        final var batch = dataTree.prepareBatch(List.of(first, second, writeEntry(snapshot.newModification(),
+            BAR_NODE)));
+        assertTrue(batch.isComplete());
+
+        // The second modification is applied on top of the first one, together with the third one
+        final var candidate = assertInstanceOf(BatchDataTreeCandidate.class, batch.candidate());
+        assertEquals(2, candidate.candidates().size());
+        dataTree.commit(candidate);
+        final var after = dataTree.takeSnapshot();
+        assertEquals(FOO_NODE, after.readNode(entryPath(FOO_NODE)).orElseThrow());
+        assertEquals(BAR_NODE, after.readNode(entryPath(BAR_NODE)).orElseThrow());
+    }
+
+    @Test
+    void testBatchCandidateIsTip() throws DataValidationFailedException {
+        final var snapshot = dataTree.takeSnapshot();
+        final var batch = dataTree.prepareBatch(List.of(
+            writeEntry(snapshot.newModification(), FOO_NODE),
+            writeEntry(snapshot.newModification(), BAR_NODE)));
+        final var candidate = batch.candidate();
+
+        // A modification can be stacked on top of the batch, but the batch has to be committed first
+        final var next = snapshot.newModification();
+        next.delete(entryPath(FOO_NODE));
+        next.ready();
+        candidate.validate(next);
+        final var nextCandidate = candidate.prepare(next);
+
+        assertThrows(IllegalStateException.class, () -> dataTree.commit(nextCandidate));
+        dataTree.commit(candidate);
+        dataTree.commit(nextCandidate);
+        assertFalse(dataTree.takeSnapshot().readNode(entryPath(FOO_NODE)).isPresent());
+        assertEquals(BAR_NODE, dataTree.takeSnapshot().readNode(entryPath(BAR_NODE)).orElseThrow());
+    }
+
+    private static DataTreeModification writeEntry(final DataTreeModification mod, final MapEntryNode entry) {
+        mod.write(entryPath(entry), entry);
+        mod.ready();
+        return mod;
+    }
+
+    private static YangInstanceIdentifier entryPath(final MapEntryNode entry) {
+        return TestModel.OUTER_LIST_PATH.node(entry.name());
+    }
+
+    private static MapEntryNode outerListEntry(final short id) {
+        return ImmutableNodes.newMapEntryBuilder()
+            .withNodeIdentifier(NodeIdentifierWithPredicates.of(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, id))
+            .withChild(ImmutableNodes.leafNode(TestModel.ID_QNAME, id))
+            .build();
+    }
+}
@@ -250,6 +250,70 @@ class UniqueConstraintTest {
         writeMapEntry(inMemoryDataTree, "6", "l3", "l4", "l7");
     }
 
+    @Test
+    void incompleteEntriesTest() throws DataValidationFailedException {
+        final var inMemoryDataTree = initDataTree(TEST_MODEL, true);
+
+        // Entries which do not have all the leaves are not subject to the constraint
+        writeIncompleteMapEntry(inMemoryDataTree, "1", "l1");
+        writeIncompleteMapEntry(inMemoryDataTree, "2", "l1");
+
+        writeMapEntry(inMemoryDataTree, "1", "l1", "l2", "l3");
+        verifyException(assertThrows(UniqueConstraintException.class,
+            () -> writeMapEntry(inMemoryDataTree, "2", "l1", "l2", "l4")),
+            "(foo?revision=2016-05-17)task[{(foo?revision=2016-05-17)task-id=2}] violates unique constraint on "
+                + "[l1, l2] of ",
+            "(foo?revision=2016-05-17)my-leaf-1",
+            "(foo?revision=2016-05-17)my-leaf-2");
+    }
+
+    @Test
+    void mergeMapTest() throws DataValidationFailedException {
+        final var inMemoryDataTree = initDataTree(TEST_MODEL, true);
+        writeMapEntry(inMemoryDataTree, "1", "l1", "l2", "l3");
+        writeMapEntry(inMemoryDataTree, "2", "l2", "l3", "l4");
+
+        // Merge switching values of existing entries and adding a new one
+        mergeMap(inMemoryDataTree, createMapEntry("1", "l2", "l3", "l4"), createMapEntry("2", "l1", "l2", "l3"),
+            createMapEntry("3", "l3", "l4", "l5"));
+
+        verifyException(assertThrows(UniqueConstraintException.class,
+            () -> mergeMap(inMemoryDataTree, createMapEntry("4", "l3", "l4", "l6"))),
+            "(foo?revision=2016-05-17)task[{(foo?revision=2016-05-17)task-id=4}] violates unique constraint on "
+                + "[l3, l4] of ",
+            "(foo?revision=2016-05-17)my-leaf-1",
+            "(foo?revision=2016-05-17)my-leaf-2");
+    }
+
+    private static void writeIncompleteMapEntry(final InMemoryDataTree inMemoryDataTree, final String taskIdValue,
+            final String myLeaf1Value) throws DataValidationFailedException {
+        final var taskEntryKey = taskEntryKey(taskIdValue);
+        final var modificationTree = inMemoryDataTree.takeSnapshot().newModification();
+        modificationTree.write(YangInstanceIdentifier.of(TASK_CONTAINER).node(TASK).node(taskEntryKey),
+            ImmutableNodes.newMapEntryBuilder()
+                .withNodeIdentifier(taskEntryKey)
+                .withChild(ImmutableNodes.leafNode(TASK_ID, taskIdValue))
+                .withChild(ImmutableNodes.leafNode(MY_LEAF_1, myLeaf1Value))
+                .build());
+        modificationTree.ready();
+        inMemoryDataTree.validate(modificationTree);
+        inMemoryDataTree.commit(inMemoryDataTree.prepare(modificationTree));
+    }
+
+    private static void mergeMap(final InMemoryDataTree inMemoryDataTree, final MapEntryNode... entries)
+            throws DataValidationFailedException {
+        final var taskNode = ImmutableNodes.newSystemMapBuilder().withNodeIdentifier(new NodeIdentifier(TASK));
+        for (var entry : entries) {
+            taskNode.withChild(entry);
+        }
+
+        final var modificationTree = inMemoryDataTree.takeSnapshot().newModification();
+        modificationTree.merge(YangInstanceIdentifier.of(TASK_CONTAINER).node(TASK), taskNode.build());
+        modificationTree.ready();
+        inMemoryDataTree.validate(modificationTree);
+        inMemoryDataTree.commit(inMemoryDataTree.prepare(modificationTree));
+    }
+
     private static InMemoryDataTree initDataTree(final EffectiveModelContext modelContext, final boolean uniqueIndex)
             throws DataValidationFailedException {
         final var inMemoryDataTree = new ReferenceDataTreeFactory()
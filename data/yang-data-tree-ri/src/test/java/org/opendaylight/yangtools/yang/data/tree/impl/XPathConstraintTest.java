@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.Uint16;
+import org.opendaylight.yangtools.yang.common.Uint32;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.spi.node.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTree;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeConfiguration;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeModification;
+import org.opendaylight.yangtools.yang.data.tree.api.DataValidationFailedException;
+import org.opendaylight.yangtools.yang.data.tree.api.XPathConstraintException;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
+
+class XPathConstraintTest {
+    private static final QName INTERFACES = QName.create("xpath-constraint", "interfaces");
+    private static final QName INTERFACE = QName.create(INTERFACES, "interface");
+    private static final QName NAME = QName.create(INTERFACES, "name");
+    private static final QName TYPE = QName.create(INTERFACES, "type");
+    private static final QName MTU = QName.create(INTERFACES, "mtu");
+    private static final QName ETHERNET = QName.create(INTERFACES, "ethernet");
+    private static final QName SPEED = QName.create(INTERFACES, "speed");
+    private static final QName ROUTING = QName.create(INTERFACES, "routing");
+    private static final QName DEFAULT_INTERFACE = QName.create(INTERFACES, "default-interface");
+
+    private static final YangInstanceIdentifier INTERFACES_PATH = YangInstanceIdentifier.of(INTERFACES);
+    private static final YangInstanceIdentifier INTERFACE_PATH = INTERFACES_PATH.node(INTERFACE);
+    private static final YangInstanceIdentifier ROUTING_PATH = YangInstanceIdentifier.of(ROUTING);
+
+    private static EffectiveModelContext MODEL;
+
+    @BeforeAll
+    static void beforeClass() {
+        MODEL = YangParserTestUtils.parseYangResource("/xpath-constraint.yang");
+    }
+
+    @Test
+    void testMustViolation() throws DataValidationFailedException {
+        final var tree = createDataTree(true);
+        commit(tree, mod -> mod.write(INTERFACES_PATH, interfaces(entry("eth0", "ethernet", 1500))));
+
+        final var ex = assertConstraintFailure(tree,
+            mod -> mod.write(entryPath("eth0").node(MTU), ImmutableNodes.leafNode(MTU, Uint16.valueOf(10))));
+        assertEquals(entryPath("eth0").node(MTU), ex.getPath());
+        final var error = ex.getNetconfErrors().get(0);
+        assertEquals("must-violation", error.appTag());
+        assertEquals("MTU is too small", error.message());
+    }
+
+    @Test
+    void testWhenViolation() throws DataValidationFailedException {
+        final var tree = createDataTree(true);
+        commit(tree, mod -> mod.write(INTERFACES_PATH, interfaces(ImmutableNodes.newMapEntryBuilder()
+            .withNodeIdentifier(entryId("eth0"))
+            .withChild(ImmutableNodes.leafNode(NAME, "eth0"))
+            .withChild(ImmutableNodes.leafNode(TYPE, "ethernet"))
+            .withChild(ImmutableNodes.newContainerBuilder()
+                .withNodeIdentifier(new NodeIdentifier(ETHERNET))
+                .withChild(ImmutableNodes.leafNode(SPEED, Uint32.valueOf(1000)))
+                .build())
+            .build())));
+
+        // Only 'type' is touched, but 'ethernet' depends on it
+        final var ex = assertConstraintFailure(tree,
+            mod -> mod.write(entryPath("eth0").node(TYPE), ImmutableNodes.leafNode(TYPE, "loopback")));
+        assertEquals(entryPath("eth0").node(ETHERNET), ex.getPath());
+    }
+
+    @Test
+    void testReferenceViolation() throws DataValidationFailedException {
+        final var tree = createDataTree(true);
+        commit(tree, mod -> {
+            mod.write(INTERFACES_PATH, interfaces(entry("eth0", "ethernet", 1500), entry("lo", "loopback", 9000)));
+            mod.write(ROUTING_PATH, routing("eth0"));
+        });
+
+        // Unrelated entry can be removed
+        commit(tree, mod -> mod.delete(entryPath("lo")));
+
+        final var ex = assertConstraintFailure(tree, mod -> mod.delete(entryPath("eth0")));
+        assertEquals(ROUTING_PATH.node(DEFAULT_INTERFACE), ex.getPath());
+        assertEquals("missing-interface", ex.getNetconfErrors().get(0).appTag());
+    }
+
+    @Test
+    void testDisabled() throws DataValidationFailedException {
+        final var tree = createDataTree(false);
+        commit(tree, mod -> {
+            mod.write(INTERFACES_PATH, interfaces(entry("eth0", "ethernet", 10)));
+            mod.write(ROUTING_PATH, routing("eth1"));
+        });
+    }
+
+    private static DataTree createDataTree(final boolean enabled) {
+        return new ReferenceDataTreeFactory().create(DataTreeConfiguration.DEFAULT_CONFIGURATION.toBuilder()
+            .setXPathConstraintValidation(enabled)
+            .build(), MODEL);
+    }
+
+    private static void commit(final DataTree tree, final Consumer<DataTreeModification> operation)
+            throws DataValidationFailedException {
+        final var mod = tree.takeSnapshot().newModification();
+        operation.accept(mod);
+        mod.ready();
+        tree.validate(mod);
+        tree.commit(tree.prepare(mod));
+    }
+
+    private static XPathConstraintException assertConstraintFailure(final DataTree tree,
+            final Consumer<DataTreeModification> operation) {
+        final var mod = tree.takeSnapshot().newModification();
+        operation.accept(mod);
+        mod.ready();
+        return assertThrows(XPathConstraintException.class, () -> tree.validate(mod));
+    }
+
+    private static NodeIdentifierWithPredicates entryId(final String name) {
+        return NodeIdentifierWithPredicates.of(INTERFACE, NAME, name);
+    }
+
+    private static YangInstanceIdentifier entryPath(final String name) {
+        return INTERFACE_PATH.node(entryId(name));
+    }
+
+    private static MapEntryNode entry(final String name, final String type, final int mtu) {
+        return ImmutableNodes.newMapEntryBuilder()
+            .withNodeIdentifier(entryId(name))
+            .withChild(ImmutableNodes.leafNode(NAME, name))
+            .withChild(ImmutableNodes.leafNode(TYPE, type))
+            .withChild(ImmutableNodes.leafNode(MTU, Uint16.valueOf(mtu)))
+            .build();
+    }
+
+    private static ContainerNode interfaces(final MapEntryNode... entries) {
+        final var list = ImmutableNodes.newSystemMapBuilder().withNodeIdentifier(new NodeIdentifier(INTERFACE));
+        for (var entry : entries) {
+            list.withChild(entry);
+        }
+        return ImmutableNodes.newContainerBuilder()
+            .withNodeIdentifier(new NodeIdentifier(INTERFACES))
+            .withChild(list.build())
+            .build();
+    }
+
+    private static ContainerNode routing(final String name) {
+        return ImmutableNodes.newContainerBuilder()
+            .withNodeIdentifier(new NodeIdentifier(ROUTING))
+            .withChild(ImmutableNodes.leafNode(DEFAULT_INTERFACE, name))
+            .build();
+    }
+}
@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.leafref;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Set;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeWithValue;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.spi.node.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTree;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidate;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeConfiguration;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeModification;
+import org.opendaylight.yangtools.yang.data.tree.dagger.ReferenceDataTreeFactoryModule;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
+
+class LeafRefIndexTest {
+    private static final QName TARGETS = QName.create("index", "targets");
+    private static final QName TARGET = QName.create(TARGETS, "target");
+    private static final QName NAME = QName.create(TARGETS, "name");
+    private static final QName REFS = QName.create(TARGETS, "refs");
+    private static final QName REF = QName.create(TARGETS, "ref");
+    private static final QName CHOICE = QName.create(TARGETS, "ch");
+    private static final QName SINGLE = QName.create(TARGETS, "single");
+    private static final YangInstanceIdentifier TARGETS_ID = YangInstanceIdentifier.of(TARGETS);
+    private static final YangInstanceIdentifier TARGET_ID = YangInstanceIdentifier.of(TARGETS, TARGET);
+    private static final YangInstanceIdentifier REFS_ID = YangInstanceIdentifier.of(REFS);
+
+    private static EffectiveModelContext modelContext;
+    private static LeafRefContext leafRefContext;
+
+    private DataTree dataTree;
+    private LeafRefIndex index;
+
+    @BeforeAll
+    static void beforeAll() {
+        modelContext = YangParserTestUtils.parseYang("""
+            module index {
+              namespace index;
+              prefix idx;
+
+              container targets {
+                list target {
+                  key name;
+                  leaf name {
+                    type string;
+                  }
+                }
+              }
+
+              container refs {
+                leaf-list ref {
+                  type leafref {
+                    path /targets/target/name;
+                  }
+                }
+                choice ch {
+                  leaf single {
+                    type leafref {
+                      path /targets/target/name;
+                    }
+                  }
+                }
+              }
+            }""");
+        leafRefContext = LeafRefContext.create(modelContext);
+    }
+
+    @AfterAll
+    static void afterAll() {
+        modelContext = null;
+        leafRefContext = null;
+    }
+
+    @BeforeEach
+    void beforeEach() {
+        dataTree = ReferenceDataTreeFactoryModule.provideDataTreeFactory()
+            .create(DataTreeConfiguration.DEFAULT_CONFIGURATION, modelContext);
+        index = LeafRefIndex.create(leafRefContext);
+    }
+
+    @Test
+    void testValidReferences() throws Exception {
+        final var mod = newModification();
+        mod.write(TARGETS_ID, targets("a", "b"));
+        mod.write(REFS_ID, refs("b", "a"));
+        commit(mod);
+
+        final var leafRef = leafRefContext.getReferencingChildByName(REFS).getReferencingChildByName(REF);
+        assertEquals(Set.of("a", "b"), index.targetValues(leafRef).elementSet());
+        assertEquals(Set.of("a", "b"), index.leafRefValues(leafRef).elementSet());
+    }
+
+    @Test
+    void testInvalidReference() {
+        final var mod = newModification();
+        mod.write(TARGETS_ID, targets("a"));
+        mod.write(REFS_ID, refs("b"));
+        assertInvalid(mod);
+    }
+
+    @Test
+    void testRemoveTarget() throws Exception {
+        final var init = newModification();
+        init.write(TARGETS_ID, targets("a", "b"));
+        init.write(REFS_ID, refs("a"));
+        commit(init);
+
+        // Nothing refers to 'b'
+        final var removeB = newModification();
+        removeB.delete(TARGET_ID.node(targetKey("b")));
+        commit(removeB);
+
+        // 'a' is still referenced
+        final var removeA = newModification();
+        removeA.delete(TARGET_ID.node(targetKey("a")));
+        assertInvalid(removeA);
+
+        final var removeAll = newModification();
+        removeAll.delete(TARGETS_ID);
+        assertInvalid(removeAll);
+
+        // Removing the reference along with its target is fine
+        final var removeBoth = newModification();
+        removeBoth.delete(TARGET_ID.node(targetKey("a")));
+        removeBoth.delete(REFS_ID.node(REF).node(new NodeWithValue<>(REF, "a")));
+        commit(removeBoth);
+
+        assertEquals(Set.of(), index.targetValues(
+            leafRefContext.getReferencingChildByName(REFS).getReferencingChildByName(REF)).elementSet());
+    }
+
+    @Test
+    void testReferenceInChoice() throws Exception {
+        final var init = newModification();
+        init.write(TARGETS_ID, targets("a"));
+        init.write(REFS_ID, ImmutableNodes.newContainerBuilder()
+            .withNodeIdentifier(new NodeIdentifier(REFS))
+            .withChild(ImmutableNodes.newChoiceBuilder()
+                .withNodeIdentifier(new NodeIdentifier(CHOICE))
+                .withChild(ImmutableNodes.leafNode(SINGLE, "a"))
+                .build())
+            .build());
+        commit(init);
+
+        final var removeA = newModification();
+        removeA.delete(TARGET_ID.node(targetKey("a")));
+        assertInvalid(removeA);
+    }
+
+    @Test
+    void testPopulatedFromData() throws Exception {
+        final var init = newModification();
+        init.write(TARGETS_ID, targets("a", "b"));
+        init.write(REFS_ID, refs("a"));
+        commit(init);
+
+        index = LeafRefIndex.create(leafRefContext, dataTree.takeSnapshot().readNode(YangInstanceIdentifier.of())
+            .orElseThrow());
+
+        final var removeA = newModification();
+        removeA.delete(TARGET_ID.node(targetKey("a")));
+        assertInvalid(removeA);
+
+        final var removeB = newModification();
+        removeB.delete(TARGET_ID.node(targetKey("b")));
+        commit(removeB);
+    }
+
+    private DataTreeModification newModification() {
+        return dataTree.takeSnapshot().newModification();
+    }
+
+    private void commit(final DataTreeModification mod) throws Exception {
+        final var candidate = prepare(mod);
+        LeafRefValidation.validate(candidate, leafRefContext, index);
+        dataTree.commit(candidate);
+        index.apply(candidate);
+    }
+
+    private void assertInvalid(final DataTreeModification mod) {
+        final var candidate = prepare(mod);
+        // Results need to match the non-indexed validation
+        assertThrows(LeafRefDataValidationFailedException.class,
+            () -> LeafRefValidation.validate(candidate, leafRefContext));
+        assertThrows(LeafRefDataValidationFailedException.class,
+            () -> LeafRefValidation.validate(candidate, leafRefContext, index));
+    }
+
+    private DataTreeCandidate prepare(final DataTreeModification mod) {
+        mod.ready();
+        try {
+            dataTree.validate(mod);
+            return dataTree.prepare(mod);
+        } catch (Exception e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private static ContainerNode targets(final String... names) {
+        final var list = ImmutableNodes.newSystemMapBuilder().withNodeIdentifier(new NodeIdentifier(TARGET));
+        for (var name : names) {
+            list.withChild(target(name));
+        }
+        return ImmutableNodes.newContainerBuilder()
+            .withNodeIdentifier(new NodeIdentifier(TARGETS))
+            .withChild(list.build())
+            .build();
+    }
+
+    private static MapEntryNode target(final String name) {
+        return ImmutableNodes.newMapEntryBuilder()
+            .withNodeIdentifier(targetKey(name))
+            .withChild(ImmutableNodes.leafNode(NAME, name))
+            .build();
+    }
+
+    private static NodeIdentifierWithPredicates targetKey(final String name) {
+        return NodeIdentifierWithPredicates.of(TARGET, NAME, name);
+    }
+
+    private static ContainerNode refs(final String... values) {
+        final var leafSet = ImmutableNodes.<String>newSystemLeafSetBuilder()
+            .withNodeIdentifier(new NodeIdentifier(REF));
+        for (var value : values) {
+            leafSet.withChildValue(value);
+        }
+        return ImmutableNodes.newContainerBuilder()
+            .withNodeIdentifier(new NodeIdentifier(REFS))
+            .withChild(leafSet.build())
+            .build();
+    }
+}
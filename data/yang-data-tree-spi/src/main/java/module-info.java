@@ -9,6 +9,7 @@ module org.opendaylight.yangtools.yang.data.tree.spi {
     exports org.opendaylight.yangtools.yang.data.tree.spi;
 
     requires transitive com.google.common;
+    requires transitive org.opendaylight.yangtools.util;
     requires transitive org.opendaylight.yangtools.yang.data.api;
     requires transitive org.opendaylight.yangtools.yang.data.tree.api;
     requires org.slf4j;
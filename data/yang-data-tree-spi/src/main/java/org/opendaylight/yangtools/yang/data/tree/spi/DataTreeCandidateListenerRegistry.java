@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.spi;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.Beta;
+import com.google.common.base.MoreObjects.ToStringHelper;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.concepts.AbstractRegistration;
+import org.opendaylight.yangtools.concepts.Registration;
+import org.opendaylight.yangtools.util.concurrent.QueuedNotificationManager;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeWithValue;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidate;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidateNode;
+import org.opendaylight.yangtools.yang.data.tree.api.ModificationType;
+
+/**
+ * A registry of listeners interested in {@link DataTreeCandidate}s affecting a particular subtree. Registrations are
+ * organized into a trie of {@link PathArgument}s, so that each {@link DataTreeCandidate} passed to
+ * {@link #dispatch(DataTreeCandidate)} is walked only once, regardless of the number of registered listeners. Each
+ * listener is then handed a {@link DataTreeCandidate} rooted at the path it has been registered for, via a
+ * {@link QueuedNotificationManager}.
+ *
+ * <p>A registration path may contain a {@link NodeIdentifier} in place of a {@link NodeIdentifierWithPredicates} or a
+ * {@link NodeWithValue}, in which case it matches all entries of that list or leaf-list. A listener registered at
+ * {@code /foo/foo/bar} will therefore receive a separate {@link DataTreeCandidate} for {@code bar} in each modified
+ * entry of list {@code foo}.
+ *
+ * <p>A {@link DataTreeCandidate} rooted below a registration path is delivered to the listener as-is.
+ *
+ * @param <L> listener type
+ */
+@Beta
+public final class DataTreeCandidateListenerRegistry<L> {
+    private static final class Node<L> {
+        final ConcurrentHashMap<PathArgument, Node<L>> children = new ConcurrentHashMap<>();
+        final CopyOnWriteArrayList<Reg<L>> registrations = new CopyOnWriteArrayList<>();
+        final @Nullable Node<L> parent;
+        final @Nullable PathArgument name;
+
+        // Number of NodeIdentifier children, which may act as entry wildcards
+        final AtomicInteger wildcards = new AtomicInteger();
+
+        Node(final @Nullable Node<L> parent, final @Nullable PathArgument name) {
+            this.parent = parent;
+            this.name = name;
+        }
+
+        boolean isEmpty() {
+            return registrations.isEmpty() && children.isEmpty();
+        }
+
+        @Nullable Node<L> wildcardFor(final PathArgument arg) {
+            return wildcards.get() != 0 && isEntry(arg) ? children.get(NodeIdentifier.create(arg.getNodeType())) : null;
+        }
+    }
+
+    private static final class Reg<L> extends AbstractRegistration {
+        private final @NonNull DataTreeCandidateListenerRegistry<L> registry;
+        private final @NonNull YangInstanceIdentifier path;
+        private final @NonNull Node<L> node;
+        private final @NonNull L listener;
+
+        Reg(final DataTreeCandidateListenerRegistry<L> registry, final YangInstanceIdentifier path, final Node<L> node,
+                final L listener) {
+            this.registry = requireNonNull(registry);
+            this.path = requireNonNull(path);
+            this.node = requireNonNull(node);
+            this.listener = requireNonNull(listener);
+        }
+
+        @Override
+        protected void removeRegistration() {
+            registry.unregister(this);
+        }
+
+        @Override
+        protected ToStringHelper addToStringAttributes(final ToStringHelper toStringHelper) {
+            return super.addToStringAttributes(toStringHelper).add("path", path).add("listener", listener);
+        }
+    }
+
+    private final @NonNull Node<L> root = new Node<>(null, null);
+    private final @NonNull QueuedNotificationManager<L, DataTreeCandidate> notificationManager;
+
+    public DataTreeCandidateListenerRegistry(
+            final QueuedNotificationManager<L, DataTreeCandidate> notificationManager) {
+        this.notificationManager = requireNonNull(notificationManager);
+    }
+
+    /**
+     * Register a listener for a particular subtree.
+     *
+     * @param path subtree path, possibly containing list entry wildcards
+     * @param listener the listener
+     * @return a {@link Registration}, which needs to be closed to unregister the listener
+     * @throws NullPointerException if any argument is {@code null}
+     */
+    public synchronized @NonNull Registration register(final YangInstanceIdentifier path, final L listener) {
+        requireNonNull(listener);
+        var node = root;
+        for (var arg : path.getPathArguments()) {
+            var child = node.children.get(arg);
+            if (child == null) {
+                child = new Node<>(node, arg);
+                node.children.put(arg, child);
+                if (arg instanceof NodeIdentifier) {
+                    node.wildcards.incrementAndGet();
+                }
+            }
+            node = child;
+        }
+
+        final var reg = new Reg<>(this, path, node, listener);
+        node.registrations.add(reg);
+        return reg;
+    }
+
+    private synchronized void unregister(final Reg<L> reg) {
+        var node = reg.node;
+        node.registrations.remove(reg);
+
+        // Prune nodes which are no longer needed
+        while (node.isEmpty()) {
+            final var parent = node.parent;
+            if (parent == null) {
+                break;
+            }
+            final var name = requireNonNull(node.name);
+            parent.children.remove(name, node);
+            if (name instanceof NodeIdentifier) {
+                parent.wildcards.decrementAndGet();
+            }
+            node = parent;
+        }
+    }
+
+    /**
+     * Dispatch a {@link DataTreeCandidate} to all interested listeners.
+     *
+     * @param candidate the candidate
+     * @throws NullPointerException if {@code candidate} is {@code null}
+     */
+    public void dispatch(final DataTreeCandidate candidate) {
+        dispatch(List.of(candidate));
+    }
+
+    /**
+     * Dispatch a number of {@link DataTreeCandidate}s to all interested listeners. Each listener receives at most one
+     * batch of notifications, containing the slices of the candidates in order.
+     *
+     * @param candidates the candidates
+     * @throws NullPointerException if {@code candidates} is {@code null}
+     */
+    public void dispatch(final List<? extends DataTreeCandidate> candidates) {
+        final var notifications = new IdentityHashMap<L, List<DataTreeCandidate>>();
+        for (var candidate : candidates) {
+            collect(candidate, notifications);
+        }
+        for (var entry : notifications.entrySet()) {
+            notificationManager.submitNotifications(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private void collect(final DataTreeCandidate candidate, final Map<L, List<DataTreeCandidate>> notifications) {
+        final var rootNode = candidate.getRootNode();
+        if (rootNode.modificationType() == ModificationType.UNMODIFIED) {
+            return;
+        }
+
+        collectRooted(root, candidate.getRootPath().getPathArguments(), 0, candidate, notifications);
+    }
+
+    // Locate the trie nodes corresponding to the candidate root, notifying any listeners registered above them
+    private void collectRooted(final Node<L> node, final List<PathArgument> rootPath, final int offset,
+            final DataTreeCandidate candidate, final Map<L, List<DataTreeCandidate>> notifications) {
+        if (offset == rootPath.size()) {
+            collect(node, candidate.getRootPath(), candidate.getRootNode(), candidate, notifications);
+            return;
+        }
+
+        addNotifications(node, candidate, notifications);
+        final var arg = rootPath.get(offset);
+        final var exact = node.children.get(arg);
+        if (exact != null) {
+            collectRooted(exact, rootPath, offset + 1, candidate, notifications);
+        }
+        final var wildcard = node.wildcardFor(arg);
+        if (wildcard != null) {
+            collectRooted(wildcard, rootPath, offset + 1, candidate, notifications);
+        }
+    }
+
+    private void collect(final Node<L> node, final YangInstanceIdentifier path, final DataTreeCandidateNode candidate,
+            final @Nullable DataTreeCandidate rooted, final Map<L, List<DataTreeCandidate>> notifications) {
+        if (!node.registrations.isEmpty()) {
+            addNotifications(node, rooted != null ? rooted : DataTreeCandidates.newDataTreeCandidate(path, candidate),
+                notifications);
+        }
+        if (node.children.isEmpty()) {
+            return;
+        }
+
+        final var childNodes = candidate.childNodes();
+        if (node.wildcards.get() == 0 && node.children.size() < childNodes.size()) {
+            // Fewer registered children than modified children and no wildcards: look up registered children
+            for (var entry : node.children.entrySet()) {
+                final var child = candidate.modifiedChild(entry.getKey());
+                if (child != null) {
+                    collectChild(entry.getValue(), path, child, notifications);
+                }
+            }
+        } else {
+            for (var child : childNodes) {
+                final var name = child.name();
+                final var exact = node.children.get(name);
+                if (exact != null) {
+                    collectChild(exact, path, child, notifications);
+                }
+                final var wildcard = node.wildcardFor(name);
+                if (wildcard != null) {
+                    collectChild(wildcard, path, child, notifications);
+                }
+            }
+        }
+    }
+
+    private void collectChild(final Node<L> node, final YangInstanceIdentifier parentPath,
+            final DataTreeCandidateNode child, final Map<L, List<DataTreeCandidate>> notifications) {
+        if (child.modificationType() != ModificationType.UNMODIFIED) {
+            collect(node, parentPath.node(child.name()), child, null, notifications);
+        }
+    }
+
+    private void addNotifications(final Node<L> node, final DataTreeCandidate candidate,
+            final Map<L, List<DataTreeCandidate>> notifications) {
+        for (var reg : node.registrations) {
+            if (reg.notClosed()) {
+                notifications.computeIfAbsent(reg.listener, unused -> new ArrayList<>()).add(candidate);
+            }
+        }
+    }
+
+    private static boolean isEntry(final PathArgument arg) {
+        return arg instanceof NodeIdentifierWithPredicates || arg instanceof NodeWithValue;
+    }
+}
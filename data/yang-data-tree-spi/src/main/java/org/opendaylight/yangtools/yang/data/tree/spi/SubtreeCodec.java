@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.spi;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+
+/**
+ * A binary codec for {@link NormalizedNode} subtrees, used by data tree implementations to store subtrees outside of
+ * the Java heap. Implementations must be thread-safe and must produce a {@link NormalizedNode} equal to the one which
+ * was written.
+ */
+@NonNullByDefault
+public interface SubtreeCodec {
+    /**
+     * Write a subtree.
+     *
+     * @param output output to write to
+     * @param node subtree root
+     * @throws IOException if an I/O error occurs
+     */
+    void writeSubtree(DataOutput output, NormalizedNode node) throws IOException;
+
+    /**
+     * Read a subtree previously written by {@link #writeSubtree(DataOutput, NormalizedNode)}.
+     *
+     * @param input input to read from
+     * @return subtree root
+     * @throws IOException if an I/O error occurs or the input is not recognized
+     */
+    NormalizedNode readSubtree(DataInput input) throws IOException;
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.data.tree.spi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.yangtools.util.concurrent.QueuedNotificationManager;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.spi.node.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.tree.api.DataTreeCandidate;
+
+class DataTreeCandidateListenerRegistryTest {
+    private static final QName TOP = QName.create("listener-registry", "top");
+    private static final QName ITEM = QName.create(TOP, "item");
+    private static final QName NAME = QName.create(TOP, "name");
+    private static final QName VALUE = QName.create(TOP, "value");
+    private static final QName OTHER = QName.create(TOP, "other");
+
+    private static final YangInstanceIdentifier TOP_PATH = YangInstanceIdentifier.of(TOP);
+    private static final YangInstanceIdentifier ITEM_PATH = TOP_PATH.node(ITEM);
+
+    private final Map<String, List<DataTreeCandidate>> delivered = new HashMap<>();
+    private DataTreeCandidateListenerRegistry<String> registry;
+
+    @BeforeEach
+    void beforeEach() {
+        registry = new DataTreeCandidateListenerRegistry<>(QueuedNotificationManager.create(Runnable::run,
+            (listener, notifications) -> delivered.computeIfAbsent(listener, unused -> new ArrayList<>())
+                .addAll(notifications), 100, "test"));
+    }
+
+    @Test
+    void testDispatch() {
+        registry.register(TOP_PATH, "top");
+        registry.register(ITEM_PATH.node(itemId("a")), "a");
+        registry.register(YangInstanceIdentifier.of(OTHER), "other");
+        final var wildcardReg = registry.register(ITEM_PATH.node(ITEM).node(VALUE), "wildcard");
+
+        final var candidate = DataTreeCandidates.fromNormalizedNode(TOP_PATH, top(item("a", "1"), item("b", "2")));
+        registry.dispatch(candidate);
+
+        final var top = delivered.get("top");
+        assertEquals(1, top.size());
+        assertSame(candidate, top.get(0));
+
+        final var entry = delivered.get("a");
+        assertEquals(1, entry.size());
+        assertEquals(ITEM_PATH.node(itemId("a")), entry.get(0).getRootPath());
+
+        final var values = delivered.get("wildcard");
+        assertEquals(2, values.size());
+        assertEquals(Set.of(ITEM_PATH.node(itemId("a")).node(VALUE), ITEM_PATH.node(itemId("b")).node(VALUE)),
+            values.stream().map(DataTreeCandidate::getRootPath).collect(Collectors.toSet()));
+        assertEquals("1", values.stream()
+            .filter(slice -> slice.getRootPath().equals(ITEM_PATH.node(itemId("a")).node(VALUE)))
+            .findFirst().orElseThrow()
+            .getRootNode().getDataAfter().body());
+
+        assertNull(delivered.get("other"));
+
+        // Closed registration does not receive further notifications
+        wildcardReg.close();
+        registry.dispatch(candidate);
+        assertEquals(2, delivered.get("top").size());
+        assertEquals(2, delivered.get("a").size());
+        assertEquals(2, delivered.get("wildcard").size());
+    }
+
+    @Test
+    void testDispatchBelowRegistration() {
+        registry.register(TOP_PATH, "top");
+        registry.register(ITEM_PATH.node(ITEM).node(VALUE), "wildcard");
+        registry.register(ITEM_PATH.node(itemId("b")), "b");
+
+        final var entryPath = ITEM_PATH.node(itemId("a"));
+        final var candidate = DataTreeCandidates.fromNormalizedNode(entryPath, item("a", "1"));
+        registry.dispatch(candidate);
+
+        assertSame(candidate, delivered.get("top").get(0));
+        assertEquals(entryPath.node(VALUE), delivered.get("wildcard").get(0).getRootPath());
+        assertNull(delivered.get("b"));
+    }
+
+    private static NodeIdentifierWithPredicates itemId(final String name) {
+        return NodeIdentifierWithPredicates.of(ITEM, NAME, name);
+    }
+
+    private static MapEntryNode item(final String name, final String value) {
+        return ImmutableNodes.newMapEntryBuilder()
+            .withNodeIdentifier(itemId(name))
+            .withChild(ImmutableNodes.leafNode(NAME, name))
+            .withChild(ImmutableNodes.leafNode(VALUE, value))
+            .build();
+    }
+
+    private static ContainerNode top(final MapEntryNode... entries) {
+        final var list = ImmutableNodes.newSystemMapBuilder().withNodeIdentifier(new NodeIdentifier(ITEM));
+        for (var entry : entries) {
+            list.withChild(entry);
+        }
+        return ImmutableNodes.newContainerBuilder()
+            .withNodeIdentifier(new NodeIdentifier(TOP))
+            .withChild(list.build())
+            .build();
+    }
+}
@@ -32,12 +32,14 @@ public final class YangParserConfiguration implements Immutable {
     private final ImportResolutionMode importResolutionMode;
     private final boolean retainDeclarationReferences;
     private final boolean warnForUnkeyedLists;
+    private final int parallelism;
 
     private YangParserConfiguration(final ImportResolutionMode importResolutionMode,
-            final boolean retainDeclarationReferences, final boolean warnForUnkeyedLists) {
+            final boolean retainDeclarationReferences, final boolean warnForUnkeyedLists, final int parallelism) {
         this.importResolutionMode = requireNonNull(importResolutionMode);
         this.retainDeclarationReferences = retainDeclarationReferences;
         this.warnForUnkeyedLists = warnForUnkeyedLists;
+        this.parallelism = parallelism;
     }
 
     @Beta
@@ -67,16 +69,28 @@ public final class YangParserConfiguration implements Immutable {
         return warnForUnkeyedLists;
     }
 
+    /**
+     * Return the number of threads the parser may use to load statements from independent sources concurrently. A
+     * value of {@code 1} indicates all sources are processed sequentially on the calling thread.
+     *
+     * @return the parallelism level, guaranteed to be positive
+     */
+    @Beta
+    public int parallelism() {
+        return parallelism;
+    }
+
     @Override
     public int hashCode() {
-        return Objects.hash(importResolutionMode, retainDeclarationReferences);
+        return Objects.hash(importResolutionMode, retainDeclarationReferences, parallelism);
     }
 
     @Override
     public boolean equals(final @Nullable Object obj) {
         return this == obj || obj instanceof YangParserConfiguration other
             && importResolutionMode == other.importResolutionMode
-            && retainDeclarationReferences == other.retainDeclarationReferences;
+            && retainDeclarationReferences == other.retainDeclarationReferences
+            && parallelism == other.parallelism;
     }
 
     @Override
@@ -84,6 +98,7 @@ public final class YangParserConfiguration implements Immutable {
         return MoreObjects.toStringHelper(this)
             .add("importResolution", importResolutionMode)
             .add("declarationReferences", retainDeclarationReferences)
+            .add("parallelism", parallelism)
             .toString();
     }
 
@@ -100,6 +115,7 @@ public final class YangParserConfiguration implements Immutable {
         private ImportResolutionMode importResolutionMode = ImportResolutionMode.DEFAULT;
         private boolean retainDeclarationReferences;
         private boolean warnForUnkeyedLists = false;
+        private int parallelism = 1;
 
         private Builder() {
             // Hidden on purpose
@@ -111,7 +127,8 @@ public final class YangParserConfiguration implements Immutable {
          * @return A YangParserConfiguration
          */
         public YangParserConfiguration build() {
-            return new YangParserConfiguration(importResolutionMode, retainDeclarationReferences, warnForUnkeyedLists);
+            return new YangParserConfiguration(importResolutionMode, retainDeclarationReferences, warnForUnkeyedLists,
+                parallelism);
         }
 
         @Beta
@@ -151,5 +168,26 @@ public final class YangParserConfiguration implements Immutable {
             warnForUnkeyedLists = newWarnForUnkeyedLists;
             return this;
         }
+
+        /**
+         * Set the number of threads the parser may use to load statements from independent sources concurrently during
+         * the {@code SOURCE_LINKAGE}, {@code STATEMENT_DEFINITION} and {@code FULL_DECLARATION} phases. Inference
+         * is still performed sequentially, hence the benefit of this option grows with the number and size of the
+         * sources being assembled.
+         *
+         * <p>This option defaults to {@code 1}, which means all sources are processed sequentially.
+         *
+         * @param newParallelism the parallelism level
+         * @return This builder
+         * @throws IllegalArgumentException if {@code newParallelism} is not positive
+         */
+        @Beta
+        public Builder parallelism(final int newParallelism) {
+            if (newParallelism < 1) {
+                throw new IllegalArgumentException("Invalid parallelism " + newParallelism);
+            }
+            parallelism = newParallelism;
+            return this;
+        }
     }
 }
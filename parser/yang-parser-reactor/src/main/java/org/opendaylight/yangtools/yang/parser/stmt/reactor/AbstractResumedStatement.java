@@ -245,7 +245,9 @@ abstract sealed class AbstractResumedStatement<A, D extends DeclaredStatement<A>
             substatements = substatements.put(offset, ret);
         }
 
-        def.onStatementAdded(ret);
+        synchronized (globalMonitor()) {
+            def.onStatementAdded(ret);
+        }
         return ret;
     }
 
@@ -262,7 +264,9 @@ abstract sealed class AbstractResumedStatement<A, D extends DeclaredStatement<A>
             ret = new ImplicitStmtCtx<>(this, support, argument);
             substatements = substatements.put(offset, ret);
         }
-        support.onStatementAdded(ret);
+        synchronized (globalMonitor()) {
+            support.onStatementAdded(ret);
+        }
         return ret;
     }
 
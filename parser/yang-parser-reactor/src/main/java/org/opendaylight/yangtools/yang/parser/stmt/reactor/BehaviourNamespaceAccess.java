@@ -25,7 +25,9 @@ import org.opendaylight.yangtools.yang.parser.spi.meta.NamespaceStorage;
 import org.opendaylight.yangtools.yang.parser.spi.meta.ParserNamespace;
 
 /**
- * A {@link NamespaceAccess} backed by a {@link NamespaceBehaviour}. Also holds reference to {@link BuildGlobalContext}.
+ * {@link NamespaceAccess} backed by a {@link NamespaceBehaviour}. Instances are shared by all sources participating in
+ * a reactor build, hence all operations are serialized on the global storage's monitor. This is uncontended unless the
+ * reactor loads statements from multiple sources concurrently.
  */
 final class BehaviourNamespaceAccess<K, V> extends NamespaceAccess<K, V> {
     private final NamespaceStorage.@NonNull Global globalStorage;
@@ -46,11 +48,19 @@ final class BehaviourNamespaceAccess<K, V> extends NamespaceAccess<K, V> {
 
     @Override
     V valueFrom(final NamespaceStorage storage, final K key) {
-        return behaviour.getFrom(globalStorage, storage, key);
+        synchronized (globalStorage) {
+            return behaviour.getFrom(globalStorage, storage, key);
+        }
     }
 
     @Override
     void valueTo(final NamespaceStorage storage, final K key, final V value) {
+        synchronized (globalStorage) {
+            addValue(storage, key, value);
+        }
+    }
+
+    private void addValue(final NamespaceStorage storage, final K key, final V value) {
         behaviour.addTo(globalStorage, storage, key, value);
 
         if (keyListeners != null) {
@@ -90,30 +100,38 @@ final class BehaviourNamespaceAccess<K, V> extends NamespaceAccess<K, V> {
 
     @Override
     Map<K, V> allFrom(final NamespaceStorage storage) {
-        return behaviour.getAllFrom(globalStorage, storage);
+        synchronized (globalStorage) {
+            return behaviour.getAllFrom(globalStorage, storage);
+        }
     }
 
     @Override
     Entry<K, V> entryFrom(final NamespaceStorage storage, final NamespaceKeyCriterion<K> criterion) {
-        return behaviour.getFrom(globalStorage, storage, criterion);
+        synchronized (globalStorage) {
+            return behaviour.getFrom(globalStorage, storage, criterion);
+        }
     }
 
     @Override
     void addListener(final K key, final KeyedValueAddedListener<K, V> listener) {
         final var k = requireNonNull(key);
         final var l = requireNonNull(listener);
-        if (keyListeners == null) {
-            keyListeners = Multimaps.newMultimap(new HashMap<>(), ArrayDeque::new);
+        synchronized (globalStorage) {
+            if (keyListeners == null) {
+                keyListeners = Multimaps.newMultimap(new HashMap<>(), ArrayDeque::new);
+            }
+            keyListeners.put(k, l);
         }
-        keyListeners.put(k, l);
     }
 
     @Override
     void addListener(final PredicateValueAddedListener<K, V> listener) {
-        if (predicateListeners == null) {
-            predicateListeners = new ArrayList<>();
+        synchronized (globalStorage) {
+            if (predicateListeners == null) {
+                predicateListeners = new ArrayList<>();
+            }
+            predicateListeners.add(listener);
         }
-        predicateListeners.add(listener);
     }
 
     @Override
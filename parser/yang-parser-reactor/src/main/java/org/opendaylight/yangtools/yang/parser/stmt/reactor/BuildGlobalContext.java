@@ -26,6 +26,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.stream.Collectors;
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -66,6 +69,12 @@ import org.opendaylight.yangtools.yang.parser.spi.validation.ValidationBundles.V
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Global state of a single reactor build. When configured with parallelism greater than one, statements from individual
+ * sources are loaded concurrently. In that mode all state shared across sources is guarded by this object's monitor:
+ * definition lookups, namespace access via {@link BehaviourNamespaceAccess} and {@link StatementSupport} callbacks
+ * triggered during statement declaration, so that only the source-local statement tree construction runs in parallel.
+ */
 final class BuildGlobalContext extends AbstractNamespaceStorage implements NamespaceStorage.Global {
     private static final Logger LOG = LoggerFactory.getLogger(BuildGlobalContext.class);
 
@@ -82,14 +91,16 @@ final class BuildGlobalContext extends AbstractNamespaceStorage implements Names
     private final ArrayList<MutableStatement> mutableStatementsToSeal = new ArrayList<>();
     private final ImmutableMap<ModelProcessingPhase, StatementSupportBundle> supports;
     private final ImmutableSet<YangVersion> supportedVersions;
+    private final int parallelism;
 
     private @NonNull ModelProcessingPhase currentPhase = ModelProcessingPhase.INIT;
     private @NonNull ModelProcessingPhase finishedPhase = ModelProcessingPhase.INIT;
     private List<SourceSpecificContext> sources = null;
 
     BuildGlobalContext(final ImmutableMap<ModelProcessingPhase, StatementSupportBundle> supports,
-            final ImmutableMap<ValidationBundleType, Collection<?>> supportedValidation) {
+            final ImmutableMap<ValidationBundleType, Collection<?>> supportedValidation, final int parallelism) {
         this.supports = requireNonNull(supports);
+        this.parallelism = parallelism;
 
         final var access = accessNamespace(ValidationBundles.NAMESPACE);
         for (var validationBundle : supportedValidation.entrySet()) {
@@ -113,7 +124,7 @@ final class BuildGlobalContext extends AbstractNamespaceStorage implements Names
     }
 
     @Override
-    <K, V> BehaviourNamespaceAccess<K, V> accessNamespace(final ParserNamespace<K, V> namespace) {
+    synchronized <K, V> BehaviourNamespaceAccess<K, V> accessNamespace(final ParserNamespace<K, V> namespace) {
         @SuppressWarnings("unchecked")
         final var existing = (BehaviourNamespaceAccess<K, V>) supportedNamespaces.get(namespace);
         if (existing != null) {
@@ -133,8 +144,8 @@ final class BuildGlobalContext extends AbstractNamespaceStorage implements Names
     }
 
     @NonNullByDefault
-    StatementDefinitionContext<?, ?, ?> linkStatementDefinition(final StatementDefinition<?, ?, ?> definition,
-            final YangVersion version) {
+    synchronized StatementDefinitionContext<?, ?, ?> linkStatementDefinition(
+            final StatementDefinition<?, ?, ?> definition, final YangVersion version) {
         checkState(currentPhase == ModelProcessingPhase.SOURCE_LINKAGE);
 
         final var statementName = definition.statementName();
@@ -151,7 +162,8 @@ final class BuildGlobalContext extends AbstractNamespaceStorage implements Names
     }
 
     @NonNullByDefault
-    @Nullable StatementDefinitionContext<?, ?, ?> getStatementDefinition(final YangVersion version, final QName name) {
+    synchronized @Nullable StatementDefinitionContext<?, ?, ?> getStatementDefinition(final YangVersion version,
+            final QName name) {
         final var existing = definitions.get(version, name);
         if (existing != null) {
             return existing;
@@ -178,12 +190,14 @@ final class BuildGlobalContext extends AbstractNamespaceStorage implements Names
         return verifyNotNull(supports.get(phase)).getStatementDefinition(version, name);
     }
 
-    StatementDefinitionContext<?, ?, ?> getModelDefinedStatementDefinition(final QName name) {
+    synchronized StatementDefinitionContext<?, ?, ?> getModelDefinedStatementDefinition(final QName name) {
         return modelDefinedStmtDefs.get(name);
     }
 
-    void putModelDefinedStatementDefinition(final QName name, final StatementDefinitionContext<?, ?, ?> def) {
-        modelDefinedStmtDefs.put(name, def);
+    synchronized StatementDefinitionContext<?, ?, ?> putModelDefinedStatementDefinition(final QName name,
+            final StatementDefinitionContext<?, ?, ?> def) {
+        final var existing = modelDefinedStmtDefs.putIfAbsent(name, def);
+        return existing != null ? existing : def;
     }
 
     void linkSources(final @NonNull Map<ResolvedSourceInfo, StatementStreamSource.Factory> linkage)
@@ -297,9 +311,21 @@ final class BuildGlobalContext extends AbstractNamespaceStorage implements Names
 
     @NonNullByDefault
     private void executePhases() throws ReactorException {
+        if (parallelism == 1 || sources.size() < 2) {
+            executePhases(null);
+            return;
+        }
+
+        LOG.debug("Loading {} sources with parallelism {}", sources.size(), parallelism);
+        try (var pool = new ForkJoinPool(parallelism)) {
+            executePhases(pool);
+        }
+    }
+
+    private void executePhases(final @Nullable ForkJoinPool pool) throws ReactorException {
         for (var phase : PHASE_EXECUTION_ORDER) {
             startPhase(phase);
-            loadPhaseStatements();
+            loadPhaseStatements(pool);
             completePhaseActions();
             endPhase(phase);
         }
@@ -316,7 +342,7 @@ final class BuildGlobalContext extends AbstractNamespaceStorage implements Names
     }
 
     private @NonNull SomeModifiersUnresolvedException propagateException(final SourceSpecificContext source,
-            final RuntimeException cause) throws SomeModifiersUnresolvedException {
+            final RuntimeException cause) {
         final var sourceId = source.sourceId();
         if (!(cause instanceof SourceException)) {
             /*
@@ -328,7 +354,7 @@ final class BuildGlobalContext extends AbstractNamespaceStorage implements Names
                 sourceId, cause);
         }
 
-        throw new SomeModifiersUnresolvedException(currentPhase, sourceId, cause);
+        return new SomeModifiersUnresolvedException(currentPhase, sourceId, cause);
     }
 
     @SuppressWarnings("checkstyle:illegalCatch")
@@ -364,9 +390,13 @@ final class BuildGlobalContext extends AbstractNamespaceStorage implements Names
         }
     }
 
-    private void loadPhaseStatements() throws ReactorException {
+    private void loadPhaseStatements(final @Nullable ForkJoinPool pool) throws ReactorException {
         checkState(currentPhase != null);
-        loadPhaseStatementsFor();
+        if (pool != null && currentPhase != ModelProcessingPhase.EFFECTIVE_MODEL) {
+            loadPhaseStatementsConcurrently(pool);
+        } else {
+            loadPhaseStatementsFor();
+        }
     }
 
     @SuppressWarnings("checkstyle:illegalCatch")
@@ -380,6 +410,38 @@ final class BuildGlobalContext extends AbstractNamespaceStorage implements Names
         }
     }
 
+    private void loadPhaseStatementsConcurrently(final @NonNull ForkJoinPool pool) throws ReactorException {
+        final var tasks = new ArrayList<ForkJoinTask<?>>(sources.size());
+        for (var source : sources) {
+            tasks.add(pool.submit(source::loadStatements));
+        }
+
+        // Wait for all tasks to complete and report the failure of the first source in declaration order, so that
+        // the outcome does not depend on scheduling
+        SomeModifiersUnresolvedException failure = null;
+        for (int i = 0; i < tasks.size(); ++i) {
+            final var source = sources.get(i);
+            try {
+                tasks.get(i).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SomeModifiersUnresolvedException(currentPhase, source.sourceId(), e);
+            } catch (ExecutionException e) {
+                if (failure == null) {
+                    failure = switch (e.getCause()) {
+                        case RuntimeException cause -> propagateException(source, cause);
+                        case Error cause -> throw cause;
+                        case null, default ->
+                            new SomeModifiersUnresolvedException(currentPhase, source.sourceId(), e.getCause());
+                    };
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
     private SomeModifiersUnresolvedException addSourceExceptions(
             final @NonNull List<SourceSpecificContext> sourcesToProgress) {
         boolean addedCause = false;
@@ -481,7 +543,7 @@ final class BuildGlobalContext extends AbstractNamespaceStorage implements Names
         return supportedVersions;
     }
 
-    void addMutableStmtToSeal(final MutableStatement mutableStatement) {
+    synchronized void addMutableStmtToSeal(final MutableStatement mutableStatement) {
         mutableStatementsToSeal.add(mutableStatement);
     }
 
@@ -36,11 +36,13 @@ import org.opendaylight.yangtools.yang.parser.spi.validation.ValidationBundles.V
 public final class CrossSourceStatementReactor {
     private final ImmutableMap<ModelProcessingPhase, StatementSupportBundle> supportedTerminology;
     private final ImmutableMap<ValidationBundleType, Collection<?>> supportedValidation;
+    private final int parallelism;
 
     CrossSourceStatementReactor(final EnumMap<ModelProcessingPhase, StatementSupportBundle> supportedTerminology,
-            final EnumMap<ValidationBundleType, Collection<?>> supportedValidation) {
+            final EnumMap<ValidationBundleType, Collection<?>> supportedValidation, final int parallelism) {
         this.supportedTerminology = ImmutableMap.copyOf(supportedTerminology);
         this.supportedValidation = ImmutableMap.copyOf(supportedValidation);
+        this.parallelism = parallelism;
     }
 
     /**
@@ -58,7 +60,7 @@ public final class CrossSourceStatementReactor {
      * @return A new {@link BuildAction}.
      */
     public @NonNull BuildAction newBuild() {
-        return new ReactorBuildAction(supportedTerminology, supportedValidation);
+        return new ReactorBuildAction(supportedTerminology, supportedValidation, parallelism);
     }
 
     /**
@@ -68,7 +70,7 @@ public final class CrossSourceStatementReactor {
      */
     @NonNullByDefault
     public BuildAction.WithYang<YangTextSource> newBuild(final YangTextToIRSourceTransformer textToIR) {
-        return new YangReactorBuildAction<>(supportedTerminology, supportedValidation, textToIR);
+        return new YangReactorBuildAction<>(supportedTerminology, supportedValidation, parallelism, textToIR);
     }
 
     /**
@@ -78,7 +80,7 @@ public final class CrossSourceStatementReactor {
      */
     @NonNullByDefault
     public BuildAction.WithYin<YinTextSource> newBuild(final YinTextToDOMSourceTransformer textToDOM) {
-        return new YinReactorBuildAction<>(supportedTerminology, supportedValidation, textToDOM);
+        return new YinReactorBuildAction<>(supportedTerminology, supportedValidation, parallelism, textToDOM);
     }
 
     /**
@@ -89,7 +91,8 @@ public final class CrossSourceStatementReactor {
     @NonNullByDefault
     public BuildAction.Full<YangTextSource, YinTextSource> newBuild(final YangTextToIRSourceTransformer textToIR,
             final YinTextToDOMSourceTransformer textToDOM) {
-        return new FullReactorBuildAction<>(supportedTerminology, supportedValidation, textToIR, textToDOM);
+        return new FullReactorBuildAction<>(supportedTerminology, supportedValidation, parallelism, textToIR,
+            textToDOM);
     }
 
     public static class Builder implements Mutable {
@@ -97,6 +100,7 @@ public final class CrossSourceStatementReactor {
                 new EnumMap<>(ValidationBundleType.class);
         private final EnumMap<ModelProcessingPhase, StatementSupportBundle> bundles =
                 new EnumMap<>(ModelProcessingPhase.class);
+        private int parallelism = 1;
 
         public @NonNull Builder setBundle(final ModelProcessingPhase phase, final StatementSupportBundle bundle) {
             bundles.put(phase, bundle);
@@ -109,13 +113,30 @@ public final class CrossSourceStatementReactor {
             return this;
         }
 
+        /**
+         * Set the number of threads which can be used to load statements from independent sources concurrently. The
+         * default value of {@code 1} results in all sources being processed sequentially on the thread invoking
+         * {@link BuildAction#buildDeclared()} or {@link BuildAction#buildEffective()}.
+         *
+         * @param newParallelism the parallelism level
+         * @return This builder
+         * @throws IllegalArgumentException if {@code newParallelism} is not positive
+         */
+        public @NonNull Builder setParallelism(final int newParallelism) {
+            if (newParallelism < 1) {
+                throw new IllegalArgumentException("Invalid parallelism " + newParallelism);
+            }
+            parallelism = newParallelism;
+            return this;
+        }
+
         /**
          * Return a {@link CrossSourceStatementReactor} configured with current state of this builder.
          *
          * @return A CrossSourceStatementReactor
          */
         public @NonNull CrossSourceStatementReactor build() {
-            return new CrossSourceStatementReactor(bundles, validationBundles);
+            return new CrossSourceStatementReactor(bundles, validationBundles, parallelism);
         }
     }
 
@@ -30,10 +30,10 @@ final class FullReactorBuildAction<H extends YangSourceRepresentation, M extends
     private final SourceTransformer<M, YinDOMSource> yinTransformer;
 
     FullReactorBuildAction(final ImmutableMap<ModelProcessingPhase, StatementSupportBundle> supportedTerminology,
-            final ImmutableMap<ValidationBundleType, Collection<?>> supportedValidation,
+            final ImmutableMap<ValidationBundleType, Collection<?>> supportedValidation, final int parallelism,
             final SourceTransformer<H, YangIRSource> yangTransformer,
             final SourceTransformer<M, YinDOMSource> yinTransformer) {
-        super(supportedTerminology, supportedValidation, yangTransformer);
+        super(supportedTerminology, supportedValidation, parallelism, yangTransformer);
         this.yinTransformer = requireNonNull(yinTransformer);
     }
 
@@ -173,7 +173,9 @@ abstract sealed class OriginalStmtCtx<A, D extends DeclaredStatement<A>, E exten
      * @param phase processing phase that ended
      */
     final void finishDeclaration(final ModelProcessingPhase phase) {
-        definition().onDeclarationFinished(this, phase);
+        synchronized (globalMonitor()) {
+            definition().onDeclarationFinished(this, phase);
+        }
     }
 
     final OriginalStmtCtx<?, ?, ?> getResumedSubstatement() {
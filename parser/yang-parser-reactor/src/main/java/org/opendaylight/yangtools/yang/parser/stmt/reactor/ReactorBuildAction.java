@@ -37,8 +37,8 @@ sealed class ReactorBuildAction implements CrossSourceStatementReactor.BuildActi
     private BuildGlobalContext context;
 
     ReactorBuildAction(final ImmutableMap<ModelProcessingPhase, StatementSupportBundle> supportedTerminology,
-            final ImmutableMap<ValidationBundleType, Collection<?>> supportedValidation) {
-        context = new BuildGlobalContext(supportedTerminology, supportedValidation);
+            final ImmutableMap<ValidationBundleType, Collection<?>> supportedValidation, final int parallelism) {
+        context = new BuildGlobalContext(supportedTerminology, supportedValidation, parallelism);
     }
 
     @Override
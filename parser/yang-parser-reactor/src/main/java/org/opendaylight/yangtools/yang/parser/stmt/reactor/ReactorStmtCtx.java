@@ -223,6 +223,16 @@ abstract sealed class ReactorStmtCtx<A, D extends DeclaredStatement<A>, E extend
         return getRoot().getSourceContext().accessNamespace(type);
     }
 
+    /**
+     * Return the monitor guarding state shared by all sources in the reactor. Statement support callbacks which
+     * may interact with other sources need to be invoked while holding it.
+     *
+     * @return the global monitor
+     */
+    final @NonNull Object globalMonitor() {
+        return getRoot().getSourceContext().globalContext();
+    }
+
     @Override
     public final YangVersion sourceVersion() {
         return getRoot().sourceVersionImpl();
@@ -183,8 +183,8 @@ final class SourceSpecificContext implements Mutable, NamespaceStorage.Accessibl
             if (def == null) {
                 final var extension = statementResolver.lookupSupport(name);
                 if (extension != null) {
-                    def = new StatementDefinitionContext<>(extension);
-                    globalContext.putModelDefinedStatementDefinition(name, def);
+                    def = globalContext.putModelDefinedStatementDefinition(name,
+                        new StatementDefinitionContext<>(extension));
                 }
             }
         } else if (current != null) {
@@ -511,17 +511,19 @@ final class SourceSpecificContext implements Mutable, NamespaceStorage.Accessibl
         }
 
         // We need to any and all extension statements which have been declared in the context
-        final var extensions = globalContext.getNamespace(StatementDefinitions.NAMESPACE);
-        if (extensions != null) {
-            extensions.forEach((qname, support) -> {
-                final var existing = statementResolver.tryAddSupport(qname, support);
-                if (existing != null) {
-                    LOG.debug("Source {} already defines statement {} as {}", streamSource, qname, existing);
-                } else {
-                    LOG.debug("Source {} defined statement {} as {}", streamSource, qname, support);
-                }
-            });
-        }
+        final Map<QName, StatementSupport<?, ?, ?>> extensions;
+        synchronized (globalContext) {
+            final var namespace = globalContext.getNamespace(StatementDefinitions.NAMESPACE);
+            extensions = namespace == null ? Map.of() : Map.copyOf(namespace);
+        }
+        extensions.forEach((qname, support) -> {
+            final var existing = statementResolver.tryAddSupport(qname, support);
+            if (existing != null) {
+                LOG.debug("Source {} already defines statement {} as {}", streamSource, qname, existing);
+            } else {
+                LOG.debug("Source {} defined statement {} as {}", streamSource, qname, support);
+            }
+        });
 
         return statementResolver;
     }
@@ -86,7 +86,8 @@ final class StatementDefinitionContext<A, D extends DeclaredStatement<A>, E exte
         }
     }
 
-    @NonNull StatementDefinitionContext<?, ?, ?> getSubDefinitionSpecificForArgument(final String argument) {
+    synchronized @NonNull StatementDefinitionContext<?, ?, ?> getSubDefinitionSpecificForArgument(
+            final String argument) {
         if (!hasArgumentSpecificSubDefinitions()) {
             return this;
         }
@@ -106,7 +107,7 @@ final class StatementDefinitionContext<A, D extends DeclaredStatement<A>, E exte
         return support.hasArgumentSpecificSupports();
     }
 
-    @NonNull StatementDefinitionContext<?, ?, ?> overrideDefinition(
+    synchronized @NonNull StatementDefinitionContext<?, ?, ?> overrideDefinition(
             final @NonNull StatementDefinitionContext<?, ?, ?> def) {
         if (!(support instanceof OverrideChildStatementSupport overrideSupport)) {
             return def;
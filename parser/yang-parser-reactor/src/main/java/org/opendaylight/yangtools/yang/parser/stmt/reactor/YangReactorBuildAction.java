@@ -28,9 +28,9 @@ sealed class YangReactorBuildAction<S extends YangSourceRepresentation> extends
     private final SourceTransformer<S, YangIRSource> yangTransformer;
 
     YangReactorBuildAction(final ImmutableMap<ModelProcessingPhase, StatementSupportBundle> supportedTerminology,
-            final ImmutableMap<ValidationBundleType, Collection<?>> supportedValidation,
+            final ImmutableMap<ValidationBundleType, Collection<?>> supportedValidation, final int parallelism,
             final SourceTransformer<S, YangIRSource> transformer) {
-        super(supportedTerminology, supportedValidation);
+        super(supportedTerminology, supportedValidation, parallelism);
         yangTransformer = requireNonNull(transformer);
     }
 
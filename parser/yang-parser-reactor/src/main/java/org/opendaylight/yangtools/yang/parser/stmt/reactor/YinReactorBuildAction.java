@@ -27,9 +27,9 @@ final class YinReactorBuildAction<S extends YinSourceRepresentation> extends Rea
     private final SourceTransformer<S, YinDOMSource> yinTransformer;
 
     YinReactorBuildAction(final ImmutableMap<ModelProcessingPhase, StatementSupportBundle> supportedTerminology,
-            final ImmutableMap<ValidationBundleType, Collection<?>> supportedValidation,
+            final ImmutableMap<ValidationBundleType, Collection<?>> supportedValidation, final int parallelism,
             final SourceTransformer<S, YinDOMSource> yinTransformer) {
-        super(supportedTerminology, supportedValidation);
+        super(supportedTerminology, supportedValidation, parallelism);
         this.yinTransformer = requireNonNull(yinTransformer);
     }
 
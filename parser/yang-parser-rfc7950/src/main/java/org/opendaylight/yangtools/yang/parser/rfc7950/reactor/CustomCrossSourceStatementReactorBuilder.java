@@ -32,6 +32,7 @@ public class CustomCrossSourceStatementReactorBuilder implements Mutable {
     private final ImmutableMap<ModelProcessingPhase, StatementSupportBundle.Builder> reactorSupportBundles;
     private final HashMap<ValidationBundleType, Collection<StatementDefinition<?, ?, ?>>> reactorValidationBundles =
         new HashMap<>();
+    private int parallelism = 1;
 
     /**
      * Creates a new CustomCrossSourceStatementReactorBuilder object initialized by specific version bundle. Statement
@@ -110,6 +111,22 @@ public class CustomCrossSourceStatementReactorBuilder implements Mutable {
         return this;
     }
 
+    /**
+     * Set the number of threads the resulting reactor can use to load statements from independent sources concurrently.
+     *
+     * @param newParallelism the parallelism level
+     * @return This builder
+     * @throws IllegalArgumentException if {@code newParallelism} is not positive
+     * @see CrossSourceStatementReactor.Builder#setParallelism(int)
+     */
+    public @NonNull CustomCrossSourceStatementReactorBuilder setParallelism(final int newParallelism) {
+        if (newParallelism < 1) {
+            throw new IllegalArgumentException("Invalid parallelism " + newParallelism);
+        }
+        parallelism = newParallelism;
+        return this;
+    }
+
     /**
      * Return a new {@link CrossSourceStatementReactor}.
      *
@@ -128,7 +145,8 @@ public class CustomCrossSourceStatementReactorBuilder implements Mutable {
             .setBundle(ModelProcessingPhase.SOURCE_LINKAGE, linkageBundle)
             .setBundle(ModelProcessingPhase.STATEMENT_DEFINITION, stmtDefBundle)
             .setBundle(ModelProcessingPhase.FULL_DECLARATION, fullDeclBundle)
-            .setBundle(ModelProcessingPhase.EFFECTIVE_MODEL, effectiveBundle);
+            .setBundle(ModelProcessingPhase.EFFECTIVE_MODEL, effectiveBundle)
+            .setParallelism(parallelism);
 
         for (var entry : reactorValidationBundles.entrySet()) {
             reactorBuilder.setValidationBundle(entry.getKey(), entry.getValue());
@@ -268,6 +268,7 @@ public final class RFC7950Reactors {
         final var fullDeclarationBundle = fullDeclarationBundle(stmtDefBundle, xpathSupport, config);
 
         return new CustomCrossSourceStatementReactorBuilder(StatementSupportBundle.VERSIONS_ALL)
+                .setParallelism(config.parallelism())
                 .addAllSupports(ModelProcessingPhase.INIT, INIT_BUNDLE)
                 .addAllSupports(ModelProcessingPhase.SOURCE_LINKAGE, linkageBundle)
                 .addAllSupports(ModelProcessingPhase.STATEMENT_DEFINITION, stmtDefBundle)
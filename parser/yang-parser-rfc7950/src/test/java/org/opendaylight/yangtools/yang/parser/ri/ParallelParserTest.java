@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.parser.ri;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.api.Module;
+import org.opendaylight.yangtools.yang.model.api.source.SourceIdentifier;
+import org.opendaylight.yangtools.yang.model.spi.source.StringYangTextSource;
+import org.opendaylight.yangtools.yang.model.spi.source.URLYangTextSource;
+import org.opendaylight.yangtools.yang.parser.api.YangParserConfiguration;
+import org.opendaylight.yangtools.yang.parser.api.YangParserException;
+
+class ParallelParserTest {
+    private static final List<String> RESOURCES = List.of(
+        "/model/bar.yang", "/model/baz.yang", "/model/foo.yang", "/model/subfoo.yang",
+        "/ietf/ietf-inet-types@2010-09-24.yang", "/ietf/ietf-yang-types@2010-09-24.yang",
+        "/ietf/network-topology@2013-10-21.yang");
+
+    @Test
+    void parallelMatchesSequential() throws Exception {
+        final var sequential = buildModel(YangParserConfiguration.DEFAULT);
+        final var parallel = buildModel(YangParserConfiguration.builder().parallelism(4).build());
+
+        assertEquals(sequential.getModuleStatements().keySet(), parallel.getModuleStatements().keySet());
+        for (var module : sequential.getModules()) {
+            final var other = parallel.findModule(module.getQNameModule()).orElseThrow();
+            assertEquals(childNames(module), childNames(other));
+            assertEquals(module.getGroupings().size(), other.getGroupings().size());
+            assertEquals(module.getTypeDefinitions().size(), other.getTypeDefinitions().size());
+            assertEquals(module.getAugmentations().size(), other.getAugmentations().size());
+        }
+    }
+
+    @Test
+    void parallelFailureIsDeterministic() throws Exception {
+        final var expected = buildInvalidModel(YangParserConfiguration.DEFAULT);
+        final var config = YangParserConfiguration.builder().parallelism(4).build();
+        for (int i = 0; i < 10; ++i) {
+            assertEquals(expected, buildInvalidModel(config));
+        }
+    }
+
+    @Test
+    void invalidParallelism() {
+        final var builder = YangParserConfiguration.builder();
+        assertThrows(IllegalArgumentException.class, () -> builder.parallelism(0));
+    }
+
+    private static EffectiveModelContext buildModel(final YangParserConfiguration config) throws Exception {
+        final var parser = new DefaultYangParserFactory().createParser(config);
+        for (var resource : RESOURCES) {
+            parser.addSource(new URLYangTextSource(ParallelParserTest.class.getResource(resource)));
+        }
+        return parser.buildEffectiveModel();
+    }
+
+    // Every source is invalid, the failure of the first one should be reported
+    private static String buildInvalidModel(final YangParserConfiguration config) throws Exception {
+        final var parser = new DefaultYangParserFactory().createParser(config);
+        for (int i = 0; i < 8; ++i) {
+            final var name = "invalid" + i;
+            parser.addSource(new StringYangTextSource(new SourceIdentifier(name), """
+                module %s {
+                  namespace "urn:%s";
+                  prefix %s;
+                  container foo {
+                    unknown-statement;
+                  }
+                }
+                """.formatted(name, name, name)));
+        }
+
+        final var ex = assertThrows(YangParserException.class, parser::buildEffectiveModel);
+        return ex.getCause().getMessage();
+    }
+
+    private static String childNames(final Module module) {
+        return module.getChildNodes().stream()
+            .map(node -> node.getQName().toString())
+            .sorted()
+            .collect(Collectors.joining(","));
+    }
+}
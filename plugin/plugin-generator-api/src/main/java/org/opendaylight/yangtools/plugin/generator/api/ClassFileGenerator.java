@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.plugin.generator.api;
+
+import java.nio.file.Path;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.opendaylight.yangtools.concepts.Identifiable;
+
+/**
+ * A {@link java.util.ServiceLoader} interface for generators of class files. Unlike {@link FileGenerator}s, these are
+ * invoked after the project has been compiled and operate on compiled classes, for example to emit classes which
+ * would otherwise be generated at runtime.
+ */
+@NonNullByDefault
+public interface ClassFileGenerator extends Identifiable<String> {
+    /**
+     * {@inheritDoc}
+     *
+     * <p>This identifier must be a simple string without any whitespace, such as produced by
+     * {@link Class#getSimpleName()}.
+     */
+    @Override
+    String getIdentifier();
+
+    /**
+     * Generate class files.
+     *
+     * @param projectClassLoader a {@link ClassLoader} with visibility into the project's classes and its compile-time
+     *                           dependencies
+     * @param projectOutputDirectory the directory holding the project's classes, which also receives generated files
+     * @throws FileGeneratorException if generation fails
+     */
+    void generateClassFiles(ClassLoader projectClassLoader, Path projectOutputDirectory) throws FileGeneratorException;
+}
@@ -9,6 +9,7 @@ package org.opendaylight.yangtools.yang2sources.plugin;
 
 import static java.util.Objects.requireNonNull;
 
+import com.google.common.hash.Hashing;
 import java.io.File;
 import java.io.IOException;
 import java.io.OutputStream;
@@ -56,6 +57,10 @@ record FileState(@NonNull String path, long size, int crc32) {
         }
     }
 
+    static @NonNull FileState ofContent(final Path file, final byte[] content) {
+        return new FileState(file.toString(), content.length, Hashing.crc32c().hashBytes(content).asInt());
+    }
+
     static @NonNull FileState ofWrittenFile(final Path file, final FileContent content) throws IOException {
         try (var out = new CapturingOutputStream(Files.newOutputStream(file))) {
             content.writeTo(out);
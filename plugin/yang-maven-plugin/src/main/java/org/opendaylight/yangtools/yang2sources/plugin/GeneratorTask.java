@@ -11,13 +11,19 @@ import static java.util.Objects.requireNonNull;
 
 import com.google.common.base.MoreObjects;
 import com.google.common.base.Stopwatch;
-import com.google.common.collect.MultimapBuilder;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import org.apache.maven.project.MavenProject;
 import org.eclipse.jdt.annotation.NonNull;
 import org.opendaylight.yangtools.concepts.Identifiable;
@@ -66,24 +72,32 @@ final class GeneratorTask implements Identifiable<String> {
      * Create a new {@link GeneratorTask} which will work in scope of specified {@link MavenProject} with the effective
      * model held in specified {@link ContextHolder}.
      *
+     * <p>File bodies are rendered into memory on {@code renderExecutor} and each rendered body is handed off to
+     * {@code writeExecutor}, so that writing out files overlaps with rendering of subsequent files. The returned list
+     * is sorted by file path and {@link BuildContext} is notified in that order, so the outcome does not depend on the
+     * order in which files are generated.
+     *
      * @param project current Maven Project
      * @param buildContext Incremental BuildContext
      * @param context model generation context
+     * @param renderExecutor executor for rendering file bodies
+     * @param writeExecutor executor for file system operations
      * @return {@link FileState} for every generated file
      * @throws FileGeneratorException if the underlying generator fails
      */
     @NonNull List<FileState> execute(final MavenProject project, final BuildContext buildContext,
-            final ContextHolder context) throws FileGeneratorException {
+            final ContextHolder context, final Executor renderExecutor, final Executor writeExecutor)
+                throws FileGeneratorException {
         final var access = new ProjectFileAccess(project, getIdentifier());
 
         // Step one: determine what files are going to be generated
-        final var sw = Stopwatch.createStarted();
+        final var defineSw = Stopwatch.createStarted();
         final var generatedFiles = gen.generateFiles(context.modelContext(), context.modules(), context);
-        LOG.info("{}: Defined {} files in {}", getIdentifier(), generatedFiles.size(), sw);
+        defineSw.stop();
 
-        // Step two: create generation tasks for each target file and group them by parent directory
-        sw.reset().start();
-        final var dirs = MultimapBuilder.hashKeys().arrayListValues().<Path, WriteTask>build();
+        // Step two: create generation tasks for each target file, in a predictable order
+        final var prepareSw = Stopwatch.createStarted();
+        final var tasks = new ArrayList<WriteTask>(generatedFiles.size());
         for (var cell : generatedFiles.cellSet()) {
             final GeneratedFile file = cell.getValue();
             final String relativePath = cell.getColumnKey().path();
@@ -103,47 +117,68 @@ final class GeneratorTask implements Identifiable<String> {
                     throw new FileGeneratorException("Unsupported file type in " + file);
             }
 
-            dirs.put(target.getParent(), new WriteTask(target, cell.getValue()));
+            tasks.add(new WriteTask(target, file));
         }
-        LOG.info("Sorted {} files into {} directories in {}", dirs.size(), dirs.keySet().size(), sw);
+        tasks.sort(Comparator.comparing(WriteTask::target));
 
-        // Step three: submit parent directory creation tasks (via parallelStream()) and wait for them to complete
-        sw.reset().start();
-        dirs.keySet().parallelStream().forEach(path -> {
-            try {
-                Files.createDirectories(path);
-            } catch (IOException e) {
-                throw new IllegalStateException("Failed to create " + path, e);
-            }
-        });
-        LOG.debug("Parent directories created in {}", sw);
-
-        // Step four: submit all code generation tasks (via parallelStream()) and wait for them to complete
-        sw.reset().start();
-        final var outputFiles = dirs.values().parallelStream()
-            .map(task -> {
+        // Step three: create parent directories and wait for that to complete
+        final var dirs = tasks.stream().map(task -> task.target().getParent()).distinct().toList();
+        await(dirs.stream()
+            .map(dir -> CompletableFuture.runAsync(() -> {
                 try {
-                    return task.generateFile();
+                    Files.createDirectories(dir);
                 } catch (IOException e) {
-                    throw new IllegalStateException("Failed to generate " + task.file, e);
+                    throw new UncheckedIOException("Failed to create " + dir, e);
                 }
-            })
-            .collect(Collectors.toList());
-        LOG.debug("Generated {} files in {}", outputFiles.size(), sw);
+            }, writeExecutor))
+            .toList());
+        prepareSw.stop();
+
+        // Step four: render each file and then write it out, without waiting for the other files
+        final var generateSw = Stopwatch.createStarted();
+        final var outputFiles = await(tasks.stream()
+            .map(task -> CompletableFuture.supplyAsync(task::render, renderExecutor)
+                .thenApplyAsync(task::write, writeExecutor))
+            .toList());
+        generateSw.stop();
 
         // Step five: update maven project to include top-level directories
         access.updateMavenProject();
 
         // Step six: extract FileState objects while notifying BuildContext of any files which have been changed
-        return outputFiles.stream()
-            .map(output -> {
-                final var state = output.state();
-                if (output.changed()) {
-                    buildContext.refresh(Path.of(state.path()).toFile());
-                }
-                return state;
-            })
-            .collect(Collectors.toList());
+        final var refreshSw = Stopwatch.createStarted();
+        final var states = new ArrayList<FileState>(outputFiles.size());
+        int changed = 0;
+        for (var output : outputFiles) {
+            final var state = output.state();
+            if (output.changed()) {
+                buildContext.refresh(Path.of(state.path()).toFile());
+                changed++;
+            }
+            states.add(state);
+        }
+        refreshSw.stop();
+
+        LOG.info("{}: {} files ({} changed) in {} directories: defined in {}, prepared in {}, generated in {}, "
+            + "refreshed in {}", getIdentifier(), states.size(), changed, dirs.size(), defineSw, prepareSw, generateSw,
+            refreshSw);
+        return states;
+    }
+
+    private static <T> @NonNull List<T> await(final List<CompletableFuture<T>> futures)
+            throws FileGeneratorException {
+        final var ret = new ArrayList<T>(futures.size());
+        for (var future : futures) {
+            try {
+                ret.add(future.join());
+            } catch (CompletionException | CancellationException e) {
+                // Do not bother with remaining work
+                futures.forEach(f -> f.cancel(false));
+                final var cause = e.getCause() != null ? e.getCause() : e;
+                throw new FileGeneratorException(cause.getMessage(), cause);
+            }
+        }
+        return ret;
     }
 
     @Override
@@ -161,38 +196,49 @@ final class GeneratorTask implements Identifiable<String> {
         }
     }
 
-    private static final class WriteTask {
-        private final GeneratedFile file;
-        private final Path target;
+    private record WriteTask(@NonNull Path target, @NonNull GeneratedFile file) {
+        WriteTask {
+            requireNonNull(target);
+            requireNonNull(file);
+        }
+
+        byte[] render() {
+            final var out = new ByteArrayOutputStream();
+            try {
+                file.writeBody(out);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to render " + target, e);
+            }
+            return out.toByteArray();
+        }
 
-        WriteTask(final Path target, final GeneratedFile file) {
-            this.target = requireNonNull(target);
-            this.file = requireNonNull(file);
+        OutputFile write(final byte[] body) {
+            try {
+                return writeBody(body);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to write " + target, e);
+            }
         }
 
-        OutputFile generateFile() throws IOException {
+        private OutputFile writeBody(final byte[] body) throws IOException {
+            final var state = FileState.ofContent(target, body);
             if (!Files.isRegularFile(target)) {
                 // Target file does not exist: just output body
-                return new OutputFile(FileState.ofWrittenFile(target, file::writeBody), true);
+                Files.write(target, body);
+                return new OutputFile(state, true);
             }
 
-            // Acquire existing file state
+            // If file size and checksum matches there is nothing to do
             final var existingFile = FileState.ofFile(target);
-
-            // Write out the new output into a temporary file
-            final var tmpFile = FileState.ofWrittenFile(Files.createTempFile(target.getParent(), "gen", null),
-                file::writeBody);
-
-            // If file size and checksum matches just delete our output
-            final var tmpPath = Path.of(tmpFile.path());
-            if (existingFile.size() == tmpFile.size() && existingFile.crc32() == tmpFile.crc32()) {
-                Files.delete(tmpPath);
+            if (existingFile.size() == state.size() && existingFile.crc32() == state.crc32()) {
                 return new OutputFile(existingFile, false);
             }
 
-            // Mismatch: move the temp file into place
+            // Mismatch: write out a temporary file and move it into place
+            final var tmpPath = Files.createTempFile(target.getParent(), "gen", null);
+            Files.write(tmpPath, body);
             Files.move(tmpPath, target, StandardCopyOption.REPLACE_EXISTING);
-            return new OutputFile(new FileState(existingFile.path(), tmpFile.size(), tmpFile.crc32()), true);
+            return new OutputFile(state, true);
         }
     }
 }
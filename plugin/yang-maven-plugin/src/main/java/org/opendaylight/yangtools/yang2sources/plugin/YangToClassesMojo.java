@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang2sources.plugin;
+
+import static org.opendaylight.yangtools.yang2sources.plugin.YangToSourcesProcessor.LOG_PREFIX;
+
+import com.google.common.base.Stopwatch;
+import com.google.common.collect.Maps;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ServiceLoader;
+import javax.inject.Inject;
+import org.apache.maven.artifact.DependencyResolutionRequiredException;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+import org.apache.maven.project.MavenProject;
+import org.opendaylight.yangtools.plugin.generator.api.ClassFileGenerator;
+import org.opendaylight.yangtools.plugin.generator.api.FileGeneratorException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.sonatype.plexus.build.incremental.BuildContext;
+
+/**
+ * Generate class files from compiled project classes using {@link ClassFileGenerator}s available to this plugin via
+ * {@link ServiceLoader}. This complements {@link YangToSourcesMojo}: its output needs to be compiled before it can be
+ * processed, hence this goal runs in the {@code process-classes} phase.
+ *
+ * <p>Generators are made available by adding their artifacts as dependencies of this plugin, for example
+ * {@code binding-data-codec-dynamic} pre-generates binding codec classes, which would otherwise be generated at
+ * runtime.
+ */
+@Mojo(name = "generate-classes", defaultPhase = LifecyclePhase.PROCESS_CLASSES,
+    requiresDependencyResolution = ResolutionScope.COMPILE, requiresProject = true, threadSafe = true)
+public final class YangToClassesMojo extends AbstractMojo {
+    private static final Logger LOG = LoggerFactory.getLogger(YangToClassesMojo.class);
+
+    /**
+     * Identifiers of {@link ClassFileGenerator}s to run. If not specified, all available generators are run.
+     */
+    @Parameter(required = false)
+    private String[] classFileGenerators;
+
+    @Parameter(property = "project", required = true, readonly = true)
+    private MavenProject project;
+
+    // When set to "true", then the execution of the plugin is disabled
+    @Parameter(property = "yang.skip", defaultValue = "false")
+    private boolean yangSkip;
+
+    @Inject
+    private BuildContext buildContext;
+
+    public YangToClassesMojo() {
+
+    }
+
+    @Override
+    public void execute() throws MojoExecutionException, MojoFailureException {
+        if (yangSkip) {
+            LOG.info("{} Skipping YANG class generation because property yang.skip is true", LOG_PREFIX);
+            return;
+        }
+
+        final var outputDir = Path.of(project.getBuild().getOutputDirectory());
+        if (!Files.isDirectory(outputDir)) {
+            LOG.info("{} Skipping YANG class generation because {} does not exist", LOG_PREFIX, outputDir);
+            return;
+        }
+
+        final var generators = selectGenerators();
+        if (generators.isEmpty()) {
+            LOG.info("{} No class file generators available", LOG_PREFIX);
+            return;
+        }
+
+        final List<String> classpath;
+        try {
+            classpath = project.getCompileClasspathElements();
+        } catch (DependencyResolutionRequiredException e) {
+            throw new MojoExecutionException("Failed to resolve compile classpath", e);
+        }
+
+        final var urls = new ArrayList<URL>(classpath.size());
+        for (var element : classpath) {
+            try {
+                urls.add(Path.of(element).toUri().toURL());
+            } catch (MalformedURLException e) {
+                throw new MojoExecutionException("Invalid classpath element " + element, e);
+            }
+        }
+
+        // Delegate to our class loader first, so that generators and project classes agree on shared types
+        final var thread = Thread.currentThread();
+        final var origLoader = thread.getContextClassLoader();
+        try (var loader = new URLClassLoader(urls.toArray(URL[]::new), YangToClassesMojo.class.getClassLoader())) {
+            thread.setContextClassLoader(loader);
+            for (var generator : generators) {
+                final var sw = Stopwatch.createStarted();
+                LOG.info("{} Invoking class file generator {}", LOG_PREFIX, generator.getIdentifier());
+                try {
+                    generator.generateClassFiles(loader, outputDir);
+                } catch (FileGeneratorException e) {
+                    throw new MojoFailureException(LOG_PREFIX + " Generator " + generator.getIdentifier()
+                        + " failed", e);
+                }
+                LOG.info("{} Class file generator {} finished in {}", LOG_PREFIX, generator.getIdentifier(), sw);
+            }
+        } catch (IOException e) {
+            throw new MojoExecutionException("Failed to close project class loader", e);
+        } finally {
+            thread.setContextClassLoader(origLoader);
+        }
+
+        buildContext.refresh(outputDir.toFile());
+    }
+
+    private List<ClassFileGenerator> selectGenerators() throws MojoFailureException {
+        final var available = Maps.uniqueIndex(
+            ServiceLoader.load(ClassFileGenerator.class, YangToClassesMojo.class.getClassLoader()),
+            ClassFileGenerator::getIdentifier);
+        if (classFileGenerators == null || classFileGenerators.length == 0) {
+            return List.copyOf(available.values());
+        }
+
+        final var ret = new ArrayList<ClassFileGenerator>(classFileGenerators.length);
+        for (var id : classFileGenerators) {
+            final var generator = available.get(id);
+            if (generator == null) {
+                throw new MojoFailureException(LOG_PREFIX + " No class file generator found for " + id
+                    + ", available: " + available.keySet());
+            }
+            ret.add(generator);
+        }
+        return ret;
+    }
+}
@@ -90,6 +90,13 @@ public final class YangToSourcesMojo extends AbstractMojo {
     @Parameter(property = "yang.skip", defaultValue = "false")
     private boolean yangSkip;
 
+    /**
+     * Number of threads used to render and write generated files. Non-positive values default to the number of
+     * available processors.
+     */
+    @Parameter(property = "yang.parallelism", defaultValue = "0")
+    private int parallelism;
+
     @Inject
     private BuildContext buildContext;
 
@@ -118,7 +125,7 @@ public final class YangToSourcesMojo extends AbstractMojo {
         final var excludedFiles = processExcludeFiles(excludeFiles, yangFilesRootFile);
 
         new YangToSourcesProcessor(buildContext, yangFilesRootFile, excludedFiles, arrayToList(fileGenerators), project,
-            inspectDependencies).execute();
+            inspectDependencies, parallelism).execute();
     }
 
     /**
@@ -15,6 +15,7 @@ import com.google.common.base.Throwables;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
@@ -27,6 +28,8 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.apache.maven.plugin.MojoExecutionException;
@@ -104,10 +107,12 @@ class YangToSourcesProcessor {
     private final YangProvider yangProvider;
     private final StateStorage stateStorage;
     private final String projectBuildDirectory;
+    private final int parallelism;
 
     private YangToSourcesProcessor(final BuildContext buildContext, final Path yangFilesRootDir,
             final Set<Path> excludedFiles, final List<FileGeneratorArg> fileGeneratorsArgs,
-            final MavenProject project, final boolean inspectDependencies, final YangProvider yangProvider) {
+            final MavenProject project, final boolean inspectDependencies, final int parallelism,
+            final YangProvider yangProvider) {
         this.buildContext = requireNonNull(buildContext, "buildContext");
         this.yangFilesRootDir = requireNonNull(yangFilesRootDir, "yangFilesRootDir");
         this.excludedFiles = Set.copyOf(excludedFiles);
@@ -115,6 +120,7 @@ class YangToSourcesProcessor {
         fileGeneratorArgs = Maps.uniqueIndex(fileGeneratorsArgs, FileGeneratorArg::getIdentifier);
         this.project = requireNonNull(project);
         this.inspectDependencies = inspectDependencies;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
         this.yangProvider = requireNonNull(yangProvider);
         projectBuildDirectory = project.getBuild().getDirectory();
         stateStorage = StateStorage.of(buildContext, stateFilePath(projectBuildDirectory));
@@ -125,13 +131,19 @@ class YangToSourcesProcessor {
     @VisibleForTesting
     YangToSourcesProcessor(final Path yangFilesRootDir, final List<FileGeneratorArg> fileGenerators,
             final MavenProject project, final YangProvider yangProvider) {
-        this(new DefaultBuildContext(), yangFilesRootDir, Set.of(), List.of(), project, false, yangProvider);
+        this(new DefaultBuildContext(), yangFilesRootDir, Set.of(), List.of(), project, false, 0, yangProvider);
     }
 
     YangToSourcesProcessor(final BuildContext buildContext, final Path yangFilesRootDir, final Set<Path> excludedFiles,
             final List<FileGeneratorArg> fileGenerators, final MavenProject project,
             final boolean inspectDependencies) {
-        this(buildContext, yangFilesRootDir, excludedFiles, fileGenerators, project, inspectDependencies,
+        this(buildContext, yangFilesRootDir, excludedFiles, fileGenerators, project, inspectDependencies, 0);
+    }
+
+    YangToSourcesProcessor(final BuildContext buildContext, final Path yangFilesRootDir, final Set<Path> excludedFiles,
+            final List<FileGeneratorArg> fileGenerators, final MavenProject project,
+            final boolean inspectDependencies, final int parallelism) {
+        this(buildContext, yangFilesRootDir, excludedFiles, fileGenerators, project, inspectDependencies, parallelism,
             YANG_PROVIDER);
     }
 
@@ -288,8 +300,13 @@ class YangToSourcesProcessor {
 
                 final var genSw = Stopwatch.createStarted();
                 final List<FileState> files;
-                try {
-                    files = factory.execute(project, buildContext, holder);
+                // Rendering is CPU-bound, while writing is dominated by I/O, hence we use separate pools
+                try (var renderPool = new ForkJoinPool(parallelism);
+                     var writePool = Executors.newFixedThreadPool(parallelism, new ThreadFactoryBuilder()
+                         .setNameFormat("yang-to-sources-write-%d")
+                         .setDaemon(true)
+                         .build())) {
+                    files = factory.execute(project, buildContext, holder, renderPool, writePool);
                 } catch (FileGeneratorException e) {
                     throw new MojoFailureException(LOG_PREFIX + " Generator " + factory + " failed", e);
                 }
@@ -0,0 +1,19 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+/**
+ * XSD regular expression support.
+ */
+module org.opendaylight.yangtools.regex {
+    exports org.opendaylight.yangtools.regex;
+
+    requires com.google.common;
+    requires org.antlr.antlr4.runtime;
+
+    // Annotations
+    requires static transitive org.eclipse.jdt.annotation;
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.regex;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * An immutable set of Unicode code points, represented as a sorted array of disjoint, non-adjacent inclusive ranges.
+ */
+@NonNullByDefault
+final class CodePointSet {
+    static final CodePointSet EMPTY = new CodePointSet(new int[0]);
+    static final CodePointSet ALL = new CodePointSet(new int[] { 0, Character.MAX_CODE_POINT });
+
+    // start0, end0, start1, end1, ...
+    private final int[] ranges;
+
+    private CodePointSet(final int[] ranges) {
+        this.ranges = ranges;
+    }
+
+    static CodePointSet of(final int codePoint) {
+        return ofRange(codePoint, codePoint);
+    }
+
+    static CodePointSet ofRange(final int start, final int end) {
+        checkArgument(start <= end, "Invalid range %s-%s", start, end);
+        return new CodePointSet(new int[] { start, end });
+    }
+
+    static CodePointSet ofRanges(final int... ranges) {
+        checkArgument(ranges.length % 2 == 0, "Odd number of range boundaries");
+        var ret = EMPTY;
+        for (int i = 0; i < ranges.length; i += 2) {
+            ret = ret.union(ofRange(ranges[i], ranges[i + 1]));
+        }
+        return ret;
+    }
+
+    static CodePointSet ofCodePoints(final String str) {
+        var ret = EMPTY;
+        for (int i = 0; i < str.length(); ) {
+            final int cp = str.codePointAt(i);
+            ret = ret.union(of(cp));
+            i += Character.charCount(cp);
+        }
+        return ret;
+    }
+
+    static CodePointSet ofPredicate(final IntPredicate predicate) {
+        final var builder = new Builder();
+        int start = -1;
+        for (int cp = 0; cp <= Character.MAX_CODE_POINT; ++cp) {
+            if (predicate.test(cp)) {
+                if (start == -1) {
+                    start = cp;
+                }
+            } else if (start != -1) {
+                builder.add(start, cp - 1);
+                start = -1;
+            }
+        }
+        if (start != -1) {
+            builder.add(start, Character.MAX_CODE_POINT);
+        }
+        return builder.build();
+    }
+
+    boolean isEmpty() {
+        return ranges.length == 0;
+    }
+
+    int rangeCount() {
+        return ranges.length / 2;
+    }
+
+    int rangeStart(final int index) {
+        return ranges[index * 2];
+    }
+
+    int rangeEnd(final int index) {
+        return ranges[index * 2 + 1];
+    }
+
+    boolean contains(final int codePoint) {
+        // Find the last range starting at or before codePoint
+        int lo = 0;
+        int hi = rangeCount() - 1;
+        while (lo <= hi) {
+            final int mid = lo + hi >>> 1;
+            if (rangeStart(mid) <= codePoint) {
+                lo = mid + 1;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        return hi >= 0 && codePoint <= rangeEnd(hi);
+    }
+
+    CodePointSet union(final CodePointSet other) {
+        if (other.isEmpty()) {
+            return this;
+        }
+        if (isEmpty()) {
+            return other;
+        }
+
+        final var builder = new Builder();
+        int i = 0;
+        int j = 0;
+        while (i < rangeCount() || j < other.rangeCount()) {
+            if (j == other.rangeCount() || i < rangeCount() && rangeStart(i) <= other.rangeStart(j)) {
+                builder.add(rangeStart(i), rangeEnd(i));
+                i++;
+            } else {
+                builder.add(other.rangeStart(j), other.rangeEnd(j));
+                j++;
+            }
+        }
+        return builder.build();
+    }
+
+    CodePointSet intersect(final CodePointSet other) {
+        final var builder = new Builder();
+        int i = 0;
+        int j = 0;
+        while (i < rangeCount() && j < other.rangeCount()) {
+            final int start = Math.max(rangeStart(i), other.rangeStart(j));
+            final int end = Math.min(rangeEnd(i), other.rangeEnd(j));
+            if (start <= end) {
+                builder.add(start, end);
+            }
+            if (rangeEnd(i) < other.rangeEnd(j)) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return builder.build();
+    }
+
+    CodePointSet complement() {
+        final var builder = new Builder();
+        int next = 0;
+        for (int i = 0; i < rangeCount(); ++i) {
+            final int start = rangeStart(i);
+            if (start > next) {
+                builder.add(next, start - 1);
+            }
+            next = rangeEnd(i) + 1;
+        }
+        if (next <= Character.MAX_CODE_POINT) {
+            builder.add(next, Character.MAX_CODE_POINT);
+        }
+        return builder.build();
+    }
+
+    CodePointSet minus(final CodePointSet other) {
+        return other.isEmpty() ? this : intersect(other.complement());
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(ranges);
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object obj) {
+        return this == obj || obj instanceof CodePointSet other && Arrays.equals(ranges, other.ranges);
+    }
+
+    @Override
+    public String toString() {
+        final var sb = new StringBuilder().append('[');
+        for (int i = 0; i < rangeCount(); ++i) {
+            final int start = rangeStart(i);
+            final int end = rangeEnd(i);
+            sb.append(String.format("\\x{%X}", start));
+            if (end != start) {
+                sb.append(String.format("-\\x{%X}", end));
+            }
+        }
+        return sb.append(']').toString();
+    }
+
+    /**
+     * A builder accepting ranges in ascending order of their start, merging overlapping and adjacent ranges.
+     */
+    private static final class Builder {
+        private int[] ranges = new int[8];
+        private int size;
+
+        void add(final int start, final int end) {
+            if (size != 0 && start <= ranges[size - 1] + 1) {
+                ranges[size - 1] = Math.max(ranges[size - 1], end);
+                return;
+            }
+            if (size == ranges.length) {
+                ranges = Arrays.copyOf(ranges, size * 2);
+            }
+            ranges[size++] = start;
+            ranges[size++] = end;
+        }
+
+        CodePointSet build() {
+            return size == 0 ? EMPTY : new CodePointSet(Arrays.copyOf(ranges, size));
+        }
+    }
+}
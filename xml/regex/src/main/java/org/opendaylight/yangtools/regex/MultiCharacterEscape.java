@@ -17,15 +17,15 @@ public enum MultiCharacterEscape implements CharacterClass {
     SPACE('s', "[ \\t\\n\\r]"),
     NOT_SPACE('S', "[^ \\t\\n\\r]"),
 
-    // XSD:  Letter | '_' | ':'
+    // XSD:  NameStartChar
     // Java translated
-    IDENT('i', null),
-    NOT_IDENT('I', null),
+    IDENT('i', "[" + Constants.NAME_START_CHAR + "]"),
+    NOT_IDENT('I', "[^" + Constants.NAME_START_CHAR + "]"),
 
     // XSD:  NameChar
     // Java translated
-    CHAR('c', null),
-    NOT_CHAR('C', null),
+    CHAR('c', "[" + Constants.NAME_CHAR + "]"),
+    NOT_CHAR('C', "[^" + Constants.NAME_CHAR + "]"),
 
     // Java: [0-9]
     DIGIT('d', "\\p{Nd}"),
@@ -33,8 +33,16 @@ public enum MultiCharacterEscape implements CharacterClass {
 
     // XSD:  [#x0000-#x10FFFF]-[\p{P}\p{Z}\p{C}]
     // Java: [a-zA-Z_0-9]
-    WORD('w', null),
-    NOT_WORD('W', null);
+    WORD('w', "[\\x{0}-\\x{10FFFF}&&[^\\p{P}\\p{Z}\\p{C}]]"),
+    NOT_WORD('W', "[\\p{P}\\p{Z}\\p{C}]");
+
+    // Enum constants cannot reference static fields, hence we hold these in a holder class
+    private static final class Constants {
+        static final String NAME_START_CHAR = ":A-Z_a-z\\u00C0-\\u00D6\\u00D8-\\u00F6\\u00F8-\\u02FF\\u0370-\\u037D"
+            + "\\u037F-\\u1FFF\\u200C-\\u200D\\u2070-\\u218F\\u2C00-\\u2FEF\\u3001-\\uD7FF\\uF900-\\uFDCF"
+            + "\\uFDF0-\\uFFFD\\x{10000}-\\x{EFFFF}";
+        static final String NAME_CHAR = NAME_START_CHAR + "\\-.0-9\\u00B7\\u0300-\\u036F\\u203F-\\u2040";
+    }
 
     private final String fragment;
     private final char ch;
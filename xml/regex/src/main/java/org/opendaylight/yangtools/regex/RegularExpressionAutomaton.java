@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.regex;
+
+import com.google.common.annotations.Beta;
+import com.google.common.base.MoreObjects;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * A minimal deterministic finite automaton matching a {@link RegularExpression}. Unlike {@link java.util.regex.Pattern}
+ * this class does not backtrack: {@link #matches(CharSequence)} runs in time linear to the length of its input and
+ * does not allocate, regardless of the expression being matched.
+ *
+ * <p>Matching follows XML Schema semantics, i.e. the expression is implicitly anchored at both ends of the input and
+ * character classes have their XML Schema meaning, for example {@code \d} matches any Unicode decimal digit.
+ *
+ * <p>Instances are immutable and thread-safe.
+ */
+@Beta
+@NonNullByDefault
+public final class RegularExpressionAutomaton {
+    private static final int ASCII_LIMIT = 128;
+
+    // Initial state, -1 if this automaton does not match anything
+    private final int initial;
+    private final boolean[] accepting;
+    // state * classCount + class -> next state, -1 indicating no match is possible
+    private final int[] transitions;
+    private final int classCount;
+    // Code point to class mapping: rangeStarts is sorted and rangeStarts[0] == 0
+    private final int[] rangeStarts;
+    private final int[] rangeClasses;
+    private final int[] asciiClasses = new int[ASCII_LIMIT];
+
+    RegularExpressionAutomaton(final int initial, final boolean[] accepting, final int[] transitions,
+            final int classCount, final int[] rangeStarts, final int[] rangeClasses) {
+        this.initial = initial;
+        this.accepting = accepting;
+        this.transitions = transitions;
+        this.classCount = classCount;
+        this.rangeStarts = rangeStarts;
+        this.rangeClasses = rangeClasses;
+        for (int ch = 0; ch < ASCII_LIMIT; ++ch) {
+            asciiClasses[ch] = lookupClass(ch);
+        }
+    }
+
+    /**
+     * Compile a {@link RegularExpression} into an automaton.
+     *
+     * @param regex regular expression
+     * @return an automaton
+     * @throws IllegalArgumentException if the expression cannot be compiled, for example because it references an
+     *                                  unknown Unicode block or the resulting automaton would be too large
+     * @throws NullPointerException if {@code regex} is null
+     */
+    public static RegularExpressionAutomaton compile(final RegularExpression regex) {
+        return RegularExpressionCompiler.compile(regex);
+    }
+
+    /**
+     * Parse and compile an XSD regular expression into an automaton.
+     *
+     * @param regex regular expression string
+     * @return an automaton
+     * @throws RegularExpressionException if the expression is not valid
+     * @throws IllegalArgumentException if the expression cannot be compiled, for example because it references an
+     *                                  unknown Unicode block or the resulting automaton would be too large
+     * @throws NullPointerException if {@code regex} is null
+     */
+    public static RegularExpressionAutomaton compile(final String regex) throws RegularExpressionException {
+        return compile(RegularExpressionParser.parse(regex));
+    }
+
+    /**
+     * Check whether the entire input matches this automaton.
+     *
+     * @param str input
+     * @return {@code true} if the input matches
+     * @throws NullPointerException if {@code str} is null
+     */
+    public boolean matches(final CharSequence str) {
+        final int length = str.length();
+        int state = initial;
+        int offset = 0;
+        while (state != -1 && offset < length) {
+            final char ch = str.charAt(offset++);
+            final int cls;
+            if (ch < ASCII_LIMIT) {
+                cls = asciiClasses[ch];
+            } else if (Character.isHighSurrogate(ch) && offset < length
+                    && Character.isLowSurrogate(str.charAt(offset))) {
+                cls = lookupClass(Character.toCodePoint(ch, str.charAt(offset++)));
+            } else {
+                cls = lookupClass(ch);
+            }
+            state = transitions[state * classCount + cls];
+        }
+        return state != -1 && accepting[state];
+    }
+
+    /**
+     * Return the number of states of this automaton.
+     *
+     * @return the number of states
+     */
+    public int stateCount() {
+        return accepting.length;
+    }
+
+    /**
+     * Return the number of classes of code points this automaton distinguishes.
+     *
+     * @return the number of code point classes
+     */
+    public int classCount() {
+        return classCount;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+            .add("states", stateCount())
+            .add("classes", classCount)
+            .add("ranges", rangeStarts.length)
+            .toString();
+    }
+
+    private int lookupClass(final int codePoint) {
+        // Find the last range starting at or before codePoint
+        int lo = 0;
+        int hi = rangeStarts.length - 1;
+        while (lo < hi) {
+            final int mid = lo + hi + 1 >>> 1;
+            if (rangeStarts[mid] <= codePoint) {
+                lo = mid;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        return rangeClasses[lo];
+    }
+}
@@ -0,0 +1,626 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.regex;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Compiler of {@link RegularExpression}s into {@link RegularExpressionAutomaton}s. XSD regular expressions do not have
+ * back-references, anchors nor lookaround, hence they are truly regular and can be matched by a deterministic finite
+ * automaton. Compilation proceeds in the textbook way:
+ * <ol>
+ *   <li>a Thompson NFA is built from the AST, with transitions labeled by {@link CodePointSet}s</li>
+ *   <li>the Unicode code space is partitioned into classes of code points which no transition distinguishes</li>
+ *   <li>a DFA is constructed by subset construction over these classes</li>
+ *   <li>the DFA is trimmed of states which cannot reach an accepting state and minimized by partition refinement</li>
+ *   <li>classes which the minimized DFA does not distinguish are merged</li>
+ * </ol>
+ */
+@NonNullByDefault
+final class RegularExpressionCompiler {
+    private record Fragment(int start, int end) {
+        // Nothing else
+    }
+
+    // Wrapper for using int[] as a HashMap key
+    private record Signature(int[] values) {
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(values);
+        }
+
+        @Override
+        public boolean equals(final @Nullable Object obj) {
+            return obj instanceof Signature other && Arrays.equals(values, other.values);
+        }
+    }
+
+    static final int MAX_NFA_STATES = 65_536;
+    static final int MAX_DFA_STATES = 4_096;
+
+    // Caches of (expensive to compute) CharacterProperty sets
+    private static final ConcurrentHashMap<CharacterProperty, CodePointSet> PROPERTY_SETS = new ConcurrentHashMap<>();
+
+    // XSD: [^\n\r]
+    private static final CodePointSet DOT = CodePointSet.ofRanges('\n', '\n', '\r', '\r').complement();
+    // XSD: [#x20\t\n\r]
+    private static final CodePointSet SPACE = CodePointSet.ofRanges('\t', '\n', '\r', '\r', ' ', ' ');
+    // XML: NameStartChar, https://www.w3.org/TR/xml/#NT-NameStartChar
+    private static final CodePointSet NAME_START_CHAR = CodePointSet.ofRanges(
+        ':', ':', 'A', 'Z', '_', '_', 'a', 'z', 0xC0, 0xD6, 0xD8, 0xF6, 0xF8, 0x2FF, 0x370, 0x37D, 0x37F, 0x1FFF,
+        0x200C, 0x200D, 0x2070, 0x218F, 0x2C00, 0x2FEF, 0x3001, 0xD7FF, 0xF900, 0xFDCF, 0xFDF0, 0xFFFD,
+        0x10000, 0xEFFFF);
+    // XML: NameChar, https://www.w3.org/TR/xml/#NT-NameChar
+    private static final CodePointSet NAME_CHAR = NAME_START_CHAR.union(CodePointSet.ofRanges(
+        '-', '.', '0', '9', 0xB7, 0xB7, 0x300, 0x36F, 0x203F, 0x2040));
+
+    // NFA: a state either has a labeled transition, or epsilon transitions, or nothing at all
+    private final ArrayList<@Nullable CodePointSet> labels = new ArrayList<>();
+    private final ArrayList<Integer> labelTargets = new ArrayList<>();
+    private final ArrayList<int[]> epsilons = new ArrayList<>();
+
+    private RegularExpressionCompiler() {
+        // Hidden on purpose
+    }
+
+    static RegularExpressionAutomaton compile(final RegularExpression regex) {
+        final var compiler = new RegularExpressionCompiler();
+        final var nfa = compiler.regex(regex);
+        return compiler.toAutomaton(nfa);
+    }
+
+    //
+    // AST to NFA
+    //
+
+    private Fragment regex(final RegularExpression regex) {
+        final var branches = regex.branches();
+        if (branches.size() == 1) {
+            return branch(branches.getFirst());
+        }
+
+        final int start = newState();
+        final int end = newState();
+        for (var branch : branches) {
+            final var fragment = branch(branch);
+            epsilon(start, fragment.start);
+            epsilon(fragment.end, end);
+        }
+        return new Fragment(start, end);
+    }
+
+    private Fragment branch(final Branch branch) {
+        final var pieces = branch.pieces();
+        if (pieces.isEmpty()) {
+            final int state = newState();
+            return new Fragment(state, state);
+        }
+
+        var ret = piece(pieces.getFirst());
+        for (var piece : pieces.subList(1, pieces.size())) {
+            ret = concat(ret, piece(piece));
+        }
+        return ret;
+    }
+
+    private Fragment piece(final Piece piece) {
+        final var atom = piece.atom();
+        final var quantifier = piece.quantifier();
+        return switch (quantifier) {
+            case null -> atom(atom);
+            case Question question -> optional(atom);
+            case Star star -> star(atom);
+            case Plus plus -> {
+                final var ret = atom(atom);
+                epsilon(ret.end, ret.start);
+                yield ret;
+            }
+            case QuantExact(var value) -> {
+                final int count = Integer.parseInt(value);
+                yield repeat(atom, count, count);
+            }
+            case QuantMin(var value) -> repeat(atom, Integer.parseInt(value), -1);
+            case QuantRange(var min, var max) -> {
+                final int minCount = Integer.parseInt(min);
+                final int maxCount = Integer.parseInt(max);
+                if (maxCount < minCount) {
+                    throw new IllegalArgumentException("Invalid quantifier " + quantifier.toPatternFragment());
+                }
+                yield repeat(atom, minCount, maxCount);
+            }
+        };
+    }
+
+    private Fragment repeat(final Atom atom, final int min, final int max) {
+        final int state = newState();
+        var ret = new Fragment(state, state);
+        for (int i = 0; i < min; ++i) {
+            ret = concat(ret, atom(atom));
+        }
+        if (max == -1) {
+            return concat(ret, star(atom));
+        }
+        for (int i = min; i < max; ++i) {
+            ret = concat(ret, optional(atom));
+        }
+        return ret;
+    }
+
+    private Fragment optional(final Atom atom) {
+        return skippable(atom(atom));
+    }
+
+    private Fragment star(final Atom atom) {
+        final var fragment = atom(atom);
+        epsilon(fragment.end, fragment.start);
+        return skippable(fragment);
+    }
+
+    private Fragment skippable(final Fragment fragment) {
+        final int start = newState();
+        final int end = newState();
+        epsilon(start, fragment.start);
+        epsilon(start, end);
+        epsilon(fragment.end, end);
+        return new Fragment(start, end);
+    }
+
+    private Fragment atom(final Atom atom) {
+        return switch (atom) {
+            case NormalCharacter(var str) -> {
+                @Nullable Fragment ret = null;
+                for (int i = 0; i < str.length(); ) {
+                    final int cp = str.codePointAt(i);
+                    final var fragment = chars(CodePointSet.of(cp));
+                    ret = ret == null ? fragment : concat(ret, fragment);
+                    i += Character.charCount(cp);
+                }
+                if (ret == null) {
+                    final int state = newState();
+                    ret = new Fragment(state, state);
+                }
+                yield ret;
+            }
+            case CharacterClass charClass -> chars(charClass(charClass));
+            case ParenRegularExpression(var regex) -> regex(regex);
+        };
+    }
+
+    private Fragment chars(final CodePointSet set) {
+        final int start = newState();
+        final int end = newState();
+        labels.set(start, set);
+        labelTargets.set(start, end);
+        return new Fragment(start, end);
+    }
+
+    private Fragment concat(final Fragment first, final Fragment second) {
+        epsilon(first.end, second.start);
+        return new Fragment(first.start, second.end);
+    }
+
+    private int newState() {
+        final int ret = labels.size();
+        if (ret == MAX_NFA_STATES) {
+            throw new IllegalArgumentException("Regular expression requires more than " + MAX_NFA_STATES
+                + " NFA states");
+        }
+        labels.add(null);
+        labelTargets.add(-1);
+        epsilons.add(new int[0]);
+        return ret;
+    }
+
+    private void epsilon(final int from, final int to) {
+        final var prev = epsilons.get(from);
+        final var next = Arrays.copyOf(prev, prev.length + 1);
+        next[prev.length] = to;
+        epsilons.set(from, next);
+    }
+
+    //
+    // Character classes
+    //
+
+    private static CodePointSet charClass(final CharacterClass charClass) {
+        return switch (charClass) {
+            case CategoryEscape(var charProp) -> property(charProp);
+            case ComplementEscape(var charProp) -> property(charProp).complement();
+            case PositiveCharacterClassExpression(var charGroup) -> charGroup(charGroup);
+            case NegativeCharacterClassExpression(var charGroup) -> charGroup(charGroup).complement();
+            case Dot dot -> DOT;
+            case MultiCharacterEscape escape -> switch (escape) {
+                case SPACE -> SPACE;
+                case NOT_SPACE -> SPACE.complement();
+                case IDENT -> NAME_START_CHAR;
+                case NOT_IDENT -> NAME_START_CHAR.complement();
+                case CHAR -> NAME_CHAR;
+                case NOT_CHAR -> NAME_CHAR.complement();
+                case DIGIT -> property(CharacterProperty.IsCategory.NUMBERS_D);
+                case NOT_DIGIT -> property(CharacterProperty.IsCategory.NUMBERS_D).complement();
+                case WORD -> word();
+                case NOT_WORD -> word().complement();
+            };
+            case SingleCharacterEscape escape -> CodePointSet.of(escape.codePoint());
+        };
+    }
+
+    private static CodePointSet charGroup(final CharacterGroup charGroup) {
+        return switch (charGroup) {
+            case CharacterClass charClass -> charClass(charClass);
+            case DifferenceCharacterGroup(var left, var right) -> charGroup(left).minus(charClass(right));
+            case RangeCharacterGroup(var start, var end) -> CodePointSet.ofRange(rangeChar(start), rangeChar(end));
+            case SimpleCharacterGroup(var str) -> CodePointSet.ofCodePoints(str);
+            case UnionCharacterGroup(var components) -> {
+                var ret = CodePointSet.EMPTY;
+                for (var component : components) {
+                    ret = ret.union(charGroup(component));
+                }
+                yield ret;
+            }
+        };
+    }
+
+    private static int rangeChar(final String str) {
+        return str.startsWith("\\") ? SingleCharacterEscape.ofLiteral(str).codePoint() : str.codePointAt(0);
+    }
+
+    // XSD: [#x0000-#x10FFFF]-[\p{P}\p{Z}\p{C}]
+    private static CodePointSet word() {
+        return property(CharacterProperty.IsCategory.PUNCTUATION)
+            .union(property(CharacterProperty.IsCategory.SEPARATORS))
+            .union(property(CharacterProperty.IsCategory.OTHERS))
+            .complement();
+    }
+
+    private static CodePointSet property(final CharacterProperty property) {
+        return PROPERTY_SETS.computeIfAbsent(property, RegularExpressionCompiler::computeProperty);
+    }
+
+    private static CodePointSet computeProperty(final CharacterProperty property) {
+        return switch (property) {
+            case CharacterProperty.IsBlock(var name) -> {
+                final var block = Character.UnicodeBlock.forName(name);
+                yield CodePointSet.ofPredicate(cp -> Character.UnicodeBlock.of(cp) == block);
+            }
+            case CharacterProperty.IsCategory category -> {
+                final int mask = categoryMask(category);
+                yield CodePointSet.ofPredicate(cp -> (mask & 1 << Character.getType(cp)) != 0);
+            }
+        };
+    }
+
+    private static int categoryMask(final CharacterProperty.IsCategory category) {
+        return switch (category) {
+            case LETTERS -> mask(Character.UPPERCASE_LETTER, Character.LOWERCASE_LETTER, Character.TITLECASE_LETTER,
+                Character.MODIFIER_LETTER, Character.OTHER_LETTER);
+            case LETTERS_U -> mask(Character.UPPERCASE_LETTER);
+            case LETTERS_L -> mask(Character.LOWERCASE_LETTER);
+            case LETTERS_T -> mask(Character.TITLECASE_LETTER);
+            case LETTERS_M -> mask(Character.MODIFIER_LETTER);
+            case LETTERS_O -> mask(Character.OTHER_LETTER);
+            case MARKS -> mask(Character.NON_SPACING_MARK, Character.COMBINING_SPACING_MARK,
+                Character.ENCLOSING_MARK);
+            case MARKS_N -> mask(Character.NON_SPACING_MARK);
+            case MARKS_C -> mask(Character.COMBINING_SPACING_MARK);
+            case MARKS_E -> mask(Character.ENCLOSING_MARK);
+            case NUMBERS -> mask(Character.DECIMAL_DIGIT_NUMBER, Character.LETTER_NUMBER, Character.OTHER_NUMBER);
+            case NUMBERS_D -> mask(Character.DECIMAL_DIGIT_NUMBER);
+            case NUMBERS_L -> mask(Character.LETTER_NUMBER);
+            case NUMBERS_O -> mask(Character.OTHER_NUMBER);
+            case PUNCTUATION -> mask(Character.CONNECTOR_PUNCTUATION, Character.DASH_PUNCTUATION,
+                Character.START_PUNCTUATION, Character.END_PUNCTUATION, Character.INITIAL_QUOTE_PUNCTUATION,
+                Character.FINAL_QUOTE_PUNCTUATION, Character.OTHER_PUNCTUATION);
+            case PUNCTUATION_C -> mask(Character.CONNECTOR_PUNCTUATION);
+            case PUNCTUATION_D -> mask(Character.DASH_PUNCTUATION);
+            case PUNCTUATION_S -> mask(Character.START_PUNCTUATION);
+            case PUNCTUATION_E -> mask(Character.END_PUNCTUATION);
+            case PUNCTUATION_I -> mask(Character.INITIAL_QUOTE_PUNCTUATION);
+            case PUNCTUATION_F -> mask(Character.FINAL_QUOTE_PUNCTUATION);
+            case PUNCTUATION_O -> mask(Character.OTHER_PUNCTUATION);
+            case SEPARATORS -> mask(Character.SPACE_SEPARATOR, Character.LINE_SEPARATOR,
+                Character.PARAGRAPH_SEPARATOR);
+            case SEPARATORS_S -> mask(Character.SPACE_SEPARATOR);
+            case SEPARATORS_L -> mask(Character.LINE_SEPARATOR);
+            case SEPARATORS_P -> mask(Character.PARAGRAPH_SEPARATOR);
+            case SYMBOLS -> mask(Character.MATH_SYMBOL, Character.CURRENCY_SYMBOL, Character.MODIFIER_SYMBOL,
+                Character.OTHER_SYMBOL);
+            case SYMBOLS_M -> mask(Character.MATH_SYMBOL);
+            case SYMBOLS_C -> mask(Character.CURRENCY_SYMBOL);
+            case SYMBOLS_K -> mask(Character.MODIFIER_SYMBOL);
+            case SYMBOLS_O -> mask(Character.OTHER_SYMBOL);
+            // Note: java.util.regex includes surrogates (Cs), so do we
+            case OTHERS -> mask(Character.CONTROL, Character.FORMAT, Character.PRIVATE_USE, Character.UNASSIGNED,
+                Character.SURROGATE);
+            case OTHERS_C -> mask(Character.CONTROL);
+            case OTHERS_F -> mask(Character.FORMAT);
+            case OTHERS_O -> mask(Character.PRIVATE_USE);
+            case OTHERS_N -> mask(Character.UNASSIGNED);
+        };
+    }
+
+    private static int mask(final byte... types) {
+        int ret = 0;
+        for (var type : types) {
+            ret |= 1 << type;
+        }
+        return ret;
+    }
+
+    //
+    // NFA to DFA
+    //
+
+    private RegularExpressionAutomaton toAutomaton(final Fragment nfa) {
+        // Partition the code space into intervals no label splits, then group intervals with the same membership
+        final var boundarySet = new TreeSet<Integer>();
+        boundarySet.add(0);
+        final var labeled = new ArrayList<Integer>();
+        for (int state = 0; state < labels.size(); ++state) {
+            final var label = labels.get(state);
+            if (label != null) {
+                labeled.add(state);
+                for (int i = 0; i < label.rangeCount(); ++i) {
+                    boundarySet.add(label.rangeStart(i));
+                    final int next = label.rangeEnd(i) + 1;
+                    if (next <= Character.MAX_CODE_POINT) {
+                        boundarySet.add(next);
+                    }
+                }
+            }
+        }
+        final int[] boundaries = boundarySet.stream().mapToInt(Integer::intValue).toArray();
+
+        final var intervalSignatures = new BitSet[boundaries.length];
+        Arrays.setAll(intervalSignatures, i -> new BitSet());
+        for (int i = 0; i < labeled.size(); ++i) {
+            final var label = labels.get(labeled.get(i));
+            for (int r = 0; r < label.rangeCount(); ++r) {
+                final int first = Arrays.binarySearch(boundaries, label.rangeStart(r));
+                for (int interval = first; interval < boundaries.length
+                        && boundaries[interval] <= label.rangeEnd(r); ++interval) {
+                    intervalSignatures[interval].set(i);
+                }
+            }
+        }
+
+        final var classIds = new HashMap<BitSet, Integer>();
+        final int[] intervalClasses = new int[boundaries.length];
+        final var classSignatures = new ArrayList<BitSet>();
+        for (int interval = 0; interval < boundaries.length; ++interval) {
+            final var signature = intervalSignatures[interval];
+            intervalClasses[interval] = classIds.computeIfAbsent(signature, key -> {
+                classSignatures.add(key);
+                return classSignatures.size() - 1;
+            });
+        }
+        final int classCount = classSignatures.size();
+
+        // Classes on which each labeled NFA state has a transition
+        final var stateClasses = new BitSet[labels.size()];
+        for (int cls = 0; cls < classCount; ++cls) {
+            final var signature = classSignatures.get(cls);
+            for (int i = signature.nextSetBit(0); i >= 0; i = signature.nextSetBit(i + 1)) {
+                final int nfaState = labeled.get(i);
+                var classes = stateClasses[nfaState];
+                if (classes == null) {
+                    stateClasses[nfaState] = classes = new BitSet(classCount);
+                }
+                classes.set(cls);
+            }
+        }
+
+        // Subset construction
+        final var dfaStates = new HashMap<BitSet, Integer>();
+        final var dfaSets = new ArrayList<BitSet>();
+        final var worklist = new ArrayDeque<Integer>();
+        final var initialSet = new BitSet();
+        initialSet.set(nfa.start);
+        closure(initialSet);
+        dfaStates.put(initialSet, 0);
+        dfaSets.add(initialSet);
+        worklist.add(0);
+
+        var transitions = new int[classCount * 16];
+        while (!worklist.isEmpty()) {
+            final int dfaState = worklist.poll();
+            final var set = dfaSets.get(dfaState);
+            if (transitions.length < (dfaState + 1) * classCount) {
+                transitions = Arrays.copyOf(transitions, transitions.length * 2);
+            }
+
+            final var targets = new BitSet[classCount];
+            for (int nfaState = set.nextSetBit(0); nfaState >= 0; nfaState = set.nextSetBit(nfaState + 1)) {
+                final var classes = stateClasses[nfaState];
+                if (classes != null) {
+                    final int nfaTarget = labelTargets.get(nfaState);
+                    for (int cls = classes.nextSetBit(0); cls >= 0; cls = classes.nextSetBit(cls + 1)) {
+                        var target = targets[cls];
+                        if (target == null) {
+                            targets[cls] = target = new BitSet();
+                        }
+                        target.set(nfaTarget);
+                    }
+                }
+            }
+
+            for (int cls = 0; cls < classCount; ++cls) {
+                final var target = targets[cls];
+                if (target == null) {
+                    transitions[dfaState * classCount + cls] = -1;
+                    continue;
+                }
+
+                closure(target);
+                var targetState = dfaStates.get(target);
+                if (targetState == null) {
+                    targetState = dfaSets.size();
+                    if (targetState == MAX_DFA_STATES) {
+                        throw new IllegalArgumentException("Regular expression requires more than " + MAX_DFA_STATES
+                            + " DFA states");
+                    }
+                    dfaStates.put(target, targetState);
+                    dfaSets.add(target);
+                    worklist.add(targetState);
+                }
+                transitions[dfaState * classCount + cls] = targetState;
+            }
+        }
+
+        final int stateCount = dfaSets.size();
+        final var accepting = new boolean[stateCount];
+        for (int state = 0; state < stateCount; ++state) {
+            accepting[state] = dfaSets.get(state).get(nfa.end);
+        }
+
+        trim(transitions, accepting, stateCount, classCount);
+        return minimize(transitions, accepting, stateCount, classCount, boundaries, intervalClasses);
+    }
+
+    private void closure(final BitSet set) {
+        final var stack = new ArrayDeque<Integer>();
+        set.stream().forEach(stack::push);
+        while (!stack.isEmpty()) {
+            for (int target : epsilons.get(stack.pop())) {
+                if (!set.get(target)) {
+                    set.set(target);
+                    stack.push(target);
+                }
+            }
+        }
+    }
+
+    // Redirect transitions to states which cannot reach an accepting state to -1, so we fail as early as possible
+    private static void trim(final int[] transitions, final boolean[] accepting, final int stateCount,
+            final int classCount) {
+        final var live = new BitSet(stateCount);
+        for (int state = 0; state < stateCount; ++state) {
+            if (accepting[state]) {
+                live.set(state);
+            }
+        }
+
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int state = live.nextClearBit(0); state < stateCount; state = live.nextClearBit(state + 1)) {
+                for (int cls = 0; cls < classCount; ++cls) {
+                    final int target = transitions[state * classCount + cls];
+                    if (target != -1 && live.get(target)) {
+                        live.set(state);
+                        changed = true;
+                        break;
+                    }
+                }
+            }
+        }
+
+        for (int i = 0; i < stateCount * classCount; ++i) {
+            final int target = transitions[i];
+            if (target != -1 && !live.get(target)) {
+                transitions[i] = -1;
+            }
+        }
+    }
+
+    private static RegularExpressionAutomaton minimize(final int[] transitions, final boolean[] accepting,
+            final int stateCount, final int classCount, final int[] boundaries, final int[] intervalClasses) {
+        // Moore's partition refinement
+        var blocks = new int[stateCount];
+        int blockCount = 0;
+        for (int state = 0; state < stateCount; ++state) {
+            blocks[state] = accepting[state] ? 1 : 0;
+        }
+        while (true) {
+            final var signatures = new HashMap<Signature, Integer>();
+            final var newBlocks = new int[stateCount];
+            for (int state = 0; state < stateCount; ++state) {
+                final var signature = new int[classCount + 1];
+                signature[0] = blocks[state];
+                for (int cls = 0; cls < classCount; ++cls) {
+                    final int target = transitions[state * classCount + cls];
+                    signature[cls + 1] = target == -1 ? -1 : blocks[target];
+                }
+                newBlocks[state] = signatures.computeIfAbsent(new Signature(signature), key -> signatures.size());
+            }
+            blocks = newBlocks;
+            if (signatures.size() == blockCount) {
+                break;
+            }
+            blockCount = signatures.size();
+        }
+
+        // Minimized transitions, in terms of original classes
+        final var minimized = new int[blockCount * classCount];
+        final var minAccepting = new boolean[blockCount];
+        for (int state = 0; state < stateCount; ++state) {
+            final int block = blocks[state];
+            minAccepting[block] = accepting[state];
+            for (int cls = 0; cls < classCount; ++cls) {
+                final int target = transitions[state * classCount + cls];
+                minimized[block * classCount + cls] = target == -1 ? -1 : blocks[target];
+            }
+        }
+
+        // Merge classes which are not distinguished by any state
+        final var columnIds = new HashMap<Signature, Integer>();
+        final var classMap = new int[classCount];
+        for (int cls = 0; cls < classCount; ++cls) {
+            final var column = new int[blockCount];
+            for (int block = 0; block < blockCount; ++block) {
+                column[block] = minimized[block * classCount + cls];
+            }
+            classMap[cls] = columnIds.computeIfAbsent(new Signature(column), key -> columnIds.size());
+        }
+        final int mergedCount = columnIds.size();
+        final var merged = new int[blockCount * mergedCount];
+        for (int block = 0; block < blockCount; ++block) {
+            for (int cls = 0; cls < classCount; ++cls) {
+                merged[block * mergedCount + classMap[cls]] = minimized[block * classCount + cls];
+            }
+        }
+
+        // Collapse adjacent intervals mapping to the same class
+        final var rangeStarts = new int[boundaries.length];
+        final var rangeClasses = new int[boundaries.length];
+        int rangeCount = 0;
+        for (int interval = 0; interval < boundaries.length; ++interval) {
+            final int cls = classMap[intervalClasses[interval]];
+            if (rangeCount == 0 || rangeClasses[rangeCount - 1] != cls) {
+                rangeStarts[rangeCount] = boundaries[interval];
+                rangeClasses[rangeCount] = cls;
+                rangeCount++;
+            }
+        }
+
+        // The initial DFA state is 0, and it is live if the language is not empty
+        final int initial = isDead(transitions, accepting, classCount) ? -1 : blocks[0];
+        return new RegularExpressionAutomaton(initial, minAccepting, merged, mergedCount,
+            Arrays.copyOf(rangeStarts, rangeCount), Arrays.copyOf(rangeClasses, rangeCount));
+    }
+
+    private static boolean isDead(final int[] transitions, final boolean[] accepting, final int classCount) {
+        if (accepting[0]) {
+            return false;
+        }
+        for (int cls = 0; cls < classCount; ++cls) {
+            if (transitions[cls] != -1) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -58,6 +58,20 @@ public enum SingleCharacterEscape implements CharacterClass {
         };
     }
 
+    /**
+     * Return the code point this escape matches.
+     *
+     * @return the code point this escape matches
+     */
+    public int codePoint() {
+        return switch (this) {
+            case NEWLINE -> '\n';
+            case RETURN -> '\r';
+            case TAB -> '\t';
+            default -> ch;
+        };
+    }
+
     public String toLiteral() {
         return "\\" + ch;
     }
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.regex;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class RegularExpressionAutomatonTest {
+    private static final List<String> INPUTS = allStrings("ab1-.", 5);
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "", "a", "ab", "a|b", "|a", "a*", "a+", "a?", "(ab)+1?", "(a|b)*a(a|b){2}", "a{2}", "a{2,}", "a{1,3}b",
+        "[ab]+", "[^a]*", "[a-b1]{2,3}", "[\\-.]*", "[a-z-[b]]+", "\\d+\\.\\d*", "\\D*", "\\w+", "\\W?", "\\s*",
+        "\\i\\c*", ".*", "\\p{L}+\\P{L}", "\\p{IsBasicLatin}*", "(a(b|1)?)*-",
+    })
+    void testAgreesWithJava(final String regex) throws RegularExpressionException {
+        final var automaton = RegularExpressionAutomaton.compile(regex);
+        final var pattern = Pattern.compile(RegularExpressionParser.parse(regex).toPatternFragment());
+
+        for (var input : INPUTS) {
+            assertEquals(pattern.matcher(input).matches(), automaton.matches(input),
+                () -> "Mismatch on '" + input + "'");
+        }
+    }
+
+    @Test
+    void testMinimized() throws RegularExpressionException {
+        // The minimal DFA needs to remember the last three characters
+        final var automaton = RegularExpressionAutomaton.compile("(a|b)*a(a|b){2}");
+        assertEquals(8, automaton.stateCount());
+        assertEquals(3, automaton.classCount());
+    }
+
+    @Test
+    void testSupplementaryCharacters() throws RegularExpressionException {
+        final var automaton = RegularExpressionAutomaton.compile(".{2}");
+        assertTrue(automaton.matches("a😀"));
+        assertFalse(automaton.matches("😀"));
+        assertFalse(automaton.matches("a\n"));
+    }
+
+    @Test
+    void testEmptyLanguage() throws RegularExpressionException {
+        final var automaton = RegularExpressionAutomaton.compile("[a-[a]]");
+        assertFalse(automaton.matches(""));
+        assertFalse(automaton.matches("a"));
+    }
+
+    @Test
+    void testNoBacktracking() throws RegularExpressionException {
+        // java.util.regex takes exponential time on this one
+        final var automaton = RegularExpressionAutomaton.compile("(a|a)*b");
+        final var input = "a".repeat(100_000);
+        assertFalse(assertTimeoutPreemptively(Duration.ofSeconds(5), () -> automaton.matches(input)));
+    }
+
+    @Test
+    void testTooManyStates() {
+        final var ex = assertThrows(IllegalArgumentException.class,
+            () -> RegularExpressionAutomaton.compile("(a|b)*a(a|b){15}"));
+        assertEquals("Regular expression requires more than 4096 DFA states", ex.getMessage());
+    }
+
+    @Test
+    void testInvalidQuantifier() {
+        final var regex = new RegularExpression(new Branch(
+            new Piece(new NormalCharacter("a"), new QuantRange("3", "2"))));
+        assertThrows(IllegalArgumentException.class, () -> RegularExpressionAutomaton.compile(regex));
+    }
+
+    private static List<String> allStrings(final String alphabet, final int maxLength) {
+        final var ret = new ArrayList<String>();
+        ret.add("");
+        var prev = List.of("");
+        for (int i = 0; i < maxLength; ++i) {
+            final var next = new ArrayList<String>();
+            for (var str : prev) {
+                for (var ch : alphabet.toCharArray()) {
+                    next.add(str + ch);
+                }
+            }
+            ret.addAll(next);
+            prev = next;
+        }
+        return ret;
+    }
+}
@@ -8,12 +8,18 @@
 module org.opendaylight.yangtools.yang.model.repo.fs {
     exports org.opendaylight.yangtools.yang.model.repo.fs;
 
+    uses org.opendaylight.yangtools.yang.xpath.api.YangXPathParserFactory;
+
     requires transitive com.google.common;
+    requires transitive org.opendaylight.yangtools.yang.parser.api;
     requires transitive org.opendaylight.yangtools.yang.repo.api;
     requires transitive org.opendaylight.yangtools.yang.repo.spi;
     requires org.opendaylight.yangtools.util;
     requires org.opendaylight.yangtools.yang.common;
+    requires org.opendaylight.yangtools.yang.ir;
+    requires org.opendaylight.yangtools.yang.model.ri;
     requires org.opendaylight.yangtools.yang.model.spi;
+    requires org.opendaylight.yangtools.yang.xpath.api;
     requires org.slf4j;
 
     // Annotations
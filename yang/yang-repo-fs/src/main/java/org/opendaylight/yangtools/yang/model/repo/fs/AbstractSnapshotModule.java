@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.model.repo.fs;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.collect.Collections2;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map.Entry;
+import java.util.Optional;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.QNameModule;
+import org.opendaylight.yangtools.yang.common.UnresolvedQName.Unqualified;
+import org.opendaylight.yangtools.yang.common.YangVersion;
+import org.opendaylight.yangtools.yang.model.api.AugmentationSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.Deviation;
+import org.opendaylight.yangtools.yang.model.api.ExtensionDefinition;
+import org.opendaylight.yangtools.yang.model.api.FeatureDefinition;
+import org.opendaylight.yangtools.yang.model.api.GroupingDefinition;
+import org.opendaylight.yangtools.yang.model.api.IdentitySchemaNode;
+import org.opendaylight.yangtools.yang.model.api.ModuleImport;
+import org.opendaylight.yangtools.yang.model.api.ModuleLike;
+import org.opendaylight.yangtools.yang.model.api.NotificationDefinition;
+import org.opendaylight.yangtools.yang.model.api.RpcDefinition;
+import org.opendaylight.yangtools.yang.model.api.TypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.UsesNode;
+import org.opendaylight.yangtools.yang.model.api.meta.DeclaredStatement;
+import org.opendaylight.yangtools.yang.model.api.meta.EffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.source.SourceIdentifier;
+import org.opendaylight.yangtools.yang.model.api.stmt.ContactEffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.DataTreeAwareEffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.ImportEffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.OrganizationEffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.PrefixEffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.TypedefEffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.YangVersionEffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.compat.NotificationNodeContainerCompat;
+import org.opendaylight.yangtools.yang.model.spi.meta.AbstractDeclaredEffectiveStatement.DefaultWithDataTree.WithTypedefNamespace;
+
+/**
+ * Common base for modules and submodules restored from a snapshot, mirroring what the parser creates.
+ *
+ * @param <D> declared statement type
+ * @param <E> effective statement type
+ */
+abstract class AbstractSnapshotModule<D extends DeclaredStatement<Unqualified>,
+        E extends DataTreeAwareEffectiveStatement<Unqualified, D>>
+        extends WithTypedefNamespace<Unqualified, D>
+        implements ModuleLike, NotificationNodeContainerCompat<Unqualified, D, E> {
+    private final @NonNull String prefix;
+    private final @NonNull QNameModule qnameModule;
+    private final ImmutableMap<QNameModule, String> namespaceToPrefix;
+    private final ImmutableSet<GroupingDefinition> groupings;
+    private final ImmutableSet<UsesNode> uses;
+    private final ImmutableSet<TypeDefinition<?>> typeDefinitions;
+
+    AbstractSnapshotModule(final D declared, final ImmutableList<? extends EffectiveStatement<?, ?>> substatements,
+            final String prefix, final QNameModule qnameModule, final boolean includeSelf) {
+        super(declared, substatements);
+        this.prefix = requireNonNull(prefix);
+        this.qnameModule = requireNonNull(qnameModule);
+
+        final var mutableGroupings = new LinkedHashSet<GroupingDefinition>();
+        final var mutableUses = new LinkedHashSet<UsesNode>();
+        final var mutableTypeDefinitions = new LinkedHashSet<TypeDefinition<?>>();
+        for (var stmt : substatements) {
+            if (stmt instanceof UsesNode usesNode) {
+                mutableUses.add(usesNode);
+            }
+            if (stmt instanceof TypedefEffectiveStatement typedef) {
+                mutableTypeDefinitions.add(typedef.typeDefinition());
+            }
+            if (stmt instanceof GroupingDefinition grouping) {
+                mutableGroupings.add(grouping);
+            }
+        }
+        groupings = ImmutableSet.copyOf(mutableGroupings);
+        typeDefinitions = ImmutableSet.copyOf(mutableTypeDefinitions);
+        uses = ImmutableSet.copyOf(mutableUses);
+
+        final var tmp = new LinkedHashMap<QNameModule, String>();
+        if (includeSelf) {
+            tmp.put(qnameModule, prefix);
+        }
+        streamEffectiveSubstatements(ImportEffectiveStatement.class).forEach(
+            imp -> tmp.putIfAbsent(imp.importedModule().localQNameModule(), imp.prefixArgument()));
+        namespaceToPrefix = ImmutableMap.copyOf(tmp);
+    }
+
+    @Override
+    public final Unqualified argument() {
+        return declared().argument();
+    }
+
+    @Override
+    public final QNameModule getQNameModule() {
+        return qnameModule;
+    }
+
+    @Override
+    public final @NonNull SourceIdentifier getSourceIdentifier() {
+        return new SourceIdentifier(argument(), qnameModule.revision());
+    }
+
+    @Override
+    public final String getName() {
+        return argument().getLocalName();
+    }
+
+    @Override
+    public final String getPrefix() {
+        return prefix;
+    }
+
+    @Override
+    public final YangVersion getYangVersion() {
+        return findFirstEffectiveSubstatementArgument(YangVersionEffectiveStatement.class)
+            .orElse(YangVersion.VERSION_1);
+    }
+
+    @Override
+    public final Optional<String> getOrganization() {
+        return findFirstEffectiveSubstatementArgument(OrganizationEffectiveStatement.class);
+    }
+
+    @Override
+    public final Optional<String> getContact() {
+        return findFirstEffectiveSubstatementArgument(ContactEffectiveStatement.class);
+    }
+
+    @Override
+    public final Collection<? extends @NonNull ModuleImport> getImports() {
+        return filterSubstatements(ModuleImport.class);
+    }
+
+    @Override
+    public final Collection<? extends @NonNull FeatureDefinition> getFeatures() {
+        return filterSubstatements(FeatureDefinition.class);
+    }
+
+    @Override
+    public final Collection<? extends @NonNull NotificationDefinition> getNotifications() {
+        return filterSubstatements(NotificationDefinition.class);
+    }
+
+    @Override
+    public final Collection<? extends @NonNull AugmentationSchemaNode> getAugmentations() {
+        return filterSubstatements(AugmentationSchemaNode.class);
+    }
+
+    @Override
+    public final Collection<? extends @NonNull RpcDefinition> getRpcs() {
+        return filterSubstatements(RpcDefinition.class);
+    }
+
+    @Override
+    public final Collection<? extends @NonNull Deviation> getDeviations() {
+        return filterSubstatements(Deviation.class);
+    }
+
+    @Override
+    public final Collection<? extends @NonNull ExtensionDefinition> getExtensionSchemaNodes() {
+        return filterSubstatements(ExtensionDefinition.class);
+    }
+
+    @Override
+    public final Collection<? extends @NonNull IdentitySchemaNode> getIdentities() {
+        return filterSubstatements(IdentitySchemaNode.class);
+    }
+
+    @Override
+    public final Collection<? extends TypeDefinition<?>> getTypeDefinitions() {
+        return typeDefinitions;
+    }
+
+    @Override
+    public final Collection<? extends DataSchemaNode> getChildNodes() {
+        return filterSubstatements(DataSchemaNode.class);
+    }
+
+    @Override
+    public final Collection<? extends GroupingDefinition> getGroupings() {
+        return groupings;
+    }
+
+    @Override
+    @SuppressWarnings("checkstyle:hiddenField")
+    public final DataSchemaNode dataChildByName(final QName name) {
+        return dataSchemaNode(name);
+    }
+
+    @Override
+    public final Collection<? extends UsesNode> getUses() {
+        return uses;
+    }
+
+    public final Collection<Entry<QNameModule, String>> namespacePrefixes() {
+        return namespaceToPrefix.entrySet();
+    }
+
+    public final Optional<String> findNamespacePrefix(final QNameModule namespace) {
+        return findValue(namespaceToPrefix, namespace);
+    }
+
+    static final @NonNull String findPrefix(final Collection<? extends EffectiveStatement<?, ?>> substatements) {
+        return substatements.stream()
+            .filter(PrefixEffectiveStatement.class::isInstance)
+            .map(prefix -> ((PrefixEffectiveStatement) prefix).argument())
+            .findAny()
+            .orElseThrow(() -> new IllegalStateException("Missing prefix in " + substatements));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> @NonNull Collection<? extends T> filterSubstatements(final Class<T> type) {
+        return (Collection<? extends T>) Collections2.filter(effectiveSubstatements(), type::isInstance);
+    }
+}
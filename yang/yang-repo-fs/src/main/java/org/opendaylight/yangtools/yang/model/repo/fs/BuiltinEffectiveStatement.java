@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.model.repo.fs;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.collect.ImmutableList;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.QNameModule;
+import org.opendaylight.yangtools.yang.model.api.TypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.meta.EffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.TypeEffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.TypeStatement;
+import org.opendaylight.yangtools.yang.model.ri.type.BaseTypes;
+
+/**
+ * Shared effective statements for built-in types, equivalent to what the parser uses for {@code type} statements
+ * without any substatements. The ordinal of each type is used as its tag in the snapshot file.
+ */
+enum BuiltinEffectiveStatement implements TypeEffectiveStatement {
+    BINARY(BaseTypes.binaryType()),
+    BOOLEAN(BaseTypes.booleanType()),
+    EMPTY(BaseTypes.emptyType()),
+    INSTANCE_IDENTIFIER(BaseTypes.instanceIdentifierType()),
+    INT8(BaseTypes.int8Type()),
+    INT16(BaseTypes.int16Type()),
+    INT32(BaseTypes.int32Type()),
+    INT64(BaseTypes.int64Type()),
+    STRING(BaseTypes.stringType()),
+    UINT8(BaseTypes.uint8Type()),
+    UINT16(BaseTypes.uint16Type()),
+    UINT32(BaseTypes.uint32Type()),
+    UINT64(BaseTypes.uint64Type());
+
+    private static final BuiltinEffectiveStatement[] VALUES = values();
+
+    private final @NonNull TypeDefinition<?> typedef;
+
+    BuiltinEffectiveStatement(final TypeDefinition<?> typedef) {
+        this.typedef = requireNonNull(typedef);
+    }
+
+    /**
+     * Return the built-in type whose {@link TypeDefinition} is the same object as specified definition.
+     *
+     * @param type type definition
+     * @return A {@link BuiltinEffectiveStatement}, or {@code null} if the definition is not a built-in type
+     */
+    static @Nullable BuiltinEffectiveStatement forTypeDefinition(final TypeDefinition<?> type) {
+        for (var builtin : VALUES) {
+            if (builtin.typedef == type) {
+                return builtin;
+            }
+        }
+        return null;
+    }
+
+    static @NonNull BuiltinEffectiveStatement forTag(final int tag) {
+        if (tag < 0 || tag >= VALUES.length) {
+            throw new IllegalArgumentException("Unknown built-in type " + tag);
+        }
+        return VALUES[tag];
+    }
+
+    @Override
+    public QNameModule currentModule() {
+        return argument().getModule();
+    }
+
+    @Override
+    public TypeDefinition<?> typeDefinition() {
+        return typedef;
+    }
+
+    @Override
+    public TypeStatement declared() {
+        return null;
+    }
+
+    @Override
+    public ImmutableList<? extends EffectiveStatement<?, ?>> effectiveSubstatements() {
+        return ImmutableList.of();
+    }
+
+    @Override
+    public QName argument() {
+        return typeDefinition().getQName();
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.model.repo.fs;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+import static org.opendaylight.yangtools.util.concurrent.FluentFutures.immediateFailedFluentFuture;
+import static org.opendaylight.yangtools.util.concurrent.FluentFutures.immediateFluentFuture;
+import static org.opendaylight.yangtools.yang.model.repo.fs.IRFiles.DIGEST_LENGTH;
+
+import com.google.common.util.concurrent.FluentFuture;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.regex.Pattern;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.yangtools.concepts.Registration;
+import org.opendaylight.yangtools.yang.common.Revision;
+import org.opendaylight.yangtools.yang.ir.IOSupport;
+import org.opendaylight.yangtools.yang.model.api.source.SourceIdentifier;
+import org.opendaylight.yangtools.yang.model.api.source.SourceSyntaxException;
+import org.opendaylight.yangtools.yang.model.api.source.YangTextSource;
+import org.opendaylight.yangtools.yang.model.repo.api.MissingSchemaSourceException;
+import org.opendaylight.yangtools.yang.model.repo.spi.AbstractSchemaSourceCache;
+import org.opendaylight.yangtools.yang.model.repo.spi.PotentialSchemaSource.Costs;
+import org.opendaylight.yangtools.yang.model.repo.spi.SchemaSourceProvider;
+import org.opendaylight.yangtools.yang.model.repo.spi.SchemaSourceRegistry;
+import org.opendaylight.yangtools.yang.model.spi.source.YangIRSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Cache implementation that stores {@link YangIRSource}s in their compact binary form, as produced by
+ * {@link IOSupport#writeStatement(java.io.DataOutput, org.opendaylight.yangtools.yang.ir.IRStatement)}, in files under
+ * provided folder.
+ *
+ * <p>Cached sources are registered with {@link Costs#LOCAL_IO}, which makes them preferable to transforming a
+ * {@code YangTextSource} available at the same cost. Restoring a source from this cache therefore skips tokenization
+ * and parsing of YANG text entirely.
+ *
+ * <p>Each file is keyed by the {@link SourceIdentifier} it was offered under and carries a SHA-256 hash of the
+ * {@link YangTextSource} it was produced from, as well as a SHA-256 hash of its IR content. The text is acquired from
+ * the {@link SchemaSourceProvider} supplied at construction time, both when a source is stored and when it is restored.
+ * A file whose text hash does not match the current text, whose content does not match its hash, or which cannot be
+ * decoded for any other reason, is evicted from the cache and reported as missing, so that the repository falls back
+ * to other providers. The text provider should therefore provide the original sources, not sources reconstructed from
+ * their IR.
+ */
+public final class FilesystemIRSourceCache extends AbstractSchemaSourceCache<YangIRSource> {
+    private static final Logger LOG = LoggerFactory.getLogger(FilesystemIRSourceCache.class);
+    private static final String EXTENSION = ".yangir";
+    private static final Pattern CACHED_FILE_PATTERN = Pattern.compile(
+        "(?<moduleName>[^@]+)(@(?<revision>" + Revision.STRING_FORMAT_PATTERN + "))?" + Pattern.quote(EXTENSION));
+
+    private static final int MAGIC = 0x59495243;
+    private static final byte VERSION = 2;
+    // magic + version + text digest + content digest + payload length
+    private static final int HEADER_LENGTH = Integer.BYTES + Byte.BYTES + DIGEST_LENGTH + DIGEST_LENGTH + Integer.BYTES;
+
+    private final HashMap<SourceIdentifier, Registration> registrations = new HashMap<>();
+    private final SchemaSourceProvider<YangTextSource> textProvider;
+    private final Path storageDirectory;
+
+    public FilesystemIRSourceCache(final SchemaSourceRegistry consumer,
+            final SchemaSourceProvider<YangTextSource> textProvider, final Path storageDirectory) {
+        super(consumer, YangIRSource.class, Costs.LOCAL_IO);
+        this.textProvider = requireNonNull(textProvider);
+        this.storageDirectory = requireNonNull(storageDirectory);
+
+        try {
+            Files.createDirectories(storageDirectory);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot establish storage at " + storageDirectory, e);
+        }
+        checkArgument(Files.isReadable(storageDirectory));
+        checkArgument(Files.isWritable(storageDirectory));
+        init();
+    }
+
+    /**
+     * Restore cache state.
+     */
+    private synchronized void init() {
+        try (var files = Files.list(storageDirectory)) {
+            files.filter(Files::isRegularFile).forEach(file -> {
+                final var matcher = CACHED_FILE_PATTERN.matcher(file.getFileName().toString());
+                if (!matcher.matches()) {
+                    LOG.debug("Skipping cached file {}, does not match {}", file, CACHED_FILE_PATTERN);
+                    return;
+                }
+
+                final var sourceId = new SourceIdentifier(matcher.group("moduleName"), matcher.group("revision"));
+                LOG.trace("Restoring cached file {} as {}", file, sourceId);
+                registrations.put(sourceId, register(sourceId));
+            });
+        } catch (IOException e) {
+            LOG.warn("Unable to restore cache from {}. Starting with an empty cache", storageDirectory, e);
+        }
+    }
+
+    @Override
+    public synchronized FluentFuture<? extends YangIRSource> getSource(final SourceIdentifier sourceIdentifier) {
+        final var file = sourceIdToFile(sourceIdentifier);
+        if (!Files.isReadable(file)) {
+            LOG.debug("Source {} not found in cache as {}", sourceIdentifier, file);
+            return immediateFailedFluentFuture(new MissingSchemaSourceException(sourceIdentifier,
+                "Source not found"));
+        }
+
+        return FluentFuture.from(textProvider.getSource(sourceIdentifier))
+            .transformAsync(text -> restoreSource(sourceIdentifier, file, text), MoreExecutors.directExecutor());
+    }
+
+    private synchronized FluentFuture<YangIRSource> restoreSource(final SourceIdentifier sourceId, final Path file,
+            final YangTextSource text) {
+        final byte[] textDigest;
+        try {
+            textDigest = IRFiles.digest(text);
+        } catch (IOException e) {
+            return immediateFailedFluentFuture(new MissingSchemaSourceException(sourceId,
+                "Cannot validate cached source", e));
+        }
+
+        final YangIRSource restored;
+        try {
+            restored = restore(sourceId, file, textDigest);
+        } catch (IOException | SourceSyntaxException e) {
+            LOG.warn("Evicting unusable cached source {} in {}", sourceId, file, e);
+            evict(sourceId, file);
+            return immediateFailedFluentFuture(new MissingSchemaSourceException(sourceId,
+                "Cached source is not usable", e));
+        }
+
+        LOG.trace("Source {} restored from cache {}", sourceId, file);
+        return immediateFluentFuture(restored);
+    }
+
+    @Override
+    protected synchronized void offer(final YangIRSource source) {
+        final var sourceId = source.sourceId();
+        LOG.trace("Source {} offered to cache", sourceId);
+        if (registrations.containsKey(sourceId)) {
+            LOG.debug("Source {} already in cache", sourceId);
+            return;
+        }
+
+        Futures.addCallback(textProvider.getSource(sourceId), new FutureCallback<YangTextSource>() {
+            @Override
+            public void onSuccess(final YangTextSource result) {
+                offer(source, result);
+            }
+
+            @Override
+            public void onFailure(final Throwable cause) {
+                LOG.debug("Not caching source {}, its text is not available", sourceId, cause);
+            }
+        }, MoreExecutors.directExecutor());
+    }
+
+    private synchronized void offer(final YangIRSource source, final YangTextSource text) {
+        final var sourceId = source.sourceId();
+        if (registrations.containsKey(sourceId)) {
+            LOG.debug("Source {} already in cache", sourceId);
+            return;
+        }
+
+        final var file = sourceIdToFile(sourceId);
+        try {
+            store(source, IRFiles.digest(text), file);
+        } catch (IOException e) {
+            LOG.warn("Failed to store source {} in {}", sourceId, file, e);
+            return;
+        }
+
+        registrations.put(sourceId, register(sourceId));
+        LOG.trace("Source {} stored in cache as {}", sourceId, file);
+    }
+
+    @NonNull Path sourceIdToFile(final SourceIdentifier sourceId) {
+        final var revision = sourceId.revision();
+        final var name = sourceId.name().getLocalName();
+        return storageDirectory.resolve(revision == null ? name + EXTENSION : name + '@' + revision + EXTENSION);
+    }
+
+    private void evict(final SourceIdentifier sourceId, final Path file) {
+        final var reg = registrations.remove(sourceId);
+        if (reg != null) {
+            reg.close();
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            LOG.warn("Failed to delete {}", file, e);
+        }
+    }
+
+    private void store(final YangIRSource source, final byte[] textDigest, final Path file) throws IOException {
+        final var bytes = IRFiles.encode(source);
+
+        final var buf = ByteBuffer.allocate(HEADER_LENGTH + bytes.length)
+            .putInt(MAGIC)
+            .put(VERSION)
+            .put(textDigest)
+            .put(IRFiles.digest(bytes, 0, bytes.length))
+            .putInt(bytes.length)
+            .put(bytes);
+        IRFiles.replace(file, out -> out.write(buf.array()));
+    }
+
+    private static YangIRSource restore(final SourceIdentifier sourceId, final Path file, final byte[] textDigest)
+            throws IOException, SourceSyntaxException {
+        final var bytes = Files.readAllBytes(file);
+        if (bytes.length < HEADER_LENGTH) {
+            throw new IOException("Truncated header");
+        }
+
+        final var buf = ByteBuffer.wrap(bytes);
+        final int magic = buf.getInt();
+        if (magic != MAGIC) {
+            throw new IOException("Unexpected magic " + Integer.toHexString(magic));
+        }
+        final byte version = buf.get();
+        if (version != VERSION) {
+            throw new IOException("Unsupported version " + version);
+        }
+        final var expectedText = new byte[DIGEST_LENGTH];
+        buf.get(expectedText);
+        if (!Arrays.equals(expectedText, textDigest)) {
+            throw new IOException("Source text hash mismatch");
+        }
+        final var expected = new byte[DIGEST_LENGTH];
+        buf.get(expected);
+        final int length = buf.getInt();
+        if (length != buf.remaining()) {
+            throw new IOException("Expected " + length + " bytes of content, have " + buf.remaining());
+        }
+        if (!Arrays.equals(expected, IRFiles.digest(bytes, HEADER_LENGTH, length))) {
+            throw new IOException("Content hash mismatch");
+        }
+        return IRFiles.decode(sourceId, bytes, HEADER_LENGTH, file);
+    }
+}
@@ -0,0 +1,343 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.model.repo.fs;
+
+import static java.util.Objects.requireNonNull;
+import static org.opendaylight.yangtools.yang.model.repo.fs.IRFiles.DIGEST_LENGTH;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.zip.CRC32C;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.api.source.SourceIdentifier;
+import org.opendaylight.yangtools.yang.model.api.source.SourceRepresentation;
+import org.opendaylight.yangtools.yang.model.repo.api.SchemaContextFactoryConfiguration;
+import org.opendaylight.yangtools.yang.model.repo.api.SchemaRepository;
+import org.opendaylight.yangtools.yang.model.spi.source.YangIRSource;
+import org.opendaylight.yangtools.yang.parser.api.YangParserConfiguration;
+import org.opendaylight.yangtools.yang.parser.api.YangParserException;
+import org.opendaylight.yangtools.yang.parser.api.YangParserFactory;
+import org.opendaylight.yangtools.yang.xpath.api.YangXPathParserFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A single-file snapshot of an {@link EffectiveModelContext}. Unlike {@link FilesystemIRSourceCache}, which keeps one
+ * file per source and is consulted source-by-source through a {@link SchemaRepository}, a snapshot captures a whole
+ * model in one go and can be restored without any repository lookups or parsing.
+ *
+ * <p>The file starts with a manifest, containing a fingerprint of the model assembly configuration the snapshot was
+ * taken with and the {@link SourceIdentifier}s of the sources making up the model. It is followed by the model's
+ * declared and effective statements, as described in {@link SnapshotFormat}. The file is memory-mapped when
+ * {@link #open(Path) opened}, its manifest is decoded and its checksum is verified, but statements are inflated only
+ * when the modules they belong to are first accessed.
+ *
+ * <p>{@link #loadOrAssemble(Path, Collection, SchemaRepository, YangParserFactory, YangParserConfiguration,
+ * SchemaContextFactoryConfiguration)} ties this together: it restores the model from a snapshot matching the requested
+ * sources and configuration, or falls back to assembling it from the repository, refreshing the snapshot for next
+ * time. Sources are matched by their identifiers, hence a source whose content changes without its revision changing
+ * is not detected.
+ *
+ * <p>Snapshots can only capture models consisting of RFC7950 statements. Models which contain statements defined by
+ * parser extensions are always assembled from sources.
+ */
+public final class FilesystemModelSnapshot {
+    private static final Logger LOG = LoggerFactory.getLogger(FilesystemModelSnapshot.class);
+
+    private static final int MAGIC = 0x59454D53;
+    private static final byte VERSION = 3;
+
+    private final @NonNull ImmutableSet<SourceIdentifier> sourceIds;
+    private final @NonNull HashCode fingerprint;
+    private final @NonNull SnapshotModelContext context;
+    private final @NonNull Path file;
+
+    private FilesystemModelSnapshot(final Path file, final ImmutableSet<SourceIdentifier> sourceIds,
+            final HashCode fingerprint, final SnapshotReader reader) {
+        this.file = requireNonNull(file);
+        this.sourceIds = requireNonNull(sourceIds);
+        this.fingerprint = requireNonNull(fingerprint);
+        context = new SnapshotModelContext(reader);
+    }
+
+    /**
+     * Open a snapshot file, using the {@link YangXPathParserFactory} available through {@link ServiceLoader}. This
+     * method maps the file into memory and validates it, but does not inflate any statements.
+     *
+     * @param file snapshot file
+     * @return A {@link FilesystemModelSnapshot}
+     * @throws IOException if the file cannot be read or it is not a valid snapshot
+     */
+    public static @NonNull FilesystemModelSnapshot open(final Path file) throws IOException {
+        return open(file, ServiceLoader.load(YangXPathParserFactory.class).findFirst()
+            .orElseThrow(() -> new IllegalStateException("No YangXPathParserFactory available")));
+    }
+
+    /**
+     * Open a snapshot file. This method maps the file into memory and validates it, but does not inflate any
+     * statements.
+     *
+     * @param file snapshot file
+     * @param xpathFactory factory used to parse XPath expressions of restored statements
+     * @return A {@link FilesystemModelSnapshot}
+     * @throws IOException if the file cannot be read or it is not a valid snapshot
+     */
+    public static @NonNull FilesystemModelSnapshot open(final Path file, final YangXPathParserFactory xpathFactory)
+            throws IOException {
+        requireNonNull(xpathFactory);
+        final ByteBuffer content;
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot size " + size + " is not supported");
+            }
+            // The mapping remains valid after the channel is closed
+            content = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+
+        final var buf = content.duplicate();
+        try {
+            final int magic = buf.getInt();
+            if (magic != MAGIC) {
+                throw new IOException("Unexpected magic " + Integer.toHexString(magic));
+            }
+            final byte version = buf.get();
+            if (version != VERSION) {
+                throw new IOException("Unsupported version " + version);
+            }
+            final var fingerprint = new byte[DIGEST_LENGTH];
+            buf.get(fingerprint);
+
+            final int count = buf.getInt();
+            if (count < 0) {
+                throw new IOException("Invalid source count " + count);
+            }
+            final var sourceIds = ImmutableSet.<SourceIdentifier>builder();
+            for (int i = 0; i < count; ++i) {
+                final var name = readString(buf);
+                final var revision = readString(buf);
+                sourceIds.add(new SourceIdentifier(name, revision.isEmpty() ? null : revision));
+            }
+
+            final int length = buf.getInt();
+            final int checksum = buf.getInt();
+            if (length != buf.remaining()) {
+                throw new IOException("Model length " + length + " does not match remaining " + buf.remaining());
+            }
+            final var body = buf.slice();
+            final var crc = new CRC32C();
+            crc.update(body.duplicate());
+            if ((int) crc.getValue() != checksum) {
+                throw new IOException("Checksum mismatch in " + file);
+            }
+
+            return new FilesystemModelSnapshot(file, sourceIds.build(), HashCode.fromBytes(fingerprint),
+                new SnapshotReader(body, xpathFactory));
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Truncated manifest", e);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Invalid manifest", e);
+        }
+    }
+
+    /**
+     * Write a snapshot of specified model into a file. The file is replaced atomically if the underlying filesystem
+     * supports it.
+     *
+     * @param file snapshot file
+     * @param context model to store
+     * @param sourceIds identifiers of the sources making up the model
+     * @param config model assembly configuration
+     * @throws IOException if an I/O error occurs
+     * @throws IllegalArgumentException if {@code sourceIds} contains duplicates or the model contains statements which
+     *                                  cannot be stored
+     */
+    public static void write(final Path file, final EffectiveModelContext context,
+            final Collection<SourceIdentifier> sourceIds, final SchemaContextFactoryConfiguration config)
+                throws IOException {
+        final var ids = ImmutableSet.copyOf(sourceIds);
+        if (ids.size() != sourceIds.size()) {
+            throw new IllegalArgumentException("Duplicate sources in " + sourceIds);
+        }
+
+        // Encode the model first, so that unsupported models do not touch the file
+        final var bytes = new ByteArrayOutputStream();
+        try (var dos = new DataOutputStream(bytes)) {
+            dos.writeInt(MAGIC);
+            dos.writeByte(VERSION);
+            dos.write(fingerprint(config).asBytes());
+            dos.writeInt(ids.size());
+            for (var sourceId : ids) {
+                final var revision = sourceId.revision();
+                writeString(dos, sourceId.name().getLocalName());
+                writeString(dos, revision == null ? "" : revision.toString());
+            }
+            SnapshotWriter.write(dos, context);
+        }
+
+        IRFiles.replace(file, bytes::writeTo);
+    }
+
+    /**
+     * Restore an {@link EffectiveModelContext} from a snapshot, if it exists and it
+     * {@link #matches(Collection, SchemaContextFactoryConfiguration) matches} the requested sources and configuration,
+     * or assemble it from a {@link SchemaRepository} otherwise. In the latter case the snapshot is refreshed, so that
+     * subsequent invocations with the same sources can avoid acquiring and parsing them.
+     *
+     * @param file snapshot file
+     * @param requiredSources sources making up the model
+     * @param repository repository to acquire sources from, if the snapshot is not usable
+     * @param parserFactory parser factory
+     * @param parserConfig parser configuration
+     * @param config model assembly configuration
+     * @return An {@link EffectiveModelContext}
+     * @throws IOException if the sources cannot be acquired
+     * @throws YangParserException if the model cannot be assembled
+     */
+    public static @NonNull EffectiveModelContext loadOrAssemble(final Path file,
+            final Collection<SourceIdentifier> requiredSources, final SchemaRepository repository,
+            final YangParserFactory parserFactory, final YangParserConfiguration parserConfig,
+            final SchemaContextFactoryConfiguration config) throws IOException, YangParserException {
+        if (Files.isReadable(file)) {
+            try {
+                final var snapshot = open(file);
+                if (snapshot.matches(requiredSources, config)) {
+                    LOG.debug("Restored model from snapshot {}", file);
+                    return snapshot.restore();
+                }
+                LOG.debug("Snapshot {} does not match requested sources {}", file, requiredSources);
+            } catch (IOException e) {
+                LOG.warn("Snapshot {} is not usable, assembling model from sources", file, e);
+            }
+        }
+
+        final var sources = new ArrayList<YangIRSource>(requiredSources.size());
+        for (var sourceId : requiredSources) {
+            sources.add(acquireSource(repository, sourceId, YangIRSource.class));
+        }
+        final var ret = assemble(sources, parserFactory, parserConfig, config);
+
+        try {
+            write(file, ret, requiredSources, config);
+            LOG.debug("Updated snapshot {}", file);
+        } catch (IOException e) {
+            LOG.warn("Failed to update snapshot {}", file, e);
+        } catch (IllegalArgumentException e) {
+            LOG.info("Model cannot be stored in snapshot {}", file, e);
+        }
+        return ret;
+    }
+
+    /**
+     * Return the identifiers of all sources in this snapshot.
+     *
+     * @return identifiers of all sources in this snapshot
+     */
+    public @NonNull Set<SourceIdentifier> sourceIdentifiers() {
+        return sourceIds;
+    }
+
+    /**
+     * Check whether this snapshot has been taken from specified sources and with specified configuration.
+     *
+     * @param requiredSources sources making up the model
+     * @param config model assembly configuration
+     * @return {@code true} if this snapshot has been taken from specified sources and configuration
+     */
+    public boolean matches(final Collection<SourceIdentifier> requiredSources,
+            final SchemaContextFactoryConfiguration config) {
+        return sourceIds.size() == requiredSources.size() && sourceIds.containsAll(requiredSources)
+            && fingerprint.equals(fingerprint(config));
+    }
+
+    /**
+     * Restore the {@link EffectiveModelContext} captured by this snapshot. This method neither acquires nor parses
+     * any sources, and modules are inflated only when they are first accessed.
+     *
+     * @return An {@link EffectiveModelContext}
+     */
+    public @NonNull EffectiveModelContext restore() {
+        return context;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+            .add("file", file)
+            .add("fingerprint", fingerprint)
+            .add("sources", sourceIds)
+            .toString();
+    }
+
+    private static @NonNull HashCode fingerprint(final SchemaContextFactoryConfiguration config) {
+        // Note: toString() is not canonical, but unequal configurations never produce equal strings
+        return Hashing.sha256().newHasher()
+            .putString(String.valueOf(config.getSupportedFeatures().orElse(null)), StandardCharsets.UTF_8)
+            .putString(String.valueOf(config.getModulesDeviatedByModules().orElse(null)), StandardCharsets.UTF_8)
+            .putString(config.getStatementParserMode().name(), StandardCharsets.UTF_8)
+            .hash();
+    }
+
+    private static @NonNull EffectiveModelContext assemble(final List<YangIRSource> sources,
+            final YangParserFactory parserFactory, final YangParserConfiguration parserConfig,
+            final SchemaContextFactoryConfiguration config) throws IOException, YangParserException {
+        final var parser = parserFactory.createParser(parserConfig);
+        config.getSupportedFeatures().ifPresent(parser::setSupportedFeatures);
+        config.getModulesDeviatedByModules().ifPresent(parser::setModulesWithSupportedDeviations);
+        for (var source : sources) {
+            parser.addSource(source);
+        }
+        return parser.buildEffectiveModel();
+    }
+
+    private static <T extends SourceRepresentation> @NonNull T acquireSource(final SchemaRepository repository,
+            final SourceIdentifier sourceId, final Class<T> representation) throws IOException {
+        try {
+            return repository.getSchemaSource(sourceId, representation).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            final var ex = new InterruptedIOException("Interrupted while acquiring " + sourceId);
+            ex.initCause(e);
+            throw ex;
+        } catch (ExecutionException e) {
+            throw new IOException("Failed to acquire " + sourceId, e.getCause());
+        }
+    }
+
+    private static void writeString(final DataOutputStream dos, final String str) throws IOException {
+        final var bytes = str.getBytes(StandardCharsets.UTF_8);
+        dos.writeShort(bytes.length);
+        dos.write(bytes);
+    }
+
+    private static String readString(final ByteBuffer buf) {
+        final var bytes = new byte[Short.toUnsignedInt(buf.getShort())];
+        buf.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
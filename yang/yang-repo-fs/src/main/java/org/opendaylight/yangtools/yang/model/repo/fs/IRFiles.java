@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.model.repo.fs;
+
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteStreams;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.opendaylight.yangtools.yang.ir.IOSupport;
+import org.opendaylight.yangtools.yang.ir.IRStatement;
+import org.opendaylight.yangtools.yang.model.api.source.SourceIdentifier;
+import org.opendaylight.yangtools.yang.model.api.source.SourceSyntaxException;
+import org.opendaylight.yangtools.yang.model.api.source.YangTextSource;
+import org.opendaylight.yangtools.yang.model.spi.source.YangIRSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Utilities shared by {@link FilesystemIRSourceCache} and {@link FilesystemModelSnapshot}: encoding and decoding of
+ * {@link YangIRSource}s, hashing and atomic file replacement.
+ */
+@NonNullByDefault
+final class IRFiles {
+    @FunctionalInterface
+    interface Content {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    private static final Logger LOG = LoggerFactory.getLogger(IRFiles.class);
+
+    static final int DIGEST_LENGTH = 32;
+
+    private IRFiles() {
+        // Hidden on purpose
+    }
+
+    static byte[] encode(final YangIRSource source) throws IOException {
+        final var bytes = new ByteArrayOutputStream();
+        try (var dos = new DataOutputStream(bytes)) {
+            IOSupport.writeStatement(dos, source.statement());
+        }
+        return bytes.toByteArray();
+    }
+
+    static YangIRSource decode(final SourceIdentifier sourceId, final byte[] bytes, final int offset,
+            final Path file) throws IOException, SourceSyntaxException {
+        final IRStatement statement = IOSupport.readStatement(ByteStreams.newDataInput(bytes, offset));
+        return YangIRSource.of(sourceId, statement, file.toString());
+    }
+
+    static byte[] digest(final byte[] bytes, final int offset, final int length) {
+        return Hashing.sha256().hashBytes(bytes, offset, length).asBytes();
+    }
+
+    static byte[] digest(final YangTextSource text) throws IOException {
+        return text.asByteSource(StandardCharsets.UTF_8).hash(Hashing.sha256()).asBytes();
+    }
+
+    /**
+     * Replace a file with specified content. The content is written to a temporary file first and then moved in
+     * place, atomically if the underlying filesystem supports it, so concurrent readers never observe a partially
+     * written file.
+     *
+     * @param file file to replace
+     * @param content content to write
+     * @throws IOException if an I/O error occurs
+     */
+    static void replace(final Path file, final Content content) throws IOException {
+        final var dir = file.toAbsolutePath().getParent();
+        Files.createDirectories(dir);
+        final var tmp = Files.createTempFile(dir, file.getFileName().toString(), ".tmp");
+        try {
+            try (var out = Files.newOutputStream(tmp)) {
+                content.writeTo(out);
+            }
+            try {
+                Files.move(tmp, file, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                LOG.debug("Falling back to non-atomic move of {}", file, e);
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.model.repo.fs;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.collect.ImmutableSet;
+import java.util.ArrayList;
+import java.util.List;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.UnresolvedQName.Unqualified;
+import org.opendaylight.yangtools.yang.model.api.stmt.IfFeatureExpr;
+import org.opendaylight.yangtools.yang.model.spi.stmt.NamespaceBinding;
+
+/**
+ * A parser for {@code if-feature} arguments, as defined in
+ * <a href="https://www.rfc-editor.org/rfc/rfc7950#section-7.20.2">RFC7950 section 7.20.2</a>. Arguments have already
+ * been validated by the parser when the snapshot was written, hence this is a simple recursive descent parser, which
+ * produces the same {@link IfFeatureExpr}s as the parser does.
+ */
+final class IfFeatureExprParser {
+    private final NamespaceBinding binding;
+    private final List<String> tokens;
+    private final String rawArgument;
+
+    private int offset;
+
+    private IfFeatureExprParser(final NamespaceBinding binding, final String rawArgument) {
+        this.binding = requireNonNull(binding);
+        this.rawArgument = requireNonNull(rawArgument);
+        tokens = tokenize(rawArgument);
+    }
+
+    static @NonNull IfFeatureExpr parse(final NamespaceBinding binding, final String rawArgument) {
+        final var parser = new IfFeatureExprParser(binding, rawArgument);
+        final var ret = parser.parseExpr();
+        if (parser.offset != parser.tokens.size()) {
+            throw parser.unexpected();
+        }
+        return ret;
+    }
+
+    private IfFeatureExpr parseExpr() {
+        final var terms = ImmutableSet.<IfFeatureExpr>builder();
+        terms.add(parseTerm());
+        while ("or".equals(peek())) {
+            offset++;
+            terms.add(parseTerm());
+        }
+        return IfFeatureExpr.or(terms.build());
+    }
+
+    private IfFeatureExpr parseTerm() {
+        final var factor = parseFactor();
+        if (!"and".equals(peek())) {
+            return IfFeatureExpr.and(ImmutableSet.of(factor));
+        }
+        offset++;
+        return IfFeatureExpr.and(ImmutableSet.of(factor, parseTerm()));
+    }
+
+    private IfFeatureExpr parseFactor() {
+        final var token = next();
+        return switch (token) {
+            case "not" -> parseFactor().negate();
+            case "(" -> {
+                final var expr = parseExpr();
+                if (!")".equals(next())) {
+                    throw unexpected();
+                }
+                yield expr;
+            }
+            case ")", "and", "or" -> throw unexpected();
+            default -> IfFeatureExpr.isPresent(parseIdentifierRef(token));
+        };
+    }
+
+    private QName parseIdentifierRef(final String token) {
+        final int colon = token.indexOf(':');
+        if (colon == -1) {
+            return QName.create(binding.currentModule(), token).intern();
+        }
+
+        final var prefix = token.substring(0, colon);
+        final var module = binding.lookupModule(Unqualified.of(prefix));
+        if (module == null) {
+            throw new IllegalStateException("Unknown prefix " + prefix + " in if-feature " + rawArgument);
+        }
+        return QName.create(module, token.substring(colon + 1)).intern();
+    }
+
+    private String peek() {
+        return offset < tokens.size() ? tokens.get(offset) : null;
+    }
+
+    private String next() {
+        if (offset == tokens.size()) {
+            throw unexpected();
+        }
+        return tokens.get(offset++);
+    }
+
+    private IllegalStateException unexpected() {
+        return new IllegalStateException("Unexpected token " + offset + " in if-feature " + rawArgument);
+    }
+
+    private static List<String> tokenize(final String str) {
+        final var ret = new ArrayList<String>();
+        int start = -1;
+        for (int i = 0, length = str.length(); i < length; ++i) {
+            final char ch = str.charAt(i);
+            if (ch == '(' || ch == ')' || Character.isWhitespace(ch)) {
+                if (start != -1) {
+                    ret.add(str.substring(start, i));
+                    start = -1;
+                }
+                if (ch == '(' || ch == ')') {
+                    ret.add(String.valueOf(ch));
+                }
+            } else if (start == -1) {
+                start = i;
+            }
+        }
+        if (start != -1) {
+            ret.add(str.substring(start));
+        }
+        return ret;
+    }
+}
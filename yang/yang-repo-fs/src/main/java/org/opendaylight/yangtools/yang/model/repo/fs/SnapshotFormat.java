@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.model.repo.fs;
+
+/**
+ * Constants shared by {@link SnapshotWriter} and {@link SnapshotReader}. The model part of a snapshot consists of the
+ * length of its body, the CRC32C checksum of the body and the body itself. The body starts with the offsets of
+ * <ol>
+ *   <li>the declared statement table</li>
+ *   <li>the effective statement table</li>
+ *   <li>the {@code QName} table</li>
+ *   <li>the {@code QNameModule} table</li>
+ *   <li>the string table</li>
+ *   <li>the module table, listing each module's {@code QNameModule}, name and effective statement</li>
+ *   <li>the namespace binding table, used to re-parse XPath and {@code if-feature} arguments</li>
+ * </ol>
+ * followed by the tables themselves.
+ *
+ * <p>Each table is an {@code int} count, followed by an {@code int} offset of each record from the start of the body
+ * and the records themselves. Records use variable-length integers and refer to other records by their index.
+ */
+final class SnapshotFormat {
+    static final int TABLE_DECLARED = 0;
+    static final int TABLE_EFFECTIVE = 1;
+    static final int TABLE_QNAME = 2;
+    static final int TABLE_MODULE = 3;
+    static final int TABLE_STRING = 4;
+    static final int TABLE_ROOT = 5;
+    static final int TABLE_BINDING = 6;
+    static final int TABLE_COUNT = 7;
+
+    // Type references, stored with effective type statements
+    static final int TYPE_BUILTIN = 0;
+    static final int TYPE_TYPEDEF = 1;
+    static final int TYPE_RESTRICTED_BUILTIN = 2;
+    static final int TYPE_RESTRICTED_TYPEDEF = 3;
+    static final int TYPE_BITS = 4;
+    static final int TYPE_DECIMAL64 = 5;
+    static final int TYPE_ENUMERATION = 6;
+    static final int TYPE_IDENTITYREF = 7;
+    static final int TYPE_LEAFREF = 8;
+    static final int TYPE_UNION = 9;
+
+    // Range and length boundaries
+    static final int NUMBER_MIN = 0;
+    static final int NUMBER_MAX = 1;
+    static final int NUMBER_LONG = 2;
+    static final int NUMBER_UINT64 = 3;
+    static final int NUMBER_DECIMAL64 = 4;
+
+    // Path expressions
+    static final int PATH_LOCATION_ABSOLUTE = 0;
+    static final int PATH_LOCATION_RELATIVE = 1;
+    static final int PATH_DEREF = 2;
+
+    // Path steps
+    static final int STEP_PARENT = 0;
+    static final int STEP_QNAME = 1;
+    static final int STEP_UNQUALIFIED = 2;
+
+    // Path predicate keys
+    static final int KEY_CURRENT = 0;
+    static final int KEY_PATH = 1;
+
+    // Schema node identifiers
+    static final int SNI_ABSOLUTE = 0;
+    static final int SNI_DESCENDANT = 1;
+
+    private SnapshotFormat() {
+        // Hidden on purpose
+    }
+}
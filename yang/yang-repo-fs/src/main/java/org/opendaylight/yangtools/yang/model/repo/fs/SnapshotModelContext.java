@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.model.repo.fs;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSetMultimap;
+import com.google.common.collect.Maps;
+import com.google.common.collect.SetMultimap;
+import java.util.Map;
+import java.util.Optional;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.yangtools.yang.common.QNameModule;
+import org.opendaylight.yangtools.yang.common.Revision;
+import org.opendaylight.yangtools.yang.common.XMLNamespace;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.api.Module;
+import org.opendaylight.yangtools.yang.model.api.stmt.ModuleEffectiveStatement;
+import org.opendaylight.yangtools.yang.model.repo.fs.SnapshotReader.Root;
+import org.opendaylight.yangtools.yang.model.spi.AbstractSchemaContext;
+
+/**
+ * An {@link EffectiveModelContext} restored from a {@link FilesystemModelSnapshot}. Individual modules are inflated
+ * when they are first looked up, while operations which need to see all modules, such as {@link #getModules()},
+ * inflate the whole model.
+ */
+final class SnapshotModelContext extends AbstractSchemaContext implements EffectiveModelContext {
+    /**
+     * Lookup tables, which require all modules to be inflated.
+     */
+    private record Modules(
+            ImmutableSet<Module> modules,
+            ImmutableSetMultimap<XMLNamespace, Module> namespaceToModules,
+            ImmutableSetMultimap<String, Module> nameToModules,
+            ImmutableMap<QNameModule, Module> moduleMap) {
+        // Nothing else
+    }
+
+    private final @NonNull SnapshotReader reader;
+    private final @NonNull ImmutableMap<QNameModule, Root> roots;
+    private final @NonNull Map<QNameModule, ModuleEffectiveStatement> moduleStatements;
+
+    private volatile Modules modules;
+
+    SnapshotModelContext(final SnapshotReader reader) {
+        this.reader = requireNonNull(reader);
+        roots = Maps.uniqueIndex(reader.roots(), Root::qnameModule);
+        moduleStatements = Maps.transformValues(roots, reader::module);
+    }
+
+    @Override
+    public Map<QNameModule, ModuleEffectiveStatement> getModuleStatements() {
+        return moduleStatements;
+    }
+
+    @Override
+    public ImmutableSet<Module> getModules() {
+        return modules().modules;
+    }
+
+    @Override
+    public Optional<Module> findModule(final QNameModule qnameModule) {
+        final var root = roots.get(requireNonNull(qnameModule));
+        return root == null ? Optional.empty() : Optional.of(reader.module(root).toDataNodeContainer());
+    }
+
+    @Override
+    public Optional<? extends Module> findModule(final String name, final Optional<Revision> revision) {
+        final var expected = revision.orElse(null);
+        for (var root : roots.values()) {
+            if (name.equals(root.name().getLocalName()) && Revision.compare(expected,
+                    root.qnameModule().revision()) == 0) {
+                return Optional.of(reader.module(root).toDataNodeContainer());
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    protected SetMultimap<XMLNamespace, Module> getNamespaceToModules() {
+        return modules().namespaceToModules;
+    }
+
+    @Override
+    protected SetMultimap<String, Module> getNameToModules() {
+        return modules().nameToModules;
+    }
+
+    @Override
+    protected Map<QNameModule, Module> getModuleMap() {
+        return modules().moduleMap;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("modules", roots.keySet()).toString();
+    }
+
+    private @NonNull Modules modules() {
+        var local = modules;
+        if (local == null) {
+            local = loadModules();
+        }
+        return local;
+    }
+
+    private synchronized @NonNull Modules loadModules() {
+        var local = modules;
+        if (local == null) {
+            // Roots are already sorted by name and descending revision, as required by getModules()
+            final var sorted = ImmutableSet.<Module>builderWithExpectedSize(roots.size());
+            final var namespaceToModules = ImmutableSetMultimap.<XMLNamespace, Module>builder();
+            final var nameToModules = ImmutableSetMultimap.<String, Module>builder();
+            final var moduleMap = ImmutableMap.<QNameModule, Module>builderWithExpectedSize(roots.size());
+            for (var root : roots.values()) {
+                final var module = reader.module(root).toDataNodeContainer();
+                sorted.add(module);
+                namespaceToModules.put(module.getNamespace(), module);
+                nameToModules.put(module.getName(), module);
+                moduleMap.put(module.getQNameModule(), module);
+            }
+            local = new Modules(sorted.build(), namespaceToModules.build(), nameToModules.build(),
+                moduleMap.buildOrThrow());
+            modules = local;
+        }
+        return local;
+    }
+}
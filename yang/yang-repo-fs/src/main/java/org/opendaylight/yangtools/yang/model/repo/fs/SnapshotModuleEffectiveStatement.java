@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.model.repo.fs;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.QNameModule;
+import org.opendaylight.yangtools.yang.common.UnresolvedQName.Unqualified;
+import org.opendaylight.yangtools.yang.model.api.Module;
+import org.opendaylight.yangtools.yang.model.api.Submodule;
+import org.opendaylight.yangtools.yang.model.api.meta.EffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.ExtensionEffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.FeatureEffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.IdentityEffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.ModuleEffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.ModuleStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.SubmoduleEffectiveStatement;
+
+/**
+ * A {@link ModuleEffectiveStatement} restored from a snapshot.
+ */
+final class SnapshotModuleEffectiveStatement
+        extends AbstractSnapshotModule<@NonNull ModuleStatement, ModuleEffectiveStatement>
+        implements Module, ModuleEffectiveStatement {
+    private final ImmutableMap<Unqualified, SubmoduleEffectiveStatement> nameToSubmodule;
+    private final ImmutableMap<QName, ExtensionEffectiveStatement> qnameToExtension;
+    private final ImmutableMap<QName, FeatureEffectiveStatement> qnameToFeature;
+    private final ImmutableMap<QName, IdentityEffectiveStatement> qnameToIdentity;
+    private final @NonNull ImmutableList<Submodule> submodules;
+
+    SnapshotModuleEffectiveStatement(final @NonNull ModuleStatement declared,
+            final ImmutableList<? extends EffectiveStatement<?, ?>> substatements, final QNameModule qnameModule,
+            final List<SubmoduleEffectiveStatement> submodules) {
+        super(declared, substatements, findPrefix(substatements), qnameModule, true);
+        this.submodules = submodules.stream()
+            .map(SubmoduleEffectiveStatement::toDataNodeContainer)
+            .collect(ImmutableList.toImmutableList());
+
+        nameToSubmodule = submodules.stream()
+            .sorted(Comparator.comparing(SubmoduleEffectiveStatement::argument))
+            .collect(ImmutableMap.toImmutableMap(SubmoduleEffectiveStatement::argument, Function.identity()));
+        qnameToExtension = streamEffectiveSubstatements(ExtensionEffectiveStatement.class)
+            .collect(ImmutableMap.toImmutableMap(ExtensionEffectiveStatement::argument, Function.identity()));
+        qnameToFeature = streamEffectiveSubstatements(FeatureEffectiveStatement.class)
+            .collect(ImmutableMap.toImmutableMap(FeatureEffectiveStatement::argument, Function.identity()));
+        qnameToIdentity = streamEffectiveSubstatements(IdentityEffectiveStatement.class)
+            .collect(ImmutableMap.toImmutableMap(IdentityEffectiveStatement::argument, Function.identity()));
+    }
+
+    @Override
+    public ConformanceType conformance() {
+        return ConformanceType.IMPLEMENT;
+    }
+
+    @Override
+    public QNameModule localQNameModule() {
+        return getQNameModule();
+    }
+
+    @Override
+    public List<@NonNull Submodule> getSubmodules() {
+        return submodules;
+    }
+
+    @Override
+    public ModuleEffectiveStatement asEffectiveStatement() {
+        return this;
+    }
+
+    @Override
+    public Module toDataNodeContainer() {
+        return this;
+    }
+
+    @Override
+    public Collection<ExtensionEffectiveStatement> extensions() {
+        return qnameToExtension.values();
+    }
+
+    @Override
+    public Optional<ExtensionEffectiveStatement> findExtension(final QName qname) {
+        return findValue(qnameToExtension, qname);
+    }
+
+    @Override
+    public Collection<FeatureEffectiveStatement> features() {
+        return qnameToFeature.values();
+    }
+
+    @Override
+    public Optional<FeatureEffectiveStatement> findFeature(final QName qname) {
+        return findValue(qnameToFeature, qname);
+    }
+
+    @Override
+    public Collection<IdentityEffectiveStatement> identities() {
+        return qnameToIdentity.values();
+    }
+
+    @Override
+    public Optional<IdentityEffectiveStatement> findIdentity(final QName qname) {
+        return findValue(qnameToIdentity, qname);
+    }
+
+    @Override
+    public Collection<SubmoduleEffectiveStatement> submodules() {
+        return nameToSubmodule.values();
+    }
+
+    @Override
+    public Optional<SubmoduleEffectiveStatement> findSubmodule(final Unqualified submoduleName) {
+        return findValue(nameToSubmodule, submoduleName);
+    }
+}
@@ -0,0 +1,1009 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.model.repo.fs;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import javax.xml.xpath.XPathExpressionException;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.yang.common.Decimal64;
+import org.opendaylight.yangtools.yang.common.Ordering;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.QNameModule;
+import org.opendaylight.yangtools.yang.common.Revision;
+import org.opendaylight.yangtools.yang.common.Uint32;
+import org.opendaylight.yangtools.yang.common.Uint64;
+import org.opendaylight.yangtools.yang.common.UnresolvedQName.Unqualified;
+import org.opendaylight.yangtools.yang.common.XMLNamespace;
+import org.opendaylight.yangtools.yang.common.YangVersion;
+import org.opendaylight.yangtools.yang.model.api.CaseSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.DeviateKind;
+import org.opendaylight.yangtools.yang.model.api.GroupingDefinition;
+import org.opendaylight.yangtools.yang.model.api.IdentitySchemaNode;
+import org.opendaylight.yangtools.yang.model.api.PathExpression;
+import org.opendaylight.yangtools.yang.model.api.Status;
+import org.opendaylight.yangtools.yang.model.api.Submodule;
+import org.opendaylight.yangtools.yang.model.api.meta.ArgumentDefinition;
+import org.opendaylight.yangtools.yang.model.api.meta.DeclaredStatement;
+import org.opendaylight.yangtools.yang.model.api.meta.EffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.meta.ElementCountMatcher;
+import org.opendaylight.yangtools.yang.model.api.meta.StatementDefinition;
+import org.opendaylight.yangtools.yang.model.api.meta.UnrecognizedEffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.meta.UnrecognizedStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.ActionStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.AnydataStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.AnyxmlStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.ArgumentStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.AugmentStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.BaseStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.BelongsToStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.BitStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.CaseStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.ChoiceStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.ConfigStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.ContactStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.ContainerStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.DefaultEffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.DefaultStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.DescriptionStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.DeviateStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.DeviationStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.EnumStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.ErrorAppTagStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.ErrorMessageStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.ExtensionStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.FeatureStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.FractionDigitsStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.GroupingStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.IdentityStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.IfFeatureStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.ImportStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.IncludeStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.InputStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.KeyArgument;
+import org.opendaylight.yangtools.yang.model.api.stmt.KeyEffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.KeyStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.LeafListStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.LeafStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.LengthStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.ListStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.MandatoryStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.MaxElementsArgument;
+import org.opendaylight.yangtools.yang.model.api.stmt.MaxElementsEffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.MaxElementsStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.MinElementsArgument;
+import org.opendaylight.yangtools.yang.model.api.stmt.MinElementsEffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.MinElementsStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.ModifierStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.ModuleEffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.ModuleStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.MustStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.NamespaceStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.NotificationStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.OrderedByStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.OrganizationStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.OutputStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.PathStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.PatternExpression;
+import org.opendaylight.yangtools.yang.model.api.stmt.PatternStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.PositionStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.PrefixStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.PresenceStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.RangeStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.ReferenceStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.RefineStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.RequireInstanceStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.RevisionDateStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.RevisionStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.RpcStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.SchemaNodeIdentifier;
+import org.opendaylight.yangtools.yang.model.api.stmt.SchemaNodeIdentifier.Absolute;
+import org.opendaylight.yangtools.yang.model.api.stmt.SchemaNodeIdentifier.Descendant;
+import org.opendaylight.yangtools.yang.model.api.stmt.StatusStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.SubmoduleEffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.SubmoduleStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.TypeEffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.TypeStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.TypedefEffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.TypedefStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.UniqueArgument;
+import org.opendaylight.yangtools.yang.model.api.stmt.UniqueStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.UnitsStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.UnresolvedNumber;
+import org.opendaylight.yangtools.yang.model.api.stmt.UsesStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.ValueRange;
+import org.opendaylight.yangtools.yang.model.api.stmt.ValueRanges;
+import org.opendaylight.yangtools.yang.model.api.stmt.ValueStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.WhenStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.YangVersionStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.YinElementStatement;
+import org.opendaylight.yangtools.yang.model.api.type.ModifierKind;
+import org.opendaylight.yangtools.yang.model.ri.stmt.DeclaredStatements;
+import org.opendaylight.yangtools.yang.model.ri.stmt.EffectiveStatements;
+import org.opendaylight.yangtools.yang.model.ri.stmt.UndeclaredStatements;
+import org.opendaylight.yangtools.yang.model.spi.stmt.ImmutableNamespaceBinding;
+import org.opendaylight.yangtools.yang.xpath.api.YangBinaryOperator;
+import org.opendaylight.yangtools.yang.xpath.api.YangExpr;
+import org.opendaylight.yangtools.yang.xpath.api.YangFunction;
+import org.opendaylight.yangtools.yang.xpath.api.YangFunctionCallExpr;
+import org.opendaylight.yangtools.yang.xpath.api.YangLocationPath;
+import org.opendaylight.yangtools.yang.xpath.api.YangLocationPath.Relative;
+import org.opendaylight.yangtools.yang.xpath.api.YangLocationPath.Step;
+import org.opendaylight.yangtools.yang.xpath.api.YangPathExpr;
+import org.opendaylight.yangtools.yang.xpath.api.YangQNameExpr;
+import org.opendaylight.yangtools.yang.xpath.api.YangXPathAxis;
+import org.opendaylight.yangtools.yang.xpath.api.YangXPathExpression.QualifiedBound;
+import org.opendaylight.yangtools.yang.xpath.api.YangXPathParserFactory;
+
+/**
+ * Decoder of the model part of a {@link FilesystemModelSnapshot}, as written by {@link SnapshotWriter}. Records are
+ * decoded only when they are first needed and each record is decoded at most once, so that only the modules which are
+ * actually accessed are inflated.
+ *
+ * <p>Since the snapshot's checksum has been verified before the reader is instantiated, any inconsistency found while
+ * decoding records is reported as an {@link IllegalStateException}.
+ */
+final class SnapshotReader {
+    /**
+     * A module stored in the snapshot.
+     *
+     * @param name module name
+     * @param qnameModule module namespace and revision
+     * @param statement index of the module's effective statement
+     */
+    record Root(@NonNull Unqualified name, @NonNull QNameModule qnameModule, int statement) {
+        Root {
+            requireNonNull(name);
+            requireNonNull(qnameModule);
+        }
+    }
+
+    /**
+     * A read position within the body.
+     */
+    private final class Cursor {
+        private int position;
+
+        Cursor(final int position) {
+            this.position = position;
+        }
+
+        int readByte() {
+            if (position >= body.limit()) {
+                throw new IllegalStateException("Truncated record at " + position);
+            }
+            return body.get(position++) & 0xFF;
+        }
+
+        int readVarint() {
+            int value = 0;
+            for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+                final int octet = readByte();
+                value |= (octet & 0x7F) << shift;
+                if ((octet & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalStateException("Malformed varint at " + position);
+        }
+
+        int readSigned() {
+            final int value = readVarint();
+            return value >>> 1 ^ -(value & 1);
+        }
+
+        long readVarlong() {
+            long value = 0;
+            for (int shift = 0; shift < Long.SIZE; shift += 7) {
+                final int octet = readByte();
+                value |= (long) (octet & 0x7F) << shift;
+                if ((octet & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalStateException("Malformed varlong at " + position);
+        }
+
+        long readSignedLong() {
+            final long value = readVarlong();
+            return value >>> 1 ^ -(value & 1);
+        }
+
+        boolean readBoolean() {
+            return switch (readByte()) {
+                case 0 -> false;
+                case 1 -> true;
+                default -> throw new IllegalStateException("Malformed boolean at " + (position - 1));
+            };
+        }
+
+        byte[] readBytes(final int length) {
+            if (length < 0 || length > body.limit() - position) {
+                throw new IllegalStateException("Invalid length " + length + " at " + position);
+            }
+            final var bytes = new byte[length];
+            body.get(position, bytes);
+            position += length;
+            return bytes;
+        }
+    }
+
+    private static final Object IN_PROGRESS = new Object();
+    private static final YangFunctionCallExpr CURRENT_CALL =
+        YangFunctionCallExpr.of(YangFunction.CURRENT.getIdentifier());
+    private static final DeviateKind[] DEVIATE_KINDS = DeviateKind.values();
+    private static final ModifierKind[] MODIFIER_KINDS = ModifierKind.values();
+    private static final Ordering[] ORDERINGS = Ordering.values();
+    private static final Status[] STATUSES = Status.values();
+    private static final YangVersion[] YANG_VERSIONS = YangVersion.values();
+
+    private final @NonNull ByteBuffer body;
+    private final @NonNull YangXPathParserFactory xpathFactory;
+    private final int[] tableOffsets = new int[SnapshotFormat.TABLE_COUNT];
+    private final int[] tableSizes = new int[SnapshotFormat.TABLE_COUNT];
+    private final @NonNull ImmutableList<Root> roots;
+
+    // Decoded records, indexed by record index
+    private final Object[] declared;
+    private final Object[] effective;
+    private final String[] strings;
+    private final QNameModule[] qnameModules;
+    private final QName[] qnames;
+    private final ImmutableNamespaceBinding[] bindings;
+
+    /**
+     * Create a reader of a snapshot body.
+     *
+     * @param body body of the snapshot, whose checksum has already been verified
+     * @param xpathFactory factory used to re-parse {@code must} and {@code when} arguments
+     * @throws IOException if the body's table structure is not valid
+     */
+    SnapshotReader(final ByteBuffer body, final YangXPathParserFactory xpathFactory) throws IOException {
+        this.body = body.asReadOnlyBuffer();
+        this.xpathFactory = requireNonNull(xpathFactory);
+
+        final int limit = this.body.limit();
+        final int headerSize = SnapshotFormat.TABLE_COUNT * Integer.BYTES;
+        if (limit < headerSize) {
+            throw new IOException("Truncated snapshot body");
+        }
+        for (int i = 0; i < SnapshotFormat.TABLE_COUNT; ++i) {
+            final int offset = this.body.getInt(i * Integer.BYTES);
+            if (offset < headerSize || offset > limit - Integer.BYTES) {
+                throw new IOException("Invalid offset " + offset + " of table " + i);
+            }
+            final int size = this.body.getInt(offset);
+            if (size < 0 || size > (limit - offset - Integer.BYTES) / Integer.BYTES) {
+                throw new IOException("Invalid size " + size + " of table " + i);
+            }
+            for (int j = 0; j < size; ++j) {
+                final int recordOffset = this.body.getInt(offset + Integer.BYTES + j * Integer.BYTES);
+                if (recordOffset < headerSize || recordOffset >= limit) {
+                    throw new IOException("Invalid offset " + recordOffset + " of record " + j + " in table " + i);
+                }
+            }
+            tableOffsets[i] = offset;
+            tableSizes[i] = size;
+        }
+
+        declared = new Object[tableSizes[SnapshotFormat.TABLE_DECLARED]];
+        effective = new Object[tableSizes[SnapshotFormat.TABLE_EFFECTIVE]];
+        strings = new String[tableSizes[SnapshotFormat.TABLE_STRING]];
+        qnameModules = new QNameModule[tableSizes[SnapshotFormat.TABLE_MODULE]];
+        qnames = new QName[tableSizes[SnapshotFormat.TABLE_QNAME]];
+        bindings = new ImmutableNamespaceBinding[tableSizes[SnapshotFormat.TABLE_BINDING]];
+
+        final var tmp = ImmutableList.<Root>builderWithExpectedSize(tableSizes[SnapshotFormat.TABLE_ROOT]);
+        try {
+            for (int i = 0; i < tableSizes[SnapshotFormat.TABLE_ROOT]; ++i) {
+                final var cursor = cursor(SnapshotFormat.TABLE_ROOT, i);
+                final var qnameModule = qnameModule(cursor.readVarint());
+                final var name = Unqualified.of(string(cursor.readVarint())).intern();
+                final int statement = cursor.readVarint();
+                checkIndex(SnapshotFormat.TABLE_EFFECTIVE, statement);
+                tmp.add(new Root(name, qnameModule, statement));
+            }
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            throw new IOException("Invalid module table", e);
+        }
+        roots = tmp.build();
+    }
+
+    /**
+     * Return the modules stored in the snapshot, ordered by their name and descending revision.
+     *
+     * @return the modules stored in the snapshot
+     */
+    @NonNull List<Root> roots() {
+        return roots;
+    }
+
+    /**
+     * Return the {@link ModuleEffectiveStatement} of a stored module, inflating it if needed.
+     *
+     * @param root module to inflate
+     * @return the module's effective statement
+     */
+    @NonNull ModuleEffectiveStatement module(final Root root) {
+        return cast(ModuleEffectiveStatement.class, effective(root.statement()));
+    }
+
+    private @NonNull ModuleEffectiveStatement module(final int index) {
+        if (index < 0 || index >= roots.size()) {
+            throw new IllegalStateException("Invalid module index " + index);
+        }
+        return module(roots.get(index));
+    }
+
+    private synchronized @NonNull DeclaredStatement<?> declared(final int index) {
+        checkIndex(SnapshotFormat.TABLE_DECLARED, index);
+        final var existing = declared[index];
+        if (existing == null) {
+            declared[index] = IN_PROGRESS;
+            final DeclaredStatement<?> created;
+            try {
+                created = readDeclared(cursor(SnapshotFormat.TABLE_DECLARED, index));
+            } finally {
+                declared[index] = null;
+            }
+            declared[index] = created;
+            return created;
+        }
+        if (existing == IN_PROGRESS) {
+            throw new IllegalStateException("Declared statement " + index + " refers to itself");
+        }
+        return (DeclaredStatement<?>) existing;
+    }
+
+    private synchronized @NonNull EffectiveStatement<?, ?> effective(final int index) {
+        checkIndex(SnapshotFormat.TABLE_EFFECTIVE, index);
+        final var existing = effective[index];
+        if (existing == null) {
+            effective[index] = IN_PROGRESS;
+            final EffectiveStatement<?, ?> created;
+            try {
+                created = readEffective(cursor(SnapshotFormat.TABLE_EFFECTIVE, index));
+            } finally {
+                effective[index] = null;
+            }
+            effective[index] = created;
+            return created;
+        }
+        if (existing == IN_PROGRESS) {
+            throw new IllegalStateException("Effective statement " + index + " refers to itself");
+        }
+        return (EffectiveStatement<?, ?>) existing;
+    }
+
+    private @NonNull DeclaredStatement<?> readDeclared(final Cursor cursor) {
+        final var kind = kind(cursor);
+        final int count = cursor.readVarint();
+        final var builder = ImmutableList.<DeclaredStatement<?>>builderWithExpectedSize(count);
+        for (int i = 0; i < count; ++i) {
+            builder.add(declared(cursor.readVarint()));
+        }
+        final var subs = builder.build();
+
+        try {
+            return switch (kind) {
+                case ACTION -> DeclaredStatements.createAction(qname(cursor), subs);
+                case ANYDATA -> DeclaredStatements.createAnydata(qname(cursor), subs);
+                case ANYXML -> DeclaredStatements.createAnyxml(qname(cursor), subs);
+                case ARGUMENT -> DeclaredStatements.createArgument(qname(cursor), subs);
+                case BASE -> DeclaredStatements.createBase(qname(cursor), subs);
+                case CASE -> DeclaredStatements.createCase(qname(cursor), subs);
+                case CHOICE -> DeclaredStatements.createChoice(qname(cursor), subs);
+                case CONTAINER -> DeclaredStatements.createContainer(qname(cursor), subs);
+                case EXTENSION -> DeclaredStatements.createExtension(qname(cursor), subs);
+                case FEATURE -> DeclaredStatements.createFeature(qname(cursor), subs);
+                case GROUPING -> DeclaredStatements.createGrouping(qname(cursor), subs);
+                case IDENTITY -> DeclaredStatements.createIdentity(qname(cursor), subs);
+                case INPUT -> DeclaredStatements.createInput(qname(cursor), subs);
+                case LEAF -> DeclaredStatements.createLeaf(qname(cursor), subs);
+                case LEAF_LIST -> DeclaredStatements.createLeafList(qname(cursor), subs);
+                case LIST -> DeclaredStatements.createList(qname(cursor), subs);
+                case NOTIFICATION -> DeclaredStatements.createNotification(qname(cursor), subs);
+                case OUTPUT -> DeclaredStatements.createOutput(qname(cursor), subs);
+                case RPC -> DeclaredStatements.createRpc(qname(cursor), subs);
+                case TYPEDEF -> DeclaredStatements.createTypedef(qname(cursor), subs);
+                case BELONGS_TO -> DeclaredStatements.createBelongsTo(unqualified(cursor), subs);
+                case IMPORT -> DeclaredStatements.createImport(unqualified(cursor), subs);
+                case INCLUDE -> DeclaredStatements.createInclude(unqualified(cursor), subs);
+                case BIT -> DeclaredStatements.createBit(string(cursor), subs);
+                case CONTACT -> DeclaredStatements.createContact(string(cursor), subs);
+                case DEFAULT -> DeclaredStatements.createDefault(string(cursor), subs);
+                case DESCRIPTION -> DeclaredStatements.createDescription(string(cursor), subs);
+                case ERROR_APP_TAG -> DeclaredStatements.createErrorAppTag(string(cursor), subs);
+                case ERROR_MESSAGE -> DeclaredStatements.createErrorMessage(string(cursor), subs);
+                case ORGANIZATION -> DeclaredStatements.createOrganization(string(cursor), subs);
+                case PREFIX -> DeclaredStatements.createPrefix(string(cursor), subs);
+                case PRESENCE -> DeclaredStatements.createPresence(string(cursor), subs);
+                case REFERENCE -> DeclaredStatements.createReference(string(cursor), subs);
+                case UNITS -> DeclaredStatements.createUnits(string(cursor), subs);
+                case CONFIG -> DeclaredStatements.createConfig(cursor.readBoolean(), subs);
+                case MANDATORY -> DeclaredStatements.createMandatory(cursor.readBoolean(), subs);
+                case REQUIRE_INSTANCE -> DeclaredStatements.createRequireInstance(cursor.readBoolean(), subs);
+                case YIN_ELEMENT -> DeclaredStatements.createYinElement(cursor.readBoolean(), subs);
+                case DEVIATE -> DeclaredStatements.createDeviate(constant(DEVIATE_KINDS, cursor), subs);
+                case MODIFIER -> DeclaredStatements.createModifier(constant(MODIFIER_KINDS, cursor), subs);
+                case ORDERED_BY -> DeclaredStatements.createOrderedBy(constant(ORDERINGS, cursor), subs);
+                case STATUS -> DeclaredStatements.createStatus(constant(STATUSES, cursor), subs);
+                case YANG_VERSION -> DeclaredStatements.createYangVersion(constant(YANG_VERSIONS, cursor), subs);
+                case FRACTION_DIGITS -> DeclaredStatements.createFractionDigits(cursor.readSigned(), subs);
+                case VALUE -> DeclaredStatements.createValue(cursor.readSigned(), subs);
+                case POSITION -> DeclaredStatements.createPosition(Uint32.valueOf(cursor.readVarlong()), subs);
+                case NAMESPACE -> DeclaredStatements.createNamespace(XMLNamespace.of(string(cursor)).intern(), subs);
+                case REVISION -> DeclaredStatements.createRevision(Revision.of(string(cursor)), subs);
+                case REVISION_DATE -> DeclaredStatements.createRevisionDate(Revision.of(string(cursor)), subs);
+                case MIN_ELEMENTS ->
+                    DeclaredStatements.createMinElements(MinElementsArgument.parse(string(cursor)).intern(), subs);
+                case PATTERN -> {
+                    final var regex = string(cursor);
+                    yield DeclaredStatements.createPattern(PatternExpression.of(regex, string(cursor)).intern(),
+                        subs);
+                }
+                case PATH -> DeclaredStatements.createPath(readPath(cursor), subs);
+                case AUGMENT -> DeclaredStatements.createAugment(string(cursor), readIdentifier(cursor), subs);
+                case DEVIATION -> {
+                    final var raw = string(cursor);
+                    yield DeclaredStatements.createDeviation(raw, cast(Absolute.class, readIdentifier(cursor)), subs);
+                }
+                case REFINE -> {
+                    final var raw = string(cursor);
+                    yield DeclaredStatements.createRefine(raw, cast(Descendant.class, readIdentifier(cursor)), subs);
+                }
+                case ENUM -> {
+                    final var raw = string(cursor);
+                    yield DeclaredStatements.createEnum(raw, string(cursor), subs);
+                }
+                case MAX_ELEMENTS -> {
+                    final var raw = string(cursor);
+                    yield DeclaredStatements.createMaxElements(raw,
+                        MaxElementsArgument.parse(string(cursor)).intern(), subs);
+                }
+                case IF_FEATURE -> {
+                    final var raw = string(cursor);
+                    yield DeclaredStatements.createIfFeature(raw,
+                        IfFeatureExprParser.parse(binding(cursor.readVarint()), raw), subs);
+                }
+                case MUST -> {
+                    final var raw = string(cursor);
+                    yield DeclaredStatements.createMust(raw, readXPath(cursor, raw), subs);
+                }
+                case WHEN -> {
+                    final var raw = string(cursor);
+                    yield DeclaredStatements.createWhen(raw, readXPath(cursor, raw), subs);
+                }
+                case KEY -> {
+                    final var raw = string(cursor);
+                    yield DeclaredStatements.createKey(raw, readKey(cursor), subs);
+                }
+                case LENGTH -> {
+                    final var raw = string(cursor);
+                    yield DeclaredStatements.createLength(raw, readRanges(cursor), subs);
+                }
+                case RANGE -> {
+                    final var raw = string(cursor);
+                    yield DeclaredStatements.createRange(raw, readRanges(cursor), subs);
+                }
+                case MODULE -> {
+                    final var raw = string(cursor);
+                    yield DeclaredStatements.createModule(raw, unqualified(cursor), subs);
+                }
+                case SUBMODULE -> {
+                    final var raw = string(cursor);
+                    yield DeclaredStatements.createSubmodule(raw, unqualified(cursor), subs);
+                }
+                case TYPE -> {
+                    final var raw = string(cursor);
+                    yield DeclaredStatements.createType(raw, qname(cursor), subs);
+                }
+                case USES -> {
+                    final var raw = string(cursor);
+                    yield DeclaredStatements.createUses(raw, qname(cursor), subs);
+                }
+                case UNIQUE -> {
+                    final var raw = string(cursor);
+                    final int size = cursor.readVarint();
+                    final var descendants = new ArrayList<Descendant>(size);
+                    for (int i = 0; i < size; ++i) {
+                        descendants.add(cast(Descendant.class, readIdentifier(cursor)));
+                    }
+                    yield DeclaredStatements.createUnique(raw, UniqueArgument.of(descendants), subs);
+                }
+                case UNRECOGNIZED -> {
+                    final var statementName = qname(cursor);
+                    final int argumentName = cursor.readVarint();
+                    final ArgumentDefinition<Object> argument = argumentName == 0 ? null
+                        : ArgumentDefinition.of(Object.class, qname(argumentName - 1), cursor.readBoolean());
+                    final int raw = cursor.readVarint();
+                    yield DeclaredStatements.createUnrecognized(raw == 0 ? null : string(raw - 1),
+                        StatementDefinition.of(UnrecognizedStatement.class, UnrecognizedEffectiveStatement.class,
+                            statementName, argument),
+                        subs);
+                }
+            };
+        } catch (ParseException e) {
+            throw new IllegalStateException("Invalid " + kind + " argument", e);
+        }
+    }
+
+    private @NonNull EffectiveStatement<?, ?> readEffective(final Cursor cursor) {
+        final var kind = kind(cursor);
+        final int declaredIndex = cursor.readVarint();
+        final var decl = declaredIndex == 0 ? null : declared(declaredIndex - 1);
+        final int count = cursor.readVarint();
+        final var builder = ImmutableList.<EffectiveStatement<?, ?>>builderWithExpectedSize(count);
+        for (int i = 0; i < count; ++i) {
+            builder.add(effective(cursor.readVarint()));
+        }
+        final var subs = builder.build();
+
+        return switch (kind) {
+            case ACTION -> EffectiveStatements.createAction(requireDeclared(ActionStatement.class, decl), qname(cursor),
+                cursor.readVarint(), subs);
+            case ANYDATA -> EffectiveStatements.createAnydata(requireDeclared(AnydataStatement.class, decl), qname(cursor),
+                cursor.readVarint(), subs);
+            case ANYXML -> EffectiveStatements.createAnyxml(requireDeclared(AnyxmlStatement.class, decl), qname(cursor),
+                cursor.readVarint(), subs);
+            case CASE -> {
+                final var qname = qname(cursor);
+                final int flags = cursor.readVarint();
+                yield decl == null ? UndeclaredStatements.createCase(qname, flags, subs)
+                    : EffectiveStatements.createCase(requireDeclared(CaseStatement.class, decl), qname, flags, subs);
+            }
+            case CONTAINER -> EffectiveStatements.createContainer(requireDeclared(ContainerStatement.class, decl),
+                qname(cursor), cursor.readVarint(), subs);
+            case GROUPING -> {
+                final var qname = qname(cursor);
+                yield EffectiveStatements.createGrouping(requireDeclared(GroupingStatement.class, decl), subs, qname,
+                    cursor.readVarint());
+            }
+            case INPUT -> {
+                final var qname = qname(cursor);
+                final int flags = cursor.readVarint();
+                yield decl == null ? UndeclaredStatements.createInput(qname, flags, subs)
+                    : EffectiveStatements.createInput(requireDeclared(InputStatement.class, decl), qname, flags, subs);
+            }
+            case LEAF -> {
+                final var qname = qname(cursor);
+                final int flags = cursor.readVarint();
+                yield decl == null ? UndeclaredStatements.createLeaf(qname, flags, subs)
+                    : EffectiveStatements.createLeaf(requireDeclared(LeafStatement.class, decl), qname, flags, subs);
+            }
+            case LEAF_LIST -> EffectiveStatements.createLeafList(requireDeclared(LeafListStatement.class, decl),
+                qname(cursor), cursor.readVarint(), subs,
+                subs.stream()
+                    .filter(DefaultEffectiveStatement.class::isInstance)
+                    .map(stmt -> ((DefaultEffectiveStatement) stmt).argument())
+                    .collect(ImmutableSet.toImmutableSet()),
+                elementCountMatcher(subs));
+            case LIST -> EffectiveStatements.createList(requireDeclared(ListStatement.class, decl), qname(cursor),
+                cursor.readVarint(), subs,
+                findArgument(subs, KeyEffectiveStatement.class), elementCountMatcher(subs));
+            case NOTIFICATION -> EffectiveStatements.createNotification(requireDeclared(NotificationStatement.class, decl),
+                qname(cursor), cursor.readVarint(), subs);
+            case OUTPUT -> {
+                final var qname = qname(cursor);
+                final int flags = cursor.readVarint();
+                yield decl == null ? UndeclaredStatements.createOutput(qname, flags, subs)
+                    : EffectiveStatements.createOutput(requireDeclared(OutputStatement.class, decl), qname, flags, subs);
+            }
+            case RPC -> {
+                final var qname = qname(cursor);
+                yield EffectiveStatements.createRpc(requireDeclared(RpcStatement.class, decl), subs, qname,
+                    cursor.readVarint());
+            }
+            case AUGMENT -> EffectiveStatements.createAugment(requireDeclared(AugmentStatement.class, decl),
+                readIdentifier(cursor), cursor.readVarint(), subs);
+            case CHOICE -> {
+                final var qname = qname(cursor);
+                final int flags = cursor.readVarint();
+                final int defaultCase = cursor.readVarint();
+                yield EffectiveStatements.createChoice(requireDeclared(ChoiceStatement.class, decl), qname, flags, subs,
+                    defaultCase == 0 ? null : cast(CaseSchemaNode.class, effective(defaultCase - 1)));
+            }
+            case CONFIG -> {
+                final boolean value = cursor.readBoolean();
+                yield decl == null ? EffectiveStatements.createConfig(value)
+                    : EffectiveStatements.createConfig(requireDeclared(ConfigStatement.class, decl), subs);
+            }
+            case REQUIRE_INSTANCE -> {
+                final boolean value = cursor.readBoolean();
+                yield decl == null ? EffectiveStatements.createRequireInstance(value)
+                    : EffectiveStatements.createRequireInstance(requireDeclared(RequireInstanceStatement.class, decl), subs);
+            }
+            case FEATURE -> EffectiveStatements.createFeature(requireDeclared(FeatureStatement.class, decl),
+                cursor.readVarint(), subs);
+            case TYPEDEF -> EffectiveStatements.createTypedef(requireDeclared(TypedefStatement.class, decl),
+                cursor.readVarint(), subs);
+            case IDENTITY -> {
+                final var stmt = requireDeclared(IdentityStatement.class, decl);
+                final int flags = cursor.readVarint();
+                final var bases = readReferences(cursor, IdentitySchemaNode.class);
+                yield subs.isEmpty() && bases.isEmpty() ? EffectiveStatements.createIdentity(stmt)
+                    : EffectiveStatements.createIdentity(stmt, flags, subs, ImmutableSet.copyOf(bases));
+            }
+            case IMPORT -> EffectiveStatements.createImport(requireDeclared(ImportStatement.class, decl), subs,
+                module(cursor.readVarint()));
+            case KEY -> EffectiveStatements.createKey(requireDeclared(KeyStatement.class, decl), readKey(cursor), subs);
+            case MODULE -> new SnapshotModuleEffectiveStatement(requireDeclared(ModuleStatement.class, decl), subs,
+                qnameModule(cursor.readVarint()), readReferences(cursor, SubmoduleEffectiveStatement.class));
+            case SUBMODULE -> {
+                final var qnameModule = qnameModule(cursor.readVarint());
+                final int size = cursor.readVarint();
+                final var includes = new int[size];
+                for (int i = 0; i < size; ++i) {
+                    includes[i] = cursor.readVarint();
+                }
+                yield new SnapshotSubmoduleEffectiveStatement(requireDeclared(SubmoduleStatement.class, decl), subs,
+                    qnameModule, () -> {
+                        final var submodules = ImmutableSet.<Submodule>builderWithExpectedSize(includes.length);
+                        for (int include : includes) {
+                            submodules.add(cast(SubmoduleEffectiveStatement.class, effective(include))
+                                .toDataNodeContainer());
+                        }
+                        return submodules.build();
+                    });
+            }
+            case TYPE -> readType(cursor, decl, subs);
+            case USES -> {
+                final var qname = qname(cursor);
+                final int flags = cursor.readVarint();
+                yield new SnapshotUsesEffectiveStatement(requireDeclared(UsesStatement.class, decl), qname,
+                    cast(GroupingDefinition.class, effective(cursor.readVarint())), flags, subs);
+            }
+            case ARGUMENT -> EffectiveStatements.createArgument(requireDeclared(ArgumentStatement.class, decl), subs);
+            case BASE -> EffectiveStatements.createBase(requireDeclared(BaseStatement.class, decl), subs);
+            case BELONGS_TO -> EffectiveStatements.createBelongsTo(requireDeclared(BelongsToStatement.class, decl), subs);
+            case BIT -> EffectiveStatements.createBit(requireDeclared(BitStatement.class, decl), subs);
+            case CONTACT -> EffectiveStatements.createContact(requireDeclared(ContactStatement.class, decl), subs);
+            case DEFAULT -> EffectiveStatements.createDefault(requireDeclared(DefaultStatement.class, decl), subs);
+            case DESCRIPTION ->
+                EffectiveStatements.createDescription(requireDeclared(DescriptionStatement.class, decl), subs);
+            case DEVIATE -> EffectiveStatements.createDeviate(requireDeclared(DeviateStatement.class, decl), subs);
+            case DEVIATION -> EffectiveStatements.createDeviation(requireDeclared(DeviationStatement.class, decl), subs);
+            case ENUM -> EffectiveStatements.createEnum(requireDeclared(EnumStatement.class, decl), subs);
+            case ERROR_APP_TAG ->
+                EffectiveStatements.createErrorAppTag(requireDeclared(ErrorAppTagStatement.class, decl), subs);
+            case ERROR_MESSAGE ->
+                EffectiveStatements.createErrorMessage(requireDeclared(ErrorMessageStatement.class, decl), subs);
+            case EXTENSION -> EffectiveStatements.createExtension(requireDeclared(ExtensionStatement.class, decl), subs);
+            case FRACTION_DIGITS ->
+                EffectiveStatements.createFractionDigits(requireDeclared(FractionDigitsStatement.class, decl), subs);
+            case IF_FEATURE -> EffectiveStatements.createIfFeature(requireDeclared(IfFeatureStatement.class, decl), subs);
+            case INCLUDE -> EffectiveStatements.createInclude(requireDeclared(IncludeStatement.class, decl), subs);
+            case LENGTH -> EffectiveStatements.createLength(requireDeclared(LengthStatement.class, decl), subs);
+            case MANDATORY -> EffectiveStatements.createMandatory(requireDeclared(MandatoryStatement.class, decl), subs);
+            case MAX_ELEMENTS ->
+                EffectiveStatements.createMaxElements(requireDeclared(MaxElementsStatement.class, decl), subs);
+            case MIN_ELEMENTS ->
+                EffectiveStatements.createMinElements(requireDeclared(MinElementsStatement.class, decl), subs);
+            case MODIFIER -> EffectiveStatements.createModifier(requireDeclared(ModifierStatement.class, decl), subs);
+            case MUST -> EffectiveStatements.createMust(requireDeclared(MustStatement.class, decl), subs);
+            case NAMESPACE -> EffectiveStatements.createNamespace(requireDeclared(NamespaceStatement.class, decl), subs);
+            case ORDERED_BY -> EffectiveStatements.createOrderedBy(requireDeclared(OrderedByStatement.class, decl), subs);
+            case ORGANIZATION ->
+                EffectiveStatements.createOrganization(requireDeclared(OrganizationStatement.class, decl), subs);
+            case PATH -> EffectiveStatements.createPath(requireDeclared(PathStatement.class, decl), subs);
+            case PATTERN -> EffectiveStatements.createPattern(requireDeclared(PatternStatement.class, decl), subs);
+            case POSITION -> EffectiveStatements.createPosition(requireDeclared(PositionStatement.class, decl), subs);
+            case PREFIX -> EffectiveStatements.createPrefix(requireDeclared(PrefixStatement.class, decl), subs);
+            case PRESENCE -> EffectiveStatements.createPresence(requireDeclared(PresenceStatement.class, decl), subs);
+            case RANGE -> EffectiveStatements.createRange(requireDeclared(RangeStatement.class, decl), subs);
+            case REFERENCE -> EffectiveStatements.createReference(requireDeclared(ReferenceStatement.class, decl), subs);
+            case REFINE -> EffectiveStatements.createRefine(requireDeclared(RefineStatement.class, decl), subs);
+            case REVISION -> EffectiveStatements.createRevision(requireDeclared(RevisionStatement.class, decl), subs);
+            case REVISION_DATE ->
+                EffectiveStatements.createRevisionDate(requireDeclared(RevisionDateStatement.class, decl), subs);
+            case STATUS -> EffectiveStatements.createStatus(requireDeclared(StatusStatement.class, decl), subs);
+            case UNIQUE -> EffectiveStatements.createUnique(requireDeclared(UniqueStatement.class, decl), subs);
+            case UNITS -> EffectiveStatements.createUnits(requireDeclared(UnitsStatement.class, decl), subs);
+            case VALUE -> EffectiveStatements.createValue(requireDeclared(ValueStatement.class, decl), subs);
+            case WHEN -> EffectiveStatements.createWhen(requireDeclared(WhenStatement.class, decl), subs);
+            case YANG_VERSION ->
+                EffectiveStatements.createYangVersion(requireDeclared(YangVersionStatement.class, decl), subs);
+            case YIN_ELEMENT ->
+                EffectiveStatements.createYinElement(requireDeclared(YinElementStatement.class, decl), subs);
+            case UNRECOGNIZED -> throw new IllegalStateException("Unexpected effective " + kind + " statement");
+        };
+    }
+
+    private @NonNull TypeEffectiveStatement readType(final Cursor cursor, final @Nullable DeclaredStatement<?> decl,
+            final ImmutableList<? extends EffectiveStatement<?, ?>> subs) {
+        if (decl == null) {
+            final int tag = cursor.readVarint();
+            return switch (tag) {
+                case SnapshotFormat.TYPE_BUILTIN -> BuiltinEffectiveStatement.forTag(cursor.readVarint());
+                case SnapshotFormat.TYPE_TYPEDEF ->
+                    cast(TypedefEffectiveStatement.class, effective(cursor.readVarint())).asTypeEffectiveStatement();
+                default -> throw new IllegalStateException("Unknown type reference " + tag);
+            };
+        }
+
+        final var stmt = requireDeclared(TypeStatement.class, decl);
+        final var qname = qname(cursor);
+        final int tag = cursor.readVarint();
+        return switch (tag) {
+            case SnapshotFormat.TYPE_RESTRICTED_BUILTIN -> SnapshotTypes.restrict(stmt, subs,
+                BuiltinEffectiveStatement.forTag(cursor.readVarint()).typeDefinition(), qname);
+            case SnapshotFormat.TYPE_RESTRICTED_TYPEDEF -> SnapshotTypes.restrict(stmt, subs,
+                cast(TypedefEffectiveStatement.class, effective(cursor.readVarint())).typeDefinition(), qname);
+            case SnapshotFormat.TYPE_IDENTITYREF -> SnapshotTypes.specify(tag, stmt, subs, qname,
+                readReferences(cursor, IdentitySchemaNode.class));
+            case SnapshotFormat.TYPE_BITS, SnapshotFormat.TYPE_DECIMAL64, SnapshotFormat.TYPE_ENUMERATION,
+                 SnapshotFormat.TYPE_LEAFREF, SnapshotFormat.TYPE_UNION ->
+                SnapshotTypes.specify(tag, stmt, subs, qname, List.of());
+            default -> throw new IllegalStateException("Unknown type reference " + tag);
+        };
+    }
+
+    private static @Nullable ElementCountMatcher elementCountMatcher(
+            final ImmutableList<? extends EffectiveStatement<?, ?>> subs) {
+        final var min = findArgument(subs, MinElementsEffectiveStatement.class);
+        final var max = findArgument(subs, MaxElementsEffectiveStatement.class);
+        // Mirrors what the parser does: an unbounded max-elements does not constrain min-elements
+        return ElementCountMatcher.ofNullable(min, min != null && max != null && max.matchesAll() ? null : max);
+    }
+
+    private static <A, E extends EffectiveStatement<A, ?>> @Nullable A findArgument(
+            final ImmutableList<? extends EffectiveStatement<?, ?>> subs, final Class<E> type) {
+        for (var stmt : subs) {
+            if (type.isInstance(stmt)) {
+                return type.cast(stmt).argument();
+            }
+        }
+        return null;
+    }
+
+    private <T> @NonNull List<T> readReferences(final Cursor cursor, final Class<T> type) {
+        final int size = cursor.readVarint();
+        final var ret = new ArrayList<T>(size);
+        for (int i = 0; i < size; ++i) {
+            ret.add(cast(type, effective(cursor.readVarint())));
+        }
+        return ret;
+    }
+
+    private @NonNull QualifiedBound readXPath(final Cursor cursor, final String raw) {
+        final var binding = binding(cursor.readVarint());
+        try {
+            return xpathFactory.newParser(binding.toYangNamespaceContext()).parseExpression(raw);
+        } catch (XPathExpressionException e) {
+            throw new IllegalStateException("Failed to parse XPath " + raw, e);
+        }
+    }
+
+    private @NonNull KeyArgument readKey(final Cursor cursor) {
+        final int size = cursor.readVarint();
+        final var qnameList = new ArrayList<QName>(size);
+        for (int i = 0; i < size; ++i) {
+            qnameList.add(qname(cursor));
+        }
+        return KeyArgument.of(qnameList);
+    }
+
+    private @NonNull SchemaNodeIdentifier readIdentifier(final Cursor cursor) {
+        final int tag = cursor.readVarint();
+        final int size = cursor.readVarint();
+        final var qnameList = new ArrayList<QName>(size);
+        for (int i = 0; i < size; ++i) {
+            qnameList.add(qname(cursor));
+        }
+        return switch (tag) {
+            case SnapshotFormat.SNI_ABSOLUTE -> Absolute.of(qnameList);
+            case SnapshotFormat.SNI_DESCENDANT -> Descendant.of(qnameList);
+            default -> throw new IllegalStateException("Unknown schema node identifier " + tag);
+        };
+    }
+
+    private static @NonNull ValueRanges readRanges(final Cursor cursor) {
+        final int size = cursor.readVarint();
+        final var ranges = new ArrayList<ValueRange>(size);
+        for (int i = 0; i < size; ++i) {
+            final var lower = readNumber(cursor);
+            ranges.add(ValueRange.of(lower, readNumber(cursor)));
+        }
+        return ValueRanges.of(ranges);
+    }
+
+    private static @NonNull Number readNumber(final Cursor cursor) {
+        final int tag = cursor.readVarint();
+        return switch (tag) {
+            case SnapshotFormat.NUMBER_MIN -> UnresolvedNumber.min();
+            case SnapshotFormat.NUMBER_MAX -> UnresolvedNumber.max();
+            case SnapshotFormat.NUMBER_LONG -> cursor.readSignedLong();
+            case SnapshotFormat.NUMBER_UINT64 -> Uint64.fromLongBits(cursor.readVarlong()).intern();
+            case SnapshotFormat.NUMBER_DECIMAL64 -> {
+                final int scale = cursor.readVarint();
+                yield Decimal64.of(scale, cursor.readSignedLong());
+            }
+            default -> throw new IllegalStateException("Unknown range boundary " + tag);
+        };
+    }
+
+    private @NonNull PathExpression readPath(final Cursor cursor) {
+        final var originalString = string(cursor);
+        final int tag = cursor.readVarint();
+        return switch (tag) {
+            case SnapshotFormat.PATH_LOCATION_ABSOLUTE ->
+                new PathExpression.LocationPath(originalString, YangLocationPath.absolute(readSteps(cursor)));
+            case SnapshotFormat.PATH_LOCATION_RELATIVE ->
+                new PathExpression.LocationPath(originalString, YangLocationPath.relative(readSteps(cursor)));
+            case SnapshotFormat.PATH_DEREF -> {
+                final Relative derefArgument = YangLocationPath.relative(readSteps(cursor));
+                yield new PathExpression.Deref(originalString, derefArgument,
+                    YangLocationPath.relative(readSteps(cursor)));
+            }
+            default -> throw new IllegalStateException("Unknown path expression " + tag);
+        };
+    }
+
+    private @NonNull List<Step> readSteps(final Cursor cursor) {
+        final int size = cursor.readVarint();
+        final var steps = new ArrayList<Step>(size);
+        for (int i = 0; i < size; ++i) {
+            final int tag = cursor.readVarint();
+            steps.add(switch (tag) {
+                case SnapshotFormat.STEP_PARENT -> YangXPathAxis.PARENT.asStep();
+                case SnapshotFormat.STEP_QNAME -> {
+                    final var qname = qname(cursor);
+                    yield YangXPathAxis.CHILD.asStep(qname, readPredicates(cursor));
+                }
+                case SnapshotFormat.STEP_UNQUALIFIED -> {
+                    final var unqualified = unqualified(cursor);
+                    yield YangXPathAxis.CHILD.asStep(unqualified, readPredicates(cursor));
+                }
+                default -> throw new IllegalStateException("Unknown path step " + tag);
+            });
+        }
+        return steps;
+    }
+
+    private @NonNull List<YangExpr> readPredicates(final Cursor cursor) {
+        final int size = cursor.readVarint();
+        final var predicates = new ArrayList<YangExpr>(size);
+        for (int i = 0; i < size; ++i) {
+            final int leftTag = cursor.readVarint();
+            final YangQNameExpr left = switch (leftTag) {
+                case SnapshotFormat.STEP_QNAME -> YangQNameExpr.of(qname(cursor));
+                case SnapshotFormat.STEP_UNQUALIFIED -> YangQNameExpr.of(unqualified(cursor));
+                default -> throw new IllegalStateException("Unknown predicate key " + leftTag);
+            };
+            final int rightTag = cursor.readVarint();
+            final YangExpr right = switch (rightTag) {
+                case SnapshotFormat.KEY_CURRENT -> CURRENT_CALL;
+                case SnapshotFormat.KEY_PATH ->
+                    YangPathExpr.of(CURRENT_CALL, YangLocationPath.relative(readSteps(cursor)));
+                default -> throw new IllegalStateException("Unknown predicate value " + rightTag);
+            };
+            predicates.add(YangBinaryOperator.EQUALS.exprWith(left, right));
+        }
+        return predicates;
+    }
+
+    private synchronized @NonNull ImmutableNamespaceBinding binding(final int index) {
+        checkIndex(SnapshotFormat.TABLE_BINDING, index);
+        var binding = bindings[index];
+        if (binding == null) {
+            final var cursor = cursor(SnapshotFormat.TABLE_BINDING, index);
+            final var definingModule = qnameModule(cursor.readVarint());
+            final var sourceName = string(cursor);
+            final int size = cursor.readVarint();
+            final var prefixToModule = new HashMap<Unqualified, QNameModule>();
+            for (int i = 0; i < size; ++i) {
+                final var prefix = unqualified(cursor);
+                prefixToModule.put(prefix, qnameModule(cursor.readVarint()));
+            }
+            binding = new ImmutableNamespaceBinding(QName.create(definingModule, sourceName).intern(),
+                prefixToModule);
+            bindings[index] = binding;
+        }
+        return binding;
+    }
+
+    private @NonNull QName qname(final Cursor cursor) {
+        return qname(cursor.readVarint());
+    }
+
+    private synchronized @NonNull QName qname(final int index) {
+        checkIndex(SnapshotFormat.TABLE_QNAME, index);
+        var qname = qnames[index];
+        if (qname == null) {
+            final var cursor = cursor(SnapshotFormat.TABLE_QNAME, index);
+            final var module = qnameModule(cursor.readVarint());
+            qname = QName.create(module, string(cursor)).intern();
+            qnames[index] = qname;
+        }
+        return qname;
+    }
+
+    private synchronized @NonNull QNameModule qnameModule(final int index) {
+        checkIndex(SnapshotFormat.TABLE_MODULE, index);
+        var qnameModule = qnameModules[index];
+        if (qnameModule == null) {
+            final var cursor = cursor(SnapshotFormat.TABLE_MODULE, index);
+            final var namespace = XMLNamespace.of(string(cursor)).intern();
+            final int revision = cursor.readVarint();
+            qnameModule = QNameModule.ofRevision(namespace, revision == 0 ? null : Revision.of(string(revision - 1)))
+                .intern();
+            qnameModules[index] = qnameModule;
+        }
+        return qnameModule;
+    }
+
+    private @NonNull Unqualified unqualified(final Cursor cursor) {
+        return Unqualified.of(string(cursor)).intern();
+    }
+
+    private @NonNull String string(final Cursor cursor) {
+        return string(cursor.readVarint());
+    }
+
+    private synchronized @NonNull String string(final int index) {
+        checkIndex(SnapshotFormat.TABLE_STRING, index);
+        var str = strings[index];
+        if (str == null) {
+            final var cursor = cursor(SnapshotFormat.TABLE_STRING, index);
+            str = new String(cursor.readBytes(cursor.readVarint()), StandardCharsets.UTF_8);
+            strings[index] = str;
+        }
+        return str;
+    }
+
+    private static <E extends Enum<E>> @NonNull E constant(final E[] values, final Cursor cursor) {
+        final int ordinal = cursor.readVarint();
+        if (ordinal < 0 || ordinal >= values.length) {
+            throw new IllegalStateException("Invalid ordinal " + ordinal);
+        }
+        return values[ordinal];
+    }
+
+    private static @NonNull StatementKind kind(final Cursor cursor) {
+        try {
+            return StatementKind.forTag(cursor.readVarint());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    private void checkIndex(final int table, final int index) {
+        if (index < 0 || index >= tableSizes[table]) {
+            throw new IllegalStateException("Invalid index " + index + " into table " + table);
+        }
+    }
+
+    private @NonNull Cursor cursor(final int table, final int index) {
+        return new Cursor(body.getInt(tableOffsets[table] + Integer.BYTES + index * Integer.BYTES));
+    }
+
+    private static <T extends DeclaredStatement<?>> @NonNull T requireDeclared(final Class<T> type,
+            final @Nullable DeclaredStatement<?> stmt) {
+        if (stmt == null) {
+            throw new IllegalStateException("Missing declared " + type.getSimpleName());
+        }
+        return cast(type, stmt);
+    }
+
+    private static <T> @NonNull T cast(final Class<T> type, final Object obj) {
+        if (type.isInstance(obj)) {
+            return type.cast(obj);
+        }
+        throw new IllegalStateException("Expected " + type.getSimpleName() + ", got " + obj);
+    }
+}
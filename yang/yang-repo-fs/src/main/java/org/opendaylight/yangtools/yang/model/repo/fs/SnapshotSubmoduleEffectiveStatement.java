@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.model.repo.fs;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import java.util.Collection;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.yangtools.yang.common.QNameModule;
+import org.opendaylight.yangtools.yang.model.api.Submodule;
+import org.opendaylight.yangtools.yang.model.api.meta.EffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.BelongsToEffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.SubmoduleEffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.SubmoduleStatement;
+
+/**
+ * A {@link SubmoduleEffectiveStatement} restored from a snapshot. Since includes between submodules may be circular,
+ * included submodules are resolved only when they are first accessed.
+ */
+final class SnapshotSubmoduleEffectiveStatement
+        extends AbstractSnapshotModule<@NonNull SubmoduleStatement, SubmoduleEffectiveStatement>
+        implements Submodule, SubmoduleEffectiveStatement {
+    private final @NonNull Supplier<ImmutableSet<Submodule>> submodules;
+
+    SnapshotSubmoduleEffectiveStatement(final @NonNull SubmoduleStatement declared,
+            final ImmutableList<? extends EffectiveStatement<?, ?>> substatements, final QNameModule qnameModule,
+            final Supplier<ImmutableSet<Submodule>> submodules) {
+        super(declared, substatements, findPrefix(substatements.stream()
+            .filter(BelongsToEffectiveStatement.class::isInstance)
+            .findAny()
+            .orElseThrow(() -> new IllegalStateException("Missing belongs-to in " + declared))
+            .effectiveSubstatements()), qnameModule, false);
+        this.submodules = Suppliers.memoize(requireNonNull(submodules));
+    }
+
+    @Override
+    public Collection<? extends @NonNull Submodule> getSubmodules() {
+        return submodules.get();
+    }
+
+    @Override
+    public SubmoduleEffectiveStatement asEffectiveStatement() {
+        return this;
+    }
+
+    @Override
+    public Submodule toDataNodeContainer() {
+        return this;
+    }
+}
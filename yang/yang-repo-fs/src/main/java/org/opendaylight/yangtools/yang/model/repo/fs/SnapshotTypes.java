@@ -0,0 +1,350 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.model.repo.fs;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.collect.ImmutableList;
+import java.util.List;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.Uint32;
+import org.opendaylight.yangtools.yang.model.api.DocumentedNode.WithStatus;
+import org.opendaylight.yangtools.yang.model.api.IdentitySchemaNode;
+import org.opendaylight.yangtools.yang.model.api.TypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.meta.EffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.BitEffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.EnumEffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.FractionDigitsEffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.LengthEffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.PathEffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.PatternEffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.RangeEffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.RequireInstanceEffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.TypeEffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.TypeStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.ValueEffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.type.BinaryTypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.BitsTypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.BitsTypeDefinition.Bit;
+import org.opendaylight.yangtools.yang.model.api.type.BooleanTypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.DecimalTypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.EmptyTypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.EnumTypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.EnumTypeDefinition.EnumPair;
+import org.opendaylight.yangtools.yang.model.api.type.IdentityrefTypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.InstanceIdentifierTypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.Int16TypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.Int32TypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.Int64TypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.Int8TypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.LeafrefTypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.StringTypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.Uint16TypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.Uint32TypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.Uint64TypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.Uint8TypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.UnionTypeDefinition;
+import org.opendaylight.yangtools.yang.model.ri.type.BaseTypes;
+import org.opendaylight.yangtools.yang.model.ri.type.BitBuilder;
+import org.opendaylight.yangtools.yang.model.ri.type.EnumPairBuilder;
+import org.opendaylight.yangtools.yang.model.ri.type.InvalidLengthConstraintException;
+import org.opendaylight.yangtools.yang.model.ri.type.LengthRestrictedTypeBuilder;
+import org.opendaylight.yangtools.yang.model.ri.type.RangeRestrictedTypeBuilder;
+import org.opendaylight.yangtools.yang.model.ri.type.RequireInstanceRestrictedTypeBuilder;
+import org.opendaylight.yangtools.yang.model.ri.type.RestrictedTypes;
+import org.opendaylight.yangtools.yang.model.spi.meta.AbstractDeclaredEffectiveStatement.DefaultArgument.WithSubstatements;
+
+/**
+ * Reconstruction of {@link TypeEffectiveStatement}s for declared {@code type} statements. This follows what the parser
+ * does when it builds these statements, except the base type has already been resolved when the snapshot was written.
+ */
+final class SnapshotTypes {
+    private static final class TypeEffectiveStatementImpl extends WithSubstatements<QName, @NonNull TypeStatement>
+            implements TypeEffectiveStatement {
+        private final @NonNull TypeDefinition<?> typeDefinition;
+
+        TypeEffectiveStatementImpl(final @NonNull TypeStatement declared,
+                final ImmutableList<? extends EffectiveStatement<?, ?>> substatements,
+                final TypeDefinition<?> typeDefinition) {
+            super(declared, substatements);
+            this.typeDefinition = requireNonNull(typeDefinition);
+        }
+
+        @Override
+        public TypeDefinition<?> typeDefinition() {
+            return typeDefinition;
+        }
+    }
+
+    private SnapshotTypes() {
+        // Hidden on purpose
+    }
+
+    /**
+     * Restrict a base type, as the parser does for {@code type} statements referencing a built-in type or a typedef.
+     *
+     * @param declared declared statement
+     * @param substatements effective substatements
+     * @param baseType resolved base type
+     * @param qname effective QName of the type
+     * @return A {@link TypeEffectiveStatement}
+     */
+    static @NonNull TypeEffectiveStatement restrict(final @NonNull TypeStatement declared,
+            final ImmutableList<? extends EffectiveStatement<?, ?>> substatements, final TypeDefinition<?> baseType,
+            final QName qname) {
+        final TypeDefinition<?> type = switch (baseType) {
+            case BinaryTypeDefinition def -> {
+                final var builder = RestrictedTypes.newBinaryBuilder(def, qname);
+                setLength(builder, substatements);
+                yield builder.build();
+            }
+            case BitsTypeDefinition def -> {
+                final var builder = RestrictedTypes.newBitsBuilder(def, qname);
+                for (var stmt : substatements) {
+                    if (stmt instanceof BitEffectiveStatement bit) {
+                        builder.addBit(buildBit(bit, bit.findDeclaredPosition()
+                            .orElseGet(() -> basePosition(def, bit.argument()))));
+                    }
+                }
+                yield builder.build();
+            }
+            case BooleanTypeDefinition def -> RestrictedTypes.newBooleanBuilder(def, qname).build();
+            case DecimalTypeDefinition def -> setRange(RestrictedTypes.newDecima64Builder(def, qname), substatements);
+            case EmptyTypeDefinition def -> RestrictedTypes.newEmptyBuilder(def, qname).build();
+            case EnumTypeDefinition def -> {
+                final var builder = RestrictedTypes.newEnumerationBuilder(def, qname);
+                for (var stmt : substatements) {
+                    if (stmt instanceof EnumEffectiveStatement enumStmt) {
+                        final var name = enumStmt.requireDeclared().rawArgument();
+                        builder.addEnum(buildEnumPair(enumStmt, enumStmt
+                            .findFirstEffectiveSubstatementArgument(ValueEffectiveStatement.class)
+                            .orElseGet(() -> baseValue(def, name))));
+                    }
+                }
+                yield builder.build();
+            }
+            case IdentityrefTypeDefinition def -> RestrictedTypes.newIdentityrefBuilder(def, qname).build();
+            case InstanceIdentifierTypeDefinition def -> {
+                final var builder = RestrictedTypes.newInstanceIdentifierBuilder(def, qname);
+                setRequireInstance(builder, substatements);
+                yield builder.build();
+            }
+            case Int8TypeDefinition def -> setRange(RestrictedTypes.newInt8Builder(def, qname), substatements);
+            case Int16TypeDefinition def -> setRange(RestrictedTypes.newInt16Builder(def, qname), substatements);
+            case Int32TypeDefinition def -> setRange(RestrictedTypes.newInt32Builder(def, qname), substatements);
+            case Int64TypeDefinition def -> setRange(RestrictedTypes.newInt64Builder(def, qname), substatements);
+            case LeafrefTypeDefinition def -> {
+                final var builder = RestrictedTypes.newLeafrefBuilder(def, qname);
+                setRequireInstance(builder, substatements);
+                yield builder.build();
+            }
+            case StringTypeDefinition def -> {
+                final var builder = RestrictedTypes.newStringBuilder(def, qname);
+                setLength(builder, substatements);
+                for (var stmt : substatements) {
+                    if (stmt instanceof PatternEffectiveStatement pattern) {
+                        builder.addPatternConstraint(pattern.asConstraint());
+                    }
+                }
+                yield builder.build();
+            }
+            case Uint8TypeDefinition def -> setRange(RestrictedTypes.newUint8Builder(def, qname), substatements);
+            case Uint16TypeDefinition def -> setRange(RestrictedTypes.newUint16Builder(def, qname), substatements);
+            case Uint32TypeDefinition def -> setRange(RestrictedTypes.newUint32Builder(def, qname), substatements);
+            case Uint64TypeDefinition def -> setRange(RestrictedTypes.newUint64Builder(def, qname), substatements);
+            case UnionTypeDefinition def -> RestrictedTypes.newUnionBuilder(def, qname).build();
+            default -> throw new IllegalStateException("Unhandled base type " + baseType);
+        };
+        return new TypeEffectiveStatementImpl(declared, substatements, type);
+    }
+
+    /**
+     * Create a new type, as the parser does for {@code type} statements specifying a {@code bits},
+     * {@code decimal64}, {@code enumeration}, {@code identityref}, {@code leafref} or {@code union} type.
+     *
+     * @param tag one of {@link SnapshotFormat}'s {@code TYPE_} specification constants
+     * @param declared declared statement
+     * @param substatements effective substatements
+     * @param qname effective QName of the type
+     * @param identities identities referenced by an {@code identityref} type
+     * @return A {@link TypeEffectiveStatement}
+     */
+    static @NonNull TypeEffectiveStatement specify(final int tag, final @NonNull TypeStatement declared,
+            final ImmutableList<? extends EffectiveStatement<?, ?>> substatements, final QName qname,
+            final List<IdentitySchemaNode> identities) {
+        final TypeDefinition<?> type = switch (tag) {
+            case SnapshotFormat.TYPE_BITS -> {
+                final var builder = BaseTypes.bitsTypeBuilder(qname);
+                Uint32 highestPosition = null;
+                for (var stmt : substatements) {
+                    if (stmt instanceof BitEffectiveStatement bitStmt) {
+                        final var declaredPosition = bitStmt.findDeclaredPosition();
+                        final Uint32 effectivePos;
+                        if (declaredPosition.isPresent()) {
+                            effectivePos = declaredPosition.orElseThrow();
+                        } else if (highestPosition != null) {
+                            effectivePos = Uint32.fromIntBits(highestPosition.intValue() + 1);
+                        } else {
+                            effectivePos = Uint32.ZERO;
+                        }
+
+                        final var bit = buildBit(bitStmt, effectivePos);
+                        if (highestPosition == null || highestPosition.compareTo(bit.getPosition()) < 0) {
+                            highestPosition = bit.getPosition();
+                        }
+                        builder.addBit(bit);
+                    }
+                }
+                yield builder.build();
+            }
+            case SnapshotFormat.TYPE_DECIMAL64 -> {
+                final var builder = BaseTypes.decimalTypeBuilder(qname);
+                for (var stmt : substatements) {
+                    switch (stmt) {
+                        case FractionDigitsEffectiveStatement digits -> builder.setFractionDigits(digits.argument());
+                        case RangeEffectiveStatement range ->
+                            builder.setRangeConstraint(range.asConstraint(), range.argument());
+                        default -> {
+                            // No-op
+                        }
+                    }
+                }
+                yield builder.build();
+            }
+            case SnapshotFormat.TYPE_ENUMERATION -> {
+                final var builder = BaseTypes.enumerationTypeBuilder(qname);
+                Integer highestValue = null;
+                for (var stmt : substatements) {
+                    if (stmt instanceof EnumEffectiveStatement enumStmt) {
+                        final var declaredValue =
+                            enumStmt.findFirstEffectiveSubstatementArgument(ValueEffectiveStatement.class);
+                        final int effectiveValue;
+                        if (declaredValue.isPresent()) {
+                            effectiveValue = declaredValue.orElseThrow();
+                        } else if (highestValue != null) {
+                            effectiveValue = highestValue + 1;
+                        } else {
+                            effectiveValue = 0;
+                        }
+
+                        final var pair = buildEnumPair(enumStmt, effectiveValue);
+                        if (highestValue == null || highestValue < pair.getValue()) {
+                            highestValue = pair.getValue();
+                        }
+                        builder.addEnum(pair);
+                    }
+                }
+                yield builder.build();
+            }
+            case SnapshotFormat.TYPE_IDENTITYREF -> {
+                final var builder = BaseTypes.identityrefTypeBuilder(qname);
+                identities.forEach(builder::addIdentity);
+                yield builder.build();
+            }
+            case SnapshotFormat.TYPE_LEAFREF -> {
+                final var builder = BaseTypes.leafrefTypeBuilder(qname);
+                for (var stmt : substatements) {
+                    switch (stmt) {
+                        case PathEffectiveStatement path -> builder.setPathStatement(path.argument());
+                        case RequireInstanceEffectiveStatement require -> builder.setRequireInstance(require.argument());
+                        default -> {
+                            // No-op
+                        }
+                    }
+                }
+                yield builder.build();
+            }
+            case SnapshotFormat.TYPE_UNION -> {
+                final var builder = BaseTypes.unionTypeBuilder(qname);
+                for (var stmt : substatements) {
+                    if (stmt instanceof TypeEffectiveStatement typeStmt) {
+                        builder.addType(typeStmt.typeDefinition());
+                    }
+                }
+                yield builder.build();
+            }
+            default -> throw new IllegalStateException("Unknown type specification " + tag);
+        };
+        return new TypeEffectiveStatementImpl(declared, substatements, type);
+    }
+
+    private static void setLength(final LengthRestrictedTypeBuilder<?> builder,
+            final ImmutableList<? extends EffectiveStatement<?, ?>> substatements) {
+        for (var stmt : substatements) {
+            if (stmt instanceof LengthEffectiveStatement length) {
+                try {
+                    builder.setLengthConstraint(length.asConstraint(), length.argument());
+                } catch (InvalidLengthConstraintException e) {
+                    throw new IllegalStateException("Invalid length constraint " + length.argument(), e);
+                }
+            }
+        }
+    }
+
+    private static TypeDefinition<?> setRange(final RangeRestrictedTypeBuilder<?, ?> builder,
+            final ImmutableList<? extends EffectiveStatement<?, ?>> substatements) {
+        for (var stmt : substatements) {
+            if (stmt instanceof RangeEffectiveStatement range) {
+                builder.setRangeConstraint(range.asConstraint(), range.argument());
+            }
+        }
+        return builder.build();
+    }
+
+    private static void setRequireInstance(final RequireInstanceRestrictedTypeBuilder<?> builder,
+            final ImmutableList<? extends EffectiveStatement<?, ?>> substatements) {
+        for (var stmt : substatements) {
+            if (stmt instanceof RequireInstanceEffectiveStatement require) {
+                builder.setRequireInstance(require.argument());
+            }
+        }
+    }
+
+    private static @NonNull Bit buildBit(final BitEffectiveStatement stmt, final Uint32 position) {
+        final var bit = withStatus(stmt);
+        final var builder = BitBuilder.create(stmt.argument(), position).setStatus(bit.getStatus());
+        bit.getDescription().ifPresent(builder::setDescription);
+        bit.getReference().ifPresent(builder::setReference);
+        return builder.build();
+    }
+
+    private static @NonNull EnumPair buildEnumPair(final EnumEffectiveStatement stmt, final int value) {
+        final var node = withStatus(stmt);
+        final var builder = EnumPairBuilder.create(stmt.requireDeclared().rawArgument(), value)
+            .setStatus(node.getStatus());
+        node.getDescription().ifPresent(builder::setDescription);
+        node.getReference().ifPresent(builder::setReference);
+        return builder.build();
+    }
+
+    private static Uint32 basePosition(final BitsTypeDefinition baseType, final String name) {
+        for (var bit : baseType.getBits()) {
+            if (name.equals(bit.getName())) {
+                return bit.getPosition();
+            }
+        }
+        throw new IllegalStateException("Bit " + name + " is not present in base type " + baseType.getQName());
+    }
+
+    private static int baseValue(final EnumTypeDefinition baseType, final String name) {
+        for (var pair : baseType.getValues()) {
+            if (name.equals(pair.getName())) {
+                return pair.getValue();
+            }
+        }
+        throw new IllegalStateException("Enum " + name + " is not present in base type " + baseType.getQName());
+    }
+
+    private static @NonNull WithStatus withStatus(final EffectiveStatement<?, ?> stmt) {
+        if (stmt instanceof WithStatus withStatus) {
+            return withStatus;
+        }
+        throw new IllegalStateException("Unexpected statement " + stmt);
+    }
+}
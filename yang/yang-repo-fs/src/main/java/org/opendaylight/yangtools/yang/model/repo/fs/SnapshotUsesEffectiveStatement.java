@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.model.repo.fs;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.collect.ImmutableList;
+import java.util.Collection;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.model.api.AugmentationSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.GroupingDefinition;
+import org.opendaylight.yangtools.yang.model.api.UsesNode;
+import org.opendaylight.yangtools.yang.model.api.meta.EffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.UsesEffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.UsesStatement;
+import org.opendaylight.yangtools.yang.model.spi.meta.AbstractDeclaredEffectiveStatement.DefaultWithArgument;
+import org.opendaylight.yangtools.yang.model.spi.meta.EffectiveStatementMixins.CopyableMixin;
+import org.opendaylight.yangtools.yang.model.spi.meta.EffectiveStatementMixins.WithStatusMixin;
+
+/**
+ * A {@link UsesEffectiveStatement} restored from a snapshot. Unlike the parser, which has a number of specializations
+ * to minimize footprint, we always keep the argument and substatements.
+ */
+final class SnapshotUsesEffectiveStatement
+        extends DefaultWithArgument.WithSubstatements<QName, @NonNull UsesStatement>
+        implements UsesEffectiveStatement, UsesNode, CopyableMixin<QName, @NonNull UsesStatement>,
+                   WithStatusMixin<QName, @NonNull UsesStatement> {
+    private final @NonNull GroupingDefinition sourceGrouping;
+    private final int flags;
+
+    SnapshotUsesEffectiveStatement(final @NonNull UsesStatement declared, final QName argument,
+            final GroupingDefinition sourceGrouping, final int flags,
+            final ImmutableList<? extends EffectiveStatement<?, ?>> substatements) {
+        super(declared, argument, substatements);
+        this.sourceGrouping = requireNonNull(sourceGrouping);
+        this.flags = flags;
+    }
+
+    @Override
+    public GroupingDefinition getSourceGrouping() {
+        return sourceGrouping;
+    }
+
+    @Override
+    public int flags() {
+        return flags;
+    }
+
+    @Override
+    public UsesEffectiveStatement asEffectiveStatement() {
+        return this;
+    }
+
+    @Override
+    public Collection<? extends AugmentationSchemaNode> getAugmentations() {
+        return filterEffectiveStatements(AugmentationSchemaNode.class);
+    }
+}
@@ -0,0 +1,793 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.model.repo.fs;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.zip.CRC32C;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.yang.common.Decimal64;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.QNameModule;
+import org.opendaylight.yangtools.yang.common.Revision;
+import org.opendaylight.yangtools.yang.common.Uint32;
+import org.opendaylight.yangtools.yang.common.Uint64;
+import org.opendaylight.yangtools.yang.common.UnresolvedQName.Unqualified;
+import org.opendaylight.yangtools.yang.common.XMLNamespace;
+import org.opendaylight.yangtools.yang.model.api.ChoiceSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.api.IdentitySchemaNode;
+import org.opendaylight.yangtools.yang.model.api.PathExpression;
+import org.opendaylight.yangtools.yang.model.api.Submodule;
+import org.opendaylight.yangtools.yang.model.api.TypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.UsesNode;
+import org.opendaylight.yangtools.yang.model.api.meta.DeclaredStatement;
+import org.opendaylight.yangtools.yang.model.api.meta.EffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.meta.UnrecognizedStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.AugmentEffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.BelongsToEffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.ConfigEffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.ImportEffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.KeyArgument;
+import org.opendaylight.yangtools.yang.model.api.stmt.KeyEffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.ModuleEffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.PatternExpression;
+import org.opendaylight.yangtools.yang.model.api.stmt.PrefixEffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.RequireInstanceEffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.SchemaNodeIdentifier;
+import org.opendaylight.yangtools.yang.model.api.stmt.SubmoduleEffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.TypeEffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.TypedefEffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.UniqueArgument;
+import org.opendaylight.yangtools.yang.model.api.stmt.UnresolvedNumber;
+import org.opendaylight.yangtools.yang.model.api.stmt.ValueRanges;
+import org.opendaylight.yangtools.yang.model.api.type.BitsTypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.DecimalTypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.EnumTypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.IdentityrefTypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.LeafrefTypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.UnionTypeDefinition;
+import org.opendaylight.yangtools.yang.model.spi.meta.EffectiveStatementMixins.EffectiveStatementWithFlags;
+import org.opendaylight.yangtools.yang.xpath.api.YangBinaryExpr;
+import org.opendaylight.yangtools.yang.xpath.api.YangBinaryOperator;
+import org.opendaylight.yangtools.yang.xpath.api.YangExpr;
+import org.opendaylight.yangtools.yang.xpath.api.YangFunction;
+import org.opendaylight.yangtools.yang.xpath.api.YangFunctionCallExpr;
+import org.opendaylight.yangtools.yang.xpath.api.YangLocationPath;
+import org.opendaylight.yangtools.yang.xpath.api.YangLocationPath.ResolvedQNameStep;
+import org.opendaylight.yangtools.yang.xpath.api.YangLocationPath.Step;
+import org.opendaylight.yangtools.yang.xpath.api.YangLocationPath.UnresolvedQNameStep;
+import org.opendaylight.yangtools.yang.xpath.api.YangPathExpr;
+import org.opendaylight.yangtools.yang.xpath.api.YangQNameExpr;
+import org.opendaylight.yangtools.yang.xpath.api.YangXPathAxis;
+
+/**
+ * Encoder of the model part of a {@link FilesystemModelSnapshot}, as described in {@link SnapshotFormat}. Statements
+ * which cannot be faithfully restored by {@link SnapshotReader}, such as those defined by parser extensions, are
+ * rejected with an {@link IllegalArgumentException}.
+ */
+final class SnapshotWriter {
+    /**
+     * A single record, encoded using variable-length integers.
+     */
+    private static final class Record extends ByteArrayOutputStream {
+        void writeVarint(final int value) {
+            int remaining = value;
+            while ((remaining & ~0x7F) != 0) {
+                write(remaining & 0x7F | 0x80);
+                remaining >>>= 7;
+            }
+            write(remaining);
+        }
+
+        void writeSigned(final int value) {
+            writeVarint(value << 1 ^ value >> 31);
+        }
+
+        void writeVarlong(final long value) {
+            long remaining = value;
+            while ((remaining & ~0x7FL) != 0) {
+                write((int) (remaining & 0x7F | 0x80));
+                remaining >>>= 7;
+            }
+            write((int) remaining);
+        }
+
+        void writeSignedLong(final long value) {
+            writeVarlong(value << 1 ^ value >> 63);
+        }
+
+        void writeBoolean(final boolean value) {
+            write(value ? 1 : 0);
+        }
+
+        void copyTo(final ByteArrayOutputStream out) {
+            out.write(buf, 0, count);
+        }
+    }
+
+    /**
+     * A table of records, addressed by their index.
+     */
+    private static final class Table {
+        private final ByteArrayOutputStream records = new ByteArrayOutputStream();
+        private int[] offsets = new int[64];
+        private int count;
+
+        int add(final Record record) {
+            if (count == offsets.length) {
+                offsets = Arrays.copyOf(offsets, count * 2);
+            }
+            offsets[count] = records.size();
+            record.copyTo(records);
+            return count++;
+        }
+
+        int size() {
+            return Integer.BYTES + count * Integer.BYTES + records.size();
+        }
+
+        void writeTo(final DataOutputStream out, final int tableOffset) throws IOException {
+            final int recordsOffset = tableOffset + Integer.BYTES + count * Integer.BYTES;
+            out.writeInt(count);
+            for (int i = 0; i < count; ++i) {
+                out.writeInt(recordsOffset + offsets[i]);
+            }
+            records.writeTo(out);
+        }
+    }
+
+    private static final YangFunctionCallExpr CURRENT_CALL =
+        YangFunctionCallExpr.of(YangFunction.CURRENT.getIdentifier());
+
+    private final Table[] tables = new Table[SnapshotFormat.TABLE_COUNT];
+    private final HashMap<String, Integer> strings = new HashMap<>();
+    private final HashMap<QName, Integer> qnames = new HashMap<>();
+    private final HashMap<QNameModule, Integer> qnameModules = new HashMap<>();
+    private final IdentityHashMap<DeclaredStatement<?>, Integer> declaredIds = new IdentityHashMap<>();
+    private final IdentityHashMap<EffectiveStatement<?, ?>, Integer> effectiveIds = new IdentityHashMap<>();
+    private final ArrayList<EffectiveStatement<?, ?>> effectiveQueue = new ArrayList<>();
+    private final IdentityHashMap<ModuleEffectiveStatement, Integer> rootIds = new IdentityHashMap<>();
+    private final IdentityHashMap<TypeDefinition<?>, TypedefEffectiveStatement> typedefs = new IdentityHashMap<>();
+    private final IdentityHashMap<EffectiveStatement<?, ?>, Boolean> visited = new IdentityHashMap<>();
+
+    private SnapshotWriter() {
+        Arrays.setAll(tables, i -> new Table());
+    }
+
+    /**
+     * Write the model part of a snapshot.
+     *
+     * @param out output
+     * @param context model to write
+     * @throws IOException if an I/O error occurs
+     * @throws IllegalArgumentException if the model contains statements which cannot be stored
+     */
+    static void write(final DataOutput out, final EffectiveModelContext context) throws IOException {
+        final var body = new SnapshotWriter().encode(context);
+        final var crc = new CRC32C();
+        crc.update(body);
+
+        out.writeInt(body.length);
+        out.writeInt((int) crc.getValue());
+        out.write(body);
+    }
+
+    private byte[] encode(final EffectiveModelContext context) throws IOException {
+        final var modules = context.getModuleStatements().values().stream()
+            .sorted(Comparator.comparing((ModuleEffectiveStatement module) -> module.argument().getLocalName())
+                .thenComparing(module -> module.localQNameModule().revision(),
+                    Comparator.nullsLast(Comparator.<Revision>reverseOrder())))
+            .toList();
+        for (int i = 0; i < modules.size(); ++i) {
+            rootIds.put(modules.get(i), i);
+        }
+
+        // Typedefs need to be known up front, as type statements refer to them through their TypeDefinition
+        final var submodules = new LinkedHashMap<SubmoduleEffectiveStatement, ModuleEffectiveStatement>();
+        for (var module : modules) {
+            collectTypedefs(module);
+            final var queue = new ArrayDeque<SubmoduleEffectiveStatement>(module.submodules());
+            while (!queue.isEmpty()) {
+                final var submodule = queue.remove();
+                if (submodules.putIfAbsent(submodule, module) == null) {
+                    collectTypedefs(submodule);
+                    for (var included : submodule.toDataNodeContainer().getSubmodules()) {
+                        queue.add(included.asEffectiveStatement());
+                    }
+                }
+            }
+        }
+
+        // Declared statements of each source, bound to that source's prefixes
+        for (var module : modules) {
+            final var qnameModule = module.localQNameModule();
+            final int binding = binding(module.argument(), qnameModule,
+                prefix(module.findFirstEffectiveSubstatementArgument(PrefixEffectiveStatement.class).orElse(null)),
+                module);
+            declared(module.requireDeclared(), binding);
+
+            final var root = new Record();
+            root.writeVarint(qnameModule(qnameModule));
+            root.writeVarint(string(module.argument().getLocalName()));
+            root.writeVarint(effectiveId(module));
+            tables[SnapshotFormat.TABLE_ROOT].add(root);
+        }
+        for (var entry : submodules.entrySet()) {
+            final var submodule = entry.getKey();
+            final int binding = binding(submodule.argument(), entry.getValue().localQNameModule(),
+                prefix(submodule.findFirstEffectiveSubstatement(BelongsToEffectiveStatement.class)
+                    .flatMap(belongsTo -> belongsTo.findFirstEffectiveSubstatementArgument(
+                        PrefixEffectiveStatement.class))
+                    .orElse(null)),
+                submodule);
+            declared(submodule.requireDeclared(), binding);
+        }
+
+        // Effective statements, including any statements they refer to
+        for (int i = 0; i < effectiveQueue.size(); ++i) {
+            tables[SnapshotFormat.TABLE_EFFECTIVE].add(effective(effectiveQueue.get(i)));
+        }
+
+        final var bytes = new ByteArrayOutputStream();
+        try (var dos = new DataOutputStream(bytes)) {
+            int offset = SnapshotFormat.TABLE_COUNT * Integer.BYTES;
+            final var offsets = new int[SnapshotFormat.TABLE_COUNT];
+            for (int i = 0; i < SnapshotFormat.TABLE_COUNT; ++i) {
+                offsets[i] = offset;
+                offset = Math.addExact(offset, tables[i].size());
+            }
+            for (int tableOffset : offsets) {
+                dos.writeInt(tableOffset);
+            }
+            for (int i = 0; i < SnapshotFormat.TABLE_COUNT; ++i) {
+                tables[i].writeTo(dos, offsets[i]);
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private void collectTypedefs(final EffectiveStatement<?, ?> stmt) {
+        // Substatements are routinely shared between copies of a statement, visit them only once
+        if (visited.put(stmt, Boolean.TRUE) == null) {
+            for (var child : stmt.effectiveSubstatements()) {
+                if (child instanceof TypedefEffectiveStatement typedef) {
+                    typedefs.putIfAbsent(typedef.typeDefinition(), typedef);
+                }
+                collectTypedefs(child);
+            }
+        }
+    }
+
+    private static @NonNull String prefix(final @Nullable String prefix) {
+        if (prefix == null) {
+            throw new IllegalArgumentException("Missing prefix");
+        }
+        return prefix;
+    }
+
+    private int binding(final Unqualified sourceName, final QNameModule definingModule, final String prefix,
+            final EffectiveStatement<?, ?> source) {
+        final var prefixToModule = new LinkedHashMap<String, QNameModule>();
+        for (var stmt : source.effectiveSubstatements()) {
+            if (stmt instanceof ImportEffectiveStatement imp) {
+                prefixToModule.put(imp.prefixArgument(), imp.importedModule().localQNameModule());
+            }
+        }
+        prefixToModule.put(prefix, definingModule);
+
+        final var out = new Record();
+        out.writeVarint(qnameModule(definingModule));
+        out.writeVarint(string(sourceName.getLocalName()));
+        out.writeVarint(prefixToModule.size());
+        for (var entry : prefixToModule.entrySet()) {
+            out.writeVarint(string(entry.getKey()));
+            out.writeVarint(qnameModule(entry.getValue()));
+        }
+        return tables[SnapshotFormat.TABLE_BINDING].add(out);
+    }
+
+    private int declared(final DeclaredStatement<?> stmt, final int binding) {
+        final var existing = declaredIds.get(stmt);
+        if (existing != null) {
+            return existing;
+        }
+
+        final var substatements = stmt.declaredSubstatements();
+        final var childIds = new int[substatements.size()];
+        for (int i = 0; i < childIds.length; ++i) {
+            childIds[i] = declared(substatements.get(i), binding);
+        }
+
+        final var out = new Record();
+        final var kind = StatementKind.forDefinition(stmt.statementDefinition());
+        if (kind == null && !(stmt instanceof UnrecognizedStatement)) {
+            throw new IllegalArgumentException("Unsupported declared statement " + stmt);
+        }
+        out.writeVarint((kind != null ? kind : StatementKind.UNRECOGNIZED).ordinal());
+        out.writeVarint(childIds.length);
+        for (int childId : childIds) {
+            out.writeVarint(childId);
+        }
+
+        if (kind != null) {
+            writeDeclared(out, kind, stmt, binding);
+        } else {
+            final var unrecognized = (UnrecognizedStatement) stmt;
+            final var definition = unrecognized.statementDefinition();
+            out.writeVarint(qname(definition.statementName()));
+            final var argument = definition.argumentDefinition();
+            if (argument != null) {
+                out.writeVarint(qname(argument.argumentName()) + 1);
+                out.writeBoolean(argument.yinElement());
+            } else {
+                out.writeVarint(0);
+            }
+            final var raw = unrecognized.rawArgument();
+            out.writeVarint(raw == null ? 0 : string(raw) + 1);
+        }
+
+        final int id = tables[SnapshotFormat.TABLE_DECLARED].add(out);
+        declaredIds.put(stmt, id);
+        return id;
+    }
+
+    private void writeDeclared(final Record out, final StatementKind kind, final DeclaredStatement<?> stmt,
+            final int binding) {
+        final var argument = stmt.argument();
+        switch (kind) {
+            case ACTION, ANYDATA, ANYXML, ARGUMENT, BASE, CASE, CHOICE, CONTAINER, EXTENSION, FEATURE, GROUPING,
+                 IDENTITY, INPUT, LEAF, LEAF_LIST, LIST, NOTIFICATION, OUTPUT, RPC, TYPEDEF ->
+                out.writeVarint(qname(cast(QName.class, argument)));
+            case BELONGS_TO, IMPORT, INCLUDE ->
+                out.writeVarint(string(cast(Unqualified.class, argument).getLocalName()));
+            case BIT, CONTACT, DEFAULT, DESCRIPTION, ERROR_APP_TAG, ERROR_MESSAGE, ORGANIZATION, PREFIX, PRESENCE,
+                 REFERENCE, UNITS ->
+                out.writeVarint(string(cast(String.class, argument)));
+            case CONFIG, MANDATORY, REQUIRE_INSTANCE, YIN_ELEMENT ->
+                out.writeBoolean(cast(Boolean.class, argument));
+            case DEVIATE, MODIFIER, ORDERED_BY, STATUS, YANG_VERSION ->
+                out.writeVarint(cast(Enum.class, argument).ordinal());
+            case FRACTION_DIGITS, VALUE ->
+                out.writeSigned(cast(Integer.class, argument));
+            case POSITION ->
+                out.writeVarlong(cast(Uint32.class, argument).longValue());
+            case NAMESPACE ->
+                out.writeVarint(string(cast(XMLNamespace.class, argument).toString()));
+            case REVISION, REVISION_DATE ->
+                out.writeVarint(string(cast(Revision.class, argument).toString()));
+            case MIN_ELEMENTS ->
+                out.writeVarint(string(argument.toString()));
+            case PATTERN -> {
+                final var pattern = cast(PatternExpression.class, argument);
+                out.writeVarint(string(pattern.getRegularExpressionString()));
+                out.writeVarint(string(pattern.getJavaPatternString()));
+            }
+            case PATH ->
+                writePath(out, cast(PathExpression.class, argument));
+            default -> {
+                // All the remaining statements retain their raw argument
+                out.writeVarint(string(rawArgument(stmt)));
+                switch (kind) {
+                    case AUGMENT, DEVIATION, REFINE ->
+                        writeIdentifier(out, cast(SchemaNodeIdentifier.class, argument));
+                    case ENUM, MAX_ELEMENTS ->
+                        out.writeVarint(string(argument.toString()));
+                    case IF_FEATURE, MUST, WHEN ->
+                        out.writeVarint(binding);
+                    case KEY -> {
+                        final var key = cast(KeyArgument.class, argument);
+                        out.writeVarint(key.size());
+                        for (var qname : key) {
+                            out.writeVarint(qname(qname));
+                        }
+                    }
+                    case LENGTH, RANGE ->
+                        writeRanges(out, cast(ValueRanges.class, argument));
+                    case MODULE, SUBMODULE ->
+                        out.writeVarint(string(cast(Unqualified.class, argument).getLocalName()));
+                    case TYPE, USES ->
+                        out.writeVarint(qname(cast(QName.class, argument)));
+                    case UNIQUE -> {
+                        final var unique = cast(UniqueArgument.class, argument).asList();
+                        out.writeVarint(unique.size());
+                        for (var descendant : unique) {
+                            writeIdentifier(out, descendant);
+                        }
+                    }
+                    default -> throw new IllegalArgumentException("Unsupported declared statement " + stmt);
+                }
+            }
+        }
+    }
+
+    private int effectiveId(final EffectiveStatement<?, ?> stmt) {
+        final var existing = effectiveIds.get(stmt);
+        if (existing != null) {
+            return existing;
+        }
+        final int id = effectiveQueue.size();
+        effectiveQueue.add(stmt);
+        effectiveIds.put(stmt, id);
+        return id;
+    }
+
+    private int reference(final Object node) {
+        if (node instanceof EffectiveStatement<?, ?> stmt) {
+            return effectiveId(stmt);
+        }
+        throw new IllegalArgumentException("Unsupported reference to " + node);
+    }
+
+    private Record effective(final EffectiveStatement<?, ?> stmt) {
+        final var kind = StatementKind.forDefinition(stmt.statementDefinition());
+        if (kind == null) {
+            throw new IllegalArgumentException("Unsupported effective statement " + stmt);
+        }
+
+        final var out = new Record();
+        out.writeVarint(kind.ordinal());
+
+        final var declared = stmt.declared();
+        if (declared != null) {
+            final var declaredId = declaredIds.get(declared);
+            if (declaredId == null) {
+                throw new IllegalArgumentException("Effective statement " + stmt + " refers to unknown declared "
+                    + declared);
+            }
+            out.writeVarint(declaredId + 1);
+        } else {
+            out.writeVarint(0);
+        }
+
+        final var substatements = stmt.effectiveSubstatements();
+        out.writeVarint(substatements.size());
+        for (var child : substatements) {
+            out.writeVarint(effectiveId(child));
+        }
+
+        switch (kind) {
+            case ACTION, ANYDATA, ANYXML, CASE, CONTAINER, GROUPING, INPUT, LEAF, LEAF_LIST, LIST, NOTIFICATION,
+                 OUTPUT, RPC -> {
+                out.writeVarint(qname(cast(QName.class, stmt.argument())));
+                out.writeVarint(flags(stmt));
+            }
+            case AUGMENT -> {
+                writeIdentifier(out, ((AugmentEffectiveStatement) stmt).argument());
+                out.writeVarint(flags(stmt));
+            }
+            case CHOICE -> {
+                out.writeVarint(qname(cast(QName.class, stmt.argument())));
+                out.writeVarint(flags(stmt));
+                final var defaultCase = cast(ChoiceSchemaNode.class, stmt).getDefaultCase();
+                out.writeVarint(defaultCase.isPresent() ? reference(defaultCase.orElseThrow()) + 1 : 0);
+            }
+            case CONFIG ->
+                out.writeBoolean(((ConfigEffectiveStatement) stmt).argument());
+            case REQUIRE_INSTANCE ->
+                out.writeBoolean(((RequireInstanceEffectiveStatement) stmt).argument());
+            case FEATURE, TYPEDEF ->
+                out.writeVarint(flags(stmt));
+            case IDENTITY -> {
+                out.writeVarint(stmt.effectiveSubstatements().isEmpty() ? 0 : flags(stmt));
+                final var bases = cast(IdentitySchemaNode.class, stmt).getBaseIdentities();
+                out.writeVarint(bases.size());
+                for (var base : bases) {
+                    out.writeVarint(reference(base));
+                }
+            }
+            case IMPORT -> {
+                final var imported = ((ImportEffectiveStatement) stmt).importedModule();
+                final var rootId = rootIds.get(imported);
+                if (rootId == null) {
+                    throw new IllegalArgumentException("Imported module " + imported + " is not part of the model");
+                }
+                out.writeVarint(rootId);
+            }
+            case KEY -> {
+                final var key = ((KeyEffectiveStatement) stmt).argument();
+                out.writeVarint(key.size());
+                for (var qname : key) {
+                    out.writeVarint(qname(qname));
+                }
+            }
+            case MODULE -> {
+                final var module = (ModuleEffectiveStatement) stmt;
+                out.writeVarint(qnameModule(module.localQNameModule()));
+                writeReferences(out, module.submodules());
+            }
+            case SUBMODULE -> {
+                final var submodule = ((SubmoduleEffectiveStatement) stmt).toDataNodeContainer();
+                out.writeVarint(qnameModule(submodule.getQNameModule()));
+                writeReferences(out, submodule.getSubmodules().stream().map(Submodule::asEffectiveStatement).toList());
+            }
+            case TYPE ->
+                writeType(out, (TypeEffectiveStatement) stmt);
+            case USES -> {
+                out.writeVarint(qname(cast(QName.class, stmt.argument())));
+                out.writeVarint(flags(stmt));
+                out.writeVarint(reference(cast(UsesNode.class, stmt).getSourceGrouping()));
+            }
+            default -> {
+                if (declared == null) {
+                    throw new IllegalArgumentException("Unsupported undeclared statement " + stmt);
+                }
+            }
+        }
+        return out;
+    }
+
+    private void writeReferences(final Record out, final Collection<?> nodes) {
+        out.writeVarint(nodes.size());
+        for (var node : nodes) {
+            out.writeVarint(reference(node));
+        }
+    }
+
+    private void writeType(final Record out, final TypeEffectiveStatement stmt) {
+        final var def = stmt.typeDefinition();
+        if (stmt.declared() == null) {
+            final var builtin = BuiltinEffectiveStatement.forTypeDefinition(def);
+            if (builtin != null) {
+                out.writeVarint(SnapshotFormat.TYPE_BUILTIN);
+                out.writeVarint(builtin.ordinal());
+            } else {
+                out.writeVarint(SnapshotFormat.TYPE_TYPEDEF);
+                out.writeVarint(effectiveId(typedef(def)));
+            }
+            return;
+        }
+
+        out.writeVarint(qname(def.getQName()));
+        if (writeBase(out, def)) {
+            return;
+        }
+
+        final var baseType = def.getBaseType();
+        if (baseType != null) {
+            if (!writeBase(out, baseType)) {
+                throw new IllegalArgumentException("Unsupported base type " + baseType + " of " + stmt);
+            }
+            return;
+        }
+
+        switch (def) {
+            case BitsTypeDefinition bits -> out.writeVarint(SnapshotFormat.TYPE_BITS);
+            case DecimalTypeDefinition decimal -> out.writeVarint(SnapshotFormat.TYPE_DECIMAL64);
+            case EnumTypeDefinition enumeration -> out.writeVarint(SnapshotFormat.TYPE_ENUMERATION);
+            case IdentityrefTypeDefinition identityref -> {
+                out.writeVarint(SnapshotFormat.TYPE_IDENTITYREF);
+                writeReferences(out, identityref.getIdentities());
+            }
+            case LeafrefTypeDefinition leafref -> out.writeVarint(SnapshotFormat.TYPE_LEAFREF);
+            case UnionTypeDefinition union -> out.writeVarint(SnapshotFormat.TYPE_UNION);
+            default -> throw new IllegalArgumentException("Unsupported type " + def + " of " + stmt);
+        }
+    }
+
+    private boolean writeBase(final Record out, final TypeDefinition<?> type) {
+        final var builtin = BuiltinEffectiveStatement.forTypeDefinition(type);
+        if (builtin != null) {
+            out.writeVarint(SnapshotFormat.TYPE_RESTRICTED_BUILTIN);
+            out.writeVarint(builtin.ordinal());
+            return true;
+        }
+        final var typedef = typedefs.get(type);
+        if (typedef != null) {
+            out.writeVarint(SnapshotFormat.TYPE_RESTRICTED_TYPEDEF);
+            out.writeVarint(effectiveId(typedef));
+            return true;
+        }
+        return false;
+    }
+
+    private @NonNull TypedefEffectiveStatement typedef(final TypeDefinition<?> type) {
+        final var typedef = typedefs.get(type);
+        if (typedef == null) {
+            throw new IllegalArgumentException("Unsupported type " + type);
+        }
+        return typedef;
+    }
+
+    private void writeIdentifier(final Record out, final SchemaNodeIdentifier identifier) {
+        out.writeVarint(switch (identifier) {
+            case SchemaNodeIdentifier.Absolute absolute -> SnapshotFormat.SNI_ABSOLUTE;
+            case SchemaNodeIdentifier.Descendant descendant -> SnapshotFormat.SNI_DESCENDANT;
+        });
+        final var qnames = identifier.getNodeIdentifiers();
+        out.writeVarint(qnames.size());
+        for (var qname : qnames) {
+            out.writeVarint(qname(qname));
+        }
+    }
+
+    private static void writeRanges(final Record out, final ValueRanges ranges) {
+        final var list = ranges.asList();
+        out.writeVarint(list.size());
+        for (var range : list) {
+            writeNumber(out, range.lowerBound());
+            writeNumber(out, range.upperBound());
+        }
+    }
+
+    private static void writeNumber(final Record out, final Number number) {
+        if (number == UnresolvedNumber.min()) {
+            out.writeVarint(SnapshotFormat.NUMBER_MIN);
+        } else if (number == UnresolvedNumber.max()) {
+            out.writeVarint(SnapshotFormat.NUMBER_MAX);
+        } else {
+            switch (number) {
+                case Long value -> {
+                    out.writeVarint(SnapshotFormat.NUMBER_LONG);
+                    out.writeSignedLong(value);
+                }
+                case Uint64 value -> {
+                    out.writeVarint(SnapshotFormat.NUMBER_UINT64);
+                    out.writeVarlong(value.longValue());
+                }
+                case Decimal64 value -> {
+                    out.writeVarint(SnapshotFormat.NUMBER_DECIMAL64);
+                    out.writeVarint(value.scale());
+                    out.writeSignedLong(value.unscaledValue());
+                }
+                default -> throw new IllegalArgumentException("Unsupported range boundary " + number);
+            }
+        }
+    }
+
+    private void writePath(final Record out, final PathExpression path) {
+        out.writeVarint(string(path.originalString()));
+        switch (path) {
+            case PathExpression.LocationPath location -> {
+                final var locationPath = location.locationPath();
+                out.writeVarint(locationPath.isAbsolute() ? SnapshotFormat.PATH_LOCATION_ABSOLUTE
+                    : SnapshotFormat.PATH_LOCATION_RELATIVE);
+                writeSteps(out, locationPath);
+            }
+            case PathExpression.Deref deref -> {
+                out.writeVarint(SnapshotFormat.PATH_DEREF);
+                writeSteps(out, deref.derefArgument());
+                writeSteps(out, deref.relativePath());
+            }
+        }
+    }
+
+    private void writeSteps(final Record out, final YangLocationPath path) {
+        final List<Step> steps = path.getSteps();
+        out.writeVarint(steps.size());
+        for (var step : steps) {
+            switch (step) {
+                case ResolvedQNameStep qnameStep when qnameStep.getAxis() == YangXPathAxis.CHILD -> {
+                    out.writeVarint(SnapshotFormat.STEP_QNAME);
+                    out.writeVarint(qname(qnameStep.getQName()));
+                    writePredicates(out, qnameStep.getPredicates());
+                }
+                case UnresolvedQNameStep qnameStep when qnameStep.getAxis() == YangXPathAxis.CHILD
+                        && qnameStep.getQName() instanceof Unqualified unqualified -> {
+                    out.writeVarint(SnapshotFormat.STEP_UNQUALIFIED);
+                    out.writeVarint(string(unqualified.getLocalName()));
+                    writePredicates(out, qnameStep.getPredicates());
+                }
+                default -> {
+                    if (!step.equals(YangXPathAxis.PARENT.asStep())) {
+                        throw new IllegalArgumentException("Unsupported step " + step + " in " + path);
+                    }
+                    out.writeVarint(SnapshotFormat.STEP_PARENT);
+                }
+            }
+        }
+    }
+
+    private void writePredicates(final Record out, final Collection<YangExpr> predicates) {
+        out.writeVarint(predicates.size());
+        for (var predicate : predicates) {
+            if (!(predicate instanceof YangBinaryExpr binary) || binary.getOperator() != YangBinaryOperator.EQUALS
+                || !(binary.getLeftExpr() instanceof YangQNameExpr left)) {
+                throw new IllegalArgumentException("Unsupported predicate " + predicate);
+            }
+
+            switch (left) {
+                case YangQNameExpr.Resolved resolved -> {
+                    out.writeVarint(SnapshotFormat.STEP_QNAME);
+                    out.writeVarint(qname(resolved.getQName()));
+                }
+                case YangQNameExpr.Unresolved unresolved -> {
+                    out.writeVarint(SnapshotFormat.STEP_UNQUALIFIED);
+                    out.writeVarint(string(cast(Unqualified.class, unresolved.getQName()).getLocalName()));
+                }
+            }
+
+            final var right = binary.getRightExpr();
+            if (CURRENT_CALL.equals(right)) {
+                out.writeVarint(SnapshotFormat.KEY_CURRENT);
+            } else if (right instanceof YangPathExpr pathExpr && CURRENT_CALL.equals(pathExpr.getFilterExpr())
+                    && pathExpr.getLocationPath().isPresent()) {
+                out.writeVarint(SnapshotFormat.KEY_PATH);
+                writeSteps(out, pathExpr.getLocationPath().orElseThrow());
+            } else {
+                throw new IllegalArgumentException("Unsupported predicate " + predicate);
+            }
+        }
+    }
+
+    private int string(final String str) {
+        final var existing = strings.get(str);
+        if (existing != null) {
+            return existing;
+        }
+        final var bytes = str.getBytes(StandardCharsets.UTF_8);
+        final var out = new Record();
+        out.writeVarint(bytes.length);
+        out.writeBytes(bytes);
+        final int id = tables[SnapshotFormat.TABLE_STRING].add(out);
+        strings.put(str, id);
+        return id;
+    }
+
+    private int qnameModule(final QNameModule module) {
+        final var existing = qnameModules.get(module);
+        if (existing != null) {
+            return existing;
+        }
+        final var out = new Record();
+        out.writeVarint(string(module.namespace().toString()));
+        final var revision = module.revision();
+        out.writeVarint(revision == null ? 0 : string(revision.toString()) + 1);
+        final int id = tables[SnapshotFormat.TABLE_MODULE].add(out);
+        qnameModules.put(module, id);
+        return id;
+    }
+
+    private int qname(final QName qname) {
+        final var existing = qnames.get(qname);
+        if (existing != null) {
+            return existing;
+        }
+        final var out = new Record();
+        out.writeVarint(qnameModule(qname.getModule()));
+        out.writeVarint(string(qname.getLocalName()));
+        final int id = tables[SnapshotFormat.TABLE_QNAME].add(out);
+        qnames.put(qname, id);
+        return id;
+    }
+
+    private static int flags(final EffectiveStatement<?, ?> stmt) {
+        if (stmt instanceof EffectiveStatementWithFlags<?, ?> withFlags) {
+            return withFlags.flags();
+        }
+        throw new IllegalArgumentException("Cannot determine flags of " + stmt);
+    }
+
+    private static @NonNull String rawArgument(final DeclaredStatement<?> stmt) {
+        final var raw = stmt.rawArgument();
+        if (raw == null) {
+            throw new IllegalArgumentException("Missing raw argument of " + stmt);
+        }
+        return raw;
+    }
+
+    private static <T> @NonNull T cast(final Class<T> type, final Object obj) {
+        if (type.isInstance(obj)) {
+            return type.cast(obj);
+        }
+        throw new IllegalArgumentException("Expected " + type.getSimpleName() + ", got " + obj);
+    }
+}
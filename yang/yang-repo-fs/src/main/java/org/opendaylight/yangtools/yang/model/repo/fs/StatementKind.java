@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.model.repo.fs;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.Arrays;
+import java.util.function.Function;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yangtools.yang.model.api.meta.StatementDefinition;
+import org.opendaylight.yangtools.yang.model.api.stmt.ActionStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.AnydataStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.AnyxmlStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.ArgumentStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.AugmentStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.BaseStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.BelongsToStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.BitStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.CaseStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.ChoiceStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.ConfigStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.ContactStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.ContainerStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.DefaultStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.DescriptionStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.DeviateStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.DeviationStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.EnumStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.ErrorAppTagStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.ErrorMessageStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.ExtensionStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.FeatureStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.FractionDigitsStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.GroupingStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.IdentityStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.IfFeatureStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.ImportStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.IncludeStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.InputStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.KeyStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.LeafListStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.LeafStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.LengthStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.ListStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.MandatoryStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.MaxElementsStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.MinElementsStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.ModifierStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.ModuleStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.MustStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.NamespaceStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.NotificationStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.OrderedByStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.OrganizationStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.OutputStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.PathStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.PatternStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.PositionStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.PrefixStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.PresenceStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.RangeStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.ReferenceStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.RefineStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.RequireInstanceStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.RevisionDateStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.RevisionStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.RpcStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.StatusStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.SubmoduleStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.TypeStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.TypedefStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.UniqueStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.UnitsStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.UsesStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.ValueStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.WhenStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.YangVersionStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.YinElementStatement;
+
+/**
+ * Kinds of RFC7950 statements which can be stored in a {@link FilesystemModelSnapshot}. The ordinal of each kind is
+ * used as its tag in the snapshot file, hence new kinds must be added at the end and reordering them requires bumping
+ * the snapshot version.
+ */
+enum StatementKind {
+    ACTION(ActionStatement.DEF),
+    ANYDATA(AnydataStatement.DEF),
+    ANYXML(AnyxmlStatement.DEF),
+    ARGUMENT(ArgumentStatement.DEF),
+    AUGMENT(AugmentStatement.DEF),
+    BASE(BaseStatement.DEF),
+    BELONGS_TO(BelongsToStatement.DEF),
+    BIT(BitStatement.DEF),
+    CASE(CaseStatement.DEF),
+    CHOICE(ChoiceStatement.DEF),
+    CONFIG(ConfigStatement.DEF),
+    CONTACT(ContactStatement.DEF),
+    CONTAINER(ContainerStatement.DEF),
+    DEFAULT(DefaultStatement.DEF),
+    DESCRIPTION(DescriptionStatement.DEF),
+    DEVIATE(DeviateStatement.DEF),
+    DEVIATION(DeviationStatement.DEF),
+    ENUM(EnumStatement.DEF),
+    ERROR_APP_TAG(ErrorAppTagStatement.DEF),
+    ERROR_MESSAGE(ErrorMessageStatement.DEF),
+    EXTENSION(ExtensionStatement.DEF),
+    FEATURE(FeatureStatement.DEF),
+    FRACTION_DIGITS(FractionDigitsStatement.DEF),
+    GROUPING(GroupingStatement.DEF),
+    IDENTITY(IdentityStatement.DEF),
+    IF_FEATURE(IfFeatureStatement.DEF),
+    IMPORT(ImportStatement.DEF),
+    INCLUDE(IncludeStatement.DEF),
+    INPUT(InputStatement.DEF),
+    KEY(KeyStatement.DEF),
+    LEAF(LeafStatement.DEF),
+    LEAF_LIST(LeafListStatement.DEF),
+    LENGTH(LengthStatement.DEF),
+    LIST(ListStatement.DEF),
+    MANDATORY(MandatoryStatement.DEF),
+    MAX_ELEMENTS(MaxElementsStatement.DEF),
+    MIN_ELEMENTS(MinElementsStatement.DEF),
+    MODIFIER(ModifierStatement.DEF),
+    MODULE(ModuleStatement.DEF),
+    MUST(MustStatement.DEF),
+    NAMESPACE(NamespaceStatement.DEF),
+    NOTIFICATION(NotificationStatement.DEF),
+    ORDERED_BY(OrderedByStatement.DEF),
+    ORGANIZATION(OrganizationStatement.DEF),
+    OUTPUT(OutputStatement.DEF),
+    PATH(PathStatement.DEF),
+    PATTERN(PatternStatement.DEF),
+    POSITION(PositionStatement.DEF),
+    PREFIX(PrefixStatement.DEF),
+    PRESENCE(PresenceStatement.DEF),
+    RANGE(RangeStatement.DEF),
+    REFERENCE(ReferenceStatement.DEF),
+    REFINE(RefineStatement.DEF),
+    REQUIRE_INSTANCE(RequireInstanceStatement.DEF),
+    REVISION(RevisionStatement.DEF),
+    REVISION_DATE(RevisionDateStatement.DEF),
+    RPC(RpcStatement.DEF),
+    STATUS(StatusStatement.DEF),
+    SUBMODULE(SubmoduleStatement.DEF),
+    TYPE(TypeStatement.DEF),
+    TYPEDEF(TypedefStatement.DEF),
+    UNIQUE(UniqueStatement.DEF),
+    UNITS(UnitsStatement.DEF),
+    USES(UsesStatement.DEF),
+    VALUE(ValueStatement.DEF),
+    WHEN(WhenStatement.DEF),
+    YANG_VERSION(YangVersionStatement.DEF),
+    YIN_ELEMENT(YinElementStatement.DEF),
+    /**
+     * A statement not defined by RFC7950, i.e. an extension instance. These are only ever seen as declared statements.
+     */
+    UNRECOGNIZED(null);
+
+    private static final StatementKind[] VALUES = values();
+    private static final ImmutableMap<StatementDefinition<?, ?, ?>, StatementKind> BY_DEFINITION =
+        Arrays.stream(VALUES)
+            .filter(kind -> kind.definition != null)
+            .collect(ImmutableMap.toImmutableMap(kind -> kind.definition, Function.identity()));
+
+    private final StatementDefinition<?, ?, ?> definition;
+
+    StatementKind(final StatementDefinition<?, ?, ?> definition) {
+        this.definition = definition;
+    }
+
+    static @Nullable StatementKind forDefinition(final StatementDefinition<?, ?, ?> definition) {
+        return BY_DEFINITION.get(definition);
+    }
+
+    static @NonNull StatementKind forTag(final int tag) {
+        if (tag < 0 || tag >= VALUES.length) {
+            throw new IllegalArgumentException("Unknown statement kind " + tag);
+        }
+        return VALUES[tag];
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.model.repo.fs;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opendaylight.yangtools.concepts.Registration;
+import org.opendaylight.yangtools.util.concurrent.FluentFutures;
+import org.opendaylight.yangtools.yang.model.api.source.SourceIdentifier;
+import org.opendaylight.yangtools.yang.model.api.source.YangTextSource;
+import org.opendaylight.yangtools.yang.model.repo.api.MissingSchemaSourceException;
+import org.opendaylight.yangtools.yang.model.repo.spi.SchemaSourceProvider;
+import org.opendaylight.yangtools.yang.model.repo.spi.SchemaSourceRegistry;
+import org.opendaylight.yangtools.yang.model.spi.source.StringYangTextSource;
+import org.opendaylight.yangtools.yang.model.spi.source.YangIRSource;
+import org.opendaylight.yangtools.yang.source.ir.DefaultYangTextToIRSourceTransformer;
+
+@ExtendWith(MockitoExtension.class)
+class FilesystemIRSourceCacheTest {
+    private static final SourceIdentifier FOO = new SourceIdentifier("foo", "2026-01-01");
+
+    @Mock
+    private SchemaSourceRegistry registry;
+    @Mock
+    private Registration registration;
+    @Mock
+    private SchemaSourceProvider<YangTextSource> textProvider;
+    @TempDir
+    private Path storageDir;
+
+    private YangTextSource text;
+    private YangIRSource source;
+
+    @BeforeEach
+    void beforeEach() throws Exception {
+        // Not used when there is nothing to register
+        lenient().doReturn(registration).when(registry).registerSchemaSource(any(), any());
+        text = new StringYangTextSource(FOO, """
+            module foo {
+              namespace foo;
+              prefix foo;
+              revision 2026-01-01;
+              container bar {
+                leaf baz {
+                  type string;
+                }
+              }
+            }""");
+        source = new DefaultYangTextToIRSourceTransformer().transformSource(text);
+    }
+
+    @Test
+    void testStoreAndRestore() throws Exception {
+        doReturn(FluentFutures.immediateFluentFuture(text)).when(textProvider).getSource(FOO);
+        final var cache = new FilesystemIRSourceCache(registry, textProvider, storageDir);
+        cache.offer(source);
+        // Duplicate offer is ignored
+        cache.offer(source);
+        verify(registry).registerSchemaSource(any(), any());
+        try (var files = Files.list(storageDir)) {
+            assertEquals(1, files.count());
+        }
+
+        // A fresh cache picks up the file and restores an equivalent source
+        final var restarted = new FilesystemIRSourceCache(registry, textProvider, storageDir);
+        verify(registry, times(2)).registerSchemaSource(any(), any());
+
+        final var restored = restarted.getSource(FOO).get();
+        assertEquals(FOO, restored.sourceId());
+        assertEquals(source.statement(), restored.statement());
+    }
+
+    @Test
+    void testCorruptedFileEvicted() throws Exception {
+        doReturn(FluentFutures.immediateFluentFuture(text)).when(textProvider).getSource(FOO);
+        final var cache = new FilesystemIRSourceCache(registry, textProvider, storageDir);
+        cache.offer(source);
+
+        final var file = cache.sourceIdToFile(FOO);
+        final var bytes = Files.readAllBytes(file);
+        bytes[bytes.length - 1] ^= 0x55;
+        Files.write(file, bytes);
+
+        final var future = cache.getSource(FOO);
+        final var ex = assertThrows(ExecutionException.class, future::get);
+        assertInstanceOf(MissingSchemaSourceException.class, ex.getCause());
+        verify(registration).close();
+        assertFalse(Files.exists(file));
+    }
+
+    @Test
+    void testStaleSourceEvicted() throws Exception {
+        doReturn(FluentFutures.immediateFluentFuture(text)).when(textProvider).getSource(FOO);
+        final var cache = new FilesystemIRSourceCache(registry, textProvider, storageDir);
+        cache.offer(source);
+        final var file = cache.sourceIdToFile(FOO);
+        assertTrue(Files.exists(file));
+
+        // The text has been edited without changing its identifier
+        doReturn(FluentFutures.immediateFluentFuture(new StringYangTextSource(FOO, """
+            module foo {
+              namespace foo;
+              prefix foo;
+              revision 2026-01-01;
+            }"""))).when(textProvider).getSource(FOO);
+
+        final var future = cache.getSource(FOO);
+        final var ex = assertThrows(ExecutionException.class, future::get);
+        assertInstanceOf(MissingSchemaSourceException.class, ex.getCause());
+        verify(registration).close();
+        assertFalse(Files.exists(file));
+    }
+
+    @Test
+    void testMissingSource() {
+        final var cache = new FilesystemIRSourceCache(registry, textProvider, storageDir);
+        final var future = cache.getSource(new SourceIdentifier("bar"));
+        final var ex = assertThrows(ExecutionException.class, future::get);
+        assertInstanceOf(MissingSchemaSourceException.class, ex.getCause());
+    }
+}
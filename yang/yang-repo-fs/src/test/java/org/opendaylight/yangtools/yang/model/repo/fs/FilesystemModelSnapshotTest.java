@@ -0,0 +1,425 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.model.repo.fs;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opendaylight.yangtools.dagger.yang.parser.vanilla.DaggerVanillaYangParserComponent;
+import org.opendaylight.yangtools.util.concurrent.FluentFutures;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.Revision;
+import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.api.TypedDataSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.meta.DeclaredStatement;
+import org.opendaylight.yangtools.yang.model.api.meta.EffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.source.SourceIdentifier;
+import org.opendaylight.yangtools.yang.model.api.stmt.FeatureSet;
+import org.opendaylight.yangtools.yang.model.repo.api.SchemaContextFactoryConfiguration;
+import org.opendaylight.yangtools.yang.model.repo.api.SchemaRepository;
+import org.opendaylight.yangtools.yang.model.spi.source.StringYangTextSource;
+import org.opendaylight.yangtools.yang.model.spi.source.YangIRSource;
+import org.opendaylight.yangtools.yang.parser.api.YangParserConfiguration;
+import org.opendaylight.yangtools.yang.parser.api.YangParserFactory;
+import org.opendaylight.yangtools.yang.source.ir.DefaultYangTextToIRSourceTransformer;
+
+@ExtendWith(MockitoExtension.class)
+class FilesystemModelSnapshotTest {
+    private static final YangParserFactory PARSER_FACTORY = DaggerVanillaYangParserComponent.create().parserFactory();
+    private static final SourceIdentifier FOO = new SourceIdentifier("foo", "2026-01-01");
+    private static final SourceIdentifier FOO_SUB = new SourceIdentifier("foo-sub");
+    private static final SourceIdentifier BAR = new SourceIdentifier("bar");
+    private static final QName BAZ = QName.create("foo", "2026-01-01", "baz");
+
+    private static YangIRSource foo;
+    private static YangIRSource fooSub;
+    private static YangIRSource bar;
+
+    @Mock
+    private SchemaRepository repository;
+    @TempDir
+    private Path storageDir;
+
+    @BeforeAll
+    static void beforeAll() throws Exception {
+        final var transformer = new DefaultYangTextToIRSourceTransformer();
+        foo = transformer.transformSource(new StringYangTextSource(FOO, """
+            module foo {
+              yang-version 1.1;
+              namespace foo;
+              prefix foo;
+              import bar {
+                prefix bar;
+              }
+              include foo-sub;
+              organization "org";
+              contact "contact";
+              description "description";
+              reference "reference";
+              revision 2026-01-01 {
+                description "initial";
+              }
+              extension ext {
+                argument name;
+              }
+              feature feat;
+              identity base-id;
+              identity derived-id {
+                base base-id;
+              }
+              typedef percent {
+                type uint8 {
+                  range "0..100";
+                }
+                units percent;
+                default 50;
+              }
+              container baz {
+                uses bar:grp {
+                  refine xyzzy {
+                    description "refined";
+                  }
+                }
+                foo:ext "value";
+                leaf pct {
+                  type percent;
+                }
+                leaf dec {
+                  type decimal64 {
+                    fraction-digits 2;
+                    range "-1.5..1.5";
+                  }
+                }
+                leaf en {
+                  type enumeration {
+                    enum one;
+                    enum two {
+                      value 5;
+                    }
+                  }
+                }
+                leaf bi {
+                  type bits {
+                    bit a;
+                    bit b {
+                      position 3;
+                    }
+                  }
+                }
+                leaf un {
+                  type union {
+                    type int32;
+                    type string {
+                      length "1..5";
+                      pattern "[a-z]+";
+                    }
+                  }
+                }
+                leaf idref {
+                  type identityref {
+                    base base-id;
+                  }
+                }
+                leaf ref {
+                  type leafref {
+                    path "../items/name";
+                  }
+                }
+                leaf pred {
+                  type leafref {
+                    path "/baz/items[name = current()/../ref]/value";
+                  }
+                }
+                leaf big {
+                  type uint64 {
+                    range "1..max";
+                  }
+                }
+                leaf cond {
+                  when "../pct > 10";
+                  if-feature "feat or not feat";
+                  type empty;
+                }
+                list items {
+                  key name;
+                  unique "value";
+                  min-elements 1;
+                  max-elements 10;
+                  ordered-by user;
+                  leaf name {
+                    type string;
+                  }
+                  leaf value {
+                    type int64;
+                    mandatory true;
+                  }
+                  must "value > 0" {
+                    error-message "positive";
+                    error-app-tag "pos";
+                  }
+                }
+                leaf-list tags {
+                  type string;
+                  default a;
+                  default b;
+                  max-elements unbounded;
+                }
+                choice ch {
+                  default one;
+                  case one {
+                    leaf c1 {
+                      type boolean;
+                    }
+                  }
+                  leaf c2 {
+                    type instance-identifier;
+                  }
+                }
+                anydata ad;
+                anyxml ax;
+                container pres {
+                  presence "presence";
+                  config false;
+                  status deprecated;
+                }
+                action act {
+                  input {
+                    leaf i {
+                      type string;
+                    }
+                  }
+                  output {
+                    leaf o {
+                      type string;
+                    }
+                  }
+                }
+                notification ntf {
+                  leaf n {
+                    type binary;
+                  }
+                }
+              }
+              augment "/foo:baz" {
+                leaf aug {
+                  type string;
+                }
+              }
+              rpc doit {
+                input {
+                  leaf a {
+                    type int8;
+                  }
+                }
+              }
+              notification top-ntf;
+            }"""));
+        fooSub = transformer.transformSource(new StringYangTextSource(FOO_SUB, """
+            submodule foo-sub {
+              yang-version 1.1;
+              belongs-to foo {
+                prefix foo;
+              }
+              grouping sub-grp {
+                leaf s {
+                  type string;
+                }
+              }
+              container sub-cont {
+                uses sub-grp;
+              }
+            }"""));
+        bar = transformer.transformSource(new StringYangTextSource(BAR, """
+            module bar {
+              namespace bar;
+              prefix bar;
+              grouping grp {
+                leaf xyzzy {
+                  type string;
+                }
+              }
+            }"""));
+    }
+
+    @Test
+    void testWriteAndRestore() throws Exception {
+        final var file = storageDir.resolve("model.snapshot");
+        final var config = SchemaContextFactoryConfiguration.getDefault();
+        final var expected = assemble(foo, fooSub, bar);
+        FilesystemModelSnapshot.write(file, expected, List.of(FOO, FOO_SUB, BAR), config);
+
+        final var snapshot = FilesystemModelSnapshot.open(file);
+        assertEquals(Set.of(FOO, FOO_SUB, BAR), snapshot.sourceIdentifiers());
+        assertTrue(snapshot.matches(List.of(BAR, FOO_SUB, FOO), config));
+        assertFalse(snapshot.matches(List.of(FOO, BAR), config));
+        assertFalse(snapshot.matches(List.of(new SourceIdentifier("foo", "2026-02-02"), FOO_SUB, BAR), config));
+        // Different features
+        assertFalse(snapshot.matches(List.of(FOO, FOO_SUB, BAR),
+            SchemaContextFactoryConfiguration.builder().setSupportedFeatures(FeatureSet.of()).build()));
+
+        final var actual = snapshot.restore();
+        assertNotNull(actual.dataChildByName(BAZ));
+        assertEquals(expected.getModuleStatements().keySet(), actual.getModuleStatements().keySet());
+        for (var entry : expected.getModuleStatements().entrySet()) {
+            assertEquivalent(entry.getValue(), actual.getModuleStatements().get(entry.getKey()));
+        }
+        assertEquals(2, actual.getModules().size());
+        assertEquals(1, actual.findModule("foo", Revision.of("2026-01-01")).orElseThrow().getSubmodules().size());
+    }
+
+    @Test
+    void testCorruptedSnapshotDetected() throws Exception {
+        final var file = storageDir.resolve("model.snapshot");
+        FilesystemModelSnapshot.write(file, assemble(bar), List.of(BAR), SchemaContextFactoryConfiguration.getDefault());
+
+        final var bytes = Files.readAllBytes(file);
+        bytes[bytes.length - 1] ^= 0x55;
+        Files.write(file, bytes);
+
+        assertThrows(IOException.class, () -> FilesystemModelSnapshot.open(file));
+    }
+
+    @Test
+    void testLoadOrAssemble() throws Exception {
+        stubSource(repository, foo);
+        stubSource(repository, fooSub);
+        stubSource(repository, bar);
+
+        // No snapshot: sources are acquired from the repository and the snapshot is created
+        final var file = storageDir.resolve("model.snapshot");
+        final var config = SchemaContextFactoryConfiguration.getDefault();
+        final var first = FilesystemModelSnapshot.loadOrAssemble(file, List.of(FOO, FOO_SUB, BAR), repository,
+            PARSER_FACTORY, YangParserConfiguration.DEFAULT, config);
+        assertNotNull(first.dataChildByName(BAZ));
+        verify(repository).getSchemaSource(FOO, YangIRSource.class);
+        verify(repository).getSchemaSource(BAR, YangIRSource.class);
+        assertTrue(Files.isRegularFile(file));
+
+        // Matching snapshot: the repository is not consulted at all
+        final var other = mock(SchemaRepository.class);
+        final var second = FilesystemModelSnapshot.loadOrAssemble(file, List.of(BAR, FOO_SUB, FOO), other,
+            PARSER_FACTORY, YangParserConfiguration.DEFAULT, config);
+        assertInstanceOf(SnapshotModelContext.class, second);
+        assertNotNull(second.dataChildByName(BAZ));
+        verifyNoInteractions(other);
+    }
+
+    @Test
+    void testLoadOrAssembleDifferentRevision() throws Exception {
+        final var file = storageDir.resolve("model.snapshot");
+        final var config = SchemaContextFactoryConfiguration.getDefault();
+        FilesystemModelSnapshot.write(file, assemble(bar), List.of(BAR), config);
+
+        // Same name, different revision
+        final var revisedId = new SourceIdentifier("bar", "2026-02-02");
+        final var revised = new DefaultYangTextToIRSourceTransformer().transformSource(
+            new StringYangTextSource(revisedId, """
+                module bar {
+                  namespace bar;
+                  prefix bar;
+                  revision 2026-02-02;
+                  container xyzzy;
+                }"""));
+        stubSource(repository, revised);
+
+        final var context = FilesystemModelSnapshot.loadOrAssemble(file, List.of(revisedId), repository,
+            PARSER_FACTORY, YangParserConfiguration.DEFAULT, config);
+        assertNotNull(context.dataChildByName(QName.create("bar", "2026-02-02", "xyzzy")));
+        verify(repository).getSchemaSource(revisedId, YangIRSource.class);
+        assertTrue(FilesystemModelSnapshot.open(file).matches(List.of(revisedId), config));
+    }
+
+    @Test
+    void testLoadOrAssembleMismatch() throws Exception {
+        final var file = storageDir.resolve("model.snapshot");
+        FilesystemModelSnapshot.write(file, assemble(foo, fooSub, bar), List.of(FOO, FOO_SUB, BAR),
+            SchemaContextFactoryConfiguration.getDefault());
+
+        stubSource(repository, bar);
+        final var context = FilesystemModelSnapshot.loadOrAssemble(file, List.of(BAR), repository, PARSER_FACTORY,
+            YangParserConfiguration.DEFAULT, SchemaContextFactoryConfiguration.getDefault());
+        assertEquals(1, context.getModules().size());
+        assertEquals(Set.of(BAR), FilesystemModelSnapshot.open(file).sourceIdentifiers());
+    }
+
+    private static EffectiveModelContext assemble(final YangIRSource... sources) throws Exception {
+        final var parser = PARSER_FACTORY.createParser();
+        for (var source : sources) {
+            parser.addSource(source);
+        }
+        return parser.buildEffectiveModel();
+    }
+
+    private static void assertEquivalent(final EffectiveStatement<?, ?> expected,
+            final EffectiveStatement<?, ?> actual) {
+        // Definitions of extension statements are not singletons
+        assertEquals(expected.statementDefinition().toString(), actual.statementDefinition().toString());
+        assertEquals(String.valueOf(expected.argument()), String.valueOf(actual.argument()));
+        if (expected instanceof DataSchemaNode expectedNode) {
+            final var actualNode = assertInstanceOf(DataSchemaNode.class, actual);
+            assertEquals(expectedNode.effectiveConfig(), actualNode.effectiveConfig());
+            assertEquals(expectedNode.isAugmenting(), actualNode.isAugmenting());
+            assertEquals(expectedNode.isAddedByUses(), actualNode.isAddedByUses());
+        }
+        if (expected instanceof TypedDataSchemaNode expectedTyped) {
+            assertEquals(expectedTyped.typeDefinition().toString(),
+                assertInstanceOf(TypedDataSchemaNode.class, actual).typeDefinition().toString());
+        }
+
+        final var expectedDeclared = expected.declared();
+        if (expectedDeclared != null) {
+            assertEquivalent(expectedDeclared, actual.declared());
+        }
+
+        final var expectedSubstatements = expected.effectiveSubstatements();
+        final var actualSubstatements = actual.effectiveSubstatements();
+        assertEquals(expectedSubstatements.size(), actualSubstatements.size(), () -> "Substatements of " + expected);
+        for (int i = 0; i < expectedSubstatements.size(); ++i) {
+            assertEquivalent(expectedSubstatements.get(i), actualSubstatements.get(i));
+        }
+    }
+
+    private static void assertEquivalent(final DeclaredStatement<?> expected, final DeclaredStatement<?> actual) {
+        assertNotNull(actual);
+        // Definitions of extension statements are not singletons
+        assertEquals(expected.statementDefinition().toString(), actual.statementDefinition().toString());
+        assertEquals(expected.rawArgument(), actual.rawArgument());
+
+        final var expectedSubstatements = List.copyOf(expected.declaredSubstatements());
+        final var actualSubstatements = List.copyOf(actual.declaredSubstatements());
+        assertEquals(expectedSubstatements.size(), actualSubstatements.size(), () -> "Substatements of " + expected);
+        for (int i = 0; i < expectedSubstatements.size(); ++i) {
+            assertEquivalent(expectedSubstatements.get(i), actualSubstatements.get(i));
+        }
+    }
+
+    private static void stubSource(final SchemaRepository repo, final YangIRSource ir) {
+        doReturn(FluentFutures.immediateFluentFuture(ir)).when(repo).getSchemaSource(ir.sourceId(),
+            YangIRSource.class);
+    }
+}
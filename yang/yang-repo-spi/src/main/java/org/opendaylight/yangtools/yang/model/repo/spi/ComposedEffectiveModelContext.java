@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.model.repo.spi;
+
+import com.google.common.collect.Collections2;
+import com.google.common.collect.ImmutableMap;
+import java.util.Collection;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.yangtools.yang.common.QNameModule;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.api.Module;
+import org.opendaylight.yangtools.yang.model.api.stmt.ModuleEffectiveStatement;
+import org.opendaylight.yangtools.yang.model.spi.SimpleSchemaContext;
+
+/**
+ * An {@link EffectiveModelContext} composed of {@link ModuleEffectiveStatement}s, which may have been assembled by
+ * different {@link EffectiveModelContext}s.
+ */
+final class ComposedEffectiveModelContext extends SimpleSchemaContext implements EffectiveModelContext {
+    private final @NonNull ImmutableMap<QNameModule, ModuleEffectiveStatement> moduleStatements;
+
+    private ComposedEffectiveModelContext(final Collection<Module> modules,
+            final ImmutableMap<QNameModule, ModuleEffectiveStatement> moduleStatements) {
+        super(modules);
+        this.moduleStatements = moduleStatements;
+    }
+
+    /**
+     * Compose a number of {@link ModuleEffectiveStatement}s.
+     *
+     * @param modules module statements
+     * @return composed context
+     * @throws IllegalArgumentException if the statements define the same module
+     */
+    static @NonNull EffectiveModelContext of(final Collection<ModuleEffectiveStatement> modules) {
+        final var moduleStatements = ImmutableMap.<QNameModule, ModuleEffectiveStatement>builderWithExpectedSize(
+            modules.size());
+        for (var module : modules) {
+            moduleStatements.put(module.localQNameModule(), module);
+        }
+        return new ComposedEffectiveModelContext(
+            Collections2.transform(modules, ModuleEffectiveStatement::toDataNodeContainer),
+            moduleStatements.buildOrThrow());
+    }
+
+    @Override
+    public ImmutableMap<QNameModule, ModuleEffectiveStatement> getModuleStatements() {
+        return moduleStatements;
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.yangtools.yang.model.repo.spi;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSetMultimap;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.opendaylight.yangtools.yang.common.UnresolvedQName.Unqualified;
+import org.opendaylight.yangtools.yang.model.api.source.SourceDependency;
+import org.opendaylight.yangtools.yang.model.api.source.SourceIdentifier;
+import org.opendaylight.yangtools.yang.model.spi.source.SourceInfo;
+import org.opendaylight.yangtools.yang.model.spi.source.SourceInfo.Submodule;
+
+/**
+ * The directed graph of dependencies among a set of sources, as expressed by their {@code import}, {@code include} and
+ * {@code belongs-to} statements.
+ *
+ * <p>A module can affect the effective model of another module only if it depends on it: {@code augment},
+ * {@code deviation}, {@code identity} derivation and similar all require the target module to be imported. A module
+ * which does not transitively depend on a changed source is therefore affected only if the source augments or
+ * deviates it.
+ */
+@NonNullByDefault
+final class SourceDependencies {
+    private final ImmutableSetMultimap<SourceIdentifier, SourceIdentifier> dependencies;
+    private final ImmutableSetMultimap<SourceIdentifier, SourceIdentifier> dependents;
+
+    private SourceDependencies(final ImmutableSetMultimap<SourceIdentifier, SourceIdentifier> dependencies) {
+        this.dependencies = requireNonNull(dependencies);
+        dependents = dependencies.inverse();
+    }
+
+    /**
+     * Determine dependencies among sources. Sources without dependency information are assumed not to depend on any
+     * other source.
+     *
+     * @param sources sources to examine
+     * @param infos dependency information
+     * @return source dependencies
+     */
+    static SourceDependencies of(final Collection<SourceIdentifier> sources,
+            final Map<SourceIdentifier, SourceInfo> infos) {
+        final var byName = ArrayListMultimap.<Unqualified, SourceIdentifier>create();
+        for (var source : ImmutableSet.copyOf(sources)) {
+            byName.put(source.name(), source);
+        }
+
+        final var builder = ImmutableSetMultimap.<SourceIdentifier, SourceIdentifier>builder();
+        for (var source : byName.values()) {
+            final var info = infos.get(source);
+            if (info != null) {
+                info.imports().forEach(dep -> link(builder, byName, source, dep));
+                info.includes().forEach(dep -> link(builder, byName, source, dep));
+                if (info instanceof Submodule submodule) {
+                    link(builder, byName, source, submodule.belongsTo());
+                }
+            }
+        }
+        return new SourceDependencies(builder.build());
+    }
+
+    /**
+     * Return the specified sources along with all sources they transitively depend on.
+     *
+     * @param sources sources to start from
+     * @return the sources and their dependencies
+     */
+    ImmutableSet<SourceIdentifier> dependenciesOf(final Collection<SourceIdentifier> sources) {
+        return closure(dependencies, sources);
+    }
+
+    /**
+     * Return the specified sources along with all sources which transitively depend on them.
+     *
+     * @param sources sources to start from
+     * @return the sources and their dependents
+     */
+    ImmutableSet<SourceIdentifier> dependentsOf(final Collection<SourceIdentifier> sources) {
+        return closure(dependents, sources);
+    }
+
+    private static void link(final ImmutableSetMultimap.Builder<SourceIdentifier, SourceIdentifier> builder,
+            final ArrayListMultimap<Unqualified, SourceIdentifier> byName, final SourceIdentifier source,
+            final SourceDependency dependency) {
+        // Revision-less dependencies may be satisfied by multiple sources, depend on all of them
+        for (var candidate : byName.get(dependency.name())) {
+            if (dependency.isSatisfiedBy(candidate) && !candidate.equals(source)) {
+                builder.put(source, candidate);
+            }
+        }
+    }
+
+    private static ImmutableSet<SourceIdentifier> closure(
+            final ImmutableSetMultimap<SourceIdentifier, SourceIdentifier> edges,
+            final Collection<SourceIdentifier> sources) {
+        final var result = new LinkedHashSet<>(sources);
+        final var queue = new ArrayDeque<>(result);
+        while (!queue.isEmpty()) {
+            for (var next : edges.get(queue.remove())) {
+                if (result.add(next)) {
+                    queue.add(next);
+                }
+            }
+        }
+        return ImmutableSet.copyOf(result);
+    }
+}
@@ -12,7 +12,9 @@ import static java.util.Objects.requireNonNull;
 import com.google.common.annotations.Beta;
 import com.google.common.base.Verify;
 import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Sets;
 import com.google.common.util.concurrent.FluentFuture;
 import com.google.errorprone.annotations.concurrent.GuardedBy;
 import java.io.IOException;
@@ -22,7 +24,10 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedDeque;
@@ -36,10 +41,15 @@ import org.opendaylight.yangtools.util.concurrent.FluentFutures;
 import org.opendaylight.yangtools.yang.common.QNameModule;
 import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
 import org.opendaylight.yangtools.yang.model.api.meta.DeclarationInText;
+import org.opendaylight.yangtools.yang.model.api.meta.EffectiveStatement;
 import org.opendaylight.yangtools.yang.model.api.source.SourceIdentifier;
 import org.opendaylight.yangtools.yang.model.api.source.SourceSyntaxException;
 import org.opendaylight.yangtools.yang.model.api.source.YangTextSource;
+import org.opendaylight.yangtools.yang.model.api.stmt.AugmentEffectiveStatement;
+import org.opendaylight.yangtools.yang.model.api.stmt.DeviationEffectiveStatement;
 import org.opendaylight.yangtools.yang.model.api.stmt.FeatureSet;
+import org.opendaylight.yangtools.yang.model.api.stmt.ModuleEffectiveStatement;
+import org.opendaylight.yangtools.yang.model.repo.api.EffectiveModelContextFactory;
 import org.opendaylight.yangtools.yang.model.repo.api.MissingSchemaSourceException;
 import org.opendaylight.yangtools.yang.model.repo.api.SchemaContextFactoryConfiguration;
 import org.opendaylight.yangtools.yang.model.repo.api.SchemaRepository;
@@ -57,7 +67,42 @@ import org.opendaylight.yangtools.yang.parser.api.YangSyntaxErrorException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * A resolver of {@link EffectiveModelContext} based on a dynamic set of {@link YangTextSource}s.
+ *
+ * <p>The {@link ModuleEffectiveStatement}s of the last resolved context are retained. When a source is registered or
+ * unregistered, only the modules which transitively depend on it, or which it augments or deviates, along with the
+ * modules transitively depending on those, are assembled again. All other modules are reused as they are. Changes to
+ * supported features cause all modules to be assembled again.
+ */
 public final class YangTextSchemaContextResolver implements AutoCloseable, SchemaSourceProvider<YangTextSource> {
+    /**
+     * {@link ModuleEffectiveStatement}s of the last resolved context, along with the parameters and sources they were
+     * assembled from.
+     */
+    private record ResolvedModules(
+            @NonNull StatementParserMode mode,
+            @Nullable FeatureSet features,
+            @NonNull ImmutableSet<SourceIdentifier> sources,
+            @NonNull ImmutableMap<SourceIdentifier, ModuleEffectiveStatement> modules,
+            @NonNull ImmutableSet<SourceIdentifier> invalidated) {
+        ResolvedModules {
+            requireNonNull(mode);
+            requireNonNull(sources);
+            requireNonNull(modules);
+            requireNonNull(invalidated);
+        }
+
+        boolean isReusable(final StatementParserMode requiredMode, final @Nullable FeatureSet requiredFeatures) {
+            return mode == requiredMode && Objects.equals(features, requiredFeatures);
+        }
+
+        @NonNull ResolvedModules invalidate(final SourceIdentifier sourceId) {
+            return invalidated.contains(sourceId) ? this : new ResolvedModules(mode, features, sources, modules,
+                ImmutableSet.<SourceIdentifier>builder().addAll(invalidated).add(sourceId).build());
+        }
+    }
+
     private static final Logger LOG = LoggerFactory.getLogger(YangTextSchemaContextResolver.class);
     private static final Duration SOURCE_LIFETIME = Duration.ofSeconds(60);
 
@@ -65,6 +110,8 @@ public final class YangTextSchemaContextResolver implements AutoCloseable, Schem
     private final ArrayListMultimap<SourceIdentifier, YangTextSource> texts = ArrayListMultimap.create();
     @GuardedBy("this")
     private final HashMap<QNameModule, List<ImmutableSet<String>>> registeredFeatures = new HashMap<>();
+    @GuardedBy("this")
+    private final HashMap<SourceIdentifier, SourceInfo> sourceInfos = new HashMap<>();
     private final AtomicReference<Optional<EffectiveModelContext>> currentSchemaContext =
             new AtomicReference<>(Optional.empty());
     private final GuavaSchemaSourceCache<YangIRSource> cache;
@@ -77,6 +124,8 @@ public final class YangTextSchemaContextResolver implements AutoCloseable, Schem
     private volatile Object contextVersion = version;
     @GuardedBy("this")
     private FeatureSet supportedFeatures = null;
+    @GuardedBy("this")
+    private ResolvedModules resolvedModules = null;
 
     private YangTextSchemaContextResolver(final YangTextToIRSourceTransformer textToIR,
             final SchemaRepository repository, final SchemaSourceRegistry registry) {
@@ -166,6 +215,8 @@ public final class YangTextSchemaContextResolver implements AutoCloseable, Schem
 
         synchronized (this) {
             texts.put(parsedId, text);
+            sourceInfos.put(parsedId, sourceInfo);
+            invalidateModules(parsedId);
             LOG.debug("Populated {} with text", parsedId);
 
             final var reg = registry.registerSchemaSource(this,
@@ -184,12 +235,26 @@ public final class YangTextSchemaContextResolver implements AutoCloseable, Schem
                         version = new Object();
                         reg.close();
                         texts.remove(parsedId, text);
+                        if (!texts.containsKey(parsedId)) {
+                            sourceInfos.remove(parsedId);
+                        }
+                        invalidateModules(parsedId);
                     }
                 }
             };
         }
     }
 
+    // A source with the same identifier may have been registered with a different text, make sure we do not reuse
+    // any modules which may have been assembled from the previous text
+    @GuardedBy("this")
+    private void invalidateModules(final SourceIdentifier sourceId) {
+        final var local = resolvedModules;
+        if (local != null) {
+            resolvedModules = local.invalidate(sourceId);
+        }
+    }
+
     /**
      * Register a URL containing a YANG text.
      *
@@ -301,36 +366,57 @@ public final class YangTextSchemaContextResolver implements AutoCloseable, Schem
             } while (cv != contextVersion);
 
             // Version has been updated
-            Collection<SourceIdentifier> sources;
+            ImmutableSet<SourceIdentifier> sources;
             do {
                 ver = version;
                 sources = ImmutableSet.copyOf(requiredSources);
             } while (ver != version);
 
-            final var factory = repository.createEffectiveModelContextFactory(
-                config(statementParserMode, getSupportedFeatures()));
-
-            while (true) {
-                final var f = factory.createEffectiveModelContext(sources);
-                try {
-                    sc = Optional.of(f.get());
-                    break;
-                } catch (InterruptedException e) {
-                    throw new IllegalStateException("Interrupted while assembling schema context", e);
-                } catch (ExecutionException e) {
-                    LOG.info("Failed to fully assemble schema context for {}", sources, e);
-                    final var cause = e.getCause();
-                    Verify.verify(cause instanceof SchemaResolutionException);
-                    sources = ((SchemaResolutionException) cause).getResolvedSources();
+            final Map<SourceIdentifier, SourceInfo> infos;
+            final ResolvedModules prevModules;
+            synchronized (this) {
+                infos = Map.copyOf(sourceInfos);
+                prevModules = resolvedModules;
+            }
+
+            final var features = getSupportedFeatures();
+            final var factory = repository.createEffectiveModelContextFactory(config(statementParserMode, features));
+
+            // Determine the sources which have changed since the last resolved context. Modules which have been
+            // removed or replaced may have augmented or deviated other modules, which have changed as well.
+            final var changed = new HashSet<SourceIdentifier>();
+            final Map<SourceIdentifier, ModuleEffectiveStatement> previous;
+            if (prevModules != null && prevModules.isReusable(statementParserMode, features)) {
+                previous = prevModules.modules();
+                changed.addAll(Sets.symmetricDifference(sources, prevModules.sources()));
+                changed.addAll(prevModules.invalidated());
+                for (var source : sources) {
+                    // Modules which failed to assemble previously
+                    if (!previous.containsKey(source) && infos.get(source) instanceof SourceInfo.Module) {
+                        changed.add(source);
+                    }
+                }
+                for (var source : List.copyOf(changed)) {
+                    final var module = previous.get(source);
+                    if (module != null) {
+                        changed.addAll(targetsOf(module, previous));
+                    }
                 }
+            } else {
+                previous = Map.of();
+                changed.addAll(sources);
             }
 
+            final var newModules = new ResolvedModules(statementParserMode, features, sources,
+                assembleModules(factory, sources, infos, changed, previous), ImmutableSet.of());
+            sc = Optional.of(ComposedEffectiveModelContext.of(newModules.modules().values()));
             LOG.debug("Resolved schema context for {}", sources);
 
             synchronized (this) {
                 if (contextVersion == cv) {
                     currentSchemaContext.set(sc);
                     contextVersion = ver;
+                    resolvedModules = newModules;
                 }
             }
         } while (version == ver);
@@ -338,6 +424,137 @@ public final class YangTextSchemaContextResolver implements AutoCloseable, Schem
         return sc;
     }
 
+    /**
+     * Assemble the modules affected by changed sources and reuse all others.
+     *
+     * @param factory factory to assemble modules with
+     * @param sources all sources
+     * @param infos dependency information
+     * @param changed changed sources, including removed ones
+     * @param previous previously assembled modules
+     * @return modules of the resulting context, indexed by their source
+     */
+    private static @NonNull ImmutableMap<SourceIdentifier, ModuleEffectiveStatement> assembleModules(
+            final EffectiveModelContextFactory factory, final ImmutableSet<SourceIdentifier> sources,
+            final Map<SourceIdentifier, SourceInfo> infos, final Set<SourceIdentifier> changed,
+            final Map<SourceIdentifier, ModuleEffectiveStatement> previous) {
+        final var dependencies = SourceDependencies.of(Sets.union(sources, changed), infos);
+        var affected = dependencies.dependentsOf(changed);
+        Set<SourceIdentifier> required = Set.of();
+        Map<SourceIdentifier, ModuleEffectiveStatement> assembled = Map.of();
+        while (true) {
+            // The affected modules need to be assembled along with everything they depend on
+            final var nextRequired = Sets.intersection(dependencies.dependenciesOf(affected), sources).immutableCopy();
+            if (!nextRequired.equals(required)) {
+                required = nextRequired;
+                assembled = assembleSources(factory, required);
+            }
+
+            // Modules augmented or deviated by affected modules are affected as well, and so are their dependents
+            final var targets = new HashSet<SourceIdentifier>();
+            for (var source : affected) {
+                final var module = assembled.get(source);
+                if (module != null) {
+                    targets.addAll(targetsOf(module, assembled));
+                }
+            }
+            if (affected.containsAll(targets)) {
+                break;
+            }
+            targets.addAll(affected);
+            affected = dependencies.dependentsOf(targets);
+        }
+
+        final var modules = ImmutableMap.<SourceIdentifier, ModuleEffectiveStatement>builder();
+        int reused = 0;
+        for (var source : sources) {
+            final ModuleEffectiveStatement module;
+            if (affected.contains(source)) {
+                module = assembled.get(source);
+            } else {
+                module = previous.get(source);
+                if (module != null) {
+                    reused++;
+                }
+            }
+            if (module != null) {
+                modules.put(source, module);
+            }
+        }
+        LOG.debug("Assembled {} sources, reused {} modules", required.size(), reused);
+        return modules.buildOrThrow();
+    }
+
+    private static @NonNull Map<SourceIdentifier, ModuleEffectiveStatement> assembleSources(
+            final EffectiveModelContextFactory factory, final Collection<SourceIdentifier> required) {
+        var sources = required;
+        while (!sources.isEmpty()) {
+            final var f = factory.createEffectiveModelContext(sources);
+            final EffectiveModelContext context;
+            try {
+                context = f.get();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException("Interrupted while assembling schema context", e);
+            } catch (ExecutionException e) {
+                LOG.info("Failed to fully assemble schema context for {}", sources, e);
+                final var cause = e.getCause();
+                Verify.verify(cause instanceof SchemaResolutionException);
+                sources = ((SchemaResolutionException) cause).getResolvedSources();
+                continue;
+            }
+
+            final var modules = new HashMap<SourceIdentifier, ModuleEffectiveStatement>();
+            for (var module : context.getModuleStatements().values()) {
+                modules.put(sourceIdOf(module), module);
+            }
+            return modules;
+        }
+        return Map.of();
+    }
+
+    /**
+     * Return the sources of modules, other than the specified module, which are targeted by its top-level
+     * {@code augment} and {@code deviation} statements, including those in its submodules.
+     *
+     * @param module module to examine
+     * @param modules modules to look targets up in
+     * @return sources of target modules
+     */
+    private static @NonNull Set<SourceIdentifier> targetsOf(final ModuleEffectiveStatement module,
+            final Map<SourceIdentifier, ModuleEffectiveStatement> modules) {
+        final var targetModules = new HashSet<QNameModule>();
+        addTargets(targetModules, module);
+        for (var submodule : module.submodules()) {
+            addTargets(targetModules, submodule);
+        }
+        targetModules.remove(module.localQNameModule());
+        if (targetModules.isEmpty()) {
+            return Set.of();
+        }
+
+        final var ret = new HashSet<SourceIdentifier>();
+        for (var entry : modules.entrySet()) {
+            if (targetModules.contains(entry.getValue().localQNameModule())) {
+                ret.add(entry.getKey());
+            }
+        }
+        return ret;
+    }
+
+    private static void addTargets(final Set<QNameModule> targetModules, final EffectiveStatement<?, ?> stmt) {
+        for (var substmt : stmt.effectiveSubstatements()) {
+            if (substmt instanceof AugmentEffectiveStatement augment) {
+                targetModules.add(augment.argument().firstNodeIdentifier().getModule());
+            } else if (substmt instanceof DeviationEffectiveStatement deviation) {
+                targetModules.add(deviation.argument().firstNodeIdentifier().getModule());
+            }
+        }
+    }
+
+    private static @NonNull SourceIdentifier sourceIdOf(final ModuleEffectiveStatement module) {
+        return new SourceIdentifier(module.argument(), module.localQNameModule().revision());
+    }
+
     @Override
     public synchronized @NonNull FluentFuture<YangTextSource> getSource(final SourceIdentifier sourceIdentifier) {
         final var ret = texts.get(sourceIdentifier);
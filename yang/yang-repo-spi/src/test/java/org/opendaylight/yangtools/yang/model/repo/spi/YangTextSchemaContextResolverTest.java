@@ -11,6 +11,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -95,7 +97,80 @@ class YangTextSchemaContextResolverTest {
     }
 
     @Test
-    void testFeatureRegistration() throws Exception {
+    void testIncrementalAssembly() throws Exception {
+        final var resolver = YangTextSchemaContextResolver.of(TEXT_TO_IR, PARSER_FACTORY, "incremental-test-bundle");
+        final var fooReg = resolver.registerSource(
+            getClass().getResource("/yang-text-schema-context-resolver-test/foo.yang"));
+        final var barReg = resolver.registerSource(
+            getClass().getResource("/yang-text-schema-context-resolver-test/bar.yang"));
+
+        final var foo = QNameModule.of("foo-namespace", "2016-09-26");
+        final var bar = QNameModule.of("bar-namespace", "2016-09-26");
+        final var fooAugment = QNameModule.of("foo-augment-namespace", "2016-09-26");
+        final var fooContainer = QName.create(foo, "foo-container");
+        final var augmentLeaf = QName.create(fooAugment, "foo-augment-leaf");
+
+        final var context1 = resolver.getEffectiveModelContext().orElseThrow();
+        assertEquals(2, context1.getModules().size());
+
+        // foo is affected by foo-augment and needs to be assembled again, bar is not affected
+        final var augmentReg = resolver.registerSource(
+            getClass().getResource("/yang-text-schema-context-resolver-test/foo-augment.yang"));
+        final var context2 = resolver.getEffectiveModelContext().orElseThrow();
+        assertEquals(3, context2.getModules().size());
+        assertSame(context1.getModuleStatement(bar), context2.getModuleStatement(bar));
+        assertNotSame(context1.getModuleStatement(foo), context2.getModuleStatement(foo));
+        assertTrue(isModulePresent(context2, foo, List.of(fooContainer, augmentLeaf)));
+
+        augmentReg.close();
+        final var context3 = resolver.getEffectiveModelContext().orElseThrow();
+        assertEquals(2, context3.getModules().size());
+        assertSame(context1.getModuleStatement(bar), context3.getModuleStatement(bar));
+        assertFalse(isModulePresent(context3, foo, List.of(fooContainer, augmentLeaf)));
+
+        fooReg.close();
+        final var context4 = resolver.getEffectiveModelContext().orElseThrow();
+        assertEquals(1, context4.getModules().size());
+        assertSame(context1.getModuleStatement(bar), context4.getModuleStatement(bar));
+
+        barReg.close();
+    }
+
+    @Test
+    void testIncrementalAssemblyOfDependentModule() throws Exception {
+        final var resolver = YangTextSchemaContextResolver.of(TEXT_TO_IR, PARSER_FACTORY, "incremental-test-bundle");
+        resolver.registerSource(getClass().getResource("/yang-text-schema-context-resolver-test/foo.yang"));
+        resolver.registerSource(getClass().getResource("/yang-text-schema-context-resolver-test/ietf-inet-types.yang"));
+        resolver.registerSource(getClass().getResource("/yang-text-schema-context-resolver-test/inet-user.yang"));
+
+        final var foo = QNameModule.of("foo-namespace", "2016-09-26");
+        final var inetTypes = QNameModule.of("urn:ietf:params:xml:ns:yang:ietf-inet-types", "2013-07-15");
+        final var inetUser = QNameModule.of("inet-user-namespace", "2016-09-26");
+        final var inetLeaf = QNameModule.of("inet-leaf-namespace", "2016-09-26");
+
+        final var context1 = resolver.getEffectiveModelContext().orElseThrow();
+        assertEquals(3, context1.getModules().size());
+
+        // inet-leaf depends on ietf-inet-types, but does not affect it nor any other module
+        final var leafReg = resolver.registerSource(
+            getClass().getResource("/yang-text-schema-context-resolver-test/inet-leaf.yang"));
+        final var context2 = resolver.getEffectiveModelContext().orElseThrow();
+        assertEquals(4, context2.getModules().size());
+        assertNotNull(context2.getModuleStatement(inetLeaf));
+        assertSame(context1.getModuleStatement(foo), context2.getModuleStatement(foo));
+        assertSame(context1.getModuleStatement(inetTypes), context2.getModuleStatement(inetTypes));
+        assertSame(context1.getModuleStatement(inetUser), context2.getModuleStatement(inetUser));
+
+        leafReg.close();
+        final var context3 = resolver.getEffectiveModelContext().orElseThrow();
+        assertEquals(3, context3.getModules().size());
+        assertSame(context1.getModuleStatement(foo), context3.getModuleStatement(foo));
+        assertSame(context1.getModuleStatement(inetTypes), context3.getModuleStatement(inetTypes));
+        assertSame(context1.getModuleStatement(inetUser), context3.getModuleStatement(inetUser));
+    }
+
+    @Test
+    void testFeatureRegistration()throws Exception {
         final var yangTextSchemaContextResolver = YangTextSchemaContextResolver.of(TEXT_TO_IR, PARSER_FACTORY,
             "feature-test-bundle");
         assertNotNull(yangTextSchemaContextResolver);